@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.ad.trx.api.ITrxManager;
 import org.adempiere.exceptions.AdempiereException;
 import org.adempiere.model.InterfaceWrapperHelper;
 import org.compiere.acct.FactTrxLines.FactTrxLinesType;
@@ -44,6 +45,7 @@ import de.metas.i18n.BooleanWithReason;
 import de.metas.logging.LogManager;
 import de.metas.money.CurrencyId;
 import de.metas.util.Check;
+import de.metas.util.Services;
 import de.metas.util.collections.CollectionUtils;
 import lombok.NonNull;
 
@@ -771,9 +773,11 @@ public final class Fact
 
 	public void save()
 	{
-		factTrxLinesStrategy
-				.createFactTrxLines(m_lines)
-				.forEach(this::save);
+		// Fact lines are only inserted, so we can send them to database in batches
+		Services.get(ITrxManager.class).runInBatchSaveScope(
+				() -> factTrxLinesStrategy
+						.createFactTrxLines(m_lines)
+						.forEach(this::save));
 	}
 
 	private void save(final FactTrxLines factTrxLines)
@@ -0,0 +1,55 @@
+/*
+ * #%L
+ * de.metas.acct.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.acct.aggregation;
+
+import de.metas.acct.model.I_Fact_Acct_Log;
+import de.metas.acct.model.I_Fact_Acct_Summary;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Throughput statistics of {@link I_Fact_Acct_Log} processing.
+ */
+@Value
+@Builder
+public class FactAcctLogProcessingStats
+{
+	/** how many times the logs were processed */
+	long runsCount;
+
+	/** how many {@link I_Fact_Acct_Log}s were processed */
+	long logsProcessed;
+
+	/** how many account series (org, account, acct schema, posting type) were aggregated */
+	long seriesAggregated;
+
+	/** how many {@link I_Fact_Acct_Summary} records were updated */
+	long summaryRecordsUpdated;
+
+	/** total time spent (wall clock) */
+	long totalDurationMillis;
+
+	public double getLogsPerSecond()
+	{
+		return totalDurationMillis > 0 ? logsProcessed * 1000d / totalDurationMillis : 0;
+	}
+}
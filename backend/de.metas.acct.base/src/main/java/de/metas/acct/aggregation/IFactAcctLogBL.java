@@ -44,4 +44,9 @@ public interface IFactAcctLogBL extends ISingletonService
 	 * @param limit maximum amount of logs to process or {@link IQuery#NO_LIMIT}.
 	 */
 	void processAll(Properties ctx, int limit);
+
+	/**
+	 * @return throughput statistics of all {@link #processAll(Properties, int)} runs since the server started
+	 */
+	FactAcctLogProcessingStats getStats();
 }
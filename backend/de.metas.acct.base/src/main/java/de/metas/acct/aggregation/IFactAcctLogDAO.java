@@ -1,9 +1,11 @@
 package de.metas.acct.aggregation;
 
 import java.util.Properties;
+import java.util.Set;
 
 import org.adempiere.ad.dao.IQueryBuilder;
 
+import de.metas.acct.api.AcctSchemaId;
 import de.metas.acct.model.I_Fact_Acct_Log;
 import de.metas.acct.model.I_Fact_Acct_Summary;
 import de.metas.util.ISingletonService;
@@ -51,6 +53,21 @@ public interface IFactAcctLogDAO extends ISingletonService
 	 */
 	IFactAcctLogIterable tagAndRetrieve(Properties ctx, final int limit);
 
+	/**
+	 * Same as {@link #tagAndRetrieve(Properties, int)} but considers only the logs of given accounting schema.
+	 */
+	IFactAcctLogIterable tagAndRetrieve(Properties ctx, AcctSchemaId acctSchemaId, int limit);
+
+	/**
+	 * @return the accounting schemas which have {@link I_Fact_Acct_Log}s which were not already tagged
+	 */
+	Set<AcctSchemaId> retrieveAcctSchemaIdsWithPendingLogs(Properties ctx);
+
+	/**
+	 * @return how many {@link I_Fact_Acct_Log}s of given accounting schema were not already tagged
+	 */
+	int retrievePendingLogsCount(Properties ctx, AcctSchemaId acctSchemaId);
+
 	/**
 	 * Retrieves the {@link I_Fact_Acct_Summary} in which the given {@link IFactAcctSummaryKey} shall be aggregated.
 	 * 
@@ -1,30 +1,39 @@
 package de.metas.acct.aggregation.impl;
 
-import java.math.BigDecimal;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.adempiere.ad.dao.IQueryFilter;
-import org.adempiere.ad.dao.impl.EqualsQueryFilter;
 import org.adempiere.ad.trx.api.ITrxManager;
-import org.adempiere.model.InterfaceWrapperHelper;
-import org.adempiere.util.agg.key.IAggregationKeyBuilder;
-import org.compiere.util.TimeUtil;
-import org.compiere.util.TrxRunnableAdapter;
-
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.util.concurrent.PartitionedExecutor;
+import org.adempiere.util.lang.IAutoCloseable;
+import org.compiere.model.IQuery;
+import org.compiere.util.Env;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+
+import de.metas.acct.aggregation.FactAcctLogProcessingStats;
 import de.metas.acct.aggregation.IFactAcctLogBL;
 import de.metas.acct.aggregation.IFactAcctLogDAO;
 import de.metas.acct.aggregation.IFactAcctLogIterable;
-import de.metas.acct.aggregation.IFactAcctSummaryKey;
+import de.metas.acct.api.AcctSchemaId;
 import de.metas.acct.model.I_Fact_Acct_Log;
 import de.metas.acct.model.I_Fact_Acct_Summary;
-import de.metas.acct.model.X_Fact_Acct_Log;
-import de.metas.util.Check;
 import de.metas.util.ILoggable;
 import de.metas.util.Loggables;
 import de.metas.util.Services;
-import de.metas.util.collections.MapReduceAggregator;
+import lombok.NonNull;
 
 /*
  * #%L
@@ -50,267 +59,253 @@ import de.metas.util.collections.MapReduceAggregator;
 
 public class FactAcctLogBL implements IFactAcctLogBL
 {
+	/**
+	 * How many accounting schemas shall be processed in parallel, each in its own transaction.
+	 * The summaries of different accounting schemas are independent, so they don't need to wait for each other.
+	 */
+	private static final String SYSCONFIG_MaxParallelAcctSchemas = "de.metas.acct.aggregation.FactAcctLogBL.MaxParallelAcctSchemas";
+	private static final int DEFAULT_MaxParallelAcctSchemas = 4;
+
+	/**
+	 * Shared by all runs, so the number of threads which are processing logs is bounded, no matter how many runs are going on.
+	 */
+	private static final PartitionedExecutor workers = PartitionedExecutor.newInstance(FactAcctLogBL.class.getSimpleName() + "-AcctSchema");
+
+	@FunctionalInterface
+	@VisibleForTesting
+	interface AcctSchemaLogsProcessor
+	{
+		void process(Properties ctx, AcctSchemaId acctSchemaId, int limit);
+	}
+
+	private final LongAdder statsRunsCount = new LongAdder();
+	private final LongAdder statsLogsProcessed = new LongAdder();
+	private final LongAdder statsSeriesAggregated = new LongAdder();
+	private final LongAdder statsSummaryRecordsUpdated = new LongAdder();
+	private final LongAdder statsTotalDurationMillis = new LongAdder();
+
 	@Override
 	public void processAll(final Properties ctx, final int limit)
 	{
-		final IFactAcctLogDAO factAcctLogDAO = Services.get(IFactAcctLogDAO.class);
-		final ITrxManager trxManager = Services.get(ITrxManager.class);
-
-		trxManager.runInNewTrx(new TrxRunnableAdapter()
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+		try
 		{
-
-			@Override
-			public void run(final String localTrxName) throws Exception
+			final Set<AcctSchemaId> acctSchemaIds = Services.get(IFactAcctLogDAO.class).retrieveAcctSchemaIdsWithPendingLogs(ctx);
+			final int parallelism = Math.min(getMaxParallelAcctSchemas(), acctSchemaIds.size());
+			if (parallelism <= 1)
 			{
-				try (final IFactAcctLogIterable logs = factAcctLogDAO.tagAndRetrieve(ctx, limit))
-				{
-					process(logs);
-				}
+				processAllInTrx(ctx, null, limit);
 			}
-		});
+			else
+			{
+				final Map<AcctSchemaId, Integer> limitsByAcctSchemaId = distributeLimit(retrievePendingLogsCounts(ctx, acctSchemaIds, limit), limit);
+				processInParallel(ctx, limitsByAcctSchemaId, parallelism, this::processAllInTrx);
+			}
+		}
+		finally
+		{
+			statsRunsCount.increment();
+			statsTotalDurationMillis.add(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		}
 	}
 
-	public void process(final IFactAcctLogIterable logs)
+	private int getMaxParallelAcctSchemas()
 	{
-		final ILoggable loggable = Loggables.get();
+		return Services.get(ISysConfigBL.class).getIntValue(SYSCONFIG_MaxParallelAcctSchemas, DEFAULT_MaxParallelAcctSchemas);
+	}
 
-		//
-		// Update Fact_Acct_Summary
-		final FactAcctSummaryUpdater factAcctSummaryUpdater = new FactAcctSummaryUpdater();
-		for (final I_Fact_Acct_Log log : logs)
+	private static Map<AcctSchemaId, Integer> retrievePendingLogsCounts(final Properties ctx, final Set<AcctSchemaId> acctSchemaIds, final int limit)
+	{
+		final IFactAcctLogDAO factAcctLogDAO = Services.get(IFactAcctLogDAO.class);
+
+		final LinkedHashMap<AcctSchemaId, Integer> pendingLogsCounts = new LinkedHashMap<>();
+		for (final AcctSchemaId acctSchemaId : acctSchemaIds)
 		{
-			factAcctSummaryUpdater.add(log);
+			// no need to count if there is no limit to distribute
+			final int pendingLogsCount = isNoLimit(limit) ? IQuery.NO_LIMIT : factAcctLogDAO.retrievePendingLogsCount(ctx, acctSchemaId);
+			pendingLogsCounts.put(acctSchemaId, pendingLogsCount);
 		}
-		factAcctSummaryUpdater.closeAllGroups();
-
-		//
-		// Update Fact_Acct_EndingBalance
-		Services.get(IFactAcctLogDAO.class).updateFactAcctEndingBalanceForTag(logs.getProcessingTag());
-
-		//
-		// Delete all processed logs
-		logs.deleteAll();
+		return pendingLogsCounts;
+	}
 
-		loggable.addLog("Processed {0} {1} records", factAcctSummaryUpdater.getItemsCount(), I_Fact_Acct_Log.Table_Name);
-		loggable.addLog("Created/Updated {0} {1} records", factAcctSummaryUpdater.getGroupsCount(), I_Fact_Acct_Summary.Table_Name);
+	private static boolean isNoLimit(final int limit)
+	{
+		return limit <= 0;
 	}
 
-	private static class FactAcctSummaryUpdater extends MapReduceAggregator<FactAcctGroup, I_Fact_Acct_Log>
+	/**
+	 * Distributes the given (global) limit to the accounting schemas, so all schemas together are processing at most {@code limit} logs.
+	 * Each schema gets an equal share; the part of the share which a schema does not need is distributed to the other schemas.
+	 *
+	 * @return the limit for each accounting schema, in the order of the given map; schemas with nothing to process are not included
+	 */
+	@VisibleForTesting
+	static Map<AcctSchemaId, Integer> distributeLimit(@NonNull final Map<AcctSchemaId, Integer> pendingLogsCounts, final int limit)
 	{
-		public FactAcctSummaryUpdater()
+		if (isNoLimit(limit))
 		{
-			super();
-			setGroupsBufferSize(1); // IMPORTANT: keep only one group in memory because we are also updating next groups when a current group is updated
-			setItemAggregationKeyBuilder(FactAcctSummaryKeyBuilder.instance);
+			final LinkedHashMap<AcctSchemaId, Integer> limitsByAcctSchemaId = new LinkedHashMap<>();
+			pendingLogsCounts.keySet().forEach(acctSchemaId -> limitsByAcctSchemaId.put(acctSchemaId, limit));
+			return limitsByAcctSchemaId;
 		}
 
-		@Override
-		protected FactAcctGroup createGroup(final Object itemHashKey, final I_Fact_Acct_Log log)
-		{
-			return FactAcctGroup.getCreatedForLog(log);
-		}
+		// start with the schemas which need the least, so their unused share is passed on to the remaining ones
+		final List<AcctSchemaId> acctSchemaIdsByPendingCount = pendingLogsCounts.keySet()
+				.stream()
+				.sorted(Comparator.comparing(pendingLogsCounts::get))
+				.collect(ImmutableList.toImmutableList());
 
-		@Override
-		protected void closeGroup(final FactAcctGroup group)
+		final HashMap<AcctSchemaId, Integer> limits = new HashMap<>();
+		int remainingLimit = limit;
+		int remainingAcctSchemas = acctSchemaIdsByPendingCount.size();
+		for (final AcctSchemaId acctSchemaId : acctSchemaIdsByPendingCount)
 		{
-			group.close();
+			final int share = remainingLimit / remainingAcctSchemas;
+			final int acctSchemaLimit = Math.min(pendingLogsCounts.get(acctSchemaId), share);
+			limits.put(acctSchemaId, acctSchemaLimit);
+			remainingLimit -= acctSchemaLimit;
+			remainingAcctSchemas--;
 		}
 
-		@Override
-		protected void addItemToGroup(final FactAcctGroup group, final I_Fact_Acct_Log log)
+		final LinkedHashMap<AcctSchemaId, Integer> limitsByAcctSchemaId = new LinkedHashMap<>();
+		for (final AcctSchemaId acctSchemaId : pendingLogsCounts.keySet())
 		{
-			group.add(log);
+			final int acctSchemaLimit = limits.get(acctSchemaId);
+			if (acctSchemaLimit > 0)
+			{
+				limitsByAcctSchemaId.put(acctSchemaId, acctSchemaLimit);
+			}
 		}
+		return limitsByAcctSchemaId;
 	}
 
-	private static final class FactAcctGroup
+	/**
+	 * Tags, aggregates and deletes the logs in one transaction.
+	 * So, if anything fails (or the server is stopped) nothing is aggregated and the logs are processed again by the next run.
+	 *
+	 * @param acctSchemaId process only the logs of this accounting schema; {@code null} means all.
+	 */
+	private void processAllInTrx(final Properties ctx, final AcctSchemaId acctSchemaId, final int limit)
 	{
-		private final transient IFactAcctLogDAO factAcctLogDAO = Services.get(IFactAcctLogDAO.class);
-
-		public static final FactAcctGroup getCreatedForLog(final I_Fact_Acct_Log log)
-		{
-			return new FactAcctGroup(log);
-		}
+		final IFactAcctLogDAO factAcctLogDAO = Services.get(IFactAcctLogDAO.class);
+		final ITrxManager trxManager = Services.get(ITrxManager.class);
 
-		private final Object contextProvider;
-		private final Properties ctx;
-		private final IFactAcctSummaryKey key;
-		private BigDecimal amtAcctDr_ToAdd;
-		private BigDecimal amtAcctCr_ToAdd;
-		private BigDecimal qty_ToAdd;
+		trxManager.runInNewTrx(localTrxName -> {
+			try (final IFactAcctLogIterable logs = factAcctLogDAO.tagAndRetrieve(ctx, acctSchemaId, limit))
+			{
+				process(logs);
+			}
+		});
+	}
 
-		private FactAcctGroup(final I_Fact_Acct_Log log)
+	/**
+	 * Processes the logs of the given accounting schemas on the shared workers pool, each schema in a transaction of its own.
+	 * The schemas are distributed to {@code parallelism} tasks, so one run is never using more than {@code parallelism} threads.
+	 * Each schema is processed with its own copy of the given context, which is also set as the worker thread's context;
+	 * the workers are logging to the caller's {@link ILoggable} (see {@link PartitionedExecutor}).
+	 * If one accounting schema fails, the other ones are still processed; the first exception is thrown at the end.
+	 *
+	 * @param limitsByAcctSchemaId maximum amount of logs to process, per accounting schema
+	 */
+	@VisibleForTesting
+	static void processInParallel(
+			@NonNull final Properties ctx,
+			@NonNull final Map<AcctSchemaId, Integer> limitsByAcctSchemaId,
+			final int parallelism,
+			@NonNull final AcctSchemaLogsProcessor processor)
+	{
+		final int tasksCount = Math.max(1, Math.min(parallelism, limitsByAcctSchemaId.size()));
+		final List<List<AcctSchemaId>> acctSchemaIdsByTask = new ArrayList<>(tasksCount);
+		for (int i = 0; i < tasksCount; i++)
 		{
-			super();
-
-			contextProvider = log;
-			ctx = InterfaceWrapperHelper.getCtx(log);
-			key = FactAcctSummaryKey.of(log);
-
-			resetAmounts();
+			acctSchemaIdsByTask.add(new ArrayList<>());
 		}
 
-		private final I_Fact_Acct_Summary getCreateFactAcctSummary()
+		int acctSchemaNo = 0;
+		for (final AcctSchemaId acctSchemaId : limitsByAcctSchemaId.keySet())
 		{
-			final Date dateAcct = key.getDateAcct();
+			acctSchemaIdsByTask.get(acctSchemaNo % tasksCount).add(acctSchemaId);
+			acctSchemaNo++;
+		}
 
-			//
-			// Retrieve existing summary record
-			final I_Fact_Acct_Summary factAcctSummaryExisting = factAcctLogDAO.retrieveLastMatchingFactAcctSummary(ctx, key);
+		workers.processInParallel(ctx, acctSchemaIdsByTask, (workerCtx, taskAcctSchemaIds) -> {
+			processSequentially(workerCtx, limitsByAcctSchemaId, taskAcctSchemaIds, processor);
+			return null;
+		});
+	}
 
-			//
-			// If the retrieved summary is precisely for our DateAcct, we can use it right away
-			if (factAcctSummaryExisting != null && factAcctSummaryExisting.getDateAcct().getTime() == dateAcct.getTime())
+	private static void processSequentially(
+			final Properties ctx,
+			final Map<AcctSchemaId, Integer> limitsByAcctSchemaId,
+			final List<AcctSchemaId> acctSchemaIds,
+			final AcctSchemaLogsProcessor processor)
+	{
+		AdempiereException firstException = null;
+		for (final AcctSchemaId acctSchemaId : acctSchemaIds)
+		{
+			final Properties workerCtx = Env.copyCtx(ctx);
+			try (final IAutoCloseable ctxRestorer = Env.switchContext(workerCtx))
 			{
-				return factAcctSummaryExisting;
+				processor.process(workerCtx, acctSchemaId, limitsByAcctSchemaId.get(acctSchemaId));
 			}
-			//
-			// Create new
-			else
+			catch (final Exception ex)
 			{
-				final I_Fact_Acct_Summary factAcctSummary = InterfaceWrapperHelper.newInstance(I_Fact_Acct_Summary.class, contextProvider);
-
-				// Copy the values from last matching summary
-				if (factAcctSummaryExisting != null)
+				final AdempiereException acctSchemaException = AdempiereException.wrapIfNeeded(ex);
+				if (firstException == null)
 				{
-					InterfaceWrapperHelper.copyValues(factAcctSummaryExisting, factAcctSummary);
+					firstException = acctSchemaException;
 				}
 				else
 				{
-					factAcctSummary.setAmtAcctDr(BigDecimal.ZERO);
-					factAcctSummary.setAmtAcctCr(BigDecimal.ZERO);
-					factAcctSummary.setAmtAcctDr_YTD(BigDecimal.ZERO);
-					factAcctSummary.setAmtAcctCr_YTD(BigDecimal.ZERO);
-					factAcctSummary.setQty(BigDecimal.ZERO);
+					firstException.addSuppressed(acctSchemaException);
 				}
-
-				// Set all dimensions & return it
-				Check.assume(factAcctSummary.getAD_Client_ID() == key.getAD_Client_ID(), "Fact_Acct_Summary shall have the same AD_Client_ID as the log");
-				factAcctSummary.setAD_Org_ID(key.getAD_Org_ID());
-				factAcctSummary.setAccount_ID(key.getC_ElementValue_ID());
-				factAcctSummary.setC_AcctSchema_ID(key.getC_AcctSchema_ID());
-				factAcctSummary.setPostingType(key.getPostingType());
-				factAcctSummary.setC_Period_ID(key.getC_Period_ID());
-				factAcctSummary.setC_Year_ID(factAcctSummary.getC_Period().getC_Year_ID());
-				factAcctSummary.setDateAcct(TimeUtil.asTimestamp(dateAcct));
-				factAcctSummary.setPA_ReportCube_ID(key.getPA_ReportCube_ID());
-
-				// If we copied the current summary from an existing summary which is from last year, we need to reset the YearToDate amounts
-				if (factAcctSummaryExisting != null && factAcctSummaryExisting.getC_Year_ID() != factAcctSummary.getC_Year_ID())
-				{
-					factAcctSummary.setAmtAcctDr_YTD(BigDecimal.ZERO);
-					factAcctSummary.setAmtAcctCr_YTD(BigDecimal.ZERO);
-				}
-
-				InterfaceWrapperHelper.save(factAcctSummary);
-
-				return factAcctSummary;
 			}
 		}
 
-		private final void resetAmounts()
+		if (firstException != null)
 		{
-			amtAcctDr_ToAdd = BigDecimal.ZERO;
-			amtAcctCr_ToAdd = BigDecimal.ZERO;
-			qty_ToAdd = BigDecimal.ZERO;
+			throw firstException;
 		}
+	}
 
-		public void add(final I_Fact_Acct_Log log)
-		{
-			final String logAction = log.getAction();
-			final BigDecimal amtAcctDr_Diff;
-			final BigDecimal amtAcctCr_Diff;
-			final BigDecimal qty_Diff;
-			if (X_Fact_Acct_Log.ACTION_Insert.equals(logAction))
-			{
-				amtAcctDr_Diff = log.getAmtAcctDr();
-				amtAcctCr_Diff = log.getAmtAcctCr();
-				qty_Diff = log.getQty();
-			}
-			else if (X_Fact_Acct_Log.ACTION_Delete.equals(logAction))
-			{
-				amtAcctDr_Diff = log.getAmtAcctDr().negate();
-				amtAcctCr_Diff = log.getAmtAcctCr().negate();
-				qty_Diff = log.getQty().negate();
-			}
-			else
-			{
-				throw new IllegalStateException("Log action not supported: " + logAction + " (" + log + ")");
-			}
-
-			//
-			// Update the summary record
-			amtAcctDr_ToAdd = amtAcctDr_ToAdd.add(amtAcctDr_Diff);
-			amtAcctCr_ToAdd = amtAcctCr_ToAdd.add(amtAcctCr_Diff);
-			qty_ToAdd = qty_ToAdd.add(qty_Diff);
-		}
+	public void process(final IFactAcctLogIterable logs)
+	{
+		final ILoggable loggable = Loggables.get();
 
-		private final boolean hasChanges()
+		//
+		// Update Fact_Acct_Summary
+		final FactAcctSummaryAggregator factAcctSummaryAggregator = new FactAcctSummaryAggregator(logs.getCtx());
+		for (final I_Fact_Acct_Log log : logs)
 		{
-			return amtAcctDr_ToAdd.signum() != 0 || amtAcctCr_ToAdd.signum() != 0 || qty_ToAdd.signum() != 0;
+			factAcctSummaryAggregator.add(log);
 		}
+		factAcctSummaryAggregator.flush();
 
-		public void close()
-		{
-			if (!hasChanges())
-			{
-				return;
-			}
+		//
+		// Update Fact_Acct_EndingBalance
+		Services.get(IFactAcctLogDAO.class).updateFactAcctEndingBalanceForTag(logs.getProcessingTag());
 
-			//
-			// Create the summary record for our particular DateAcct
-			final I_Fact_Acct_Summary factAcctSummary = getCreateFactAcctSummary();
-			final IQueryFilter<I_Fact_Acct_Summary> currentYearFilter = new EqualsQueryFilter<>(I_Fact_Acct_Summary.COLUMN_C_Year_ID, factAcctSummary.getC_Year_ID());
-
-			//
-			// Update all summary records which are >= particular DateAcct
-			factAcctLogDAO.retrieveCurrentAndNextMatchingFactAcctSummaryQuery(ctx, key)
-					.create()
-					.updateDirectly()
-					//
-					// Amounts: from beginning to Date
-					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctDr, amtAcctDr_ToAdd)
-					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctCr, amtAcctCr_ToAdd)
-					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_Qty, qty_ToAdd)
-					//
-					// Amounts: Year to Date
-					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctDr_YTD, amtAcctDr_ToAdd, currentYearFilter)
-					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctCr_YTD, amtAcctCr_ToAdd, currentYearFilter)
-					//
-					.execute();
-
-			//
-			// Reset the amounts because we processed them
-			resetAmounts();
-		}
+		//
+		// Delete all processed logs
+		logs.deleteAll();
+
+		statsLogsProcessed.add(factAcctSummaryAggregator.getLogsCount());
+		statsSeriesAggregated.add(factAcctSummaryAggregator.getSeriesCount());
+		statsSummaryRecordsUpdated.add(factAcctSummaryAggregator.getSummaryRecordsUpdated());
 
+		loggable.addLog("Processed {0} {1} records", factAcctSummaryAggregator.getLogsCount(), I_Fact_Acct_Log.Table_Name);
+		loggable.addLog("Updated {0} {1} records ({2} account series)", factAcctSummaryAggregator.getSummaryRecordsUpdated(), I_Fact_Acct_Summary.Table_Name, factAcctSummaryAggregator.getSeriesCount());
 	}
 
-	private static final class FactAcctSummaryKeyBuilder implements IAggregationKeyBuilder<I_Fact_Acct_Log>
+	@Override
+	public FactAcctLogProcessingStats getStats()
 	{
-		public static final transient FactAcctSummaryKeyBuilder instance = new FactAcctSummaryKeyBuilder();
-
-		private FactAcctSummaryKeyBuilder()
-		{
-			super();
-		}
-
-		@Override
-		public String buildKey(final I_Fact_Acct_Log item)
-		{
-			return FactAcctSummaryKey.of(item).asString();
-		}
-
-		@Override
-		public List<String> getDependsOnColumnNames()
-		{
-			throw new UnsupportedOperationException();
-		}
-
-		@Override
-		public boolean isSame(final I_Fact_Acct_Log item1, final I_Fact_Acct_Log item2)
-		{
-			throw new UnsupportedOperationException();
-		}
+		return FactAcctLogProcessingStats.builder()
+				.runsCount(statsRunsCount.sum())
+				.logsProcessed(statsLogsProcessed.sum())
+				.seriesAggregated(statsSeriesAggregated.sum())
+				.summaryRecordsUpdated(statsSummaryRecordsUpdated.sum())
+				.totalDurationMillis(statsTotalDurationMillis.sum())
+				.build();
 	}
 }
@@ -5,8 +5,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 
+import javax.annotation.Nullable;
+
 import org.adempiere.ad.dao.IQueryBL;
 import org.adempiere.ad.dao.IQueryBuilder;
 import org.adempiere.ad.dao.IQueryOrderBy.Direction;
@@ -20,10 +23,13 @@ import org.compiere.model.IQuery;
 import org.compiere.util.DB;
 import org.slf4j.Logger;
 
+import com.google.common.collect.ImmutableSet;
+
 import ch.qos.logback.classic.Level;
 import de.metas.acct.aggregation.IFactAcctLogDAO;
 import de.metas.acct.aggregation.IFactAcctLogIterable;
 import de.metas.acct.aggregation.IFactAcctSummaryKey;
+import de.metas.acct.api.AcctSchemaId;
 import de.metas.acct.api.IFactAcctDAO;
 import de.metas.acct.model.I_Fact_Acct_EndingBalance;
 import de.metas.acct.model.I_Fact_Acct_Log;
@@ -31,6 +37,7 @@ import de.metas.acct.model.I_Fact_Acct_Summary;
 import de.metas.logging.LogManager;
 import de.metas.util.Loggables;
 import de.metas.util.Services;
+import lombok.NonNull;
 
 /*
  * #%L
@@ -63,22 +70,61 @@ public class FactAcctLogDAO implements IFactAcctLogDAO
 
 	@Override
 	public IFactAcctLogIterable tagAndRetrieve(final Properties ctx, final int limit)
+	{
+		final AcctSchemaId acctSchemaId = null; // any
+		return tagAndRetrieve(ctx, acctSchemaId, limit);
+	}
+
+	@Override
+	public IFactAcctLogIterable tagAndRetrieve(final Properties ctx, @Nullable final AcctSchemaId acctSchemaId, final int limit)
 	{
 		final String processingTag = UUID.randomUUID().toString();
-		updateProcessingTag(ctx, PROCESSINGTAG_NULL, processingTag, limit);
+		updateProcessingTag(ctx, PROCESSINGTAG_NULL, processingTag, acctSchemaId, limit);
 
 		return new FactAcctLogIterable(ctx, processingTag);
 	}
 
+	@Override
+	public Set<AcctSchemaId> retrieveAcctSchemaIdsWithPendingLogs(final Properties ctx)
+	{
+		return retrieveForTagQuery(ctx, PROCESSINGTAG_NULL)
+				.create()
+				.listDistinct(I_Fact_Acct_Log.COLUMNNAME_C_AcctSchema_ID, Integer.class)
+				.stream()
+				.map(AcctSchemaId::ofRepoId)
+				.collect(ImmutableSet.toImmutableSet());
+	}
+
+	@Override
+	public int retrievePendingLogsCount(final Properties ctx, @NonNull final AcctSchemaId acctSchemaId)
+	{
+		return retrieveForTagQuery(ctx, PROCESSINGTAG_NULL)
+				.addEqualsFilter(I_Fact_Acct_Log.COLUMN_C_AcctSchema_ID, acctSchemaId)
+				.create()
+				.count();
+	}
+
 	private final int releaseTag(final Properties ctx, final String processingTag)
 	{
+		final AcctSchemaId acctSchemaId = null; // any
 		final int limit = IQuery.NO_LIMIT;
-		return updateProcessingTag(ctx, processingTag, PROCESSINGTAG_NULL, limit);
+		return updateProcessingTag(ctx, processingTag, PROCESSINGTAG_NULL, acctSchemaId, limit);
 	}
 
-	private final int updateProcessingTag(final Properties ctx, final String processingTagOld, final String processingTagNew, final int limit)
+	private final int updateProcessingTag(
+			final Properties ctx,
+			final String processingTagOld,
+			final String processingTagNew,
+			@Nullable final AcctSchemaId acctSchemaId,
+			final int limit)
 	{
-		return retrieveForTagQuery(ctx, processingTagOld)
+		final IQueryBuilder<I_Fact_Acct_Log> queryBuilder = retrieveForTagQuery(ctx, processingTagOld);
+		if (acctSchemaId != null)
+		{
+			queryBuilder.addEqualsFilter(I_Fact_Acct_Log.COLUMN_C_AcctSchema_ID, acctSchemaId);
+		}
+
+		return queryBuilder
 				.setLimit(limit)
 				//
 				.create()
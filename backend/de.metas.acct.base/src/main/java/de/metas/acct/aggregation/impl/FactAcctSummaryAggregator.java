@@ -0,0 +1,294 @@
+/*
+ * #%L
+ * de.metas.acct.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.acct.aggregation.impl;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.adempiere.ad.dao.IQueryBuilder;
+import org.adempiere.ad.dao.IQueryFilter;
+import org.adempiere.ad.dao.impl.CompareQueryFilter.Operator;
+import org.adempiere.ad.dao.impl.EqualsQueryFilter;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.model.PlainContextAware;
+import org.compiere.util.TimeUtil;
+
+import com.google.common.collect.ImmutableList;
+
+import de.metas.acct.aggregation.IFactAcctLogDAO;
+import de.metas.acct.aggregation.IFactAcctSummaryKey;
+import de.metas.acct.model.I_Fact_Acct_Log;
+import de.metas.acct.model.I_Fact_Acct_Summary;
+import de.metas.acct.model.X_Fact_Acct_Log;
+import de.metas.util.Check;
+import de.metas.util.Services;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Aggregates {@link I_Fact_Acct_Log}s into {@link I_Fact_Acct_Summary} records.
+ * <p>
+ * The logs are consumed as a stream, expected to be ordered by account series (client, org, account, acct schema, posting type) and DateAcct.
+ * The deltas of one series are merged in memory per DateAcct. When the series is complete:
+ * <ul>
+ * <li>the missing summary records are created for each DateAcct, all copied from the summary state before the deltas are applied
+ * <li>for each DateAcct range (from one DateAcct with changes to the next one) one UPDATE is issued, which adds the running total to the summary records in that range.
+ * </ul>
+ * So each summary record is updated exactly once, no matter how many DateAccts were changed before it.
+ * <p>
+ * If the logs are not properly ordered, the result is still correct, the series is just written more than once.
+ */
+final class FactAcctSummaryAggregator
+{
+	private final transient IFactAcctLogDAO factAcctLogDAO = Services.get(IFactAcctLogDAO.class);
+
+	private final Properties ctx;
+
+	private FactAcctSummaryKey currentSeriesKey = null;
+	private final TreeMap<Long, DateAcctDelta> currentSeriesDeltas = new TreeMap<>();
+
+	@Getter
+	private int logsCount = 0;
+	@Getter
+	private int seriesCount = 0;
+	@Getter
+	private int summaryRecordsUpdated = 0;
+
+	public FactAcctSummaryAggregator(@NonNull final Properties ctx)
+	{
+		this.ctx = ctx;
+	}
+
+	public void add(@NonNull final I_Fact_Acct_Log log)
+	{
+		final FactAcctSummaryKey key = FactAcctSummaryKey.of(log);
+		if (currentSeriesKey != null && !currentSeriesKey.isSameSeries(key))
+		{
+			flush();
+		}
+
+		if (currentSeriesKey == null)
+		{
+			currentSeriesKey = key;
+		}
+
+		currentSeriesDeltas
+				.computeIfAbsent(key.getDateAcct().getTime(), dateAcctMs -> new DateAcctDelta(key))
+				.add(log);
+		logsCount++;
+	}
+
+	/**
+	 * Writes the current series to database.
+	 */
+	public void flush()
+	{
+		if (currentSeriesKey == null)
+		{
+			return;
+		}
+
+		final ImmutableList<DateAcctDelta> deltas = currentSeriesDeltas.values()
+				.stream()
+				.filter(DateAcctDelta::hasChanges)
+				.collect(ImmutableList.toImmutableList());
+		currentSeriesKey = null;
+		currentSeriesDeltas.clear();
+
+		if (deltas.isEmpty())
+		{
+			return;
+		}
+
+		writeSeries(deltas);
+		seriesCount++;
+	}
+
+	private void writeSeries(final List<DateAcctDelta> deltas)
+	{
+		//
+		// Make sure we have a summary record for each DateAcct.
+		// NOTE: we create them all before updating any amounts, so they are all copied from the same (previous) state.
+		final int[] yearIds = new int[deltas.size()];
+		for (int i = 0; i < deltas.size(); i++)
+		{
+			yearIds[i] = getCreateFactAcctSummary(deltas.get(i).getKey()).getC_Year_ID();
+		}
+
+		//
+		// Add the running totals to each DateAcct range
+		BigDecimal amtAcctDr = BigDecimal.ZERO;
+		BigDecimal amtAcctCr = BigDecimal.ZERO;
+		BigDecimal qty = BigDecimal.ZERO;
+		final Map<Integer, BigDecimal> amtAcctDrYTDByYearId = new HashMap<>();
+		final Map<Integer, BigDecimal> amtAcctCrYTDByYearId = new HashMap<>();
+		for (int i = 0; i < deltas.size(); i++)
+		{
+			final DateAcctDelta delta = deltas.get(i);
+			final int yearId = yearIds[i];
+
+			amtAcctDr = amtAcctDr.add(delta.getAmtAcctDr());
+			amtAcctCr = amtAcctCr.add(delta.getAmtAcctCr());
+			qty = qty.add(delta.getQty());
+			final BigDecimal amtAcctDrYTD = amtAcctDrYTDByYearId.merge(yearId, delta.getAmtAcctDr(), BigDecimal::add);
+			final BigDecimal amtAcctCrYTD = amtAcctCrYTDByYearId.merge(yearId, delta.getAmtAcctCr(), BigDecimal::add);
+			if (amtAcctDr.signum() == 0 && amtAcctCr.signum() == 0 && qty.signum() == 0
+					&& amtAcctDrYTD.signum() == 0 && amtAcctCrYTD.signum() == 0)
+			{
+				continue;
+			}
+
+			final IQueryBuilder<I_Fact_Acct_Summary> rangeQuery = factAcctLogDAO.retrieveCurrentAndNextMatchingFactAcctSummaryQuery(ctx, delta.getKey());
+			final Date nextDateAcct = i + 1 < deltas.size() ? deltas.get(i + 1).getKey().getDateAcct() : null;
+			if (nextDateAcct != null)
+			{
+				rangeQuery.addCompareFilter(I_Fact_Acct_Summary.COLUMN_DateAcct, Operator.LESS, nextDateAcct);
+			}
+
+			// NOTE: the year to date amounts are updated only for the records of the same year,
+			// because in this range we can't have records from a previous year and the records of next years don't have any changes yet.
+			final IQueryFilter<I_Fact_Acct_Summary> currentYearFilter = new EqualsQueryFilter<>(I_Fact_Acct_Summary.COLUMN_C_Year_ID, yearId);
+
+			summaryRecordsUpdated += rangeQuery
+					.create()
+					.updateDirectly()
+					//
+					// Amounts: from beginning to Date
+					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctDr, amtAcctDr)
+					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctCr, amtAcctCr)
+					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_Qty, qty)
+					//
+					// Amounts: Year to Date
+					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctDr_YTD, amtAcctDrYTD, currentYearFilter)
+					.addAddValueToColumn(I_Fact_Acct_Summary.COLUMNNAME_AmtAcctCr_YTD, amtAcctCrYTD, currentYearFilter)
+					//
+					.execute();
+		}
+	}
+
+	private I_Fact_Acct_Summary getCreateFactAcctSummary(final IFactAcctSummaryKey key)
+	{
+		final Date dateAcct = key.getDateAcct();
+
+		//
+		// Retrieve existing summary record
+		final I_Fact_Acct_Summary factAcctSummaryExisting = factAcctLogDAO.retrieveLastMatchingFactAcctSummary(ctx, key);
+
+		//
+		// If the retrieved summary is precisely for our DateAcct, we can use it right away
+		if (factAcctSummaryExisting != null && factAcctSummaryExisting.getDateAcct().getTime() == dateAcct.getTime())
+		{
+			return factAcctSummaryExisting;
+		}
+
+		//
+		// Create new
+		final I_Fact_Acct_Summary factAcctSummary = InterfaceWrapperHelper.newInstance(I_Fact_Acct_Summary.class, PlainContextAware.newWithThreadInheritedTrx(ctx));
+
+		// Copy the values from last matching summary
+		if (factAcctSummaryExisting != null)
+		{
+			InterfaceWrapperHelper.copyValues(factAcctSummaryExisting, factAcctSummary);
+		}
+		else
+		{
+			factAcctSummary.setAmtAcctDr(BigDecimal.ZERO);
+			factAcctSummary.setAmtAcctCr(BigDecimal.ZERO);
+			factAcctSummary.setAmtAcctDr_YTD(BigDecimal.ZERO);
+			factAcctSummary.setAmtAcctCr_YTD(BigDecimal.ZERO);
+			factAcctSummary.setQty(BigDecimal.ZERO);
+		}
+
+		// Set all dimensions & return it
+		Check.assume(factAcctSummary.getAD_Client_ID() == key.getAD_Client_ID(), "Fact_Acct_Summary shall have the same AD_Client_ID as the log");
+		factAcctSummary.setAD_Org_ID(key.getAD_Org_ID());
+		factAcctSummary.setAccount_ID(key.getC_ElementValue_ID());
+		factAcctSummary.setC_AcctSchema_ID(key.getC_AcctSchema_ID());
+		factAcctSummary.setPostingType(key.getPostingType());
+		factAcctSummary.setC_Period_ID(key.getC_Period_ID());
+		factAcctSummary.setC_Year_ID(factAcctSummary.getC_Period().getC_Year_ID());
+		factAcctSummary.setDateAcct(TimeUtil.asTimestamp(dateAcct));
+		factAcctSummary.setPA_ReportCube_ID(key.getPA_ReportCube_ID());
+
+		// If we copied the current summary from an existing summary which is from last year, we need to reset the YearToDate amounts
+		if (factAcctSummaryExisting != null && factAcctSummaryExisting.getC_Year_ID() != factAcctSummary.getC_Year_ID())
+		{
+			factAcctSummary.setAmtAcctDr_YTD(BigDecimal.ZERO);
+			factAcctSummary.setAmtAcctCr_YTD(BigDecimal.ZERO);
+		}
+
+		InterfaceWrapperHelper.save(factAcctSummary);
+
+		return factAcctSummary;
+	}
+
+	/**
+	 * Changes to be applied for a given DateAcct.
+	 */
+	private static final class DateAcctDelta
+	{
+		@Getter
+		private final FactAcctSummaryKey key;
+		@Getter
+		private BigDecimal amtAcctDr = BigDecimal.ZERO;
+		@Getter
+		private BigDecimal amtAcctCr = BigDecimal.ZERO;
+		@Getter
+		private BigDecimal qty = BigDecimal.ZERO;
+
+		private DateAcctDelta(@NonNull final FactAcctSummaryKey key)
+		{
+			this.key = key;
+		}
+
+		public void add(final I_Fact_Acct_Log log)
+		{
+			final String logAction = log.getAction();
+			if (X_Fact_Acct_Log.ACTION_Insert.equals(logAction))
+			{
+				amtAcctDr = amtAcctDr.add(log.getAmtAcctDr());
+				amtAcctCr = amtAcctCr.add(log.getAmtAcctCr());
+				qty = qty.add(log.getQty());
+			}
+			else if (X_Fact_Acct_Log.ACTION_Delete.equals(logAction))
+			{
+				amtAcctDr = amtAcctDr.subtract(log.getAmtAcctDr());
+				amtAcctCr = amtAcctCr.subtract(log.getAmtAcctCr());
+				qty = qty.subtract(log.getQty());
+			}
+			else
+			{
+				throw new IllegalStateException("Log action not supported: " + logAction + " (" + log + ")");
+			}
+		}
+
+		public boolean hasChanges()
+		{
+			return amtAcctDr.signum() != 0 || amtAcctCr.signum() != 0 || qty.signum() != 0;
+		}
+	}
+}
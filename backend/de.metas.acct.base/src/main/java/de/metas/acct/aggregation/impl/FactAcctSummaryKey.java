@@ -1,6 +1,7 @@
 package de.metas.acct.aggregation.impl;
 
 import java.util.Date;
+import java.util.Objects;
 
 import org.adempiere.util.lang.EqualsBuilder;
 import org.compiere.util.TimeUtil;
@@ -35,7 +36,7 @@ import de.metas.util.Check;
 
 final class FactAcctSummaryKey implements IFactAcctSummaryKey
 {
-	public static final IFactAcctSummaryKey of(final I_Fact_Acct_Log log)
+	public static final FactAcctSummaryKey of(final I_Fact_Acct_Log log)
 	{
 		return new FactAcctSummaryKey(log);
 	}
@@ -107,6 +108,19 @@ final class FactAcctSummaryKey implements IFactAcctSummaryKey
 				.isEqual();
 	}
 
+	/**
+	 * @return true if given key is about the same account/acct schema/posting type/org, no matter which DateAcct
+	 */
+	public boolean isSameSeries(final IFactAcctSummaryKey other)
+	{
+		return C_ElementValue_ID == other.getC_ElementValue_ID()
+				&& C_AcctSchema_ID == other.getC_AcctSchema_ID()
+				&& Objects.equals(postingType, other.getPostingType())
+				&& AD_Client_ID == other.getAD_Client_ID()
+				&& AD_Org_ID == other.getAD_Org_ID()
+				&& PA_ReportCube_ID == other.getPA_ReportCube_ID();
+	}
+
 	@Override
 	public int getC_ElementValue_ID()
 	{
@@ -1,15 +1,25 @@
 package de.metas.acct.aggregation.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.exceptions.AdempiereException;
 import org.adempiere.model.InterfaceWrapperHelper;
 import org.adempiere.test.AdempiereTestHelper;
 import org.adempiere.test.AdempiereTestWatcher;
+import org.adempiere.util.lang.IAutoCloseable;
 import org.compiere.model.IQuery;
 import org.compiere.model.I_C_Period;
 import org.compiere.model.I_C_Year;
@@ -18,14 +28,18 @@ import org.compiere.util.Env;
 import org.compiere.util.TimeUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import de.metas.acct.aggregation.IFactAcctLogBL;
 import de.metas.acct.aggregation.IFactAcctLogDAO;
 import de.metas.acct.aggregation.IFactAcctSummaryKey;
+import de.metas.acct.api.AcctSchemaId;
 import de.metas.acct.model.I_Fact_Acct_Log;
 import de.metas.acct.model.I_Fact_Acct_Summary;
 import de.metas.acct.model.X_Fact_Acct_Log;
+import de.metas.util.Loggables;
+import de.metas.util.PlainStringLoggable;
 import de.metas.util.Services;
 
 /*
@@ -196,6 +210,171 @@ public class FactAcctLogBLTest
 
 	}
 
+	@Test
+	public void test_MultipleDatesAndYearsInOneRun()
+	{
+		final long logsProcessedBefore = factAcctLogBL.getStats().getLogsProcessed();
+
+		final I_Fact_Acct_Log log1 = newFactAcctLogBuilder()
+				.setC_Period(year2014_p1)
+				.setDateAcct(2014, 01, 7)
+				.setC_ElementValue_ID(C_ElementValue_ID1)
+				.setAction(X_Fact_Acct_Log.ACTION_Insert)
+				.setAmtAcctDr(100)
+				.build();
+		newFactAcctLogBuilder()
+				.setC_Period(year2015_p1)
+				.setDateAcct(2015, 01, 7)
+				.setC_ElementValue_ID(C_ElementValue_ID1)
+				.setAction(X_Fact_Acct_Log.ACTION_Insert)
+				.setAmtAcctDr(50)
+				.build();
+		newFactAcctLogBuilder()
+				.setC_Period(year2014_p1)
+				.setDateAcct(2014, 01, 8)
+				.setC_ElementValue_ID(C_ElementValue_ID1)
+				.setAction(X_Fact_Acct_Log.ACTION_Insert)
+				.setAmtAcctDr(10)
+				.build();
+		processAllLogs();
+
+		final List<I_Fact_Acct_Summary> summaries = retrieveAllFactAcctSummariesFor(FactAcctSummaryKey.of(log1));
+		assertThat(summaries).hasSize(3);
+		//
+		assertEquals("Summary AmtAcctDr", 100, summaries.get(0).getAmtAcctDr().intValueExact());
+		assertEquals("Summary AmtAcctDr_YTD", 100, summaries.get(0).getAmtAcctDr_YTD().intValueExact());
+		//
+		assertEquals("Summary AmtAcctDr", 100 + 10, summaries.get(1).getAmtAcctDr().intValueExact());
+		assertEquals("Summary AmtAcctDr_YTD", 100 + 10, summaries.get(1).getAmtAcctDr_YTD().intValueExact());
+		//
+		assertEquals("Summary AmtAcctDr", 100 + 10 + 50, summaries.get(2).getAmtAcctDr().intValueExact());
+		assertEquals("Summary AmtAcctDr_YTD", 50, summaries.get(2).getAmtAcctDr_YTD().intValueExact());
+
+		assertThat(factAcctLogBL.getStats().getLogsProcessed() - logsProcessedBefore).isEqualTo(3);
+	}
+
+	@Nested
+	public class distributeLimit
+	{
+		private final AcctSchemaId acctSchemaId1 = AcctSchemaId.ofRepoId(1);
+		private final AcctSchemaId acctSchemaId2 = AcctSchemaId.ofRepoId(2);
+		private final AcctSchemaId acctSchemaId3 = AcctSchemaId.ofRepoId(3);
+
+		private Map<AcctSchemaId, Integer> pendingLogsCounts(final int count1, final int count2, final int count3)
+		{
+			final LinkedHashMap<AcctSchemaId, Integer> pendingLogsCounts = new LinkedHashMap<>();
+			pendingLogsCounts.put(acctSchemaId1, count1);
+			pendingLogsCounts.put(acctSchemaId2, count2);
+			pendingLogsCounts.put(acctSchemaId3, count3);
+			return pendingLogsCounts;
+		}
+
+		@Test
+		public void noLimit()
+		{
+			assertThat(FactAcctLogBL.distributeLimit(pendingLogsCounts(IQuery.NO_LIMIT, IQuery.NO_LIMIT, IQuery.NO_LIMIT), IQuery.NO_LIMIT))
+					.containsExactly(
+							entry(acctSchemaId1, IQuery.NO_LIMIT),
+							entry(acctSchemaId2, IQuery.NO_LIMIT),
+							entry(acctSchemaId3, IQuery.NO_LIMIT));
+		}
+
+		@Test
+		public void limitIsGlobal()
+		{
+			final Map<AcctSchemaId, Integer> limits = FactAcctLogBL.distributeLimit(pendingLogsCounts(1000, 1000, 1000), 100);
+			assertThat(limits.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(100);
+			assertThat(limits).containsEntry(acctSchemaId1, 33).containsEntry(acctSchemaId2, 33).containsEntry(acctSchemaId3, 34);
+		}
+
+		@Test
+		public void unusedShareIsPassedOn()
+		{
+			assertThat(FactAcctLogBL.distributeLimit(pendingLogsCounts(1000, 10, 40), 100))
+					.containsExactly(
+							entry(acctSchemaId1, 50),
+							entry(acctSchemaId2, 10),
+							entry(acctSchemaId3, 40));
+		}
+
+		@Test
+		public void limitSmallerThanAcctSchemasCount()
+		{
+			final Map<AcctSchemaId, Integer> limits = FactAcctLogBL.distributeLimit(pendingLogsCounts(1000, 1000, 1000), 2);
+			assertThat(limits.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+			assertThat(limits.values()).allMatch(limit -> limit > 0);
+		}
+	}
+
+	@Nested
+	public class processInParallel
+	{
+		private Map<AcctSchemaId, Integer> limits(final int... acctSchemaRepoIds)
+		{
+			final LinkedHashMap<AcctSchemaId, Integer> limits = new LinkedHashMap<>();
+			for (final int acctSchemaRepoId : acctSchemaRepoIds)
+			{
+				limits.put(AcctSchemaId.ofRepoId(acctSchemaRepoId), acctSchemaRepoId * 10);
+			}
+			return limits;
+		}
+
+		@Test
+		public void eachAcctSchemaHasItsOwnContext()
+		{
+			ctx.setProperty("test.acctSchema", "caller");
+			final Set<Properties> workerCtxs = Collections.newSetFromMap(new IdentityHashMap<>());
+			final Map<AcctSchemaId, Integer> processedLimits = new ConcurrentHashMap<>();
+			final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+			FactAcctLogBL.processInParallel(ctx, limits(1, 2, 3), 2, (workerCtx, acctSchemaId, limit) -> {
+				assertThat(workerCtx.getProperty("test.acctSchema")).isEqualTo("caller");
+				workerCtx.setProperty("test.acctSchema", "worker-" + acctSchemaId.getRepoId());
+				synchronized (workerCtxs)
+				{
+					workerCtxs.add(workerCtx);
+				}
+				processedLimits.put(acctSchemaId, limit);
+				threadNames.add(Thread.currentThread().getName());
+			});
+
+			assertThat(processedLimits).isEqualTo(limits(1, 2, 3));
+			assertThat(workerCtxs).hasSize(3).doesNotContain(ctx);
+			assertThat(ctx.getProperty("test.acctSchema")).isEqualTo("caller");
+			assertThat(threadNames).allMatch(threadName -> threadName.startsWith("FactAcctLogBL-AcctSchema"));
+		}
+
+		@Test
+		public void failingAcctSchemas()
+		{
+			final Set<AcctSchemaId> processed = ConcurrentHashMap.newKeySet();
+			assertThatThrownBy(() -> FactAcctLogBL.processInParallel(ctx, limits(1, 2, 3, 4), 2, (workerCtx, acctSchemaId, limit) -> {
+				processed.add(acctSchemaId);
+				if (acctSchemaId.getRepoId() != 2)
+				{
+					throw new AdempiereException("failed acct schema " + acctSchemaId.getRepoId());
+				}
+			}))
+					.isInstanceOf(AdempiereException.class)
+					.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(2));
+
+			// the other accounting schemas were processed anyways
+			assertThat(processed).hasSize(4);
+		}
+
+		@Test
+		public void workersAreLoggingToTheCallersLoggable()
+		{
+			final PlainStringLoggable loggable = Loggables.newPlainStringLoggable();
+			try (final IAutoCloseable ignored = Loggables.temporarySetLoggable(loggable))
+			{
+				FactAcctLogBL.processInParallel(ctx, limits(1, 2, 3), 2, (workerCtx, acctSchemaId, limit) -> Loggables.addLog("processed " + acctSchemaId.getRepoId()));
+			}
+
+			assertThat(loggable.getSingleMessages()).containsExactlyInAnyOrder("processed 1", "processed 2", "processed 3");
+		}
+	}
+
 	private final Fact_Acct_Log_Builder newFactAcctLogBuilder()
 	{
 		return Fact_Acct_Log_Builder.newBuilder()
@@ -0,0 +1,1250 @@
+package de.metas.adempiere.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.adempiere.model.I_AD_User}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_AD_User extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.adempiere.model.I_AD_User
+{
+	private static final ColumnRef BOOLEANREF_AccountLocked = ColumnRef.ofBooleanProperty("AccountLocked");
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_AuthorizedSignatory = ColumnRef.ofBooleanProperty("AuthorizedSignatory");
+	private static final ColumnRef BOOLEANREF_BillToContact_Default = ColumnRef.ofBooleanProperty("BillToContact_Default");
+	private static final ColumnRef BOOLEANREF_Customer = ColumnRef.ofBooleanProperty("Customer");
+	private static final ColumnRef BOOLEANREF_DataClarified = ColumnRef.ofBooleanProperty("DataClarified");
+	private static final ColumnRef BOOLEANREF_DefaultContact = ColumnRef.ofBooleanProperty("DefaultContact");
+	private static final ColumnRef BOOLEANREF_FullBPAccess = ColumnRef.ofBooleanProperty("FullBPAccess");
+	private static final ColumnRef BOOLEANREF_HavingParentPartner = ColumnRef.ofBooleanProperty("HavingParentPartner");
+	private static final ColumnRef BOOLEANREF_InPayroll = ColumnRef.ofBooleanProperty("InPayroll");
+	private static final ColumnRef BOOLEANREF_LoginAsHostKey = ColumnRef.ofBooleanProperty("LoginAsHostKey");
+	private static final ColumnRef BOOLEANREF_News = ColumnRef.ofBooleanProperty("News");
+	private static final ColumnRef BOOLEANREF_Newsletter = ColumnRef.ofBooleanProperty("Newsletter");
+	private static final ColumnRef BOOLEANREF_Processing = ColumnRef.ofBooleanProperty("Processing");
+	private static final ColumnRef BOOLEANREF_Prospect = ColumnRef.ofBooleanProperty("Prospect");
+	private static final ColumnRef BOOLEANREF_PurchaseContact = ColumnRef.ofBooleanProperty("PurchaseContact");
+	private static final ColumnRef BOOLEANREF_PurchaseContact_Default = ColumnRef.ofBooleanProperty("PurchaseContact_Default");
+	private static final ColumnRef BOOLEANREF_SalesContact = ColumnRef.ofBooleanProperty("SalesContact");
+	private static final ColumnRef BOOLEANREF_SalesContact_Default = ColumnRef.ofBooleanProperty("SalesContact_Default");
+	private static final ColumnRef BOOLEANREF_SelfService = ColumnRef.ofBooleanProperty("SelfService");
+	private static final ColumnRef BOOLEANREF_ShipToContact_Default = ColumnRef.ofBooleanProperty("ShipToContact_Default");
+	private static final ColumnRef BOOLEANREF_SubjectMatterContact = ColumnRef.ofBooleanProperty("SubjectMatterContact");
+	private static final ColumnRef BOOLEANREF_SystemUser = ColumnRef.ofBooleanProperty("SystemUser");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_Language = ColumnRef.ofColumnName("AD_Language");
+	private static final ColumnRef COLUMNREF_AD_OrgTrx_ID = ColumnRef.ofColumnName("AD_OrgTrx_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AD_User_ID = ColumnRef.ofColumnName("AD_User_ID");
+	private static final ColumnRef COLUMNREF_AD_User_InCharge_ID = ColumnRef.ofColumnName("AD_User_InCharge_ID");
+	private static final ColumnRef COLUMNREF_Address = ColumnRef.ofColumnName("Address");
+	private static final ColumnRef COLUMNREF_Avatar_ID = ColumnRef.ofColumnName("Avatar_ID");
+	private static final ColumnRef COLUMNREF_BPartner_Parent_ID = ColumnRef.ofColumnName("BPartner_Parent_ID");
+	private static final ColumnRef COLUMNREF_Birthday = ColumnRef.ofColumnName("Birthday");
+	private static final ColumnRef COLUMNREF_C_BP_Group_ID = ColumnRef.ofColumnName("C_BP_Group_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Location_ID = ColumnRef.ofColumnName("C_BPartner_Location_ID");
+	private static final ColumnRef COLUMNREF_C_Country_ID = ColumnRef.ofColumnName("C_Country_ID");
+	private static final ColumnRef COLUMNREF_C_Greeting_ID = ColumnRef.ofColumnName("C_Greeting_ID");
+	private static final ColumnRef COLUMNREF_C_Job_ID = ColumnRef.ofColumnName("C_Job_ID");
+	private static final ColumnRef COLUMNREF_C_Region_ID = ColumnRef.ofColumnName("C_Region_ID");
+	private static final ColumnRef COLUMNREF_C_Title_ID = ColumnRef.ofColumnName("C_Title_ID");
+	private static final ColumnRef COLUMNREF_Comments = ColumnRef.ofColumnName("Comments");
+	private static final ColumnRef COLUMNREF_ConnectionProfile = ColumnRef.ofColumnName("ConnectionProfile");
+	private static final ColumnRef COLUMNREF_ContactLimitation = ColumnRef.ofColumnName("ContactLimitation");
+	private static final ColumnRef COLUMNREF_ContactLimitationReason = ColumnRef.ofColumnName("ContactLimitationReason");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_DelDate = ColumnRef.ofColumnName("DelDate");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_EMail = ColumnRef.ofColumnName("EMail");
+	private static final ColumnRef COLUMNREF_EMailUser = ColumnRef.ofColumnName("EMailUser");
+	private static final ColumnRef COLUMNREF_EMailUserPW = ColumnRef.ofColumnName("EMailUserPW");
+	private static final ColumnRef COLUMNREF_EMailVerify = ColumnRef.ofColumnName("EMailVerify");
+	private static final ColumnRef COLUMNREF_EMailVerifyDate = ColumnRef.ofColumnName("EMailVerifyDate");
+	private static final ColumnRef COLUMNREF_ExternalId = ColumnRef.ofColumnName("ExternalId");
+	private static final ColumnRef COLUMNREF_Fax = ColumnRef.ofColumnName("Fax");
+	private static final ColumnRef COLUMNREF_Firstname = ColumnRef.ofColumnName("Firstname");
+	private static final ColumnRef COLUMNREF_Fresh_xmas_Gift = ColumnRef.ofColumnName("Fresh_xmas_Gift");
+	private static final ColumnRef COLUMNREF_Greeting = ColumnRef.ofColumnName("Greeting");
+	private static final ColumnRef COLUMNREF_Included_Tab_ID = ColumnRef.ofColumnName("Included_Tab_ID");
+	private static final ColumnRef COLUMNREF_Language = ColumnRef.ofColumnName("Language");
+	private static final ColumnRef COLUMNREF_Lastname = ColumnRef.ofColumnName("Lastname");
+	private static final ColumnRef COLUMNREF_LockedFromIP = ColumnRef.ofColumnName("LockedFromIP");
+	private static final ColumnRef COLUMNREF_Login = ColumnRef.ofColumnName("Login");
+	private static final ColumnRef COLUMNREF_LoginFailureCount = ColumnRef.ofColumnName("LoginFailureCount");
+	private static final ColumnRef COLUMNREF_LoginFailureDate = ColumnRef.ofColumnName("LoginFailureDate");
+	private static final ColumnRef COLUMNREF_Memo = ColumnRef.ofColumnName("Memo");
+	private static final ColumnRef COLUMNREF_MobilePhone = ColumnRef.ofColumnName("MobilePhone");
+	private static final ColumnRef COLUMNREF_Name = ColumnRef.ofColumnName("Name");
+	private static final ColumnRef COLUMNREF_NotificationType = ColumnRef.ofColumnName("NotificationType");
+	private static final ColumnRef COLUMNREF_Password = ColumnRef.ofColumnName("Password");
+	private static final ColumnRef COLUMNREF_PasswordResetCode = ColumnRef.ofColumnName("PasswordResetCode");
+	private static final ColumnRef COLUMNREF_Phone = ColumnRef.ofColumnName("Phone");
+	private static final ColumnRef COLUMNREF_Phone2 = ColumnRef.ofColumnName("Phone2");
+	private static final ColumnRef COLUMNREF_Registry = ColumnRef.ofColumnName("Registry");
+	private static final ColumnRef COLUMNREF_SalesRep_ID = ColumnRef.ofColumnName("SalesRep_ID");
+	private static final ColumnRef COLUMNREF_Supervisor_ID = ColumnRef.ofColumnName("Supervisor_ID");
+	private static final ColumnRef COLUMNREF_Title = ColumnRef.ofColumnName("Title");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_UserPIN = ColumnRef.ofColumnName("UserPIN");
+	private static final ColumnRef COLUMNREF_Value = ColumnRef.ofColumnName("Value");
+	private static final ColumnRef COLUMNREF_passwordportal = ColumnRef.ofColumnName("passwordportal");
+	private static final ModelRef MODELREF_AD_Client = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getAD_Client", "AD_Client_ID");
+	private static final ModelRef MODELREF_AD_Org = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getAD_Org", "AD_Org_ID");
+	private static final ModelRef MODELREF_AD_OrgTrx = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getAD_OrgTrx", "AD_OrgTrx_ID");
+	private static final ModelRef MODELREF_AD_User_InCharge = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getAD_User_InCharge", "AD_User_InCharge_ID");
+	private static final ModelRef MODELREF_Avatar = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getAvatar", "Avatar_ID");
+	private static final ModelRef MODELREF_BPartner_Parent = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getBPartner_Parent", "BPartner_Parent_ID");
+	private static final ModelRef MODELREF_C_BP_Group = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_BP_Group", "C_BP_Group_ID");
+	private static final ModelRef MODELREF_C_BPartner = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_BPartner", "C_BPartner_ID");
+	private static final ModelRef MODELREF_C_BPartner_Location = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_BPartner_Location", "C_BPartner_Location_ID");
+	private static final ModelRef MODELREF_C_Country = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_Country", "C_Country_ID");
+	private static final ModelRef MODELREF_C_Greeting = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_Greeting", "C_Greeting_ID");
+	private static final ModelRef MODELREF_C_Job = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_Job", "C_Job_ID");
+	private static final ModelRef MODELREF_C_Region = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getC_Region", "C_Region_ID");
+	private static final ModelRef MODELREF_SalesRep = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getSalesRep", "SalesRep_ID");
+	private static final ModelRef MODELREF_Supervisor = ModelRef.of(de.metas.adempiere.model.I_AD_User.class, "getSupervisor", "Supervisor_ID");
+
+	public POWrapper_I_AD_User(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_Client getAD_Client()
+	{
+		return getReferencedModel(MODELREF_AD_Client);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public java.lang.String getAD_Language()
+	{
+		return getValue(COLUMNREF_AD_Language, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_Org getAD_Org()
+	{
+		return getReferencedModel(MODELREF_AD_Org);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_Org getAD_OrgTrx()
+	{
+		return getReferencedModel(MODELREF_AD_OrgTrx);
+	}
+
+	@Override
+	public int getAD_OrgTrx_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_OrgTrx_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getAD_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_User getAD_User_InCharge()
+	{
+		return getReferencedModel(MODELREF_AD_User_InCharge);
+	}
+
+	@Override
+	public int getAD_User_InCharge_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_InCharge_ID);
+	}
+
+	@Override
+	public java.lang.String getAddress()
+	{
+		return getValue(COLUMNREF_Address, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_Image getAvatar()
+	{
+		return getReferencedModel(MODELREF_Avatar);
+	}
+
+	@Override
+	public int getAvatar_ID()
+	{
+		return getValueAsInt(COLUMNREF_Avatar_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getBPartner_Parent()
+	{
+		return getReferencedModel(MODELREF_BPartner_Parent);
+	}
+
+	@Override
+	public int getBPartner_Parent_ID()
+	{
+		return getValueAsInt(COLUMNREF_BPartner_Parent_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getBirthday()
+	{
+		return getValue(COLUMNREF_Birthday, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BP_Group getC_BP_Group()
+	{
+		return getReferencedModel(MODELREF_C_BP_Group);
+	}
+
+	@Override
+	public int getC_BP_Group_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BP_Group_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getC_BPartner()
+	{
+		return getReferencedModel(MODELREF_C_BPartner);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getC_BPartner_Location()
+	{
+		return getReferencedModel(MODELREF_C_BPartner_Location);
+	}
+
+	@Override
+	public int getC_BPartner_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Location_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Country getC_Country()
+	{
+		return getReferencedModel(MODELREF_C_Country);
+	}
+
+	@Override
+	public int getC_Country_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Country_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Greeting getC_Greeting()
+	{
+		return getReferencedModel(MODELREF_C_Greeting);
+	}
+
+	@Override
+	public int getC_Greeting_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Greeting_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Job getC_Job()
+	{
+		return getReferencedModel(MODELREF_C_Job);
+	}
+
+	@Override
+	public int getC_Job_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Job_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Region getC_Region()
+	{
+		return getReferencedModel(MODELREF_C_Region);
+	}
+
+	@Override
+	public int getC_Region_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Region_ID);
+	}
+
+	@Override
+	public int getC_Title_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Title_ID);
+	}
+
+	@Override
+	public java.lang.String getComments()
+	{
+		return getValue(COLUMNREF_Comments, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getConnectionProfile()
+	{
+		return getValue(COLUMNREF_ConnectionProfile, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getContactLimitation()
+	{
+		return getValue(COLUMNREF_ContactLimitation, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getContactLimitationReason()
+	{
+		return getValue(COLUMNREF_ContactLimitationReason, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.sql.Timestamp getDelDate()
+	{
+		return getValue(COLUMNREF_DelDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getEMail()
+	{
+		return getValue(COLUMNREF_EMail, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getEMailUser()
+	{
+		return getValue(COLUMNREF_EMailUser, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getEMailUserPW()
+	{
+		return getValue(COLUMNREF_EMailUserPW, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getEMailVerify()
+	{
+		return getValue(COLUMNREF_EMailVerify, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getEMailVerifyDate()
+	{
+		return getValue(COLUMNREF_EMailVerifyDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getExternalId()
+	{
+		return getValue(COLUMNREF_ExternalId, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getFax()
+	{
+		return getValue(COLUMNREF_Fax, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getFirstname()
+	{
+		return getValue(COLUMNREF_Firstname, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getFresh_xmas_Gift()
+	{
+		return getValue(COLUMNREF_Fresh_xmas_Gift, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGreeting()
+	{
+		return getValue(COLUMNREF_Greeting, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getIncluded_Tab_ID()
+	{
+		return getValue(COLUMNREF_Included_Tab_ID, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getLanguage()
+	{
+		return getValue(COLUMNREF_Language, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getLastname()
+	{
+		return getValue(COLUMNREF_Lastname, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getLockedFromIP()
+	{
+		return getValue(COLUMNREF_LockedFromIP, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getLogin()
+	{
+		return getValue(COLUMNREF_Login, java.lang.String.class);
+	}
+
+	@Override
+	public int getLoginFailureCount()
+	{
+		return getValueAsInt(COLUMNREF_LoginFailureCount);
+	}
+
+	@Override
+	public java.sql.Timestamp getLoginFailureDate()
+	{
+		return getValue(COLUMNREF_LoginFailureDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getMemo()
+	{
+		return getValue(COLUMNREF_Memo, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getMobilePhone()
+	{
+		return getValue(COLUMNREF_MobilePhone, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getName()
+	{
+		return getValue(COLUMNREF_Name, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getNotificationType()
+	{
+		return getValue(COLUMNREF_NotificationType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPassword()
+	{
+		return getValue(COLUMNREF_Password, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPasswordResetCode()
+	{
+		return getValue(COLUMNREF_PasswordResetCode, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPhone()
+	{
+		return getValue(COLUMNREF_Phone, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPhone2()
+	{
+		return getValue(COLUMNREF_Phone2, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getRegistry()
+	{
+		return getValue(COLUMNREF_Registry, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_User getSalesRep()
+	{
+		return getReferencedModel(MODELREF_SalesRep);
+	}
+
+	@Override
+	public int getSalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRep_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_User getSupervisor()
+	{
+		return getReferencedModel(MODELREF_Supervisor);
+	}
+
+	@Override
+	public int getSupervisor_ID()
+	{
+		return getValueAsInt(COLUMNREF_Supervisor_ID);
+	}
+
+	@Override
+	public java.lang.String getTitle()
+	{
+		return getValue(COLUMNREF_Title, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public java.lang.String getUserPIN()
+	{
+		return getValue(COLUMNREF_UserPIN, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getValue()
+	{
+		return getValue(COLUMNREF_Value, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getpasswordportal()
+	{
+		return getValue(COLUMNREF_passwordportal, java.lang.String.class);
+	}
+
+	@Override
+	public boolean isAccountLocked()
+	{
+		return getValueAsBoolean(BOOLEANREF_AccountLocked);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isAuthorizedSignatory()
+	{
+		return getValueAsBoolean(BOOLEANREF_AuthorizedSignatory);
+	}
+
+	@Override
+	public boolean isBillToContact_Default()
+	{
+		return getValueAsBoolean(BOOLEANREF_BillToContact_Default);
+	}
+
+	@Override
+	public boolean isCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_Customer);
+	}
+
+	@Override
+	public boolean isDataClarified()
+	{
+		return getValueAsBoolean(BOOLEANREF_DataClarified);
+	}
+
+	@Override
+	public boolean isDefaultContact()
+	{
+		return getValueAsBoolean(BOOLEANREF_DefaultContact);
+	}
+
+	@Override
+	public boolean isFullBPAccess()
+	{
+		return getValueAsBoolean(BOOLEANREF_FullBPAccess);
+	}
+
+	@Override
+	public boolean isHavingParentPartner()
+	{
+		return getValueAsBoolean(BOOLEANREF_HavingParentPartner);
+	}
+
+	@Override
+	public boolean isInPayroll()
+	{
+		return getValueAsBoolean(BOOLEANREF_InPayroll);
+	}
+
+	@Override
+	public boolean isLoginAsHostKey()
+	{
+		return getValueAsBoolean(BOOLEANREF_LoginAsHostKey);
+	}
+
+	@Override
+	public boolean isNews()
+	{
+		return getValueAsBoolean(BOOLEANREF_News);
+	}
+
+	@Override
+	public boolean isNewsletter()
+	{
+		return getValueAsBoolean(BOOLEANREF_Newsletter);
+	}
+
+	@Override
+	public boolean isProcessing()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processing);
+	}
+
+	@Override
+	public boolean isProspect()
+	{
+		return getValueAsBoolean(BOOLEANREF_Prospect);
+	}
+
+	@Override
+	public boolean isPurchaseContact()
+	{
+		return getValueAsBoolean(BOOLEANREF_PurchaseContact);
+	}
+
+	@Override
+	public boolean isPurchaseContact_Default()
+	{
+		return getValueAsBoolean(BOOLEANREF_PurchaseContact_Default);
+	}
+
+	@Override
+	public boolean isSalesContact()
+	{
+		return getValueAsBoolean(BOOLEANREF_SalesContact);
+	}
+
+	@Override
+	public boolean isSalesContact_Default()
+	{
+		return getValueAsBoolean(BOOLEANREF_SalesContact_Default);
+	}
+
+	@Override
+	public boolean isSelfService()
+	{
+		return getValueAsBoolean(BOOLEANREF_SelfService);
+	}
+
+	@Override
+	public boolean isShipToContact_Default()
+	{
+		return getValueAsBoolean(BOOLEANREF_ShipToContact_Default);
+	}
+
+	@Override
+	public boolean isSubjectMatterContact()
+	{
+		return getValueAsBoolean(BOOLEANREF_SubjectMatterContact);
+	}
+
+	@Override
+	public boolean isSystemUser()
+	{
+		return getValueAsBoolean(BOOLEANREF_SystemUser);
+	}
+
+	@Override
+	public void setAD_Language(final java.lang.String AD_Language)
+	{
+		setValue("AD_Language", AD_Language);
+	}
+
+	@Override
+	public void setAD_Org(final org.compiere.model.I_AD_Org AD_Org)
+	{
+		setValueFromPO("AD_Org_ID", org.compiere.model.I_AD_Org.class, AD_Org);
+	}
+
+	@Override
+	public void setAD_OrgTrx(final org.compiere.model.I_AD_Org AD_OrgTrx)
+	{
+		setValueFromPO("AD_OrgTrx_ID", org.compiere.model.I_AD_Org.class, AD_OrgTrx);
+	}
+
+	@Override
+	public void setAD_OrgTrx_ID(final int AD_OrgTrx_ID)
+	{
+		setValue("AD_OrgTrx_ID", AD_OrgTrx_ID);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAD_User_ID(final int AD_User_ID)
+	{
+		setValue("AD_User_ID", AD_User_ID);
+	}
+
+	@Override
+	public void setAD_User_InCharge(final org.compiere.model.I_AD_User AD_User_InCharge)
+	{
+		setValueFromPO("AD_User_InCharge_ID", org.compiere.model.I_AD_User.class, AD_User_InCharge);
+	}
+
+	@Override
+	public void setAD_User_InCharge_ID(final int AD_User_InCharge_ID)
+	{
+		setValue("AD_User_InCharge_ID", AD_User_InCharge_ID);
+	}
+
+	@Override
+	public void setAddress(final java.lang.String Address)
+	{
+		setValue("Address", Address);
+	}
+
+	@Override
+	public void setAvatar(final org.compiere.model.I_AD_Image Avatar)
+	{
+		setValueFromPO("Avatar_ID", org.compiere.model.I_AD_Image.class, Avatar);
+	}
+
+	@Override
+	public void setAvatar_ID(final int Avatar_ID)
+	{
+		setValue("Avatar_ID", Avatar_ID);
+	}
+
+	@Override
+	public void setBPartner_Parent(final org.compiere.model.I_C_BPartner BPartner_Parent)
+	{
+		setValueFromPO("BPartner_Parent_ID", org.compiere.model.I_C_BPartner.class, BPartner_Parent);
+	}
+
+	@Override
+	public void setBPartner_Parent_ID(final int BPartner_Parent_ID)
+	{
+		setValue("BPartner_Parent_ID", BPartner_Parent_ID);
+	}
+
+	@Override
+	public void setBirthday(final java.sql.Timestamp Birthday)
+	{
+		setValue("Birthday", Birthday);
+	}
+
+	@Override
+	public void setC_BP_Group(final org.compiere.model.I_C_BP_Group C_BP_Group)
+	{
+		setValueFromPO("C_BP_Group_ID", org.compiere.model.I_C_BP_Group.class, C_BP_Group);
+	}
+
+	@Override
+	public void setC_BP_Group_ID(final int C_BP_Group_ID)
+	{
+		setValue("C_BP_Group_ID", C_BP_Group_ID);
+	}
+
+	@Override
+	public void setC_BPartner(final org.compiere.model.I_C_BPartner C_BPartner)
+	{
+		setValueFromPO("C_BPartner_ID", org.compiere.model.I_C_BPartner.class, C_BPartner);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Location(final org.compiere.model.I_C_BPartner_Location C_BPartner_Location)
+	{
+		setValueFromPO("C_BPartner_Location_ID", org.compiere.model.I_C_BPartner_Location.class, C_BPartner_Location);
+	}
+
+	@Override
+	public void setC_BPartner_Location_ID(final int C_BPartner_Location_ID)
+	{
+		setValue("C_BPartner_Location_ID", C_BPartner_Location_ID);
+	}
+
+	@Override
+	public void setC_Country(final org.compiere.model.I_C_Country C_Country)
+	{
+		setValueFromPO("C_Country_ID", org.compiere.model.I_C_Country.class, C_Country);
+	}
+
+	@Override
+	public void setC_Country_ID(final int C_Country_ID)
+	{
+		setValue("C_Country_ID", C_Country_ID);
+	}
+
+	@Override
+	public void setC_Greeting(final org.compiere.model.I_C_Greeting C_Greeting)
+	{
+		setValueFromPO("C_Greeting_ID", org.compiere.model.I_C_Greeting.class, C_Greeting);
+	}
+
+	@Override
+	public void setC_Greeting_ID(final int C_Greeting_ID)
+	{
+		setValue("C_Greeting_ID", C_Greeting_ID);
+	}
+
+	@Override
+	public void setC_Job(final org.compiere.model.I_C_Job C_Job)
+	{
+		setValueFromPO("C_Job_ID", org.compiere.model.I_C_Job.class, C_Job);
+	}
+
+	@Override
+	public void setC_Job_ID(final int C_Job_ID)
+	{
+		setValue("C_Job_ID", C_Job_ID);
+	}
+
+	@Override
+	public void setC_Region(final org.compiere.model.I_C_Region C_Region)
+	{
+		setValueFromPO("C_Region_ID", org.compiere.model.I_C_Region.class, C_Region);
+	}
+
+	@Override
+	public void setC_Region_ID(final int C_Region_ID)
+	{
+		setValue("C_Region_ID", C_Region_ID);
+	}
+
+	@Override
+	public void setC_Title_ID(final int C_Title_ID)
+	{
+		setValue("C_Title_ID", C_Title_ID);
+	}
+
+	@Override
+	public void setComments(final java.lang.String Comments)
+	{
+		setValue("Comments", Comments);
+	}
+
+	@Override
+	public void setConnectionProfile(final java.lang.String ConnectionProfile)
+	{
+		setValue("ConnectionProfile", ConnectionProfile);
+	}
+
+	@Override
+	public void setContactLimitation(final java.lang.String ContactLimitation)
+	{
+		setValue("ContactLimitation", ContactLimitation);
+	}
+
+	@Override
+	public void setContactLimitationReason(final java.lang.String ContactLimitationReason)
+	{
+		setValue("ContactLimitationReason", ContactLimitationReason);
+	}
+
+	@Override
+	public void setDelDate(final java.sql.Timestamp DelDate)
+	{
+		setValue("DelDate", DelDate);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setEMail(final java.lang.String EMail)
+	{
+		setValue("EMail", EMail);
+	}
+
+	@Override
+	public void setEMailUser(final java.lang.String EMailUser)
+	{
+		setValue("EMailUser", EMailUser);
+	}
+
+	@Override
+	public void setEMailUserPW(final java.lang.String EMailUserPW)
+	{
+		setValue("EMailUserPW", EMailUserPW);
+	}
+
+	@Override
+	public void setEMailVerify(final java.lang.String EMailVerify)
+	{
+		setValue("EMailVerify", EMailVerify);
+	}
+
+	@Override
+	public void setEMailVerifyDate(final java.sql.Timestamp EMailVerifyDate)
+	{
+		setValue("EMailVerifyDate", EMailVerifyDate);
+	}
+
+	@Override
+	public void setExternalId(final java.lang.String ExternalId)
+	{
+		setValue("ExternalId", ExternalId);
+	}
+
+	@Override
+	public void setFax(final java.lang.String Fax)
+	{
+		setValue("Fax", Fax);
+	}
+
+	@Override
+	public void setFirstname(final java.lang.String Firstname)
+	{
+		setValue("Firstname", Firstname);
+	}
+
+	@Override
+	public void setFresh_xmas_Gift(final java.lang.String Fresh_xmas_Gift)
+	{
+		setValue("Fresh_xmas_Gift", Fresh_xmas_Gift);
+	}
+
+	@Override
+	public void setGreeting(final java.lang.String Greeting)
+	{
+		setValue("Greeting", Greeting);
+	}
+
+	@Override
+	public void setIncluded_Tab_ID(final java.lang.String Included_Tab_ID)
+	{
+		setValue("Included_Tab_ID", Included_Tab_ID);
+	}
+
+	@Override
+	public void setIsAccountLocked(final boolean IsAccountLocked)
+	{
+		setValue("IsAccountLocked", IsAccountLocked);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsAuthorizedSignatory(final boolean IsAuthorizedSignatory)
+	{
+		setValue("IsAuthorizedSignatory", IsAuthorizedSignatory);
+	}
+
+	@Override
+	public void setIsBillToContact_Default(final boolean IsBillToContact_Default)
+	{
+		setValue("IsBillToContact_Default", IsBillToContact_Default);
+	}
+
+	@Override
+	public void setIsCustomer(final boolean IsCustomer)
+	{
+		setValue("IsCustomer", IsCustomer);
+	}
+
+	@Override
+	public void setIsDataClarified(final boolean IsDataClarified)
+	{
+		setValue("IsDataClarified", IsDataClarified);
+	}
+
+	@Override
+	public void setIsDefaultContact(final boolean IsDefaultContact)
+	{
+		setValue("IsDefaultContact", IsDefaultContact);
+	}
+
+	@Override
+	public void setIsFullBPAccess(final boolean IsFullBPAccess)
+	{
+		setValue("IsFullBPAccess", IsFullBPAccess);
+	}
+
+	@Override
+	public void setIsHavingParentPartner(final boolean IsHavingParentPartner)
+	{
+		setValue("IsHavingParentPartner", IsHavingParentPartner);
+	}
+
+	@Override
+	public void setIsInPayroll(final boolean IsInPayroll)
+	{
+		setValue("IsInPayroll", IsInPayroll);
+	}
+
+	@Override
+	public void setIsLoginAsHostKey(final boolean IsLoginAsHostKey)
+	{
+		setValue("IsLoginAsHostKey", IsLoginAsHostKey);
+	}
+
+	@Override
+	public void setIsNews(final boolean IsNews)
+	{
+		setValue("IsNews", IsNews);
+	}
+
+	@Override
+	public void setIsNewsletter(final boolean IsNewsletter)
+	{
+		setValue("IsNewsletter", IsNewsletter);
+	}
+
+	@Override
+	public void setIsProspect(final boolean IsProspect)
+	{
+		setValue("IsProspect", IsProspect);
+	}
+
+	@Override
+	public void setIsPurchaseContact(final boolean IsPurchaseContact)
+	{
+		setValue("IsPurchaseContact", IsPurchaseContact);
+	}
+
+	@Override
+	public void setIsPurchaseContact_Default(final boolean IsPurchaseContact_Default)
+	{
+		setValue("IsPurchaseContact_Default", IsPurchaseContact_Default);
+	}
+
+	@Override
+	public void setIsSalesContact(final boolean IsSalesContact)
+	{
+		setValue("IsSalesContact", IsSalesContact);
+	}
+
+	@Override
+	public void setIsSalesContact_Default(final boolean IsSalesContact_Default)
+	{
+		setValue("IsSalesContact_Default", IsSalesContact_Default);
+	}
+
+	@Override
+	public void setIsSelfService(final boolean IsSelfService)
+	{
+		setValue("IsSelfService", IsSelfService);
+	}
+
+	@Override
+	public void setIsShipToContact_Default(final boolean IsShipToContact_Default)
+	{
+		setValue("IsShipToContact_Default", IsShipToContact_Default);
+	}
+
+	@Override
+	public void setIsSubjectMatterContact(final boolean IsSubjectMatterContact)
+	{
+		setValue("IsSubjectMatterContact", IsSubjectMatterContact);
+	}
+
+	@Override
+	public void setIsSystemUser(final boolean IsSystemUser)
+	{
+		setValue("IsSystemUser", IsSystemUser);
+	}
+
+	@Override
+	public void setLanguage(final java.lang.String Language)
+	{
+		setValue("Language", Language);
+	}
+
+	@Override
+	public void setLastname(final java.lang.String Lastname)
+	{
+		setValue("Lastname", Lastname);
+	}
+
+	@Override
+	public void setLockedFromIP(final java.lang.String LockedFromIP)
+	{
+		setValue("LockedFromIP", LockedFromIP);
+	}
+
+	@Override
+	public void setLogin(final java.lang.String Login)
+	{
+		setValue("Login", Login);
+	}
+
+	@Override
+	public void setLoginFailureCount(final int LoginFailureCount)
+	{
+		setValue("LoginFailureCount", LoginFailureCount);
+	}
+
+	@Override
+	public void setLoginFailureDate(final java.sql.Timestamp LoginFailureDate)
+	{
+		setValue("LoginFailureDate", LoginFailureDate);
+	}
+
+	@Override
+	public void setMemo(final java.lang.String Memo)
+	{
+		setValue("Memo", Memo);
+	}
+
+	@Override
+	public void setMobilePhone(final java.lang.String MobilePhone)
+	{
+		setValue("MobilePhone", MobilePhone);
+	}
+
+	@Override
+	public void setName(final java.lang.String Name)
+	{
+		setValue("Name", Name);
+	}
+
+	@Override
+	public void setNotificationType(final java.lang.String NotificationType)
+	{
+		setValue("NotificationType", NotificationType);
+	}
+
+	@Override
+	public void setPassword(final java.lang.String Password)
+	{
+		setValue("Password", Password);
+	}
+
+	@Override
+	public void setPasswordResetCode(final java.lang.String PasswordResetCode)
+	{
+		setValue("PasswordResetCode", PasswordResetCode);
+	}
+
+	@Override
+	public void setPhone(final java.lang.String Phone)
+	{
+		setValue("Phone", Phone);
+	}
+
+	@Override
+	public void setPhone2(final java.lang.String Phone2)
+	{
+		setValue("Phone2", Phone2);
+	}
+
+	@Override
+	public void setProcessing(final boolean Processing)
+	{
+		setValue("Processing", Processing);
+	}
+
+	@Override
+	public void setRegistry(final java.lang.String Registry)
+	{
+		setValue("Registry", Registry);
+	}
+
+	@Override
+	public void setSalesRep(final org.compiere.model.I_AD_User SalesRep)
+	{
+		setValueFromPO("SalesRep_ID", org.compiere.model.I_AD_User.class, SalesRep);
+	}
+
+	@Override
+	public void setSalesRep_ID(final int SalesRep_ID)
+	{
+		setValue("SalesRep_ID", SalesRep_ID);
+	}
+
+	@Override
+	public void setSupervisor(final org.compiere.model.I_AD_User Supervisor)
+	{
+		setValueFromPO("Supervisor_ID", org.compiere.model.I_AD_User.class, Supervisor);
+	}
+
+	@Override
+	public void setSupervisor_ID(final int Supervisor_ID)
+	{
+		setValue("Supervisor_ID", Supervisor_ID);
+	}
+
+	@Override
+	public void setTitle(final java.lang.String Title)
+	{
+		setValue("Title", Title);
+	}
+
+	@Override
+	public void setUserPIN(final java.lang.String UserPIN)
+	{
+		setValue("UserPIN", UserPIN);
+	}
+
+	@Override
+	public void setValue(final java.lang.String Value)
+	{
+		setValue("Value", Value);
+	}
+
+	@Override
+	public void setpasswordportal(final java.lang.String passwordportal)
+	{
+		setValue("passwordportal", passwordportal);
+	}
+}
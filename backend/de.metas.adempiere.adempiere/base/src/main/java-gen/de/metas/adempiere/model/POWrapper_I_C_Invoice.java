@@ -0,0 +1,1250 @@
+package de.metas.adempiere.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.adempiere.model.I_C_Invoice}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_C_Invoice extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.adempiere.model.I_C_Invoice
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_Approved = ColumnRef.ofBooleanProperty("Approved");
+	private static final ColumnRef BOOLEANREF_CreditedInvoiceReinvoicable = ColumnRef.ofBooleanProperty("CreditedInvoiceReinvoicable");
+	private static final ColumnRef BOOLEANREF_DiscountPrinted = ColumnRef.ofBooleanProperty("DiscountPrinted");
+	private static final ColumnRef BOOLEANREF_InDispute = ColumnRef.ofBooleanProperty("InDispute");
+	private static final ColumnRef BOOLEANREF_Paid = ColumnRef.ofBooleanProperty("Paid");
+	private static final ColumnRef BOOLEANREF_PayScheduleValid = ColumnRef.ofBooleanProperty("PayScheduleValid");
+	private static final ColumnRef BOOLEANREF_Posted = ColumnRef.ofBooleanProperty("Posted");
+	private static final ColumnRef BOOLEANREF_Printed = ColumnRef.ofBooleanProperty("Printed");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef BOOLEANREF_Processing = ColumnRef.ofBooleanProperty("Processing");
+	private static final ColumnRef BOOLEANREF_SOTrx = ColumnRef.ofBooleanProperty("SOTrx");
+	private static final ColumnRef BOOLEANREF_SalesPartnerRequired = ColumnRef.ofBooleanProperty("SalesPartnerRequired");
+	private static final ColumnRef BOOLEANREF_SelfService = ColumnRef.ofBooleanProperty("SelfService");
+	private static final ColumnRef BOOLEANREF_SendEMail = ColumnRef.ofBooleanProperty("SendEMail");
+	private static final ColumnRef BOOLEANREF_TaxIncluded = ColumnRef.ofBooleanProperty("TaxIncluded");
+	private static final ColumnRef BOOLEANREF_Transferred = ColumnRef.ofBooleanProperty("Transferred");
+	private static final ColumnRef BOOLEANREF_UseBPartnerAddress = ColumnRef.ofBooleanProperty("UseBPartnerAddress");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_OrgTrx_ID = ColumnRef.ofColumnName("AD_OrgTrx_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AD_User_ID = ColumnRef.ofColumnName("AD_User_ID");
+	private static final ColumnRef COLUMNREF_BPartnerAddress = ColumnRef.ofColumnName("BPartnerAddress");
+	private static final ColumnRef COLUMNREF_Beneficiary_BPartner_ID = ColumnRef.ofColumnName("Beneficiary_BPartner_ID");
+	private static final ColumnRef COLUMNREF_Beneficiary_Contact_ID = ColumnRef.ofColumnName("Beneficiary_Contact_ID");
+	private static final ColumnRef COLUMNREF_Beneficiary_Location_ID = ColumnRef.ofColumnName("Beneficiary_Location_ID");
+	private static final ColumnRef COLUMNREF_C_Activity_ID = ColumnRef.ofColumnName("C_Activity_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Location_ID = ColumnRef.ofColumnName("C_BPartner_Location_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_SalesRep_ID = ColumnRef.ofColumnName("C_BPartner_SalesRep_ID");
+	private static final ColumnRef COLUMNREF_C_Campaign_ID = ColumnRef.ofColumnName("C_Campaign_ID");
+	private static final ColumnRef COLUMNREF_C_CashLine_ID = ColumnRef.ofColumnName("C_CashLine_ID");
+	private static final ColumnRef COLUMNREF_C_Charge_ID = ColumnRef.ofColumnName("C_Charge_ID");
+	private static final ColumnRef COLUMNREF_C_ConversionType_ID = ColumnRef.ofColumnName("C_ConversionType_ID");
+	private static final ColumnRef COLUMNREF_C_Currency_ID = ColumnRef.ofColumnName("C_Currency_ID");
+	private static final ColumnRef COLUMNREF_C_DocTypeTarget_ID = ColumnRef.ofColumnName("C_DocTypeTarget_ID");
+	private static final ColumnRef COLUMNREF_C_DocType_ID = ColumnRef.ofColumnName("C_DocType_ID");
+	private static final ColumnRef COLUMNREF_C_DunningLevel_ID = ColumnRef.ofColumnName("C_DunningLevel_ID");
+	private static final ColumnRef COLUMNREF_C_Invoice_ID = ColumnRef.ofColumnName("C_Invoice_ID");
+	private static final ColumnRef COLUMNREF_C_Order_ID = ColumnRef.ofColumnName("C_Order_ID");
+	private static final ColumnRef COLUMNREF_C_PaymentTerm_ID = ColumnRef.ofColumnName("C_PaymentTerm_ID");
+	private static final ColumnRef COLUMNREF_C_Payment_ID = ColumnRef.ofColumnName("C_Payment_ID");
+	private static final ColumnRef COLUMNREF_C_Project_ID = ColumnRef.ofColumnName("C_Project_ID");
+	private static final ColumnRef COLUMNREF_ChargeAmt = ColumnRef.ofColumnName("ChargeAmt");
+	private static final ColumnRef COLUMNREF_CopyFrom = ColumnRef.ofColumnName("CopyFrom");
+	private static final ColumnRef COLUMNREF_CreateAdjustmentCharge = ColumnRef.ofColumnName("CreateAdjustmentCharge");
+	private static final ColumnRef COLUMNREF_CreateCreditMemo = ColumnRef.ofColumnName("CreateCreditMemo");
+	private static final ColumnRef COLUMNREF_CreateDta = ColumnRef.ofColumnName("CreateDta");
+	private static final ColumnRef COLUMNREF_CreateFrom = ColumnRef.ofColumnName("CreateFrom");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_CreditMemoReason = ColumnRef.ofColumnName("CreditMemoReason");
+	private static final ColumnRef COLUMNREF_DateAcct = ColumnRef.ofColumnName("DateAcct");
+	private static final ColumnRef COLUMNREF_DateInvoiced = ColumnRef.ofColumnName("DateInvoiced");
+	private static final ColumnRef COLUMNREF_DateOrdered = ColumnRef.ofColumnName("DateOrdered");
+	private static final ColumnRef COLUMNREF_DatePrinted = ColumnRef.ofColumnName("DatePrinted");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_DescriptionBottom = ColumnRef.ofColumnName("DescriptionBottom");
+	private static final ColumnRef COLUMNREF_DocAction = ColumnRef.ofColumnName("DocAction");
+	private static final ColumnRef COLUMNREF_DocBaseType = ColumnRef.ofColumnName("DocBaseType");
+	private static final ColumnRef COLUMNREF_DocStatus = ColumnRef.ofColumnName("DocStatus");
+	private static final ColumnRef COLUMNREF_DocumentNo = ColumnRef.ofColumnName("DocumentNo");
+	private static final ColumnRef COLUMNREF_DunningGrace = ColumnRef.ofColumnName("DunningGrace");
+	private static final ColumnRef COLUMNREF_ExternalId = ColumnRef.ofColumnName("ExternalId");
+	private static final ColumnRef COLUMNREF_GenerateTo = ColumnRef.ofColumnName("GenerateTo");
+	private static final ColumnRef COLUMNREF_GrandTotal = ColumnRef.ofColumnName("GrandTotal");
+	private static final ColumnRef COLUMNREF_Incoterm = ColumnRef.ofColumnName("Incoterm");
+	private static final ColumnRef COLUMNREF_IncotermLocation = ColumnRef.ofColumnName("IncotermLocation");
+	private static final ColumnRef COLUMNREF_InvoiceCollectionType = ColumnRef.ofColumnName("InvoiceCollectionType");
+	private static final ColumnRef COLUMNREF_Invoice_includedTab = ColumnRef.ofColumnName("Invoice_includedTab");
+	private static final ColumnRef COLUMNREF_M_AttributeSetInstance_ID = ColumnRef.ofColumnName("M_AttributeSetInstance_ID");
+	private static final ColumnRef COLUMNREF_M_PriceList_ID = ColumnRef.ofColumnName("M_PriceList_ID");
+	private static final ColumnRef COLUMNREF_M_RMA_ID = ColumnRef.ofColumnName("M_RMA_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_ID = ColumnRef.ofColumnName("M_Warehouse_ID");
+	private static final ColumnRef COLUMNREF_POReference = ColumnRef.ofColumnName("POReference");
+	private static final ColumnRef COLUMNREF_PaymentRule = ColumnRef.ofColumnName("PaymentRule");
+	private static final ColumnRef COLUMNREF_PostingError_Issue_ID = ColumnRef.ofColumnName("PostingError_Issue_ID");
+	private static final ColumnRef COLUMNREF_Ref_Invoice_ID = ColumnRef.ofColumnName("Ref_Invoice_ID");
+	private static final ColumnRef COLUMNREF_Reversal_ID = ColumnRef.ofColumnName("Reversal_ID");
+	private static final ColumnRef COLUMNREF_SalesPartnerCode = ColumnRef.ofColumnName("SalesPartnerCode");
+	private static final ColumnRef COLUMNREF_SalesRep_ID = ColumnRef.ofColumnName("SalesRep_ID");
+	private static final ColumnRef COLUMNREF_TotalLines = ColumnRef.ofColumnName("TotalLines");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_User1_ID = ColumnRef.ofColumnName("User1_ID");
+	private static final ColumnRef COLUMNREF_User2_ID = ColumnRef.ofColumnName("User2_ID");
+	private static final ColumnRef COLUMNREF_UserFlag = ColumnRef.ofColumnName("UserFlag");
+	private static final ModelRef MODELREF_C_Campaign = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getC_Campaign", "C_Campaign_ID");
+	private static final ModelRef MODELREF_C_CashLine = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getC_CashLine", "C_CashLine_ID");
+	private static final ModelRef MODELREF_C_DunningLevel = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getC_DunningLevel", "C_DunningLevel_ID");
+	private static final ModelRef MODELREF_C_Order = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getC_Order", "C_Order_ID");
+	private static final ModelRef MODELREF_M_AttributeSetInstance = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getM_AttributeSetInstance", "M_AttributeSetInstance_ID");
+	private static final ModelRef MODELREF_M_RMA = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getM_RMA", "M_RMA_ID");
+	private static final ModelRef MODELREF_PostingError_Issue = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getPostingError_Issue", "PostingError_Issue_ID");
+	private static final ModelRef MODELREF_Ref_Invoice = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getRef_Invoice", "Ref_Invoice_ID");
+	private static final ModelRef MODELREF_Reversal = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getReversal", "Reversal_ID");
+	private static final ModelRef MODELREF_User1 = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getUser1", "User1_ID");
+	private static final ModelRef MODELREF_User2 = ModelRef.of(de.metas.adempiere.model.I_C_Invoice.class, "getUser2", "User2_ID");
+
+	public POWrapper_I_C_Invoice(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_OrgTrx_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_OrgTrx_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getAD_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_ID);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress()
+	{
+		return getValue(COLUMNREF_BPartnerAddress, java.lang.String.class);
+	}
+
+	@Override
+	public int getBeneficiary_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_Beneficiary_BPartner_ID);
+	}
+
+	@Override
+	public int getBeneficiary_Contact_ID()
+	{
+		return getValueAsInt(COLUMNREF_Beneficiary_Contact_ID);
+	}
+
+	@Override
+	public int getBeneficiary_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_Beneficiary_Location_ID);
+	}
+
+	@Override
+	public int getC_Activity_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Activity_ID);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Location_ID);
+	}
+
+	@Override
+	public int getC_BPartner_SalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_SalesRep_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Campaign getC_Campaign()
+	{
+		return getReferencedModel(MODELREF_C_Campaign);
+	}
+
+	@Override
+	public int getC_Campaign_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Campaign_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_CashLine getC_CashLine()
+	{
+		return getReferencedModel(MODELREF_C_CashLine);
+	}
+
+	@Override
+	public int getC_CashLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_CashLine_ID);
+	}
+
+	@Override
+	public int getC_Charge_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Charge_ID);
+	}
+
+	@Override
+	public int getC_ConversionType_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_ConversionType_ID);
+	}
+
+	@Override
+	public int getC_Currency_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Currency_ID);
+	}
+
+	@Override
+	public int getC_DocTypeTarget_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DocTypeTarget_ID);
+	}
+
+	@Override
+	public int getC_DocType_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DocType_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_DunningLevel getC_DunningLevel()
+	{
+		return getReferencedModel(MODELREF_C_DunningLevel);
+	}
+
+	@Override
+	public int getC_DunningLevel_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DunningLevel_ID);
+	}
+
+	@Override
+	public int getC_Invoice_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Invoice_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getC_Order()
+	{
+		return getReferencedModel(MODELREF_C_Order);
+	}
+
+	@Override
+	public int getC_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Order_ID);
+	}
+
+	@Override
+	public int getC_PaymentTerm_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_PaymentTerm_ID);
+	}
+
+	@Override
+	public int getC_Payment_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Payment_ID);
+	}
+
+	@Override
+	public int getC_Project_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Project_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getChargeAmt()
+	{
+		return getValue(COLUMNREF_ChargeAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getCopyFrom()
+	{
+		return getValue(COLUMNREF_CopyFrom, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateAdjustmentCharge()
+	{
+		return getValue(COLUMNREF_CreateAdjustmentCharge, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateCreditMemo()
+	{
+		return getValue(COLUMNREF_CreateCreditMemo, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateDta()
+	{
+		return getValue(COLUMNREF_CreateDta, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateFrom()
+	{
+		return getValue(COLUMNREF_CreateFrom, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.lang.String getCreditMemoReason()
+	{
+		return getValue(COLUMNREF_CreditMemoReason, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateAcct()
+	{
+		return getValue(COLUMNREF_DateAcct, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateInvoiced()
+	{
+		return getValue(COLUMNREF_DateInvoiced, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateOrdered()
+	{
+		return getValue(COLUMNREF_DateOrdered, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDatePrinted()
+	{
+		return getValue(COLUMNREF_DatePrinted, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDescriptionBottom()
+	{
+		return getValue(COLUMNREF_DescriptionBottom, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocAction()
+	{
+		return getValue(COLUMNREF_DocAction, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocBaseType()
+	{
+		return getValue(COLUMNREF_DocBaseType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocStatus()
+	{
+		return getValue(COLUMNREF_DocStatus, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocumentNo()
+	{
+		return getValue(COLUMNREF_DocumentNo, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDunningGrace()
+	{
+		return getValue(COLUMNREF_DunningGrace, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getExternalId()
+	{
+		return getValue(COLUMNREF_ExternalId, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGenerateTo()
+	{
+		return getValue(COLUMNREF_GenerateTo, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getGrandTotal()
+	{
+		return getValue(COLUMNREF_GrandTotal, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getIncoterm()
+	{
+		return getValue(COLUMNREF_Incoterm, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getIncotermLocation()
+	{
+		return getValue(COLUMNREF_IncotermLocation, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getInvoiceCollectionType()
+	{
+		return getValue(COLUMNREF_InvoiceCollectionType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getInvoice_includedTab()
+	{
+		return getValue(COLUMNREF_Invoice_includedTab, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSetInstance getM_AttributeSetInstance()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSetInstance);
+	}
+
+	@Override
+	public int getM_AttributeSetInstance_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public int getM_PriceList_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PriceList_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_RMA getM_RMA()
+	{
+		return getReferencedModel(MODELREF_M_RMA);
+	}
+
+	@Override
+	public int getM_RMA_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_RMA_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_ID);
+	}
+
+	@Override
+	public java.lang.String getPOReference()
+	{
+		return getValue(COLUMNREF_POReference, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPaymentRule()
+	{
+		return getValue(COLUMNREF_PaymentRule, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_Issue getPostingError_Issue()
+	{
+		return getReferencedModel(MODELREF_PostingError_Issue);
+	}
+
+	@Override
+	public int getPostingError_Issue_ID()
+	{
+		return getValueAsInt(COLUMNREF_PostingError_Issue_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Invoice getRef_Invoice()
+	{
+		return getReferencedModel(MODELREF_Ref_Invoice);
+	}
+
+	@Override
+	public int getRef_Invoice_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_Invoice_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Invoice getReversal()
+	{
+		return getReferencedModel(MODELREF_Reversal);
+	}
+
+	@Override
+	public int getReversal_ID()
+	{
+		return getValueAsInt(COLUMNREF_Reversal_ID);
+	}
+
+	@Override
+	public java.lang.String getSalesPartnerCode()
+	{
+		return getValue(COLUMNREF_SalesPartnerCode, java.lang.String.class);
+	}
+
+	@Override
+	public int getSalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRep_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getTotalLines()
+	{
+		return getValue(COLUMNREF_TotalLines, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser1()
+	{
+		return getReferencedModel(MODELREF_User1);
+	}
+
+	@Override
+	public int getUser1_ID()
+	{
+		return getValueAsInt(COLUMNREF_User1_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser2()
+	{
+		return getReferencedModel(MODELREF_User2);
+	}
+
+	@Override
+	public int getUser2_ID()
+	{
+		return getValueAsInt(COLUMNREF_User2_ID);
+	}
+
+	@Override
+	public java.lang.String getUserFlag()
+	{
+		return getValue(COLUMNREF_UserFlag, java.lang.String.class);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isApproved()
+	{
+		return getValueAsBoolean(BOOLEANREF_Approved);
+	}
+
+	@Override
+	public boolean isCreditedInvoiceReinvoicable()
+	{
+		return getValueAsBoolean(BOOLEANREF_CreditedInvoiceReinvoicable);
+	}
+
+	@Override
+	public boolean isDiscountPrinted()
+	{
+		return getValueAsBoolean(BOOLEANREF_DiscountPrinted);
+	}
+
+	@Override
+	public boolean isInDispute()
+	{
+		return getValueAsBoolean(BOOLEANREF_InDispute);
+	}
+
+	@Override
+	public boolean isPaid()
+	{
+		return getValueAsBoolean(BOOLEANREF_Paid);
+	}
+
+	@Override
+	public boolean isPayScheduleValid()
+	{
+		return getValueAsBoolean(BOOLEANREF_PayScheduleValid);
+	}
+
+	@Override
+	public boolean isPosted()
+	{
+		return getValueAsBoolean(BOOLEANREF_Posted);
+	}
+
+	@Override
+	public boolean isPrinted()
+	{
+		return getValueAsBoolean(BOOLEANREF_Printed);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public boolean isProcessing()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processing);
+	}
+
+	@Override
+	public boolean isSOTrx()
+	{
+		return getValueAsBoolean(BOOLEANREF_SOTrx);
+	}
+
+	@Override
+	public boolean isSalesPartnerRequired()
+	{
+		return getValueAsBoolean(BOOLEANREF_SalesPartnerRequired);
+	}
+
+	@Override
+	public boolean isSelfService()
+	{
+		return getValueAsBoolean(BOOLEANREF_SelfService);
+	}
+
+	@Override
+	public boolean isSendEMail()
+	{
+		return getValueAsBoolean(BOOLEANREF_SendEMail);
+	}
+
+	@Override
+	public boolean isTaxIncluded()
+	{
+		return getValueAsBoolean(BOOLEANREF_TaxIncluded);
+	}
+
+	@Override
+	public boolean isTransferred()
+	{
+		return getValueAsBoolean(BOOLEANREF_Transferred);
+	}
+
+	@Override
+	public boolean isUseBPartnerAddress()
+	{
+		return getValueAsBoolean(BOOLEANREF_UseBPartnerAddress);
+	}
+
+	@Override
+	public void setAD_OrgTrx_ID(final int AD_OrgTrx_ID)
+	{
+		setValue("AD_OrgTrx_ID", AD_OrgTrx_ID);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAD_User_ID(final int AD_User_ID)
+	{
+		setValue("AD_User_ID", AD_User_ID);
+	}
+
+	@Override
+	public void setBPartnerAddress(final java.lang.String BPartnerAddress)
+	{
+		setValue("BPartnerAddress", BPartnerAddress);
+	}
+
+	@Override
+	public void setBeneficiary_BPartner_ID(final int Beneficiary_BPartner_ID)
+	{
+		setValue("Beneficiary_BPartner_ID", Beneficiary_BPartner_ID);
+	}
+
+	@Override
+	public void setBeneficiary_Contact_ID(final int Beneficiary_Contact_ID)
+	{
+		setValue("Beneficiary_Contact_ID", Beneficiary_Contact_ID);
+	}
+
+	@Override
+	public void setBeneficiary_Location_ID(final int Beneficiary_Location_ID)
+	{
+		setValue("Beneficiary_Location_ID", Beneficiary_Location_ID);
+	}
+
+	@Override
+	public void setC_Activity_ID(final int C_Activity_ID)
+	{
+		setValue("C_Activity_ID", C_Activity_ID);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Location_ID(final int C_BPartner_Location_ID)
+	{
+		setValue("C_BPartner_Location_ID", C_BPartner_Location_ID);
+	}
+
+	@Override
+	public void setC_BPartner_SalesRep_ID(final int C_BPartner_SalesRep_ID)
+	{
+		setValue("C_BPartner_SalesRep_ID", C_BPartner_SalesRep_ID);
+	}
+
+	@Override
+	public void setC_Campaign(final org.compiere.model.I_C_Campaign C_Campaign)
+	{
+		setValueFromPO("C_Campaign_ID", org.compiere.model.I_C_Campaign.class, C_Campaign);
+	}
+
+	@Override
+	public void setC_Campaign_ID(final int C_Campaign_ID)
+	{
+		setValue("C_Campaign_ID", C_Campaign_ID);
+	}
+
+	@Override
+	public void setC_CashLine(final org.compiere.model.I_C_CashLine C_CashLine)
+	{
+		setValueFromPO("C_CashLine_ID", org.compiere.model.I_C_CashLine.class, C_CashLine);
+	}
+
+	@Override
+	public void setC_CashLine_ID(final int C_CashLine_ID)
+	{
+		setValue("C_CashLine_ID", C_CashLine_ID);
+	}
+
+	@Override
+	public void setC_Charge_ID(final int C_Charge_ID)
+	{
+		setValue("C_Charge_ID", C_Charge_ID);
+	}
+
+	@Override
+	public void setC_ConversionType_ID(final int C_ConversionType_ID)
+	{
+		setValue("C_ConversionType_ID", C_ConversionType_ID);
+	}
+
+	@Override
+	public void setC_Currency_ID(final int C_Currency_ID)
+	{
+		setValue("C_Currency_ID", C_Currency_ID);
+	}
+
+	@Override
+	public void setC_DocTypeTarget_ID(final int C_DocTypeTarget_ID)
+	{
+		setValue("C_DocTypeTarget_ID", C_DocTypeTarget_ID);
+	}
+
+	@Override
+	public void setC_DocType_ID(final int C_DocType_ID)
+	{
+		setValue("C_DocType_ID", C_DocType_ID);
+	}
+
+	@Override
+	public void setC_DunningLevel(final org.compiere.model.I_C_DunningLevel C_DunningLevel)
+	{
+		setValueFromPO("C_DunningLevel_ID", org.compiere.model.I_C_DunningLevel.class, C_DunningLevel);
+	}
+
+	@Override
+	public void setC_DunningLevel_ID(final int C_DunningLevel_ID)
+	{
+		setValue("C_DunningLevel_ID", C_DunningLevel_ID);
+	}
+
+	@Override
+	public void setC_Invoice_ID(final int C_Invoice_ID)
+	{
+		setValue("C_Invoice_ID", C_Invoice_ID);
+	}
+
+	@Override
+	public void setC_Order(final org.compiere.model.I_C_Order C_Order)
+	{
+		setValueFromPO("C_Order_ID", org.compiere.model.I_C_Order.class, C_Order);
+	}
+
+	@Override
+	public void setC_Order_ID(final int C_Order_ID)
+	{
+		setValue("C_Order_ID", C_Order_ID);
+	}
+
+	@Override
+	public void setC_PaymentTerm_ID(final int C_PaymentTerm_ID)
+	{
+		setValue("C_PaymentTerm_ID", C_PaymentTerm_ID);
+	}
+
+	@Override
+	public void setC_Payment_ID(final int C_Payment_ID)
+	{
+		setValue("C_Payment_ID", C_Payment_ID);
+	}
+
+	@Override
+	public void setC_Project_ID(final int C_Project_ID)
+	{
+		setValue("C_Project_ID", C_Project_ID);
+	}
+
+	@Override
+	public void setChargeAmt(final java.math.BigDecimal ChargeAmt)
+	{
+		setValue("ChargeAmt", ChargeAmt);
+	}
+
+	@Override
+	public void setCopyFrom(final java.lang.String CopyFrom)
+	{
+		setValue("CopyFrom", CopyFrom);
+	}
+
+	@Override
+	public void setCreateAdjustmentCharge(final java.lang.String CreateAdjustmentCharge)
+	{
+		setValue("CreateAdjustmentCharge", CreateAdjustmentCharge);
+	}
+
+	@Override
+	public void setCreateCreditMemo(final java.lang.String CreateCreditMemo)
+	{
+		setValue("CreateCreditMemo", CreateCreditMemo);
+	}
+
+	@Override
+	public void setCreateDta(final java.lang.String CreateDta)
+	{
+		setValue("CreateDta", CreateDta);
+	}
+
+	@Override
+	public void setCreateFrom(final java.lang.String CreateFrom)
+	{
+		setValue("CreateFrom", CreateFrom);
+	}
+
+	@Override
+	public void setCreditMemoReason(final java.lang.String CreditMemoReason)
+	{
+		setValue("CreditMemoReason", CreditMemoReason);
+	}
+
+	@Override
+	public void setDateAcct(final java.sql.Timestamp DateAcct)
+	{
+		setValue("DateAcct", DateAcct);
+	}
+
+	@Override
+	public void setDateInvoiced(final java.sql.Timestamp DateInvoiced)
+	{
+		setValue("DateInvoiced", DateInvoiced);
+	}
+
+	@Override
+	public void setDateOrdered(final java.sql.Timestamp DateOrdered)
+	{
+		setValue("DateOrdered", DateOrdered);
+	}
+
+	@Override
+	public void setDatePrinted(final java.sql.Timestamp DatePrinted)
+	{
+		setValue("DatePrinted", DatePrinted);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setDescriptionBottom(final java.lang.String DescriptionBottom)
+	{
+		setValue("DescriptionBottom", DescriptionBottom);
+	}
+
+	@Override
+	public void setDocAction(final java.lang.String DocAction)
+	{
+		setValue("DocAction", DocAction);
+	}
+
+	@Override
+	public void setDocBaseType(final java.lang.String DocBaseType)
+	{
+		setValue("DocBaseType", DocBaseType);
+	}
+
+	@Override
+	public void setDocStatus(final java.lang.String DocStatus)
+	{
+		setValue("DocStatus", DocStatus);
+	}
+
+	@Override
+	public void setDocumentNo(final java.lang.String DocumentNo)
+	{
+		setValue("DocumentNo", DocumentNo);
+	}
+
+	@Override
+	public void setDunningGrace(final java.sql.Timestamp DunningGrace)
+	{
+		setValue("DunningGrace", DunningGrace);
+	}
+
+	@Override
+	public void setExternalId(final java.lang.String ExternalId)
+	{
+		setValue("ExternalId", ExternalId);
+	}
+
+	@Override
+	public void setGenerateTo(final java.lang.String GenerateTo)
+	{
+		setValue("GenerateTo", GenerateTo);
+	}
+
+	@Override
+	public void setGrandTotal(final java.math.BigDecimal GrandTotal)
+	{
+		setValue("GrandTotal", GrandTotal);
+	}
+
+	@Override
+	public void setIncoterm(final java.lang.String Incoterm)
+	{
+		setValue("Incoterm", Incoterm);
+	}
+
+	@Override
+	public void setIncotermLocation(final java.lang.String IncotermLocation)
+	{
+		setValue("IncotermLocation", IncotermLocation);
+	}
+
+	@Override
+	public void setInvoiceCollectionType(final java.lang.String InvoiceCollectionType)
+	{
+		setValue("InvoiceCollectionType", InvoiceCollectionType);
+	}
+
+	@Override
+	public void setInvoice_includedTab(final java.lang.String Invoice_includedTab)
+	{
+		setValue("Invoice_includedTab", Invoice_includedTab);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsApproved(final boolean IsApproved)
+	{
+		setValue("IsApproved", IsApproved);
+	}
+
+	@Override
+	public void setIsCreditedInvoiceReinvoicable(final boolean IsCreditedInvoiceReinvoicable)
+	{
+		setValue("IsCreditedInvoiceReinvoicable", IsCreditedInvoiceReinvoicable);
+	}
+
+	@Override
+	public void setIsDiscountPrinted(final boolean IsDiscountPrinted)
+	{
+		setValue("IsDiscountPrinted", IsDiscountPrinted);
+	}
+
+	@Override
+	public void setIsInDispute(final boolean IsInDispute)
+	{
+		setValue("IsInDispute", IsInDispute);
+	}
+
+	@Override
+	public void setIsPaid(final boolean IsPaid)
+	{
+		setValue("IsPaid", IsPaid);
+	}
+
+	@Override
+	public void setIsPayScheduleValid(final boolean IsPayScheduleValid)
+	{
+		setValue("IsPayScheduleValid", IsPayScheduleValid);
+	}
+
+	@Override
+	public void setIsPrinted(final boolean IsPrinted)
+	{
+		setValue("IsPrinted", IsPrinted);
+	}
+
+	@Override
+	public void setIsSOTrx(final boolean IsSOTrx)
+	{
+		setValue("IsSOTrx", IsSOTrx);
+	}
+
+	@Override
+	public void setIsSalesPartnerRequired(final boolean IsSalesPartnerRequired)
+	{
+		setValue("IsSalesPartnerRequired", IsSalesPartnerRequired);
+	}
+
+	@Override
+	public void setIsSelfService(final boolean IsSelfService)
+	{
+		setValue("IsSelfService", IsSelfService);
+	}
+
+	@Override
+	public void setIsTaxIncluded(final boolean IsTaxIncluded)
+	{
+		setValue("IsTaxIncluded", IsTaxIncluded);
+	}
+
+	@Override
+	public void setIsTransferred(final boolean IsTransferred)
+	{
+		setValue("IsTransferred", IsTransferred);
+	}
+
+	@Override
+	public void setIsUseBPartnerAddress(final boolean IsUseBPartnerAddress)
+	{
+		setValue("IsUseBPartnerAddress", IsUseBPartnerAddress);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance_ID(final int M_AttributeSetInstance_ID)
+	{
+		setValue("M_AttributeSetInstance_ID", M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public void setM_PriceList_ID(final int M_PriceList_ID)
+	{
+		setValue("M_PriceList_ID", M_PriceList_ID);
+	}
+
+	@Override
+	public void setM_RMA(final org.compiere.model.I_M_RMA M_RMA)
+	{
+		setValueFromPO("M_RMA_ID", org.compiere.model.I_M_RMA.class, M_RMA);
+	}
+
+	@Override
+	public void setM_RMA_ID(final int M_RMA_ID)
+	{
+		setValue("M_RMA_ID", M_RMA_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_ID(final int M_Warehouse_ID)
+	{
+		setValue("M_Warehouse_ID", M_Warehouse_ID);
+	}
+
+	@Override
+	public void setPOReference(final java.lang.String POReference)
+	{
+		setValue("POReference", POReference);
+	}
+
+	@Override
+	public void setPaymentRule(final java.lang.String PaymentRule)
+	{
+		setValue("PaymentRule", PaymentRule);
+	}
+
+	@Override
+	public void setPosted(final boolean Posted)
+	{
+		setValue("Posted", Posted);
+	}
+
+	@Override
+	public void setPostingError_Issue(final org.compiere.model.I_AD_Issue PostingError_Issue)
+	{
+		setValueFromPO("PostingError_Issue_ID", org.compiere.model.I_AD_Issue.class, PostingError_Issue);
+	}
+
+	@Override
+	public void setPostingError_Issue_ID(final int PostingError_Issue_ID)
+	{
+		setValue("PostingError_Issue_ID", PostingError_Issue_ID);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setProcessing(final boolean Processing)
+	{
+		setValue("Processing", Processing);
+	}
+
+	@Override
+	public void setRef_Invoice(final org.compiere.model.I_C_Invoice Ref_Invoice)
+	{
+		setValueFromPO("Ref_Invoice_ID", org.compiere.model.I_C_Invoice.class, Ref_Invoice);
+	}
+
+	@Override
+	public void setRef_Invoice_ID(final int Ref_Invoice_ID)
+	{
+		setValue("Ref_Invoice_ID", Ref_Invoice_ID);
+	}
+
+	@Override
+	public void setReversal(final org.compiere.model.I_C_Invoice Reversal)
+	{
+		setValueFromPO("Reversal_ID", org.compiere.model.I_C_Invoice.class, Reversal);
+	}
+
+	@Override
+	public void setReversal_ID(final int Reversal_ID)
+	{
+		setValue("Reversal_ID", Reversal_ID);
+	}
+
+	@Override
+	public void setSalesPartnerCode(final java.lang.String SalesPartnerCode)
+	{
+		setValue("SalesPartnerCode", SalesPartnerCode);
+	}
+
+	@Override
+	public void setSalesRep_ID(final int SalesRep_ID)
+	{
+		setValue("SalesRep_ID", SalesRep_ID);
+	}
+
+	@Override
+	public void setSendEMail(final boolean SendEMail)
+	{
+		setValue("SendEMail", SendEMail);
+	}
+
+	@Override
+	public void setTotalLines(final java.math.BigDecimal TotalLines)
+	{
+		setValue("TotalLines", TotalLines);
+	}
+
+	@Override
+	public void setUser1(final org.compiere.model.I_C_ElementValue User1)
+	{
+		setValueFromPO("User1_ID", org.compiere.model.I_C_ElementValue.class, User1);
+	}
+
+	@Override
+	public void setUser1_ID(final int User1_ID)
+	{
+		setValue("User1_ID", User1_ID);
+	}
+
+	@Override
+	public void setUser2(final org.compiere.model.I_C_ElementValue User2)
+	{
+		setValueFromPO("User2_ID", org.compiere.model.I_C_ElementValue.class, User2);
+	}
+
+	@Override
+	public void setUser2_ID(final int User2_ID)
+	{
+		setValue("User2_ID", User2_ID);
+	}
+
+	@Override
+	public void setUserFlag(final java.lang.String UserFlag)
+	{
+		setValue("UserFlag", UserFlag);
+	}
+}
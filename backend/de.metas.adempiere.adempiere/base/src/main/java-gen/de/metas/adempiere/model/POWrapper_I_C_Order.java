@@ -0,0 +1,1841 @@
+package de.metas.adempiere.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.adempiere.model.I_C_Order}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_C_Order extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.adempiere.model.I_C_Order
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_Approved = ColumnRef.ofBooleanProperty("Approved");
+	private static final ColumnRef BOOLEANREF_CreditApproved = ColumnRef.ofBooleanProperty("CreditApproved");
+	private static final ColumnRef BOOLEANREF_Delivered = ColumnRef.ofBooleanProperty("Delivered");
+	private static final ColumnRef BOOLEANREF_DiscountPrinted = ColumnRef.ofBooleanProperty("DiscountPrinted");
+	private static final ColumnRef BOOLEANREF_DropShip = ColumnRef.ofBooleanProperty("DropShip");
+	private static final ColumnRef BOOLEANREF_Invoiced = ColumnRef.ofBooleanProperty("Invoiced");
+	private static final ColumnRef BOOLEANREF_Posted = ColumnRef.ofBooleanProperty("Posted");
+	private static final ColumnRef BOOLEANREF_Printed = ColumnRef.ofBooleanProperty("Printed");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef BOOLEANREF_Processing = ColumnRef.ofBooleanProperty("Processing");
+	private static final ColumnRef BOOLEANREF_SOTrx = ColumnRef.ofBooleanProperty("SOTrx");
+	private static final ColumnRef BOOLEANREF_SalesPartnerRequired = ColumnRef.ofBooleanProperty("SalesPartnerRequired");
+	private static final ColumnRef BOOLEANREF_Selected = ColumnRef.ofBooleanProperty("Selected");
+	private static final ColumnRef BOOLEANREF_SelfService = ColumnRef.ofBooleanProperty("SelfService");
+	private static final ColumnRef BOOLEANREF_SendEMail = ColumnRef.ofBooleanProperty("SendEMail");
+	private static final ColumnRef BOOLEANREF_TaxIncluded = ColumnRef.ofBooleanProperty("TaxIncluded");
+	private static final ColumnRef BOOLEANREF_Transferred = ColumnRef.ofBooleanProperty("Transferred");
+	private static final ColumnRef BOOLEANREF_UseBPartnerAddress = ColumnRef.ofBooleanProperty("UseBPartnerAddress");
+	private static final ColumnRef BOOLEANREF_UseBillToAddress = ColumnRef.ofBooleanProperty("UseBillToAddress");
+	private static final ColumnRef BOOLEANREF_UseDeliveryToAddress = ColumnRef.ofBooleanProperty("UseDeliveryToAddress");
+	private static final ColumnRef BOOLEANREF_UseHandOver_Location = ColumnRef.ofBooleanProperty("UseHandOver_Location");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_OrgTrx_ID = ColumnRef.ofColumnName("AD_OrgTrx_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AD_User_ID = ColumnRef.ofColumnName("AD_User_ID");
+	private static final ColumnRef COLUMNREF_AmountRefunded = ColumnRef.ofColumnName("AmountRefunded");
+	private static final ColumnRef COLUMNREF_AmountTendered = ColumnRef.ofColumnName("AmountTendered");
+	private static final ColumnRef COLUMNREF_BPartnerAddress = ColumnRef.ofColumnName("BPartnerAddress");
+	private static final ColumnRef COLUMNREF_BillToAddress = ColumnRef.ofColumnName("BillToAddress");
+	private static final ColumnRef COLUMNREF_Bill_BPartner_ID = ColumnRef.ofColumnName("Bill_BPartner_ID");
+	private static final ColumnRef COLUMNREF_Bill_BPartner_Memo = ColumnRef.ofColumnName("Bill_BPartner_Memo");
+	private static final ColumnRef COLUMNREF_Bill_Location_ID = ColumnRef.ofColumnName("Bill_Location_ID");
+	private static final ColumnRef COLUMNREF_Bill_User_ID = ColumnRef.ofColumnName("Bill_User_ID");
+	private static final ColumnRef COLUMNREF_C_Activity_ID = ColumnRef.ofColumnName("C_Activity_ID");
+	private static final ColumnRef COLUMNREF_C_BP_BankAccount_ID = ColumnRef.ofColumnName("C_BP_BankAccount_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Location_ID = ColumnRef.ofColumnName("C_BPartner_Location_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Memo = ColumnRef.ofColumnName("C_BPartner_Memo");
+	private static final ColumnRef COLUMNREF_C_BPartner_SalesRep_ID = ColumnRef.ofColumnName("C_BPartner_SalesRep_ID");
+	private static final ColumnRef COLUMNREF_C_Campaign_ID = ColumnRef.ofColumnName("C_Campaign_ID");
+	private static final ColumnRef COLUMNREF_C_CashLine_ID = ColumnRef.ofColumnName("C_CashLine_ID");
+	private static final ColumnRef COLUMNREF_C_Charge_ID = ColumnRef.ofColumnName("C_Charge_ID");
+	private static final ColumnRef COLUMNREF_C_ConversionType_ID = ColumnRef.ofColumnName("C_ConversionType_ID");
+	private static final ColumnRef COLUMNREF_C_Currency_ID = ColumnRef.ofColumnName("C_Currency_ID");
+	private static final ColumnRef COLUMNREF_C_DocTypeTarget_ID = ColumnRef.ofColumnName("C_DocTypeTarget_ID");
+	private static final ColumnRef COLUMNREF_C_DocType_ID = ColumnRef.ofColumnName("C_DocType_ID");
+	private static final ColumnRef COLUMNREF_C_Order_ID = ColumnRef.ofColumnName("C_Order_ID");
+	private static final ColumnRef COLUMNREF_C_POS_ID = ColumnRef.ofColumnName("C_POS_ID");
+	private static final ColumnRef COLUMNREF_C_PaymentTerm_ID = ColumnRef.ofColumnName("C_PaymentTerm_ID");
+	private static final ColumnRef COLUMNREF_C_Payment_ID = ColumnRef.ofColumnName("C_Payment_ID");
+	private static final ColumnRef COLUMNREF_C_Project_ID = ColumnRef.ofColumnName("C_Project_ID");
+	private static final ColumnRef COLUMNREF_ChargeAmt = ColumnRef.ofColumnName("ChargeAmt");
+	private static final ColumnRef COLUMNREF_CompleteOrderDiscount = ColumnRef.ofColumnName("CompleteOrderDiscount");
+	private static final ColumnRef COLUMNREF_CopyFrom = ColumnRef.ofColumnName("CopyFrom");
+	private static final ColumnRef COLUMNREF_CreateCopy = ColumnRef.ofColumnName("CreateCopy");
+	private static final ColumnRef COLUMNREF_CreateNewFromProposal = ColumnRef.ofColumnName("CreateNewFromProposal");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_DateAcct = ColumnRef.ofColumnName("DateAcct");
+	private static final ColumnRef COLUMNREF_DateOrdered = ColumnRef.ofColumnName("DateOrdered");
+	private static final ColumnRef COLUMNREF_DatePrinted = ColumnRef.ofColumnName("DatePrinted");
+	private static final ColumnRef COLUMNREF_DatePromised = ColumnRef.ofColumnName("DatePromised");
+	private static final ColumnRef COLUMNREF_DeliveryInfo = ColumnRef.ofColumnName("DeliveryInfo");
+	private static final ColumnRef COLUMNREF_DeliveryRule = ColumnRef.ofColumnName("DeliveryRule");
+	private static final ColumnRef COLUMNREF_DeliveryToAddress = ColumnRef.ofColumnName("DeliveryToAddress");
+	private static final ColumnRef COLUMNREF_DeliveryViaRule = ColumnRef.ofColumnName("DeliveryViaRule");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_DescriptionBottom = ColumnRef.ofColumnName("DescriptionBottom");
+	private static final ColumnRef COLUMNREF_DocAction = ColumnRef.ofColumnName("DocAction");
+	private static final ColumnRef COLUMNREF_DocStatus = ColumnRef.ofColumnName("DocStatus");
+	private static final ColumnRef COLUMNREF_DocumentNo = ColumnRef.ofColumnName("DocumentNo");
+	private static final ColumnRef COLUMNREF_DropShip_BPartner_ID = ColumnRef.ofColumnName("DropShip_BPartner_ID");
+	private static final ColumnRef COLUMNREF_DropShip_BPartner_Memo = ColumnRef.ofColumnName("DropShip_BPartner_Memo");
+	private static final ColumnRef COLUMNREF_DropShip_Location_ID = ColumnRef.ofColumnName("DropShip_Location_ID");
+	private static final ColumnRef COLUMNREF_DropShip_User_ID = ColumnRef.ofColumnName("DropShip_User_ID");
+	private static final ColumnRef COLUMNREF_ExternalId = ColumnRef.ofColumnName("ExternalId");
+	private static final ColumnRef COLUMNREF_FreightAmt = ColumnRef.ofColumnName("FreightAmt");
+	private static final ColumnRef COLUMNREF_FreightCostRule = ColumnRef.ofColumnName("FreightCostRule");
+	private static final ColumnRef COLUMNREF_GrandTotal = ColumnRef.ofColumnName("GrandTotal");
+	private static final ColumnRef COLUMNREF_HandOverAddress = ColumnRef.ofColumnName("HandOverAddress");
+	private static final ColumnRef COLUMNREF_HandOver_BPartner_Memo = ColumnRef.ofColumnName("HandOver_BPartner_Memo");
+	private static final ColumnRef COLUMNREF_HandOver_Location_ID = ColumnRef.ofColumnName("HandOver_Location_ID");
+	private static final ColumnRef COLUMNREF_HandOver_Partner_ID = ColumnRef.ofColumnName("HandOver_Partner_ID");
+	private static final ColumnRef COLUMNREF_HandOver_User_ID = ColumnRef.ofColumnName("HandOver_User_ID");
+	private static final ColumnRef COLUMNREF_Incoterm = ColumnRef.ofColumnName("Incoterm");
+	private static final ColumnRef COLUMNREF_IncotermLocation = ColumnRef.ofColumnName("IncotermLocation");
+	private static final ColumnRef COLUMNREF_InvoiceRule = ColumnRef.ofColumnName("InvoiceRule");
+	private static final ColumnRef COLUMNREF_IsUseHandOver_Location = ColumnRef.ofColumnName("IsUseHandOver_Location");
+	private static final ColumnRef COLUMNREF_Link_Order_ID = ColumnRef.ofColumnName("Link_Order_ID");
+	private static final ColumnRef COLUMNREF_M_FreightCategory_ID = ColumnRef.ofColumnName("M_FreightCategory_ID");
+	private static final ColumnRef COLUMNREF_M_PriceList_ID = ColumnRef.ofColumnName("M_PriceList_ID");
+	private static final ColumnRef COLUMNREF_M_PricingSystem_ID = ColumnRef.ofColumnName("M_PricingSystem_ID");
+	private static final ColumnRef COLUMNREF_M_Product_ID = ColumnRef.ofColumnName("M_Product_ID");
+	private static final ColumnRef COLUMNREF_M_Shipper_ID = ColumnRef.ofColumnName("M_Shipper_ID");
+	private static final ColumnRef COLUMNREF_M_Tour_ID = ColumnRef.ofColumnName("M_Tour_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_ID = ColumnRef.ofColumnName("M_Warehouse_ID");
+	private static final ColumnRef COLUMNREF_OfferValidDate = ColumnRef.ofColumnName("OfferValidDate");
+	private static final ColumnRef COLUMNREF_OfferValidDays = ColumnRef.ofColumnName("OfferValidDays");
+	private static final ColumnRef COLUMNREF_OrderType = ColumnRef.ofColumnName("OrderType");
+	private static final ColumnRef COLUMNREF_Orderline_includedTab = ColumnRef.ofColumnName("Orderline_includedTab");
+	private static final ColumnRef COLUMNREF_POReference = ColumnRef.ofColumnName("POReference");
+	private static final ColumnRef COLUMNREF_PRINTER_OPTS_IsPrintTotals = ColumnRef.ofColumnName("PRINTER_OPTS_IsPrintTotals");
+	private static final ColumnRef COLUMNREF_Pay_BPartner_ID = ColumnRef.ofColumnName("Pay_BPartner_ID");
+	private static final ColumnRef COLUMNREF_Pay_Location_ID = ColumnRef.ofColumnName("Pay_Location_ID");
+	private static final ColumnRef COLUMNREF_PaymentRule = ColumnRef.ofColumnName("PaymentRule");
+	private static final ColumnRef COLUMNREF_PostingError_Issue_ID = ColumnRef.ofColumnName("PostingError_Issue_ID");
+	private static final ColumnRef COLUMNREF_PreparationDate = ColumnRef.ofColumnName("PreparationDate");
+	private static final ColumnRef COLUMNREF_PriorityRule = ColumnRef.ofColumnName("PriorityRule");
+	private static final ColumnRef COLUMNREF_PromotionCode = ColumnRef.ofColumnName("PromotionCode");
+	private static final ColumnRef COLUMNREF_Qty_FastInput = ColumnRef.ofColumnName("Qty_FastInput");
+	private static final ColumnRef COLUMNREF_ReceivedVia = ColumnRef.ofColumnName("ReceivedVia");
+	private static final ColumnRef COLUMNREF_Ref_DateOrder = ColumnRef.ofColumnName("Ref_DateOrder");
+	private static final ColumnRef COLUMNREF_Ref_Order_ID = ColumnRef.ofColumnName("Ref_Order_ID");
+	private static final ColumnRef COLUMNREF_Ref_Proposal_ID = ColumnRef.ofColumnName("Ref_Proposal_ID");
+	private static final ColumnRef COLUMNREF_Ref_RMA_ID = ColumnRef.ofColumnName("Ref_RMA_ID");
+	private static final ColumnRef COLUMNREF_SalesPartnerCode = ColumnRef.ofColumnName("SalesPartnerCode");
+	private static final ColumnRef COLUMNREF_SalesRepIntern_ID = ColumnRef.ofColumnName("SalesRepIntern_ID");
+	private static final ColumnRef COLUMNREF_SalesRep_ID = ColumnRef.ofColumnName("SalesRep_ID");
+	private static final ColumnRef COLUMNREF_TotalLines = ColumnRef.ofColumnName("TotalLines");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_User1_ID = ColumnRef.ofColumnName("User1_ID");
+	private static final ColumnRef COLUMNREF_User2_ID = ColumnRef.ofColumnName("User2_ID");
+	private static final ColumnRef COLUMNREF_Volume = ColumnRef.ofColumnName("Volume");
+	private static final ColumnRef COLUMNREF_Weight = ColumnRef.ofColumnName("Weight");
+	private static final ColumnRef COLUMNREF_returnDate = ColumnRef.ofColumnName("returnDate");
+	private static final ModelRef MODELREF_Bill_BPartner = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getBill_BPartner", "Bill_BPartner_ID");
+	private static final ModelRef MODELREF_Bill_Location = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getBill_Location", "Bill_Location_ID");
+	private static final ModelRef MODELREF_Bill_User = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getBill_User", "Bill_User_ID");
+	private static final ModelRef MODELREF_C_BPartner = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getC_BPartner", "C_BPartner_ID");
+	private static final ModelRef MODELREF_C_BPartner_Location = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getC_BPartner_Location", "C_BPartner_Location_ID");
+	private static final ModelRef MODELREF_C_Campaign = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getC_Campaign", "C_Campaign_ID");
+	private static final ModelRef MODELREF_C_CashLine = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getC_CashLine", "C_CashLine_ID");
+	private static final ModelRef MODELREF_C_POS = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getC_POS", "C_POS_ID");
+	private static final ModelRef MODELREF_DropShip_BPartner = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getDropShip_BPartner", "DropShip_BPartner_ID");
+	private static final ModelRef MODELREF_DropShip_Location = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getDropShip_Location", "DropShip_Location_ID");
+	private static final ModelRef MODELREF_DropShip_User = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getDropShip_User", "DropShip_User_ID");
+	private static final ModelRef MODELREF_HandOver_Location = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getHandOver_Location", "HandOver_Location_ID");
+	private static final ModelRef MODELREF_HandOver_Partner = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getHandOver_Partner", "HandOver_Partner_ID");
+	private static final ModelRef MODELREF_HandOver_User = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getHandOver_User", "HandOver_User_ID");
+	private static final ModelRef MODELREF_Link_Order = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getLink_Order", "Link_Order_ID");
+	private static final ModelRef MODELREF_M_FreightCategory = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getM_FreightCategory", "M_FreightCategory_ID");
+	private static final ModelRef MODELREF_M_Shipper = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getM_Shipper", "M_Shipper_ID");
+	private static final ModelRef MODELREF_M_Warehouse = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getM_Warehouse", "M_Warehouse_ID");
+	private static final ModelRef MODELREF_Ref_Order = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getRef_Order", "Ref_Order_ID");
+	private static final ModelRef MODELREF_Ref_Proposal = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getRef_Proposal", "Ref_Proposal_ID");
+	private static final ModelRef MODELREF_User1 = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getUser1", "User1_ID");
+	private static final ModelRef MODELREF_User2 = ModelRef.of(de.metas.adempiere.model.I_C_Order.class, "getUser2", "User2_ID");
+
+	public POWrapper_I_C_Order(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_OrgTrx_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_OrgTrx_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getAD_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getAmountRefunded()
+	{
+		return getValue(COLUMNREF_AmountRefunded, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getAmountTendered()
+	{
+		return getValue(COLUMNREF_AmountTendered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress()
+	{
+		return getValue(COLUMNREF_BPartnerAddress, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getBillToAddress()
+	{
+		return getValue(COLUMNREF_BillToAddress, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getBill_BPartner()
+	{
+		return getReferencedModel(MODELREF_Bill_BPartner);
+	}
+
+	@Override
+	public int getBill_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_Bill_BPartner_ID);
+	}
+
+	@Override
+	public java.lang.String getBill_BPartner_Memo()
+	{
+		return getValue(COLUMNREF_Bill_BPartner_Memo, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getBill_Location()
+	{
+		return getReferencedModel(MODELREF_Bill_Location);
+	}
+
+	@Override
+	public int getBill_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_Bill_Location_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_User getBill_User()
+	{
+		return getReferencedModel(MODELREF_Bill_User);
+	}
+
+	@Override
+	public int getBill_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_Bill_User_ID);
+	}
+
+	@Override
+	public int getC_Activity_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Activity_ID);
+	}
+
+	@Override
+	public int getC_BP_BankAccount_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BP_BankAccount_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getC_BPartner()
+	{
+		return getReferencedModel(MODELREF_C_BPartner);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getC_BPartner_Location()
+	{
+		return getReferencedModel(MODELREF_C_BPartner_Location);
+	}
+
+	@Override
+	public int getC_BPartner_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Location_ID);
+	}
+
+	@Override
+	public java.lang.String getC_BPartner_Memo()
+	{
+		return getValue(COLUMNREF_C_BPartner_Memo, java.lang.String.class);
+	}
+
+	@Override
+	public int getC_BPartner_SalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_SalesRep_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Campaign getC_Campaign()
+	{
+		return getReferencedModel(MODELREF_C_Campaign);
+	}
+
+	@Override
+	public int getC_Campaign_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Campaign_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_CashLine getC_CashLine()
+	{
+		return getReferencedModel(MODELREF_C_CashLine);
+	}
+
+	@Override
+	public int getC_CashLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_CashLine_ID);
+	}
+
+	@Override
+	public int getC_Charge_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Charge_ID);
+	}
+
+	@Override
+	public int getC_ConversionType_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_ConversionType_ID);
+	}
+
+	@Override
+	public int getC_Currency_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Currency_ID);
+	}
+
+	@Override
+	public int getC_DocTypeTarget_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DocTypeTarget_ID);
+	}
+
+	@Override
+	public int getC_DocType_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DocType_ID);
+	}
+
+	@Override
+	public int getC_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Order_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_POS getC_POS()
+	{
+		return getReferencedModel(MODELREF_C_POS);
+	}
+
+	@Override
+	public int getC_POS_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_POS_ID);
+	}
+
+	@Override
+	public int getC_PaymentTerm_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_PaymentTerm_ID);
+	}
+
+	@Override
+	public int getC_Payment_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Payment_ID);
+	}
+
+	@Override
+	public int getC_Project_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Project_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getChargeAmt()
+	{
+		return getValue(COLUMNREF_ChargeAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getCompleteOrderDiscount()
+	{
+		return getValue(COLUMNREF_CompleteOrderDiscount, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getCopyFrom()
+	{
+		return getValue(COLUMNREF_CopyFrom, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateCopy()
+	{
+		return getValue(COLUMNREF_CreateCopy, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateNewFromProposal()
+	{
+		return getValue(COLUMNREF_CreateNewFromProposal, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateAcct()
+	{
+		return getValue(COLUMNREF_DateAcct, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateOrdered()
+	{
+		return getValue(COLUMNREF_DateOrdered, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDatePrinted()
+	{
+		return getValue(COLUMNREF_DatePrinted, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDatePromised()
+	{
+		return getValue(COLUMNREF_DatePromised, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryInfo()
+	{
+		return getValue(COLUMNREF_DeliveryInfo, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryRule()
+	{
+		return getValue(COLUMNREF_DeliveryRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryToAddress()
+	{
+		return getValue(COLUMNREF_DeliveryToAddress, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryViaRule()
+	{
+		return getValue(COLUMNREF_DeliveryViaRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDescriptionBottom()
+	{
+		return getValue(COLUMNREF_DescriptionBottom, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocAction()
+	{
+		return getValue(COLUMNREF_DocAction, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocStatus()
+	{
+		return getValue(COLUMNREF_DocStatus, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocumentNo()
+	{
+		return getValue(COLUMNREF_DocumentNo, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getDropShip_BPartner()
+	{
+		return getReferencedModel(MODELREF_DropShip_BPartner);
+	}
+
+	@Override
+	public int getDropShip_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_DropShip_BPartner_ID);
+	}
+
+	@Override
+	public java.lang.String getDropShip_BPartner_Memo()
+	{
+		return getValue(COLUMNREF_DropShip_BPartner_Memo, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getDropShip_Location()
+	{
+		return getReferencedModel(MODELREF_DropShip_Location);
+	}
+
+	@Override
+	public int getDropShip_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_DropShip_Location_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_User getDropShip_User()
+	{
+		return getReferencedModel(MODELREF_DropShip_User);
+	}
+
+	@Override
+	public int getDropShip_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_DropShip_User_ID);
+	}
+
+	@Override
+	public java.lang.String getExternalId()
+	{
+		return getValue(COLUMNREF_ExternalId, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getFreightAmt()
+	{
+		return getValue(COLUMNREF_FreightAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getFreightCostRule()
+	{
+		return getValue(COLUMNREF_FreightCostRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getGrandTotal()
+	{
+		return getValue(COLUMNREF_GrandTotal, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getHandOverAddress()
+	{
+		return getValue(COLUMNREF_HandOverAddress, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getHandOver_BPartner_Memo()
+	{
+		return getValue(COLUMNREF_HandOver_BPartner_Memo, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getHandOver_Location()
+	{
+		return getReferencedModel(MODELREF_HandOver_Location);
+	}
+
+	@Override
+	public int getHandOver_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_HandOver_Location_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getHandOver_Partner()
+	{
+		return getReferencedModel(MODELREF_HandOver_Partner);
+	}
+
+	@Override
+	public int getHandOver_Partner_ID()
+	{
+		return getValueAsInt(COLUMNREF_HandOver_Partner_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_User getHandOver_User()
+	{
+		return getReferencedModel(MODELREF_HandOver_User);
+	}
+
+	@Override
+	public int getHandOver_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_HandOver_User_ID);
+	}
+
+	@Override
+	public java.lang.String getIncoterm()
+	{
+		return getValue(COLUMNREF_Incoterm, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getIncotermLocation()
+	{
+		return getValue(COLUMNREF_IncotermLocation, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getInvoiceRule()
+	{
+		return getValue(COLUMNREF_InvoiceRule, java.lang.String.class);
+	}
+
+	@Override
+	public boolean getIsUseHandOver_Location()
+	{
+		return getValue(COLUMNREF_IsUseHandOver_Location, boolean.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getLink_Order()
+	{
+		return getReferencedModel(MODELREF_Link_Order);
+	}
+
+	@Override
+	public int getLink_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_Link_Order_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_FreightCategory getM_FreightCategory()
+	{
+		return getReferencedModel(MODELREF_M_FreightCategory);
+	}
+
+	@Override
+	public int getM_FreightCategory_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_FreightCategory_ID);
+	}
+
+	@Override
+	public int getM_PriceList_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PriceList_ID);
+	}
+
+	@Override
+	public int getM_PricingSystem_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PricingSystem_ID);
+	}
+
+	@Override
+	public int getM_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_Shipper getM_Shipper()
+	{
+		return getReferencedModel(MODELREF_M_Shipper);
+	}
+
+	@Override
+	public int getM_Shipper_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Shipper_ID);
+	}
+
+	@Override
+	public int getM_Tour_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Tour_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_Warehouse getM_Warehouse()
+	{
+		return getReferencedModel(MODELREF_M_Warehouse);
+	}
+
+	@Override
+	public int getM_Warehouse_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getOfferValidDate()
+	{
+		return getValue(COLUMNREF_OfferValidDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getOfferValidDays()
+	{
+		return getValueAsInt(COLUMNREF_OfferValidDays);
+	}
+
+	@Override
+	public java.lang.String getOrderType()
+	{
+		return getValue(COLUMNREF_OrderType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getOrderline_includedTab()
+	{
+		return getValue(COLUMNREF_Orderline_includedTab, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPOReference()
+	{
+		return getValue(COLUMNREF_POReference, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPRINTER_OPTS_IsPrintTotals()
+	{
+		return getValue(COLUMNREF_PRINTER_OPTS_IsPrintTotals, java.lang.String.class);
+	}
+
+	@Override
+	public int getPay_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_Pay_BPartner_ID);
+	}
+
+	@Override
+	public int getPay_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_Pay_Location_ID);
+	}
+
+	@Override
+	public java.lang.String getPaymentRule()
+	{
+		return getValue(COLUMNREF_PaymentRule, java.lang.String.class);
+	}
+
+	@Override
+	public int getPostingError_Issue_ID()
+	{
+		return getValueAsInt(COLUMNREF_PostingError_Issue_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getPreparationDate()
+	{
+		return getValue(COLUMNREF_PreparationDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getPriorityRule()
+	{
+		return getValue(COLUMNREF_PriorityRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPromotionCode()
+	{
+		return getValue(COLUMNREF_PromotionCode, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQty_FastInput()
+	{
+		return getValue(COLUMNREF_Qty_FastInput, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getReceivedVia()
+	{
+		return getValue(COLUMNREF_ReceivedVia, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getRef_DateOrder()
+	{
+		return getValue(COLUMNREF_Ref_DateOrder, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getRef_Order()
+	{
+		return getReferencedModel(MODELREF_Ref_Order);
+	}
+
+	@Override
+	public int getRef_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_Order_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getRef_Proposal()
+	{
+		return getReferencedModel(MODELREF_Ref_Proposal);
+	}
+
+	@Override
+	public int getRef_Proposal_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_Proposal_ID);
+	}
+
+	@Override
+	public int getRef_RMA_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_RMA_ID);
+	}
+
+	@Override
+	public java.lang.String getSalesPartnerCode()
+	{
+		return getValue(COLUMNREF_SalesPartnerCode, java.lang.String.class);
+	}
+
+	@Override
+	public int getSalesRepIntern_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRepIntern_ID);
+	}
+
+	@Override
+	public int getSalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRep_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getTotalLines()
+	{
+		return getValue(COLUMNREF_TotalLines, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser1()
+	{
+		return getReferencedModel(MODELREF_User1);
+	}
+
+	@Override
+	public int getUser1_ID()
+	{
+		return getValueAsInt(COLUMNREF_User1_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser2()
+	{
+		return getReferencedModel(MODELREF_User2);
+	}
+
+	@Override
+	public int getUser2_ID()
+	{
+		return getValueAsInt(COLUMNREF_User2_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getVolume()
+	{
+		return getValue(COLUMNREF_Volume, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getWeight()
+	{
+		return getValue(COLUMNREF_Weight, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getreturnDate()
+	{
+		return getValue(COLUMNREF_returnDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isApproved()
+	{
+		return getValueAsBoolean(BOOLEANREF_Approved);
+	}
+
+	@Override
+	public boolean isCreditApproved()
+	{
+		return getValueAsBoolean(BOOLEANREF_CreditApproved);
+	}
+
+	@Override
+	public boolean isDelivered()
+	{
+		return getValueAsBoolean(BOOLEANREF_Delivered);
+	}
+
+	@Override
+	public boolean isDiscountPrinted()
+	{
+		return getValueAsBoolean(BOOLEANREF_DiscountPrinted);
+	}
+
+	@Override
+	public boolean isDropShip()
+	{
+		return getValueAsBoolean(BOOLEANREF_DropShip);
+	}
+
+	@Override
+	public boolean isInvoiced()
+	{
+		return getValueAsBoolean(BOOLEANREF_Invoiced);
+	}
+
+	@Override
+	public boolean isPosted()
+	{
+		return getValueAsBoolean(BOOLEANREF_Posted);
+	}
+
+	@Override
+	public boolean isPrinted()
+	{
+		return getValueAsBoolean(BOOLEANREF_Printed);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public boolean isProcessing()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processing);
+	}
+
+	@Override
+	public boolean isSOTrx()
+	{
+		return getValueAsBoolean(BOOLEANREF_SOTrx);
+	}
+
+	@Override
+	public boolean isSalesPartnerRequired()
+	{
+		return getValueAsBoolean(BOOLEANREF_SalesPartnerRequired);
+	}
+
+	@Override
+	public boolean isSelected()
+	{
+		return getValueAsBoolean(BOOLEANREF_Selected);
+	}
+
+	@Override
+	public boolean isSelfService()
+	{
+		return getValueAsBoolean(BOOLEANREF_SelfService);
+	}
+
+	@Override
+	public boolean isSendEMail()
+	{
+		return getValueAsBoolean(BOOLEANREF_SendEMail);
+	}
+
+	@Override
+	public boolean isTaxIncluded()
+	{
+		return getValueAsBoolean(BOOLEANREF_TaxIncluded);
+	}
+
+	@Override
+	public boolean isTransferred()
+	{
+		return getValueAsBoolean(BOOLEANREF_Transferred);
+	}
+
+	@Override
+	public boolean isUseBPartnerAddress()
+	{
+		return getValueAsBoolean(BOOLEANREF_UseBPartnerAddress);
+	}
+
+	@Override
+	public boolean isUseBillToAddress()
+	{
+		return getValueAsBoolean(BOOLEANREF_UseBillToAddress);
+	}
+
+	@Override
+	public boolean isUseDeliveryToAddress()
+	{
+		return getValueAsBoolean(BOOLEANREF_UseDeliveryToAddress);
+	}
+
+	@Override
+	public boolean isUseHandOver_Location()
+	{
+		return getValueAsBoolean(BOOLEANREF_UseHandOver_Location);
+	}
+
+	@Override
+	public void setAD_OrgTrx_ID(final int AD_OrgTrx_ID)
+	{
+		setValue("AD_OrgTrx_ID", AD_OrgTrx_ID);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAD_User_ID(final int AD_User_ID)
+	{
+		setValue("AD_User_ID", AD_User_ID);
+	}
+
+	@Override
+	public void setAmountRefunded(final java.math.BigDecimal AmountRefunded)
+	{
+		setValue("AmountRefunded", AmountRefunded);
+	}
+
+	@Override
+	public void setAmountTendered(final java.math.BigDecimal AmountTendered)
+	{
+		setValue("AmountTendered", AmountTendered);
+	}
+
+	@Override
+	public void setBPartnerAddress(final java.lang.String BPartnerAddress)
+	{
+		setValue("BPartnerAddress", BPartnerAddress);
+	}
+
+	@Override
+	public void setBillToAddress(final java.lang.String BillToAddress)
+	{
+		setValue("BillToAddress", BillToAddress);
+	}
+
+	@Override
+	public void setBill_BPartner_ID(final int Bill_BPartner_ID)
+	{
+		setValue("Bill_BPartner_ID", Bill_BPartner_ID);
+	}
+
+	@Override
+	public void setBill_BPartner_Memo(final java.lang.String Bill_BPartner_Memo)
+	{
+		setValue("Bill_BPartner_Memo", Bill_BPartner_Memo);
+	}
+
+	@Override
+	public void setBill_Location_ID(final int Bill_Location_ID)
+	{
+		setValue("Bill_Location_ID", Bill_Location_ID);
+	}
+
+	@Override
+	public void setBill_User_ID(final int Bill_User_ID)
+	{
+		setValue("Bill_User_ID", Bill_User_ID);
+	}
+
+	@Override
+	public void setC_Activity_ID(final int C_Activity_ID)
+	{
+		setValue("C_Activity_ID", C_Activity_ID);
+	}
+
+	@Override
+	public void setC_BP_BankAccount_ID(final int C_BP_BankAccount_ID)
+	{
+		setValue("C_BP_BankAccount_ID", C_BP_BankAccount_ID);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Location_ID(final int C_BPartner_Location_ID)
+	{
+		setValue("C_BPartner_Location_ID", C_BPartner_Location_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Memo(final java.lang.String C_BPartner_Memo)
+	{
+		setValue("C_BPartner_Memo", C_BPartner_Memo);
+	}
+
+	@Override
+	public void setC_BPartner_SalesRep_ID(final int C_BPartner_SalesRep_ID)
+	{
+		setValue("C_BPartner_SalesRep_ID", C_BPartner_SalesRep_ID);
+	}
+
+	@Override
+	public void setC_Campaign(final org.compiere.model.I_C_Campaign C_Campaign)
+	{
+		setValueFromPO("C_Campaign_ID", org.compiere.model.I_C_Campaign.class, C_Campaign);
+	}
+
+	@Override
+	public void setC_Campaign_ID(final int C_Campaign_ID)
+	{
+		setValue("C_Campaign_ID", C_Campaign_ID);
+	}
+
+	@Override
+	public void setC_CashLine(final org.compiere.model.I_C_CashLine C_CashLine)
+	{
+		setValueFromPO("C_CashLine_ID", org.compiere.model.I_C_CashLine.class, C_CashLine);
+	}
+
+	@Override
+	public void setC_CashLine_ID(final int C_CashLine_ID)
+	{
+		setValue("C_CashLine_ID", C_CashLine_ID);
+	}
+
+	@Override
+	public void setC_Charge_ID(final int C_Charge_ID)
+	{
+		setValue("C_Charge_ID", C_Charge_ID);
+	}
+
+	@Override
+	public void setC_ConversionType_ID(final int C_ConversionType_ID)
+	{
+		setValue("C_ConversionType_ID", C_ConversionType_ID);
+	}
+
+	@Override
+	public void setC_Currency_ID(final int C_Currency_ID)
+	{
+		setValue("C_Currency_ID", C_Currency_ID);
+	}
+
+	@Override
+	public void setC_DocTypeTarget_ID(final int C_DocTypeTarget_ID)
+	{
+		setValue("C_DocTypeTarget_ID", C_DocTypeTarget_ID);
+	}
+
+	@Override
+	public void setC_DocType_ID(final int C_DocType_ID)
+	{
+		setValue("C_DocType_ID", C_DocType_ID);
+	}
+
+	@Override
+	public void setC_Order_ID(final int C_Order_ID)
+	{
+		setValue("C_Order_ID", C_Order_ID);
+	}
+
+	@Override
+	public void setC_POS(final org.compiere.model.I_C_POS C_POS)
+	{
+		setValueFromPO("C_POS_ID", org.compiere.model.I_C_POS.class, C_POS);
+	}
+
+	@Override
+	public void setC_POS_ID(final int C_POS_ID)
+	{
+		setValue("C_POS_ID", C_POS_ID);
+	}
+
+	@Override
+	public void setC_PaymentTerm_ID(final int C_PaymentTerm_ID)
+	{
+		setValue("C_PaymentTerm_ID", C_PaymentTerm_ID);
+	}
+
+	@Override
+	public void setC_Payment_ID(final int C_Payment_ID)
+	{
+		setValue("C_Payment_ID", C_Payment_ID);
+	}
+
+	@Override
+	public void setC_Project_ID(final int C_Project_ID)
+	{
+		setValue("C_Project_ID", C_Project_ID);
+	}
+
+	@Override
+	public void setChargeAmt(final java.math.BigDecimal ChargeAmt)
+	{
+		setValue("ChargeAmt", ChargeAmt);
+	}
+
+	@Override
+	public void setCompleteOrderDiscount(final java.math.BigDecimal CompleteOrderDiscount)
+	{
+		setValue("CompleteOrderDiscount", CompleteOrderDiscount);
+	}
+
+	@Override
+	public void setCopyFrom(final java.lang.String CopyFrom)
+	{
+		setValue("CopyFrom", CopyFrom);
+	}
+
+	@Override
+	public void setCreateCopy(final java.lang.String CreateCopy)
+	{
+		setValue("CreateCopy", CreateCopy);
+	}
+
+	@Override
+	public void setCreateNewFromProposal(final java.lang.String CreateNewFromProposal)
+	{
+		setValue("CreateNewFromProposal", CreateNewFromProposal);
+	}
+
+	@Override
+	public void setDateAcct(final java.sql.Timestamp DateAcct)
+	{
+		setValue("DateAcct", DateAcct);
+	}
+
+	@Override
+	public void setDateOrdered(final java.sql.Timestamp DateOrdered)
+	{
+		setValue("DateOrdered", DateOrdered);
+	}
+
+	@Override
+	public void setDatePrinted(final java.sql.Timestamp DatePrinted)
+	{
+		setValue("DatePrinted", DatePrinted);
+	}
+
+	@Override
+	public void setDatePromised(final java.sql.Timestamp DatePromised)
+	{
+		setValue("DatePromised", DatePromised);
+	}
+
+	@Override
+	public void setDeliveryInfo(final java.lang.String DeliveryInfo)
+	{
+		setValue("DeliveryInfo", DeliveryInfo);
+	}
+
+	@Override
+	public void setDeliveryRule(final java.lang.String DeliveryRule)
+	{
+		setValue("DeliveryRule", DeliveryRule);
+	}
+
+	@Override
+	public void setDeliveryToAddress(final java.lang.String DeliveryToAddress)
+	{
+		setValue("DeliveryToAddress", DeliveryToAddress);
+	}
+
+	@Override
+	public void setDeliveryViaRule(final java.lang.String DeliveryViaRule)
+	{
+		setValue("DeliveryViaRule", DeliveryViaRule);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setDescriptionBottom(final java.lang.String DescriptionBottom)
+	{
+		setValue("DescriptionBottom", DescriptionBottom);
+	}
+
+	@Override
+	public void setDocAction(final java.lang.String DocAction)
+	{
+		setValue("DocAction", DocAction);
+	}
+
+	@Override
+	public void setDocStatus(final java.lang.String DocStatus)
+	{
+		setValue("DocStatus", DocStatus);
+	}
+
+	@Override
+	public void setDocumentNo(final java.lang.String DocumentNo)
+	{
+		setValue("DocumentNo", DocumentNo);
+	}
+
+	@Override
+	public void setDropShip_BPartner_ID(final int DropShip_BPartner_ID)
+	{
+		setValue("DropShip_BPartner_ID", DropShip_BPartner_ID);
+	}
+
+	@Override
+	public void setDropShip_BPartner_Memo(final java.lang.String DropShip_BPartner_Memo)
+	{
+		setValue("DropShip_BPartner_Memo", DropShip_BPartner_Memo);
+	}
+
+	@Override
+	public void setDropShip_Location_ID(final int DropShip_Location_ID)
+	{
+		setValue("DropShip_Location_ID", DropShip_Location_ID);
+	}
+
+	@Override
+	public void setDropShip_User_ID(final int DropShip_User_ID)
+	{
+		setValue("DropShip_User_ID", DropShip_User_ID);
+	}
+
+	@Override
+	public void setExternalId(final java.lang.String ExternalId)
+	{
+		setValue("ExternalId", ExternalId);
+	}
+
+	@Override
+	public void setFreightAmt(final java.math.BigDecimal FreightAmt)
+	{
+		setValue("FreightAmt", FreightAmt);
+	}
+
+	@Override
+	public void setFreightCostRule(final java.lang.String FreightCostRule)
+	{
+		setValue("FreightCostRule", FreightCostRule);
+	}
+
+	@Override
+	public void setGrandTotal(final java.math.BigDecimal GrandTotal)
+	{
+		setValue("GrandTotal", GrandTotal);
+	}
+
+	@Override
+	public void setHandOverAddress(final java.lang.String HandOverAddress)
+	{
+		setValue("HandOverAddress", HandOverAddress);
+	}
+
+	@Override
+	public void setHandOver_BPartner_Memo(final java.lang.String HandOver_BPartner_Memo)
+	{
+		setValue("HandOver_BPartner_Memo", HandOver_BPartner_Memo);
+	}
+
+	@Override
+	public void setHandOver_Location_ID(final int HandOver_Location_ID)
+	{
+		setValue("HandOver_Location_ID", HandOver_Location_ID);
+	}
+
+	@Override
+	public void setHandOver_Partner_ID(final int HandOver_Partner_ID)
+	{
+		setValue("HandOver_Partner_ID", HandOver_Partner_ID);
+	}
+
+	@Override
+	public void setHandOver_User_ID(final int HandOver_User_ID)
+	{
+		setValue("HandOver_User_ID", HandOver_User_ID);
+	}
+
+	@Override
+	public void setIncoterm(final java.lang.String Incoterm)
+	{
+		setValue("Incoterm", Incoterm);
+	}
+
+	@Override
+	public void setIncotermLocation(final java.lang.String IncotermLocation)
+	{
+		setValue("IncotermLocation", IncotermLocation);
+	}
+
+	@Override
+	public void setInvoiceRule(final java.lang.String InvoiceRule)
+	{
+		setValue("InvoiceRule", InvoiceRule);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsApproved(final boolean IsApproved)
+	{
+		setValue("IsApproved", IsApproved);
+	}
+
+	@Override
+	public void setIsCreditApproved(final boolean IsCreditApproved)
+	{
+		setValue("IsCreditApproved", IsCreditApproved);
+	}
+
+	@Override
+	public void setIsDelivered(final boolean IsDelivered)
+	{
+		setValue("IsDelivered", IsDelivered);
+	}
+
+	@Override
+	public void setIsDiscountPrinted(final boolean IsDiscountPrinted)
+	{
+		setValue("IsDiscountPrinted", IsDiscountPrinted);
+	}
+
+	@Override
+	public void setIsDropShip(final boolean IsDropShip)
+	{
+		setValue("IsDropShip", IsDropShip);
+	}
+
+	@Override
+	public void setIsInvoiced(final boolean IsInvoiced)
+	{
+		setValue("IsInvoiced", IsInvoiced);
+	}
+
+	@Override
+	public void setIsPrinted(final boolean IsPrinted)
+	{
+		setValue("IsPrinted", IsPrinted);
+	}
+
+	@Override
+	public void setIsSOTrx(final boolean IsSOTrx)
+	{
+		setValue("IsSOTrx", IsSOTrx);
+	}
+
+	@Override
+	public void setIsSalesPartnerRequired(final boolean IsSalesPartnerRequired)
+	{
+		setValue("IsSalesPartnerRequired", IsSalesPartnerRequired);
+	}
+
+	@Override
+	public void setIsSelected(final boolean IsSelected)
+	{
+		setValue("IsSelected", IsSelected);
+	}
+
+	@Override
+	public void setIsSelfService(final boolean IsSelfService)
+	{
+		setValue("IsSelfService", IsSelfService);
+	}
+
+	@Override
+	public void setIsTaxIncluded(final boolean IsTaxIncluded)
+	{
+		setValue("IsTaxIncluded", IsTaxIncluded);
+	}
+
+	@Override
+	public void setIsTransferred(final boolean IsTransferred)
+	{
+		setValue("IsTransferred", IsTransferred);
+	}
+
+	@Override
+	public void setIsUseBPartnerAddress(final boolean IsUseBPartnerAddress)
+	{
+		setValue("IsUseBPartnerAddress", IsUseBPartnerAddress);
+	}
+
+	@Override
+	public void setIsUseBillToAddress(final boolean IsUseBillToAddress)
+	{
+		setValue("IsUseBillToAddress", IsUseBillToAddress);
+	}
+
+	@Override
+	public void setIsUseDeliveryToAddress(final boolean IsUseDeliveryToAddress)
+	{
+		setValue("IsUseDeliveryToAddress", IsUseDeliveryToAddress);
+	}
+
+	@Override
+	public void setIsUseHandOver_Location(final boolean IsUseHandOver_Location)
+	{
+		setValue("IsUseHandOver_Location", IsUseHandOver_Location);
+	}
+
+	@Override
+	public void setLink_Order(final org.compiere.model.I_C_Order Link_Order)
+	{
+		setValueFromPO("Link_Order_ID", org.compiere.model.I_C_Order.class, Link_Order);
+	}
+
+	@Override
+	public void setLink_Order_ID(final int Link_Order_ID)
+	{
+		setValue("Link_Order_ID", Link_Order_ID);
+	}
+
+	@Override
+	public void setM_FreightCategory(final org.compiere.model.I_M_FreightCategory M_FreightCategory)
+	{
+		setValueFromPO("M_FreightCategory_ID", org.compiere.model.I_M_FreightCategory.class, M_FreightCategory);
+	}
+
+	@Override
+	public void setM_FreightCategory_ID(final int M_FreightCategory_ID)
+	{
+		setValue("M_FreightCategory_ID", M_FreightCategory_ID);
+	}
+
+	@Override
+	public void setM_PriceList_ID(final int M_PriceList_ID)
+	{
+		setValue("M_PriceList_ID", M_PriceList_ID);
+	}
+
+	@Override
+	public void setM_PricingSystem_ID(final int M_PricingSystem_ID)
+	{
+		setValue("M_PricingSystem_ID", M_PricingSystem_ID);
+	}
+
+	@Override
+	public void setM_Product_ID(final int M_Product_ID)
+	{
+		setValue("M_Product_ID", M_Product_ID);
+	}
+
+	@Override
+	public void setM_Shipper(final org.compiere.model.I_M_Shipper M_Shipper)
+	{
+		setValueFromPO("M_Shipper_ID", org.compiere.model.I_M_Shipper.class, M_Shipper);
+	}
+
+	@Override
+	public void setM_Shipper_ID(final int M_Shipper_ID)
+	{
+		setValue("M_Shipper_ID", M_Shipper_ID);
+	}
+
+	@Override
+	public void setM_Tour_ID(final int M_Tour_ID)
+	{
+		setValue("M_Tour_ID", M_Tour_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_ID(final int M_Warehouse_ID)
+	{
+		setValue("M_Warehouse_ID", M_Warehouse_ID);
+	}
+
+	@Override
+	public void setOfferValidDate(final java.sql.Timestamp OfferValidDate)
+	{
+		setValue("OfferValidDate", OfferValidDate);
+	}
+
+	@Override
+	public void setOfferValidDays(final int OfferValidDays)
+	{
+		setValue("OfferValidDays", OfferValidDays);
+	}
+
+	@Override
+	public void setOrderType(final java.lang.String OrderType)
+	{
+		setValue("OrderType", OrderType);
+	}
+
+	@Override
+	public void setOrderline_includedTab(final java.lang.String Orderline_includedTab)
+	{
+		setValue("Orderline_includedTab", Orderline_includedTab);
+	}
+
+	@Override
+	public void setPOReference(final java.lang.String POReference)
+	{
+		setValue("POReference", POReference);
+	}
+
+	@Override
+	public void setPRINTER_OPTS_IsPrintTotals(final java.lang.String PRINTER_OPTS_IsPrintTotals)
+	{
+		setValue("PRINTER_OPTS_IsPrintTotals", PRINTER_OPTS_IsPrintTotals);
+	}
+
+	@Override
+	public void setPay_BPartner_ID(final int Pay_BPartner_ID)
+	{
+		setValue("Pay_BPartner_ID", Pay_BPartner_ID);
+	}
+
+	@Override
+	public void setPay_Location_ID(final int Pay_Location_ID)
+	{
+		setValue("Pay_Location_ID", Pay_Location_ID);
+	}
+
+	@Override
+	public void setPaymentRule(final java.lang.String PaymentRule)
+	{
+		setValue("PaymentRule", PaymentRule);
+	}
+
+	@Override
+	public void setPosted(final boolean Posted)
+	{
+		setValue("Posted", Posted);
+	}
+
+	@Override
+	public void setPostingError_Issue_ID(final int PostingError_Issue_ID)
+	{
+		setValue("PostingError_Issue_ID", PostingError_Issue_ID);
+	}
+
+	@Override
+	public void setPreparationDate(final java.sql.Timestamp PreparationDate)
+	{
+		setValue("PreparationDate", PreparationDate);
+	}
+
+	@Override
+	public void setPriorityRule(final java.lang.String PriorityRule)
+	{
+		setValue("PriorityRule", PriorityRule);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setProcessing(final boolean Processing)
+	{
+		setValue("Processing", Processing);
+	}
+
+	@Override
+	public void setPromotionCode(final java.lang.String PromotionCode)
+	{
+		setValue("PromotionCode", PromotionCode);
+	}
+
+	@Override
+	public void setQty_FastInput(final java.math.BigDecimal Qty_FastInput)
+	{
+		setValue("Qty_FastInput", Qty_FastInput);
+	}
+
+	@Override
+	public void setReceivedVia(final java.lang.String ReceivedVia)
+	{
+		setValue("ReceivedVia", ReceivedVia);
+	}
+
+	@Override
+	public void setRef_DateOrder(final java.sql.Timestamp Ref_DateOrder)
+	{
+		setValue("Ref_DateOrder", Ref_DateOrder);
+	}
+
+	@Override
+	public void setRef_Order(final org.compiere.model.I_C_Order Ref_Order)
+	{
+		setValueFromPO("Ref_Order_ID", org.compiere.model.I_C_Order.class, Ref_Order);
+	}
+
+	@Override
+	public void setRef_Order_ID(final int Ref_Order_ID)
+	{
+		setValue("Ref_Order_ID", Ref_Order_ID);
+	}
+
+	@Override
+	public void setRef_Proposal(final org.compiere.model.I_C_Order Ref_Proposal)
+	{
+		setValueFromPO("Ref_Proposal_ID", org.compiere.model.I_C_Order.class, Ref_Proposal);
+	}
+
+	@Override
+	public void setRef_Proposal_ID(final int Ref_Proposal_ID)
+	{
+		setValue("Ref_Proposal_ID", Ref_Proposal_ID);
+	}
+
+	@Override
+	public void setRef_RMA_ID(final int Ref_RMA_ID)
+	{
+		setValue("Ref_RMA_ID", Ref_RMA_ID);
+	}
+
+	@Override
+	public void setSalesPartnerCode(final java.lang.String SalesPartnerCode)
+	{
+		setValue("SalesPartnerCode", SalesPartnerCode);
+	}
+
+	@Override
+	public void setSalesRepIntern_ID(final int SalesRepIntern_ID)
+	{
+		setValue("SalesRepIntern_ID", SalesRepIntern_ID);
+	}
+
+	@Override
+	public void setSalesRep_ID(final int SalesRep_ID)
+	{
+		setValue("SalesRep_ID", SalesRep_ID);
+	}
+
+	@Override
+	public void setSendEMail(final boolean SendEMail)
+	{
+		setValue("SendEMail", SendEMail);
+	}
+
+	@Override
+	public void setTotalLines(final java.math.BigDecimal TotalLines)
+	{
+		setValue("TotalLines", TotalLines);
+	}
+
+	@Override
+	public void setUser1(final org.compiere.model.I_C_ElementValue User1)
+	{
+		setValueFromPO("User1_ID", org.compiere.model.I_C_ElementValue.class, User1);
+	}
+
+	@Override
+	public void setUser1_ID(final int User1_ID)
+	{
+		setValue("User1_ID", User1_ID);
+	}
+
+	@Override
+	public void setUser2(final org.compiere.model.I_C_ElementValue User2)
+	{
+		setValueFromPO("User2_ID", org.compiere.model.I_C_ElementValue.class, User2);
+	}
+
+	@Override
+	public void setUser2_ID(final int User2_ID)
+	{
+		setValue("User2_ID", User2_ID);
+	}
+
+	@Override
+	public void setVolume(final java.math.BigDecimal Volume)
+	{
+		setValue("Volume", Volume);
+	}
+
+	@Override
+	public void setWeight(final java.math.BigDecimal Weight)
+	{
+		setValue("Weight", Weight);
+	}
+
+	@Override
+	public void setreturnDate(final java.sql.Timestamp returnDate)
+	{
+		setValue("returnDate", returnDate);
+	}
+}
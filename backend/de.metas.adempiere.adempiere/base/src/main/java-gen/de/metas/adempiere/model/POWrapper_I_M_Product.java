@@ -0,0 +1,1139 @@
+package de.metas.adempiere.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.adempiere.model.I_M_Product}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_M_Product extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.adempiere.model.I_M_Product
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_BOM = ColumnRef.ofBooleanProperty("BOM");
+	private static final ColumnRef BOOLEANREF_Commissioned = ColumnRef.ofBooleanProperty("Commissioned");
+	private static final ColumnRef BOOLEANREF_Discontinued = ColumnRef.ofBooleanProperty("Discontinued");
+	private static final ColumnRef BOOLEANREF_Diverse = ColumnRef.ofBooleanProperty("Diverse");
+	private static final ColumnRef BOOLEANREF_DropShip = ColumnRef.ofBooleanProperty("DropShip");
+	private static final ColumnRef BOOLEANREF_ExcludeAutoDelivery = ColumnRef.ofBooleanProperty("ExcludeAutoDelivery");
+	private static final ColumnRef BOOLEANREF_HaddexCheck = ColumnRef.ofBooleanProperty("HaddexCheck");
+	private static final ColumnRef BOOLEANREF_InvoicePrintDetails = ColumnRef.ofBooleanProperty("InvoicePrintDetails");
+	private static final ColumnRef BOOLEANREF_Manufactured = ColumnRef.ofBooleanProperty("Manufactured");
+	private static final ColumnRef BOOLEANREF_PickListPrintDetails = ColumnRef.ofBooleanProperty("PickListPrintDetails");
+	private static final ColumnRef BOOLEANREF_Processing = ColumnRef.ofBooleanProperty("Processing");
+	private static final ColumnRef BOOLEANREF_Purchased = ColumnRef.ofBooleanProperty("Purchased");
+	private static final ColumnRef BOOLEANREF_QuotationGroupping = ColumnRef.ofBooleanProperty("QuotationGroupping");
+	private static final ColumnRef BOOLEANREF_SelfService = ColumnRef.ofBooleanProperty("SelfService");
+	private static final ColumnRef BOOLEANREF_Sold = ColumnRef.ofBooleanProperty("Sold");
+	private static final ColumnRef BOOLEANREF_Stocked = ColumnRef.ofBooleanProperty("Stocked");
+	private static final ColumnRef BOOLEANREF_Summary = ColumnRef.ofBooleanProperty("Summary");
+	private static final ColumnRef BOOLEANREF_Verified = ColumnRef.ofBooleanProperty("Verified");
+	private static final ColumnRef BOOLEANREF_WebStoreFeatured = ColumnRef.ofBooleanProperty("WebStoreFeatured");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_Additional_produktinfos = ColumnRef.ofColumnName("Additional_produktinfos");
+	private static final ColumnRef COLUMNREF_C_RevenueRecognition_ID = ColumnRef.ofColumnName("C_RevenueRecognition_ID");
+	private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName("C_UOM_ID");
+	private static final ColumnRef COLUMNREF_Classification = ColumnRef.ofColumnName("Classification");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_CustomerLabelName = ColumnRef.ofColumnName("CustomerLabelName");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_DescriptionURL = ColumnRef.ofColumnName("DescriptionURL");
+	private static final ColumnRef COLUMNREF_DiscontinuedBy = ColumnRef.ofColumnName("DiscontinuedBy");
+	private static final ColumnRef COLUMNREF_DocumentNote = ColumnRef.ofColumnName("DocumentNote");
+	private static final ColumnRef COLUMNREF_ExternalId = ColumnRef.ofColumnName("ExternalId");
+	private static final ColumnRef COLUMNREF_GTIN = ColumnRef.ofColumnName("GTIN");
+	private static final ColumnRef COLUMNREF_Group1 = ColumnRef.ofColumnName("Group1");
+	private static final ColumnRef COLUMNREF_Group2 = ColumnRef.ofColumnName("Group2");
+	private static final ColumnRef COLUMNREF_GroupCompensationAmtType = ColumnRef.ofColumnName("GroupCompensationAmtType");
+	private static final ColumnRef COLUMNREF_GroupCompensationType = ColumnRef.ofColumnName("GroupCompensationType");
+	private static final ColumnRef COLUMNREF_GuaranteeDaysMin = ColumnRef.ofColumnName("GuaranteeDaysMin");
+	private static final ColumnRef COLUMNREF_Help = ColumnRef.ofColumnName("Help");
+	private static final ColumnRef COLUMNREF_ImageURL = ColumnRef.ofColumnName("ImageURL");
+	private static final ColumnRef COLUMNREF_Ingredients = ColumnRef.ofColumnName("Ingredients");
+	private static final ColumnRef COLUMNREF_IsCategoryProduct = ColumnRef.ofColumnName("IsCategoryProduct");
+	private static final ColumnRef COLUMNREF_LowLevel = ColumnRef.ofColumnName("LowLevel");
+	private static final ColumnRef COLUMNREF_MRP_Exclude = ColumnRef.ofColumnName("MRP_Exclude");
+	private static final ColumnRef COLUMNREF_M_AttributeSetInstance_ID = ColumnRef.ofColumnName("M_AttributeSetInstance_ID");
+	private static final ColumnRef COLUMNREF_M_AttributeSet_ID = ColumnRef.ofColumnName("M_AttributeSet_ID");
+	private static final ColumnRef COLUMNREF_M_CommodityNumber_ID = ColumnRef.ofColumnName("M_CommodityNumber_ID");
+	private static final ColumnRef COLUMNREF_M_CustomsTariff_ID = ColumnRef.ofColumnName("M_CustomsTariff_ID");
+	private static final ColumnRef COLUMNREF_M_FreightCategory_ID = ColumnRef.ofColumnName("M_FreightCategory_ID");
+	private static final ColumnRef COLUMNREF_M_Locator_ID = ColumnRef.ofColumnName("M_Locator_ID");
+	private static final ColumnRef COLUMNREF_M_ProductPlanningSchema_Selector = ColumnRef.ofColumnName("M_ProductPlanningSchema_Selector");
+	private static final ColumnRef COLUMNREF_M_Product_Category_ID = ColumnRef.ofColumnName("M_Product_Category_ID");
+	private static final ColumnRef COLUMNREF_M_Product_ID = ColumnRef.ofColumnName("M_Product_ID");
+	private static final ColumnRef COLUMNREF_Manufacturer_ID = ColumnRef.ofColumnName("Manufacturer_ID");
+	private static final ColumnRef COLUMNREF_Name = ColumnRef.ofColumnName("Name");
+	private static final ColumnRef COLUMNREF_NetWeight = ColumnRef.ofColumnName("NetWeight");
+	private static final ColumnRef COLUMNREF_PackageSize = ColumnRef.ofColumnName("PackageSize");
+	private static final ColumnRef COLUMNREF_Package_UOM_ID = ColumnRef.ofColumnName("Package_UOM_ID");
+	private static final ColumnRef COLUMNREF_ProductType = ColumnRef.ofColumnName("ProductType");
+	private static final ColumnRef COLUMNREF_R_MailText_ID = ColumnRef.ofColumnName("R_MailText_ID");
+	private static final ColumnRef COLUMNREF_RawMaterialOrigin_ID = ColumnRef.ofColumnName("RawMaterialOrigin_ID");
+	private static final ColumnRef COLUMNREF_SKU = ColumnRef.ofColumnName("SKU");
+	private static final ColumnRef COLUMNREF_S_ExpenseType_ID = ColumnRef.ofColumnName("S_ExpenseType_ID");
+	private static final ColumnRef COLUMNREF_S_Resource_ID = ColumnRef.ofColumnName("S_Resource_ID");
+	private static final ColumnRef COLUMNREF_SalesRep_ID = ColumnRef.ofColumnName("SalesRep_ID");
+	private static final ColumnRef COLUMNREF_ShelfDepth = ColumnRef.ofColumnName("ShelfDepth");
+	private static final ColumnRef COLUMNREF_ShelfHeight = ColumnRef.ofColumnName("ShelfHeight");
+	private static final ColumnRef COLUMNREF_ShelfWidth = ColumnRef.ofColumnName("ShelfWidth");
+	private static final ColumnRef COLUMNREF_UPC = ColumnRef.ofColumnName("UPC");
+	private static final ColumnRef COLUMNREF_UnitsPerPack = ColumnRef.ofColumnName("UnitsPerPack");
+	private static final ColumnRef COLUMNREF_UnitsPerPallet = ColumnRef.ofColumnName("UnitsPerPallet");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_Value = ColumnRef.ofColumnName("Value");
+	private static final ColumnRef COLUMNREF_VersionNo = ColumnRef.ofColumnName("VersionNo");
+	private static final ColumnRef COLUMNREF_Volume = ColumnRef.ofColumnName("Volume");
+	private static final ColumnRef COLUMNREF_Warehouse_temperature = ColumnRef.ofColumnName("Warehouse_temperature");
+	private static final ColumnRef COLUMNREF_Weight = ColumnRef.ofColumnName("Weight");
+	private static final ModelRef MODELREF_C_RevenueRecognition = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getC_RevenueRecognition", "C_RevenueRecognition_ID");
+	private static final ModelRef MODELREF_M_AttributeSet = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getM_AttributeSet", "M_AttributeSet_ID");
+	private static final ModelRef MODELREF_M_AttributeSetInstance = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getM_AttributeSetInstance", "M_AttributeSetInstance_ID");
+	private static final ModelRef MODELREF_M_CustomsTariff = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getM_CustomsTariff", "M_CustomsTariff_ID");
+	private static final ModelRef MODELREF_M_FreightCategory = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getM_FreightCategory", "M_FreightCategory_ID");
+	private static final ModelRef MODELREF_R_MailText = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getR_MailText", "R_MailText_ID");
+	private static final ModelRef MODELREF_RawMaterialOrigin = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getRawMaterialOrigin", "RawMaterialOrigin_ID");
+	private static final ModelRef MODELREF_S_ExpenseType = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getS_ExpenseType", "S_ExpenseType_ID");
+	private static final ModelRef MODELREF_S_Resource = ModelRef.of(de.metas.adempiere.model.I_M_Product.class, "getS_Resource", "S_Resource_ID");
+
+	public POWrapper_I_M_Product(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public java.lang.String getAdditional_produktinfos()
+	{
+		return getValue(COLUMNREF_Additional_produktinfos, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_RevenueRecognition getC_RevenueRecognition()
+	{
+		return getReferencedModel(MODELREF_C_RevenueRecognition);
+	}
+
+	@Override
+	public int getC_RevenueRecognition_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_RevenueRecognition_ID);
+	}
+
+	@Override
+	public int getC_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_UOM_ID);
+	}
+
+	@Override
+	public java.lang.String getClassification()
+	{
+		return getValue(COLUMNREF_Classification, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.lang.String getCustomerLabelName()
+	{
+		return getValue(COLUMNREF_CustomerLabelName, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDescriptionURL()
+	{
+		return getValue(COLUMNREF_DescriptionURL, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDiscontinuedBy()
+	{
+		return getValue(COLUMNREF_DiscontinuedBy, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDocumentNote()
+	{
+		return getValue(COLUMNREF_DocumentNote, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getExternalId()
+	{
+		return getValue(COLUMNREF_ExternalId, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGTIN()
+	{
+		return getValue(COLUMNREF_GTIN, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGroup1()
+	{
+		return getValue(COLUMNREF_Group1, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGroup2()
+	{
+		return getValue(COLUMNREF_Group2, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGroupCompensationAmtType()
+	{
+		return getValue(COLUMNREF_GroupCompensationAmtType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGroupCompensationType()
+	{
+		return getValue(COLUMNREF_GroupCompensationType, java.lang.String.class);
+	}
+
+	@Override
+	public int getGuaranteeDaysMin()
+	{
+		return getValueAsInt(COLUMNREF_GuaranteeDaysMin);
+	}
+
+	@Override
+	public java.lang.String getHelp()
+	{
+		return getValue(COLUMNREF_Help, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getImageURL()
+	{
+		return getValue(COLUMNREF_ImageURL, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getIngredients()
+	{
+		return getValue(COLUMNREF_Ingredients, java.lang.String.class);
+	}
+
+	@Override
+	public boolean getIsCategoryProduct()
+	{
+		return getValue(COLUMNREF_IsCategoryProduct, boolean.class);
+	}
+
+	@Override
+	public int getLowLevel()
+	{
+		return getValueAsInt(COLUMNREF_LowLevel);
+	}
+
+	@Override
+	public java.lang.String getMRP_Exclude()
+	{
+		return getValue(COLUMNREF_MRP_Exclude, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSet getM_AttributeSet()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSet);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSetInstance getM_AttributeSetInstance()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSetInstance);
+	}
+
+	@Override
+	public int getM_AttributeSetInstance_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public int getM_AttributeSet_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSet_ID);
+	}
+
+	@Override
+	public int getM_CommodityNumber_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_CommodityNumber_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_CustomsTariff getM_CustomsTariff()
+	{
+		return getReferencedModel(MODELREF_M_CustomsTariff);
+	}
+
+	@Override
+	public int getM_CustomsTariff_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_CustomsTariff_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_FreightCategory getM_FreightCategory()
+	{
+		return getReferencedModel(MODELREF_M_FreightCategory);
+	}
+
+	@Override
+	public int getM_FreightCategory_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_FreightCategory_ID);
+	}
+
+	@Override
+	public int getM_Locator_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Locator_ID);
+	}
+
+	@Override
+	public java.lang.String getM_ProductPlanningSchema_Selector()
+	{
+		return getValue(COLUMNREF_M_ProductPlanningSchema_Selector, java.lang.String.class);
+	}
+
+	@Override
+	public int getM_Product_Category_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_Category_ID);
+	}
+
+	@Override
+	public int getM_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_ID);
+	}
+
+	@Override
+	public int getManufacturer_ID()
+	{
+		return getValueAsInt(COLUMNREF_Manufacturer_ID);
+	}
+
+	@Override
+	public java.lang.String getName()
+	{
+		return getValue(COLUMNREF_Name, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getNetWeight()
+	{
+		return getValue(COLUMNREF_NetWeight, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getPackageSize()
+	{
+		return getValue(COLUMNREF_PackageSize, java.lang.String.class);
+	}
+
+	@Override
+	public int getPackage_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_Package_UOM_ID);
+	}
+
+	@Override
+	public java.lang.String getProductType()
+	{
+		return getValue(COLUMNREF_ProductType, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_R_MailText getR_MailText()
+	{
+		return getReferencedModel(MODELREF_R_MailText);
+	}
+
+	@Override
+	public int getR_MailText_ID()
+	{
+		return getValueAsInt(COLUMNREF_R_MailText_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Country getRawMaterialOrigin()
+	{
+		return getReferencedModel(MODELREF_RawMaterialOrigin);
+	}
+
+	@Override
+	public int getRawMaterialOrigin_ID()
+	{
+		return getValueAsInt(COLUMNREF_RawMaterialOrigin_ID);
+	}
+
+	@Override
+	public java.lang.String getSKU()
+	{
+		return getValue(COLUMNREF_SKU, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_S_ExpenseType getS_ExpenseType()
+	{
+		return getReferencedModel(MODELREF_S_ExpenseType);
+	}
+
+	@Override
+	public int getS_ExpenseType_ID()
+	{
+		return getValueAsInt(COLUMNREF_S_ExpenseType_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_S_Resource getS_Resource()
+	{
+		return getReferencedModel(MODELREF_S_Resource);
+	}
+
+	@Override
+	public int getS_Resource_ID()
+	{
+		return getValueAsInt(COLUMNREF_S_Resource_ID);
+	}
+
+	@Override
+	public int getSalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRep_ID);
+	}
+
+	@Override
+	public int getShelfDepth()
+	{
+		return getValueAsInt(COLUMNREF_ShelfDepth);
+	}
+
+	@Override
+	public java.math.BigDecimal getShelfHeight()
+	{
+		return getValue(COLUMNREF_ShelfHeight, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public int getShelfWidth()
+	{
+		return getValueAsInt(COLUMNREF_ShelfWidth);
+	}
+
+	@Override
+	public java.lang.String getUPC()
+	{
+		return getValue(COLUMNREF_UPC, java.lang.String.class);
+	}
+
+	@Override
+	public int getUnitsPerPack()
+	{
+		return getValueAsInt(COLUMNREF_UnitsPerPack);
+	}
+
+	@Override
+	public java.math.BigDecimal getUnitsPerPallet()
+	{
+		return getValue(COLUMNREF_UnitsPerPallet, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public java.lang.String getValue()
+	{
+		return getValue(COLUMNREF_Value, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getVersionNo()
+	{
+		return getValue(COLUMNREF_VersionNo, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getVolume()
+	{
+		return getValue(COLUMNREF_Volume, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getWarehouse_temperature()
+	{
+		return getValue(COLUMNREF_Warehouse_temperature, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getWeight()
+	{
+		return getValue(COLUMNREF_Weight, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isBOM()
+	{
+		return getValueAsBoolean(BOOLEANREF_BOM);
+	}
+
+	@Override
+	public boolean isCommissioned()
+	{
+		return getValueAsBoolean(BOOLEANREF_Commissioned);
+	}
+
+	@Override
+	public boolean isDiscontinued()
+	{
+		return getValueAsBoolean(BOOLEANREF_Discontinued);
+	}
+
+	@Override
+	public boolean isDiverse()
+	{
+		return getValueAsBoolean(BOOLEANREF_Diverse);
+	}
+
+	@Override
+	public boolean isDropShip()
+	{
+		return getValueAsBoolean(BOOLEANREF_DropShip);
+	}
+
+	@Override
+	public boolean isExcludeAutoDelivery()
+	{
+		return getValueAsBoolean(BOOLEANREF_ExcludeAutoDelivery);
+	}
+
+	@Override
+	public boolean isHaddexCheck()
+	{
+		return getValueAsBoolean(BOOLEANREF_HaddexCheck);
+	}
+
+	@Override
+	public boolean isInvoicePrintDetails()
+	{
+		return getValueAsBoolean(BOOLEANREF_InvoicePrintDetails);
+	}
+
+	@Override
+	public boolean isManufactured()
+	{
+		return getValueAsBoolean(BOOLEANREF_Manufactured);
+	}
+
+	@Override
+	public boolean isPickListPrintDetails()
+	{
+		return getValueAsBoolean(BOOLEANREF_PickListPrintDetails);
+	}
+
+	@Override
+	public boolean isProcessing()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processing);
+	}
+
+	@Override
+	public boolean isPurchased()
+	{
+		return getValueAsBoolean(BOOLEANREF_Purchased);
+	}
+
+	@Override
+	public boolean isQuotationGroupping()
+	{
+		return getValueAsBoolean(BOOLEANREF_QuotationGroupping);
+	}
+
+	@Override
+	public boolean isSelfService()
+	{
+		return getValueAsBoolean(BOOLEANREF_SelfService);
+	}
+
+	@Override
+	public boolean isSold()
+	{
+		return getValueAsBoolean(BOOLEANREF_Sold);
+	}
+
+	@Override
+	public boolean isStocked()
+	{
+		return getValueAsBoolean(BOOLEANREF_Stocked);
+	}
+
+	@Override
+	public boolean isSummary()
+	{
+		return getValueAsBoolean(BOOLEANREF_Summary);
+	}
+
+	@Override
+	public boolean isVerified()
+	{
+		return getValueAsBoolean(BOOLEANREF_Verified);
+	}
+
+	@Override
+	public boolean isWebStoreFeatured()
+	{
+		return getValueAsBoolean(BOOLEANREF_WebStoreFeatured);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAdditional_produktinfos(final java.lang.String Additional_produktinfos)
+	{
+		setValue("Additional_produktinfos", Additional_produktinfos);
+	}
+
+	@Override
+	public void setC_RevenueRecognition(final org.compiere.model.I_C_RevenueRecognition C_RevenueRecognition)
+	{
+		setValueFromPO("C_RevenueRecognition_ID", org.compiere.model.I_C_RevenueRecognition.class, C_RevenueRecognition);
+	}
+
+	@Override
+	public void setC_RevenueRecognition_ID(final int C_RevenueRecognition_ID)
+	{
+		setValue("C_RevenueRecognition_ID", C_RevenueRecognition_ID);
+	}
+
+	@Override
+	public void setC_UOM_ID(final int C_UOM_ID)
+	{
+		setValue("C_UOM_ID", C_UOM_ID);
+	}
+
+	@Override
+	public void setClassification(final java.lang.String Classification)
+	{
+		setValue("Classification", Classification);
+	}
+
+	@Override
+	public void setCustomerLabelName(final java.lang.String CustomerLabelName)
+	{
+		setValue("CustomerLabelName", CustomerLabelName);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setDescriptionURL(final java.lang.String DescriptionURL)
+	{
+		setValue("DescriptionURL", DescriptionURL);
+	}
+
+	@Override
+	public void setDiscontinued(final boolean Discontinued)
+	{
+		setValue("Discontinued", Discontinued);
+	}
+
+	@Override
+	public void setDiscontinuedBy(final java.sql.Timestamp DiscontinuedBy)
+	{
+		setValue("DiscontinuedBy", DiscontinuedBy);
+	}
+
+	@Override
+	public void setDiverse(final boolean Diverse)
+	{
+		setValue("Diverse", Diverse);
+	}
+
+	@Override
+	public void setDocumentNote(final java.lang.String DocumentNote)
+	{
+		setValue("DocumentNote", DocumentNote);
+	}
+
+	@Override
+	public void setExternalId(final java.lang.String ExternalId)
+	{
+		setValue("ExternalId", ExternalId);
+	}
+
+	@Override
+	public void setGTIN(final java.lang.String GTIN)
+	{
+		setValue("GTIN", GTIN);
+	}
+
+	@Override
+	public void setGroup1(final java.lang.String Group1)
+	{
+		setValue("Group1", Group1);
+	}
+
+	@Override
+	public void setGroup2(final java.lang.String Group2)
+	{
+		setValue("Group2", Group2);
+	}
+
+	@Override
+	public void setGroupCompensationAmtType(final java.lang.String GroupCompensationAmtType)
+	{
+		setValue("GroupCompensationAmtType", GroupCompensationAmtType);
+	}
+
+	@Override
+	public void setGroupCompensationType(final java.lang.String GroupCompensationType)
+	{
+		setValue("GroupCompensationType", GroupCompensationType);
+	}
+
+	@Override
+	public void setGuaranteeDaysMin(final int GuaranteeDaysMin)
+	{
+		setValue("GuaranteeDaysMin", GuaranteeDaysMin);
+	}
+
+	@Override
+	public void setHaddexCheck(final boolean HaddexCheck)
+	{
+		setValue("HaddexCheck", HaddexCheck);
+	}
+
+	@Override
+	public void setHelp(final java.lang.String Help)
+	{
+		setValue("Help", Help);
+	}
+
+	@Override
+	public void setImageURL(final java.lang.String ImageURL)
+	{
+		setValue("ImageURL", ImageURL);
+	}
+
+	@Override
+	public void setIngredients(final java.lang.String Ingredients)
+	{
+		setValue("Ingredients", Ingredients);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsBOM(final boolean IsBOM)
+	{
+		setValue("IsBOM", IsBOM);
+	}
+
+	@Override
+	public void setIsCategoryProduct(final boolean IsCategoryProduct)
+	{
+		setValue("IsCategoryProduct", IsCategoryProduct);
+	}
+
+	@Override
+	public void setIsCommissioned(final boolean IsCommissioned)
+	{
+		setValue("IsCommissioned", IsCommissioned);
+	}
+
+	@Override
+	public void setIsDropShip(final boolean IsDropShip)
+	{
+		setValue("IsDropShip", IsDropShip);
+	}
+
+	@Override
+	public void setIsExcludeAutoDelivery(final boolean IsExcludeAutoDelivery)
+	{
+		setValue("IsExcludeAutoDelivery", IsExcludeAutoDelivery);
+	}
+
+	@Override
+	public void setIsInvoicePrintDetails(final boolean IsInvoicePrintDetails)
+	{
+		setValue("IsInvoicePrintDetails", IsInvoicePrintDetails);
+	}
+
+	@Override
+	public void setIsManufactured(final boolean IsManufactured)
+	{
+		setValue("IsManufactured", IsManufactured);
+	}
+
+	@Override
+	public void setIsPickListPrintDetails(final boolean IsPickListPrintDetails)
+	{
+		setValue("IsPickListPrintDetails", IsPickListPrintDetails);
+	}
+
+	@Override
+	public void setIsPurchased(final boolean IsPurchased)
+	{
+		setValue("IsPurchased", IsPurchased);
+	}
+
+	@Override
+	public void setIsQuotationGroupping(final boolean IsQuotationGroupping)
+	{
+		setValue("IsQuotationGroupping", IsQuotationGroupping);
+	}
+
+	@Override
+	public void setIsSelfService(final boolean IsSelfService)
+	{
+		setValue("IsSelfService", IsSelfService);
+	}
+
+	@Override
+	public void setIsSold(final boolean IsSold)
+	{
+		setValue("IsSold", IsSold);
+	}
+
+	@Override
+	public void setIsStocked(final boolean IsStocked)
+	{
+		setValue("IsStocked", IsStocked);
+	}
+
+	@Override
+	public void setIsSummary(final boolean IsSummary)
+	{
+		setValue("IsSummary", IsSummary);
+	}
+
+	@Override
+	public void setIsVerified(final boolean IsVerified)
+	{
+		setValue("IsVerified", IsVerified);
+	}
+
+	@Override
+	public void setIsWebStoreFeatured(final boolean IsWebStoreFeatured)
+	{
+		setValue("IsWebStoreFeatured", IsWebStoreFeatured);
+	}
+
+	@Override
+	public void setLowLevel(final int LowLevel)
+	{
+		setValue("LowLevel", LowLevel);
+	}
+
+	@Override
+	public void setMRP_Exclude(final java.lang.String MRP_Exclude)
+	{
+		setValue("MRP_Exclude", MRP_Exclude);
+	}
+
+	@Override
+	public void setM_AttributeSet(final org.compiere.model.I_M_AttributeSet M_AttributeSet)
+	{
+		setValueFromPO("M_AttributeSet_ID", org.compiere.model.I_M_AttributeSet.class, M_AttributeSet);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance(final org.compiere.model.I_M_AttributeSetInstance M_AttributeSetInstance)
+	{
+		setValueFromPO("M_AttributeSetInstance_ID", org.compiere.model.I_M_AttributeSetInstance.class, M_AttributeSetInstance);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance_ID(final int M_AttributeSetInstance_ID)
+	{
+		setValue("M_AttributeSetInstance_ID", M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public void setM_AttributeSet_ID(final int M_AttributeSet_ID)
+	{
+		setValue("M_AttributeSet_ID", M_AttributeSet_ID);
+	}
+
+	@Override
+	public void setM_CommodityNumber_ID(final int M_CommodityNumber_ID)
+	{
+		setValue("M_CommodityNumber_ID", M_CommodityNumber_ID);
+	}
+
+	@Override
+	public void setM_CustomsTariff(final org.compiere.model.I_M_CustomsTariff M_CustomsTariff)
+	{
+		setValueFromPO("M_CustomsTariff_ID", org.compiere.model.I_M_CustomsTariff.class, M_CustomsTariff);
+	}
+
+	@Override
+	public void setM_CustomsTariff_ID(final int M_CustomsTariff_ID)
+	{
+		setValue("M_CustomsTariff_ID", M_CustomsTariff_ID);
+	}
+
+	@Override
+	public void setM_FreightCategory(final org.compiere.model.I_M_FreightCategory M_FreightCategory)
+	{
+		setValueFromPO("M_FreightCategory_ID", org.compiere.model.I_M_FreightCategory.class, M_FreightCategory);
+	}
+
+	@Override
+	public void setM_FreightCategory_ID(final int M_FreightCategory_ID)
+	{
+		setValue("M_FreightCategory_ID", M_FreightCategory_ID);
+	}
+
+	@Override
+	public void setM_Locator_ID(final int M_Locator_ID)
+	{
+		setValue("M_Locator_ID", M_Locator_ID);
+	}
+
+	@Override
+	public void setM_ProductPlanningSchema_Selector(final java.lang.String M_ProductPlanningSchema_Selector)
+	{
+		setValue("M_ProductPlanningSchema_Selector", M_ProductPlanningSchema_Selector);
+	}
+
+	@Override
+	public void setM_Product_Category_ID(final int M_Product_Category_ID)
+	{
+		setValue("M_Product_Category_ID", M_Product_Category_ID);
+	}
+
+	@Override
+	public void setM_Product_ID(final int M_Product_ID)
+	{
+		setValue("M_Product_ID", M_Product_ID);
+	}
+
+	@Override
+	public void setManufacturer_ID(final int Manufacturer_ID)
+	{
+		setValue("Manufacturer_ID", Manufacturer_ID);
+	}
+
+	@Override
+	public void setName(final java.lang.String Name)
+	{
+		setValue("Name", Name);
+	}
+
+	@Override
+	public void setNetWeight(final java.math.BigDecimal NetWeight)
+	{
+		setValue("NetWeight", NetWeight);
+	}
+
+	@Override
+	public void setPackageSize(final java.lang.String PackageSize)
+	{
+		setValue("PackageSize", PackageSize);
+	}
+
+	@Override
+	public void setPackage_UOM_ID(final int Package_UOM_ID)
+	{
+		setValue("Package_UOM_ID", Package_UOM_ID);
+	}
+
+	@Override
+	public void setProcessing(final boolean Processing)
+	{
+		setValue("Processing", Processing);
+	}
+
+	@Override
+	public void setProductType(final java.lang.String ProductType)
+	{
+		setValue("ProductType", ProductType);
+	}
+
+	@Override
+	public void setR_MailText(final org.compiere.model.I_R_MailText R_MailText)
+	{
+		setValueFromPO("R_MailText_ID", org.compiere.model.I_R_MailText.class, R_MailText);
+	}
+
+	@Override
+	public void setR_MailText_ID(final int R_MailText_ID)
+	{
+		setValue("R_MailText_ID", R_MailText_ID);
+	}
+
+	@Override
+	public void setRawMaterialOrigin(final org.compiere.model.I_C_Country RawMaterialOrigin)
+	{
+		setValueFromPO("RawMaterialOrigin_ID", org.compiere.model.I_C_Country.class, RawMaterialOrigin);
+	}
+
+	@Override
+	public void setRawMaterialOrigin_ID(final int RawMaterialOrigin_ID)
+	{
+		setValue("RawMaterialOrigin_ID", RawMaterialOrigin_ID);
+	}
+
+	@Override
+	public void setSKU(final java.lang.String SKU)
+	{
+		setValue("SKU", SKU);
+	}
+
+	@Override
+	public void setS_ExpenseType(final org.compiere.model.I_S_ExpenseType S_ExpenseType)
+	{
+		setValueFromPO("S_ExpenseType_ID", org.compiere.model.I_S_ExpenseType.class, S_ExpenseType);
+	}
+
+	@Override
+	public void setS_ExpenseType_ID(final int S_ExpenseType_ID)
+	{
+		setValue("S_ExpenseType_ID", S_ExpenseType_ID);
+	}
+
+	@Override
+	public void setS_Resource(final org.compiere.model.I_S_Resource S_Resource)
+	{
+		setValueFromPO("S_Resource_ID", org.compiere.model.I_S_Resource.class, S_Resource);
+	}
+
+	@Override
+	public void setS_Resource_ID(final int S_Resource_ID)
+	{
+		setValue("S_Resource_ID", S_Resource_ID);
+	}
+
+	@Override
+	public void setSalesRep_ID(final int SalesRep_ID)
+	{
+		setValue("SalesRep_ID", SalesRep_ID);
+	}
+
+	@Override
+	public void setShelfDepth(final int ShelfDepth)
+	{
+		setValue("ShelfDepth", ShelfDepth);
+	}
+
+	@Override
+	public void setShelfHeight(final java.math.BigDecimal ShelfHeight)
+	{
+		setValue("ShelfHeight", ShelfHeight);
+	}
+
+	@Override
+	public void setShelfWidth(final int ShelfWidth)
+	{
+		setValue("ShelfWidth", ShelfWidth);
+	}
+
+	@Override
+	public void setUPC(final java.lang.String UPC)
+	{
+		setValue("UPC", UPC);
+	}
+
+	@Override
+	public void setUnitsPerPack(final int UnitsPerPack)
+	{
+		setValue("UnitsPerPack", UnitsPerPack);
+	}
+
+	@Override
+	public void setUnitsPerPallet(final java.math.BigDecimal UnitsPerPallet)
+	{
+		setValue("UnitsPerPallet", UnitsPerPallet);
+	}
+
+	@Override
+	public void setValue(final java.lang.String Value)
+	{
+		setValue("Value", Value);
+	}
+
+	@Override
+	public void setVersionNo(final java.lang.String VersionNo)
+	{
+		setValue("VersionNo", VersionNo);
+	}
+
+	@Override
+	public void setVolume(final java.math.BigDecimal Volume)
+	{
+		setValue("Volume", Volume);
+	}
+
+	@Override
+	public void setWarehouse_temperature(final java.lang.String Warehouse_temperature)
+	{
+		setValue("Warehouse_temperature", Warehouse_temperature);
+	}
+
+	@Override
+	public void setWeight(final java.math.BigDecimal Weight)
+	{
+		setValue("Weight", Weight);
+	}
+}
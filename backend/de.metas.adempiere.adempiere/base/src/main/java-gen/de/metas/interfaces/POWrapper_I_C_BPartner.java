@@ -0,0 +1,1908 @@
+package de.metas.interfaces;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.interfaces.I_C_BPartner}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_C_BPartner extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.interfaces.I_C_BPartner
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_AggregatePO = ColumnRef.ofBooleanProperty("AggregatePO");
+	private static final ColumnRef BOOLEANREF_AllowActionPrice = ColumnRef.ofBooleanProperty("AllowActionPrice");
+	private static final ColumnRef BOOLEANREF_AllowConsolidateInOut = ColumnRef.ofBooleanProperty("AllowConsolidateInOut");
+	private static final ColumnRef BOOLEANREF_AllowPriceMutation = ColumnRef.ofBooleanProperty("AllowPriceMutation");
+	private static final ColumnRef BOOLEANREF_CertificateOfRegistrationCustomer = ColumnRef.ofBooleanProperty("CertificateOfRegistrationCustomer");
+	private static final ColumnRef BOOLEANREF_CertificateOfRegistrationVendor = ColumnRef.ofBooleanProperty("CertificateOfRegistrationVendor");
+	private static final ColumnRef BOOLEANREF_Company = ColumnRef.ofBooleanProperty("Company");
+	private static final ColumnRef BOOLEANREF_ContactStatusInfoCustomer = ColumnRef.ofBooleanProperty("ContactStatusInfoCustomer");
+	private static final ColumnRef BOOLEANREF_ContactStatusInfoVendor = ColumnRef.ofBooleanProperty("ContactStatusInfoVendor");
+	private static final ColumnRef BOOLEANREF_CreateDefaultPOReference = ColumnRef.ofBooleanProperty("CreateDefaultPOReference");
+	private static final ColumnRef BOOLEANREF_Customer = ColumnRef.ofBooleanProperty("Customer");
+	private static final ColumnRef BOOLEANREF_DiscountPrinted = ColumnRef.ofBooleanProperty("DiscountPrinted");
+	private static final ColumnRef BOOLEANREF_Employee = ColumnRef.ofBooleanProperty("Employee");
+	private static final ColumnRef BOOLEANREF_GDPCertificateCustomer = ColumnRef.ofBooleanProperty("GDPCertificateCustomer");
+	private static final ColumnRef BOOLEANREF_GDPCertificateVendor = ColumnRef.ofBooleanProperty("GDPCertificateVendor");
+	private static final ColumnRef BOOLEANREF_HaddexCheck = ColumnRef.ofBooleanProperty("HaddexCheck");
+	private static final ColumnRef BOOLEANREF_Manufacturer = ColumnRef.ofBooleanProperty("Manufacturer");
+	private static final ColumnRef BOOLEANREF_OneTime = ColumnRef.ofBooleanProperty("OneTime");
+	private static final ColumnRef BOOLEANREF_POTaxExempt = ColumnRef.ofBooleanProperty("POTaxExempt");
+	private static final ColumnRef BOOLEANREF_Prospect = ColumnRef.ofBooleanProperty("Prospect");
+	private static final ColumnRef BOOLEANREF_QMSCertificateCustomer = ColumnRef.ofBooleanProperty("QMSCertificateCustomer");
+	private static final ColumnRef BOOLEANREF_QMSCertificateVendor = ColumnRef.ofBooleanProperty("QMSCertificateVendor");
+	private static final ColumnRef BOOLEANREF_SEPASigned = ColumnRef.ofBooleanProperty("SEPASigned");
+	private static final ColumnRef BOOLEANREF_SalesPartnerRequired = ColumnRef.ofBooleanProperty("SalesPartnerRequired");
+	private static final ColumnRef BOOLEANREF_SalesRep = ColumnRef.ofBooleanProperty("SalesRep");
+	private static final ColumnRef BOOLEANREF_SelfDisclosureCustomer = ColumnRef.ofBooleanProperty("SelfDisclosureCustomer");
+	private static final ColumnRef BOOLEANREF_SelfDisclosureVendor = ColumnRef.ofBooleanProperty("SelfDisclosureVendor");
+	private static final ColumnRef BOOLEANREF_SendEMail = ColumnRef.ofBooleanProperty("SendEMail");
+	private static final ColumnRef BOOLEANREF_ShippingNotificationEmail = ColumnRef.ofBooleanProperty("ShippingNotificationEmail");
+	private static final ColumnRef BOOLEANREF_Summary = ColumnRef.ofBooleanProperty("Summary");
+	private static final ColumnRef BOOLEANREF_TaxExempt = ColumnRef.ofBooleanProperty("TaxExempt");
+	private static final ColumnRef BOOLEANREF_Vendor = ColumnRef.ofBooleanProperty("Vendor");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_Language = ColumnRef.ofColumnName("AD_Language");
+	private static final ColumnRef COLUMNREF_AD_OrgBP_ID = ColumnRef.ofColumnName("AD_OrgBP_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AcqusitionCost = ColumnRef.ofColumnName("AcqusitionCost");
+	private static final ColumnRef COLUMNREF_Address1 = ColumnRef.ofColumnName("Address1");
+	private static final ColumnRef COLUMNREF_BPartner_Parent_ID = ColumnRef.ofColumnName("BPartner_Parent_ID");
+	private static final ColumnRef COLUMNREF_C_BP_Group_ID = ColumnRef.ofColumnName("C_BP_Group_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_SalesRep_ID = ColumnRef.ofColumnName("C_BPartner_SalesRep_ID");
+	private static final ColumnRef COLUMNREF_C_Dunning_ID = ColumnRef.ofColumnName("C_Dunning_ID");
+	private static final ColumnRef COLUMNREF_C_Greeting_ID = ColumnRef.ofColumnName("C_Greeting_ID");
+	private static final ColumnRef COLUMNREF_C_InvoiceSchedule_ID = ColumnRef.ofColumnName("C_InvoiceSchedule_ID");
+	private static final ColumnRef COLUMNREF_C_PaymentTerm_ID = ColumnRef.ofColumnName("C_PaymentTerm_ID");
+	private static final ColumnRef COLUMNREF_C_TaxGroup_ID = ColumnRef.ofColumnName("C_TaxGroup_ID");
+	private static final ColumnRef COLUMNREF_City = ColumnRef.ofColumnName("City");
+	private static final ColumnRef COLUMNREF_CompanyName = ColumnRef.ofColumnName("CompanyName");
+	private static final ColumnRef COLUMNREF_CreateSO = ColumnRef.ofColumnName("CreateSO");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_CreditLimitIndicator = ColumnRef.ofColumnName("CreditLimitIndicator");
+	private static final ColumnRef COLUMNREF_CreditorId = ColumnRef.ofColumnName("CreditorId");
+	private static final ColumnRef COLUMNREF_CustomerNoAtVendor = ColumnRef.ofColumnName("CustomerNoAtVendor");
+	private static final ColumnRef COLUMNREF_Customer_Group_ID = ColumnRef.ofColumnName("Customer_Group_ID");
+	private static final ColumnRef COLUMNREF_DUNS = ColumnRef.ofColumnName("DUNS");
+	private static final ColumnRef COLUMNREF_DateHaddexCheck = ColumnRef.ofColumnName("DateHaddexCheck");
+	private static final ColumnRef COLUMNREF_DebtorId = ColumnRef.ofColumnName("DebtorId");
+	private static final ColumnRef COLUMNREF_Default_Bill_Location_ID = ColumnRef.ofColumnName("Default_Bill_Location_ID");
+	private static final ColumnRef COLUMNREF_Default_Ship_Location_ID = ColumnRef.ofColumnName("Default_Ship_Location_ID");
+	private static final ColumnRef COLUMNREF_Default_User_ID = ColumnRef.ofColumnName("Default_User_ID");
+	private static final ColumnRef COLUMNREF_DeliveryRule = ColumnRef.ofColumnName("DeliveryRule");
+	private static final ColumnRef COLUMNREF_DeliveryViaRule = ColumnRef.ofColumnName("DeliveryViaRule");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_DocumentCopies = ColumnRef.ofColumnName("DocumentCopies");
+	private static final ColumnRef COLUMNREF_DunningGrace = ColumnRef.ofColumnName("DunningGrace");
+	private static final ColumnRef COLUMNREF_EMail = ColumnRef.ofColumnName("EMail");
+	private static final ColumnRef COLUMNREF_ExternalId = ColumnRef.ofColumnName("ExternalId");
+	private static final ColumnRef COLUMNREF_FirstSale = ColumnRef.ofColumnName("FirstSale");
+	private static final ColumnRef COLUMNREF_Firstname = ColumnRef.ofColumnName("Firstname");
+	private static final ColumnRef COLUMNREF_FlatDiscount = ColumnRef.ofColumnName("FlatDiscount");
+	private static final ColumnRef COLUMNREF_FreightCostRule = ColumnRef.ofColumnName("FreightCostRule");
+	private static final ColumnRef COLUMNREF_GlobalId = ColumnRef.ofColumnName("GlobalId");
+	private static final ColumnRef COLUMNREF_HaddexControlNr = ColumnRef.ofColumnName("HaddexControlNr");
+	private static final ColumnRef COLUMNREF_InvoiceRule = ColumnRef.ofColumnName("InvoiceRule");
+	private static final ColumnRef COLUMNREF_Invoice_PrintFormat_ID = ColumnRef.ofColumnName("Invoice_PrintFormat_ID");
+	private static final ColumnRef COLUMNREF_Kundencockpit_includedTab1 = ColumnRef.ofColumnName("Kundencockpit_includedTab1");
+	private static final ColumnRef COLUMNREF_Kundencockpit_includedTab2 = ColumnRef.ofColumnName("Kundencockpit_includedTab2");
+	private static final ColumnRef COLUMNREF_Kundencockpit_includedTab3 = ColumnRef.ofColumnName("Kundencockpit_includedTab3");
+	private static final ColumnRef COLUMNREF_Lastname = ColumnRef.ofColumnName("Lastname");
+	private static final ColumnRef COLUMNREF_Logo_ID = ColumnRef.ofColumnName("Logo_ID");
+	private static final ColumnRef COLUMNREF_MRP_Exclude = ColumnRef.ofColumnName("MRP_Exclude");
+	private static final ColumnRef COLUMNREF_M_DiscountSchema_ID = ColumnRef.ofColumnName("M_DiscountSchema_ID");
+	private static final ColumnRef COLUMNREF_M_FreightCost_ID = ColumnRef.ofColumnName("M_FreightCost_ID");
+	private static final ColumnRef COLUMNREF_M_PriceList_ID = ColumnRef.ofColumnName("M_PriceList_ID");
+	private static final ColumnRef COLUMNREF_M_PricingSystem_ID = ColumnRef.ofColumnName("M_PricingSystem_ID");
+	private static final ColumnRef COLUMNREF_M_Shipper_ID = ColumnRef.ofColumnName("M_Shipper_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_ID = ColumnRef.ofColumnName("M_Warehouse_ID");
+	private static final ColumnRef COLUMNREF_Memo = ColumnRef.ofColumnName("Memo");
+	private static final ColumnRef COLUMNREF_Memo_Delivery = ColumnRef.ofColumnName("Memo_Delivery");
+	private static final ColumnRef COLUMNREF_Memo_Invoicing = ColumnRef.ofColumnName("Memo_Invoicing");
+	private static final ColumnRef COLUMNREF_NAICS = ColumnRef.ofColumnName("NAICS");
+	private static final ColumnRef COLUMNREF_Name = ColumnRef.ofColumnName("Name");
+	private static final ColumnRef COLUMNREF_Name2 = ColumnRef.ofColumnName("Name2");
+	private static final ColumnRef COLUMNREF_Name3 = ColumnRef.ofColumnName("Name3");
+	private static final ColumnRef COLUMNREF_NumberEmployees = ColumnRef.ofColumnName("NumberEmployees");
+	private static final ColumnRef COLUMNREF_POReference = ColumnRef.ofColumnName("POReference");
+	private static final ColumnRef COLUMNREF_POReferencePattern = ColumnRef.ofColumnName("POReferencePattern");
+	private static final ColumnRef COLUMNREF_PO_DeliveryViaRule = ColumnRef.ofColumnName("PO_DeliveryViaRule");
+	private static final ColumnRef COLUMNREF_PO_DiscountSchema_ID = ColumnRef.ofColumnName("PO_DiscountSchema_ID");
+	private static final ColumnRef COLUMNREF_PO_PaymentTerm_ID = ColumnRef.ofColumnName("PO_PaymentTerm_ID");
+	private static final ColumnRef COLUMNREF_PO_PriceList_ID = ColumnRef.ofColumnName("PO_PriceList_ID");
+	private static final ColumnRef COLUMNREF_PO_PricingSystem_ID = ColumnRef.ofColumnName("PO_PricingSystem_ID");
+	private static final ColumnRef COLUMNREF_PaymentRule = ColumnRef.ofColumnName("PaymentRule");
+	private static final ColumnRef COLUMNREF_PaymentRulePO = ColumnRef.ofColumnName("PaymentRulePO");
+	private static final ColumnRef COLUMNREF_Phone2 = ColumnRef.ofColumnName("Phone2");
+	private static final ColumnRef COLUMNREF_Postal = ColumnRef.ofColumnName("Postal");
+	private static final ColumnRef COLUMNREF_PotentialLifeTimeValue = ColumnRef.ofColumnName("PotentialLifeTimeValue");
+	private static final ColumnRef COLUMNREF_Qualification = ColumnRef.ofColumnName("Qualification");
+	private static final ColumnRef COLUMNREF_Rating = ColumnRef.ofColumnName("Rating");
+	private static final ColumnRef COLUMNREF_ReferenceNo = ColumnRef.ofColumnName("ReferenceNo");
+	private static final ColumnRef COLUMNREF_ReminderDateExtern = ColumnRef.ofColumnName("ReminderDateExtern");
+	private static final ColumnRef COLUMNREF_ReminderDateIntern = ColumnRef.ofColumnName("ReminderDateIntern");
+	private static final ColumnRef COLUMNREF_SO_Description = ColumnRef.ofColumnName("SO_Description");
+	private static final ColumnRef COLUMNREF_SO_DocTypeTarget_ID = ColumnRef.ofColumnName("SO_DocTypeTarget_ID");
+	private static final ColumnRef COLUMNREF_SO_TargetDocTypeReason = ColumnRef.ofColumnName("SO_TargetDocTypeReason");
+	private static final ColumnRef COLUMNREF_SalesPartnerCode = ColumnRef.ofColumnName("SalesPartnerCode");
+	private static final ColumnRef COLUMNREF_SalesRepIntern_ID = ColumnRef.ofColumnName("SalesRepIntern_ID");
+	private static final ColumnRef COLUMNREF_SalesRep_ID = ColumnRef.ofColumnName("SalesRep_ID");
+	private static final ColumnRef COLUMNREF_SalesVolume = ColumnRef.ofColumnName("SalesVolume");
+	private static final ColumnRef COLUMNREF_Salesgroup = ColumnRef.ofColumnName("Salesgroup");
+	private static final ColumnRef COLUMNREF_ShareOfCustomer = ColumnRef.ofColumnName("ShareOfCustomer");
+	private static final ColumnRef COLUMNREF_ShelfLifeMinPct = ColumnRef.ofColumnName("ShelfLifeMinPct");
+	private static final ColumnRef COLUMNREF_ShipmentAllocation_BestBefore_Policy = ColumnRef.ofColumnName("ShipmentAllocation_BestBefore_Policy");
+	private static final ColumnRef COLUMNREF_ShortDescription = ColumnRef.ofColumnName("ShortDescription");
+	private static final ColumnRef COLUMNREF_TaxID = ColumnRef.ofColumnName("TaxID");
+	private static final ColumnRef COLUMNREF_URL = ColumnRef.ofColumnName("URL");
+	private static final ColumnRef COLUMNREF_URL2 = ColumnRef.ofColumnName("URL2");
+	private static final ColumnRef COLUMNREF_URL3 = ColumnRef.ofColumnName("URL3");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_VATaxID = ColumnRef.ofColumnName("VATaxID");
+	private static final ColumnRef COLUMNREF_Value = ColumnRef.ofColumnName("Value");
+	private static final ColumnRef COLUMNREF_VendorCategory = ColumnRef.ofColumnName("VendorCategory");
+	private static final ModelRef MODELREF_C_BP_Group = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getC_BP_Group", "C_BP_Group_ID");
+	private static final ModelRef MODELREF_C_Dunning = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getC_Dunning", "C_Dunning_ID");
+	private static final ModelRef MODELREF_C_Greeting = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getC_Greeting", "C_Greeting_ID");
+	private static final ModelRef MODELREF_C_InvoiceSchedule = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getC_InvoiceSchedule", "C_InvoiceSchedule_ID");
+	private static final ModelRef MODELREF_C_TaxGroup = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getC_TaxGroup", "C_TaxGroup_ID");
+	private static final ModelRef MODELREF_Customer_Group = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getCustomer_Group", "Customer_Group_ID");
+	private static final ModelRef MODELREF_Default_Bill_Location = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getDefault_Bill_Location", "Default_Bill_Location_ID");
+	private static final ModelRef MODELREF_Default_Ship_Location = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getDefault_Ship_Location", "Default_Ship_Location_ID");
+	private static final ModelRef MODELREF_Default_User = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getDefault_User", "Default_User_ID");
+	private static final ModelRef MODELREF_Invoice_PrintFormat = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getInvoice_PrintFormat", "Invoice_PrintFormat_ID");
+	private static final ModelRef MODELREF_Logo = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getLogo", "Logo_ID");
+	private static final ModelRef MODELREF_M_DiscountSchema = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getM_DiscountSchema", "M_DiscountSchema_ID");
+	private static final ModelRef MODELREF_M_Shipper = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getM_Shipper", "M_Shipper_ID");
+	private static final ModelRef MODELREF_PO_DiscountSchema = ModelRef.of(de.metas.interfaces.I_C_BPartner.class, "getPO_DiscountSchema", "PO_DiscountSchema_ID");
+
+	public POWrapper_I_C_BPartner(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public java.lang.String getAD_Language()
+	{
+		return getValue(COLUMNREF_AD_Language, java.lang.String.class);
+	}
+
+	@Override
+	public int getAD_OrgBP_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_OrgBP_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getAcqusitionCost()
+	{
+		return getValue(COLUMNREF_AcqusitionCost, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getAddress1()
+	{
+		return getValue(COLUMNREF_Address1, java.lang.String.class);
+	}
+
+	@Override
+	public int getBPartner_Parent_ID()
+	{
+		return getValueAsInt(COLUMNREF_BPartner_Parent_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BP_Group getC_BP_Group()
+	{
+		return getReferencedModel(MODELREF_C_BP_Group);
+	}
+
+	@Override
+	public int getC_BP_Group_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BP_Group_ID);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public int getC_BPartner_SalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_SalesRep_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Dunning getC_Dunning()
+	{
+		return getReferencedModel(MODELREF_C_Dunning);
+	}
+
+	@Override
+	public int getC_Dunning_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Dunning_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Greeting getC_Greeting()
+	{
+		return getReferencedModel(MODELREF_C_Greeting);
+	}
+
+	@Override
+	public int getC_Greeting_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Greeting_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_InvoiceSchedule getC_InvoiceSchedule()
+	{
+		return getReferencedModel(MODELREF_C_InvoiceSchedule);
+	}
+
+	@Override
+	public int getC_InvoiceSchedule_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_InvoiceSchedule_ID);
+	}
+
+	@Override
+	public int getC_PaymentTerm_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_PaymentTerm_ID);
+	}
+
+	@Override
+	public org.eevolution.model.I_C_TaxGroup getC_TaxGroup()
+	{
+		return getReferencedModel(MODELREF_C_TaxGroup);
+	}
+
+	@Override
+	public int getC_TaxGroup_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_TaxGroup_ID);
+	}
+
+	@Override
+	public java.lang.String getCity()
+	{
+		return getValue(COLUMNREF_City, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCompanyName()
+	{
+		return getValue(COLUMNREF_CompanyName, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getCreateSO()
+	{
+		return getValue(COLUMNREF_CreateSO, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.lang.String getCreditLimitIndicator()
+	{
+		return getValue(COLUMNREF_CreditLimitIndicator, java.lang.String.class);
+	}
+
+	@Override
+	public int getCreditorId()
+	{
+		return getValueAsInt(COLUMNREF_CreditorId);
+	}
+
+	@Override
+	public java.lang.String getCustomerNoAtVendor()
+	{
+		return getValue(COLUMNREF_CustomerNoAtVendor, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BP_Group getCustomer_Group()
+	{
+		return getReferencedModel(MODELREF_Customer_Group);
+	}
+
+	@Override
+	public int getCustomer_Group_ID()
+	{
+		return getValueAsInt(COLUMNREF_Customer_Group_ID);
+	}
+
+	@Override
+	public java.lang.String getDUNS()
+	{
+		return getValue(COLUMNREF_DUNS, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateHaddexCheck()
+	{
+		return getValue(COLUMNREF_DateHaddexCheck, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getDebtorId()
+	{
+		return getValueAsInt(COLUMNREF_DebtorId);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getDefault_Bill_Location()
+	{
+		return getReferencedModel(MODELREF_Default_Bill_Location);
+	}
+
+	@Override
+	public int getDefault_Bill_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_Default_Bill_Location_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner_Location getDefault_Ship_Location()
+	{
+		return getReferencedModel(MODELREF_Default_Ship_Location);
+	}
+
+	@Override
+	public int getDefault_Ship_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_Default_Ship_Location_ID);
+	}
+
+	@Override
+	public de.metas.adempiere.model.I_AD_User getDefault_User()
+	{
+		return getReferencedModel(MODELREF_Default_User);
+	}
+
+	@Override
+	public int getDefault_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_Default_User_ID);
+	}
+
+	@Override
+	public java.lang.String getDeliveryRule()
+	{
+		return getValue(COLUMNREF_DeliveryRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryViaRule()
+	{
+		return getValue(COLUMNREF_DeliveryViaRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public int getDocumentCopies()
+	{
+		return getValueAsInt(COLUMNREF_DocumentCopies);
+	}
+
+	@Override
+	public java.sql.Timestamp getDunningGrace()
+	{
+		return getValue(COLUMNREF_DunningGrace, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getEMail()
+	{
+		return getValue(COLUMNREF_EMail, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getExternalId()
+	{
+		return getValue(COLUMNREF_ExternalId, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getFirstSale()
+	{
+		return getValue(COLUMNREF_FirstSale, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getFirstname()
+	{
+		return getValue(COLUMNREF_Firstname, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getFlatDiscount()
+	{
+		return getValue(COLUMNREF_FlatDiscount, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getFreightCostRule()
+	{
+		return getValue(COLUMNREF_FreightCostRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGlobalId()
+	{
+		return getValue(COLUMNREF_GlobalId, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getHaddexControlNr()
+	{
+		return getValue(COLUMNREF_HaddexControlNr, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getInvoiceRule()
+	{
+		return getValue(COLUMNREF_InvoiceRule, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_PrintFormat getInvoice_PrintFormat()
+	{
+		return getReferencedModel(MODELREF_Invoice_PrintFormat);
+	}
+
+	@Override
+	public int getInvoice_PrintFormat_ID()
+	{
+		return getValueAsInt(COLUMNREF_Invoice_PrintFormat_ID);
+	}
+
+	@Override
+	public java.lang.String getKundencockpit_includedTab1()
+	{
+		return getValue(COLUMNREF_Kundencockpit_includedTab1, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getKundencockpit_includedTab2()
+	{
+		return getValue(COLUMNREF_Kundencockpit_includedTab2, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getKundencockpit_includedTab3()
+	{
+		return getValue(COLUMNREF_Kundencockpit_includedTab3, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getLastname()
+	{
+		return getValue(COLUMNREF_Lastname, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_AD_Image getLogo()
+	{
+		return getReferencedModel(MODELREF_Logo);
+	}
+
+	@Override
+	public int getLogo_ID()
+	{
+		return getValueAsInt(COLUMNREF_Logo_ID);
+	}
+
+	@Override
+	public java.lang.String getMRP_Exclude()
+	{
+		return getValue(COLUMNREF_MRP_Exclude, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_M_DiscountSchema getM_DiscountSchema()
+	{
+		return getReferencedModel(MODELREF_M_DiscountSchema);
+	}
+
+	@Override
+	public int getM_DiscountSchema_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_DiscountSchema_ID);
+	}
+
+	@Override
+	public int getM_FreightCost_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_FreightCost_ID);
+	}
+
+	@Override
+	public int getM_PriceList_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PriceList_ID);
+	}
+
+	@Override
+	public int getM_PricingSystem_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PricingSystem_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_Shipper getM_Shipper()
+	{
+		return getReferencedModel(MODELREF_M_Shipper);
+	}
+
+	@Override
+	public int getM_Shipper_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Shipper_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_ID);
+	}
+
+	@Override
+	public java.lang.String getMemo()
+	{
+		return getValue(COLUMNREF_Memo, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getMemo_Delivery()
+	{
+		return getValue(COLUMNREF_Memo_Delivery, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getMemo_Invoicing()
+	{
+		return getValue(COLUMNREF_Memo_Invoicing, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getNAICS()
+	{
+		return getValue(COLUMNREF_NAICS, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getName()
+	{
+		return getValue(COLUMNREF_Name, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getName2()
+	{
+		return getValue(COLUMNREF_Name2, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getName3()
+	{
+		return getValue(COLUMNREF_Name3, java.lang.String.class);
+	}
+
+	@Override
+	public int getNumberEmployees()
+	{
+		return getValueAsInt(COLUMNREF_NumberEmployees);
+	}
+
+	@Override
+	public java.lang.String getPOReference()
+	{
+		return getValue(COLUMNREF_POReference, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPOReferencePattern()
+	{
+		return getValue(COLUMNREF_POReferencePattern, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPO_DeliveryViaRule()
+	{
+		return getValue(COLUMNREF_PO_DeliveryViaRule, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_M_DiscountSchema getPO_DiscountSchema()
+	{
+		return getReferencedModel(MODELREF_PO_DiscountSchema);
+	}
+
+	@Override
+	public int getPO_DiscountSchema_ID()
+	{
+		return getValueAsInt(COLUMNREF_PO_DiscountSchema_ID);
+	}
+
+	@Override
+	public int getPO_PaymentTerm_ID()
+	{
+		return getValueAsInt(COLUMNREF_PO_PaymentTerm_ID);
+	}
+
+	@Override
+	public int getPO_PriceList_ID()
+	{
+		return getValueAsInt(COLUMNREF_PO_PriceList_ID);
+	}
+
+	@Override
+	public int getPO_PricingSystem_ID()
+	{
+		return getValueAsInt(COLUMNREF_PO_PricingSystem_ID);
+	}
+
+	@Override
+	public java.lang.String getPaymentRule()
+	{
+		return getValue(COLUMNREF_PaymentRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPaymentRulePO()
+	{
+		return getValue(COLUMNREF_PaymentRulePO, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPhone2()
+	{
+		return getValue(COLUMNREF_Phone2, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPostal()
+	{
+		return getValue(COLUMNREF_Postal, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPotentialLifeTimeValue()
+	{
+		return getValue(COLUMNREF_PotentialLifeTimeValue, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getQualification()
+	{
+		return getValue(COLUMNREF_Qualification, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getRating()
+	{
+		return getValue(COLUMNREF_Rating, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getReferenceNo()
+	{
+		return getValue(COLUMNREF_ReferenceNo, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getReminderDateExtern()
+	{
+		return getValue(COLUMNREF_ReminderDateExtern, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getReminderDateIntern()
+	{
+		return getValue(COLUMNREF_ReminderDateIntern, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getSO_Description()
+	{
+		return getValue(COLUMNREF_SO_Description, java.lang.String.class);
+	}
+
+	@Override
+	public int getSO_DocTypeTarget_ID()
+	{
+		return getValueAsInt(COLUMNREF_SO_DocTypeTarget_ID);
+	}
+
+	@Override
+	public java.lang.String getSO_TargetDocTypeReason()
+	{
+		return getValue(COLUMNREF_SO_TargetDocTypeReason, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getSalesPartnerCode()
+	{
+		return getValue(COLUMNREF_SalesPartnerCode, java.lang.String.class);
+	}
+
+	@Override
+	public int getSalesRepIntern_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRepIntern_ID);
+	}
+
+	@Override
+	public int getSalesRep_ID()
+	{
+		return getValueAsInt(COLUMNREF_SalesRep_ID);
+	}
+
+	@Override
+	public int getSalesVolume()
+	{
+		return getValueAsInt(COLUMNREF_SalesVolume);
+	}
+
+	@Override
+	public java.lang.String getSalesgroup()
+	{
+		return getValue(COLUMNREF_Salesgroup, java.lang.String.class);
+	}
+
+	@Override
+	public int getShareOfCustomer()
+	{
+		return getValueAsInt(COLUMNREF_ShareOfCustomer);
+	}
+
+	@Override
+	public int getShelfLifeMinPct()
+	{
+		return getValueAsInt(COLUMNREF_ShelfLifeMinPct);
+	}
+
+	@Override
+	public java.lang.String getShipmentAllocation_BestBefore_Policy()
+	{
+		return getValue(COLUMNREF_ShipmentAllocation_BestBefore_Policy, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getShortDescription()
+	{
+		return getValue(COLUMNREF_ShortDescription, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getTaxID()
+	{
+		return getValue(COLUMNREF_TaxID, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getURL()
+	{
+		return getValue(COLUMNREF_URL, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getURL2()
+	{
+		return getValue(COLUMNREF_URL2, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getURL3()
+	{
+		return getValue(COLUMNREF_URL3, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public java.lang.String getVATaxID()
+	{
+		return getValue(COLUMNREF_VATaxID, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getValue()
+	{
+		return getValue(COLUMNREF_Value, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getVendorCategory()
+	{
+		return getValue(COLUMNREF_VendorCategory, java.lang.String.class);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isAggregatePO()
+	{
+		return getValueAsBoolean(BOOLEANREF_AggregatePO);
+	}
+
+	@Override
+	public boolean isAllowActionPrice()
+	{
+		return getValueAsBoolean(BOOLEANREF_AllowActionPrice);
+	}
+
+	@Override
+	public boolean isAllowConsolidateInOut()
+	{
+		return getValueAsBoolean(BOOLEANREF_AllowConsolidateInOut);
+	}
+
+	@Override
+	public boolean isAllowPriceMutation()
+	{
+		return getValueAsBoolean(BOOLEANREF_AllowPriceMutation);
+	}
+
+	@Override
+	public boolean isCertificateOfRegistrationCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_CertificateOfRegistrationCustomer);
+	}
+
+	@Override
+	public boolean isCertificateOfRegistrationVendor()
+	{
+		return getValueAsBoolean(BOOLEANREF_CertificateOfRegistrationVendor);
+	}
+
+	@Override
+	public boolean isCompany()
+	{
+		return getValueAsBoolean(BOOLEANREF_Company);
+	}
+
+	@Override
+	public boolean isContactStatusInfoCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_ContactStatusInfoCustomer);
+	}
+
+	@Override
+	public boolean isContactStatusInfoVendor()
+	{
+		return getValueAsBoolean(BOOLEANREF_ContactStatusInfoVendor);
+	}
+
+	@Override
+	public boolean isCreateDefaultPOReference()
+	{
+		return getValueAsBoolean(BOOLEANREF_CreateDefaultPOReference);
+	}
+
+	@Override
+	public boolean isCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_Customer);
+	}
+
+	@Override
+	public boolean isDiscountPrinted()
+	{
+		return getValueAsBoolean(BOOLEANREF_DiscountPrinted);
+	}
+
+	@Override
+	public boolean isEmployee()
+	{
+		return getValueAsBoolean(BOOLEANREF_Employee);
+	}
+
+	@Override
+	public boolean isGDPCertificateCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_GDPCertificateCustomer);
+	}
+
+	@Override
+	public boolean isGDPCertificateVendor()
+	{
+		return getValueAsBoolean(BOOLEANREF_GDPCertificateVendor);
+	}
+
+	@Override
+	public boolean isHaddexCheck()
+	{
+		return getValueAsBoolean(BOOLEANREF_HaddexCheck);
+	}
+
+	@Override
+	public boolean isManufacturer()
+	{
+		return getValueAsBoolean(BOOLEANREF_Manufacturer);
+	}
+
+	@Override
+	public boolean isOneTime()
+	{
+		return getValueAsBoolean(BOOLEANREF_OneTime);
+	}
+
+	@Override
+	public boolean isPOTaxExempt()
+	{
+		return getValueAsBoolean(BOOLEANREF_POTaxExempt);
+	}
+
+	@Override
+	public boolean isProspect()
+	{
+		return getValueAsBoolean(BOOLEANREF_Prospect);
+	}
+
+	@Override
+	public boolean isQMSCertificateCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_QMSCertificateCustomer);
+	}
+
+	@Override
+	public boolean isQMSCertificateVendor()
+	{
+		return getValueAsBoolean(BOOLEANREF_QMSCertificateVendor);
+	}
+
+	@Override
+	public boolean isSEPASigned()
+	{
+		return getValueAsBoolean(BOOLEANREF_SEPASigned);
+	}
+
+	@Override
+	public boolean isSalesPartnerRequired()
+	{
+		return getValueAsBoolean(BOOLEANREF_SalesPartnerRequired);
+	}
+
+	@Override
+	public boolean isSalesRep()
+	{
+		return getValueAsBoolean(BOOLEANREF_SalesRep);
+	}
+
+	@Override
+	public boolean isSelfDisclosureCustomer()
+	{
+		return getValueAsBoolean(BOOLEANREF_SelfDisclosureCustomer);
+	}
+
+	@Override
+	public boolean isSelfDisclosureVendor()
+	{
+		return getValueAsBoolean(BOOLEANREF_SelfDisclosureVendor);
+	}
+
+	@Override
+	public boolean isSendEMail()
+	{
+		return getValueAsBoolean(BOOLEANREF_SendEMail);
+	}
+
+	@Override
+	public boolean isShippingNotificationEmail()
+	{
+		return getValueAsBoolean(BOOLEANREF_ShippingNotificationEmail);
+	}
+
+	@Override
+	public boolean isSummary()
+	{
+		return getValueAsBoolean(BOOLEANREF_Summary);
+	}
+
+	@Override
+	public boolean isTaxExempt()
+	{
+		return getValueAsBoolean(BOOLEANREF_TaxExempt);
+	}
+
+	@Override
+	public boolean isVendor()
+	{
+		return getValueAsBoolean(BOOLEANREF_Vendor);
+	}
+
+	@Override
+	public void setAD_Language(final java.lang.String AD_Language)
+	{
+		setValue("AD_Language", AD_Language);
+	}
+
+	@Override
+	public void setAD_OrgBP_ID(final int AD_OrgBP_ID)
+	{
+		setValue("AD_OrgBP_ID", AD_OrgBP_ID);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAcqusitionCost(final java.math.BigDecimal AcqusitionCost)
+	{
+		setValue("AcqusitionCost", AcqusitionCost);
+	}
+
+	@Override
+	public void setAddress1(final java.lang.String Address1)
+	{
+		setValue("Address1", Address1);
+	}
+
+	@Override
+	public void setAllowConsolidateInOut(final boolean AllowConsolidateInOut)
+	{
+		setValue("AllowConsolidateInOut", AllowConsolidateInOut);
+	}
+
+	@Override
+	public void setBPartner_Parent_ID(final int BPartner_Parent_ID)
+	{
+		setValue("BPartner_Parent_ID", BPartner_Parent_ID);
+	}
+
+	@Override
+	public void setC_BP_Group(final org.compiere.model.I_C_BP_Group C_BP_Group)
+	{
+		setValueFromPO("C_BP_Group_ID", org.compiere.model.I_C_BP_Group.class, C_BP_Group);
+	}
+
+	@Override
+	public void setC_BP_Group_ID(final int C_BP_Group_ID)
+	{
+		setValue("C_BP_Group_ID", C_BP_Group_ID);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_SalesRep_ID(final int C_BPartner_SalesRep_ID)
+	{
+		setValue("C_BPartner_SalesRep_ID", C_BPartner_SalesRep_ID);
+	}
+
+	@Override
+	public void setC_Dunning(final org.compiere.model.I_C_Dunning C_Dunning)
+	{
+		setValueFromPO("C_Dunning_ID", org.compiere.model.I_C_Dunning.class, C_Dunning);
+	}
+
+	@Override
+	public void setC_Dunning_ID(final int C_Dunning_ID)
+	{
+		setValue("C_Dunning_ID", C_Dunning_ID);
+	}
+
+	@Override
+	public void setC_Greeting(final org.compiere.model.I_C_Greeting C_Greeting)
+	{
+		setValueFromPO("C_Greeting_ID", org.compiere.model.I_C_Greeting.class, C_Greeting);
+	}
+
+	@Override
+	public void setC_Greeting_ID(final int C_Greeting_ID)
+	{
+		setValue("C_Greeting_ID", C_Greeting_ID);
+	}
+
+	@Override
+	public void setC_InvoiceSchedule(final org.compiere.model.I_C_InvoiceSchedule C_InvoiceSchedule)
+	{
+		setValueFromPO("C_InvoiceSchedule_ID", org.compiere.model.I_C_InvoiceSchedule.class, C_InvoiceSchedule);
+	}
+
+	@Override
+	public void setC_InvoiceSchedule_ID(final int C_InvoiceSchedule_ID)
+	{
+		setValue("C_InvoiceSchedule_ID", C_InvoiceSchedule_ID);
+	}
+
+	@Override
+	public void setC_PaymentTerm_ID(final int C_PaymentTerm_ID)
+	{
+		setValue("C_PaymentTerm_ID", C_PaymentTerm_ID);
+	}
+
+	@Override
+	public void setC_TaxGroup(final org.eevolution.model.I_C_TaxGroup C_TaxGroup)
+	{
+		setValueFromPO("C_TaxGroup_ID", org.eevolution.model.I_C_TaxGroup.class, C_TaxGroup);
+	}
+
+	@Override
+	public void setC_TaxGroup_ID(final int C_TaxGroup_ID)
+	{
+		setValue("C_TaxGroup_ID", C_TaxGroup_ID);
+	}
+
+	@Override
+	public void setCertificateOfRegistrationCustomer(final boolean CertificateOfRegistrationCustomer)
+	{
+		setValue("CertificateOfRegistrationCustomer", CertificateOfRegistrationCustomer);
+	}
+
+	@Override
+	public void setCertificateOfRegistrationVendor(final boolean CertificateOfRegistrationVendor)
+	{
+		setValue("CertificateOfRegistrationVendor", CertificateOfRegistrationVendor);
+	}
+
+	@Override
+	public void setCity(final java.lang.String City)
+	{
+		setValue("City", City);
+	}
+
+	@Override
+	public void setCompanyName(final java.lang.String CompanyName)
+	{
+		setValue("CompanyName", CompanyName);
+	}
+
+	@Override
+	public void setContactStatusInfoCustomer(final boolean ContactStatusInfoCustomer)
+	{
+		setValue("ContactStatusInfoCustomer", ContactStatusInfoCustomer);
+	}
+
+	@Override
+	public void setContactStatusInfoVendor(final boolean ContactStatusInfoVendor)
+	{
+		setValue("ContactStatusInfoVendor", ContactStatusInfoVendor);
+	}
+
+	@Override
+	public void setCreateSO(final java.lang.String CreateSO)
+	{
+		setValue("CreateSO", CreateSO);
+	}
+
+	@Override
+	public void setCreditLimitIndicator(final java.lang.String CreditLimitIndicator)
+	{
+		setValue("CreditLimitIndicator", CreditLimitIndicator);
+	}
+
+	@Override
+	public void setCreditorId(final int CreditorId)
+	{
+		setValue("CreditorId", CreditorId);
+	}
+
+	@Override
+	public void setCustomerNoAtVendor(final java.lang.String CustomerNoAtVendor)
+	{
+		setValue("CustomerNoAtVendor", CustomerNoAtVendor);
+	}
+
+	@Override
+	public void setCustomer_Group_ID(final int Customer_Group_ID)
+	{
+		setValue("Customer_Group_ID", Customer_Group_ID);
+	}
+
+	@Override
+	public void setDUNS(final java.lang.String DUNS)
+	{
+		setValue("DUNS", DUNS);
+	}
+
+	@Override
+	public void setDateHaddexCheck(final java.sql.Timestamp DateHaddexCheck)
+	{
+		setValue("DateHaddexCheck", DateHaddexCheck);
+	}
+
+	@Override
+	public void setDebtorId(final int DebtorId)
+	{
+		setValue("DebtorId", DebtorId);
+	}
+
+	@Override
+	public void setDefault_Bill_Location_ID(final int Default_Bill_Location_ID)
+	{
+		setValue("Default_Bill_Location_ID", Default_Bill_Location_ID);
+	}
+
+	@Override
+	public void setDefault_Ship_Location_ID(final int Default_Ship_Location_ID)
+	{
+		setValue("Default_Ship_Location_ID", Default_Ship_Location_ID);
+	}
+
+	@Override
+	public void setDefault_User_ID(final int Default_User_ID)
+	{
+		setValue("Default_User_ID", Default_User_ID);
+	}
+
+	@Override
+	public void setDeliveryRule(final java.lang.String DeliveryRule)
+	{
+		setValue("DeliveryRule", DeliveryRule);
+	}
+
+	@Override
+	public void setDeliveryViaRule(final java.lang.String DeliveryViaRule)
+	{
+		setValue("DeliveryViaRule", DeliveryViaRule);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setDocumentCopies(final int DocumentCopies)
+	{
+		setValue("DocumentCopies", DocumentCopies);
+	}
+
+	@Override
+	public void setDunningGrace(final java.sql.Timestamp DunningGrace)
+	{
+		setValue("DunningGrace", DunningGrace);
+	}
+
+	@Override
+	public void setEMail(final java.lang.String EMail)
+	{
+		setValue("EMail", EMail);
+	}
+
+	@Override
+	public void setExternalId(final java.lang.String ExternalId)
+	{
+		setValue("ExternalId", ExternalId);
+	}
+
+	@Override
+	public void setFirstSale(final java.sql.Timestamp FirstSale)
+	{
+		setValue("FirstSale", FirstSale);
+	}
+
+	@Override
+	public void setFirstname(final java.lang.String Firstname)
+	{
+		setValue("Firstname", Firstname);
+	}
+
+	@Override
+	public void setFlatDiscount(final java.math.BigDecimal FlatDiscount)
+	{
+		setValue("FlatDiscount", FlatDiscount);
+	}
+
+	@Override
+	public void setFreightCostRule(final java.lang.String FreightCostRule)
+	{
+		setValue("FreightCostRule", FreightCostRule);
+	}
+
+	@Override
+	public void setGDPCertificateCustomer(final boolean GDPCertificateCustomer)
+	{
+		setValue("GDPCertificateCustomer", GDPCertificateCustomer);
+	}
+
+	@Override
+	public void setGDPCertificateVendor(final boolean GDPCertificateVendor)
+	{
+		setValue("GDPCertificateVendor", GDPCertificateVendor);
+	}
+
+	@Override
+	public void setGlobalId(final java.lang.String GlobalId)
+	{
+		setValue("GlobalId", GlobalId);
+	}
+
+	@Override
+	public void setHaddexControlNr(final java.lang.String HaddexControlNr)
+	{
+		setValue("HaddexControlNr", HaddexControlNr);
+	}
+
+	@Override
+	public void setInvoiceRule(final java.lang.String InvoiceRule)
+	{
+		setValue("InvoiceRule", InvoiceRule);
+	}
+
+	@Override
+	public void setInvoice_PrintFormat(final org.compiere.model.I_AD_PrintFormat Invoice_PrintFormat)
+	{
+		setValueFromPO("Invoice_PrintFormat_ID", org.compiere.model.I_AD_PrintFormat.class, Invoice_PrintFormat);
+	}
+
+	@Override
+	public void setInvoice_PrintFormat_ID(final int Invoice_PrintFormat_ID)
+	{
+		setValue("Invoice_PrintFormat_ID", Invoice_PrintFormat_ID);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsAggregatePO(final boolean IsAggregatePO)
+	{
+		setValue("IsAggregatePO", IsAggregatePO);
+	}
+
+	@Override
+	public void setIsAllowActionPrice(final boolean IsAllowActionPrice)
+	{
+		setValue("IsAllowActionPrice", IsAllowActionPrice);
+	}
+
+	@Override
+	public void setIsAllowPriceMutation(final boolean IsAllowPriceMutation)
+	{
+		setValue("IsAllowPriceMutation", IsAllowPriceMutation);
+	}
+
+	@Override
+	public void setIsCompany(final boolean IsCompany)
+	{
+		setValue("IsCompany", IsCompany);
+	}
+
+	@Override
+	public void setIsCreateDefaultPOReference(final boolean IsCreateDefaultPOReference)
+	{
+		setValue("IsCreateDefaultPOReference", IsCreateDefaultPOReference);
+	}
+
+	@Override
+	public void setIsCustomer(final boolean IsCustomer)
+	{
+		setValue("IsCustomer", IsCustomer);
+	}
+
+	@Override
+	public void setIsDiscountPrinted(final boolean IsDiscountPrinted)
+	{
+		setValue("IsDiscountPrinted", IsDiscountPrinted);
+	}
+
+	@Override
+	public void setIsEmployee(final boolean IsEmployee)
+	{
+		setValue("IsEmployee", IsEmployee);
+	}
+
+	@Override
+	public void setIsHaddexCheck(final boolean IsHaddexCheck)
+	{
+		setValue("IsHaddexCheck", IsHaddexCheck);
+	}
+
+	@Override
+	public void setIsManufacturer(final boolean IsManufacturer)
+	{
+		setValue("IsManufacturer", IsManufacturer);
+	}
+
+	@Override
+	public void setIsOneTime(final boolean IsOneTime)
+	{
+		setValue("IsOneTime", IsOneTime);
+	}
+
+	@Override
+	public void setIsPOTaxExempt(final boolean IsPOTaxExempt)
+	{
+		setValue("IsPOTaxExempt", IsPOTaxExempt);
+	}
+
+	@Override
+	public void setIsProspect(final boolean IsProspect)
+	{
+		setValue("IsProspect", IsProspect);
+	}
+
+	@Override
+	public void setIsSEPASigned(final boolean IsSEPASigned)
+	{
+		setValue("IsSEPASigned", IsSEPASigned);
+	}
+
+	@Override
+	public void setIsSalesPartnerRequired(final boolean IsSalesPartnerRequired)
+	{
+		setValue("IsSalesPartnerRequired", IsSalesPartnerRequired);
+	}
+
+	@Override
+	public void setIsSalesRep(final boolean IsSalesRep)
+	{
+		setValue("IsSalesRep", IsSalesRep);
+	}
+
+	@Override
+	public void setIsShippingNotificationEmail(final boolean IsShippingNotificationEmail)
+	{
+		setValue("IsShippingNotificationEmail", IsShippingNotificationEmail);
+	}
+
+	@Override
+	public void setIsSummary(final boolean IsSummary)
+	{
+		setValue("IsSummary", IsSummary);
+	}
+
+	@Override
+	public void setIsTaxExempt(final boolean IsTaxExempt)
+	{
+		setValue("IsTaxExempt", IsTaxExempt);
+	}
+
+	@Override
+	public void setIsVendor(final boolean IsVendor)
+	{
+		setValue("IsVendor", IsVendor);
+	}
+
+	@Override
+	public void setKundencockpit_includedTab1(final java.lang.String Kundencockpit_includedTab1)
+	{
+		setValue("Kundencockpit_includedTab1", Kundencockpit_includedTab1);
+	}
+
+	@Override
+	public void setKundencockpit_includedTab2(final java.lang.String Kundencockpit_includedTab2)
+	{
+		setValue("Kundencockpit_includedTab2", Kundencockpit_includedTab2);
+	}
+
+	@Override
+	public void setKundencockpit_includedTab3(final java.lang.String Kundencockpit_includedTab3)
+	{
+		setValue("Kundencockpit_includedTab3", Kundencockpit_includedTab3);
+	}
+
+	@Override
+	public void setLastname(final java.lang.String Lastname)
+	{
+		setValue("Lastname", Lastname);
+	}
+
+	@Override
+	public void setLogo(final org.compiere.model.I_AD_Image Logo)
+	{
+		setValueFromPO("Logo_ID", org.compiere.model.I_AD_Image.class, Logo);
+	}
+
+	@Override
+	public void setLogo_ID(final int Logo_ID)
+	{
+		setValue("Logo_ID", Logo_ID);
+	}
+
+	@Override
+	public void setMRP_Exclude(final java.lang.String MRP_Exclude)
+	{
+		setValue("MRP_Exclude", MRP_Exclude);
+	}
+
+	@Override
+	public void setM_DiscountSchema(final org.compiere.model.I_M_DiscountSchema M_DiscountSchema)
+	{
+		setValueFromPO("M_DiscountSchema_ID", org.compiere.model.I_M_DiscountSchema.class, M_DiscountSchema);
+	}
+
+	@Override
+	public void setM_DiscountSchema_ID(final int M_DiscountSchema_ID)
+	{
+		setValue("M_DiscountSchema_ID", M_DiscountSchema_ID);
+	}
+
+	@Override
+	public void setM_FreightCost_ID(final int M_FreightCost_ID)
+	{
+		setValue("M_FreightCost_ID", M_FreightCost_ID);
+	}
+
+	@Override
+	public void setM_PriceList_ID(final int M_PriceList_ID)
+	{
+		setValue("M_PriceList_ID", M_PriceList_ID);
+	}
+
+	@Override
+	public void setM_PricingSystem_ID(final int M_PricingSystem_ID)
+	{
+		setValue("M_PricingSystem_ID", M_PricingSystem_ID);
+	}
+
+	@Override
+	public void setM_Shipper(final org.compiere.model.I_M_Shipper M_Shipper)
+	{
+		setValueFromPO("M_Shipper_ID", org.compiere.model.I_M_Shipper.class, M_Shipper);
+	}
+
+	@Override
+	public void setM_Shipper_ID(final int M_Shipper_ID)
+	{
+		setValue("M_Shipper_ID", M_Shipper_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_ID(final int M_Warehouse_ID)
+	{
+		setValue("M_Warehouse_ID", M_Warehouse_ID);
+	}
+
+	@Override
+	public void setMemo(final java.lang.String Memo)
+	{
+		setValue("Memo", Memo);
+	}
+
+	@Override
+	public void setMemo_Delivery(final java.lang.String Memo_Delivery)
+	{
+		setValue("Memo_Delivery", Memo_Delivery);
+	}
+
+	@Override
+	public void setMemo_Invoicing(final java.lang.String Memo_Invoicing)
+	{
+		setValue("Memo_Invoicing", Memo_Invoicing);
+	}
+
+	@Override
+	public void setNAICS(final java.lang.String NAICS)
+	{
+		setValue("NAICS", NAICS);
+	}
+
+	@Override
+	public void setName(final java.lang.String Name)
+	{
+		setValue("Name", Name);
+	}
+
+	@Override
+	public void setName2(final java.lang.String Name2)
+	{
+		setValue("Name2", Name2);
+	}
+
+	@Override
+	public void setName3(final java.lang.String Name3)
+	{
+		setValue("Name3", Name3);
+	}
+
+	@Override
+	public void setNumberEmployees(final int NumberEmployees)
+	{
+		setValue("NumberEmployees", NumberEmployees);
+	}
+
+	@Override
+	public void setPOReference(final java.lang.String POReference)
+	{
+		setValue("POReference", POReference);
+	}
+
+	@Override
+	public void setPOReferencePattern(final java.lang.String POReferencePattern)
+	{
+		setValue("POReferencePattern", POReferencePattern);
+	}
+
+	@Override
+	public void setPO_DeliveryViaRule(final java.lang.String PO_DeliveryViaRule)
+	{
+		setValue("PO_DeliveryViaRule", PO_DeliveryViaRule);
+	}
+
+	@Override
+	public void setPO_DiscountSchema(final org.compiere.model.I_M_DiscountSchema PO_DiscountSchema)
+	{
+		setValueFromPO("PO_DiscountSchema_ID", org.compiere.model.I_M_DiscountSchema.class, PO_DiscountSchema);
+	}
+
+	@Override
+	public void setPO_DiscountSchema_ID(final int PO_DiscountSchema_ID)
+	{
+		setValue("PO_DiscountSchema_ID", PO_DiscountSchema_ID);
+	}
+
+	@Override
+	public void setPO_PaymentTerm_ID(final int PO_PaymentTerm_ID)
+	{
+		setValue("PO_PaymentTerm_ID", PO_PaymentTerm_ID);
+	}
+
+	@Override
+	public void setPO_PriceList_ID(final int PO_PriceList_ID)
+	{
+		setValue("PO_PriceList_ID", PO_PriceList_ID);
+	}
+
+	@Override
+	public void setPO_PricingSystem_ID(final int PO_PricingSystem_ID)
+	{
+		setValue("PO_PricingSystem_ID", PO_PricingSystem_ID);
+	}
+
+	@Override
+	public void setPaymentRule(final java.lang.String PaymentRule)
+	{
+		setValue("PaymentRule", PaymentRule);
+	}
+
+	@Override
+	public void setPaymentRulePO(final java.lang.String PaymentRulePO)
+	{
+		setValue("PaymentRulePO", PaymentRulePO);
+	}
+
+	@Override
+	public void setPhone2(final java.lang.String Phone2)
+	{
+		setValue("Phone2", Phone2);
+	}
+
+	@Override
+	public void setPostal(final java.lang.String Postal)
+	{
+		setValue("Postal", Postal);
+	}
+
+	@Override
+	public void setPotentialLifeTimeValue(final java.math.BigDecimal PotentialLifeTimeValue)
+	{
+		setValue("PotentialLifeTimeValue", PotentialLifeTimeValue);
+	}
+
+	@Override
+	public void setQMSCertificateCustomer(final boolean QMSCertificateCustomer)
+	{
+		setValue("QMSCertificateCustomer", QMSCertificateCustomer);
+	}
+
+	@Override
+	public void setQMSCertificateVendor(final boolean QMSCertificateVendor)
+	{
+		setValue("QMSCertificateVendor", QMSCertificateVendor);
+	}
+
+	@Override
+	public void setQualification(final java.lang.String Qualification)
+	{
+		setValue("Qualification", Qualification);
+	}
+
+	@Override
+	public void setRating(final java.lang.String Rating)
+	{
+		setValue("Rating", Rating);
+	}
+
+	@Override
+	public void setReferenceNo(final java.lang.String ReferenceNo)
+	{
+		setValue("ReferenceNo", ReferenceNo);
+	}
+
+	@Override
+	public void setReminderDateExtern(final java.sql.Timestamp ReminderDateExtern)
+	{
+		setValue("ReminderDateExtern", ReminderDateExtern);
+	}
+
+	@Override
+	public void setReminderDateIntern(final java.sql.Timestamp ReminderDateIntern)
+	{
+		setValue("ReminderDateIntern", ReminderDateIntern);
+	}
+
+	@Override
+	public void setSO_Description(final java.lang.String SO_Description)
+	{
+		setValue("SO_Description", SO_Description);
+	}
+
+	@Override
+	public void setSO_DocTypeTarget_ID(final int SO_DocTypeTarget_ID)
+	{
+		setValue("SO_DocTypeTarget_ID", SO_DocTypeTarget_ID);
+	}
+
+	@Override
+	public void setSO_TargetDocTypeReason(final java.lang.String SO_TargetDocTypeReason)
+	{
+		setValue("SO_TargetDocTypeReason", SO_TargetDocTypeReason);
+	}
+
+	@Override
+	public void setSalesPartnerCode(final java.lang.String SalesPartnerCode)
+	{
+		setValue("SalesPartnerCode", SalesPartnerCode);
+	}
+
+	@Override
+	public void setSalesRepIntern_ID(final int SalesRepIntern_ID)
+	{
+		setValue("SalesRepIntern_ID", SalesRepIntern_ID);
+	}
+
+	@Override
+	public void setSalesRep_ID(final int SalesRep_ID)
+	{
+		setValue("SalesRep_ID", SalesRep_ID);
+	}
+
+	@Override
+	public void setSalesVolume(final int SalesVolume)
+	{
+		setValue("SalesVolume", SalesVolume);
+	}
+
+	@Override
+	public void setSalesgroup(final java.lang.String Salesgroup)
+	{
+		setValue("Salesgroup", Salesgroup);
+	}
+
+	@Override
+	public void setSelfDisclosureCustomer(final boolean SelfDisclosureCustomer)
+	{
+		setValue("SelfDisclosureCustomer", SelfDisclosureCustomer);
+	}
+
+	@Override
+	public void setSelfDisclosureVendor(final boolean SelfDisclosureVendor)
+	{
+		setValue("SelfDisclosureVendor", SelfDisclosureVendor);
+	}
+
+	@Override
+	public void setSendEMail(final boolean SendEMail)
+	{
+		setValue("SendEMail", SendEMail);
+	}
+
+	@Override
+	public void setShareOfCustomer(final int ShareOfCustomer)
+	{
+		setValue("ShareOfCustomer", ShareOfCustomer);
+	}
+
+	@Override
+	public void setShelfLifeMinPct(final int ShelfLifeMinPct)
+	{
+		setValue("ShelfLifeMinPct", ShelfLifeMinPct);
+	}
+
+	@Override
+	public void setShipmentAllocation_BestBefore_Policy(final java.lang.String ShipmentAllocation_BestBefore_Policy)
+	{
+		setValue("ShipmentAllocation_BestBefore_Policy", ShipmentAllocation_BestBefore_Policy);
+	}
+
+	@Override
+	public void setShortDescription(final java.lang.String ShortDescription)
+	{
+		setValue("ShortDescription", ShortDescription);
+	}
+
+	@Override
+	public void setTaxID(final java.lang.String TaxID)
+	{
+		setValue("TaxID", TaxID);
+	}
+
+	@Override
+	public void setURL(final java.lang.String URL)
+	{
+		setValue("URL", URL);
+	}
+
+	@Override
+	public void setURL2(final java.lang.String URL2)
+	{
+		setValue("URL2", URL2);
+	}
+
+	@Override
+	public void setURL3(final java.lang.String URL3)
+	{
+		setValue("URL3", URL3);
+	}
+
+	@Override
+	public void setVATaxID(final java.lang.String VATaxID)
+	{
+		setValue("VATaxID", VATaxID);
+	}
+
+	@Override
+	public void setValue(final java.lang.String Value)
+	{
+		setValue("Value", Value);
+	}
+
+	@Override
+	public void setVendorCategory(final java.lang.String VendorCategory)
+	{
+		setValue("VendorCategory", VendorCategory);
+	}
+}
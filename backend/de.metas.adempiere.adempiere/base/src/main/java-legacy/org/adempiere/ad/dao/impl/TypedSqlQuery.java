@@ -195,6 +195,15 @@ public class TypedSqlQuery<T> extends AbstractTypedQuery<T>
 		return sqlFrom;
 	}
 
+	/**
+	 * @return true if this query selects only from {@link #getTableName()}, i.e. it has neither a custom FROM clause nor UNIONs
+	 */
+	/* package */ boolean isSelectingFromTableOnly()
+	{
+		return (sqlFrom == null || sqlFrom.isEmpty())
+				&& (unions == null || unions.isEmpty());
+	}
+
 	/**
 	 * Set query parameters
 	 *
@@ -959,7 +968,9 @@ public class TypedSqlQuery<T> extends AbstractTypedQuery<T>
 			return it;
 		}
 
-		final POBufferedIterator<T, ET> poBufferedIterator = new POBufferedIterator<>(this, clazz, null);
+		final Boolean keysetPagingOption = getOption(OPTION_IteratorKeysetPaging);
+		final boolean keysetPaging = keysetPagingOption != null ? keysetPagingOption : DEFAULT_OPTION_IteratorKeysetPaging;
+		final POBufferedIterator<T, ET> poBufferedIterator = new POBufferedIterator<>(this, clazz, null, keysetPaging);
 		if (iteratorBufferSize != null)
 		{
 			poBufferedIterator.setBufferSize(iteratorBufferSize);
@@ -1068,6 +1079,28 @@ public class TypedSqlQuery<T> extends AbstractTypedQuery<T>
 		return setWhereClause(whereClauseFinal);
 	}
 
+	/**
+	 * Same as {@link #addWhereClause(boolean, String)}, but the given <code>whereClause</code> may contain <code>?</code> placeholders.
+	 * The given <code>whereClauseParams</code> are appended to the copy's parameters.
+	 *
+	 * @return a copy of this instance
+	 */
+	public TypedSqlQuery<T> addWhereClause(final boolean joinByAnd, final String whereClause, @NonNull final List<Object> whereClauseParams)
+	{
+		final TypedSqlQuery<T> query = addWhereClause(joinByAnd, whereClause);
+		if (!whereClauseParams.isEmpty())
+		{
+			final List<Object> parameters = new ArrayList<>();
+			if (query.parameters != null)
+			{
+				parameters.addAll(query.parameters);
+			}
+			parameters.addAll(whereClauseParams);
+			query.parameters = parameters;
+		}
+		return query;
+	}
+
 	public String getWhereClause()
 	{
 		return whereClause;
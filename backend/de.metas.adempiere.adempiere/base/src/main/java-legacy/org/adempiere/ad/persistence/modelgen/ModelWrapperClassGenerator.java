@@ -0,0 +1,362 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.adempiere.ad.persistence.modelgen;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.model.AbstractPOWrapperModel;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.model.ModelWrapperClassRegistry;
+import org.adempiere.model.POWrapper;
+import org.compiere.model.PO;
+import org.slf4j.Logger;
+
+import de.metas.logging.LogManager;
+import lombok.NonNull;
+
+/**
+ * Generates the {@link AbstractPOWrapperModel} implementation of a compiled model interface (e.g. {@code I_C_Order}).
+ * <p>
+ * The generated class is picked up by {@link ModelWrapperClassRegistry} and used by {@link POWrapper} instead of a dynamic proxy.
+ * The methods are mapped the same way {@code ModelClassIntrospector} is doing it for the proxy.
+ * Interfaces with methods that can't be mapped (e.g. generic methods or methods which are not getters/setters) are skipped, so they will still use the proxy.
+ * <p>
+ * The classes generated for the most used model extension interfaces are part of the modules' {@code src/main/java-gen} folders.
+ * Please regenerate them when their interface is changed; {@code ModelWrapperClassGeneratorTest} is failing otherwise.
+ * <p>
+ * Accepts following parameters:
+ * <ul>
+ * <li>Parameter 1: Output (source) directory
+ * <li>Parameter 2..n: fully qualified model interface names
+ * </ul>
+ */
+public class ModelWrapperClassGenerator
+{
+	private static final transient Logger log = LogManager.getLogger(ModelWrapperClassGenerator.class);
+
+	private static final String NL = "\n";
+
+	public static void main(final String[] args)
+	{
+		if (args.length < 2)
+		{
+			System.err.println("Usage: " + ModelWrapperClassGenerator.class.getSimpleName() + " <output directory> <model interface classname>...");
+			System.exit(1);
+		}
+
+		final File directory = new File(args[0]);
+		int count = 0;
+		for (int i = 1; i < args.length; i++)
+		{
+			final Class<?> interfaceClass;
+			try
+			{
+				interfaceClass = Class.forName(args[i].trim());
+			}
+			catch (final ClassNotFoundException ex)
+			{
+				throw new AdempiereException("Model interface not found: " + args[i], ex);
+			}
+
+			if (generateToDirectory(interfaceClass, directory))
+			{
+				count++;
+			}
+		}
+
+		log.info("Generated = {}", count);
+	}
+
+	/**
+	 * @return true if the class was generated
+	 */
+	public static boolean generateToDirectory(@NonNull final Class<?> interfaceClass, @NonNull final File directory)
+	{
+		final String source = generate(interfaceClass).orElse(null);
+		if (source == null)
+		{
+			return false;
+		}
+
+		final String fileName = ModelWrapperClassRegistry.getGeneratedClassName(interfaceClass).replace('.', File.separatorChar) + ".java";
+		final File file = new File(directory, fileName);
+		try
+		{
+			file.getParentFile().mkdirs(); // make sure directory exists
+			Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+		}
+		catch (final IOException ex)
+		{
+			throw new AdempiereException("Failed writing " + file, ex);
+		}
+
+		log.info("{} - {} kB", file.getAbsolutePath(), file.length() / 1024f);
+		return true;
+	}
+
+	/**
+	 * @return the source code of the generated class or empty if the given interface is not supported
+	 */
+	public static Optional<String> generate(@NonNull final Class<?> interfaceClass)
+	{
+		if (!interfaceClass.isInterface() || interfaceClass.isMemberClass())
+		{
+			log.warn("Skip {} because it's not a top level interface", interfaceClass);
+			return Optional.empty();
+		}
+		if (InterfaceWrapperHelper.getTableNameOrNull(interfaceClass) == null)
+		{
+			log.warn("Skip {} because it has no Table_Name", interfaceClass);
+			return Optional.empty();
+		}
+
+		try
+		{
+			return Optional.of(new ModelWrapperClassGenerator(interfaceClass).generateSource());
+		}
+		catch (final UnsupportedMethodException ex)
+		{
+			log.warn("Skip {}: {}", interfaceClass, ex.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private final Class<?> interfaceClass;
+	private final String interfaceName;
+
+	private final Map<String, String> fields = new TreeMap<>();
+	private final List<String> methods = new ArrayList<>();
+
+	private ModelWrapperClassGenerator(final Class<?> interfaceClass)
+	{
+		this.interfaceClass = interfaceClass;
+		this.interfaceName = interfaceClass.getCanonicalName();
+	}
+
+	private String generateSource()
+	{
+		for (final Method method : getMethodsToImplement())
+		{
+			methods.add(createMethod(method));
+		}
+
+		final String className = ModelWrapperClassRegistry.getGeneratedClassSimpleName(interfaceClass);
+		final StringBuilder sb = new StringBuilder();
+		if (interfaceClass.getPackage() != null && !interfaceClass.getPackage().getName().isEmpty())
+		{
+			sb.append("package ").append(interfaceClass.getPackage().getName()).append(";").append(NL)
+					.append(NL);
+		}
+
+		sb.append("/** Generated {@link ").append(AbstractPOWrapperModel.class.getSimpleName()).append("} for {@link ").append(interfaceName).append("}. Please don't edit it, but regenerate it. */").append(NL)
+				.append("@SuppressWarnings(\"javadoc\")").append(NL)
+				.append("public final class ").append(className)
+				.append(" extends ").append(AbstractPOWrapperModel.class.getName())
+				.append(" implements ").append(interfaceName).append(NL)
+				.append("{").append(NL);
+
+		fields.values().forEach(field -> sb.append("\t").append(field).append(NL));
+		if (!fields.isEmpty())
+		{
+			sb.append(NL);
+		}
+
+		sb.append("\tpublic ").append(className).append("(final ").append(POWrapper.class.getName()).append(" wrapper)").append(NL)
+				.append("\t{").append(NL)
+				.append("\t\tsuper(wrapper);").append(NL)
+				.append("\t}").append(NL);
+
+		methods.forEach(method -> sb.append(NL).append(method));
+
+		sb.append("}").append(NL);
+		return sb.toString();
+	}
+
+	/**
+	 * @return the abstract methods of the interface. If a method is declared more than once (e.g. with a covariant return type in a sub-interface), the most specific one is returned.
+	 */
+	private List<Method> getMethodsToImplement()
+	{
+		final Map<String, Method> methodsBySignature = new LinkedHashMap<>();
+		final Method[] interfaceMethods = interfaceClass.getMethods();
+		Arrays.sort(interfaceMethods, Comparator.comparing(Method::getName).thenComparing(Method::toString));
+		for (final Method method : interfaceMethods)
+		{
+			if (!Modifier.isAbstract(method.getModifiers()))
+			{
+				continue; // static or default method
+			}
+
+			final String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+			final Method existingMethod = methodsBySignature.get(signature);
+			if (existingMethod == null || existingMethod.getReturnType().isAssignableFrom(method.getReturnType()))
+			{
+				methodsBySignature.put(signature, method);
+			}
+			else if (!method.getReturnType().isAssignableFrom(existingMethod.getReturnType()))
+			{
+				throw new UnsupportedMethodException(method, "incompatible return types");
+			}
+		}
+
+		return new ArrayList<>(methodsBySignature.values());
+	}
+
+	private String createMethod(final Method method)
+	{
+		if (method.getTypeParameters().length > 0)
+		{
+			throw new UnsupportedMethodException(method, "generic methods are not supported");
+		}
+		assertNotGeneric(method, method.getGenericReturnType());
+		for (final Type parameterType : method.getGenericParameterTypes())
+		{
+			assertNotGeneric(method, parameterType);
+		}
+
+		final String methodName = method.getName();
+		final Class<?>[] parameterTypes = method.getParameterTypes();
+		final Class<?> returnType = method.getReturnType();
+
+		if (methodName.startsWith("set") && parameterTypes.length == 1)
+		{
+			final String propertyName = methodName.substring(3);
+			final Class<?> parameterType = parameterTypes[0];
+			if (InterfaceWrapperHelper.isModelInterface(parameterType))
+			{
+				return createMethod(method, propertyName,
+						"setValueFromPO(\"" + propertyName + "_ID\", " + toJavaType(parameterType) + ".class, " + propertyName + ");");
+			}
+			else
+			{
+				return createMethod(method, propertyName,
+						"setValue(\"" + propertyName + "\", " + propertyName + ");");
+			}
+		}
+		else if (methodName.startsWith("get") && parameterTypes.length == 0)
+		{
+			final String propertyName = methodName.substring(3);
+			if (InterfaceWrapperHelper.isModelInterface(returnType))
+			{
+				final String fieldName = addField("ModelRef", "MODELREF_" + propertyName,
+						"ModelRef.of(" + interfaceName + ".class, \"" + methodName + "\", \"" + propertyName + "_ID\")");
+				return createMethod(method, null, "return getReferencedModel(" + fieldName + ");");
+			}
+			else if (PO.class.isAssignableFrom(returnType))
+			{
+				throw new UnsupportedMethodException(method, "PO return types are not supported");
+			}
+
+			final String fieldName = addField("ColumnRef", "COLUMNREF_" + propertyName, "ColumnRef.ofColumnName(\"" + propertyName + "\")");
+			if (returnType == int.class)
+			{
+				return createMethod(method, null, "return getValueAsInt(" + fieldName + ");");
+			}
+			else
+			{
+				return createMethod(method, null, "return getValue(" + fieldName + ", " + toJavaType(returnType) + ".class);");
+			}
+		}
+		else if (methodName.startsWith("is") && parameterTypes.length == 0)
+		{
+			final String propertyName = methodName.substring(2);
+			final String fieldName = addField("ColumnRef", "BOOLEANREF_" + propertyName, "ColumnRef.ofBooleanProperty(\"" + propertyName + "\")");
+			if (returnType == boolean.class)
+			{
+				return createMethod(method, null, "return getValueAsBoolean(" + fieldName + ");");
+			}
+			else
+			{
+				return createMethod(method, null, "return getValue(" + fieldName + ", " + toJavaType(returnType) + ".class);");
+			}
+		}
+		else if (methodName.equals("equals") && parameterTypes.length == 1)
+		{
+			throw new UnsupportedMethodException(method, "equals is implemented by " + AbstractPOWrapperModel.class.getSimpleName());
+		}
+		else
+		{
+			throw new UnsupportedMethodException(method, "only getters and setters are supported");
+		}
+	}
+
+	private String addField(final String type, final String fieldName, final String initializer)
+	{
+		fields.put(fieldName, "private static final " + type + " " + fieldName + " = " + initializer + ";");
+		return fieldName;
+	}
+
+	private static String createMethod(final Method method, final String parameterName, final String body)
+	{
+		final StringBuilder sb = new StringBuilder();
+		sb.append("\t@Override").append(NL)
+				.append("\tpublic ").append(toJavaType(method.getReturnType())).append(" ").append(method.getName()).append("(");
+		if (parameterName != null)
+		{
+			sb.append("final ").append(toJavaType(method.getParameterTypes()[0])).append(" ").append(parameterName);
+		}
+		sb.append(")").append(NL)
+				.append("\t{").append(NL)
+				.append("\t\t").append(body).append(NL)
+				.append("\t}").append(NL);
+		return sb.toString();
+	}
+
+	private static String toJavaType(final Class<?> type)
+	{
+		return type.getCanonicalName();
+	}
+
+	private static void assertNotGeneric(final Method method, final Type type)
+	{
+		if (!(type instanceof Class))
+		{
+			throw new UnsupportedMethodException(method, "generic type " + type + " is not supported");
+		}
+	}
+
+	private static final class UnsupportedMethodException extends AdempiereException
+	{
+		private static final long serialVersionUID = 1L;
+
+		private UnsupportedMethodException(final Method method, final String reason)
+		{
+			super(method + ": " + reason);
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.adempiere.model;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.compiere.model.PO;
+import org.compiere.model.POInfo;
+
+import com.google.common.collect.ImmutableList;
+
+import lombok.NonNull;
+
+/**
+ * Base class for the generated model interface implementations which are used by {@link POWrapper} instead of a {@link java.lang.reflect.Proxy}.
+ * <p>
+ * The generated classes are calling the typed accessors of this class, which are resolving the column index only once per {@link POInfo}
+ * and then are reading the values by index, bypassing the method lookup and column name resolution the proxy is doing on each call.
+ * <p>
+ * The semantics are the same as the ones of the proxy's method handlers from {@code org.adempiere.ad.persistence}.
+ *
+ * @see ModelWrapperClassRegistry
+ * @see org.adempiere.ad.persistence.modelgen.ModelWrapperClassGenerator
+ */
+public abstract class AbstractPOWrapperModel
+{
+	private final POWrapper wrapper;
+
+	protected AbstractPOWrapperModel(@NonNull final POWrapper wrapper)
+	{
+		this.wrapper = wrapper;
+	}
+
+	/* package */ final POWrapper getPOWrapper()
+	{
+		return wrapper;
+	}
+
+	@Override
+	public final String toString()
+	{
+		return wrapper.getPO().toString();
+	}
+
+	@Override
+	public final int hashCode()
+	{
+		return wrapper.getPO().hashCode();
+	}
+
+	@Override
+	public final boolean equals(final Object obj)
+	{
+		return wrapper.isSamePO(obj);
+	}
+
+	/**
+	 * Same as {@code ValueGetterMethodInfo}: if the column does not exist or the value is null, the default value for the given type is returned.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final <T> T getValue(@NonNull final ColumnRef column, @NonNull final Class<T> returnType)
+	{
+		final PO po = wrapper.getPO();
+		final ResolvedColumn resolvedColumn = column.resolve(po);
+
+		final Object value = resolvedColumn.getIndex() >= 0
+				? wrapper.getValue(resolvedColumn.getColumnName(), resolvedColumn.getIndex(), returnType)
+				: column.getValueIfMissing(po);
+		if (value != null)
+		{
+			return (T)value;
+		}
+
+		if (returnType == int.class)
+		{
+			return (T)Integer.valueOf(0);
+		}
+		else if (returnType == BigDecimal.class)
+		{
+			return (T)BigDecimal.ZERO;
+		}
+		else
+		{
+			return null;
+		}
+	}
+
+	protected final int getValueAsInt(@NonNull final ColumnRef column)
+	{
+		final Integer value = getValue(column, int.class);
+		return value;
+	}
+
+	/**
+	 * Same as {@code BooleanGetterMethodInfo}, which is converting the value using {@link org.compiere.util.DisplayType#toBoolean(Object)}.
+	 */
+	protected final boolean getValueAsBoolean(@NonNull final ColumnRef column)
+	{
+		final Boolean value = getValue(column, boolean.class);
+		return value;
+	}
+
+	protected final void setValue(final String columnName, @Nullable final Object value)
+	{
+		wrapper.setValue(columnName, value);
+	}
+
+	protected final void setValueFromPO(final String idColumnName, final Class<?> modelClass, @Nullable final Object value)
+	{
+		wrapper.setValueFromPO(idColumnName, modelClass, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected final <T> T getReferencedModel(@NonNull final ModelRef model)
+	{
+		try
+		{
+			return (T)wrapper.getReferencedObject(model.getColumnName(), model.getInterfaceMethod());
+		}
+		catch (final Exception ex)
+		{
+			throw AdempiereException.wrapIfNeeded(ex);
+		}
+	}
+
+	/**
+	 * A column accessed by a generated model class, caching the resolved column index for the last seen {@link POInfo}.
+	 */
+	public static final class ColumnRef
+	{
+		public static ColumnRef ofColumnName(@NonNull final String columnName)
+		{
+			return new ColumnRef(ImmutableList.of(columnName), false);
+		}
+
+		/**
+		 * For {@code isXXX()} methods, where the column might be named {@code XXX}, {@code IsXXX} or {@code isXXX}.
+		 */
+		public static ColumnRef ofBooleanProperty(@NonNull final String propertyName)
+		{
+			return new ColumnRef(ImmutableList.of(propertyName, "Is" + propertyName, "is" + propertyName), true);
+		}
+
+		private final ImmutableList<String> columnNameCandidates;
+		private final boolean failIfMissing;
+		private volatile ResolvedColumn resolvedColumn;
+
+		private ColumnRef(final ImmutableList<String> columnNameCandidates, final boolean failIfMissing)
+		{
+			this.columnNameCandidates = columnNameCandidates;
+			this.failIfMissing = failIfMissing;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "ColumnRef" + columnNameCandidates;
+		}
+
+		private ResolvedColumn resolve(final PO po)
+		{
+			final POInfo poInfo = po.getPOInfo();
+
+			ResolvedColumn resolvedColumn = this.resolvedColumn;
+			if (resolvedColumn == null || resolvedColumn.getPoInfo() != poInfo)
+			{
+				resolvedColumn = resolve(poInfo);
+				this.resolvedColumn = resolvedColumn;
+			}
+			return resolvedColumn;
+		}
+
+		private ResolvedColumn resolve(final POInfo poInfo)
+		{
+			for (final String columnName : columnNameCandidates)
+			{
+				final int index = poInfo.getColumnIndex(columnName);
+				if (index >= 0)
+				{
+					return new ResolvedColumn(poInfo, columnName, index);
+				}
+			}
+
+			return new ResolvedColumn(poInfo, columnNameCandidates.get(0), -1);
+		}
+
+		@Nullable
+		private Object getValueIfMissing(final PO po)
+		{
+			if (failIfMissing)
+			{
+				throw new IllegalArgumentException("None of the columns " + columnNameCandidates + " is supported on model " + po);
+			}
+			return null;
+		}
+	}
+
+	private static final class ResolvedColumn
+	{
+		private final POInfo poInfo;
+		private final String columnName;
+		private final int index;
+
+		private ResolvedColumn(final POInfo poInfo, final String columnName, final int index)
+		{
+			this.poInfo = poInfo;
+			this.columnName = columnName;
+			this.index = index;
+		}
+
+		public POInfo getPoInfo()
+		{
+			return poInfo;
+		}
+
+		public String getColumnName()
+		{
+			return columnName;
+		}
+
+		public int getIndex()
+		{
+			return index;
+		}
+	}
+
+	/**
+	 * A referenced model accessed by a generated model class, e.g. {@code I_C_Invoice.getC_BPartner()}.
+	 */
+	public static final class ModelRef
+	{
+		public static ModelRef of(@NonNull final Class<?> interfaceClass, @NonNull final String getterMethodName, @NonNull final String columnName)
+		{
+			try
+			{
+				return new ModelRef(interfaceClass.getMethod(getterMethodName), columnName);
+			}
+			catch (final NoSuchMethodException ex)
+			{
+				throw new AdempiereException("No method " + getterMethodName + " found in " + interfaceClass, ex);
+			}
+		}
+
+		private final Method interfaceMethod;
+		private final String columnName;
+
+		private ModelRef(final Method interfaceMethod, final String columnName)
+		{
+			this.interfaceMethod = interfaceMethod;
+			this.columnName = columnName;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "ModelRef[" + interfaceMethod.getName() + ", " + columnName + "]";
+		}
+
+		private Method getInterfaceMethod()
+		{
+			return interfaceMethod;
+		}
+
+		private String getColumnName()
+		{
+			return columnName;
+		}
+	}
+}
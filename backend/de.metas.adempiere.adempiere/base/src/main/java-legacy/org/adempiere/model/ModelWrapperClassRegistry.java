@@ -0,0 +1,142 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.adempiere.model;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.slf4j.Logger;
+
+import de.metas.logging.LogManager;
+import lombok.NonNull;
+
+/**
+ * Finds the generated {@link AbstractPOWrapperModel} implementation of a given model interface.
+ * <p>
+ * The generated class is looked up by naming convention (see {@link #getGeneratedClassName(Class)}), so no registration is needed.
+ * Interfaces without a generated class are remembered too, and {@link POWrapper} is falling back to a dynamic proxy for them.
+ * <p>
+ * Set the system property {@value #SYSTEM_PROPERTY_Disabled} to {@code true} in order to always use dynamic proxies.
+ */
+public final class ModelWrapperClassRegistry
+{
+	public static final ModelWrapperClassRegistry instance = new ModelWrapperClassRegistry();
+
+	private static final Logger logger = LogManager.getLogger(ModelWrapperClassRegistry.class);
+
+	public static final String SYSTEM_PROPERTY_Disabled = "org.adempiere.model.POWrapper.DisableGeneratedModels";
+
+	private static final String GENERATED_CLASSNAME_PREFIX = "POWrapper_";
+
+	private final boolean enabled = !"true".equals(System.getProperty(SYSTEM_PROPERTY_Disabled));
+	private final ConcurrentHashMap<Class<?>, Optional<Constructor<?>>> constructorsByInterfaceClass = new ConcurrentHashMap<>();
+
+	private ModelWrapperClassRegistry()
+	{
+	}
+
+	/**
+	 * @return the fully qualified name of the generated class, e.g. {@code org.compiere.model.POWrapper_I_C_Order} for {@code org.compiere.model.I_C_Order}
+	 */
+	public static String getGeneratedClassName(@NonNull final Class<?> interfaceClass)
+	{
+		final Package interfacePackage = interfaceClass.getPackage();
+		final String packagePrefix = interfacePackage == null || interfacePackage.getName().isEmpty() ? "" : interfacePackage.getName() + ".";
+		return packagePrefix + getGeneratedClassSimpleName(interfaceClass);
+	}
+
+	public static String getGeneratedClassSimpleName(@NonNull final Class<?> interfaceClass)
+	{
+		return GENERATED_CLASSNAME_PREFIX + interfaceClass.getSimpleName();
+	}
+
+	/**
+	 * @return a new instance of the generated class or {@code null} if there is no generated class for given interface
+	 */
+	@Nullable
+	/* package */ <T> T newInstanceOrNull(@NonNull final Class<T> interfaceClass, @NonNull final POWrapper wrapper)
+	{
+		if (!enabled)
+		{
+			return null;
+		}
+
+		final Constructor<?> constructor = constructorsByInterfaceClass
+				.computeIfAbsent(interfaceClass, ModelWrapperClassRegistry::findConstructor)
+				.orElse(null);
+		if (constructor == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			return interfaceClass.cast(constructor.newInstance(wrapper));
+		}
+		catch (final Exception ex)
+		{
+			throw new AdempiereException("Failed instantiating " + constructor.getDeclaringClass() + " for " + wrapper.getPO(), ex);
+		}
+	}
+
+	private static Optional<Constructor<?>> findConstructor(final Class<?> interfaceClass)
+	{
+		if (!interfaceClass.isInterface() || interfaceClass.isMemberClass())
+		{
+			return Optional.empty();
+		}
+
+		final String generatedClassName = getGeneratedClassName(interfaceClass);
+		final Class<?> generatedClass;
+		try
+		{
+			generatedClass = Class.forName(generatedClassName, true, interfaceClass.getClassLoader());
+		}
+		catch (final ClassNotFoundException ex)
+		{
+			return Optional.empty();
+		}
+
+		if (!AbstractPOWrapperModel.class.isAssignableFrom(generatedClass) || !interfaceClass.isAssignableFrom(generatedClass))
+		{
+			logger.warn("Ignoring {} because it's not an {} implementing {}", generatedClass, AbstractPOWrapperModel.class.getSimpleName(), interfaceClass);
+			return Optional.empty();
+		}
+
+		try
+		{
+			final Constructor<?> constructor = generatedClass.getConstructor(POWrapper.class);
+			logger.debug("Using {} for {}", generatedClass, interfaceClass);
+			return Optional.of(constructor);
+		}
+		catch (final NoSuchMethodException ex)
+		{
+			logger.warn("Ignoring {} because it has no public constructor with a {} parameter", generatedClass, POWrapper.class.getSimpleName());
+			return Optional.empty();
+		}
+	}
+}
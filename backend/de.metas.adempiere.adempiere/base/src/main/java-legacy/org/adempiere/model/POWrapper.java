@@ -148,9 +148,19 @@ public class POWrapper implements InvocationHandler, IInterfaceWrapper
 			}
 		}
 
+		final POWrapper wrapper = new POWrapper(cl, po, useOldValuesEffective, trlAdLanguageEffective);
+
+		//
+		// Use the generated model class if any, because it's much faster than the dynamic proxy
+		final T generatedModel = ModelWrapperClassRegistry.instance.newInstanceOrNull(cl, wrapper);
+		if (generatedModel != null)
+		{
+			return generatedModel;
+		}
+
 		return (T)Proxy.newProxyInstance(cl.getClassLoader(),
 				new Class<?>[] { cl },
-				new POWrapper(cl, po, useOldValuesEffective, trlAdLanguageEffective));
+				wrapper);
 	}
 
 	/**
@@ -318,6 +328,11 @@ public class POWrapper implements InvocationHandler, IInterfaceWrapper
 			return (T)model;
 		}
 
+		if (model instanceof AbstractPOWrapperModel)
+		{
+			return (T)((AbstractPOWrapperModel)model).getPOWrapper().getPO();
+		}
+
 		if (Proxy.isProxyClass(model.getClass()))
 		{
 			final InvocationHandler ih = Proxy.getInvocationHandler(model);
@@ -338,6 +353,11 @@ public class POWrapper implements InvocationHandler, IInterfaceWrapper
 
 	private static final POWrapper getPOWrapperOrNull(final Object model)
 	{
+		if (model instanceof AbstractPOWrapperModel)
+		{
+			return ((AbstractPOWrapperModel)model).getPOWrapper();
+		}
+
 		if (Proxy.isProxyClass(model.getClass()))
 		{
 			final InvocationHandler ih = Proxy.getInvocationHandler(model);
@@ -668,6 +688,11 @@ public class POWrapper implements InvocationHandler, IInterfaceWrapper
 	private final boolean invokeEquals(final Object[] args)
 	{
 		final Object otherModel = args[0];
+		return isSamePO(otherModel);
+	}
+
+	/* package */ final boolean isSamePO(final Object otherModel)
+	{
 		final PO otherPO = getPO(otherModel);
 		return po == otherPO || po.equals(otherPO);
 	}
@@ -702,7 +727,7 @@ public class POWrapper implements InvocationHandler, IInterfaceWrapper
 	 * @param method
 	 * @return model
 	 */
-	private final Object getReferencedObject(final String columnName, final Method interfaceMethod) throws Exception
+	/* package */ final Object getReferencedObject(final String columnName, final Method interfaceMethod) throws Exception
 	{
 		final Class<?> columnModelType = interfaceMethod.getReturnType();
 
@@ -40,6 +40,7 @@ import org.compiere.db.CConnection;
 import org.compiere.model.I_AD_System;
 import org.compiere.model.MLanguage;
 import org.compiere.model.ModelValidationEngine;
+import org.compiere.model.POInfoSnapshot;
 import org.compiere.util.DB;
 import org.compiere.util.Env;
 import org.compiere.util.Ini;
@@ -708,6 +709,12 @@ public class Adempiere
 			return false;
 		}
 
+		// Bulk load the POInfos from the dictionary snapshot, if configured
+		if (runMode != RunMode.SWING_CLIENT)
+		{
+			POInfoSnapshot.loadOrGenerate();
+		}
+
 		// Initialize main cached Singletons
 		ModelValidationEngine.get();
 		try
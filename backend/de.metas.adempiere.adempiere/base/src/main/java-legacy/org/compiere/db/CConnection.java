@@ -853,6 +853,27 @@ public final class CConnection implements Serializable, Cloneable
 		}
 	}    // getConnection
 
+	/**
+	 * Creates a new auto-commit database connection which is <b>not</b> taken from the connection pool.
+	 * <p>
+	 * Use it for long living connections which hold session state (e.g. {@code LISTEN}, session level advisory locks),
+	 * because the pool would reclaim them after its unreturned connection timeout.
+	 * TCP keepalive is enabled, so a dead peer is detected. The caller is responsible for closing the connection.
+	 *
+	 * @param applicationName shown in {@code pg_stat_activity}
+	 */
+	public Connection createDedicatedConnection(@NonNull final String applicationName) throws SQLException
+	{
+		final AdempiereDatabase db = getDatabase();
+		final String url = getConnectionURL()
+				+ (getConnectionURL().contains("?") ? "&" : "?") + "tcpKeepAlive=true"
+				+ "&ApplicationName=" + applicationName;
+
+		final Connection conn = db.getDriverConnection(url, getDbUid(), getDbPwd());
+		conn.setAutoCommit(true);
+		return conn;
+	}
+
 	/**
 	 * Get Transaction Isolation Info
 	 *
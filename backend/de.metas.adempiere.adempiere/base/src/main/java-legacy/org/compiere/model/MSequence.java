@@ -41,6 +41,7 @@ import org.slf4j.Logger;
 
 import de.metas.document.sequence.IDocumentNoBuilder;
 import de.metas.logging.LogManager;
+import de.metas.sequence.TableIdBlockAllocator;
 import de.metas.util.Check;
 import de.metas.util.Services;
 
@@ -94,6 +95,17 @@ public class MSequence extends X_AD_Sequence
 
 		s_log.trace("{} - AdempiereSys={} [{}]", TableName, adempiereSys, trxName);
 
+		//
+		// If enabled, hand out the ID from a block which was reserved before, without locking AD_Sequence
+		if (!adempiereSys && !isUseExternalIDSystem(TableName, AD_Client_ID))
+		{
+			final TableIdBlockAllocator blockAllocator = TableIdBlockAllocator.get();
+			if (blockAllocator.isEnabled())
+			{
+				return blockAllocator.nextId(TableName);
+			}
+		}
+
 		final String selectSQL = "SELECT CurrentNext, CurrentNextSys, IncrementNo, AD_Sequence_ID "
 				+ "FROM AD_Sequence "
 				+ "WHERE Name=?"
@@ -21,11 +21,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Hashtable;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -40,6 +40,10 @@ import org.adempiere.ad.modelvalidator.ModuleActivatorDescriptor;
 import org.adempiere.ad.modelvalidator.ModuleActivatorDescriptorsCollection;
 import org.adempiere.ad.modelvalidator.ModuleActivatorDescriptorsRepository;
 import org.adempiere.ad.modelvalidator.TimingType;
+import org.adempiere.ad.modelvalidator.impl.JMXModelInterceptorsStatistics;
+import org.adempiere.ad.modelvalidator.impl.ModelInterceptorStats;
+import org.adempiere.ad.modelvalidator.impl.ModelInterceptorsDispatchTable;
+import org.adempiere.ad.modelvalidator.impl.ModelInterceptorsStatistics;
 import org.adempiere.ad.persistence.EntityTypesCache;
 import org.adempiere.ad.service.IADTableScriptValidatorDAO;
 import org.adempiere.ad.service.ISystemBL;
@@ -52,6 +56,8 @@ import org.adempiere.ad.trx.api.ITrxRunConfig.TrxPropagation;
 import org.adempiere.exceptions.AdempiereException;
 import org.adempiere.model.InterfaceWrapperHelper;
 import org.adempiere.util.LegacyAdapters;
+import org.adempiere.util.jmx.JMXRegistry;
+import org.adempiere.util.jmx.JMXRegistry.OnJMXAlreadyExistsPolicy;
 import org.adempiere.util.lang.IAutoCloseable;
 import org.compiere.Adempiere.RunMode;
 import org.compiere.SpringContextHolder;
@@ -67,6 +73,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
 
 import de.metas.impexp.processing.IImportInterceptor;
 import de.metas.impexp.processing.IImportProcess;
@@ -185,6 +192,8 @@ public class ModelValidationEngine implements IModelValidationEngine
 	private ModelValidationEngine()
 	{
 		// metas: tsa: begin: break this in 2 parts because if the get() method is called during initialization we will end with multiple instances of ModelVaidationEngine
+
+		JMXRegistry.get().registerJMX(new JMXModelInterceptorsStatistics(statistics), OnJMXAlreadyExistsPolicy.Replace);
 	}
 
 	private void init()
@@ -437,14 +446,16 @@ public class ModelValidationEngine implements IModelValidationEngine
 
 	/** Validators */
 	private ArrayList<ModelValidator> m_validators = new ArrayList<>();
-	/** Model Change Listeners */
-	private Hashtable<String, ArrayList<ModelValidator>> m_modelChangeListeners = new Hashtable<>();
-	/** Document Validation Listeners */
-	private Hashtable<String, ArrayList<ModelValidator>> m_docValidateListeners = new Hashtable<>();
+	/** Model Change Listeners; replaced (never changed) when registering, so firing events does not need to lock it */
+	private volatile ModelInterceptorsDispatchTable m_modelChangeListeners = ModelInterceptorsDispatchTable.EMPTY;
+	/** Document Validation Listeners; replaced (never changed) when registering, so firing events does not need to lock it */
+	private volatile ModelInterceptorsDispatchTable m_docValidateListeners = ModelInterceptorsDispatchTable.EMPTY;
 	/** Data Import Validation Listeners */
 	private Hashtable<String, ArrayList<IImportInterceptor>> m_impValidateListeners = new Hashtable<>();
 
-	private ArrayList<ModelValidator> m_globalValidators = new ArrayList<>();
+	private final Set<ModelValidator> m_globalValidators = Sets.newConcurrentHashSet();
+
+	private final ModelInterceptorsStatistics statistics = new ModelInterceptorsStatistics();
 
 	/**
 	 * Contains model validators for subsequent processing. The boolean value tells if the subsequent processing takes place directly when fireModelChange() is invoked with this type (
@@ -619,24 +630,16 @@ public class ModelValidationEngine implements IModelValidationEngine
 		{
 			registerGlobal(listener);
 		}
-		String propertyName = getPropertyName(tableName, listener);
-		ArrayList<ModelValidator> list = m_modelChangeListeners.get(propertyName);
-		if (list == null)
-		{
-			list = new ArrayList<>();
-			list.add(listener);
-			m_modelChangeListeners.put(propertyName, list);
-		}
-		else
+
+		synchronized (this)
 		{
 			// metas: add listener only if is not already added
-			if (!list.contains(listener))
-			{
-				list.add(listener);
-			}
-			else
+			final ModelInterceptorStats stats = statistics.getOrCreate(ModelInterceptorsStatistics.EVENTTYPE_ModelChange, listener);
+			final ModelInterceptorsDispatchTable modelChangeListenersOld = m_modelChangeListeners;
+			m_modelChangeListeners = modelChangeListenersOld.withInterceptor(tableName, isGlobal(listener), listener, stats);
+			if (m_modelChangeListeners == modelChangeListenersOld)
 			{
-				logger.debug("Listener " + listener + " already added for " + propertyName);
+				logger.debug("Listener {} already added for {}", listener, tableName);
 			}
 		}
 	}	// addModelValidator
@@ -668,16 +671,9 @@ public class ModelValidationEngine implements IModelValidationEngine
 			return;
 		}
 
-		String propertyName = getPropertyName(tableName, listener);
-		ArrayList<ModelValidator> list = m_modelChangeListeners.get(propertyName);
-		if (list == null)
+		synchronized (this)
 		{
-			return;
-		}
-		list.remove(listener);
-		if (list.size() == 0)
-		{
-			m_modelChangeListeners.remove(propertyName);
+			m_modelChangeListeners = m_modelChangeListeners.withoutInterceptor(tableName, isGlobal(listener), listener);
 		}
 	}	// removeModelValidator
 
@@ -712,11 +708,37 @@ public class ModelValidationEngine implements IModelValidationEngine
 						.build());
 	}
 
+	/**
+	 * @return true if {@link #fireModelChange(PO, ModelChangeType)} might invoke any interceptor for the given PO and change type.
+	 *         Might also return true if there are interceptors for the PO's table which don't handle the given change type.
+	 */
+	public boolean hasModelChangeInterceptors(@NonNull final PO po, @NonNull final ModelChangeType changeType)
+	{
+		final ModelInterceptorsDispatchTable modelChangeListeners = m_modelChangeListeners;
+		if (!modelChangeListeners.getGlobalInterceptors(po.get_TableName()).isEmpty()
+				|| !modelChangeListeners.getClientInterceptors(po.get_TableName(), po.getAD_Client_ID()).isEmpty())
+		{
+			return true;
+		}
+
+		if (ModelValidator.tableEventValidators.length > changeType.toInt())
+		{
+			final List<I_AD_Table_ScriptValidator> scriptValidators = Services.get(IADTableScriptValidatorDAO.class).retrieveTableScriptValidators(
+					po.getCtx(),
+					po.get_Table_ID(),
+					ModelValidator.tableEventValidators[changeType.toInt()]);
+			return scriptValidators != null && !scriptValidators.isEmpty();
+		}
+
+		return false;
+	}
+
 	public void fireModelChange0(@Nullable final PO po, @NonNull final ModelChangeType changeType)
 	{
 		try (final MDCCloseable mdcCloseable = MDC.putCloseable("changeType", changeType.toString()))
 		{
-			if (po == null || m_modelChangeListeners.isEmpty())
+			final ModelInterceptorsDispatchTable modelChangeListeners = m_modelChangeListeners;
+			if (po == null || modelChangeListeners.isEmpty())
 			{
 				return;
 			}
@@ -734,17 +756,13 @@ public class ModelValidationEngine implements IModelValidationEngine
 
 			//
 			// Retrieve system level model interceptors
-			final String propertyNameSystem = getPropertyName(po.get_TableName());
-			final List<ModelValidator> interceptorsSystem = m_modelChangeListeners.get(propertyNameSystem);
-			final int countSystemInterceptors = interceptorsSystem != null ? interceptorsSystem.size() : 0;
-			countInterceptors += countSystemInterceptors;
+			final List<ModelInterceptorsDispatchTable.Entry> interceptorsSystem = modelChangeListeners.getGlobalInterceptors(po.get_TableName());
+			countInterceptors += interceptorsSystem.size();
 
 			//
 			// Retrieve client level model interceptors
-			final String propertyNameClient = getPropertyName(po.get_TableName(), po.getAD_Client_ID());
-			final List<ModelValidator> interceptorsClient = m_modelChangeListeners.get(propertyNameClient);
-			final int countClientInterceptors = interceptorsClient != null ? interceptorsClient.size() : 0;
-			countInterceptors += countClientInterceptors;
+			final List<ModelInterceptorsDispatchTable.Entry> interceptorsClient = modelChangeListeners.getClientInterceptors(po.get_TableName(), po.getAD_Client_ID());
+			countInterceptors += interceptorsClient.size();
 
 			//
 			// Retrieve script interceptors
@@ -818,21 +836,15 @@ public class ModelValidationEngine implements IModelValidationEngine
 	private final void fireModelChange0(
 			@NonNull final PO po,
 			@NonNull final ModelChangeType changeType,
-			@Nullable List<ModelValidator> interceptorsSystem,
-			@Nullable List<ModelValidator> interceptorsClient,
-			@Nullable List<I_AD_Table_ScriptValidator> scriptValidators)
+			@NonNull final List<ModelInterceptorsDispatchTable.Entry> interceptorsSystem,
+			@NonNull final List<ModelInterceptorsDispatchTable.Entry> interceptorsClient,
+			@Nullable final List<I_AD_Table_ScriptValidator> scriptValidators)
 	{
-		if (interceptorsSystem != null)
-		{
-			// ad_entitytype.modelvalidationclasses
-			invokeModelChangeMethods(po, changeType, interceptorsSystem);
-		}
+		// ad_entitytype.modelvalidationclasses
+		invokeModelChangeMethods(po, changeType, interceptorsSystem);
 
-		if (interceptorsClient != null)
-		{
-			// ad_client.modelvalidationclasses
-			invokeModelChangeMethods(po, changeType, interceptorsClient);
-		}
+		// ad_client.modelvalidationclasses
+		invokeModelChangeMethods(po, changeType, interceptorsClient);
 
 		//
 		// now process the script model validator for this event
@@ -935,19 +947,21 @@ public class ModelValidationEngine implements IModelValidationEngine
 	private final void invokeModelChangeMethods(
 			@NonNull final PO po,
 			@NonNull final ModelChangeType changeType,
-			@NonNull final List<ModelValidator> validators)
+			@NonNull final List<ModelInterceptorsDispatchTable.Entry> interceptors)
 	{
-		for (final ModelValidator validator : validators)
+		// NOTE: iterate by index, to not allocate an iterator for each event
+		for (int i = 0, size = interceptors.size(); i < size; i++)
 		{
-			invokeModelChangeMethod(po, changeType, validator);
+			invokeModelChangeMethod(po, changeType, interceptors.get(i));
 		}
 	}
 
 	private void invokeModelChangeMethod(
 			@NonNull final PO po,
 			@NonNull final ModelChangeType changeType,
-			@NonNull final ModelValidator validator)
+			@NonNull final ModelInterceptorsDispatchTable.Entry interceptor)
 	{
+		final ModelValidator validator = interceptor.getInterceptor();
 		try (final MDCCloseable mdcCloseable = MDC.putCloseable("interceptor", validator.toString()))
 		{
 			if (!appliesFor(validator, po.getAD_Client_ID()))
@@ -956,28 +970,43 @@ public class ModelValidationEngine implements IModelValidationEngine
 				return;
 			}
 
-		final Stopwatch stopwatch = Stopwatch.createStarted();
-				try
-		{
+			final long startNanos = System.nanoTime();
+			boolean failed = true;
+			try
+			{
+				// the default cause
+				final String error = validator.modelChange(po, changeType.toInt());
+				if (!Check.isEmpty(error))
+				{
+					throw new AdempiereException(error);
+				}
 
-			// the default cause
-			final String error = validator.modelChange(po, changeType.toInt());
-			if (!Check.isEmpty(error))
+				failed = false;
+				if (logger.isDebugEnabled())
+				{
+					logger.debug("Executed in {}ns: {} ({}) for {}", System.nanoTime() - startNanos, validator, changeType, po);
+				}
+			}
+			catch (final Exception ex)
 			{
-				throw new AdempiereException(error);
+				logger.debug("Failed executing in {}ns: {} ({}) for {}", System.nanoTime() - startNanos, validator, changeType, po, ex);
+				throw AdempiereException.wrapIfNeeded(ex);
+			}
+			finally
+			{
+				recordInvocation(interceptor, startNanos, failed);
 			}
-
-					logger.debug("Executed in {}: {} ({}) for {}", stopwatch, validator, changeType, po);
 		}
-		catch (final Exception ex)
+	}
+
+	private void recordInvocation(@NonNull final ModelInterceptorsDispatchTable.Entry interceptor, final long startNanos, final boolean failed)
+	{
+		if (statistics.isEnabled())
 		{
-					logger.debug("Failed executing in {}: {} ({}) for {}", stopwatch, validator, changeType, po, ex);
-			throw AdempiereException.wrapIfNeeded(ex);
+			interceptor.getStats().record(System.nanoTime() - startNanos, failed);
 		}
 	}
 
-				}
-
 	/**************************************************************************
 	 * Add Document Validation Listener
 	 *
@@ -995,17 +1024,10 @@ public class ModelValidationEngine implements IModelValidationEngine
 		{
 			registerGlobal(listener);
 		}
-		String propertyName = getPropertyName(tableName, listener);
-		ArrayList<ModelValidator> list = m_docValidateListeners.get(propertyName);
-		if (list == null)
-		{
-			list = new ArrayList<>();
-			list.add(listener);
-			m_docValidateListeners.put(propertyName, list);
-		}
-		else if (!list.contains(listener))
+		synchronized (this)
 		{
-			list.add(listener);
+			final ModelInterceptorStats stats = statistics.getOrCreate(ModelInterceptorsStatistics.EVENTTYPE_DocValidate, listener);
+			m_docValidateListeners = m_docValidateListeners.withInterceptor(tableName, isGlobal(listener), listener, stats);
 		}
 	}	// addDocValidate
 
@@ -1033,16 +1055,9 @@ public class ModelValidationEngine implements IModelValidationEngine
 		{
 			return;
 		}
-		String propertyName = getPropertyName(tableName, listener);
-		ArrayList<ModelValidator> list = m_docValidateListeners.get(propertyName);
-		if (list == null)
-		{
-			return;
-		}
-		list.remove(listener);
-		if (list.size() == 0)
+		synchronized (this)
 		{
-			m_docValidateListeners.remove(propertyName);
+			m_docValidateListeners = m_docValidateListeners.withoutInterceptor(tableName, isGlobal(listener), listener);
 		}
 	}	// removeDocValidate
 
@@ -1092,7 +1107,8 @@ public class ModelValidationEngine implements IModelValidationEngine
 		}
 
 		final PO po = InterfaceWrapperHelper.getPO(model);
-		if (po == null || m_docValidateListeners.isEmpty())
+		final ModelInterceptorsDispatchTable docValidateListeners = m_docValidateListeners;
+		if (po == null || docValidateListeners.isEmpty())
 		{
 			return null;
 		}
@@ -1104,17 +1120,13 @@ public class ModelValidationEngine implements IModelValidationEngine
 
 		//
 		// Retrieve system level model interceptors
-		final String propertyNameSystem = getPropertyName(po.get_TableName());
-		final List<ModelValidator> interceptorsSystem = m_docValidateListeners.get(propertyNameSystem);
-		final int countSystemInterceptors = interceptorsSystem != null ? interceptorsSystem.size() : 0;
-		countInterceptors += countSystemInterceptors;
+		final List<ModelInterceptorsDispatchTable.Entry> interceptorsSystem = docValidateListeners.getGlobalInterceptors(po.get_TableName());
+		countInterceptors += interceptorsSystem.size();
 
 		//
 		// Retrieve client level model interceptors
-		final String propertyNameClient = getPropertyName(po.get_TableName(), po.getAD_Client_ID());
-		final List<ModelValidator> interceptorsClient = m_docValidateListeners.get(propertyNameClient);
-		final int countClientInterceptors = interceptorsClient != null ? interceptorsClient.size() : 0;
-		countInterceptors += countClientInterceptors;
+		final List<ModelInterceptorsDispatchTable.Entry> interceptorsClient = docValidateListeners.getClientInterceptors(po.get_TableName(), po.getAD_Client_ID());
+		countInterceptors += interceptorsClient.size();
 
 		//
 		// Retrieve script interceptors
@@ -1156,21 +1168,15 @@ public class ModelValidationEngine implements IModelValidationEngine
 
 	private void fireDocValidate0(final PO po,
 			final DocTimingType docTiming,
-			final List<ModelValidator> interceptorsSystem,
-			final List<ModelValidator> interceptorsClient,
+			final List<ModelInterceptorsDispatchTable.Entry> interceptorsSystem,
+			final List<ModelInterceptorsDispatchTable.Entry> interceptorsClient,
 			final List<I_AD_Table_ScriptValidator> scriptValidators)
 	{
-		if (interceptorsSystem != null)
-		{
-			// ad_entitytype.modelvalidationclasses
-			fireDocValidate(po, docTiming, interceptorsSystem);
-		}
+		// ad_entitytype.modelvalidationclasses
+		fireDocValidate(po, docTiming, interceptorsSystem);
 
-		if (interceptorsClient != null)
-		{
-			// ad_client.modelvalidationclasses
-			fireDocValidate(po, docTiming, interceptorsClient);
-		}
+		// ad_client.modelvalidationclasses
+		fireDocValidate(po, docTiming, interceptorsClient);
 
 		//
 		// now process the script model validator for this docTiming
@@ -1186,26 +1192,29 @@ public class ModelValidationEngine implements IModelValidationEngine
 	private void fireDocValidate(
 			final PO po,
 			final DocTimingType docTiming,
-			final List<ModelValidator> interceptors)
+			final List<ModelInterceptorsDispatchTable.Entry> interceptors)
 	{
-		for (final ModelValidator interceptor : interceptors)
+		// NOTE: iterate by index, to not allocate an iterator for each event
+		for (int i = 0, size = interceptors.size(); i < size; i++)
 		{
-			invokeDocValidateMethod(po, docTiming, interceptor);
+			invokeDocValidateMethod(po, docTiming, interceptors.get(i));
 		}
 	}
 
 	private void invokeDocValidateMethod(
 			@NonNull final PO po,
 			@NonNull final DocTimingType docTiming,
-			@NonNull final ModelValidator interceptor)
+			@NonNull final ModelInterceptorsDispatchTable.Entry interceptorEntry)
 	{
+		final ModelValidator interceptor = interceptorEntry.getInterceptor();
 		if (!appliesFor(interceptor, po.getAD_Client_ID()))
 		{
 			logger.trace("Skip {} ({}) for {}", interceptor, docTiming, po);
 			return;
 		}
 
-		final Stopwatch stopwatch = Stopwatch.createStarted();
+		final long startNanos = System.nanoTime();
+		boolean failed = true;
 		try
 		{
 			final String error = interceptor.docValidate(po, docTiming.toInt());
@@ -1214,13 +1223,21 @@ public class ModelValidationEngine implements IModelValidationEngine
 				throw new AdempiereException(error);
 			}
 
-			logger.trace("Executed in {}: {} ({}) for {}", stopwatch, interceptor, docTiming, po);
+			failed = false;
+			if (logger.isTraceEnabled())
+			{
+				logger.trace("Executed in {}ns: {} ({}) for {}", System.nanoTime() - startNanos, interceptor, docTiming, po);
+			}
 		}
 		catch (final Exception ex)
 		{
-			logger.trace("Failed executing in {}: {} ({}) for {}", stopwatch, interceptor, docTiming, po, ex);
+			logger.trace("Failed executing in {}ns: {} ({}) for {}", System.nanoTime() - startNanos, interceptor, docTiming, po, ex);
 			throw AdempiereException.wrapIfNeeded(ex);
 		}
+		finally
+		{
+			recordInvocation(interceptorEntry, startNanos, failed);
+		}
 	}
 
 	@Override
@@ -1305,30 +1322,13 @@ public class ModelValidationEngine implements IModelValidationEngine
 		}
 		sb.append(Env.NL).append(Env.NL);
 		//
+		final StringBuilder sbFinal = sb;
 		sb.append("ModelChange #").append(m_modelChangeListeners.size()).append(Env.NL);
-		Iterator<String> it = m_modelChangeListeners.keySet().iterator();
-		while (it.hasNext())
-		{
-			String key = it.next();
-			ArrayList<ModelValidator> list = m_modelChangeListeners.get(key);
-			for (ModelValidator mv : list)
-			{
-				sb.append(key).append(": ").append(mv.toString()).append(Env.NL);
-			}
-		}
+		m_modelChangeListeners.forEach((key, mv) -> sbFinal.append(key).append(": ").append(mv.toString()).append(Env.NL));
 		sb.append(Env.NL).append(Env.NL);
 		//
 		sb.append("DocValidate #").append(m_docValidateListeners.size()).append(Env.NL);
-		it = m_docValidateListeners.keySet().iterator();
-		while (it.hasNext())
-		{
-			String key = it.next();
-			ArrayList<ModelValidator> list = m_docValidateListeners.get(key);
-			for (ModelValidator mv : list)
-			{
-				sb.append(key).append(": ").append(mv.toString()).append(Env.NL);
-			}
-		}
+		m_docValidateListeners.forEach((key, mv) -> sbFinal.append(key).append(": ").append(mv.toString()).append(Env.NL));
 		sb.append(Env.NL).append(Env.NL);
 		//
 		return sb;
@@ -1412,10 +1412,12 @@ public class ModelValidationEngine implements IModelValidationEngine
 
 	private final void registerGlobal(ModelValidator validator)
 	{
-		if (!m_globalValidators.contains(validator))
-		{
-			m_globalValidators.add(validator);
-		}
+		m_globalValidators.add(validator);
+	}
+
+	private final boolean isGlobal(@NonNull final ModelValidator validator)
+	{
+		return m_globalValidators.contains(validator);
 	}
 
 	private final boolean appliesFor(@NonNull final ModelValidator validator, final int AD_Client_ID)
@@ -1429,23 +1431,6 @@ public class ModelValidationEngine implements IModelValidationEngine
 		return tableName + "*";
 	}
 
-	private final String getPropertyName(String tableName, int AD_Client_ID)
-	{
-		return tableName + AD_Client_ID;
-	}
-
-	private final String getPropertyName(String tableName, ModelValidator listener)
-	{
-		if (m_globalValidators.contains(listener))
-		{
-			return getPropertyName(tableName);
-		}
-		else
-		{
-			return getPropertyName(tableName, listener.getAD_Client_ID());
-		}
-	}
-
 	@Override
 	public void addModelValidator(@NonNull final Object validator)
 	{
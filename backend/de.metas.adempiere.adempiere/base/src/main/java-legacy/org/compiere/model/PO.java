@@ -74,6 +74,7 @@ import org.compiere.util.ISqlUpdateReturnProcessor;
 import org.compiere.util.Ini;
 import org.compiere.util.SecureEngine;
 import org.compiere.util.Trace;
+import org.compiere.util.Trx;
 import org.compiere.util.TrxRunnable2;
 import org.compiere.util.ValueNamePair;
 import de.metas.workflow.execution.DocWorkflowManager;
@@ -3809,13 +3810,24 @@ public abstract class PO
 		}
 
 		//
-		// Execute actual database INSERT
-		final int no = DB.executeUpdate(sqlInsert.toString(),
-				(Object[])null,  // params,
-				OnFail.ThrowException,  // onFail
-				m_trxName,
-				0,  // timeOut,
-				loadAfterInsertProcessor);
+		// Execute actual database INSERT,
+		// or collect it if we are in a batch save scope and nothing needs to be loaded back right away
+		final int no;
+		final Trx batchSaveTrx = loadAfterInsertProcessor == null && m_lobInfo == null ? getBatchSaveTrxOrNull() : null;
+		if (batchSaveTrx != null)
+		{
+			batchSaveTrx.addBatchedInsert(sqlInsert.toString());
+			no = 1; // in case it fails, we get an exception when the batch is flushed
+		}
+		else
+		{
+			no = DB.executeUpdate(sqlInsert.toString(),
+					(Object[])null,  // params,
+					OnFail.ThrowException,  // onFail
+					m_trxName,
+					0,  // timeOut,
+					loadAfterInsertProcessor);
+		}
 		boolean ok = no == 1;
 
 		//
@@ -3873,6 +3885,59 @@ public abstract class PO
 		return saveFinish(true, ok);
 	}   // saveNew
 
+	/**
+	 * @return this record's transaction if it's in a batch save scope (see {@link ITrxManager#runInBatchSaveScope(Runnable)}), or null
+	 */
+	@Nullable
+	private Trx getBatchSaveTrxOrNull()
+	{
+		final ITrxManager trxManager = Services.get(ITrxManager.class);
+		if (trxManager.isNull(m_trxName) || p_info.isLoadAfterSave())
+		{
+			return null;
+		}
+
+		final ITrx trx = trxManager.get(m_trxName, OnTrxMissingPolicy.ReturnTrxNone);
+		if (!(trx instanceof Trx) || !((Trx)trx).isBatchSaveScope())
+		{
+			return null;
+		}
+
+		// A batched INSERT fails only when the batch is flushed.
+		// Don't batch if there is any after-new code which could act on a record which is not inserted in the end.
+		if (AFTER_SAVE_OVERRIDDEN.get(getClass())
+				|| ModelValidationEngine.get().hasModelChangeInterceptors(this, ModelChangeType.AFTER_NEW))
+		{
+			return null;
+		}
+
+		return (Trx)trx;
+	}
+
+	/**
+	 * Tells if a PO class overrides {@link #afterSave(boolean, boolean)}.
+	 */
+	private static final ClassValue<Boolean> AFTER_SAVE_OVERRIDDEN = new ClassValue<Boolean>()
+	{
+		@Override
+		protected Boolean computeValue(final Class<?> type)
+		{
+			for (Class<?> clazz = type; clazz != null && !PO.class.equals(clazz); clazz = clazz.getSuperclass())
+			{
+				try
+				{
+					clazz.getDeclaredMethod("afterSave", boolean.class, boolean.class);
+					return true;
+				}
+				catch (final NoSuchMethodException ex)
+				{
+					// check the superclass
+				}
+			}
+			return false;
+		}
+	};
+
 	/**
 	 * Get ID for new record during save.
 	 * You can overwrite this to explicitly set the ID
@@ -18,18 +18,20 @@ package org.compiere.model;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 import org.adempiere.ad.table.api.AdTableId;
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.exceptions.DBException;
 import org.adempiere.model.POWrapper;
 import org.compiere.util.DB;
 import org.compiere.util.DisplayType;
@@ -116,15 +118,14 @@ public final class POInfo implements Serializable, ColumnDisplayTypeProvider
 	{
 		return s_cache.get(AD_Table_ID, (Callable<Optional<POInfo>>)() -> {
 			final Stopwatch stopwatch = Stopwatch.createStarted();
-			final POInfo poInfo = new POInfo(AD_Table_ID, trxName);
-			stopwatch.stop();
-
-			final boolean valid = poInfo.getColumnCount() > 0;
-			if (!valid)
+			final POInfoLoader.TableRecord tableRecord = retrieveTableRecord(() -> POInfoLoader.retrieveByTableId(AD_Table_ID, trxName));
+			if (tableRecord == null)
 			{
 				logger.debug("Found no valid POInfo for AD_Table_ID={}; it took {}; add 'absent' result to cache; trxName={}", AD_Table_ID, stopwatch, trxName);
 				return Optional.absent();
 			}
+			final POInfo poInfo = new POInfo(tableRecord);
+			stopwatch.stop();
 			final Optional<POInfo> poInfoOptional = Optional.of(poInfo);
 
 			logger.debug("Found POInfo for AD_Table_ID={} (TableName={}); it took {}; add result to cache; trxName={}", AD_Table_ID, poInfo.getTableName(), stopwatch, trxName);
@@ -150,15 +151,14 @@ public final class POInfo implements Serializable, ColumnDisplayTypeProvider
 		final String tableNameUC = tableName.toUpperCase();
 		return s_cacheByTableNameUC.get(tableNameUC, (Callable<Optional<POInfo>>)() -> {
 			final Stopwatch stopwatch = Stopwatch.createStarted();
-			final POInfo poInfo = new POInfo(tableName, trxName);
-			stopwatch.stop();
-
-			final boolean valid = poInfo.getColumnCount() > 0;
-			if (!valid)
+			final POInfoLoader.TableRecord tableRecord = retrieveTableRecord(() -> POInfoLoader.retrieveByTableName(tableName, trxName));
+			if (tableRecord == null)
 			{
 				logger.debug("Found no valid POInfo for TableNameUC={}; it took {}; add 'absent' result to cache; trxName={}", tableNameUC, stopwatch, trxName);
 				return Optional.absent();
 			}
+			final POInfo poInfo = new POInfo(tableRecord);
+			stopwatch.stop();
 			final Optional<POInfo> poInfoOptional = Optional.of(poInfo);
 
 			logger.debug("Loaded POInfo for TableName={} (AD_Table_ID={}); it took {}; add result to cache; trxName={}", tableName, poInfo.getAD_Table_ID(), stopwatch, trxName);
@@ -169,6 +169,40 @@ public final class POInfo implements Serializable, ColumnDisplayTypeProvider
 		}).orNull();
 	}   // getPOInfo
 
+	@Nullable
+	private static POInfoLoader.TableRecord retrieveTableRecord(final Supplier<POInfoLoader.TableRecord> loader)
+	{
+		try
+		{
+			return loader.get();
+		}
+		catch (final DBException ex)
+		{
+			// NOTE: we are not propagating the exception, for backward compatibility
+			logger.error("Failed loading POInfo", ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Builds the {@link POInfo}s of the given tables and puts them to cache.
+	 *
+	 * @return number of {@link POInfo}s added to cache
+	 */
+	/* package */ static int putAllToCache(@NonNull final Collection<POInfoLoader.TableRecord> tableRecords)
+	{
+		int count = 0;
+		for (final POInfoLoader.TableRecord tableRecord : tableRecords)
+		{
+			final POInfo poInfo = new POInfo(tableRecord);
+			final Optional<POInfo> poInfoOptional = Optional.of(poInfo);
+			s_cache.put(poInfo.getAD_Table_ID(), poInfoOptional);
+			s_cacheByTableNameUC.put(poInfo.getTableNameUC(), poInfoOptional);
+			count++;
+		}
+		return count;
+	}
+
 	private static final transient Logger logger = LogManager.getLogger(POInfo.class);
 
 	public static final String CACHE_PREFIX = "POInfo";
@@ -213,161 +247,58 @@ public final class POInfo implements Serializable, ColumnDisplayTypeProvider
 
 	private POTrlInfo trlInfo;
 
-	private POInfo(final String tableName, final String trxName)
+	private POInfo(@NonNull final POInfoLoader.TableRecord tableRecord)
 	{
-		m_TableName = tableName;
-		loadInfo(trxName);
-	}   // PInfo
+		m_AD_Table_ID = tableRecord.getAdTableId();
+		m_TableName = tableRecord.getTableName();
+		m_isView = tableRecord.isView();
+		m_AccessLevel = TableAccessLevel.forAccessLevel(tableRecord.getAccessLevel());
+		m_IsChangeLog = tableRecord.isChangeLog();
 
-	private POInfo(final int AD_Table_ID, final String trxName)
-	{
-		m_AD_Table_ID = AD_Table_ID;
-		loadInfo(trxName);
-	}   // PInfo
+		init(tableRecord.getColumns());
+	}   // POInfo
 
 	/**
-	 * Load Table/Column Info into this instance. If the select returns no result, nothing is loaded and no error is raised.
-	 *
-	 * @param trxName
+	 * Builds the columns and all pre-calculated values and indexes.
 	 */
-	private void loadInfo(final String trxName)
+	private void init(final List<POInfoLoader.ColumnRecord> columnRecords)
 	{
-		final List<POInfoColumn> list = new ArrayList<>(20);
-		final StringBuilder sql = new StringBuilder();
-		sql.append("SELECT t.TableName, c.ColumnName,c.AD_Reference_ID,"		// 1..3
-				+ "c.IsMandatory,c.IsUpdateable,c.DefaultValue, "				// 4..6
-				+ "e.Name, "													// 7
-				+ "e.Description, "												// 8
-				+ "c.AD_Column_ID, "											// 9
-				+ "c.IsKey,c.IsParent, "										// 10..11
-				+ "c.AD_Reference_Value_ID, "									// 12
-				+ "vr.Code, "													// 13
-				+ "c.FieldLength, c.ValueMin, c.ValueMax, c.IsTranslated"		// 14..17
-				+ ",t.AccessLevel"												// 18
-				+ ",c.ColumnSQL"												// 19
-				+ ",c.IsEncrypted "												// 20
-				+ ",c.IsAllowLogging"											// 21
-				+ ",t.IsChangeLog "												// 22
-				+ ",c.IsLazyLoading "											// 23
-				+ ",c.IsCalculated "											// 24 // metas
-				+ ",c.AD_Val_Rule_ID "											// 25 // metas
-				+ ",t.AD_Table_ID "												// 26 // metas
-				+ ",c." + I_AD_Column.COLUMNNAME_IsUseDocSequence				// 27 // metas: 05133
-				+ ",c." + I_AD_Column.COLUMNNAME_IsStaleable					// 28 // metas: 01537
-				+ ",c." + I_AD_Column.COLUMNNAME_IsSelectionColumn				// 29 // metas
-				+ ",t." + I_AD_Table.COLUMNNAME_IsView							// 30 // metas
-		);
-		sql.append(" FROM AD_Table t "
-				+ " INNER JOIN AD_Column c ON (t.AD_Table_ID=c.AD_Table_ID) "
-				+ " LEFT OUTER JOIN AD_Val_Rule vr ON (c.AD_Val_Rule_ID=vr.AD_Val_Rule_ID) "
-				+ " INNER JOIN AD_Element e ON (c.AD_Element_ID=e.AD_Element_ID) ");
-		sql.append(" WHERE "
-				+ (m_AD_Table_ID <= 0 ? "UPPER(t.TableName)=UPPER(?)" : "t.AD_Table_ID=?")
-				+ " AND c.IsActive='Y'");
-		//
+		final List<POInfoColumn> list = new ArrayList<>(columnRecords.size());
 		final List<String> keyColumnNames = new ArrayList<>();
 		final List<String> parentColumnNames = new ArrayList<>();
-		boolean tableInfoLoaded = false;
-		//
-		PreparedStatement pstmt = null;
-		ResultSet rs = null;
-		try
+		for (final POInfoLoader.ColumnRecord columnRecord : columnRecords)
 		{
-			pstmt = DB.prepareStatement(sql.toString(), trxName);
-			if (m_AD_Table_ID <= 0)
+			final String ColumnName = columnRecord.getColumnName();
+			if (columnRecord.isKey())
 			{
-				pstmt.setString(1, m_TableName);
+				keyColumnNames.add(ColumnName);
 			}
-			else
+			if (columnRecord.isParent())
 			{
-				pstmt.setInt(1, m_AD_Table_ID);
+				parentColumnNames.add(ColumnName);
 			}
-			rs = pstmt.executeQuery();
-			while (rs.next())
+			if (columnRecord.isStaleable())
 			{
-				if (!tableInfoLoaded)
-				{
-					m_TableName = rs.getString(I_AD_Table.COLUMNNAME_TableName);
-					m_AD_Table_ID = rs.getInt(I_AD_Table.COLUMNNAME_AD_Table_ID);
-					m_isView = "Y".equals(rs.getString(I_AD_Table.COLUMNNAME_IsView));
-					m_AccessLevel = TableAccessLevel.forAccessLevel(rs.getString(I_AD_Table.COLUMNNAME_AccessLevel));
-					m_IsChangeLog = "Y".equals(rs.getString(I_AD_Table.COLUMNNAME_IsChangeLog));
-					//
-					tableInfoLoaded = true;
-				}
-
-				String ColumnName = rs.getString(2);
-				int AD_Reference_ID = rs.getInt(3);
-				boolean IsMandatory = "Y".equals(rs.getString(4));
-				boolean IsUpdateable = "Y".equals(rs.getString(5));
-				String DefaultLogic = rs.getString(6);
-				String Name = rs.getString(7);
-				String Description = rs.getString(8);
-				int AD_Column_ID = rs.getInt(9);
-
-				final boolean IsKey = "Y".equals(rs.getString(10));
-				if (IsKey)
-				{
-					keyColumnNames.add(ColumnName);
-				}
-
-				final boolean IsParent = "Y".equals(rs.getString(11));
-				if (IsParent)
-				{
-					parentColumnNames.add(ColumnName);
-				}
-
-				int AD_Reference_Value_ID = rs.getInt(12);
-				// String ValidationCode = rs.getString(13);
-				int FieldLength = rs.getInt(14);
-				String ValueMin = rs.getString(15);
-				String ValueMax = rs.getString(16);
-				boolean IsTranslated = "Y".equals(rs.getString(17));
-				//
-				final String ColumnSQL = rs.getString(19);
-				boolean IsEncrypted = "Y".equals(rs.getString(20));
-				boolean IsAllowLogging = "Y".equals(rs.getString(21));
-				boolean IsLazyLoading = "Y".equals(rs.getString(23)); // metas
-				boolean IsCalculated = "Y".equals(rs.getString(24)); // metas
-				int AD_Val_Rule_ID = rs.getInt(25); // metas
-				final boolean isUseDocumentSequence = "Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsUseDocSequence)); // metas: 05133
-
-				final boolean isStaleable = "Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsStaleable)); // metas: 01537
-				if (isStaleable)
-				{
-					m_HasStaleableColumns = true;
-				}
-
-				final boolean isSelectionColumn = "Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsSelectionColumn));
-
-				final POInfoColumn col = new POInfoColumn(
-						AD_Column_ID, m_TableName, ColumnName, ColumnSQL, AD_Reference_ID,
-						IsMandatory, IsUpdateable,
-						DefaultLogic,
-						Name, // ColumnLabel
-						Description, // ColumnDescription
-						IsKey, IsParent,
-						AD_Reference_Value_ID, AD_Val_Rule_ID,
-						FieldLength, ValueMin, ValueMax,
-						IsTranslated, IsEncrypted,
-						IsAllowLogging);
-				col.IsLazyLoading = IsLazyLoading; // metas
-				col.IsCalculated = IsCalculated; // metas
-				col.IsUseDocumentSequence = isUseDocumentSequence; // metas: _05133
-				col.IsStaleable = isStaleable; // metas: 01537
-				col.IsSelectionColumn = isSelectionColumn;
-				list.add(col);
+				m_HasStaleableColumns = true;
 			}
-		}
-		catch (SQLException e)
-		{
-			logger.error(sql.toString(), e);
-		}
-		finally
-		{
-			DB.close(rs, pstmt);
-			rs = null;
-			pstmt = null;
+
+			final POInfoColumn col = new POInfoColumn(
+					columnRecord.getAdColumnId(), m_TableName, ColumnName, columnRecord.getColumnSQL(), columnRecord.getAdReferenceId(),
+					columnRecord.isMandatory(), columnRecord.isUpdateable(),
+					columnRecord.getDefaultLogic(),
+					columnRecord.getName(), // ColumnLabel
+					columnRecord.getDescription(), // ColumnDescription
+					columnRecord.isKey(), columnRecord.isParent(),
+					columnRecord.getAdReferenceValueId(), columnRecord.getAdValRuleId(),
+					columnRecord.getFieldLength(), columnRecord.getValueMin(), columnRecord.getValueMax(),
+					columnRecord.isTranslated(), columnRecord.isEncrypted(),
+					columnRecord.isAllowLogging());
+			col.IsLazyLoading = columnRecord.isLazyLoading(); // metas
+			col.IsCalculated = columnRecord.isCalculated(); // metas
+			col.IsUseDocumentSequence = columnRecord.isUseDocumentSequence(); // metas: _05133
+			col.IsStaleable = columnRecord.isStaleable(); // metas: 01537
+			col.IsSelectionColumn = columnRecord.isSelectionColumn();
+			list.add(col);
 		}
 
 		// convert to array
@@ -448,7 +379,7 @@ public final class POInfo implements Serializable, ColumnDisplayTypeProvider
 		sqlSelectByKeys = buildSqlSelectByKeys();
 
 		trlInfo = POTrlRepository.instance.createPOTrlInfo(m_TableName, m_keyColumnName, translatedColumnNames);
-	}   // loadInfo
+	}   // init
 
 	/**
 	 * String representation
@@ -0,0 +1,371 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package org.compiere.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.exceptions.DBException;
+import org.compiere.util.DB;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.BaseEncoding;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Loads the raw {@link I_AD_Table}/{@link I_AD_Column} data from which the {@link POInfo}s are built.
+ * <p>
+ * The raw data is kept separate from {@link POInfo}, so that it can also be loaded in bulk and persisted by {@link POInfoSnapshot}.
+ */
+/* package */final class POInfoLoader
+{
+	private static final String SQL_FROM = " FROM AD_Table t "
+			+ " INNER JOIN AD_Column c ON (t.AD_Table_ID=c.AD_Table_ID) "
+			+ " INNER JOIN AD_Element e ON (c.AD_Element_ID=e.AD_Element_ID) "
+			+ " WHERE c.IsActive='Y'";
+
+	private static final String SQL_SELECT = "SELECT t.AD_Table_ID, t.TableName, t.AccessLevel, t.IsView, t.IsChangeLog"
+			+ ", c.AD_Column_ID, c.ColumnName, c.ColumnSQL, c.AD_Reference_ID"
+			+ ", c.IsMandatory, c.IsUpdateable, c.DefaultValue"
+			+ ", e.Name, e.Description"
+			+ ", c.IsKey, c.IsParent"
+			+ ", c.AD_Reference_Value_ID, c.AD_Val_Rule_ID"
+			+ ", c.FieldLength, c.ValueMin, c.ValueMax"
+			+ ", c.IsTranslated, c.IsEncrypted, c.IsAllowLogging"
+			+ ", c.IsLazyLoading, c.IsCalculated, c." + I_AD_Column.COLUMNNAME_IsUseDocSequence
+			+ ", c." + I_AD_Column.COLUMNNAME_IsStaleable + ", c." + I_AD_Column.COLUMNNAME_IsSelectionColumn
+			+ SQL_FROM;
+
+	private static final String SQL_ORDER_BY = " ORDER BY t.AD_Table_ID, c.AD_Column_ID";
+
+	/**
+	 * md5 of all the data which is selected by {@link #SQL_SELECT}, one line per column, each line being the tab separated values as {@link #toChecksumLine(TableRecord, ColumnRecord)} renders them.
+	 * <p>
+	 * Keep in sync with {@link #SQL_SELECT} and {@link #toChecksumLine(TableRecord, ColumnRecord)}.
+	 */
+	private static final String SQL_CHECKSUM = "SELECT COALESCE(md5(string_agg(concat_ws(E'\\t'"
+			+ ", " + sqlInt("t.AD_Table_ID") + ", t.TableName, t.AccessLevel, " + sqlBoolean("t.IsView") + ", " + sqlBoolean("t.IsChangeLog")
+			+ ", " + sqlInt("c.AD_Column_ID") + ", c.ColumnName, c.ColumnSQL, " + sqlInt("c.AD_Reference_ID")
+			+ ", " + sqlBoolean("c.IsMandatory") + ", " + sqlBoolean("c.IsUpdateable") + ", c.DefaultValue"
+			+ ", e.Name, e.Description"
+			+ ", " + sqlBoolean("c.IsKey") + ", " + sqlBoolean("c.IsParent")
+			+ ", " + sqlInt("c.AD_Reference_Value_ID") + ", " + sqlInt("c.AD_Val_Rule_ID")
+			+ ", " + sqlInt("c.FieldLength") + ", c.ValueMin, c.ValueMax"
+			+ ", " + sqlBoolean("c.IsTranslated") + ", " + sqlBoolean("c.IsEncrypted") + ", " + sqlBoolean("c.IsAllowLogging")
+			+ ", " + sqlBoolean("c.IsLazyLoading") + ", " + sqlBoolean("c.IsCalculated") + ", " + sqlBoolean("c." + I_AD_Column.COLUMNNAME_IsUseDocSequence)
+			+ ", " + sqlBoolean("c." + I_AD_Column.COLUMNNAME_IsStaleable) + ", " + sqlBoolean("c." + I_AD_Column.COLUMNNAME_IsSelectionColumn)
+			+ "), E'\\n'" + SQL_ORDER_BY + ")), '')"
+			+ SQL_FROM;
+
+	/** Same as {@link ResultSet#getInt(String)}, which returns 0 for null */
+	private static String sqlInt(final String columnSql)
+	{
+		return "COALESCE(" + columnSql + ", 0)";
+	}
+
+	/** Same as the <code>"Y".equals(...)</code> we use when loading the flags */
+	private static String sqlBoolean(final String columnSql)
+	{
+		return "CASE WHEN " + columnSql + "='Y' THEN 'Y' ELSE 'N' END";
+	}
+
+	/** AD_Table data */
+	@Value
+	@Builder(toBuilder = true)
+	static class TableRecord
+	{
+		int adTableId;
+		@NonNull
+		String tableName;
+		@Nullable
+		String accessLevel;
+		boolean view;
+		boolean changeLog;
+
+		@NonNull
+		@Singular
+		ImmutableList<ColumnRecord> columns;
+	}
+
+	/** AD_Column data */
+	@Value
+	@Builder(toBuilder = true)
+	static class ColumnRecord
+	{
+		int adColumnId;
+		@NonNull
+		String columnName;
+		@Nullable
+		String columnSQL;
+		int adReferenceId;
+		boolean mandatory;
+		boolean updateable;
+		@Nullable
+		String defaultLogic;
+		@Nullable
+		String name;
+		@Nullable
+		String description;
+		boolean key;
+		boolean parent;
+		int adReferenceValueId;
+		int adValRuleId;
+		int fieldLength;
+		@Nullable
+		String valueMin;
+		@Nullable
+		String valueMax;
+		boolean translated;
+		boolean encrypted;
+		boolean allowLogging;
+		boolean lazyLoading;
+		boolean calculated;
+		boolean useDocumentSequence;
+		boolean staleable;
+		boolean selectionColumn;
+	}
+
+	@Nullable
+	public static TableRecord retrieveByTableId(final int adTableId, @Nullable final String trxName)
+	{
+		return retrieveFirst("t.AD_Table_ID=?", adTableId, trxName);
+	}
+
+	@Nullable
+	public static TableRecord retrieveByTableName(@NonNull final String tableName, @Nullable final String trxName)
+	{
+		return retrieveFirst("UPPER(t.TableName)=UPPER(?)", tableName, trxName);
+	}
+
+	/**
+	 * @return all tables which have at least one active column, using only one SQL query
+	 */
+	public static List<TableRecord> retrieveAll(@Nullable final String trxName)
+	{
+		return retrieve(null, null, trxName);
+	}
+
+	/**
+	 * @return checksum of all the data which {@link #retrieveAll(String)} would load, computed by the database, so without loading that data.
+	 *         It's the same as {@link #computeChecksum(List)} of the loaded tables.
+	 */
+	public static String retrieveChecksum(@Nullable final String trxName)
+	{
+		return DB.getSQLValueStringEx(trxName, SQL_CHECKSUM);
+	}
+
+	/**
+	 * @return the same checksum which {@link #retrieveChecksum(String)} retrieves, but computed from the given tables.
+	 */
+	public static String computeChecksum(@NonNull final List<TableRecord> tables)
+	{
+		if (tables.stream().allMatch(table -> table.getColumns().isEmpty()))
+		{
+			return "";
+		}
+
+		final StringJoiner lines = new StringJoiner("\n");
+		for (final TableRecord table : tables)
+		{
+			for (final ColumnRecord column : table.getColumns())
+			{
+				lines.add(toChecksumLine(table, column));
+			}
+		}
+
+		try
+		{
+			final byte[] digest = MessageDigest.getInstance("MD5").digest(lines.toString().getBytes(StandardCharsets.UTF_8));
+			return BaseEncoding.base16().lowerCase().encode(digest);
+		}
+		catch (final NoSuchAlgorithmException ex)
+		{
+			throw AdempiereException.wrapIfNeeded(ex);
+		}
+	}
+
+	/**
+	 * Renders the line like <code>concat_ws</code> in {@link #SQL_CHECKSUM} does, i.e. null values are skipped.
+	 */
+	private static String toChecksumLine(final TableRecord table, final ColumnRecord column)
+	{
+		final StringJoiner line = new StringJoiner("\t");
+		addChecksumValue(line, table.getAdTableId());
+		addChecksumValue(line, table.getTableName());
+		addChecksumValue(line, table.getAccessLevel());
+		addChecksumValue(line, table.isView());
+		addChecksumValue(line, table.isChangeLog());
+		addChecksumValue(line, column.getAdColumnId());
+		addChecksumValue(line, column.getColumnName());
+		addChecksumValue(line, column.getColumnSQL());
+		addChecksumValue(line, column.getAdReferenceId());
+		addChecksumValue(line, column.isMandatory());
+		addChecksumValue(line, column.isUpdateable());
+		addChecksumValue(line, column.getDefaultLogic());
+		addChecksumValue(line, column.getName());
+		addChecksumValue(line, column.getDescription());
+		addChecksumValue(line, column.isKey());
+		addChecksumValue(line, column.isParent());
+		addChecksumValue(line, column.getAdReferenceValueId());
+		addChecksumValue(line, column.getAdValRuleId());
+		addChecksumValue(line, column.getFieldLength());
+		addChecksumValue(line, column.getValueMin());
+		addChecksumValue(line, column.getValueMax());
+		addChecksumValue(line, column.isTranslated());
+		addChecksumValue(line, column.isEncrypted());
+		addChecksumValue(line, column.isAllowLogging());
+		addChecksumValue(line, column.isLazyLoading());
+		addChecksumValue(line, column.isCalculated());
+		addChecksumValue(line, column.isUseDocumentSequence());
+		addChecksumValue(line, column.isStaleable());
+		addChecksumValue(line, column.isSelectionColumn());
+		return line.toString();
+	}
+
+	private static void addChecksumValue(final StringJoiner line, @Nullable final String value)
+	{
+		if (value != null)
+		{
+			line.add(value);
+		}
+	}
+
+	private static void addChecksumValue(final StringJoiner line, final int value)
+	{
+		line.add(String.valueOf(value));
+	}
+
+	private static void addChecksumValue(final StringJoiner line, final boolean value)
+	{
+		line.add(value ? "Y" : "N");
+	}
+
+	@Nullable
+	private static TableRecord retrieveFirst(final String sqlWhereClause, final Object sqlParam, @Nullable final String trxName)
+	{
+		final List<TableRecord> tables = retrieve(sqlWhereClause, sqlParam, trxName);
+		return tables.isEmpty() ? null : tables.get(0);
+	}
+
+	private static List<TableRecord> retrieve(@Nullable final String sqlWhereClause, @Nullable final Object sqlParam, @Nullable final String trxName)
+	{
+		final String sql = SQL_SELECT
+				+ (sqlWhereClause != null ? " AND " + sqlWhereClause : "")
+				+ SQL_ORDER_BY;
+		final Object[] sqlParams = sqlWhereClause != null ? new Object[] { sqlParam } : null;
+
+		final Map<Integer, TableRecord.TableRecordBuilder> tableBuilders = new LinkedHashMap<>();
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		try
+		{
+			pstmt = DB.prepareStatement(sql, trxName);
+			DB.setParameters(pstmt, sqlParams);
+			rs = pstmt.executeQuery();
+			while (rs.next())
+			{
+				final int adTableId = rs.getInt(I_AD_Table.COLUMNNAME_AD_Table_ID);
+				final ResultSet tableRS = rs;
+				final TableRecord.TableRecordBuilder tableBuilder = tableBuilders.computeIfAbsent(adTableId, k -> retrieveTableRecordBuilder(tableRS));
+				tableBuilder.column(retrieveColumnRecord(rs));
+			}
+		}
+		catch (final SQLException ex)
+		{
+			throw new DBException(ex, sql, sqlParams);
+		}
+		finally
+		{
+			DB.close(rs, pstmt);
+		}
+
+		final List<TableRecord> tables = new ArrayList<>(tableBuilders.size());
+		for (final TableRecord.TableRecordBuilder tableBuilder : tableBuilders.values())
+		{
+			tables.add(tableBuilder.build());
+		}
+		return tables;
+	}
+
+	private static TableRecord.TableRecordBuilder retrieveTableRecordBuilder(final ResultSet rs)
+	{
+		try
+		{
+			return TableRecord.builder()
+					.adTableId(rs.getInt(I_AD_Table.COLUMNNAME_AD_Table_ID))
+					.tableName(rs.getString(I_AD_Table.COLUMNNAME_TableName))
+					.accessLevel(rs.getString(I_AD_Table.COLUMNNAME_AccessLevel))
+					.view("Y".equals(rs.getString(I_AD_Table.COLUMNNAME_IsView)))
+					.changeLog("Y".equals(rs.getString(I_AD_Table.COLUMNNAME_IsChangeLog)));
+		}
+		catch (final SQLException ex)
+		{
+			throw new DBException(ex);
+		}
+	}
+
+	private static ColumnRecord retrieveColumnRecord(final ResultSet rs) throws SQLException
+	{
+		return ColumnRecord.builder()
+				.adColumnId(rs.getInt(I_AD_Column.COLUMNNAME_AD_Column_ID))
+				.columnName(rs.getString(I_AD_Column.COLUMNNAME_ColumnName))
+				.columnSQL(rs.getString(I_AD_Column.COLUMNNAME_ColumnSQL))
+				.adReferenceId(rs.getInt(I_AD_Column.COLUMNNAME_AD_Reference_ID))
+				.mandatory("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsMandatory)))
+				.updateable("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsUpdateable)))
+				.defaultLogic(rs.getString(I_AD_Column.COLUMNNAME_DefaultValue))
+				.name(rs.getString(I_AD_Element.COLUMNNAME_Name))
+				.description(rs.getString(I_AD_Element.COLUMNNAME_Description))
+				.key("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsKey)))
+				.parent("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsParent)))
+				.adReferenceValueId(rs.getInt(I_AD_Column.COLUMNNAME_AD_Reference_Value_ID))
+				.adValRuleId(rs.getInt(I_AD_Column.COLUMNNAME_AD_Val_Rule_ID))
+				.fieldLength(rs.getInt(I_AD_Column.COLUMNNAME_FieldLength))
+				.valueMin(rs.getString(I_AD_Column.COLUMNNAME_ValueMin))
+				.valueMax(rs.getString(I_AD_Column.COLUMNNAME_ValueMax))
+				.translated("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsTranslated)))
+				.encrypted("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsEncrypted)))
+				.allowLogging("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsAllowLogging)))
+				.lazyLoading("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsLazyLoading)))
+				.calculated("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsCalculated)))
+				.useDocumentSequence("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsUseDocSequence)))
+				.staleable("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsStaleable)))
+				.selectionColumn("Y".equals(rs.getString(I_AD_Column.COLUMNNAME_IsSelectionColumn)))
+				.build();
+	}
+}
@@ -0,0 +1,338 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package org.compiere.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.exceptions.AdempiereException;
+import org.slf4j.Logger;
+
+import com.google.common.base.Stopwatch;
+
+import de.metas.logging.LogManager;
+import de.metas.util.Check;
+import lombok.NonNull;
+
+/**
+ * Binary snapshot of the application dictionary data which is needed to build the {@link POInfo}s (see {@link POInfoLoader}).
+ * <p>
+ * If the system property {@value #SYSPROP_File} is set, {@link #loadOrGenerate()} is called on server startup:
+ * <ul>
+ * <li>if the snapshot file exists and it was generated from the current AD_Table/AD_Column/AD_Element data, all {@link POInfo}s are built from it, without any per-table SQL
+ * <li>else all the tables are loaded from database using one SQL query and the snapshot file is (re)generated
+ * </ul>
+ * Whether the snapshot is stale is decided based on a {@link #retrieveDictionaryChecksum() checksum} of all the dictionary data which is loaded into the snapshot.
+ * The snapshot file stores the {@link #computeChecksum(List) checksum of its content} in its header.
+ */
+public final class POInfoSnapshot
+{
+	public static final String SYSPROP_File = "org.compiere.model.POInfoSnapshot.File";
+
+	private static final transient Logger logger = LogManager.getLogger(POInfoSnapshot.class);
+
+	private static final int MAGIC = 0x504F4931; // "POI1"
+	private static final int FORMAT_VERSION = 2;
+
+	private POInfoSnapshot()
+	{
+	}
+
+	/**
+	 * @return the snapshot file configured via {@value #SYSPROP_File} or null
+	 */
+	@Nullable
+	public static File getConfiguredFile()
+	{
+		final String filename = System.getProperty(SYSPROP_File);
+		return Check.isBlank(filename) ? null : new File(filename.trim());
+	}
+
+	/**
+	 * Loads all {@link POInfo}s from the {@link #getConfiguredFile() configured snapshot file}, or from database if the snapshot is missing or stale, in which case the snapshot file is regenerated.
+	 * Does nothing if no snapshot file is configured.
+	 * <p>
+	 * Never fails: in case of any error, the {@link POInfo}s are loaded lazily as usual.
+	 */
+	public static void loadOrGenerate()
+	{
+		final File file = getConfiguredFile();
+		if (file == null)
+		{
+			return;
+		}
+
+		try
+		{
+			loadOrGenerate(file);
+		}
+		catch (final Exception ex)
+		{
+			logger.warn("Failed loading the POInfo snapshot from {}. Loading POInfos on demand.", file, ex);
+		}
+	}
+
+	private static void loadOrGenerate(@NonNull final File file) throws IOException
+	{
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+		final String checksum = retrieveDictionaryChecksum();
+
+		final List<POInfoLoader.TableRecord> snapshotTables = file.exists() ? readIfChecksumMatches(file, checksum) : null;
+		if (snapshotTables != null)
+		{
+			final int count = POInfo.putAllToCache(snapshotTables);
+			logger.info("Loaded {} POInfos from snapshot {} in {}", count, file, stopwatch);
+			return;
+		}
+
+		final List<POInfoLoader.TableRecord> tables = POInfoLoader.retrieveAll(ITrx.TRXNAME_None);
+		final int count = POInfo.putAllToCache(tables);
+
+		final String tablesChecksum = computeChecksum(tables);
+		if (!tablesChecksum.equals(checksum))
+		{
+			// either the dictionary was changed meanwhile, or the database and the java checksum are not computed the same way, in which case the snapshot would never be used
+			logger.warn("The checksum of the loaded POInfo data ({}) differs from the database checksum ({})", tablesChecksum, checksum);
+		}
+		write(file, tablesChecksum, tables);
+		logger.info("Loaded {} POInfos from database and generated snapshot {} in {}", count, file, stopwatch);
+	}
+
+	/**
+	 * @return a checksum of all the AD_Table/AD_Column/AD_Element data which is loaded into {@link POInfo}s, computed by the database.
+	 *         It changes whenever any of that data is added, changed or deleted, e.g. when a column's IsMandatory, ColumnSQL or FieldLength is changed.
+	 */
+	public static String retrieveDictionaryChecksum()
+	{
+		return FORMAT_VERSION + "/" + POInfoLoader.retrieveChecksum(ITrx.TRXNAME_None);
+	}
+
+	/**
+	 * @return the same checksum as {@link #retrieveDictionaryChecksum()}, but computed from the given tables
+	 */
+	/* package */ static String computeChecksum(@NonNull final List<POInfoLoader.TableRecord> tables)
+	{
+		return FORMAT_VERSION + "/" + POInfoLoader.computeChecksum(tables);
+	}
+
+	/**
+	 * @return tables from given snapshot file or null if the snapshot does not match the given checksum
+	 */
+	@Nullable
+	/* package */ static List<POInfoLoader.TableRecord> readIfChecksumMatches(@NonNull final File file, @NonNull final String expectedChecksum) throws IOException
+	{
+		try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file)))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+			{
+				logger.info("Ignoring POInfo snapshot {} because it has an unknown format", file);
+				return null;
+			}
+
+			final String checksum = readString(in);
+			if (!expectedChecksum.equals(checksum))
+			{
+				logger.info("Ignoring stale POInfo snapshot {} (checksum={}, expected={})", file, checksum, expectedChecksum);
+				return null;
+			}
+
+			final int tablesCount = in.readInt();
+			final List<POInfoLoader.TableRecord> tables = new ArrayList<>(tablesCount);
+			for (int i = 0; i < tablesCount; i++)
+			{
+				tables.add(readTable(in));
+			}
+			return tables;
+		}
+	}
+
+	/**
+	 * Writes the snapshot to a temporary file which then replaces the given one, so that a concurrently starting server never sees a partial snapshot.
+	 */
+	/* package */ static void write(
+			@NonNull final File file,
+			@NonNull final String checksum,
+			@NonNull final List<POInfoLoader.TableRecord> tables) throws IOException
+	{
+		final File dir = file.getAbsoluteFile().getParentFile();
+		if (dir != null && !dir.exists() && !dir.mkdirs())
+		{
+			throw new AdempiereException("Cannot create directory " + dir);
+		}
+
+		final File tempFile = File.createTempFile(file.getName(), ".tmp", dir);
+		try
+		{
+			try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tempFile)))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				writeString(out, checksum);
+				out.writeInt(tables.size());
+				for (final POInfoLoader.TableRecord table : tables)
+				{
+					writeTable(out, table);
+				}
+			}
+
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally
+		{
+			Files.deleteIfExists(tempFile.toPath());
+		}
+	}
+
+	private static void writeTable(final DataOutputStream out, final POInfoLoader.TableRecord table) throws IOException
+	{
+		out.writeInt(table.getAdTableId());
+		writeString(out, table.getTableName());
+		writeString(out, table.getAccessLevel());
+		out.writeBoolean(table.isView());
+		out.writeBoolean(table.isChangeLog());
+
+		out.writeInt(table.getColumns().size());
+		for (final POInfoLoader.ColumnRecord column : table.getColumns())
+		{
+			writeColumn(out, column);
+		}
+	}
+
+	private static POInfoLoader.TableRecord readTable(final DataInputStream in) throws IOException
+	{
+		final POInfoLoader.TableRecord.TableRecordBuilder table = POInfoLoader.TableRecord.builder()
+				.adTableId(in.readInt())
+				.tableName(readString(in))
+				.accessLevel(readString(in))
+				.view(in.readBoolean())
+				.changeLog(in.readBoolean());
+
+		final int columnsCount = in.readInt();
+		for (int i = 0; i < columnsCount; i++)
+		{
+			table.column(readColumn(in));
+		}
+		return table.build();
+	}
+
+	private static void writeColumn(final DataOutputStream out, final POInfoLoader.ColumnRecord column) throws IOException
+	{
+		out.writeInt(column.getAdColumnId());
+		writeString(out, column.getColumnName());
+		writeString(out, column.getColumnSQL());
+		out.writeInt(column.getAdReferenceId());
+		out.writeBoolean(column.isMandatory());
+		out.writeBoolean(column.isUpdateable());
+		writeString(out, column.getDefaultLogic());
+		writeString(out, column.getName());
+		writeString(out, column.getDescription());
+		out.writeBoolean(column.isKey());
+		out.writeBoolean(column.isParent());
+		out.writeInt(column.getAdReferenceValueId());
+		out.writeInt(column.getAdValRuleId());
+		out.writeInt(column.getFieldLength());
+		writeString(out, column.getValueMin());
+		writeString(out, column.getValueMax());
+		out.writeBoolean(column.isTranslated());
+		out.writeBoolean(column.isEncrypted());
+		out.writeBoolean(column.isAllowLogging());
+		out.writeBoolean(column.isLazyLoading());
+		out.writeBoolean(column.isCalculated());
+		out.writeBoolean(column.isUseDocumentSequence());
+		out.writeBoolean(column.isStaleable());
+		out.writeBoolean(column.isSelectionColumn());
+	}
+
+	private static POInfoLoader.ColumnRecord readColumn(final DataInputStream in) throws IOException
+	{
+		return POInfoLoader.ColumnRecord.builder()
+				.adColumnId(in.readInt())
+				.columnName(readString(in))
+				.columnSQL(readString(in))
+				.adReferenceId(in.readInt())
+				.mandatory(in.readBoolean())
+				.updateable(in.readBoolean())
+				.defaultLogic(readString(in))
+				.name(readString(in))
+				.description(readString(in))
+				.key(in.readBoolean())
+				.parent(in.readBoolean())
+				.adReferenceValueId(in.readInt())
+				.adValRuleId(in.readInt())
+				.fieldLength(in.readInt())
+				.valueMin(readString(in))
+				.valueMax(readString(in))
+				.translated(in.readBoolean())
+				.encrypted(in.readBoolean())
+				.allowLogging(in.readBoolean())
+				.lazyLoading(in.readBoolean())
+				.calculated(in.readBoolean())
+				.useDocumentSequence(in.readBoolean())
+				.staleable(in.readBoolean())
+				.selectionColumn(in.readBoolean())
+				.build();
+	}
+
+	/** Writes a nullable string. Not using {@link DataOutputStream#writeUTF(String)} because it's limited to 64k (e.g. ColumnSQL) */
+	private static void writeString(final DataOutputStream out, @Nullable final String value) throws IOException
+	{
+		if (value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	@Nullable
+	private static String readString(final DataInputStream in) throws IOException
+	{
+		final int length = in.readInt();
+		if (length < 0)
+		{
+			return null;
+		}
+
+		final byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
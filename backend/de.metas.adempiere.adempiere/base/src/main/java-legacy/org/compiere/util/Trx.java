@@ -16,9 +16,13 @@
  *****************************************************************************/
 package org.compiere.util;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.ad.trx.api.ITrxManager;
@@ -26,11 +30,17 @@ import org.adempiere.ad.trx.api.ITrxSavepoint;
 import org.adempiere.ad.trx.api.impl.AbstractTrx;
 import org.adempiere.ad.trx.api.impl.JdbcTrxSavepoint;
 import org.adempiere.exceptions.DBException;
+import org.adempiere.util.lang.IAutoCloseable;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
 import de.metas.logging.LogManager;
+import de.metas.util.Check;
 import de.metas.util.Services;
+import lombok.NonNull;
 
 import javax.annotation.Nullable;
 
@@ -66,6 +76,14 @@ public class Trx extends AbstractTrx
 	private static final Logger logger = LogManager.getLogger(Trx.class);
 	@Nullable private Connection m_connection = null;
 
+	/** Max number of collected INSERTs after which they are flushed, even if the batch save scope did not end */
+	private static final int BATCH_SAVE_MaxSize = 500;
+	/** Number of currently open batch save scopes (they can be nested) */
+	private int batchSaveScopesCount = 0;
+	/** INSERTs which were collected in batch save scope and were not yet sent to database */
+	private final ArrayList<String> batchedInserts = new ArrayList<>();
+	private boolean flushingBatchedInserts = false;
+
 	public Trx(final ITrxManager trxManager, final String trxName, final boolean autocommit)
 	{
 		this(trxManager, trxName, (Connection)null, autocommit);
@@ -73,7 +91,8 @@ public class Trx extends AbstractTrx
 		// String threadName = Thread.currentThread().getName(); // for debugging
 	}
 
-	private Trx(final ITrxManager trxManager, final String trxName, final Connection con, final boolean autocommit)
+	@VisibleForTesting
+	Trx(final ITrxManager trxManager, final String trxName, final Connection con, final boolean autocommit)
 	{
 		super(trxManager, trxName, autocommit);
 
@@ -125,9 +144,119 @@ public class Trx extends AbstractTrx
 			throw DBException.wrapIfNeeded(e);
 		}
 
+		// Make sure whoever is using the connection will see the records which were saved in batch save scope
+		flushBatchedInserts();
+
 		return m_connection;
 	}	// getConnection
 
+	@Override
+	public IAutoCloseable startBatchSaveScope()
+	{
+		batchSaveScopesCount++;
+
+		final AtomicBoolean closed = new AtomicBoolean(false);
+		return () -> {
+			if (!closed.compareAndSet(false, true))
+			{
+				return;
+			}
+
+			batchSaveScopesCount--;
+			if (batchSaveScopesCount <= 0)
+			{
+				batchSaveScopesCount = 0;
+				flushBatchedInserts();
+			}
+		};
+	}
+
+	/**
+	 * @return true if we are in a batch save scope, i.e. the INSERTs of newly saved records shall be {@link #addBatchedInsert(String) collected}.
+	 */
+	public boolean isBatchSaveScope()
+	{
+		return batchSaveScopesCount > 0;
+	}
+
+	/**
+	 * Collects the given INSERT statement. It will be executed (together with the other collected ones) the next time {@link #getConnection()} is called,
+	 * before commit, before creating a savepoint or at the end of the batch save scope.
+	 * <p>
+	 * NOTE: a statement which was already prepared before won't call {@link #getConnection()} again, so it does not flush the collected INSERTs.
+	 */
+	public void addBatchedInsert(@NonNull final String sqlInsert)
+	{
+		Check.assume(isBatchSaveScope(), "{} shall be in batch save scope", this);
+
+		batchedInserts.add(sqlInsert);
+		if (batchedInserts.size() >= BATCH_SAVE_MaxSize)
+		{
+			flushBatchedInserts();
+		}
+	}
+
+	/**
+	 * Sends all collected INSERTs to database, as one JDBC batch.
+	 *
+	 * @throws DBException if any of them failed
+	 */
+	public void flushBatchedInserts()
+	{
+		if (batchedInserts.isEmpty() || flushingBatchedInserts)
+		{
+			return;
+		}
+
+		final ImmutableList<String> sqls = ImmutableList.copyOf(batchedInserts);
+		batchedInserts.clear();
+
+		flushingBatchedInserts = true;
+		try (final Statement stmt = getConnection().createStatement())
+		{
+			for (final String sql : sqls)
+			{
+				stmt.addBatch(sql);
+			}
+
+			final int[] updateCounts = stmt.executeBatch();
+			for (int i = 0; i < updateCounts.length; i++)
+			{
+				if (updateCounts[i] != 1 && updateCounts[i] != Statement.SUCCESS_NO_INFO)
+				{
+					throw new DBException("Not inserted (updateCount=" + updateCounts[i] + "): " + sqls.get(i));
+				}
+			}
+
+			logger.debug("Flushed {} batched INSERTs in {}", sqls.size(), this);
+		}
+		catch (final BatchUpdateException ex)
+		{
+			// the update counts are for the statements executed before the failing one
+			final int failedIndex = ex.getUpdateCounts() != null ? ex.getUpdateCounts().length : -1;
+			final String failedSql = failedIndex >= 0 && failedIndex < sqls.size() ? sqls.get(failedIndex) : null;
+			final SQLException cause = ex.getNextException() != null ? ex.getNextException() : ex;
+			throw new DBException(cause, failedSql);
+		}
+		catch (final SQLException ex)
+		{
+			throw DBException.wrapIfNeeded(ex);
+		}
+		finally
+		{
+			flushingBatchedInserts = false;
+		}
+	}
+
+	private void discardBatchedInserts()
+	{
+		if (!batchedInserts.isEmpty())
+		{
+			logger.debug("Discarding {} batched INSERTs in {}", batchedInserts.size(), this);
+			batchedInserts.clear();
+		}
+	}
+
 	/**
 	 * Set Connection
 	 *
@@ -181,6 +310,8 @@ public class Trx extends AbstractTrx
 	@Override
 	protected boolean rollbackNative(final boolean throwException) throws SQLException
 	{
+		discardBatchedInserts();
+
 		final String trxName = getTrxName();
 
 		//
@@ -219,6 +350,9 @@ public class Trx extends AbstractTrx
 	@Override
 	protected boolean rollbackNative(final ITrxSavepoint savepoint) throws SQLException
 	{
+		// the collected INSERTs are always newer than the savepoint, because they are flushed when the savepoint is created
+		discardBatchedInserts();
+
 		if (m_connection == null || m_connection.getAutoCommit())
 		{
 			logger.debug("rollbackNative: doing nothing because we have a null or autocomit connection; this={}, connection={}", this, m_connection);
@@ -251,6 +385,8 @@ public class Trx extends AbstractTrx
 	@Override
 	protected boolean commitNative(final boolean throwException) throws SQLException
 	{
+		flushBatchedInserts();
+
 		if (m_connection == null || m_connection.getAutoCommit())
 		{
 			logger.debug("commitNative: doing nothing because we have an autocomit connection; this={}, connection={}", this, m_connection);
@@ -301,6 +437,9 @@ public class Trx extends AbstractTrx
 	@Override
 	protected synchronized boolean closeNative()
 	{
+		batchSaveScopesCount = 0;
+		discardBatchedInserts();
+
 		if (m_connection == null)
 		{
 			logger.debug("closeNative - m_connection is already null; just return true");
@@ -332,10 +471,8 @@ public class Trx extends AbstractTrx
 	@Override
 	protected ITrxSavepoint createTrxSavepointNative(final String name) throws Exception
 	{
-		if (m_connection == null)
-		{
-			getConnection();
-		}
+		// NOTE: getConnection() also flushes the batched INSERTs, which must be part of the transaction state before the savepoint
+		getConnection();
 
 		if (m_connection.getAutoCommit())
 		{
@@ -30,6 +30,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -87,6 +88,25 @@ public class CCache<K, V> implements CacheInterface
 				.build();
 	}
 
+	/**
+	 * Creates a new size limited cache which admits loaded values only if they are requested frequently enough (see {@link CacheMapType#LFU}).
+	 *
+	 * @param cacheName cache name; shall respect the current naming conventions, see {@link #extractTableNameForCacheName(String)}
+	 * @param maxSize cache maximum size
+	 * @param expireAfterMinutes if positive, the entries will expire after given number of minutes
+	 * @return new cache instance
+	 */
+	public static final <K, V> CCache<K, V> newLFUCache(final String cacheName, final int maxSize, final int expireAfterMinutes)
+	{
+		return CCache.<K, V> builder()
+				.cacheName(cacheName)
+				// .tableName(null) // auto-detect tableName
+				.initialCapacity(maxSize) // in case of LFU, initialCapacity is used as maxSize
+				.expireMinutes(expireAfterMinutes)
+				.cacheMapType(CacheMapType.LFU)
+				.build();
+	}
+
 	/**
 	 * Similar to {@link #newLRUCache(String, int, int)}.
 	 *
@@ -115,8 +135,20 @@ public class CCache<K, V> implements CacheInterface
 		 * This means that we can have a have a cache with a defined (limited) size without any expiration time.
 		 */
 		LRU,
+
+		/**
+		 * Size limited like {@link #LRU}, but with a frequency based admission policy (TinyLFU):
+		 * once the cache is full, a freshly loaded value is cached only if its key was recently requested at least {@value CCache#LFU_ADMISSION_MinFrequency} times.
+		 * This way, one big query which touches a lot of keys just once will not evict the entries which are used all the time.
+		 * <p>
+		 * NOTE: the admission policy applies to the values loaded by the cache itself (e.g. {@link CCache#getOrLoad(Object, Function)}, {@link CCache#getAllOrLoad(Collection, Function)}),
+		 * explicit {@link CCache#put(Object, Object)} calls are always admitted.
+		 */
+		LFU,
 	}
 
+	private static final int LFU_ADMISSION_MinFrequency = 2;
+
 	/**
 	 * If active, following informations will be stored:
 	 * <ul>
@@ -130,6 +162,22 @@ public class CCache<K, V> implements CacheInterface
 
 	/** Internal map that is used as cache */
 	private final Cache<K, V> cache;
+	private final CacheMapType cacheMapType;
+	private final int maximumSize;
+	/** Frequency sketch used for admission; only for {@link CacheMapType#LFU} */
+	@Nullable
+	private final FrequencySketch admissionSketch;
+
+	/**
+	 * true if something was added since the last reset.
+	 * Only caches which were used are visited by {@link CacheMgt} when invalidating, see {@link #markUsed()}.
+	 */
+	private volatile boolean usedSinceLastReset = false;
+	private final Object usedSinceLastResetLock = new Object();
+
+	// Statistics which are not covered by guava's CacheStats
+	private final LongAdder invalidatedCount = new LongAdder();
+	private final LongAdder admissionRejectedCount = new LongAdder();
 
 	static final AtomicLong NEXT_CACHE_ID = new AtomicLong(1);
 	/** unique cache ID, mainly used for tracking, logging and debugging */
@@ -246,11 +294,16 @@ public class CCache<K, V> implements CacheInterface
 		this.labels = buildCacheLabels(tableNameEffective, additionalTableNamesToResetFor);
 
 		this.expireMinutes = expireMinutes != null ? expireMinutes : EXPIREMINUTES_Never;
+		this.cacheMapType = cacheMapType != null ? cacheMapType : CacheMapType.HashMap;
+		this.maximumSize = initialCapacity != null ? initialCapacity : 0;
 		this.cache = buildGuavaCache(
-				cacheMapType != null ? cacheMapType : CacheMapType.HashMap,
-				initialCapacity != null ? initialCapacity : 0,
+				this.cacheMapType,
+				this.maximumSize,
 				this.expireMinutes,
 				removalListener);
+		this.admissionSketch = this.cacheMapType == CacheMapType.LFU
+				? new FrequencySketch(this.maximumSize)
+				: null;
 
 		if (DEBUG)
 		{
@@ -320,13 +373,14 @@ public class CCache<K, V> implements CacheInterface
 			final int expireMinutes,
 			@Nullable final CacheRemovalListener<K, V> removalListener)
 	{
-		CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+		CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder()
+				.recordStats();
 		if (cacheMapType == CacheMapType.HashMap)
 		{
 			cacheBuilder = cacheBuilder
 					.initialCapacity(initialCapacity);
 		}
-		else if (cacheMapType == CacheMapType.LRU)
+		else if (cacheMapType == CacheMapType.LRU || cacheMapType == CacheMapType.LFU)
 		{
 			cacheBuilder = cacheBuilder
 					.maximumSize(initialCapacity); // FIXME: this is confusing
@@ -419,6 +473,7 @@ public class CCache<K, V> implements CacheInterface
 			clear();
 			if (no > 0)
 			{
+				invalidatedCount.add(no);
 				logger.trace("Reset {} entries from {}", no, this);
 			}
 			return no;
@@ -427,13 +482,41 @@ public class CCache<K, V> implements CacheInterface
 
 	private void clear()
 	{
-		// Clear
-		cache.invalidateAll();
-		cache.cleanUp();
+		synchronized (usedSinceLastResetLock)
+		{
+			usedSinceLastReset = false;
+			CacheMgt.get().onCacheReset(this);
+
+			// Clear
+			cache.invalidateAll();
+			cache.cleanUp();
+		}
 
 		m_justReset = true;
 	}	// clear
 
+	/**
+	 * Makes sure {@link CacheMgt} knows this cache holds entries which might need to be invalidated.
+	 *
+	 * NOTE: shall be called <b>after</b> the entry was added, in order to not miss the entries which were added while the cache was concurrently reset.
+	 */
+	private void markUsed()
+	{
+		if (usedSinceLastReset)
+		{
+			return;
+		}
+
+		synchronized (usedSinceLastResetLock)
+		{
+			if (!usedSinceLastReset)
+			{
+				usedSinceLastReset = true;
+				CacheMgt.get().onCacheUsed(this);
+			}
+		}
+	}
+
 	@Override
 	public long resetForRecordId(@NonNull final TableRecordReference recordRef)
 	{
@@ -526,6 +609,10 @@ public class CCache<K, V> implements CacheInterface
 		{
 			final V value = cache.getIfPresent(key);
 			cache.invalidate(key);
+			if (value != null)
+			{
+				invalidatedCount.increment();
+			}
 			logger.debug("remove - Removed key={}; item that was actually in this cache={}", key, value);
 			return value;
 		}
@@ -547,6 +634,7 @@ public class CCache<K, V> implements CacheInterface
 	{
 		try (final IAutoCloseable cacheIdMDC = CacheMDC.putCache(this))
 		{
+			recordAccess(key);
 			final V result = cache.getIfPresent(key);
 			logger.debug("get - key={}; result={}", key, result);
 			return result;
@@ -600,31 +688,103 @@ public class CCache<K, V> implements CacheInterface
 			{
 				return cache.getIfPresent(key);
 			}
-
-			try
-			{
-				return cache.get(key, valueInitializer);
-			}
-			catch (final InvalidCacheLoadException e)
-			{
-				// Exception thrown when the Callable returns null
-				// We can safely ignore it and return null.
-				// The value was not cached.
-				return null;
-			}
-			catch (final ExecutionException e)
+			if (admissionSketch != null)
 			{
-				throw AdempiereException.wrapIfNeeded(e);
+				return getOrLoadWithAdmission(key, valueInitializer);
 			}
-			catch (final UncheckedExecutionException e)
-			{
-				throw (RuntimeException)e.getCause();
-			}
-			catch (final ExecutionError e)
+
+			return getOrLoadNoAdmission(key, valueInitializer);
+		}
+	}
+
+	/**
+	 * Loads the value through guava, so concurrent misses on the same key are loaded just once.
+	 */
+	private V getOrLoadNoAdmission(final K key, @NonNull final Callable<V> valueInitializer)
+	{
+		try
+		{
+			final V value = cache.get(key, valueInitializer);
+			markUsed();
+			return value;
+		}
+		catch (final InvalidCacheLoadException e)
+		{
+			// Exception thrown when the Callable returns null
+			// We can safely ignore it and return null.
+			// The value was not cached.
+			return null;
+		}
+		catch (final ExecutionException e)
+		{
+			throw AdempiereException.wrapIfNeeded(e);
+		}
+		catch (final UncheckedExecutionException e)
+		{
+			throw (RuntimeException)e.getCause();
+		}
+		catch (final ExecutionError e)
+		{
+			throw (Error)e.getCause();
+		}
+	}
+
+	/**
+	 * Loads the value through guava (so concurrent misses on the same key are still loaded just once) and applies the admission policy afterwards:
+	 * if the cache was already full before the load and the key was not requested frequently enough, the freshly loaded value is removed again.
+	 */
+	private V getOrLoadWithAdmission(final K key, @NonNull final Callable<V> valueInitializer)
+	{
+		recordAccess(key);
+
+		final V cachedValue = cache.getIfPresent(key);
+		if (cachedValue != null)
+		{
+			return cachedValue;
+		}
+
+		final boolean wasFull = cache.size() >= maximumSize;
+		final V value = getOrLoadNoAdmission(key, valueInitializer);
+		if (value != null && wasFull && !isFrequent(key))
+		{
+			// remove only the value we loaded, not one which was put meanwhile
+			if (cache.asMap().remove(key, value))
 			{
-				throw (Error)e.getCause();
+				admissionRejectedCount.increment();
+				logger.trace("getOrLoadWithAdmission - Not caching key={} because it was not requested frequently enough", key);
 			}
 		}
+		return value;
+	}
+
+	private void recordAccess(final K key)
+	{
+		if (admissionSketch != null && key != null)
+		{
+			admissionSketch.increment(key);
+		}
+	}
+
+	private boolean isFrequent(final K key)
+	{
+		return admissionSketch.frequency(key) >= LFU_ADMISSION_MinFrequency;
+	}
+
+	private boolean isAdmitted(final K key)
+	{
+		if (admissionSketch == null || cache.size() < maximumSize)
+		{
+			return true;
+		}
+
+		if (isFrequent(key))
+		{
+			return true;
+		}
+
+		admissionRejectedCount.increment();
+		logger.trace("isAdmitted - Not caching key={} because it was not requested frequently enough", key);
+		return false;
 	}
 
 	/**
@@ -678,6 +838,7 @@ public class CCache<K, V> implements CacheInterface
 			final Set<K> keysToLoad = new HashSet<>();
 			for (final K key : ImmutableSet.copyOf(keys))
 			{
+				recordAccess(key);
 				final V value = cache.getIfPresent(key);
 				if (value == null)
 				{
@@ -707,8 +868,13 @@ public class CCache<K, V> implements CacheInterface
 				{
 					final K key = entry.getKey();
 					final V value = entry.getValue();
+					if (!isAdmitted(key))
+					{
+						continue;
+					}
 
 					cache.put(key, value);
+					markUsed();
 					fireAdditionListener(key, value);
 				}
 				values.addAll(valuesLoaded.values()); // add loaded values to the list we will return
@@ -751,6 +917,7 @@ public class CCache<K, V> implements CacheInterface
 			else
 			{
 				cache.put(key, value);
+				markUsed();
 				fireAdditionListener(key, value);
 			}
 		}
@@ -775,6 +942,7 @@ public class CCache<K, V> implements CacheInterface
 		try (final IAutoCloseable cacheIdMDC = CacheMDC.putCache(this))
 		{
 			cache.putAll(map);
+			markUsed();
 
 			for (final Entry<? extends K, ? extends V> entry : map.entrySet())
 			{
@@ -835,7 +1003,14 @@ public class CCache<K, V> implements CacheInterface
 	 */
 	public CCacheStats stats()
 	{
-		return new CCacheStats(cacheId, cacheName, cache.size(), cache.stats());
+		return new CCacheStats(
+				cacheId,
+				cacheName,
+				cacheMapType,
+				cache.size(),
+				cache.stats(),
+				invalidatedCount.sum(),
+				admissionRejectedCount.sum());
 	}
 
 	@SuppressWarnings("serial")
@@ -845,15 +1020,28 @@ public class CCache<K, V> implements CacheInterface
 
 		private final long cacheId;
 		private final String name;
+		private final CacheMapType cacheMapType;
 		private final long size;
 		private final CacheStats guavaStats;
-
-		private CCacheStats(final long cacheId, final String name, final long size, final CacheStats guavaStats)
+		private final long invalidationCount;
+		private final long admissionRejectedCount;
+
+		private CCacheStats(
+				final long cacheId,
+				final String name,
+				final CacheMapType cacheMapType,
+				final long size,
+				final CacheStats guavaStats,
+				final long invalidationCount,
+				final long admissionRejectedCount)
 		{
 			this.cacheId = cacheId;
 			this.name = name;
+			this.cacheMapType = cacheMapType;
 			this.size = size;
 			this.guavaStats = guavaStats;
+			this.invalidationCount = invalidationCount;
+			this.admissionRejectedCount = admissionRejectedCount;
 		}
 
 		@Override
@@ -861,7 +1049,13 @@ public class CCache<K, V> implements CacheInterface
 		{
 			return MoreObjects.toStringHelper(this)
 					.add("name", name)
+					.add("type", cacheMapType)
 					.add("size", size)
+					.add("hitRate", getHitRate())
+					.add("averageLoadMillis", getAverageLoadMillis())
+					.add("evictions", getEvictionCount())
+					.add("invalidations", invalidationCount)
+					.add("admissionRejected", admissionRejectedCount)
 					.add("guavaStats", guavaStats)
 					.add("cacheId", cacheId)
 					.toString();
@@ -870,7 +1064,7 @@ public class CCache<K, V> implements CacheInterface
 		@Override
 		public int hashCode()
 		{
-			return Objects.hash(cacheId, name, size, guavaStats);
+			return Objects.hash(cacheId, name, cacheMapType, size, guavaStats, invalidationCount, admissionRejectedCount);
 		}
 
 		@Override
@@ -881,8 +1075,11 @@ public class CCache<K, V> implements CacheInterface
 				final CCacheStats other = (CCacheStats)obj;
 				return cacheId == other.cacheId
 						&& name.equals(other.name)
+						&& cacheMapType == other.cacheMapType
 						&& size == other.size
-						&& guavaStats.equals(other.guavaStats);
+						&& guavaStats.equals(other.guavaStats)
+						&& invalidationCount == other.invalidationCount
+						&& admissionRejectedCount == other.admissionRejectedCount;
 			}
 			return false;
 		}
@@ -897,6 +1094,11 @@ public class CCache<K, V> implements CacheInterface
 			return name;
 		}
 
+		public CacheMapType getCacheMapType()
+		{
+			return cacheMapType;
+		}
+
 		public long getSize()
 		{
 			return size;
@@ -906,5 +1108,49 @@ public class CCache<K, V> implements CacheInterface
 		{
 			return guavaStats;
 		}
+
+		public long getHitCount()
+		{
+			return guavaStats.hitCount();
+		}
+
+		public long getMissCount()
+		{
+			return guavaStats.missCount();
+		}
+
+		/** @return ratio of requests which were served from cache; 1.0 if there were no requests at all */
+		public double getHitRate()
+		{
+			return guavaStats.hitRate();
+		}
+
+		public long getLoadCount()
+		{
+			return guavaStats.loadCount();
+		}
+
+		public double getAverageLoadMillis()
+		{
+			return guavaStats.averageLoadPenalty() / 1_000_000d;
+		}
+
+		/** @return how many entries were evicted because of the size limit or because they expired */
+		public long getEvictionCount()
+		{
+			return guavaStats.evictionCount();
+		}
+
+		/** @return how many entries were explicitly invalidated (e.g. on cache reset) */
+		public long getInvalidationCount()
+		{
+			return invalidationCount;
+		}
+
+		/** @return how many loaded values were not cached because they were not requested frequently enough (only for {@link CacheMapType#LFU}) */
+		public long getAdmissionRejectedCount()
+		{
+			return admissionRejectedCount;
+		}
 	}
 }	// CCache
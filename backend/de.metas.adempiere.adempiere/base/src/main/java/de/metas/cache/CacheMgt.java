@@ -17,6 +17,8 @@
 package de.metas.cache;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -48,6 +50,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 
+import de.metas.cache.CCache.CCacheStats;
 import de.metas.cache.model.CacheInvalidateMultiRequest;
 import de.metas.cache.model.CacheInvalidateRequest;
 import de.metas.logging.LogManager;
@@ -57,6 +60,7 @@ import de.metas.monitoring.adapter.PerformanceMonitoringService.SpanMetadata;
 import de.metas.monitoring.adapter.PerformanceMonitoringService.SubType;
 import de.metas.monitoring.adapter.PerformanceMonitoringService.Type;
 import de.metas.util.Check;
+import de.metas.util.GuavaCollectors;
 import de.metas.util.Services;
 import lombok.NonNull;
 
@@ -153,6 +157,31 @@ public final class CacheMgt
 		}
 	}
 
+	/**
+	 * Called by {@link CCache} when it's used for the first time after it was created or reset.
+	 * From now on, the cache will be considered when invalidating.
+	 */
+	void onCacheUsed(@NonNull final CacheInterface cache)
+	{
+		cache.getLabels()
+				.stream()
+				.map(this::getCachesGroup)
+				.forEach(cacheGroup -> cacheGroup.markUsed(cache));
+	}
+
+	/**
+	 * Called by {@link CCache} when it's reset.
+	 * Until it's used again, the cache won't be visited when invalidating, because there is nothing to invalidate.
+	 */
+	void onCacheReset(@NonNull final CacheInterface cache)
+	{
+		cache.getLabels()
+				.stream()
+				.map(this::getCachesGroupIfPresent)
+				.filter(Objects::nonNull)
+				.forEach(cacheGroup -> cacheGroup.markReset(cache));
+	}
+
 	public Set<CacheLabel> getCacheLabels()
 	{
 		return ImmutableSet.copyOf(cachesByLabel.keySet());
@@ -451,6 +480,23 @@ public final class CacheMgt
 		}
 	}
 
+	/**
+	 * @return statistics of all registered {@link CCache}s, sorted by cache name
+	 */
+	public List<CCacheStats> getCacheStats()
+	{
+		final ImmutableList<CCacheStats> stats = cachesByLabel.values()
+				.stream()
+				.flatMap(CachesGroup::streamCaches)
+				.filter(cache -> cache instanceof CCache)
+				.map(cache -> ((CCache<?, ?>)cache).stats())
+				.collect(GuavaCollectors.toImmutableListExcludingDuplicates(CCacheStats::getCacheId));
+
+		return ImmutableList.sortedCopyOf(
+				Comparator.comparing(CCacheStats::getName).thenComparing(CCacheStats::getCacheId),
+				stats);
+	}
+
 	/**
 	 * @return how many cached elements do we have in total
 	 */
@@ -598,6 +644,15 @@ public final class CacheMgt
 		private final ConcurrentMap<Long, CacheInterface> caches = new MapMaker()
 				.weakValues()
 				.makeMap();
+		/**
+		 * Index of the caches which might have something to invalidate.
+		 * {@link CCache}s are added here when used and removed when reset (see {@link CacheMgt#onCacheUsed(CacheInterface)}),
+		 * so invalidation does not have to walk all the (mostly empty) caches of this group.
+		 * Other {@link CacheInterface} implementations are always considered.
+		 */
+		private final ConcurrentMap<Long, CacheInterface> cachesToInvalidate = new MapMaker()
+				.weakValues()
+				.makeMap();
 
 		public CachesGroup(@NonNull final CacheLabel label)
 		{
@@ -618,6 +673,10 @@ public final class CacheMgt
 			try (final IAutoCloseable ignored = CacheMDC.putCache(cache))
 			{
 				caches.put(cache.getCacheId(), cache);
+				if (!(cache instanceof CCache))
+				{
+					cachesToInvalidate.put(cache.getCacheId(), cache);
+				}
 			}
 		}
 
@@ -626,9 +685,23 @@ public final class CacheMgt
 			try (final IAutoCloseable ignored = CacheMDC.putCache(cache))
 			{
 				caches.remove(cache.getCacheId());
+				cachesToInvalidate.remove(cache.getCacheId());
+			}
+		}
+
+		public void markUsed(@NonNull final CacheInterface cache)
+		{
+			if (caches.containsKey(cache.getCacheId()))
+			{
+				cachesToInvalidate.put(cache.getCacheId(), cache);
 			}
 		}
 
+		public void markReset(@NonNull final CacheInterface cache)
+		{
+			cachesToInvalidate.remove(cache.getCacheId());
+		}
+
 		private Stream<CacheInterface> streamCaches()
 		{
 			return caches.values()
@@ -636,6 +709,13 @@ public final class CacheMgt
 					.filter(Objects::nonNull);
 		}
 
+		private Stream<CacheInterface> streamCachesToInvalidate()
+		{
+			return cachesToInvalidate.values()
+					.stream()
+					.filter(Objects::nonNull);
+		}
+
 		public long computeTotalSize()
 		{
 			return streamCaches()
@@ -645,14 +725,14 @@ public final class CacheMgt
 
 		public long invalidateAllNoFail()
 		{
-			return streamCaches()
+			return streamCachesToInvalidate()
 					.mapToLong(CachesGroup::invalidateNoFail)
 					.sum();
 		}
 
 		public long invalidateForRecordNoFail(final TableRecordReference recordRef)
 		{
-			return streamCaches()
+			return streamCachesToInvalidate()
 					.mapToLong(cache -> invalidateNoFail(cache, recordRef))
 					.sum();
 		}
@@ -0,0 +1,120 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.cache;
+
+/**
+ * Count-Min sketch of 4-bit counters, used by {@link CCache.CacheMapType#LFU} caches to estimate how often a key was requested recently.
+ * <p>
+ * Counters are halved after a sample period (10 x maximum size additions), so the frequencies reflect the recent history only (TinyLFU aging).
+ * The sketch is tiny (about 8 bytes per cache entry) and does not keep any reference to the keys.
+ */
+final class FrequencySketch
+{
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_COUNTER_VALUE = 15;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions = 0;
+
+	FrequencySketch(final int maximumSize)
+	{
+		final int tableSize = ceilingPowerOfTwo(Math.max(maximumSize, 8));
+		this.table = new long[tableSize];
+		this.tableMask = tableSize - 1;
+		this.sampleSize = 10 * Math.max(maximumSize, 1);
+	}
+
+	/**
+	 * @return estimated number of times the key was recently requested, between 0 and 15
+	 */
+	public synchronized int frequency(final Object key)
+	{
+		final int hash = spread(key.hashCode());
+		final int start = (hash & 3) << 2;
+
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++)
+		{
+			final int index = indexOf(hash, i);
+			final int count = (int)((table[index] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	public synchronized void increment(final Object key)
+	{
+		final int hash = spread(key.hashCode());
+		final int start = (hash & 3) << 2;
+
+		boolean added = false;
+		for (int i = 0; i < 4; i++)
+		{
+			final int index = indexOf(hash, i);
+			final int offset = (start + i) << 2;
+			if (((table[index] >>> offset) & 0xfL) != MAX_COUNTER_VALUE)
+			{
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+
+		if (added && ++additions >= sampleSize)
+		{
+			halveAllCounters();
+		}
+	}
+
+	private void halveAllCounters()
+	{
+		for (int i = 0; i < table.length; i++)
+		{
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		additions = additions / 2;
+	}
+
+	private int indexOf(final int hash, final int depth)
+	{
+		long h = (hash + SEEDS[depth]) * SEEDS[depth];
+		h += h >>> 32;
+		return ((int)h) & tableMask;
+	}
+
+	private static int spread(final int x)
+	{
+		final int h = x * 0x9e3779b9;
+		return h ^ (h >>> 16);
+	}
+
+	private static int ceilingPowerOfTwo(final int x)
+	{
+		return 1 << (32 - Integer.numberOfLeadingZeros(x - 1));
+	}
+}
@@ -6,6 +6,7 @@ import java.util.Set;
 import org.adempiere.util.jmx.IJMXNameAware;
 import org.slf4j.Logger;
 
+import de.metas.cache.CCache.CCacheStats;
 import de.metas.logging.LogManager;
 
 /**
@@ -68,6 +69,16 @@ public class JMXCacheMgt implements JMXCacheMgtMBean, IJMXNameAware
 				.toArray(size -> new String[size]);
 	}
 
+	@Override
+	public String[] getCacheStats()
+	{
+		return getCacheMgt()
+				.getCacheStats()
+				.stream()
+				.map(CCacheStats::toString)
+				.toArray(size -> new String[size]);
+	}
+
 	@Override
 	public String[] getTableNamesToBroadcast()
 	{
@@ -16,6 +16,9 @@ public interface JMXCacheMgtMBean
 
 	String[] getCacheLabels();
 
+	/** @return per cache statistics (hit rate, load time, evictions, invalidations), one line per cache */
+	String[] getCacheStats();
+
 	String[] getTableNamesToBroadcast();
 
 	void enableRemoteCacheInvalidationForTableName(String tableName);
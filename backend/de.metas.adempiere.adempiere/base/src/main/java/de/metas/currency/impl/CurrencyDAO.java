@@ -4,9 +4,8 @@
 package de.metas.currency.impl;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
 
 import org.adempiere.ad.dao.IQueryBL;
 import org.adempiere.ad.dao.IQueryBuilder;
@@ -16,6 +15,8 @@ import org.adempiere.ad.dao.QueryLimit;
 import org.adempiere.ad.dao.impl.CompareQueryFilter.Operator;
 import org.adempiere.model.InterfaceWrapperHelper;
 import org.adempiere.service.ClientId;
+import org.adempiere.util.jmx.JMXRegistry;
+import org.adempiere.util.jmx.JMXRegistry.OnJMXAlreadyExistsPolicy;
 import org.compiere.model.I_C_ConversionType;
 import org.compiere.model.I_C_ConversionType_Default;
 import org.compiere.model.I_C_Conversion_Rate;
@@ -32,9 +33,11 @@ import de.metas.currency.CurrencyConversionContext;
 import de.metas.currency.CurrencyConversionType;
 import de.metas.currency.CurrencyPrecision;
 import de.metas.currency.ICurrencyDAO;
+import de.metas.currency.impl.CurrencyRatesIndex.CurrencyRateEntry;
 import de.metas.i18n.IModelTranslationMap;
 import de.metas.money.CurrencyConversionTypeId;
 import de.metas.money.CurrencyId;
+import de.metas.organization.ClientAndOrgId;
 import de.metas.organization.OrgId;
 import de.metas.util.Services;
 import lombok.NonNull;
@@ -79,6 +82,13 @@ public class CurrencyDAO implements ICurrencyDAO
 			.tableName(I_C_ConversionType_Default.Table_Name)
 			.build();
 
+	private final CurrencyRatesCache ratesCache = new CurrencyRatesCache(this::retrieveRatesIndex);
+
+	public CurrencyDAO()
+	{
+		JMXRegistry.get().registerJMX(new JMXCurrencyRatesCache(ratesCache), OnJMXAlreadyExistsPolicy.Replace);
+	}
+
 	@Override
 	public Currency getById(@NonNull final CurrencyId currencyId)
 	{
@@ -245,22 +255,38 @@ public class CurrencyDAO implements ICurrencyDAO
 
 	@Override
 	public @Nullable BigDecimal retrieveRateOrNull(
-			final CurrencyConversionContext conversionCtx,
-			final CurrencyId currencyFromId,
-			final CurrencyId currencyToId)
+			@NonNull final CurrencyConversionContext conversionCtx,
+			@NonNull final CurrencyId currencyFromId,
+			@NonNull final CurrencyId currencyToId)
 	{
-		final List<Map<String, Object>> recordsList = retrieveRateQuery(conversionCtx, currencyFromId, currencyToId)
-				.setLimit(QueryLimit.ONE)
+		return ratesCache.getMultiplyRateOrNull(conversionCtx, currencyFromId, currencyToId);
+	}
+
+	private CurrencyRatesIndex retrieveRatesIndex(@NonNull final CurrencyRatesKey key)
+	{
+		final ImmutableList<CurrencyRateEntry> rates = Services.get(IQueryBL.class)
+				.createQueryBuilderOutOfTrx(I_C_Conversion_Rate.class)
+				.addOnlyActiveRecordsFilter()
+				.addEqualsFilter(I_C_Conversion_Rate.COLUMN_C_Currency_ID, key.getCurrencyFromId())
+				.addEqualsFilter(I_C_Conversion_Rate.COLUMN_C_Currency_ID_To, key.getCurrencyToId())
+				.addEqualsFilter(I_C_Conversion_Rate.COLUMN_C_ConversionType_ID, key.getConversionTypeId())
+				.addInArrayOrAllFilter(I_C_Conversion_Rate.COLUMN_AD_Client_ID, ClientId.SYSTEM, key.getClientId())
+				.addNotNull(I_C_Conversion_Rate.COLUMN_ValidFrom)
 				.create()
-				.listColumns(I_C_Conversion_Rate.COLUMNNAME_MultiplyRate);
+				.stream()
+				.map(CurrencyDAO::toCurrencyRateEntry)
+				.collect(ImmutableList.toImmutableList());
 
-		if (recordsList.isEmpty())
-		{
-			return null;
-		}
+		return CurrencyRatesIndex.ofCollection(rates);
+	}
 
-		final Map<String, Object> record = recordsList.get(0);
-		final BigDecimal rate = (BigDecimal)record.get(I_C_Conversion_Rate.COLUMNNAME_MultiplyRate);
-		return rate;
+	private static CurrencyRateEntry toCurrencyRateEntry(@NonNull final I_C_Conversion_Rate record)
+	{
+		return CurrencyRateEntry.builder()
+				.clientAndOrgId(ClientAndOrgId.ofClientAndOrg(record.getAD_Client_ID(), record.getAD_Org_ID()))
+				.validFrom(TimeUtil.asInstant(record.getValidFrom()))
+				.validTo(record.getValidTo() != null ? TimeUtil.asInstant(record.getValidTo()) : Instant.MAX)
+				.multiplyRate(record.getMultiplyRate())
+				.build();
 	}
 }
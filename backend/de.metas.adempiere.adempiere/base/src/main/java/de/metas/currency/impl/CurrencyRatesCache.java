@@ -0,0 +1,144 @@
+package de.metas.currency.impl;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.compiere.model.I_C_Conversion_Rate;
+import org.compiere.util.TimeUtil;
+
+import de.metas.cache.CCache;
+import de.metas.cache.CCache.CacheMapType;
+import de.metas.currency.CurrencyConversionContext;
+import de.metas.money.CurrencyId;
+import lombok.NonNull;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+/**
+ * Caches {@link CurrencyRatesIndex}es per client, currency pair and conversion type.
+ * The whole cache is invalidated when a {@link I_C_Conversion_Rate} is changed.
+ */
+final class CurrencyRatesCache
+{
+	private final CCache<CurrencyRatesKey, CurrencyRatesIndex> cache = CCache.<CurrencyRatesKey, CurrencyRatesIndex> builder()
+			.tableName(I_C_Conversion_Rate.Table_Name)
+			.cacheMapType(CacheMapType.LRU)
+			.initialCapacity(500)
+			.build();
+
+	private final Function<CurrencyRatesKey, CurrencyRatesIndex> indexLoader;
+
+	private final AtomicLong lookups = new AtomicLong();
+	private final AtomicLong indexLoads = new AtomicLong();
+	private final AtomicLong ratesNotFound = new AtomicLong();
+
+	CurrencyRatesCache(@NonNull final Function<CurrencyRatesKey, CurrencyRatesIndex> indexLoader)
+	{
+		this.indexLoader = indexLoader;
+	}
+
+	@Nullable
+	public BigDecimal getMultiplyRateOrNull(
+			@NonNull final CurrencyConversionContext conversionCtx,
+			@NonNull final CurrencyId currencyFromId,
+			@NonNull final CurrencyId currencyToId)
+	{
+		lookups.incrementAndGet();
+
+		final CurrencyRatesKey key = CurrencyRatesKey.builder()
+				.clientId(conversionCtx.getClientId())
+				.currencyFromId(currencyFromId)
+				.currencyToId(currencyToId)
+				.conversionTypeId(conversionCtx.getConversionTypeId())
+				.build();
+
+		final BigDecimal rate = cache.getOrLoad(key, this::loadIndex)
+				.getMultiplyRateOrNull(conversionCtx.getClientId(), conversionCtx.getOrgId(), TimeUtil.asInstant(conversionCtx.getConversionDate()));
+		if (rate == null)
+		{
+			ratesNotFound.incrementAndGet();
+		}
+
+		return rate;
+	}
+
+	private CurrencyRatesIndex loadIndex(@NonNull final CurrencyRatesKey key)
+	{
+		indexLoads.incrementAndGet();
+		return indexLoader.apply(key);
+	}
+
+	public long getLookups()
+	{
+		return lookups.get();
+	}
+
+	public long getIndexLoads()
+	{
+		return indexLoads.get();
+	}
+
+	public long getRatesNotFound()
+	{
+		return ratesNotFound.get();
+	}
+
+	/**
+	 * @return how many lookups were served without loading from database, in percent
+	 */
+	public double getHitRatePercent()
+	{
+		final long lookups = getLookups();
+		if (lookups <= 0)
+		{
+			return 0;
+		}
+
+		final long hits = Math.max(lookups - getIndexLoads(), 0);
+		return hits * 100.0 / lookups;
+	}
+
+	public long getCachedIndexesCount()
+	{
+		return cache.size();
+	}
+
+	public long getCachedRatesCount()
+	{
+		return cache.values().stream().mapToLong(CurrencyRatesIndex::size).sum();
+	}
+
+	public void resetCache()
+	{
+		cache.reset();
+	}
+
+	public void resetStatistics()
+	{
+		lookups.set(0);
+		indexLoads.set(0);
+		ratesNotFound.set(0);
+	}
+}
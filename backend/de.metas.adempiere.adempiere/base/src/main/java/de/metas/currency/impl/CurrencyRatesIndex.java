@@ -0,0 +1,148 @@
+package de.metas.currency.impl;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.service.ClientId;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+
+import de.metas.organization.ClientAndOrgId;
+import de.metas.organization.OrgId;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+/**
+ * All conversion rates of a given {@link CurrencyRatesKey}, indexed by client/org and sorted by ValidFrom,
+ * so the matching rate can be found using a binary search.
+ * <p>
+ * Matching is consistent with {@link CurrencyDAO#retrieveRateQuery(de.metas.currency.CurrencyConversionContext, de.metas.money.CurrencyId, de.metas.money.CurrencyId)},
+ * i.e. the client specific rates are preferred over the system ones, the org specific rates over the "any org" ones and the rates with the latest ValidFrom over the older ones.
+ */
+final class CurrencyRatesIndex
+{
+	public static CurrencyRatesIndex ofCollection(@NonNull final Collection<CurrencyRateEntry> rates)
+	{
+		return !rates.isEmpty() ? new CurrencyRatesIndex(rates) : EMPTY;
+	}
+
+	public static final CurrencyRatesIndex EMPTY = new CurrencyRatesIndex(ImmutableList.of());
+
+	/** rates sorted by ValidFrom ascending */
+	private final ImmutableListMultimap<ClientAndOrgId, CurrencyRateEntry> ratesByClientAndOrgId;
+
+	private CurrencyRatesIndex(@NonNull final Collection<CurrencyRateEntry> rates)
+	{
+		ratesByClientAndOrgId = rates.stream()
+				.sorted(Comparator.comparing(CurrencyRateEntry::getValidFrom))
+				.collect(ImmutableListMultimap.toImmutableListMultimap(CurrencyRateEntry::getClientAndOrgId, rate -> rate));
+	}
+
+	public int size()
+	{
+		return ratesByClientAndOrgId.size();
+	}
+
+	@Nullable
+	public BigDecimal getMultiplyRateOrNull(
+			@NonNull final ClientId clientId,
+			@NonNull final OrgId orgId,
+			@NonNull final Instant date)
+	{
+		// NOTE: iterate from the most specific client/org to the less specific one
+		for (final ClientId candidateClientId : ImmutableSet.of(clientId, ClientId.SYSTEM))
+		{
+			for (final OrgId candidateOrgId : ImmutableSet.of(orgId, OrgId.ANY))
+			{
+				final ImmutableList<CurrencyRateEntry> rates = ratesByClientAndOrgId.get(ClientAndOrgId.ofClientAndOrg(candidateClientId, candidateOrgId));
+				final CurrencyRateEntry rate = findLatestValidRateOrNull(rates, date);
+				if (rate != null)
+				{
+					return rate.getMultiplyRate();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static CurrencyRateEntry findLatestValidRateOrNull(
+			@NonNull final ImmutableList<CurrencyRateEntry> ratesSortedByValidFrom,
+			@NonNull final Instant date)
+	{
+		// search the last rate having ValidFrom <= date
+		int low = 0;
+		int high = ratesSortedByValidFrom.size() - 1;
+		int lastValidFromIndex = -1;
+		while (low <= high)
+		{
+			final int mid = (low + high) >>> 1;
+			if (ratesSortedByValidFrom.get(mid).getValidFrom().compareTo(date) <= 0)
+			{
+				lastValidFromIndex = mid;
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid - 1;
+			}
+		}
+
+		// walk back until we find a rate which is still valid at given date.
+		// NOTE: normally the intervals are not overlapping, so the first one we check is the one.
+		for (int i = lastValidFromIndex; i >= 0; i--)
+		{
+			final CurrencyRateEntry rate = ratesSortedByValidFrom.get(i);
+			if (rate.getValidTo().compareTo(date) >= 0)
+			{
+				return rate;
+			}
+		}
+
+		return null;
+	}
+
+	@Value
+	@Builder
+	static class CurrencyRateEntry
+	{
+		@NonNull
+		ClientAndOrgId clientAndOrgId;
+		@NonNull
+		Instant validFrom;
+		/** {@link Instant#MAX} if the rate has no ValidTo, i.e. it's valid until further notice */
+		@NonNull
+		Instant validTo;
+		@NonNull
+		BigDecimal multiplyRate;
+	}
+}
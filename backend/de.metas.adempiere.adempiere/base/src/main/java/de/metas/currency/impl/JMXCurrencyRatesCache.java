@@ -0,0 +1,92 @@
+package de.metas.currency.impl;
+
+import org.adempiere.util.jmx.IJMXNameAware;
+
+import lombok.NonNull;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+class JMXCurrencyRatesCache implements JMXCurrencyRatesCacheMBean, IJMXNameAware
+{
+	private final CurrencyRatesCache ratesCache;
+	private final String jmxName;
+
+	JMXCurrencyRatesCache(@NonNull final CurrencyRatesCache ratesCache)
+	{
+		this.ratesCache = ratesCache;
+		this.jmxName = CurrencyRatesCache.class.getPackage().getName() + ":type=" + CurrencyRatesCache.class.getSimpleName();
+	}
+
+	@Override
+	public String getJMXName()
+	{
+		return jmxName;
+	}
+
+	@Override
+	public long getLookups()
+	{
+		return ratesCache.getLookups();
+	}
+
+	@Override
+	public long getIndexLoads()
+	{
+		return ratesCache.getIndexLoads();
+	}
+
+	@Override
+	public long getRatesNotFound()
+	{
+		return ratesCache.getRatesNotFound();
+	}
+
+	@Override
+	public double getHitRatePercent()
+	{
+		return ratesCache.getHitRatePercent();
+	}
+
+	@Override
+	public long getCachedIndexesCount()
+	{
+		return ratesCache.getCachedIndexesCount();
+	}
+
+	@Override
+	public long getCachedRatesCount()
+	{
+		return ratesCache.getCachedRatesCount();
+	}
+
+	@Override
+	public void resetCache()
+	{
+		ratesCache.resetCache();
+	}
+
+	@Override
+	public void resetStatistics()
+	{
+		ratesCache.resetStatistics();
+	}
+}
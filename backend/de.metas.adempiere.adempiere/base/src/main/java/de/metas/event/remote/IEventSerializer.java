@@ -1,5 +1,7 @@
 package de.metas.event.remote;
 
+import java.util.List;
+
 import com.google.common.annotations.VisibleForTesting;
 
 /*
@@ -39,4 +41,13 @@ public interface IEventSerializer
 	String toString(Event event);
 
 	Event fromString(String eventStr);
+
+	/**
+	 * @return the MIME type of what {@link #toBytes(List)} produces; it's sent along with the remote messages, so that the receiver knows how to read them
+	 */
+	String getContentType();
+
+	byte[] toBytes(List<Event> events);
+
+	List<Event> fromBytes(byte[] bytes);
 }
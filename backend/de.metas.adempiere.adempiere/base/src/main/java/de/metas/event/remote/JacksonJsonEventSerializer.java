@@ -1,5 +1,15 @@
 package de.metas.event.remote;
 
+import java.io.IOException;
+import java.util.List;
+
+import org.adempiere.exceptions.AdempiereException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.metas.JsonObjectMapperHolder;
 import de.metas.event.Event;
 import de.metas.util.JSONObjectMapper;
 
@@ -29,7 +39,10 @@ public class JacksonJsonEventSerializer implements IEventSerializer
 {
 	public static final transient JacksonJsonEventSerializer instance = new JacksonJsonEventSerializer();
 
+	public static final String CONTENT_TYPE = "application/json";
+
 	private final JSONObjectMapper<Event> delegate;
+	private final ObjectMapper jsonObjectMapper = JsonObjectMapperHolder.sharedJsonObjectMapper();
 
 	private JacksonJsonEventSerializer()
 	{
@@ -47,4 +60,38 @@ public class JacksonJsonEventSerializer implements IEventSerializer
 	{
 		return delegate.readValue(eventStr);
 	}
+
+	@Override
+	public String getContentType()
+	{
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public byte[] toBytes(final List<Event> events)
+	{
+		try
+		{
+			return jsonObjectMapper.writeValueAsBytes(events);
+		}
+		catch (final JsonProcessingException ex)
+		{
+			throw new AdempiereException("Failed converting events to json: " + events, ex);
+		}
+	}
+
+	@Override
+	public List<Event> fromBytes(final byte[] bytes)
+	{
+		try
+		{
+			return jsonObjectMapper.readValue(bytes, new TypeReference<List<Event>>()
+			{
+			});
+		}
+		catch (final IOException ex)
+		{
+			throw new AdempiereException("Failed converting json to events", ex);
+		}
+	}
 }
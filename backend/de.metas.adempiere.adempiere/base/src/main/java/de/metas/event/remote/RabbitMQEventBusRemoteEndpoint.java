@@ -1,14 +1,25 @@
 package de.metas.event.remote;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
+import javax.annotation.PreDestroy;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.service.ISysConfigBL;
 import org.slf4j.Logger;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 
 import de.metas.event.Event;
 import de.metas.event.Event.Builder;
@@ -24,6 +35,7 @@ import de.metas.monitoring.adapter.PerformanceMonitoringService.SpanMetadata;
 import de.metas.monitoring.adapter.PerformanceMonitoringService.SubType;
 import de.metas.monitoring.adapter.PerformanceMonitoringService.TransactionMetadata;
 import de.metas.monitoring.adapter.PerformanceMonitoringService.TransactionMetadata.TransactionMetadataBuilder;
+import de.metas.util.Services;
 import de.metas.util.StringUtils;
 import lombok.NonNull;
 
@@ -59,9 +71,27 @@ public class RabbitMQEventBusRemoteEndpoint implements IEventBusRemoteEndpoint
 
 	private static final String HEADER_SenderId = "metasfresh-events.SenderId";
 	private static final String HEADER_TopicName = "metasfresh-events.TopicName";
+	/**
+	 * Set only for messages which contain a list of events, encoded with the {@link IEventSerializer} matching the message's content type.
+	 * Messages without this header contain one single JSON event, which is what metasfresh instances without batching support send and expect.
+	 */
+	private static final String HEADER_BatchSize = "metasfresh-events.BatchSize";
+
+	/**
+	 * Encoding of the messages we send: {@code JSON} or {@code Smile}.
+	 * Only switch to Smile or enable batching once all instances which are connected to the broker can read batches.
+	 */
+	private static final String SYSCONFIG_Serializer = "de.metas.event.remote.RabbitMQEventBusRemoteEndpoint.Serializer";
+	private static final String SERIALIZER_JSON = "JSON";
+	private static final String SERIALIZER_Smile = "Smile";
+	/** If greater than zero, events sent to a topic within that many millis are sent as one message. */
+	private static final String SYSCONFIG_BatchWindowMillis = "de.metas.event.remote.RabbitMQEventBusRemoteEndpoint.BatchWindowMillis";
+	private static final int DEFAULT_BatchWindowMillis = 0;
+	private static final int MAX_BATCH_SIZE = 500;
 
 	private final String senderId;
 	private final AmqpTemplate amqpTemplate;
+	private final RemoteEventsBatcher batcher = new RemoteEventsBatcher(this::sendBatch, MAX_BATCH_SIZE);
 
 	private final IEventListener eventBus2amqpListener = EventBus2RemoteEndpointHandler.newInstance(this);
 
@@ -69,11 +99,29 @@ public class RabbitMQEventBusRemoteEndpoint implements IEventBusRemoteEndpoint
 			@NonNull final AmqpTemplate amqpTemplate,
 			@NonNull final PerformanceMonitoringService perfMonService)
 	{
-		senderId = EventBusConfig.getSenderId();
+		this(amqpTemplate, perfMonService, EventBusConfig.getSenderId());
+	}
+
+	@VisibleForTesting
+	RabbitMQEventBusRemoteEndpoint(
+			@NonNull final AmqpTemplate amqpTemplate,
+			@NonNull final PerformanceMonitoringService perfMonService,
+			@NonNull final String senderId)
+	{
+		this.senderId = senderId;
 		this.amqpTemplate = amqpTemplate;
 		this.perfMonService = perfMonService;
 	}
 
+	/**
+	 * Sends the events which are still waiting in their batch window, so that they are not lost when the application is stopped.
+	 */
+	@PreDestroy
+	public void shutdown()
+	{
+		batcher.shutdown();
+	}
+
 	@Override
 	public void setEventBusFactory(@NonNull final IEventBusFactory eventBusFactory)
 	{
@@ -85,10 +133,64 @@ public class RabbitMQEventBusRemoteEndpoint implements IEventBusRemoteEndpoint
 			RabbitMQEventBusConfiguration.CacheInvalidationQueueConfiguration.QUEUE_NAME_SPEL,
 			RabbitMQEventBusConfiguration.AccountingQueueConfiguration.QUEUE_NAME_SPEL,
 	})
-	public void onRemoteEvent(
-			@Payload final Event event,
-			@Header(HEADER_SenderId) final String senderId,
-			@Header(HEADER_TopicName) final String topicName)
+	public void onRemoteMessage(@NonNull final Message message)
+	{
+		final MessageProperties messageProperties = message.getMessageProperties();
+		final String senderId = Objects.toString(messageProperties.getHeaders().get(HEADER_SenderId), null);
+		final String topicName = Objects.toString(messageProperties.getHeaders().get(HEADER_TopicName), null);
+
+		final List<Event> events;
+		try
+		{
+			events = extractEvents(message);
+		}
+		catch (final Exception ex)
+		{
+			// Redelivering would fail the same way, and our queues have no dead letter exchange, so any other exception would requeue the message forever.
+			// Log it here, because after rejecting it, the message is dropped.
+			logger.error("onRemoteMessage - Failed reading events from message; -> rejecting it without requeue; topicName={}; message={}", topicName, message, ex);
+			throw new AmqpRejectAndDontRequeueException("Failed reading events from message; topicName=" + topicName, ex);
+		}
+
+		for (final Event event : events)
+		{
+			onRemoteEvent(event, senderId, topicName);
+		}
+	}
+
+	private static List<Event> extractEvents(@NonNull final Message message)
+	{
+		final MessageProperties messageProperties = message.getMessageProperties();
+		if (messageProperties.getHeaders().get(HEADER_BatchSize) == null)
+		{
+			final Event event = JacksonJsonEventSerializer.instance.fromString(new String(message.getBody(), UTF_8));
+			return ImmutableList.of(event);
+		}
+
+		final IEventSerializer serializer = getSerializerByContentType(messageProperties.getContentType());
+		return serializer.fromBytes(message.getBody());
+	}
+
+	private static IEventSerializer getSerializerByContentType(final String contentType)
+	{
+		if (JacksonSmileEventSerializer.CONTENT_TYPE.equals(contentType))
+		{
+			return JacksonSmileEventSerializer.instance;
+		}
+		else if (JacksonJsonEventSerializer.CONTENT_TYPE.equals(contentType))
+		{
+			return JacksonJsonEventSerializer.instance;
+		}
+		else
+		{
+			throw new AdempiereException("No event serializer found for contentType=" + contentType);
+		}
+	}
+
+	private void onRemoteEvent(
+			@NonNull final Event event,
+			final String senderId,
+			final String topicName)
 	{
 		final Topic topic = Topic.of(topicName, Type.REMOTE);
 		final IEventBus localEventBus = eventBusFactory.getEventBusIfExists(topic);
@@ -223,6 +325,32 @@ public class RabbitMQEventBusRemoteEndpoint implements IEventBusRemoteEndpoint
 			return;
 		}
 
+		final int batchWindowMillis = Services.get(ISysConfigBL.class).getIntValue(SYSCONFIG_BatchWindowMillis, DEFAULT_BatchWindowMillis);
+		if (batchWindowMillis > 0)
+		{
+			batcher.enqueue(topicName, event, batchWindowMillis);
+		}
+		else if (isSendSmile())
+		{
+			sendBatch(topicName, ImmutableList.of(event));
+		}
+		else
+		{
+			sendSingleJsonEvent(topicName, event);
+		}
+	}
+
+	private static boolean isSendSmile()
+	{
+		final String serializer = Services.get(ISysConfigBL.class).getValue(SYSCONFIG_Serializer, SERIALIZER_JSON);
+		return SERIALIZER_Smile.equalsIgnoreCase(serializer);
+	}
+
+	/**
+	 * Sends the event the way all metasfresh instances understand it.
+	 */
+	private void sendSingleJsonEvent(final String topicName, final Event event)
+	{
 		final String amqpExchangeName = RabbitMQEventBusConfiguration.getAMQPExchangeNameByTopicName(topicName);
 		final String routingKey = ""; // ignored for fan-out exchanges
 		amqpTemplate.convertAndSend(
@@ -239,6 +367,24 @@ public class RabbitMQEventBusRemoteEndpoint implements IEventBusRemoteEndpoint
 		logger.debug("Send event; topicName={}; event={}", topicName, event);
 	}
 
+	private void sendBatch(@NonNull final String topicName, @NonNull final List<Event> events)
+	{
+		final IEventSerializer serializer = isSendSmile() ? JacksonSmileEventSerializer.instance : JacksonJsonEventSerializer.instance;
+
+		final MessageProperties messageProperties = new MessageProperties();
+		messageProperties.setContentType(serializer.getContentType());
+		messageProperties.setHeader(HEADER_SenderId, getSenderId());
+		messageProperties.setHeader(HEADER_TopicName, topicName);
+		messageProperties.setHeader(HEADER_BatchSize, events.size());
+		final Message message = new Message(serializer.toBytes(events), messageProperties);
+
+		final String amqpExchangeName = RabbitMQEventBusConfiguration.getAMQPExchangeNameByTopicName(topicName);
+		final String routingKey = ""; // ignored for fan-out exchanges
+		amqpTemplate.send(amqpExchangeName, routingKey, message);
+
+		logger.debug("Send {} events; topicName={}; contentType={}", events.size(), topicName, serializer.getContentType());
+	}
+
 	private String createEventBusId(final String topicName)
 	{
 		return getSenderId() + "_" + topicName;
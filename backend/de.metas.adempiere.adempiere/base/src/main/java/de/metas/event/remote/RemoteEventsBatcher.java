@@ -0,0 +1,251 @@
+package de.metas.event.remote;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.adempiere.util.concurrent.CustomizableThreadFactory;
+import org.slf4j.Logger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import de.metas.event.Event;
+import de.metas.logging.LogManager;
+import lombok.NonNull;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+/**
+ * Collects the events which are sent to one topic within a short time window and hands them over as one batch.
+ * <p>
+ * All batches are handed over on one single thread, in the order their first event was enqueued. So the events of one topic are always sent in the order they were enqueued.
+ * If sending a batch fails, it's retried on that same thread, so the batches which follow wait for it and the order is kept.
+ * <p>
+ * On {@link #shutdown()}, the pending batches are sent right away.
+ */
+final class RemoteEventsBatcher
+{
+	private static final Logger logger = LogManager.getLogger(RemoteEventsBatcher.class);
+
+	@FunctionalInterface
+	interface BatchSender
+	{
+		void sendBatch(String topicName, List<Event> events);
+	}
+
+	private static final int DEFAULT_MaxSendAttempts = 3;
+	private static final long DEFAULT_RetryDelayMillis = 1000;
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+	private final BatchSender batchSender;
+	private final int maxBatchSize;
+	private final int maxSendAttempts;
+	private final long retryDelayMillis;
+	private final ScheduledThreadPoolExecutor executor;
+
+	/** guarded by {@code this} */
+	private final Map<String, List<Event>> pendingEventsByTopicName = new HashMap<>();
+	/** guarded by {@code this} */
+	private boolean shutdown = false;
+
+	RemoteEventsBatcher(
+			@NonNull final BatchSender batchSender,
+			final int maxBatchSize)
+	{
+		this(batchSender, maxBatchSize, DEFAULT_MaxSendAttempts, DEFAULT_RetryDelayMillis);
+	}
+
+	@VisibleForTesting
+	RemoteEventsBatcher(
+			@NonNull final BatchSender batchSender,
+			final int maxBatchSize,
+			final int maxSendAttempts,
+			final long retryDelayMillis)
+	{
+		this.batchSender = batchSender;
+		this.maxBatchSize = maxBatchSize;
+		this.maxSendAttempts = Math.max(maxSendAttempts, 1);
+		this.retryDelayMillis = retryDelayMillis;
+
+		executor = new ScheduledThreadPoolExecutor(1, CustomizableThreadFactory.builder()
+				.setThreadNamePrefix(RemoteEventsBatcher.class.getSimpleName())
+				.setDaemon(true)
+				.build());
+		// on shutdown we don't wait for the batch windows to end, but flush all pending batches right away
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+	}
+
+	public void enqueue(
+			@NonNull final String topicName,
+			@NonNull final Event event,
+			final int windowMillis)
+	{
+		final boolean sendNow;
+		synchronized (this)
+		{
+			sendNow = shutdown;
+			if (!sendNow)
+			{
+				if (enqueue0(topicName, event, windowMillis) < maxBatchSize)
+				{
+					return;
+				}
+			}
+		}
+
+		if (sendNow)
+		{
+			// we are shut down and nobody would flush this event anymore => send it right away, on the caller's thread
+			sendWithRetries(topicName, ImmutableList.of(event));
+			return;
+		}
+
+		// the batch is full => send it right away, but on our thread, to keep the order.
+		// the flush which was scheduled for it will then send the next batch of this topic a bit early, which is fine.
+		try
+		{
+			executor.execute(() -> flush(topicName));
+		}
+		catch (final RejectedExecutionException ex)
+		{
+			// we were shut down in the meantime; the batch is sent by the final flush
+			logger.debug("Not flushing topicName={} because we are shut down", topicName);
+		}
+	}
+
+	/**
+	 * Shall be called while synchronized on {@code this}.
+	 *
+	 * @return the number of pending events of the given topic, including the one which was just enqueued
+	 */
+	private int enqueue0(
+			@NonNull final String topicName,
+			@NonNull final Event event,
+			final int windowMillis)
+	{
+		List<Event> pendingEvents = pendingEventsByTopicName.get(topicName);
+		if (pendingEvents == null)
+		{
+			pendingEvents = new ArrayList<>();
+			pendingEventsByTopicName.put(topicName, pendingEvents);
+
+			executor.schedule(() -> flush(topicName), windowMillis, TimeUnit.MILLISECONDS);
+		}
+
+		pendingEvents.add(event);
+		return pendingEvents.size();
+	}
+
+	private void flush(@NonNull final String topicName)
+	{
+		final List<Event> events;
+		synchronized (this)
+		{
+			events = pendingEventsByTopicName.remove(topicName);
+		}
+		if (events == null || events.isEmpty())
+		{
+			return;
+		}
+
+		sendWithRetries(topicName, events);
+	}
+
+	private void flushAll()
+	{
+		final List<String> topicNames;
+		synchronized (this)
+		{
+			topicNames = ImmutableList.copyOf(pendingEventsByTopicName.keySet());
+		}
+		topicNames.forEach(this::flush);
+	}
+
+	private void sendWithRetries(@NonNull final String topicName, @NonNull final List<Event> events)
+	{
+		for (int attempt = 1; ; attempt++)
+		{
+			try
+			{
+				batchSender.sendBatch(topicName, events);
+				return;
+			}
+			catch (final Exception ex)
+			{
+				if (attempt >= maxSendAttempts)
+				{
+					logger.error("Failed sending {} events to topicName={} after {} attempts. The events are lost: {}", events.size(), topicName, attempt, events, ex);
+					return;
+				}
+				logger.warn("Failed sending {} events to topicName={} (attempt {} of {}). Retrying in {}ms.", events.size(), topicName, attempt, maxSendAttempts, retryDelayMillis, ex);
+			}
+
+			try
+			{
+				Thread.sleep(retryDelayMillis);
+			}
+			catch (final InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				logger.error("Interrupted while retrying to send {} events to topicName={}. The events are lost: {}", events.size(), topicName, events, ex);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Sends all pending batches and waits until they are sent. Events which are enqueued afterwards are sent right away.
+	 */
+	public void shutdown()
+	{
+		synchronized (this)
+		{
+			if (shutdown)
+			{
+				return;
+			}
+			shutdown = true;
+		}
+
+		// flush on our thread, after the batches which were already handed over to it, to keep the order
+		executor.execute(this::flushAll);
+		executor.shutdown();
+		try
+		{
+			if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+			{
+				logger.warn("Pending events were not sent within {}ms", SHUTDOWN_TIMEOUT_MILLIS);
+			}
+		}
+		catch (final InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			logger.warn("Interrupted while waiting for the pending events to be sent", ex);
+		}
+	}
+}
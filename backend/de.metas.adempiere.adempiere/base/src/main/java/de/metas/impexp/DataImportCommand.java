@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -21,6 +22,7 @@ import de.metas.common.util.time.SystemTime;
 import de.metas.impexp.config.DataImportConfigId;
 import de.metas.impexp.format.ImpFormat;
 import de.metas.impexp.format.ImportTableDescriptor;
+import de.metas.impexp.parser.ImpDataLine;
 import de.metas.impexp.parser.ImpDataParser;
 import de.metas.impexp.parser.ImpDataParserFactory;
 import de.metas.impexp.processing.IImportProcessFactory;
@@ -66,6 +68,7 @@ final class DataImportCommand
 	private final ImpDataParserFactory parserFactory = new ImpDataParserFactory();
 
 	private static final String SYSCONFIG_InsertBatchSize = "de.metas.impexp.insertBatchSize";
+	private static final String SYSCONFIG_InsertUsingPostgresCopy = "de.metas.impexp.insertUsingPostgresCopy";
 
 	//
 	// Parameters
@@ -219,22 +222,27 @@ final class DataImportCommand
 	{
 		final ImpDataParser sourceParser = parserFactory.createParser(importFormat);
 
-		final InsertIntoImportTableRequest request = InsertIntoImportTableRequest.builder()
-				.importFormat(importFormat)
-				.clientId(clientId)
-				.orgId(orgId)
-				.userId(userId)
-				.dataImportRunId(getOrCreateDataImportRunId())
-				.dataImportConfigId(dataImportConfigId)
-				.insertBatchSize(getInsertBatchSize())
-				.stream(sourceParser.streamDataLines(data))
-				.build();
+		// NOTE: the lines are streamed from the source; make sure the source is closed when we are done
+		try (final Stream<ImpDataLine> lines = sourceParser.streamDataLines(data))
+		{
+			final InsertIntoImportTableRequest request = InsertIntoImportTableRequest.builder()
+					.importFormat(importFormat)
+					.clientId(clientId)
+					.orgId(orgId)
+					.userId(userId)
+					.dataImportRunId(getOrCreateDataImportRunId())
+					.dataImportConfigId(dataImportConfigId)
+					.insertBatchSize(getInsertBatchSize())
+					.usePostgresCopy(isInsertUsingPostgresCopy())
+					.stream(lines)
+					.build();
 
-		final InsertIntoImportTableResult result = insertIntoImportTableService.insertData(request)
-				.withFromResource(extractURI(data));
-		logger.debug("Insert into import table result: {}", result);
+			final InsertIntoImportTableResult result = insertIntoImportTableService.insertData(request)
+					.withFromResource(extractURI(data));
+			logger.debug("Insert into import table result: {}", result);
 
-		return result;
+			return result;
+		}
 	}
 
 	@Nullable
@@ -255,6 +263,11 @@ final class DataImportCommand
 		return sysConfigBL.getIntValue(SYSCONFIG_InsertBatchSize, -1);
 	}
 
+	private boolean isInsertUsingPostgresCopy()
+	{
+		return sysConfigBL.getBooleanValue(SYSCONFIG_InsertUsingPostgresCopy, false);
+	}
+
 	private PInstanceId getOrCreateRecordsToImportSelectionId()
 	{
 		if (_recordsToImportSelectionId == null)
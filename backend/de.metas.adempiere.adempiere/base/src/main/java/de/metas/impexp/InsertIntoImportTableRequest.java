@@ -61,6 +61,11 @@ public class InsertIntoImportTableRequest
 
 	int insertBatchSize;
 
+	/**
+	 * If true, the lines are loaded into the import table using PostgreSQL's {@code COPY FROM STDIN} instead of batched INSERTs.
+	 */
+	boolean usePostgresCopy;
+
 	@NonNull
 	final Stream<ImpDataLine> stream;
 }
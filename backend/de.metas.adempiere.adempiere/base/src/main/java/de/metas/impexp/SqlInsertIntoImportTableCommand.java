@@ -1,8 +1,15 @@
 package de.metas.impexp;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -12,10 +19,16 @@ import javax.annotation.Nullable;
 
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.ad.trx.api.ITrxManager;
+import org.adempiere.ad.trx.api.OnTrxMissingPolicy;
+import org.adempiere.exceptions.AdempiereException;
 import org.adempiere.exceptions.DBException;
 import org.adempiere.service.ClientId;
 import org.compiere.util.DB;
+import org.compiere.util.DisplayType;
 import org.compiere.util.TimeUtil;
+import org.compiere.util.Trx;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
@@ -59,6 +72,9 @@ import lombok.NonNull;
 
 /**
  * Inserts {@link ImpDataLine}s into import tables.
+ * <p>
+ * The lines are consumed from the given stream batch by batch, so only one batch is kept in memory at a time.
+ * Each batch is inserted either by a JDBC batch of INSERTs or, if {@code usePostgresCopy} is set, by PostgreSQL's {@code COPY FROM STDIN}.
  * 
  * @author metas-dev <dev@metasfresh.com>
  *
@@ -81,11 +97,13 @@ final class SqlInsertIntoImportTableCommand
 	private final DataImportRunId dataImportRunId;
 	private final DataImportConfigId dataImportConfigId;
 	private final int insertBatchSize;
+	private final boolean usePostgresCopy;
 	private Stream<ImpDataLine> linesStream;
 
 	//
 	// State
 	private SqlAndParamsExtractor<ImpDataLine> _sqlInsertIntoImportTable; // lazy
+	private String _sqlCopyIntoImportTable; // lazy
 	private int countTotalRows = 0;
 	private int countValidRows = 0;
 	private final ArrayList<InsertIntoImportTableResult.Error> errors = new ArrayList<>();
@@ -99,6 +117,7 @@ final class SqlInsertIntoImportTableCommand
 			@NonNull final DataImportRunId dataImportRunId,
 			@Nullable final DataImportConfigId dataImportConfigId,
 			final int insertBatchSize,
+			final boolean usePostgresCopy,
 			@NonNull final Stream<ImpDataLine> linesStream)
 	{
 		this.importTableDescriptor = importFormat.getImportTableDescriptor();
@@ -111,6 +130,7 @@ final class SqlInsertIntoImportTableCommand
 		this.dataImportRunId = dataImportRunId;
 		this.dataImportConfigId = dataImportConfigId;
 		this.insertBatchSize = insertBatchSize > 0 ? insertBatchSize : DEFAULT_InsertBatchSize;
+		this.usePostgresCopy = usePostgresCopy;
 
 		this.linesStream = linesStream;
 	}
@@ -144,7 +164,14 @@ final class SqlInsertIntoImportTableCommand
 			return;
 		}
 
-		trxManager.run(ITrx.TRXNAME_ThreadInherited, () -> insertIntoDatabaseInTrx(lines));
+		if (usePostgresCopy)
+		{
+			trxManager.run(ITrx.TRXNAME_ThreadInherited, () -> copyIntoDatabaseInTrx(lines));
+		}
+		else
+		{
+			trxManager.run(ITrx.TRXNAME_ThreadInherited, () -> insertIntoDatabaseInTrx(lines));
+		}
 	}
 
 	private void insertIntoDatabaseInTrx(final List<ImpDataLine> lines)
@@ -164,23 +191,93 @@ final class SqlInsertIntoImportTableCommand
 				DB.setParameters(pstmt, params);
 				pstmt.addBatch();
 
-				// Update stats:
-				countTotalRows++;
-				if (line.hasErrors())
-				{
-					errors.add(InsertIntoImportTableResult.Error.builder()
-							.message(line.getErrorMessageAsStringOrNull())
-							.lineNo(line.getFileLineNo())
-							.lineContent(line.getLineString())
-							.build());
-				}
-				else
+				updateStats(line);
+			}
+
+			pstmt.executeBatch();
+		}
+		catch (final SQLException ex)
+		{
+			throw new DBException(ex, sql);
+		}
+		finally
+		{
+			DB.close(rs, pstmt);
+		}
+	}
+
+	private void updateStats(final ImpDataLine line)
+	{
+		countTotalRows++;
+		if (line.hasErrors())
+		{
+			errors.add(InsertIntoImportTableResult.Error.builder()
+					.message(line.getErrorMessageAsStringOrNull())
+					.lineNo(line.getFileLineNo())
+					.lineContent(line.getLineString())
+					.build());
+		}
+		else
+		{
+			countValidRows++;
+		}
+	}
+
+	/**
+	 * Streams the given lines as CSV rows to {@code COPY ... FROM STDIN}.
+	 * The rows are written to the copy stream one by one, so the driver can push them to the database while we are still converting.
+	 */
+	private void copyIntoDatabaseInTrx(final List<ImpDataLine> lines)
+	{
+		final String sql = getCopyIntoImportTableSql();
+		final List<Integer> ids = retrieveNextIds(lines.size());
+
+		// use the database's clock (and time zone), like the INSERT path which uses now()
+		final String now = DB.getSQLValueStringEx(ITrx.TRXNAME_ThreadInherited, "SELECT now()::text");
+
+		final Trx trx = (Trx)trxManager.getThreadInheritedTrx(OnTrxMissingPolicy.Fail);
+		try
+		{
+			final Connection conn = trx.getConnection();
+			final PGConnection pgConn = conn.unwrap(PGConnection.class);
+
+			try (final Writer writer = new OutputStreamWriter(new PGCopyOutputStream(pgConn, sql), StandardCharsets.UTF_8))
+			{
+				for (int i = 0; i < lines.size(); i++)
 				{
-					countValidRows++;
+					final ImpDataLine line = lines.get(i);
+					writeCsvRow(writer, extractCopyValues(line, ids.get(i), now));
+
+					updateStats(line);
 				}
 			}
+		}
+		catch (final SQLException ex)
+		{
+			throw new DBException(ex, sql);
+		}
+		catch (final IOException ex)
+		{
+			throw new AdempiereException("Failed copying lines into " + importTableDescriptor.getTableName(), ex);
+		}
+	}
 
-			pstmt.executeBatch();
+	private List<Integer> retrieveNextIds(final int count)
+	{
+		final String sql = "SELECT " + DB.TO_TABLESEQUENCE_NEXTVAL(importTableDescriptor.getTableName()) + " FROM generate_series(1, ?)";
+		final List<Integer> ids = new ArrayList<>(count);
+
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		try
+		{
+			pstmt = DB.prepareStatement(sql, ITrx.TRXNAME_ThreadInherited);
+			DB.setParameters(pstmt, count);
+			rs = pstmt.executeQuery();
+			while (rs.next())
+			{
+				ids.add(rs.getInt(1));
+			}
 		}
 		catch (final SQLException ex)
 		{
@@ -190,6 +287,130 @@ final class SqlInsertIntoImportTableCommand
 		{
 			DB.close(rs, pstmt);
 		}
+
+		return ids;
+	}
+
+	private static void writeCsvRow(final Writer writer, final List<Object> values) throws IOException
+	{
+		boolean first = true;
+		for (final Object value : values)
+		{
+			if (!first)
+			{
+				writer.write(',');
+			}
+			first = false;
+
+			writer.write(toCsvValue(value));
+		}
+		writer.write('\n');
+	}
+
+	/**
+	 * Converts given value to a CSV field as expected by {@code COPY ... WITH (FORMAT csv)}.
+	 * NOTE: an unquoted empty field means NULL, while a quoted empty field means empty string.
+	 */
+	private static String toCsvValue(@Nullable final Object value)
+	{
+		if (value == null)
+		{
+			return "";
+		}
+		else if (value instanceof BigDecimal)
+		{
+			return ((BigDecimal)value).toPlainString();
+		}
+		else if (value instanceof Number)
+		{
+			return value.toString();
+		}
+		else if (value instanceof Boolean)
+		{
+			return DisplayType.toBooleanString((Boolean)value);
+		}
+		else if (value instanceof Timestamp)
+		{
+			return value.toString();
+		}
+		else
+		{
+			return '"' + value.toString().replace("\"", "\"\"") + '"';
+		}
+	}
+
+	private String getCopyIntoImportTableSql()
+	{
+		String sqlCopyIntoImportTable = this._sqlCopyIntoImportTable;
+		if (sqlCopyIntoImportTable == null)
+		{
+			sqlCopyIntoImportTable = this._sqlCopyIntoImportTable = createCopyIntoImportTableSql();
+		}
+		return sqlCopyIntoImportTable;
+	}
+
+	/**
+	 * IMPORTANT: keep in sync with {@link #extractCopyValues(ImpDataLine, int, String)} and {@link #createInsertIntoImportTableSql()}
+	 */
+	private String createCopyIntoImportTableSql()
+	{
+		final StringBuilder sqlColumns = new StringBuilder();
+		sqlColumns.append(importTableDescriptor.getKeyColumnName());
+		sqlColumns.append(", AD_Client_ID, AD_Org_ID");
+		sqlColumns.append(", Created,CreatedBy,Updated,UpdatedBy,IsActive");
+		sqlColumns.append(", Processed, I_IsImported");
+		if (importTableDescriptor.getImportLineNoColumnName() != null)
+		{
+			sqlColumns.append(", ").append(importTableDescriptor.getImportLineNoColumnName());
+			sqlColumns.append(", ").append(importTableDescriptor.getImportLineContentColumnName());
+		}
+		sqlColumns.append(", ").append(ImportTableDescriptor.COLUMNNAME_C_DataImport_Run_ID);
+		if (importTableDescriptor.getDataImportConfigIdColumnName() != null && dataImportConfigId != null)
+		{
+			sqlColumns.append(", ").append(importTableDescriptor.getDataImportConfigIdColumnName());
+		}
+		sqlColumns.append(", ").append(ImportTableDescriptor.COLUMNNAME_I_ErrorMsg);
+		for (final ImpFormatColumn column : columns)
+		{
+			sqlColumns.append(", ").append(column.getColumnName());
+		}
+
+		return "COPY " + importTableDescriptor.getTableName() + "(" + sqlColumns + ") FROM STDIN WITH (FORMAT csv)";
+	}
+
+	/**
+	 * IMPORTANT: keep in sync with {@link #createCopyIntoImportTableSql()}
+	 *
+	 * @param now the database's <code>now()</code> as text, used for Created and Updated
+	 */
+	private List<Object> extractCopyValues(final ImpDataLine line, final int id, final String now)
+	{
+		Check.assumeNotNull(dataImportRunId, "dataImportRunId is not null");
+
+		final List<Object> values = new ArrayList<>();
+		values.add(id);
+		values.add(clientId.getRepoId());
+		values.add(orgId.getRepoId());
+		values.add(now);
+		values.add(userId.getRepoId());
+		values.add(now);
+		values.add(userId.getRepoId());
+		values.add(true); // IsActive
+		values.add(false); // Processed
+		values.add(false); // I_IsImported
+		if (importTableDescriptor.getImportLineNoColumnName() != null)
+		{
+			values.add(line.getFileLineNo());
+			values.add(line.getLineString());
+		}
+		values.add(dataImportRunId.getRepoId());
+		if (importTableDescriptor.getDataImportConfigIdColumnName() != null && dataImportConfigId != null)
+		{
+			values.add(dataImportConfigId.getRepoId());
+		}
+		values.add(line.getErrorMessageAsStringOrNull(importTableDescriptor.getErrorMsgMaxLength()));
+		values.addAll(line.getJdbcValues(columns));
+		return values;
 	}
 
 	private SqlAndParamsExtractor<ImpDataLine> getInsertIntoImportTableSql()
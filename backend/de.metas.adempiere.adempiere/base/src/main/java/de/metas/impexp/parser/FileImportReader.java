@@ -32,13 +32,25 @@ import com.google.common.io.LineProcessor;
 import de.metas.util.Check;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
+import org.adempiere.exceptions.AdempiereException;
 
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author metas-dev <dev@metasfresh.com>
@@ -68,15 +80,23 @@ final class FileImportReader
 		}
 	}
 
-	final private static class MultiLineProcessor implements LineProcessor<List<String>>
+	/**
+	 * Joins physical lines to logical lines, if a field with multiline text is encountered.
+	 * <p>
+	 * The logical line which is currently built is kept as "pending" until we know that the next physical line starts a new logical line.
+	 */
+	private static final class MultiLineJoiner
 	{
 		private boolean openQuote = false;
 		private boolean closedQuote = false;
 		private boolean quoteOpenRightNow = false;
-		private final List<String> loadedDataLines = new ArrayList<>();
+		private String pendingLine = null;
 
-		@Override
-		public boolean processLine(final String line) throws IOException
+		/**
+		 * @return the previous logical line, if it's complete now, or {@code null}
+		 */
+		@Nullable
+		public String processLine(@NonNull final String line)
 		{
 			// If previous line had a " which is not closed, then add all to the previous line, until we meet next ".
 			// Of course, account that there could be multiple quotes on the same line.
@@ -93,15 +113,20 @@ final class FileImportReader
 					quoteOpenRightNow = true;
 				}
 			}
+
 			//
 			// if open quote, add this line to the previous
-			if (openQuote && !quoteOpenRightNow && !loadedDataLines.isEmpty() && checkLastLoadedDataLineIsNotBlank())
+			final String completedLine;
+			if (openQuote && !quoteOpenRightNow && pendingLine != null && Check.isNotBlank(pendingLine))
 			{
-				appendToPreviousLine(line);
+				// append the new line, because the char exists
+				pendingLine = pendingLine + "\n" + line;
+				completedLine = null;
 			}
 			else
 			{
-				loadedDataLines.add(line);
+				completedLine = pendingLine;
+				pendingLine = line;
 				quoteOpenRightNow = false;
 			}
 
@@ -113,41 +138,109 @@ final class FileImportReader
 				closedQuote = false;
 				quoteOpenRightNow = false;
 			}
-			return true;
+			return completedLine;
 		}
 
-		private boolean checkLastLoadedDataLineIsNotBlank()
+		/**
+		 * @return the last logical line (if any); to be called after the last physical line was processed
+		 */
+		@Nullable
+		public String flush()
 		{
-			return Check.isNotBlank(loadedDataLines.get(loadedDataLines.size() - 1));
+			final String completedLine = pendingLine;
+			pendingLine = null;
+			return completedLine;
 		}
+	}
 
-		/**
-		 * add current line to the previous one
-		 */
-		private void appendToPreviousLine(@NonNull final String line)
+	final private static class MultiLineProcessor implements LineProcessor<List<String>>
+	{
+		private final MultiLineJoiner joiner = new MultiLineJoiner();
+		private final List<String> loadedDataLines = new ArrayList<>();
+
+		@Override
+		public boolean processLine(final String line) throws IOException
 		{
-			final StringBuilder previousLine = new StringBuilder();
-			final int index = loadedDataLines.size() - 1;
-			previousLine.append(loadedDataLines.get(index));
-			// append the new line, because the char exists
-			if (Check.isNotBlank(previousLine.toString()))
+			final String completedLine = joiner.processLine(line);
+			if (completedLine != null)
 			{
-				previousLine.append("\n");
+				loadedDataLines.add(completedLine);
 			}
-			previousLine.append(line);
-			//
-			// now remove the line and add the new line
-			loadedDataLines.remove(index);
-			loadedDataLines.add(previousLine.toString());
+			return true;
 		}
 
 		@Override
 		public List<String> getResult()
 		{
+			final String lastLine = joiner.flush();
+			if (lastLine != null)
+			{
+				loadedDataLines.add(lastLine);
+			}
 			return loadedDataLines;
 		}
 	}
 
+	/**
+	 * Lazily reads the physical lines from a {@link BufferedReader} and joins them to logical lines using {@link MultiLineJoiner}.
+	 */
+	private static final class MultiLineIterator implements Iterator<String>
+	{
+		private final BufferedReader reader;
+		private final MultiLineJoiner joiner = new MultiLineJoiner();
+		private String nextLine = null;
+		private boolean eof = false;
+
+		private MultiLineIterator(@NonNull final BufferedReader reader)
+		{
+			this.reader = reader;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while (nextLine == null && !eof)
+			{
+				final String physicalLine = readPhysicalLine();
+				if (physicalLine == null)
+				{
+					eof = true;
+					nextLine = joiner.flush();
+				}
+				else
+				{
+					nextLine = joiner.processLine(physicalLine);
+				}
+			}
+			return nextLine != null;
+		}
+
+		@Override
+		public String next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			final String line = nextLine;
+			nextLine = null;
+			return line;
+		}
+
+		@Nullable
+		private String readPhysicalLine()
+		{
+			try
+			{
+				return reader.readLine();
+			}
+			catch (final IOException ex)
+			{
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
 	/**
 	 * Read file that has at least on filed with multiline text
 	 * <br>
@@ -186,6 +279,44 @@ final class FileImportReader
 		return ByteSource.wrap(data).asCharSource(charset).readLines(new SingleLineProcessor());
 	}
 
+	/**
+	 * Lazily streams the lines of a file that has at least one field with multiline text.
+	 * <br>
+	 * Only the current line is kept in memory. The given input stream is closed when the returned stream is closed.
+	 */
+	public Stream<String> streamMultiLines(@NonNull final InputStream in, @NonNull final Charset charset)
+	{
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+		final Iterator<String> iterator = new MultiLineIterator(reader);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> close(reader));
+	}
+
+	/**
+	 * Lazily streams the lines of a file that has not any multi-line text.
+	 * <br>
+	 * Only the current line is kept in memory. The given input stream is closed when the returned stream is closed.
+	 */
+	public Stream<String> streamRegularLines(@NonNull final InputStream in, @NonNull final Charset charset)
+	{
+		final BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+		return reader.lines()
+				.onClose(() -> close(reader));
+	}
+
+	private static void close(final BufferedReader reader)
+	{
+		try
+		{
+			reader.close();
+		}
+		catch (final IOException ex)
+		{
+			throw new AdempiereException("Failed closing reader", ex);
+		}
+	}
+
 	/**
 	 * Build the preview from the loaded lines
 	 *
@@ -4,10 +4,10 @@ import lombok.Builder;
 import lombok.NonNull;
 import lombok.ToString;
 import org.adempiere.exceptions.AdempiereException;
-import org.compiere.util.Util;
 import org.springframework.core.io.Resource;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -65,31 +65,28 @@ public final class ImpDataParser
 				.map(lineStr -> createImpDataLine(lineStr, nextLineNo));
 	}
 
+	/**
+	 * Streams the lines directly from the resource's input stream, so the resource is never loaded into memory as a whole.
+	 * The input stream is closed when the returned stream is closed.
+	 */
 	private Stream<String> streamSourceLines(final Resource resource)
 	{
-		final byte[] data = toByteArray(resource);
-		try
+		final InputStream in = getInputStream(resource);
+		if (multiline)
 		{
-			if (multiline)
-			{
-				return FileImportReader.readMultiLines(data, charset).stream();
-			}
-			else
-			{
-				return FileImportReader.readRegularLines(data, charset).stream();
-			}
+			return FileImportReader.streamMultiLines(in, charset);
 		}
-		catch (final IOException ex)
+		else
 		{
-			throw new AdempiereException("Failed reading resource: " + resource, ex);
+			return FileImportReader.streamRegularLines(in, charset);
 		}
 	}
 
-	private static byte[] toByteArray(final Resource resource)
+	private static InputStream getInputStream(final Resource resource)
 	{
 		try
 		{
-			return Util.readBytes(resource.getInputStream());
+			return resource.getInputStream();
 		}
 		catch (final IOException ex)
 		{
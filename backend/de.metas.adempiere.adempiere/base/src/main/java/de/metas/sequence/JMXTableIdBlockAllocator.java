@@ -0,0 +1,85 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.sequence;
+
+import org.adempiere.util.jmx.IJMXNameAware;
+
+import de.metas.sequence.TableIdBlockAllocator.TableIdBlockStats;
+import lombok.NonNull;
+
+class JMXTableIdBlockAllocator implements JMXTableIdBlockAllocatorMBean, IJMXNameAware
+{
+	private final TableIdBlockAllocator allocator;
+	private final String jmxName;
+
+	JMXTableIdBlockAllocator(@NonNull final TableIdBlockAllocator allocator)
+	{
+		this.allocator = allocator;
+		this.jmxName = TableIdBlockAllocator.class.getPackage().getName() + ":type=" + TableIdBlockAllocator.class.getSimpleName();
+	}
+
+	@Override
+	public String getJMXName()
+	{
+		return jmxName;
+	}
+
+	@Override
+	public boolean isEnabled()
+	{
+		return allocator.isEnabled();
+	}
+
+	@Override
+	public String[] getStats()
+	{
+		return allocator.getStats()
+				.stream()
+				.map(TableIdBlockStats::toString)
+				.toArray(String[]::new);
+	}
+
+	@Override
+	public long getBlocksReserved()
+	{
+		return allocator.getStats().stream().mapToLong(TableIdBlockStats::getBlocksReserved).sum();
+	}
+
+	@Override
+	public long getIdsAllocated()
+	{
+		return allocator.getStats().stream().mapToLong(TableIdBlockStats::getIdsAllocated).sum();
+	}
+
+	@Override
+	public long getIdsRemaining()
+	{
+		return allocator.getStats().stream().mapToLong(TableIdBlockStats::getIdsRemaining).sum();
+	}
+
+	@Override
+	public long discardAllBlocks()
+	{
+		return allocator.discardAllBlocks();
+	}
+}
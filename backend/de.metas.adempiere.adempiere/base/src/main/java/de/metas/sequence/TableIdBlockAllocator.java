@@ -0,0 +1,342 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.sequence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.exceptions.DBException;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.util.jmx.JMXRegistry;
+import org.adempiere.util.jmx.JMXRegistry.OnJMXAlreadyExistsPolicy;
+import org.compiere.model.MSequence;
+import org.compiere.util.DB;
+import org.slf4j.Logger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import de.metas.logging.LogManager;
+import de.metas.util.Check;
+import de.metas.util.Services;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Hands out table IDs from blocks which are reserved in one go from {@code AD_Sequence}.
+ * <p>
+ * Instead of locking the {@code AD_Sequence} row for each new record, we reserve a block of {@link #SYSCONFIG_BlockSize} IDs per table and JVM
+ * and then hand out the IDs of that block from memory. The {@code AD_Sequence} row is only touched when a block is exhausted.
+ * <p>
+ * IDs which were reserved but not handed out (e.g. because the JVM was shut down) are lost, so the gaps are bounded by the block size.
+ * <p>
+ * The allocator is only used if {@link #SYSCONFIG_Enabled} is set. Otherwise {@link MSequence#getNextID(int, String)} works as before.
+ */
+public final class TableIdBlockAllocator
+{
+	public static TableIdBlockAllocator get()
+	{
+		return instance;
+	}
+
+	private static final TableIdBlockAllocator instance = createInstance();
+
+	public static final String SYSCONFIG_Enabled = "de.metas.sequence.TableIdBlockAllocator.Enabled";
+
+	/**
+	 * Number of IDs to reserve at once. Can be overridden per table by appending {@code .<TableName>} to this sysconfig name.
+	 */
+	public static final String SYSCONFIG_BlockSize = "de.metas.sequence.TableIdBlockAllocator.BlockSize";
+
+	private static final int DEFAULT_BlockSize = 50;
+	private static final int MAX_BlockSize = 10000;
+
+	private static final Logger logger = LogManager.getLogger(TableIdBlockAllocator.class);
+
+	@FunctionalInterface
+	@VisibleForTesting
+	interface IdBlockReserver
+	{
+		IdBlock reserveBlock(String tableName, int blockSize);
+	}
+
+	private final IdBlockReserver blockReserver;
+	private final ConcurrentHashMap<String, TableIdBlocks> blocksByTableName = new ConcurrentHashMap<>();
+
+	@VisibleForTesting
+	TableIdBlockAllocator(@NonNull final IdBlockReserver blockReserver)
+	{
+		this.blockReserver = blockReserver;
+	}
+
+	private static TableIdBlockAllocator createInstance()
+	{
+		final TableIdBlockAllocator allocator = new TableIdBlockAllocator(TableIdBlockAllocator::reserveBlockFromDatabase);
+		JMXRegistry.get().registerJMX(new JMXTableIdBlockAllocator(allocator), OnJMXAlreadyExistsPolicy.Replace);
+		return allocator;
+	}
+
+	public boolean isEnabled()
+	{
+		return Services.get(ISysConfigBL.class).getBooleanValue(SYSCONFIG_Enabled, false);
+	}
+
+	public int nextId(@NonNull final String tableName)
+	{
+		Check.assumeNotEmpty(tableName, "tableName is not empty");
+		return blocksByTableName
+				.computeIfAbsent(tableName, TableIdBlocks::new)
+				.nextId();
+	}
+
+	/**
+	 * Forgets all currently reserved blocks. The remaining IDs of those blocks will never be used.
+	 *
+	 * @return how many reserved IDs were discarded
+	 */
+	public long discardAllBlocks()
+	{
+		long discardedIds = 0;
+		for (final TableIdBlocks blocks : blocksByTableName.values())
+		{
+			discardedIds += blocks.discardCurrentBlock();
+		}
+
+		logger.info("Discarded all reserved ID blocks ({} IDs)", discardedIds);
+		return discardedIds;
+	}
+
+	public ImmutableList<TableIdBlockStats> getStats()
+	{
+		return blocksByTableName.values()
+				.stream()
+				.map(TableIdBlocks::getStats)
+				.sorted(Comparator.comparing(TableIdBlockStats::getTableName))
+				.collect(ImmutableList.toImmutableList());
+	}
+
+	@VisibleForTesting
+	int getBlockSize(@NonNull final String tableName)
+	{
+		final ISysConfigBL sysConfigBL = Services.get(ISysConfigBL.class);
+		final int defaultBlockSize = sysConfigBL.getIntValue(SYSCONFIG_BlockSize, DEFAULT_BlockSize);
+		final int blockSize = sysConfigBL.getIntValue(SYSCONFIG_BlockSize + "." + tableName, defaultBlockSize);
+
+		if (blockSize <= 0)
+		{
+			return 1;
+		}
+		return Math.min(blockSize, MAX_BlockSize);
+	}
+
+	/**
+	 * Reserves the next {@code blockSize} IDs by advancing {@code AD_Sequence.CurrentNext} in one statement.
+	 * Like {@link MSequence#getNextID(int, String, String)} this is done on a dedicated connection, out of transaction.
+	 */
+	private static IdBlock reserveBlockFromDatabase(final String tableName, final int blockSize)
+	{
+		final String sql = "UPDATE AD_Sequence SET CurrentNext = CurrentNext + IncrementNo * ?"
+				+ " WHERE Name=? AND IsActive='Y' AND IsTableID='Y' AND IsAutoSequence='Y'"
+				+ " RETURNING CurrentNext, IncrementNo";
+		final Object[] sqlParams = new Object[] { blockSize, tableName };
+
+		Connection conn = null;
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		boolean success = false;
+		try
+		{
+			conn = DB.getConnectionID();
+			pstmt = conn.prepareStatement(sql);
+			DB.setParameters(pstmt, sqlParams);
+			if (DB.getDatabase().isQueryTimeoutSupported())
+			{
+				pstmt.setQueryTimeout(MSequence.QUERY_TIME_OUT);
+			}
+
+			rs = pstmt.executeQuery();
+			if (!rs.next())
+			{
+				throw new AdempiereException("No AD_Sequence found for " + tableName);
+			}
+
+			final int currentNext = rs.getInt(1);
+			final int incrementNo = rs.getInt(2);
+			success = true;
+
+			return IdBlock.builder()
+					.firstId(currentNext - incrementNo * blockSize)
+					.incrementNo(incrementNo)
+					.size(blockSize)
+					.build();
+		}
+		catch (final SQLException ex)
+		{
+			throw new DBException(ex, sql, sqlParams);
+		}
+		finally
+		{
+			DB.close(rs, pstmt);
+			closeConnection(conn, success);
+		}
+	}
+
+	private static void closeConnection(@Nullable final Connection conn, final boolean commit)
+	{
+		if (conn == null)
+		{
+			return;
+		}
+
+		try
+		{
+			if (commit)
+			{
+				conn.commit();
+			}
+			else
+			{
+				conn.rollback();
+			}
+		}
+		catch (final SQLException ex)
+		{
+			throw DBException.wrapIfNeeded(ex);
+		}
+		finally
+		{
+			DB.close(conn);
+		}
+	}
+
+	@Value
+	@Builder
+	@VisibleForTesting
+	static class IdBlock
+	{
+		int firstId;
+		int incrementNo;
+		int size;
+
+		int getId(final int index)
+		{
+			return firstId + index * incrementNo;
+		}
+	}
+
+	@Value
+	@Builder
+	public static class TableIdBlockStats
+	{
+		@NonNull
+		String tableName;
+
+		long blocksReserved;
+		long idsAllocated;
+
+		/** IDs which are reserved but not yet handed out; that's how many IDs we lose if the JVM stops now. */
+		int idsRemaining;
+
+		long reserveTimeMillis;
+	}
+
+	/**
+	 * Current block of one table. All methods are synchronized on this instance, so threads working on different tables don't contend.
+	 */
+	private final class TableIdBlocks
+	{
+		private final String tableName;
+
+		private IdBlock currentBlock = null;
+		private int nextIndex = 0;
+
+		private long blocksReserved = 0;
+		private long idsAllocated = 0;
+		private long reserveTimeMillis = 0;
+
+		private TableIdBlocks(@NonNull final String tableName)
+		{
+			this.tableName = tableName;
+		}
+
+		public synchronized int nextId()
+		{
+			if (currentBlock == null || nextIndex >= currentBlock.getSize())
+			{
+				reserveNextBlock();
+			}
+
+			final int id = currentBlock.getId(nextIndex);
+			nextIndex++;
+			idsAllocated++;
+			return id;
+		}
+
+		private void reserveNextBlock()
+		{
+			final int blockSize = getBlockSize(tableName);
+
+			final long startMillis = System.currentTimeMillis();
+			final IdBlock block = blockReserver.reserveBlock(tableName, blockSize);
+			reserveTimeMillis += System.currentTimeMillis() - startMillis;
+
+			logger.debug("Reserved ID block for {}: {}", tableName, block);
+
+			currentBlock = block;
+			nextIndex = 0;
+			blocksReserved++;
+		}
+
+		public synchronized int discardCurrentBlock()
+		{
+			final int remaining = getIdsRemaining();
+			currentBlock = null;
+			nextIndex = 0;
+			return remaining;
+		}
+
+		private int getIdsRemaining()
+		{
+			return currentBlock != null ? currentBlock.getSize() - nextIndex : 0;
+		}
+
+		public synchronized TableIdBlockStats getStats()
+		{
+			return TableIdBlockStats.builder()
+					.tableName(tableName)
+					.blocksReserved(blocksReserved)
+					.idsAllocated(idsAllocated)
+					.idsRemaining(getIdsRemaining())
+					.reserveTimeMillis(reserveTimeMillis)
+					.build();
+		}
+	}
+}
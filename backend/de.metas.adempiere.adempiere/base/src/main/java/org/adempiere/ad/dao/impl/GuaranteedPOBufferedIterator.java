@@ -142,7 +142,8 @@ import lombok.NonNull;
 		this.bufferedIterator = new POBufferedIterator<>(
 				querySelection,
 				clazzToUse,
-				QuerySelectionHelper.SELECTION_LINE_ALIAS);
+				QuerySelectionHelper.SELECTION_LINE_ALIAS,
+				false); // not needed; we are paging by the selection line number
 		this.peekingBufferedIterator = Iterators.peekingIterator(this.bufferedIterator);
 	}
 
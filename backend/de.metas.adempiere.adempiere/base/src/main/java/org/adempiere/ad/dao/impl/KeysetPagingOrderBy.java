@@ -0,0 +1,181 @@
+package org.adempiere.ad.dao.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.compiere.model.POInfo;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import de.metas.util.Check;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The ORDER BY of a query, in a form which allows keyset (a.k.a. seek) pagination, i.e. <code>WHERE (col1, col2, keyCol) > (?, ?, ?)</code> instead of <code>OFFSET</code>.
+ * <p>
+ * Keyset pagination is only possible if
+ * <ul>
+ * <li>the ORDER BY consists only of plain, physical and mandatory columns of the query's table (so that no row has a <code>NULL</code> sort value)
+ * <li>all columns are sorted in the same direction (so that we can use a row value comparison)
+ * <li>the table has key columns, which are appended (if not already there) to make the ordering unique
+ * </ul>
+ * The columns are qualified with the table name, so they stay unambiguous if the query's where clause contains joins or subqueries.
+ * Thanks to http://use-the-index-luke.com/no-offset.
+ */
+@Value
+/* package */ class KeysetPagingOrderBy
+{
+	private static final Pattern PATTERN_OrderByItem = Pattern.compile("^(?:\"?(\\w+)\"?\\.)?\"?(\\w+)\"?(?:\\s+(ASC|DESC))?$", Pattern.CASE_INSENSITIVE);
+
+	@NonNull
+	String tableAlias;
+	@NonNull
+	ImmutableList<String> columnNames;
+	boolean descending;
+
+	/**
+	 * @return keyset ORDER BY or <code>null</code> if the given ORDER BY does not allow keyset pagination
+	 */
+	@Nullable
+	public static KeysetPagingOrderBy ofOrderByOrNull(@Nullable final String orderBy, @NonNull final POInfo poInfo)
+	{
+		final List<String> keyColumnNames = poInfo.getKeyColumnNames();
+		if (keyColumnNames.isEmpty())
+		{
+			return null;
+		}
+
+		final List<String> columnNames = new ArrayList<>();
+		Boolean descending = null;
+		if (!Check.isEmpty(orderBy, true))
+		{
+			for (final String orderByItem : orderBy.split(","))
+			{
+				final Matcher matcher = PATTERN_OrderByItem.matcher(orderByItem.trim());
+				if (!matcher.matches())
+				{
+					return null;
+				}
+
+				final String tableAlias = matcher.group(1);
+				if (tableAlias != null && !tableAlias.equalsIgnoreCase(poInfo.getTableName()))
+				{
+					return null;
+				}
+
+				final String columnName = matcher.group(2);
+				final int columnIndex = poInfo.getColumnIndex(columnName);
+				if (columnIndex < 0
+						|| poInfo.isVirtualColumn(columnIndex)
+						|| !poInfo.isColumnMandatory(columnIndex))
+				{
+					return null;
+				}
+
+				final boolean itemDescending = "DESC".equalsIgnoreCase(matcher.group(3));
+				if (descending == null)
+				{
+					descending = itemDescending;
+				}
+				else if (descending != itemDescending)
+				{
+					return null;
+				}
+
+				columnNames.add(poInfo.getColumnName(columnIndex));
+			}
+		}
+
+		// make sure the ordering is unique
+		for (final String keyColumnName : keyColumnNames)
+		{
+			if (!containsIgnoreCase(columnNames, keyColumnName))
+			{
+				columnNames.add(keyColumnName);
+			}
+		}
+
+		return new KeysetPagingOrderBy(poInfo.getTableName(), ImmutableList.copyOf(columnNames), descending != null && descending);
+	}
+
+	private static boolean containsIgnoreCase(final List<String> columnNames, final String columnName)
+	{
+		return columnNames.stream().anyMatch(columnName::equalsIgnoreCase);
+	}
+
+	@VisibleForTesting
+	KeysetPagingOrderBy(
+			@NonNull final String tableAlias,
+			@NonNull final ImmutableList<String> columnNames,
+			final boolean descending)
+	{
+		Check.assumeNotEmpty(columnNames, "columnNames is not empty");
+		this.tableAlias = tableAlias;
+		this.columnNames = columnNames;
+		this.descending = descending;
+	}
+
+	public String getOrderBySql()
+	{
+		final String direction = descending ? " DESC" : "";
+		final StringBuilder sql = new StringBuilder();
+		for (final String columnName : columnNames)
+		{
+			if (sql.length() > 0)
+			{
+				sql.append(", ");
+			}
+			sql.append(tableAlias).append(".").append(columnName).append(direction);
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * @return where clause which selects all rows after the row with the given sort values. Contains one <code>?</code> placeholder for each column.
+	 */
+	public String getSeekWhereClause()
+	{
+		final StringBuilder columns = new StringBuilder();
+		final StringBuilder placeholders = new StringBuilder();
+		for (final String columnName : columnNames)
+		{
+			if (columns.length() > 0)
+			{
+				columns.append(", ");
+				placeholders.append(", ");
+			}
+			columns.append(tableAlias).append(".").append(columnName);
+			placeholders.append("?");
+		}
+
+		return "(" + columns + ")" + (descending ? " < " : " > ") + "(" + placeholders + ")";
+	}
+}
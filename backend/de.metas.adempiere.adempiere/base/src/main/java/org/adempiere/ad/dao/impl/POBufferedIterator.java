@@ -22,23 +22,37 @@ package org.adempiere.ad.dao.impl;
  * #L%
  */
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 import org.adempiere.ad.dao.QueryLimit;
 import org.adempiere.exceptions.DBException;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.service.ISysConfigBL;
 import org.compiere.model.POInfo;
 import org.compiere.util.DB;
 import org.slf4j.Logger;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import de.metas.logging.LogManager;
 import de.metas.util.Check;
+import de.metas.util.Services;
 import lombok.NonNull;
 
 /**
  * Buffered {@link Iterator} over a {@link TypedSqlQuery} result.
+ * <p>
+ * Pages are loaded, in order of preference:
+ * <ul>
+ * <li>by a row number column, if one was given (see constructor)
+ * <li>by keyset pagination, i.e. by remembering the ORDER BY values of the last loaded row and asking for the rows after it (see {@link KeysetPagingOrderBy})
+ * <li>by <code>OFFSET</code>, if none of the above is possible
+ * </ul>
  *
  * @author tsa
  *
@@ -48,11 +62,28 @@ import lombok.NonNull;
 {
 	private static final transient Logger logger = LogManager.getLogger(POBufferedIterator.class);
 
+	/**
+	 * Default buffer size, used if the query does not specify {@link org.compiere.model.IQuery#OPTION_IteratorBufferSize}.
+	 */
+	public static final String SYSCONFIG_DefaultBufferSize = "org.adempiere.ad.dao.impl.POBufferedIterator.DefaultBufferSize";
+	private static final int DEFAULT_BufferSize = 50;
+
 	private final TypedSqlQuery<T> query;
 	private final Class<ET> clazz;
 	private final String rowNumberColumn;
+	private final Function<TypedSqlQuery<T>, List<ET>> pageLoader;
 
-	private int bufferSize = 50;
+	/**
+	 * Not null if we are using keyset pagination.
+	 * Might be set to null while iterating, if we encounter a NULL sort value; in that case we continue with OFFSET.
+	 */
+	@Nullable
+	private KeysetPagingOrderBy keysetOrderBy;
+	/** The ORDER BY values of the last loaded row, or <code>null</code> if no page was loaded yet. */
+	@Nullable
+	private List<Object> keysetLastValues;
+
+	private int bufferSize;
 	private int offset = 0; // in the DB, line is set via the row_number() window function wich starts at 1
 
 	private Iterator<ET> bufferIterator;
@@ -68,11 +99,13 @@ import lombok.NonNull;
 	 *            If a column is given, then this iterator will not use offset, but assume that the column contains a row number that starts at 1,
 	 *            as created by the <code>row_nbumber()</code> window function. This class will then use this column by not paging with offset, but with in the where-clause "rowNumberColumn > offset".
 	 *            Thanks to http://use-the-index-luke.com/no-offset.
+	 * @param keysetPaging if true and no <code>rowNumberColumn</code> was given, this iterator will try to page using the ORDER BY values of the last loaded row instead of using offset.
 	 */
 	/* package */ POBufferedIterator(
 			@NonNull final TypedSqlQuery<T> query,
 			@Nullable final Class<ET> clazz,
-			@Nullable final String rowNumberColumn)
+			@Nullable final String rowNumberColumn,
+			final boolean keysetPaging)
 	{
 		if (!DB.getDatabase().isPagingSupported())
 		{
@@ -94,6 +127,41 @@ import lombok.NonNull;
 
 		this.clazz = clazz;
 		this.rowNumberColumn = rowNumberColumn;
+		this.pageLoader = pageQuery -> pageQuery.list(clazz);
+		this.bufferSize = Services.get(ISysConfigBL.class).getIntValue(SYSCONFIG_DefaultBufferSize, DEFAULT_BufferSize);
+
+		if (keysetPaging && Check.isEmpty(rowNumberColumn, true) && !this.query.isSelectingFromTableOnly())
+		{
+			logger.debug("Keyset pagination not possible for queries with custom FROM clause or UNIONs; using OFFSET: {}", this.query);
+		}
+		else if (keysetPaging && Check.isEmpty(rowNumberColumn, true))
+		{
+			this.keysetOrderBy = KeysetPagingOrderBy.ofOrderByOrNull(this.query.getOrderBy(), POInfo.getPOInfo(this.query.getTableName()));
+			if (keysetOrderBy != null)
+			{
+				this.query.setOrderBy(keysetOrderBy.getOrderBySql());
+			}
+			else
+			{
+				logger.debug("Keyset pagination not possible for ORDER BY {}; using OFFSET", this.query.getOrderBy());
+			}
+		}
+	}
+
+	@VisibleForTesting
+	POBufferedIterator(
+			@NonNull final TypedSqlQuery<T> query,
+			@NonNull final KeysetPagingOrderBy keysetOrderBy,
+			final int bufferSize,
+			@NonNull final Function<TypedSqlQuery<T>, List<ET>> pageLoader)
+	{
+		this.query = query.copy();
+		this.query.setOrderBy(keysetOrderBy.getOrderBySql());
+		this.clazz = null;
+		this.rowNumberColumn = null;
+		this.pageLoader = pageLoader;
+		this.keysetOrderBy = keysetOrderBy;
+		setBufferSize(bufferSize);
 	}
 
 	/**
@@ -164,17 +232,24 @@ import lombok.NonNull;
 		final TypedSqlQuery<T> queryToUse;
 
 		query.setLimit(QueryLimit.ofInt(bufferSize));
-		if (Check.isEmpty(rowNumberColumn, true))
+		if (!Check.isEmpty(rowNumberColumn, true))
 		{
-			query.setLimit(QueryLimit.ofInt(bufferSize), offset);
-			queryToUse = query;
+			query.setLimit(QueryLimit.ofInt(bufferSize));
+			queryToUse = query.addWhereClause(true, rowNumberColumn + " > " + offset);
 		}
-		else
+		else if (keysetOrderBy != null)
 		{
 			query.setLimit(QueryLimit.ofInt(bufferSize));
-			queryToUse = query.addWhereClause(true, rowNumberColumn + " > " + offset);
+			queryToUse = keysetLastValues != null
+					? query.addWhereClause(true, keysetOrderBy.getSeekWhereClause(), keysetLastValues)
+					: query;
+		}
+		else
+		{
+			query.setLimit(QueryLimit.ofInt(bufferSize), offset);
+			queryToUse = query;
 		}
-		final List<ET> buffer = queryToUse.list(clazz);
+		final List<ET> buffer = pageLoader.apply(queryToUse);
 		bufferIterator = buffer.iterator();
 
 		final int bufferSizeActual = buffer.size();
@@ -182,10 +257,35 @@ import lombok.NonNull;
 
 		if (logger.isDebugEnabled())
 		{
-			logger.debug("Loaded next page: bufferSize=" + bufferSize + ", offset=" + offset + " -> " + bufferSizeActual + " records (fullyLoaded=" + bufferFullyLoaded + ")");
+			logger.debug("Loaded next page: bufferSize=" + bufferSize + ", offset=" + offset + ", keysetLastValues=" + keysetLastValues + " -> " + bufferSizeActual + " records (fullyLoaded=" + bufferFullyLoaded + ")");
 		}
 
 		offset += bufferSizeActual;
+
+		if (keysetOrderBy != null && bufferSizeActual > 0)
+		{
+			keysetLastValues = extractKeysetValues(buffer.get(bufferSizeActual - 1));
+		}
+	}
+
+	@Nullable
+	private List<Object> extractKeysetValues(@NonNull final ET lastModel)
+	{
+		final List<String> columnNames = keysetOrderBy.getColumnNames();
+		final Object[] values = new Object[columnNames.size()];
+		for (int i = 0; i < values.length; i++)
+		{
+			final Object value = InterfaceWrapperHelper.getValueOrNull(lastModel, columnNames.get(i));
+			if (value == null)
+			{
+				// shall not happen because we only use mandatory columns, but if it does, we can't compare => fallback to OFFSET, which works with the same ORDER BY
+				logger.warn("Got NULL value for {} in {}. Falling back to OFFSET pagination for {}", columnNames.get(i), lastModel, this);
+				keysetOrderBy = null;
+				return null;
+			}
+			values[i] = value;
+		}
+		return Arrays.asList(values);
 	}
 
 	/**
@@ -211,6 +311,7 @@ import lombok.NonNull;
 		return "POBufferedIterator [clazz=" + clazz
 				+ ", bufferSize=" + bufferSize
 				+ ", offset=" + offset
+				+ ", keysetOrderBy=" + keysetOrderBy
 				+ ", query=" + query
 				+ "]";
 	}
@@ -0,0 +1,95 @@
+package org.adempiere.ad.modelvalidator.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+import java.util.List;
+
+import org.adempiere.util.jmx.IJMXNameAware;
+
+import lombok.NonNull;
+
+public class JMXModelInterceptorsStatistics implements JMXModelInterceptorsStatisticsMBean, IJMXNameAware
+{
+	private final ModelInterceptorsStatistics statistics;
+	private final String jmxName;
+
+	public JMXModelInterceptorsStatistics(@NonNull final ModelInterceptorsStatistics statistics)
+	{
+		this.statistics = statistics;
+		this.jmxName = ModelInterceptorsStatistics.class.getPackage().getName() + ":type=" + ModelInterceptorsStatistics.class.getSimpleName();
+	}
+
+	@Override
+	public String getJMXName()
+	{
+		return jmxName;
+	}
+
+	@Override
+	public boolean isEnabled()
+	{
+		return statistics.isEnabled();
+	}
+
+	@Override
+	public void setEnabled(final boolean enabled)
+	{
+		statistics.setEnabled(enabled);
+	}
+
+	@Override
+	public int getInterceptorsCount()
+	{
+		return statistics.getInterceptorsCount();
+	}
+
+	@Override
+	public String[] getTopByTotalTime(final int limit)
+	{
+		return toStringArray(statistics.getTopByTotalTime(limit));
+	}
+
+	@Override
+	public String[] getTopByMaxTime(final int limit)
+	{
+		return toStringArray(statistics.getTopByMaxTime(limit));
+	}
+
+	@Override
+	public String[] getTopByInvocations(final int limit)
+	{
+		return toStringArray(statistics.getTopByInvocations(limit));
+	}
+
+	private static String[] toStringArray(final List<ModelInterceptorStats> statsList)
+	{
+		return statsList.stream()
+				.map(ModelInterceptorStats::toSummaryString)
+				.toArray(String[]::new);
+	}
+
+	@Override
+	public void resetStatistics()
+	{
+		statistics.reset();
+	}
+}
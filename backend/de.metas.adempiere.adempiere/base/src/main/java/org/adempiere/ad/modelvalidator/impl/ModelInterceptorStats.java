@@ -0,0 +1,157 @@
+package org.adempiere.ad.modelvalidator.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Invocation count and latency histogram of one model interceptor, for one event type (model change or document validation).
+ * <p>
+ * Recording is lock free, so it can be done from any thread which saves or processes a PO.
+ */
+public final class ModelInterceptorStats
+{
+	private static final long[] BUCKET_UPPER_BOUNDS_NANOS = new long[] {
+			TimeUnit.MICROSECONDS.toNanos(100),
+			TimeUnit.MILLISECONDS.toNanos(1),
+			TimeUnit.MILLISECONDS.toNanos(10),
+			TimeUnit.MILLISECONDS.toNanos(100),
+			TimeUnit.SECONDS.toNanos(1)
+	};
+	private static final String[] BUCKET_NAMES = new String[] { "<0.1ms", "<1ms", "<10ms", "<100ms", "<1s", ">=1s" };
+
+	@Getter
+	private final String eventType;
+	@Getter
+	private final String interceptorName;
+
+	private final LongAdder invocations = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	private final LongAdder[] buckets = new LongAdder[BUCKET_NAMES.length];
+
+	/* package */ ModelInterceptorStats(@NonNull final String eventType, @NonNull final String interceptorName)
+	{
+		this.eventType = eventType;
+		this.interceptorName = interceptorName;
+
+		for (int i = 0; i < buckets.length; i++)
+		{
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public void record(final long durationNanos, final boolean failed)
+	{
+		invocations.increment();
+		if (failed)
+		{
+			failures.increment();
+		}
+		totalNanos.add(durationNanos);
+		maxNanos.accumulate(durationNanos);
+		buckets[getBucketIndex(durationNanos)].increment();
+	}
+
+	private static int getBucketIndex(final long durationNanos)
+	{
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_NANOS.length; i++)
+		{
+			if (durationNanos < BUCKET_UPPER_BOUNDS_NANOS[i])
+			{
+				return i;
+			}
+		}
+		return BUCKET_UPPER_BOUNDS_NANOS.length;
+	}
+
+	public long getInvocations()
+	{
+		return invocations.sum();
+	}
+
+	public long getTotalNanos()
+	{
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos()
+	{
+		return maxNanos.get();
+	}
+
+	/* package */ void reset()
+	{
+		invocations.reset();
+		failures.reset();
+		totalNanos.reset();
+		maxNanos.reset();
+		for (final LongAdder bucket : buckets)
+		{
+			bucket.reset();
+		}
+	}
+
+	/**
+	 * @return e.g. <code>ModelChange C_OrderLine_Interceptor: invocations=120, failures=0, totalMs=35.2, avgMs=0.29, maxMs=4.1, histogram=[<0.1ms=10, <1ms=100, ...]</code>
+	 */
+	public String toSummaryString()
+	{
+		final long invocations = getInvocations();
+		final long totalNanos = getTotalNanos();
+
+		final StringBuilder sb = new StringBuilder()
+				.append(eventType).append(" ").append(interceptorName)
+				.append(": invocations=").append(invocations)
+				.append(", failures=").append(failures.sum())
+				.append(", totalMs=").append(toMillisString(totalNanos))
+				.append(", avgMs=").append(toMillisString(invocations > 0 ? totalNanos / invocations : 0))
+				.append(", maxMs=").append(toMillisString(getMaxNanos()))
+				.append(", histogram=[");
+		for (int i = 0; i < buckets.length; i++)
+		{
+			if (i > 0)
+			{
+				sb.append(", ");
+			}
+			sb.append(BUCKET_NAMES[i]).append("=").append(buckets[i].sum());
+		}
+		return sb.append("]").toString();
+	}
+
+	private static String toMillisString(final long nanos)
+	{
+		return String.format("%.2f", nanos / 1_000_000.0d);
+	}
+
+	@Override
+	public String toString()
+	{
+		return toSummaryString();
+	}
+}
@@ -0,0 +1,301 @@
+package org.adempiere.ad.modelvalidator.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.compiere.model.ModelValidator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Immutable table of model interceptors, indexed by table name and AD_Client_ID.
+ * <p>
+ * Registering or removing an interceptor creates a new table, so firing events can read it without locking.
+ * The interceptor lists are built when registering, so looking them up does not allocate anything.
+ */
+@Immutable
+public final class ModelInterceptorsDispatchTable
+{
+	public static final ModelInterceptorsDispatchTable EMPTY = new ModelInterceptorsDispatchTable(ImmutableMap.of());
+
+	/** Pseudo AD_Client_ID of the interceptors which apply to all clients */
+	private static final int AD_Client_ID_Global = -1;
+
+	@Value
+	public static class Entry
+	{
+		@NonNull
+		ModelValidator interceptor;
+		@NonNull
+		ModelInterceptorStats stats;
+	}
+
+	private final ImmutableMap<String, TableInterceptors> interceptorsByTableName;
+
+	private ModelInterceptorsDispatchTable(@NonNull final ImmutableMap<String, TableInterceptors> interceptorsByTableName)
+	{
+		this.interceptorsByTableName = interceptorsByTableName;
+	}
+
+	public boolean isEmpty()
+	{
+		return interceptorsByTableName.isEmpty();
+	}
+
+	/**
+	 * @return number of table name and AD_Client_ID combinations which have interceptors
+	 */
+	public int size()
+	{
+		int size = 0;
+		for (final TableInterceptors tableInterceptors : interceptorsByTableName.values())
+		{
+			size += tableInterceptors.getClientIds().length;
+		}
+		return size;
+	}
+
+	/**
+	 * @return interceptors which apply to all clients; never returns {@code null}
+	 */
+	public ImmutableList<Entry> getGlobalInterceptors(@NonNull final String tableName)
+	{
+		return getInterceptors(tableName, AD_Client_ID_Global);
+	}
+
+	/**
+	 * @return interceptors which were registered for the given client only; never returns {@code null}
+	 */
+	public ImmutableList<Entry> getClientInterceptors(@NonNull final String tableName, final int adClientId)
+	{
+		return getInterceptors(tableName, adClientId);
+	}
+
+	private ImmutableList<Entry> getInterceptors(@NonNull final String tableName, final int adClientId)
+	{
+		final TableInterceptors tableInterceptors = interceptorsByTableName.get(tableName);
+		return tableInterceptors != null ? tableInterceptors.getInterceptors(adClientId) : ImmutableList.of();
+	}
+
+	/**
+	 * @return a new table which also contains the given interceptor, or this table if the interceptor was already registered
+	 */
+	public ModelInterceptorsDispatchTable withInterceptor(
+			@NonNull final String tableName,
+			final boolean global,
+			@NonNull final ModelValidator interceptor,
+			@NonNull final ModelInterceptorStats stats)
+	{
+		final int adClientId = global ? AD_Client_ID_Global : interceptor.getAD_Client_ID();
+		final ImmutableList<Entry> interceptors = getInterceptors(tableName, adClientId);
+		if (indexOf(interceptors, interceptor) >= 0)
+		{
+			return this;
+		}
+
+		final ImmutableList<Entry> interceptorsNew = ImmutableList.<Entry> builder()
+				.addAll(interceptors)
+				.add(new Entry(interceptor, stats))
+				.build();
+		return withInterceptors(tableName, adClientId, interceptorsNew);
+	}
+
+	/**
+	 * @return a new table without the given interceptor, or this table if the interceptor was not registered
+	 */
+	public ModelInterceptorsDispatchTable withoutInterceptor(
+			@NonNull final String tableName,
+			final boolean global,
+			@NonNull final ModelValidator interceptor)
+	{
+		final int adClientId = global ? AD_Client_ID_Global : interceptor.getAD_Client_ID();
+		final ImmutableList<Entry> interceptors = getInterceptors(tableName, adClientId);
+		final int index = indexOf(interceptors, interceptor);
+		if (index < 0)
+		{
+			return this;
+		}
+
+		final ImmutableList<Entry> interceptorsNew = ImmutableList.<Entry> builder()
+				.addAll(interceptors.subList(0, index))
+				.addAll(interceptors.subList(index + 1, interceptors.size()))
+				.build();
+		return withInterceptors(tableName, adClientId, interceptorsNew);
+	}
+
+	private static int indexOf(final ImmutableList<Entry> interceptors, final ModelValidator interceptor)
+	{
+		for (int i = 0, size = interceptors.size(); i < size; i++)
+		{
+			if (interceptors.get(i).getInterceptor().equals(interceptor))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private ModelInterceptorsDispatchTable withInterceptors(
+			@NonNull final String tableName,
+			final int adClientId,
+			@NonNull final ImmutableList<Entry> interceptors)
+	{
+		final TableInterceptors tableInterceptors = interceptorsByTableName.get(tableName);
+		final TableInterceptors tableInterceptorsNew = tableInterceptors != null
+				? tableInterceptors.withInterceptors(adClientId, interceptors)
+				: TableInterceptors.EMPTY.withInterceptors(adClientId, interceptors);
+
+		final Map<String, TableInterceptors> interceptorsByTableNameNew = new HashMap<>(interceptorsByTableName);
+		if (tableInterceptorsNew == null)
+		{
+			interceptorsByTableNameNew.remove(tableName);
+		}
+		else
+		{
+			interceptorsByTableNameNew.put(tableName, tableInterceptorsNew);
+		}
+
+		return new ModelInterceptorsDispatchTable(ImmutableMap.copyOf(interceptorsByTableNameNew));
+	}
+
+	/**
+	 * Calls the given consumer with a key like <code>C_Order*</code> (global) or <code>C_Order1000000</code> (for AD_Client_ID=1000000) and the interceptor.
+	 */
+	public void forEach(@NonNull final BiConsumer<String, ModelValidator> consumer)
+	{
+		interceptorsByTableName.forEach((tableName, tableInterceptors) -> {
+			final int[] clientIds = tableInterceptors.getClientIds();
+			for (final int adClientId : clientIds)
+			{
+				final String key = adClientId == AD_Client_ID_Global ? tableName + "*" : tableName + adClientId;
+				for (final Entry entry : tableInterceptors.getInterceptors(adClientId))
+				{
+					consumer.accept(key, entry.getInterceptor());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Interceptors of one table, per AD_Client_ID.
+	 * There are usually only one or two AD_Client_IDs, so we scan an array instead of using a map with boxed keys.
+	 */
+	@Immutable
+	private static final class TableInterceptors
+	{
+		private static final TableInterceptors EMPTY = new TableInterceptors(new int[] {}, ImmutableList.of());
+
+		private final int[] clientIds;
+		private final ImmutableList<ImmutableList<Entry>> interceptorsByClientIndex;
+
+		private TableInterceptors(final int[] clientIds, final ImmutableList<ImmutableList<Entry>> interceptorsByClientIndex)
+		{
+			this.clientIds = clientIds;
+			this.interceptorsByClientIndex = interceptorsByClientIndex;
+		}
+
+		public int[] getClientIds()
+		{
+			return clientIds.clone();
+		}
+
+		public ImmutableList<Entry> getInterceptors(final int adClientId)
+		{
+			for (int i = 0; i < clientIds.length; i++)
+			{
+				if (clientIds[i] == adClientId)
+				{
+					return interceptorsByClientIndex.get(i);
+				}
+			}
+			return ImmutableList.of();
+		}
+
+		/**
+		 * @return new instance or {@code null} if there are no interceptors left
+		 */
+		@Nullable
+		public TableInterceptors withInterceptors(final int adClientId, @NonNull final ImmutableList<Entry> interceptors)
+		{
+			int index = -1;
+			for (int i = 0; i < clientIds.length; i++)
+			{
+				if (clientIds[i] == adClientId)
+				{
+					index = i;
+					break;
+				}
+			}
+
+			final int[] clientIdsNew;
+			final ImmutableList.Builder<ImmutableList<Entry>> interceptorsByClientIndexNew = ImmutableList.builder();
+			if (index < 0 && interceptors.isEmpty())
+			{
+				return this;
+			}
+			else if (index < 0)
+			{
+				clientIdsNew = new int[clientIds.length + 1];
+				System.arraycopy(clientIds, 0, clientIdsNew, 0, clientIds.length);
+				clientIdsNew[clientIds.length] = adClientId;
+				interceptorsByClientIndexNew.addAll(interceptorsByClientIndex).add(interceptors);
+			}
+			else if (interceptors.isEmpty())
+			{
+				if (clientIds.length == 1)
+				{
+					return null;
+				}
+
+				clientIdsNew = new int[clientIds.length - 1];
+				for (int i = 0, j = 0; i < clientIds.length; i++)
+				{
+					if (i != index)
+					{
+						clientIdsNew[j++] = clientIds[i];
+						interceptorsByClientIndexNew.add(interceptorsByClientIndex.get(i));
+					}
+				}
+			}
+			else
+			{
+				clientIdsNew = clientIds.clone();
+				for (int i = 0; i < clientIds.length; i++)
+				{
+					interceptorsByClientIndexNew.add(i == index ? interceptors : interceptorsByClientIndex.get(i));
+				}
+			}
+
+			return new TableInterceptors(clientIdsNew, interceptorsByClientIndexNew.build());
+		}
+	}
+}
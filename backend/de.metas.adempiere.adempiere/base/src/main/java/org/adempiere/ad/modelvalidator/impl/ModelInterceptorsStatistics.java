@@ -0,0 +1,100 @@
+package org.adempiere.ad.modelvalidator.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.compiere.model.ModelValidator;
+import org.compiere.util.Util;
+import org.compiere.util.Util.ArrayKey;
+
+import com.google.common.collect.ImmutableList;
+
+import lombok.NonNull;
+
+/**
+ * Collects the {@link ModelInterceptorStats} of all registered model interceptors.
+ * <p>
+ * The stats instances are created when an interceptor is registered, so firing an event does not need to look them up.
+ */
+public final class ModelInterceptorsStatistics
+{
+	public static final String EVENTTYPE_ModelChange = "ModelChange";
+	public static final String EVENTTYPE_DocValidate = "DocValidate";
+
+	private final ConcurrentHashMap<ArrayKey, ModelInterceptorStats> statsByKey = new ConcurrentHashMap<>();
+
+	private volatile boolean enabled = true;
+
+	public ModelInterceptorStats getOrCreate(@NonNull final String eventType, @NonNull final ModelValidator interceptor)
+	{
+		final ArrayKey key = Util.mkKey(eventType, interceptor);
+		return statsByKey.computeIfAbsent(key, k -> new ModelInterceptorStats(eventType, interceptor.toString()));
+	}
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public void setEnabled(final boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	public int getInterceptorsCount()
+	{
+		return statsByKey.size();
+	}
+
+	public void reset()
+	{
+		statsByKey.values().forEach(ModelInterceptorStats::reset);
+	}
+
+	public List<ModelInterceptorStats> getTopByTotalTime(final int limit)
+	{
+		return getTop(Comparator.comparing(ModelInterceptorStats::getTotalNanos), limit);
+	}
+
+	public List<ModelInterceptorStats> getTopByMaxTime(final int limit)
+	{
+		return getTop(Comparator.comparing(ModelInterceptorStats::getMaxNanos), limit);
+	}
+
+	public List<ModelInterceptorStats> getTopByInvocations(final int limit)
+	{
+		return getTop(Comparator.comparing(ModelInterceptorStats::getInvocations), limit);
+	}
+
+	private List<ModelInterceptorStats> getTop(final Comparator<ModelInterceptorStats> comparator, final int limit)
+	{
+		return statsByKey.values()
+				.stream()
+				.filter(stats -> stats.getInvocations() > 0)
+				.sorted(comparator.reversed())
+				.limit(limit > 0 ? limit : Long.MAX_VALUE)
+				.collect(ImmutableList.toImmutableList());
+	}
+}
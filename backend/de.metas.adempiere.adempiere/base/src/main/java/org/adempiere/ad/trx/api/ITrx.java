@@ -2,6 +2,7 @@ package org.adempiere.ad.trx.api;
 
 import lombok.NonNull;
 import org.adempiere.exceptions.DBException;
+import org.adempiere.util.lang.IAutoCloseable;
 
 import javax.annotation.Nullable;
 import java.sql.Connection;
@@ -210,4 +211,16 @@ public interface ITrx
 	{
 		getTrxListenerManager().runAfterCommit(runnable);
 	}
+
+	/**
+	 * Starts collecting the INSERTs of newly saved records, in order to send them to database as JDBC batches (see {@link ITrxManager#runInBatchSaveScope(Runnable)}).
+	 * <p>
+	 * The default implementation does nothing, i.e. the records are inserted right away.
+	 *
+	 * @return scope which, when closed, ends the batch save scope and flushes the collected INSERTs
+	 */
+	default IAutoCloseable startBatchSaveScope()
+	{
+		return () -> {};
+	}
 }
@@ -33,6 +33,7 @@ import org.adempiere.ad.trx.api.ITrxRunConfig.TrxPropagation;
 import org.adempiere.ad.trx.exceptions.TrxException;
 import org.adempiere.ad.trx.exceptions.TrxNotFoundException;
 import org.adempiere.ad.trx.processor.api.ITrxItemProcessorExecutor;
+import org.adempiere.util.lang.IAutoCloseable;
 import org.adempiere.util.lang.IContextAware;
 import org.compiere.util.TrxRunnable;
 
@@ -223,6 +224,38 @@ public interface ITrxManager extends ISingletonService
 		run(ITrx.TRXNAME_ThreadInherited, runnable);
 	}
 
+	/**
+	 * Runs the given runnable in thread inherited transaction (or in a new one, if there is none), collecting the INSERTs of newly saved records and sending them to database as JDBC batches.
+	 * <p>
+	 * The collected INSERTs are flushed whenever the transaction's connection is requested (i.e. when a new statement is created in this transaction),
+	 * before commit, before creating a savepoint and when the scope ends. On rollback they are discarded.
+	 * <p>
+	 * Only records without after-new code are collected, i.e. records of tables without model interceptors and whose PO class doesn't override <code>afterSave</code>.
+	 * All the other records, and the ones which need database generated values right away (e.g. native sequences, LOBs), are inserted right away.
+	 * <p>
+	 * <b>Important:</b>
+	 * <ul>
+	 * <li>an INSERT which fails (e.g. because of a constraint violation) does not fail when the record is saved, but later, when the batch is flushed.
+	 * Don't rely on catching the save's exception inside the scope.
+	 * <li>statements which were prepared <i>before</i> the records were saved, and which are executed again inside the scope, don't get a new connection and therefore don't flush.
+	 * They don't see the collected records.
+	 * </ul>
+	 */
+	default void runInBatchSaveScope(@NonNull final Runnable runnable)
+	{
+		final ITrx trx = getThreadInheritedTrx(OnTrxMissingPolicy.ReturnTrxNone);
+		if (isNull(trx))
+		{
+			runInNewTrx(() -> runInBatchSaveScope(runnable));
+			return;
+		}
+
+		try (final IAutoCloseable batchSaveScope = trx.startBatchSaveScope())
+		{
+			runnable.run();
+		}
+	}
+
 	/**
 	 * Executes the callable object. Same as calling {@link #call(String, boolean, TrxCallable)} with manageTrx = false. This means that it uses the trx with the the given trxName, creates a savepoint
 	 * and to roll back to in case of problems and doesn't commit in case of success.
@@ -524,4 +557,9 @@ public interface ITrxManager extends ISingletonService
 	void setDebugConnectionBackendId(boolean debugConnectionBackendId);
 
 	boolean isDebugConnectionBackendId();
+
+	/**
+	 * @return transaction counters and lifetime histogram of this manager
+	 */
+	TrxManagerStatistics getStatistics();
 }
@@ -0,0 +1,144 @@
+package org.adempiere.ad.trx.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import lombok.NonNull;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+/**
+ * Transaction counters and lifetime histogram of an {@link ITrxManager}. All methods are lock-free.
+ */
+public final class TrxManagerStatistics
+{
+	/** Upper bounds (exclusive) of the lifetime histogram buckets; the last bucket holds everything above */
+	private static final long[] LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS = { 10, 100, 1_000, 10_000, 60_000 };
+
+	private final IntSupplier countOpenSupplier;
+
+	private final LongAdder countCreated = new LongAdder();
+	private final LongAdder countCommitted = new LongAdder();
+	private final LongAdder countRolledBack = new LongAdder();
+	private final LongAdder countClosed = new LongAdder();
+	private final LongAdder[] lifetimeBuckets = new LongAdder[LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS.length + 1];
+
+	public TrxManagerStatistics(@NonNull final IntSupplier countOpenSupplier)
+	{
+		this.countOpenSupplier = countOpenSupplier;
+		for (int i = 0; i < lifetimeBuckets.length; i++)
+		{
+			lifetimeBuckets[i] = new LongAdder();
+		}
+	}
+
+	public void recordCreated()
+	{
+		countCreated.increment();
+	}
+
+	public void recordCommitted()
+	{
+		countCommitted.increment();
+	}
+
+	public void recordRolledBack()
+	{
+		countRolledBack.increment();
+	}
+
+	public void recordClosed(final long lifetimeMillis)
+	{
+		countClosed.increment();
+		lifetimeBuckets[getLifetimeBucketIndex(lifetimeMillis)].increment();
+	}
+
+	private static int getLifetimeBucketIndex(final long lifetimeMillis)
+	{
+		for (int i = 0; i < LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS.length; i++)
+		{
+			if (lifetimeMillis < LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS[i])
+			{
+				return i;
+			}
+		}
+		return LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS.length;
+	}
+
+	/** @return how many transactions are currently registered in the trx manager */
+	public int getCountOpen()
+	{
+		return countOpenSupplier.getAsInt();
+	}
+
+	public long getCountCreated()
+	{
+		return countCreated.sum();
+	}
+
+	public long getCountCommitted()
+	{
+		return countCommitted.sum();
+	}
+
+	public long getCountRolledBack()
+	{
+		return countRolledBack.sum();
+	}
+
+	public long getCountClosed()
+	{
+		return countClosed.sum();
+	}
+
+	/**
+	 * @return the lifetime histogram of closed transactions, one "range: count" string per bucket, e.g. "10-100ms: 1234"
+	 */
+	public List<String> getLifetimeHistogram()
+	{
+		final List<String> histogram = new ArrayList<>(lifetimeBuckets.length);
+		long lowerBoundMillis = 0;
+		for (int i = 0; i < LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS.length; i++)
+		{
+			final long upperBoundMillis = LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS[i];
+			histogram.add(lowerBoundMillis + "-" + upperBoundMillis + "ms: " + lifetimeBuckets[i].sum());
+			lowerBoundMillis = upperBoundMillis;
+		}
+		histogram.add(">=" + lowerBoundMillis + "ms: " + lifetimeBuckets[LIFETIME_BUCKET_UPPER_BOUNDS_MILLIS.length].sum());
+		return histogram;
+	}
+
+	/** Resets all counters, except the open transactions which are not a counter */
+	public void reset()
+	{
+		countCreated.reset();
+		countCommitted.reset();
+		countRolledBack.reset();
+		countClosed.reset();
+		for (final LongAdder bucket : lifetimeBuckets)
+		{
+			bucket.reset();
+		}
+	}
+}
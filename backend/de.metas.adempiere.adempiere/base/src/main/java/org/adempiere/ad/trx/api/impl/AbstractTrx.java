@@ -67,6 +67,8 @@ public abstract class AbstractTrx implements ITrx
 	 */
 	private boolean m_active = false;
 	private long m_startTime;
+	/** Used to record the trx lifetime in {@link ITrxManager#getStatistics()} */
+	private final long createdMillis = System.currentTimeMillis();
 
 	private final boolean autoCommit;
 
@@ -184,6 +186,7 @@ public abstract class AbstractTrx implements ITrx
 
 			if (success)
 			{
+				trxManager.getStatistics().recordRolledBack();
 				getTrxListenerManager(false).fireAfterRollback(this);
 			}
 		}
@@ -259,6 +262,7 @@ public abstract class AbstractTrx implements ITrx
 			// 04265: If transaction was successfully committed fire listeners
 			if (success)
 			{
+				trxManager.getStatistics().recordCommitted();
 				trxListenerManager.fireAfterCommit(this);
 			}
 		}
@@ -351,7 +355,10 @@ public abstract class AbstractTrx implements ITrx
 			debugCloseStacktrace = new Exception("Close stacktrace");
 		}
 
-		trxManager.remove(this);
+		if (trxManager.remove(this))
+		{
+			trxManager.getStatistics().recordClosed(System.currentTimeMillis() - createdMillis);
+		}
 
 		//
 		// Transaction was just started but no actual actions were performed => closing it directly
@@ -25,12 +25,11 @@ package org.adempiere.ad.trx.api.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Callable;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -47,6 +46,7 @@ import org.adempiere.ad.trx.api.ITrxSavepoint;
 import org.adempiere.ad.trx.api.NullTrxPlaceholder;
 import org.adempiere.ad.trx.api.OnTrxMissingPolicy;
 import org.adempiere.ad.trx.api.TrxCallable;
+import org.adempiere.ad.trx.api.TrxManagerStatistics;
 import org.adempiere.ad.trx.exceptions.IllegalTrxRunStateException;
 import org.adempiere.ad.trx.exceptions.OnTrxMissingPolicyNotSupportedException;
 import org.adempiere.ad.trx.exceptions.TrxException;
@@ -89,10 +89,12 @@ public abstract class AbstractTrxManager implements ITrxManager
 	protected final transient Logger logger = LogManager.getLogger(getClass());
 
 	/**
-	 * Active Transactions Map: trxName to {@link ITrx}
+	 * Active Transactions Map: trxName to {@link ITrx}.
+	 * It's read by every {@link #get(String, OnTrxMissingPolicy)}, from all threads, so lookups shall not block.
 	 */
-	private final Map<String, ITrx> trxName2trx = new HashMap<>();
-	private final ReentrantLock trxName2trxLock = new ReentrantLock();
+	private final Map<String, ITrx> trxName2trx = new ConcurrentHashMap<>();
+
+	private final TrxManagerStatistics statistics = new TrxManagerStatistics(trxName2trx::size);
 
 	private ITrxNameGenerator trxNameGenerator = DefaultTrxNameGenerator.instance;
 
@@ -107,7 +109,7 @@ public abstract class AbstractTrxManager implements ITrxManager
 	 *
 	 * If not null it will collect transactions which were cloased and removed from {@link #getActiveTransactionsList()}.
 	 */
-	private List<ITrx> debugClosedTransactionsList = null;
+	private volatile List<ITrx> debugClosedTransactionsList = null;
 	private boolean debugConnectionBackendId = false;
 
 	public AbstractTrxManager()
@@ -127,9 +129,7 @@ public abstract class AbstractTrxManager implements ITrxManager
 	protected abstract ITrx createTrx(final String trxName, final boolean autoCommit);
 
 	/**
-	 * Creates and registers {@link ITrx} for given transaction name.
-	 *
-	 * NOTE: this method assumes that {@link #trxName2trxLock} is already locked.
+	 * Creates and registers {@link ITrx} for given transaction name, replacing (and closing) any transaction which is already registered with that name.
 	 *
 	 * @return created transaction name
 	 */
@@ -139,43 +139,58 @@ public abstract class AbstractTrxManager implements ITrxManager
 		final ITrx trx = createTrx(trxName, autoCommit);
 		Check.assumeNotNull(trx, "trx not null"); // shall never happen, but just to make sure the contract is respected
 
-		trxName2trxLock.lock();
-		try
-		{
-			Services.get(IOpenTrxBL.class).onNewTrx(trx); // metas 02367
-			final ITrx trxOld = trxName2trx.put(trxName, trx);
+		Services.get(IOpenTrxBL.class).onNewTrx(trx); // metas 02367
+		statistics.recordCreated();
+		final ITrx trxOld = trxName2trx.put(trxName, trx);
 
-			//
-			// Handle the case when a transaction already exists with exactly the same name
-			if (trxOld != null)
+		//
+		// Handle the case when a transaction already exists with exactly the same name
+		if (trxOld != null)
+		{
+			// Log the case
+			final TrxException ex = new TrxException("Possible trx leak found: registering a trxName which is already existing"
+					+ "\n trxName=" + trxName
+					+ "\n New trx=" + trx
+					+ "\n Old trx=" + trxOld);
+			if (Services.get(IDeveloperModeBL.class).isEnabled())
 			{
-				// Log the case
-				final TrxException ex = new TrxException("Possible trx leak found: registering a trxName which is already existing"
-						+ "\n trxName=" + trxName
-						+ "\n New trx=" + trx
-						+ "\n Old trx=" + trxOld);
-				if (Services.get(IDeveloperModeBL.class).isEnabled())
-				{
-					throw ex;
-				}
-				logger.error(ex.getLocalizedMessage(), ex);
+				throw ex;
+			}
+			logger.error(ex.getLocalizedMessage(), ex);
 
-				// Try closing the old transaction
-				try
-				{
-					trxOld.close();
-				}
-				catch (final Exception e)
-				{
-					throw new TrxException("Failed closing the old transaction: " + trxOld, e);
-				}
+			// Try closing the old transaction
+			try
+			{
+				trxOld.close();
+			}
+			catch (final Exception e)
+			{
+				throw new TrxException("Failed closing the old transaction: " + trxOld, e);
 			}
 		}
-		finally
+
+		return trx;
+	}
+
+	/**
+	 * Creates and registers {@link ITrx} for given transaction name, unless another thread registered one with the same name in the meantime.
+	 *
+	 * @return the registered transaction
+	 */
+	private ITrx createTrxAndRegisterIfAbsent(final String trxName, final boolean autoCommit)
+	{
+		final ITrx trx = createTrx(trxName, autoCommit);
+		Check.assumeNotNull(trx, "trx not null"); // shall never happen, but just to make sure the contract is respected
+
+		final ITrx trxExisting = trxName2trx.putIfAbsent(trxName, trx);
+		if (trxExisting != null)
 		{
-			trxName2trxLock.unlock();
+			// we lost the race; our trx was neither started nor registered, so we can just drop it
+			return trxExisting;
 		}
 
+		Services.get(IOpenTrxBL.class).onNewTrx(trx); // metas 02367
+		statistics.recordCreated();
 		return trx;
 	}
 
@@ -331,36 +346,27 @@ public abstract class AbstractTrxManager implements ITrxManager
 
 		//
 		// Get/Create the ITrx from "trxName"
-		trxName2trxLock.lock();
-		try
+		final ITrx trx = trxName2trx.get(trxName);
+		if (trx != null)
 		{
-			ITrx trx = trxName2trx.get(trxName);
-			if (trx != null)
-			{
-				// transaction was found => perfect
-			}
-			else if (onTrxMissingPolicy == OnTrxMissingPolicy.CreateNew)
-			{
-				trx = createTrxAndRegister(trxName, autoCommit);
-			}
-			else if (onTrxMissingPolicy == OnTrxMissingPolicy.Fail)
-			{
-				throw new TrxNotFoundException(this, trxName);
-			}
-			else if (onTrxMissingPolicy == OnTrxMissingPolicy.ReturnTrxNone)
-			{
-				return ITrx.TRX_None;
-			}
-			else
-			{
-				throw new OnTrxMissingPolicyNotSupportedException(onTrxMissingPolicy);
-			}
-
+			// transaction was found => perfect
 			return trx;
 		}
-		finally
+		else if (onTrxMissingPolicy == OnTrxMissingPolicy.CreateNew)
 		{
-			trxName2trxLock.unlock();
+			return createTrxAndRegisterIfAbsent(trxName, autoCommit);
+		}
+		else if (onTrxMissingPolicy == OnTrxMissingPolicy.Fail)
+		{
+			throw new TrxNotFoundException(this, trxName);
+		}
+		else if (onTrxMissingPolicy == OnTrxMissingPolicy.ReturnTrxNone)
+		{
+			return ITrx.TRX_None;
+		}
+		else
+		{
+			throw new OnTrxMissingPolicyNotSupportedException(onTrxMissingPolicy);
 		}
 	}	// get
 
@@ -369,41 +375,32 @@ public abstract class AbstractTrxManager implements ITrxManager
 	{
 		final String trxName = trx.getTrxName();
 
-		trxName2trxLock.lock();
-		try
+		final ITrx trxOld = trxName2trx.remove(trxName);
+		if (trxOld != null)
 		{
-			final ITrx trxOld = trxName2trx.remove(trxName);
-			if (trxOld != null)
+			final List<ITrx> debugClosedTransactionsList = this.debugClosedTransactionsList;
+			if (debugClosedTransactionsList != null)
 			{
-				if (debugClosedTransactionsList != null)
-				{
-					debugClosedTransactionsList.add(trxOld);
-				}
-				return true;
-			}
-			else
-			{
-				return false;
+				debugClosedTransactionsList.add(trxOld);
 			}
+			return true;
 		}
-		finally
+		else
 		{
-			trxName2trxLock.unlock();
+			return false;
 		}
 	}
 
 	@Override
 	public List<ITrx> getActiveTransactionsList()
 	{
-		trxName2trxLock.lock();
-		try
-		{
-			return new ArrayList<>(trxName2trx.values());
-		}
-		finally
-		{
-			trxName2trxLock.unlock();
-		}
+		return new ArrayList<>(trxName2trx.values());
+	}
+
+	@Override
+	public final TrxManagerStatistics getStatistics()
+	{
+		return statistics;
 	}
 
 	@Override
@@ -1325,26 +1322,18 @@ public abstract class AbstractTrxManager implements ITrxManager
 	}
 
 	@Override
-	public final void setDebugClosedTransactions(final boolean enabled)
+	public final synchronized void setDebugClosedTransactions(final boolean enabled)
 	{
-		trxName2trxLock.lock();
-		try
+		if (enabled)
 		{
-			if (enabled)
-			{
-				if (debugClosedTransactionsList == null)
-				{
-					debugClosedTransactionsList = new ArrayList<>();
-				}
-			}
-			else
+			if (debugClosedTransactionsList == null)
 			{
-				debugClosedTransactionsList = null;
+				debugClosedTransactionsList = Collections.synchronizedList(new ArrayList<>());
 			}
 		}
-		finally
+		else
 		{
-			trxName2trxLock.unlock();
+			debugClosedTransactionsList = null;
 		}
 	}
 
@@ -1357,18 +1346,14 @@ public abstract class AbstractTrxManager implements ITrxManager
 	@Override
 	public final List<ITrx> getDebugClosedTransactions()
 	{
-		trxName2trxLock.lock();
-		try
+		final List<ITrx> debugClosedTransactionsList = this.debugClosedTransactionsList;
+		if (debugClosedTransactionsList == null)
 		{
-			if (debugClosedTransactionsList == null)
-			{
-				return Collections.emptyList();
-			}
-			return new ArrayList<>(debugClosedTransactionsList);
+			return Collections.emptyList();
 		}
-		finally
+		synchronized (debugClosedTransactionsList)
 		{
-			trxName2trxLock.unlock();
+			return new ArrayList<>(debugClosedTransactionsList);
 		}
 	}
 
@@ -1387,7 +1372,7 @@ public abstract class AbstractTrxManager implements ITrxManager
 	@Override
 	public String toString()
 	{
-		return "AbstractTrxManager [trxName2trx=" + trxName2trx + ", trxName2trxLock=" + trxName2trxLock + ", trxNameGenerator=" + trxNameGenerator + ", threadLocalTrx=" + threadLocalTrx + ", threadLocalOnRunnableFail=" + threadLocalOnRunnableFail + ", debugTrxCreateStacktrace=" + debugTrxCreateStacktrace + ", debugTrxCloseStacktrace=" + debugTrxCloseStacktrace + ", debugClosedTransactionsList="
+		return "AbstractTrxManager [trxName2trx=" + trxName2trx + ", trxNameGenerator=" + trxNameGenerator + ", threadLocalTrx=" + threadLocalTrx + ", threadLocalOnRunnableFail=" + threadLocalOnRunnableFail + ", debugTrxCreateStacktrace=" + debugTrxCreateStacktrace + ", debugTrxCloseStacktrace=" + debugTrxCloseStacktrace + ", debugClosedTransactionsList="
 				+ debugClosedTransactionsList + ", debugConnectionBackendId=" + debugConnectionBackendId + "]";
 	}
 
@@ -184,4 +184,46 @@ public class JMXTrxManager implements JMXTrxManagerMBean, IJMXNameAware
 		return getTrxManager().isDebugConnectionBackendId();
 	}
 
+	@Override
+	public int getCountOpen()
+	{
+		return getTrxManager().getStatistics().getCountOpen();
+	}
+
+	@Override
+	public long getCountCreated()
+	{
+		return getTrxManager().getStatistics().getCountCreated();
+	}
+
+	@Override
+	public long getCountCommitted()
+	{
+		return getTrxManager().getStatistics().getCountCommitted();
+	}
+
+	@Override
+	public long getCountRolledBack()
+	{
+		return getTrxManager().getStatistics().getCountRolledBack();
+	}
+
+	@Override
+	public long getCountClosed()
+	{
+		return getTrxManager().getStatistics().getCountClosed();
+	}
+
+	@Override
+	public String[] getTrxLifetimeHistogram()
+	{
+		return getTrxManager().getStatistics().getLifetimeHistogram().toArray(new String[0]);
+	}
+
+	@Override
+	public void resetStatistics()
+	{
+		getTrxManager().getStatistics().reset();
+	}
+
 }
@@ -48,4 +48,18 @@ public interface JMXTrxManagerMBean
 
 	boolean isDebugConnectionBackendId();
 
+	int getCountOpen();
+
+	long getCountCreated();
+
+	long getCountCommitted();
+
+	long getCountRolledBack();
+
+	long getCountClosed();
+
+	String[] getTrxLifetimeHistogram();
+
+	void resetStatistics();
+
 }
@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.adempiere.util.concurrent;
+
+import de.metas.util.ILoggable;
+import de.metas.util.Loggables;
+import lombok.NonNull;
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.util.lang.IAutoCloseable;
+import org.compiere.util.Env;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Processes partitions of some work concurrently, on a bounded pool of worker threads.
+ * <p>
+ * One instance is meant to be shared by all runs of the same kind of work, so the number of threads which are doing that work is bounded, no matter how many runs are going on.
+ * If there are more partitions than threads, the remaining partitions are waiting in the queue.
+ * <p>
+ * Each partition is processed with its own copy of the caller's context, which is also set as the worker thread's context.
+ * The caller's {@link ILoggable} is also set as the worker thread's loggable, so that the workers' logs end up where the caller's logs do.
+ */
+public final class PartitionedExecutor
+{
+	public static PartitionedExecutor newInstance(@NonNull final String threadNamePrefix)
+	{
+		return new PartitionedExecutor(threadNamePrefix);
+	}
+
+	private static final int WORKERS_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private final ThreadPoolExecutor executor;
+
+	private PartitionedExecutor(@NonNull final String threadNamePrefix)
+	{
+		executor = new ThreadPoolExecutor(
+				WORKERS_POOL_SIZE,
+				WORKERS_POOL_SIZE,
+				60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				CustomizableThreadFactory.builder()
+						.setThreadNamePrefix(threadNamePrefix)
+						.setDaemon(true)
+						.build());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Processes the given partitions concurrently and waits until all of them are done.
+	 *
+	 * @param partitionProcessor called with the partition's context and the partition
+	 * @return the results of the given partitions, in partition order
+	 * @throws AdempiereException if any partition failed, after all partitions are done; the other partitions' exceptions are added as suppressed
+	 */
+	public <P, R> List<R> processInParallel(
+			@NonNull final Properties ctx,
+			@NonNull final List<P> partitions,
+			@NonNull final BiFunction<Properties, P, R> partitionProcessor)
+	{
+		final ILoggable loggable = synchronizedLoggable(Loggables.get());
+
+		final List<Future<R>> futures = new ArrayList<>(partitions.size());
+		for (final P partition : partitions)
+		{
+			final Properties workerCtx = Env.copyCtx(ctx);
+			futures.add(executor.submit(() -> {
+				try (final IAutoCloseable ignored = Env.switchContext(workerCtx);
+						final IAutoCloseable ignored1 = Loggables.temporarySetLoggable(loggable))
+				{
+					return partitionProcessor.apply(workerCtx, partition);
+				}
+			}));
+		}
+
+		final List<R> results = new ArrayList<>(futures.size());
+		AdempiereException firstException = null;
+		for (final Future<R> future : futures)
+		{
+			try
+			{
+				results.add(future.get());
+			}
+			catch (final ExecutionException ex)
+			{
+				final AdempiereException partitionException = AdempiereException.wrapIfNeeded(ex.getCause() != null ? ex.getCause() : ex);
+				if (firstException == null)
+				{
+					firstException = partitionException;
+				}
+				else
+				{
+					firstException.addSuppressed(partitionException);
+				}
+			}
+			catch (final InterruptedException ex)
+			{
+				futures.forEach(f -> f.cancel(true));
+				Thread.currentThread().interrupt();
+				throw AdempiereException.wrapIfNeeded(ex);
+			}
+		}
+
+		if (firstException != null)
+		{
+			throw firstException;
+		}
+
+		return results;
+	}
+
+	/**
+	 * The loggables (e.g. the process' one) are not meant to be called from multiple threads at the same time.
+	 */
+	private static ILoggable synchronizedLoggable(@NonNull final ILoggable loggable)
+	{
+		return new ILoggable()
+		{
+			@Override
+			public synchronized ILoggable addLog(final String msg, final Object... msgParameters)
+			{
+				loggable.addLog(msg, msgParameters);
+				return this;
+			}
+
+			@Override
+			public synchronized void flush()
+			{
+				loggable.flush();
+			}
+		};
+	}
+}
@@ -74,6 +74,19 @@ public interface IQuery<T>
 	 */
 	String OPTION_GuaranteedIteratorRequired = "GuaranteedIteratorRequired";
 
+	/**
+	 * Boolean value to specify if a non-guaranteed iterator shall page by the ORDER BY values of the last loaded row ("keyset pagination"), instead of using OFFSET.
+	 * If the option is not set then {@link #DEFAULT_OPTION_IteratorKeysetPaging} will be used.
+	 * <p>
+	 * NOTE: keyset pagination is only done if the query's ORDER BY allows it; else the iterator falls back to OFFSET.
+	 */
+	String OPTION_IteratorKeysetPaging = "IteratorKeysetPaging";
+
+	/**
+	 * Default value for {@link #OPTION_IteratorKeysetPaging}.
+	 */
+	boolean DEFAULT_OPTION_IteratorKeysetPaging = true;
+
 	/**
 	 * If set to {@code true}, then returned records can't be saved or deleted.
 	 */
@@ -27,6 +27,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.junit.Assert;
@@ -244,4 +248,85 @@ public class CCacheTest
 		cache.remove("k1");
 		assertThat(removedItems).containsEntry("k1", "v1");
 	}
+
+	@Test
+	public void test_LFU_admitsOnlyFrequentlyRequestedKeysWhenFull()
+	{
+		final CCache<String, String> cache = CCache.newLFUCache("Test", 2, CCache.EXPIREMINUTES_Never);
+
+		// cache is not full => everything is admitted
+		cache.getOrLoad("k1", key -> "v1");
+		cache.getOrLoad("k2", key -> "v2");
+		assertThat(cache.size()).isEqualTo(2);
+
+		// cache is full and "k3" was never requested before => not admitted
+		assertThat(cache.getOrLoad("k3", key -> "v3")).isEqualTo("v3");
+		assertThat(cache.containsKey("k3")).isFalse();
+
+		// second time "k3" is requested => admitted, one of the other keys is evicted
+		assertThat(cache.getOrLoad("k3", key -> "v3")).isEqualTo("v3");
+		assertThat(cache.containsKey("k3")).isTrue();
+		assertThat(cache.size()).isEqualTo(2);
+
+		final CCache.CCacheStats stats = cache.stats();
+		assertThat(stats.getAdmissionRejectedCount()).isEqualTo(1);
+		assertThat(stats.getLoadCount()).isEqualTo(4);
+		assertThat(stats.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void test_LFU_concurrentMissesAreLoadedOnce() throws Exception
+	{
+		final CCache<String, String> cache = CCache.newLFUCache("Test", 2, CCache.EXPIREMINUTES_Never);
+
+		final AtomicInteger loadCount = new AtomicInteger();
+		final CountDownLatch loadStarted = new CountDownLatch(1);
+		final CountDownLatch releaseLoad = new CountDownLatch(1);
+
+		final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.getOrLoad("k1", key -> {
+			loadCount.incrementAndGet();
+			loadStarted.countDown();
+			awaitUninterruptibly(releaseLoad);
+			return "v1";
+		}));
+		assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+		final CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.getOrLoad("k1", key -> {
+			loadCount.incrementAndGet();
+			return "v1-second";
+		}));
+
+		releaseLoad.countDown();
+		assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("v1");
+		assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("v1");
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	private static void awaitUninterruptibly(final CountDownLatch latch)
+	{
+		try
+		{
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void test_stats()
+	{
+		final CCache<String, String> cache = new CCache<>("Test", 10);
+		cache.getOrLoad("k1", key -> "v1");
+		cache.getOrLoad("k1", key -> "v1");
+		cache.put("k2", "v2");
+		cache.reset();
+
+		final CCache.CCacheStats stats = cache.stats();
+		assertThat(stats.getHitCount()).isEqualTo(1);
+		assertThat(stats.getMissCount()).isEqualTo(1);
+		assertThat(stats.getHitRate()).isEqualTo(0.5);
+		assertThat(stats.getInvalidationCount()).isEqualTo(2);
+	}
 }
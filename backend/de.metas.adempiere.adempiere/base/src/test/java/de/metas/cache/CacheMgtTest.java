@@ -80,6 +80,22 @@ public class CacheMgtTest
 		cache.assertResetForRecordIdWasCalled();
 	}
 
+	@Test
+	public void resetByTableName_cacheUsedAgainAfterReset()
+	{
+		final CacheMgt cacheManager = CacheMgt.get();
+		final CCache<Integer, String> cache = new CCache<>("Table1", 10);
+
+		cache.put(1, "value1");
+		cacheManager.resetLocal("Table1");
+		assertThat(cache.size()).isZero();
+
+		// make sure the cache is invalidated again after it was used again after reset
+		cache.getOrLoad(2, id -> "value2");
+		cacheManager.resetLocal("Table1");
+		assertThat(cache.size()).isZero();
+	}
+
 	@Test
 	public void resetRootAndChildRecord()
 	{
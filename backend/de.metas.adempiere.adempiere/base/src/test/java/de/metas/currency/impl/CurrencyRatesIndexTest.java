@@ -0,0 +1,109 @@
+package de.metas.currency.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.service.ClientId;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import de.metas.currency.impl.CurrencyRatesIndex.CurrencyRateEntry;
+import de.metas.organization.ClientAndOrgId;
+import de.metas.organization.OrgId;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class CurrencyRatesIndexTest
+{
+	private static final ClientId clientId = ClientId.ofRepoId(1000000);
+	private static final OrgId orgId = OrgId.ofRepoId(1000000);
+
+	private static CurrencyRateEntry rate(
+			final ClientId clientId,
+			final OrgId orgId,
+			final String validFrom,
+			@Nullable final String validTo,
+			final String multiplyRate)
+	{
+		return CurrencyRateEntry.builder()
+				.clientAndOrgId(ClientAndOrgId.ofClientAndOrg(clientId, orgId))
+				.validFrom(Instant.parse(validFrom))
+				.validTo(validTo != null ? Instant.parse(validTo) : Instant.MAX)
+				.multiplyRate(new BigDecimal(multiplyRate))
+				.build();
+	}
+
+	@Test
+	public void empty()
+	{
+		assertThat(CurrencyRatesIndex.EMPTY.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-01-01T00:00:00Z"))).isNull();
+	}
+
+	@Test
+	public void latestValidFromWins()
+	{
+		final CurrencyRatesIndex index = CurrencyRatesIndex.ofCollection(ImmutableList.of(
+				rate(clientId, orgId, "2021-01-01T00:00:00Z", "2021-12-31T00:00:00Z", "1.1"),
+				rate(clientId, orgId, "2021-03-01T00:00:00Z", "2021-03-31T00:00:00Z", "1.3"),
+				rate(clientId, orgId, "2021-02-01T00:00:00Z", "2021-02-28T00:00:00Z", "1.2")));
+
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2020-12-31T00:00:00Z"))).isNull();
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-01-15T00:00:00Z"))).isEqualByComparingTo("1.1");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-02-01T00:00:00Z"))).isEqualByComparingTo("1.2");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-03-31T00:00:00Z"))).isEqualByComparingTo("1.3");
+		// walk back to the overlapping rate
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-06-01T00:00:00Z"))).isEqualByComparingTo("1.1");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2022-01-01T00:00:00Z"))).isNull();
+	}
+
+	@Test
+	public void noValidTo()
+	{
+		final CurrencyRatesIndex index = CurrencyRatesIndex.ofCollection(ImmutableList.of(
+				rate(clientId, orgId, "2021-01-01T00:00:00Z", "2021-01-31T00:00:00Z", "1.1"),
+				rate(clientId, orgId, "2021-02-01T00:00:00Z", null, "1.2")));
+
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-01-15T00:00:00Z"))).isEqualByComparingTo("1.1");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-02-01T00:00:00Z"))).isEqualByComparingTo("1.2");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2099-12-31T00:00:00Z"))).isEqualByComparingTo("1.2");
+	}
+
+	@Test
+	public void specificClientAndOrgWins()
+	{
+		final CurrencyRatesIndex index = CurrencyRatesIndex.ofCollection(ImmutableList.of(
+				rate(ClientId.SYSTEM, OrgId.ANY, "2021-01-01T00:00:00Z", "2021-12-31T00:00:00Z", "1"),
+				rate(clientId, OrgId.ANY, "2021-01-01T00:00:00Z", "2021-06-30T00:00:00Z", "2"),
+				rate(clientId, orgId, "2021-01-01T00:00:00Z", "2021-03-31T00:00:00Z", "3")));
+
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-02-01T00:00:00Z"))).isEqualByComparingTo("3");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-05-01T00:00:00Z"))).isEqualByComparingTo("2");
+		assertThat(index.getMultiplyRateOrNull(clientId, orgId, Instant.parse("2021-09-01T00:00:00Z"))).isEqualByComparingTo("1");
+		assertThat(index.getMultiplyRateOrNull(clientId, OrgId.ofRepoId(1000001), Instant.parse("2021-02-01T00:00:00Z"))).isEqualByComparingTo("2");
+	}
+}
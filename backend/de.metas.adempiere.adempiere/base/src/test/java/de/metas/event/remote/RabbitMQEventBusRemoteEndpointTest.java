@@ -0,0 +1,195 @@
+package de.metas.event.remote;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.adempiere.service.ClientId;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.test.AdempiereTestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import de.metas.event.Event;
+import de.metas.event.IEventBus;
+import de.metas.event.IEventBusFactory;
+import de.metas.monitoring.adapter.NoopPerformanceMonitoringService;
+import de.metas.organization.OrgId;
+import de.metas.util.Services;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class RabbitMQEventBusRemoteEndpointTest
+{
+	private static final String TOPIC_NAME = "de.metas.event.remote.RabbitMQEventBusRemoteEndpointTest";
+
+	/** Stands in for the broker: it just hands over what the sender's template sent */
+	private AmqpTemplate senderAmqpTemplate;
+	private RabbitMQEventBusRemoteEndpoint sender;
+
+	private RabbitMQEventBusRemoteEndpoint receiver;
+	private List<Event> receivedEvents;
+
+	@BeforeEach
+	public void init()
+	{
+		AdempiereTestHelper.get().init();
+
+		senderAmqpTemplate = mock(AmqpTemplate.class);
+		sender = new RabbitMQEventBusRemoteEndpoint(senderAmqpTemplate, NoopPerformanceMonitoringService.INSTANCE, "sender");
+
+		receivedEvents = new ArrayList<>();
+		final IEventBus receiverLocalEventBus = mock(IEventBus.class);
+		Mockito.doAnswer(invocation -> receivedEvents.add((Event)invocation.getArguments()[0]))
+				.when(receiverLocalEventBus).postEvent(Matchers.any(Event.class));
+
+		final IEventBusFactory receiverEventBusFactory = mock(IEventBusFactory.class);
+		when(receiverEventBusFactory.getEventBusIfExists(Matchers.any())).thenReturn(receiverLocalEventBus);
+
+		receiver = new RabbitMQEventBusRemoteEndpoint(mock(AmqpTemplate.class), NoopPerformanceMonitoringService.INSTANCE, "receiver");
+		receiver.setEventBusFactory(receiverEventBusFactory);
+	}
+
+	private static void setSysConfig(final String name, final String value)
+	{
+		Services.get(ISysConfigBL.class).setValue(name, value, ClientId.SYSTEM, OrgId.ANY);
+	}
+
+	private static List<Event> createEvents(final int count)
+	{
+		final List<Event> events = new ArrayList<>();
+		for (int i = 1; i <= count; i++)
+		{
+			events.add(Event.builder()
+					.setSummary("summary" + i)
+					.putProperty("index", i)
+					.build());
+		}
+		return events;
+	}
+
+	private static List<String> summaries(final List<Event> events)
+	{
+		return events.stream().map(Event::getSummary).collect(Collectors.toList());
+	}
+
+	@Test
+	public void smile_batched()
+	{
+		setSysConfig("de.metas.event.remote.RabbitMQEventBusRemoteEndpoint.Serializer", "Smile");
+		setSysConfig("de.metas.event.remote.RabbitMQEventBusRemoteEndpoint.BatchWindowMillis", "50");
+
+		final List<Event> events = createEvents(3);
+		events.forEach(event -> sender.sendEvent(TOPIC_NAME, event));
+
+		final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+		verify(senderAmqpTemplate, timeout(5000)).send(Matchers.anyString(), Matchers.anyString(), messageCaptor.capture());
+		final Message message = messageCaptor.getValue();
+		assertThat(message.getMessageProperties().getContentType()).isEqualTo(JacksonSmileEventSerializer.CONTENT_TYPE);
+
+		receiver.onRemoteMessage(message);
+
+		assertThat(summaries(receivedEvents)).containsExactly("summary1", "summary2", "summary3");
+		assertThat(receivedEvents.get(2).getUuid()).isEqualTo(events.get(2).getUuid());
+		assertThat(receivedEvents.get(2).getPropertyAsInt("index", -1)).isEqualTo(3);
+	}
+
+	@Test
+	public void singleJsonEvent_asSentByInstancesWithoutBatching()
+	{
+		final Event event = createEvents(1).get(0);
+
+		final MessageProperties messageProperties = new MessageProperties();
+		messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		messageProperties.setHeader("metasfresh-events.SenderId", "sender");
+		messageProperties.setHeader("metasfresh-events.TopicName", TOPIC_NAME);
+		receiver.onRemoteMessage(new Message(JacksonJsonEventSerializer.instance.toString(event).getBytes(UTF_8), messageProperties));
+
+		assertThat(summaries(receivedEvents)).containsExactly("summary1");
+		assertThat(receivedEvents.get(0).getUuid()).isEqualTo(event.getUuid());
+	}
+
+	@Test
+	public void undecodableMessage_isRejectedWithoutRequeue()
+	{
+		final MessageProperties messageProperties = new MessageProperties();
+		messageProperties.setContentType("application/unknown");
+		messageProperties.setHeader("metasfresh-events.SenderId", "sender");
+		messageProperties.setHeader("metasfresh-events.TopicName", TOPIC_NAME);
+		messageProperties.setHeader("metasfresh-events.BatchSize", 1);
+		final Message message = new Message("garbage".getBytes(UTF_8), messageProperties);
+
+		assertThatThrownBy(() -> receiver.onRemoteMessage(message))
+				.isInstanceOf(AmqpRejectAndDontRequeueException.class)
+				.hasMessageContaining("Failed reading events from message");
+		assertThat(receivedEvents).isEmpty();
+	}
+
+	@Test
+	public void shutdown_flushesPendingBatches()
+	{
+		setSysConfig("de.metas.event.remote.RabbitMQEventBusRemoteEndpoint.BatchWindowMillis", "60000");
+
+		createEvents(2).forEach(event -> sender.sendEvent(TOPIC_NAME, event));
+		sender.shutdown();
+
+		final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+		verify(senderAmqpTemplate).send(Matchers.anyString(), Matchers.anyString(), messageCaptor.capture());
+
+		receiver.onRemoteMessage(messageCaptor.getValue());
+		assertThat(summaries(receivedEvents)).containsExactly("summary1", "summary2");
+	}
+
+	@Test
+	public void batched_sendFailureIsRetried()
+	{
+		setSysConfig("de.metas.event.remote.RabbitMQEventBusRemoteEndpoint.BatchWindowMillis", "10");
+		doThrow(new RuntimeException("broker not reachable"))
+				.doNothing()
+				.when(senderAmqpTemplate).send(Matchers.anyString(), Matchers.anyString(), Matchers.any(Message.class));
+
+		sender.sendEvent(TOPIC_NAME, createEvents(1).get(0));
+
+		final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+		verify(senderAmqpTemplate, timeout(5000).times(2)).send(Matchers.anyString(), Matchers.anyString(), messageCaptor.capture());
+
+		receiver.onRemoteMessage(messageCaptor.getValue());
+		assertThat(summaries(receivedEvents)).containsExactly("summary1");
+	}
+}
@@ -34,6 +34,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -213,4 +215,42 @@ public class FileImportReaderTest
 		assertTrue(lines.get(1).endsWith("90"));
 		assertTrue(lines.get(2).endsWith("100"));
 	}
+
+	@Test
+	public void streamMultiLines_sameAsReadMultiLines() throws IOException
+	{
+		for (final String fileName : Arrays.asList("multiplelines.csv", "OnlyAppendIfInQuotesPreserveFirstLine.csv", "NumberOfEmptyLinesIsPreserved.csv", "evenNumberOfQuotes.csv"))
+		{
+			final URL url = getClass().getResource(packagePath + "/" + fileName);
+			assertNotNull("url null", url);
+			final File file = FileUtils.toFile(url);
+
+			final Charset charset = StandardCharsets.UTF_8;
+			final List<String> expectedLines = FileImportReader.readMultiLines(file, charset);
+
+			try (final Stream<String> stream = FileImportReader.streamMultiLines(url.openStream(), charset))
+			{
+				Assertions.assertThat(stream.collect(Collectors.toList()))
+						.as(fileName)
+						.containsExactlyElementsOf(expectedLines);
+			}
+		}
+	}
+
+	@Test
+	public void streamRegularLines_sameAsReadRegularLines() throws IOException
+	{
+		final URL url = getClass().getResource(packagePath + "/regularlines.csv");
+		assertNotNull("url null", url);
+		final File file = FileUtils.toFile(url);
+
+		final Charset charset = StandardCharsets.UTF_8;
+		final List<String> expectedLines = FileImportReader.readRegularLines(file, charset);
+
+		try (final Stream<String> stream = FileImportReader.streamRegularLines(url.openStream(), charset))
+		{
+			Assertions.assertThat(stream.collect(Collectors.toList()))
+					.containsExactlyElementsOf(expectedLines);
+		}
+	}
 }
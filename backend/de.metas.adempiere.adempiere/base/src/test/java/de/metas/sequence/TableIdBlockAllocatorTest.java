@@ -0,0 +1,112 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.sequence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.adempiere.service.ClientId;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.test.AdempiereTestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.metas.organization.OrgId;
+import de.metas.sequence.TableIdBlockAllocator.IdBlock;
+import de.metas.sequence.TableIdBlockAllocator.TableIdBlockStats;
+import de.metas.util.Services;
+
+class TableIdBlockAllocatorTest
+{
+	private ISysConfigBL sysConfigBL;
+
+	/** simulates AD_Sequence.CurrentNext */
+	private int currentNext;
+	private final List<String> reservedBlocks = new ArrayList<>();
+
+	private TableIdBlockAllocator allocator;
+
+	@BeforeEach
+	void beforeEach()
+	{
+		AdempiereTestHelper.get().init();
+		sysConfigBL = Services.get(ISysConfigBL.class);
+
+		currentNext = 1000000;
+		reservedBlocks.clear();
+		allocator = new TableIdBlockAllocator(this::reserveBlock);
+	}
+
+	private IdBlock reserveBlock(final String tableName, final int blockSize)
+	{
+		final IdBlock block = IdBlock.builder().firstId(currentNext).incrementNo(1).size(blockSize).build();
+		currentNext += blockSize;
+		reservedBlocks.add(tableName + "/" + blockSize);
+		return block;
+	}
+
+	@Test
+	void handsOutConsecutiveIdsAndReservesOnlyWhenExhausted()
+	{
+		sysConfigBL.setValue(TableIdBlockAllocator.SYSCONFIG_BlockSize, 3, ClientId.SYSTEM, OrgId.ANY);
+
+		final List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < 7; i++)
+		{
+			ids.add(allocator.nextId("C_Invoice_Candidate"));
+		}
+
+		assertThat(ids).containsExactly(1000000, 1000001, 1000002, 1000003, 1000004, 1000005, 1000006);
+		assertThat(reservedBlocks).containsExactly("C_Invoice_Candidate/3", "C_Invoice_Candidate/3", "C_Invoice_Candidate/3");
+
+		final TableIdBlockStats stats = allocator.getStats().get(0);
+		assertThat(stats.getBlocksReserved()).isEqualTo(3);
+		assertThat(stats.getIdsAllocated()).isEqualTo(7);
+		assertThat(stats.getIdsRemaining()).isEqualTo(2);
+	}
+
+	@Test
+	void blockSizePerTable()
+	{
+		sysConfigBL.setValue(TableIdBlockAllocator.SYSCONFIG_BlockSize, 10, ClientId.SYSTEM, OrgId.ANY);
+		sysConfigBL.setValue(TableIdBlockAllocator.SYSCONFIG_BlockSize + ".Fact_Acct", 500, ClientId.SYSTEM, OrgId.ANY);
+
+		assertThat(allocator.getBlockSize("Fact_Acct")).isEqualTo(500);
+		assertThat(allocator.getBlockSize("MD_Candidate")).isEqualTo(10);
+	}
+
+	@Test
+	void discardAllBlocks()
+	{
+		sysConfigBL.setValue(TableIdBlockAllocator.SYSCONFIG_BlockSize, 5, ClientId.SYSTEM, OrgId.ANY);
+
+		assertThat(allocator.nextId("M_HU_Trx_Line")).isEqualTo(1000000);
+		assertThat(allocator.nextId("MD_Candidate")).isEqualTo(1000005);
+
+		assertThat(allocator.discardAllBlocks()).isEqualTo(8);
+
+		assertThat(allocator.nextId("M_HU_Trx_Line")).isEqualTo(1000010);
+	}
+}
@@ -0,0 +1,50 @@
+package org.adempiere.ad.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+class KeysetPagingOrderByTest
+{
+	@Test
+	void ascending()
+	{
+		final KeysetPagingOrderBy orderBy = new KeysetPagingOrderBy("C_Invoice_Candidate", ImmutableList.of("DeliveryDate", "C_Invoice_Candidate_ID"), false);
+
+		assertThat(orderBy.getOrderBySql()).isEqualTo("C_Invoice_Candidate.DeliveryDate, C_Invoice_Candidate.C_Invoice_Candidate_ID");
+		assertThat(orderBy.getSeekWhereClause()).isEqualTo("(C_Invoice_Candidate.DeliveryDate, C_Invoice_Candidate.C_Invoice_Candidate_ID) > (?, ?)");
+	}
+
+	@Test
+	void descending()
+	{
+		final KeysetPagingOrderBy orderBy = new KeysetPagingOrderBy("M_ShipmentSchedule", ImmutableList.of("M_ShipmentSchedule_ID"), true);
+
+		assertThat(orderBy.getOrderBySql()).isEqualTo("M_ShipmentSchedule.M_ShipmentSchedule_ID DESC");
+		assertThat(orderBy.getSeekWhereClause()).isEqualTo("(M_ShipmentSchedule.M_ShipmentSchedule_ID) < (?)");
+	}
+}
@@ -0,0 +1,136 @@
+package org.adempiere.ad.dao.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.test.AdempiereTestHelper;
+import org.compiere.model.I_AD_Table;
+import org.compiere.util.Env;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+class POBufferedIteratorTest
+{
+	private static final Comparator<I_AD_Table> ORDERING = Comparator.comparing(I_AD_Table::getTableName).thenComparing(I_AD_Table::getAD_Table_ID);
+
+	private List<I_AD_Table> records;
+	private List<String> pageWhereClauses;
+
+	@BeforeEach
+	void init()
+	{
+		AdempiereTestHelper.get().init();
+		records = new ArrayList<>();
+		pageWhereClauses = new ArrayList<>();
+	}
+
+	private void createRecord(final String tableName)
+	{
+		final I_AD_Table record = InterfaceWrapperHelper.newInstance(I_AD_Table.class);
+		record.setTableName(tableName);
+		InterfaceWrapperHelper.saveRecord(record);
+		records.add(record);
+	}
+
+	/**
+	 * Simulates the database: returns the records after the seek values (if any), in keyset order, at most one page.
+	 */
+	private List<I_AD_Table> loadPage(final TypedSqlQuery<I_AD_Table> pageQuery, final int bufferSize)
+	{
+		pageWhereClauses.add(pageQuery.getWhereClause());
+
+		final List<Object> seekValues = pageQuery.getParametersEffective();
+		return records.stream()
+				.filter(record -> seekValues.isEmpty()
+						|| record.getTableName().compareTo((String)seekValues.get(0)) > 0
+						|| record.getTableName().equals(seekValues.get(0)) && record.getAD_Table_ID() > (Integer)seekValues.get(1))
+				.sorted(ORDERING)
+				.limit(bufferSize)
+				.collect(Collectors.toList());
+	}
+
+	private List<I_AD_Table> iterateAll(final int bufferSize)
+	{
+		final TypedSqlQuery<I_AD_Table> query = new TypedSqlQuery<>(Env.getCtx(), I_AD_Table.class, "IsActive='Y'", ITrx.TRXNAME_None);
+		final KeysetPagingOrderBy keysetOrderBy = new KeysetPagingOrderBy(I_AD_Table.Table_Name, ImmutableList.of(I_AD_Table.COLUMNNAME_TableName, I_AD_Table.COLUMNNAME_AD_Table_ID), false);
+		final POBufferedIterator<I_AD_Table, I_AD_Table> iterator = new POBufferedIterator<>(query, keysetOrderBy, bufferSize, pageQuery -> loadPage(pageQuery, bufferSize));
+
+		final List<I_AD_Table> result = new ArrayList<>();
+		iterator.forEachRemaining(result::add);
+		return result;
+	}
+
+	@Test
+	void pageBoundaryBetweenEqualSortValues()
+	{
+		createRecord("A");
+		createRecord("A");
+		createRecord("B");
+		createRecord("B");
+		createRecord("B");
+		createRecord("C");
+		createRecord("C");
+
+		final List<I_AD_Table> result = iterateAll(3);
+
+		assertThat(result).containsExactlyElementsOf(records.stream().sorted(ORDERING).collect(Collectors.toList()));
+		assertThat(pageWhereClauses).containsExactly(
+				"IsActive='Y'",
+				"(IsActive='Y') AND ((AD_Table.TableName, AD_Table.AD_Table_ID) > (?, ?))",
+				"(IsActive='Y') AND ((AD_Table.TableName, AD_Table.AD_Table_ID) > (?, ?))");
+	}
+
+	@Test
+	void recordCountIsMultipleOfBufferSize()
+	{
+		createRecord("B");
+		createRecord("A");
+		createRecord("C");
+		createRecord("A");
+
+		final List<I_AD_Table> result = iterateAll(2);
+
+		assertThat(result).containsExactlyElementsOf(records.stream().sorted(ORDERING).collect(Collectors.toList()));
+		assertThat(pageWhereClauses).hasSize(3); // the last page is empty
+	}
+
+	@Test
+	void customFromClauseIsNotSelectingFromTableOnly()
+	{
+		final TypedSqlQuery<I_AD_Table> query = new TypedSqlQuery<>(Env.getCtx(), I_AD_Table.class, "IsActive='Y'", ITrx.TRXNAME_None);
+		assertThat(query.isSelectingFromTableOnly()).isTrue();
+
+		query.setSqlFrom("AD_Table t INNER JOIN AD_Column c ON (c.AD_Table_ID=t.AD_Table_ID)");
+		assertThat(query.isSelectingFromTableOnly()).isFalse();
+	}
+}
@@ -0,0 +1,114 @@
+package org.adempiere.ad.modelvalidator.impl;
+
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.adempiere.ad.modelvalidator.AbstractModelInterceptor;
+import org.adempiere.ad.modelvalidator.IModelValidationEngine;
+import org.adempiere.ad.modelvalidator.ModelInterceptor2ModelValidatorWrapper;
+import org.compiere.model.I_AD_Client;
+import org.compiere.model.ModelValidator;
+import org.junit.jupiter.api.Test;
+
+public class ModelInterceptorsDispatchTableTest
+{
+	private final ModelInterceptorsStatistics statistics = new ModelInterceptorsStatistics();
+
+	private static ModelValidator newInterceptor()
+	{
+		return ModelInterceptor2ModelValidatorWrapper.wrapIfNeeded(new AbstractModelInterceptor()
+		{
+			@Override
+			protected void onInit(final IModelValidationEngine engine, final I_AD_Client client)
+			{
+			}
+		});
+	}
+
+	private ModelInterceptorStats stats(final ModelValidator interceptor)
+	{
+		return statistics.getOrCreate(ModelInterceptorsStatistics.EVENTTYPE_ModelChange, interceptor);
+	}
+
+	@Test
+	public void withInterceptor_keepsRegistrationOrder_and_ignoresDuplicates()
+	{
+		final ModelValidator interceptor1 = newInterceptor();
+		final ModelValidator interceptor2 = newInterceptor();
+
+		ModelInterceptorsDispatchTable table = ModelInterceptorsDispatchTable.EMPTY
+				.withInterceptor("C_Order", true, interceptor1, stats(interceptor1))
+				.withInterceptor("C_Order", true, interceptor2, stats(interceptor2));
+		final ModelInterceptorsDispatchTable tableBeforeDuplicate = table;
+		table = table.withInterceptor("C_Order", true, interceptor1, stats(interceptor1));
+
+		assertThat(table).isSameAs(tableBeforeDuplicate);
+		assertThat(table.getGlobalInterceptors("C_Order"))
+				.extracting(ModelInterceptorsDispatchTable.Entry::getInterceptor)
+				.containsExactly(interceptor1, interceptor2);
+		assertThat(table.getGlobalInterceptors("C_OrderLine")).isEmpty();
+		assertThat(table.getClientInterceptors("C_Order", 1000000)).isEmpty();
+	}
+
+	@Test
+	public void withoutInterceptor_doesNotChangeThePreviousTable()
+	{
+		final ModelValidator interceptor1 = newInterceptor();
+		final ModelValidator interceptor2 = newInterceptor();
+
+		final ModelInterceptorsDispatchTable table = ModelInterceptorsDispatchTable.EMPTY
+				.withInterceptor("C_Order", true, interceptor1, stats(interceptor1))
+				.withInterceptor("C_Order", true, interceptor2, stats(interceptor2));
+
+		final ModelInterceptorsDispatchTable tableWithoutInterceptor1 = table.withoutInterceptor("C_Order", true, interceptor1);
+		assertThat(tableWithoutInterceptor1.getGlobalInterceptors("C_Order"))
+				.extracting(ModelInterceptorsDispatchTable.Entry::getInterceptor)
+				.containsExactly(interceptor2);
+		assertThat(table.getGlobalInterceptors("C_Order")).hasSize(2);
+
+		final ModelInterceptorsDispatchTable emptyTable = tableWithoutInterceptor1.withoutInterceptor("C_Order", true, interceptor2);
+		assertThat(emptyTable.isEmpty()).isTrue();
+		assertThat(emptyTable.size()).isZero();
+	}
+
+	@Test
+	public void stats_record()
+	{
+		final ModelValidator interceptor = newInterceptor();
+		final ModelInterceptorStats stats = stats(interceptor);
+		assertThat(stats(interceptor)).isSameAs(stats);
+
+		stats.record(2_000_000, false);
+		stats.record(5_000_000, true);
+
+		assertThat(stats.getInvocations()).isEqualTo(2);
+		assertThat(stats.getTotalNanos()).isEqualTo(7_000_000);
+		assertThat(stats.getMaxNanos()).isEqualTo(5_000_000);
+		assertThat(statistics.getTopByTotalTime(10)).containsExactly(stats);
+		assertThat(stats.toSummaryString()).contains("invocations=2", "failures=1", "<10ms=2");
+
+		statistics.reset();
+		assertThat(stats.getInvocations()).isZero();
+		assertThat(statistics.getTopByTotalTime(10)).isEmpty();
+	}
+}
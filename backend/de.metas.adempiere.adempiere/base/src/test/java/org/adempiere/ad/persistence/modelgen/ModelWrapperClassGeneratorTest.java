@@ -0,0 +1,98 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.adempiere.ad.persistence.modelgen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.adempiere.model.ModelWrapperClassRegistry;
+import org.compiere.model.I_C_UOM;
+import org.compiere.model.I_Test_GeneratedModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ModelWrapperClassGeneratorTest
+{
+	@Test
+	public void generateForModelInterface()
+	{
+		final String source = ModelWrapperClassGenerator.generate(I_C_UOM.class).orElse(null);
+
+		assertThat(source)
+				.contains("package org.compiere.model;")
+				.contains("public final class POWrapper_I_C_UOM extends org.adempiere.model.AbstractPOWrapperModel implements org.compiere.model.I_C_UOM")
+				.contains("public POWrapper_I_C_UOM(final org.adempiere.model.POWrapper wrapper)")
+				.contains("private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName(\"C_UOM_ID\");")
+				.contains("return getValueAsInt(COLUMNREF_C_UOM_ID);")
+				.contains("setValue(\"C_UOM_ID\", C_UOM_ID);")
+				.contains("private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty(\"Active\");")
+				.contains("return getValueAsBoolean(BOOLEANREF_Active);");
+	}
+
+	@Test
+	public void interfaceWithoutTableName()
+	{
+		assertThat(ModelWrapperClassGenerator.generate(Runnable.class)).isEmpty();
+	}
+
+	/**
+	 * The generated classes are part of the sources, so they have to be regenerated (see {@link ModelWrapperClassGenerator#main(String[])}) whenever their model interface changes.
+	 */
+	@ParameterizedTest
+	@ValueSource(classes = {
+			de.metas.adempiere.model.I_AD_User.class,
+			de.metas.adempiere.model.I_C_Invoice.class,
+			de.metas.adempiere.model.I_C_Order.class,
+			de.metas.adempiere.model.I_M_Product.class,
+			de.metas.interfaces.I_C_BPartner.class,
+			de.metas.interfaces.I_C_OrderLine.class })
+	public void generatedClassIsUpToDate(final Class<?> interfaceClass) throws IOException
+	{
+		assertGeneratedClassIsUpToDate(interfaceClass, new File("src/main/java-gen"));
+	}
+
+	@Test
+	public void generatedTestClassIsUpToDate() throws IOException
+	{
+		assertGeneratedClassIsUpToDate(I_Test_GeneratedModel.class, new File("src/test/java"));
+	}
+
+	/**
+	 * @param sourceDirectory source directory of the generated class, relative to the module's directory
+	 */
+	public static void assertGeneratedClassIsUpToDate(final Class<?> interfaceClass, final File sourceDirectory) throws IOException
+	{
+		final File file = new File(sourceDirectory, ModelWrapperClassRegistry.getGeneratedClassName(interfaceClass).replace('.', File.separatorChar) + ".java");
+		assertThat(file).as("generated class for %s", interfaceClass).exists();
+
+		final String source = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		assertThat(ModelWrapperClassGenerator.generate(interfaceClass))
+				.as("generated class for %s shall be regenerated", interfaceClass)
+				.contains(source);
+	}
+}
@@ -35,6 +35,7 @@ import org.adempiere.ad.trx.api.ITrxRunConfig.OnRunnableSuccess;
 import org.adempiere.ad.trx.api.ITrxRunConfig.TrxPropagation;
 import org.adempiere.ad.trx.api.ITrxSavepoint;
 import org.adempiere.ad.trx.api.OnTrxMissingPolicy;
+import org.adempiere.ad.trx.api.TrxManagerStatistics;
 import org.adempiere.ad.trx.exceptions.IllegalTrxRunStateException;
 import org.adempiere.ad.trx.exceptions.TrxNotFoundException;
 import org.adempiere.exceptions.AdempiereException;
@@ -120,6 +121,38 @@ public class TrxManagerTest
 		assertInActiveTransactionList(trx, true); // still in active trx list; only close() will take it out
 	}
 
+	@Test
+	public void test_statistics() throws Exception
+	{
+		final TrxManagerStatistics statistics = trxManager.getStatistics();
+
+		final ITrx trx1 = trxManager.get("Test1", OnTrxMissingPolicy.CreateNew);
+		assertThat(trxManager.get("Test1", OnTrxMissingPolicy.CreateNew)).isSameAs(trx1);
+		trx1.start();
+		trx1.commit(true);
+
+		final ITrx trx2 = trxManager.get("Test2", OnTrxMissingPolicy.CreateNew);
+		trx2.start();
+		trx2.rollback(true);
+
+		assertThat(statistics.getCountCreated()).isEqualTo(2);
+		assertThat(statistics.getCountOpen()).isEqualTo(2);
+		assertThat(statistics.getCountCommitted()).isEqualTo(1);
+		assertThat(statistics.getCountRolledBack()).isEqualTo(1);
+
+		trx1.close();
+		trx2.close();
+		trx2.close(); // closing twice shall not be counted twice
+
+		assertThat(statistics.getCountOpen()).isZero();
+		assertThat(statistics.getCountClosed()).isEqualTo(2);
+		assertThat(statistics.getLifetimeHistogram()).hasSize(6).first().asString().startsWith("0-10ms: ");
+
+		statistics.reset();
+		assertThat(statistics.getCountCreated()).isZero();
+		assertThat(statistics.getCountClosed()).isZero();
+	}
+
 	@Test
 	public void test_Start_Close()
 	{
@@ -0,0 +1,76 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.compiere.model;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * Model interface used to check the generated {@link POWrapper_I_Test_GeneratedModel} against the dynamic proxy.
+ */
+public interface I_Test_GeneratedModel
+{
+	//@formatter:off
+	String Table_Name = "Test_GeneratedModel";
+
+	String COLUMNNAME_Test_GeneratedModel_ID = "Test_GeneratedModel_ID";
+	int getTest_GeneratedModel_ID();
+	void setTest_GeneratedModel_ID(int Test_GeneratedModel_ID);
+
+	String COLUMNNAME_AD_Client_ID = "AD_Client_ID";
+	int getAD_Client_ID();
+
+	String COLUMNNAME_AD_Org_ID = "AD_Org_ID";
+	int getAD_Org_ID();
+	void setAD_Org_ID(int AD_Org_ID);
+
+	String COLUMNNAME_IsActive = "IsActive";
+	boolean isActive();
+	void setIsActive(boolean IsActive);
+
+	String COLUMNNAME_Name = "Name";
+	String getName();
+	void setName(String Name);
+
+	String COLUMNNAME_Qty = "Qty";
+	BigDecimal getQty();
+	void setQty(BigDecimal Qty);
+
+	String COLUMNNAME_C_UOM_ID = "C_UOM_ID";
+	int getC_UOM_ID();
+	void setC_UOM_ID(int C_UOM_ID);
+	I_C_UOM getC_UOM();
+	void setC_UOM(I_C_UOM C_UOM);
+
+	String COLUMNNAME_DateTrx = "DateTrx";
+	Timestamp getDateTrx();
+	void setDateTrx(Timestamp DateTrx);
+
+	String COLUMNNAME_Processed = "Processed";
+	boolean isProcessed();
+	void setProcessed(boolean Processed);
+
+	/** There is no such column, so the default value is returned */
+	int getNotExisting_ID();
+	//@formatter:on
+}
@@ -0,0 +1,161 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package org.compiere.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ImmutableList;
+
+public class POInfoSnapshotTest
+{
+	@TempDir
+	File tempDir;
+
+	private static POInfoLoader.TableRecord tableRecord()
+	{
+		return POInfoLoader.TableRecord.builder()
+				.adTableId(146)
+				.tableName("C_UOM")
+				.accessLevel("6")
+				.view(false)
+				.changeLog(true)
+				.column(POInfoLoader.ColumnRecord.builder()
+						.adColumnId(1)
+						.columnName("C_UOM_ID")
+						.adReferenceId(13)
+						.mandatory(true)
+						.key(true)
+						.name("UOM")
+						.fieldLength(10)
+						.build())
+				.column(POInfoLoader.ColumnRecord.builder()
+						.adColumnId(2)
+						.columnName("Name")
+						.adReferenceId(10)
+						.updateable(true)
+						.defaultLogic("@Name@")
+						.name("Name")
+						.description("Näme ✓")
+						.fieldLength(60)
+						.valueMin("1")
+						.translated(true)
+						.allowLogging(true)
+						.selectionColumn(true)
+						.build())
+				.build();
+	}
+
+	@Test
+	public void writeAndRead() throws IOException
+	{
+		final File file = new File(tempDir, "poinfo.snapshot");
+		final List<POInfoLoader.TableRecord> tables = ImmutableList.of(tableRecord());
+
+		POInfoSnapshot.write(file, "checksum1", tables);
+
+		assertThat(POInfoSnapshot.readIfChecksumMatches(file, "checksum1")).isEqualTo(tables);
+	}
+
+	@Test
+	public void staleSnapshotIsIgnored() throws IOException
+	{
+		final File file = new File(tempDir, "poinfo.snapshot");
+		POInfoSnapshot.write(file, "checksum1", ImmutableList.of(tableRecord()));
+
+		assertThat(POInfoSnapshot.readIfChecksumMatches(file, "checksum2")).isNull();
+	}
+
+	/**
+	 * Changes one column property at a time, like IsMandatory, ColumnSQL or FieldLength, and makes sure the snapshot of the original data is not used anymore.
+	 */
+	@Nested
+	public class changedColumnInvalidatesSnapshot
+	{
+		private File file;
+
+		@BeforeEach
+		public void writeSnapshot() throws IOException
+		{
+			file = new File(tempDir, "poinfo.snapshot");
+			final List<POInfoLoader.TableRecord> tables = ImmutableList.of(tableRecord());
+			POInfoSnapshot.write(file, POInfoSnapshot.computeChecksum(tables), tables);
+		}
+
+		private void assertSnapshotIsStale(final UnaryOperator<POInfoLoader.ColumnRecord.ColumnRecordBuilder> columnChange) throws IOException
+		{
+			final POInfoLoader.TableRecord table = tableRecord();
+			final POInfoLoader.ColumnRecord nameColumn = table.getColumns().get(1);
+			final POInfoLoader.TableRecord changedTable = table.toBuilder()
+					.clearColumns()
+					.column(table.getColumns().get(0))
+					.column(columnChange.apply(nameColumn.toBuilder()).build())
+					.build();
+			assertThat(changedTable).isNotEqualTo(table);
+
+			final String currentChecksum = POInfoSnapshot.computeChecksum(ImmutableList.of(changedTable));
+
+			assertThat(POInfoSnapshot.readIfChecksumMatches(file, currentChecksum)).isNull();
+		}
+
+		@Test
+		public void unchanged() throws IOException
+		{
+			final String currentChecksum = POInfoSnapshot.computeChecksum(ImmutableList.of(tableRecord()));
+
+			assertThat(POInfoSnapshot.readIfChecksumMatches(file, currentChecksum)).containsExactly(tableRecord());
+		}
+
+		@Test
+		public void mandatory() throws IOException
+		{
+			assertSnapshotIsStale(column -> column.mandatory(true));
+		}
+
+		@Test
+		public void columnSQL() throws IOException
+		{
+			assertSnapshotIsStale(column -> column.columnSQL("(SELECT 1)"));
+		}
+
+		@Test
+		public void fieldLength() throws IOException
+		{
+			assertSnapshotIsStale(column -> column.fieldLength(61));
+		}
+
+		@Test
+		public void valueMaxFromNullToEmpty() throws IOException
+		{
+			assertSnapshotIsStale(column -> column.valueMax(""));
+		}
+	}
+}
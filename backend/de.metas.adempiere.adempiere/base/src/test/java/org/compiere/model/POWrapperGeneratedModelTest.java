@@ -0,0 +1,208 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package org.compiere.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.adempiere.model.GenericPO;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.model.POWrapper;
+import org.adempiere.test.AdempiereTestHelper;
+import org.compiere.util.DisplayType;
+import org.compiere.util.Env;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Makes sure the generated model classes are behaving like the dynamic proxies created by {@link POWrapper}.
+ */
+public class POWrapperGeneratedModelTest
+{
+	/** Same as {@link I_Test_GeneratedModel}, but there is no generated class for it, so {@link POWrapper} is creating a proxy. */
+	public interface I_Test_GeneratedModel_Proxied extends I_Test_GeneratedModel
+	{
+	}
+
+	private static final Timestamp DATE_TRX = Timestamp.valueOf("2021-03-04 10:11:12");
+
+	private PO po;
+	private I_Test_GeneratedModel generated;
+	private I_Test_GeneratedModel proxied;
+
+	@BeforeEach
+	public void init()
+	{
+		AdempiereTestHelper.get().init();
+		POInfo.putAllToCache(ImmutableList.of(tableRecord()));
+
+		po = new GenericPO(I_Test_GeneratedModel.Table_Name, Env.getCtx(), 0);
+		generated = POWrapper.create(po, I_Test_GeneratedModel.class);
+		proxied = POWrapper.create(po, I_Test_GeneratedModel_Proxied.class);
+	}
+
+	private static POInfoLoader.TableRecord tableRecord()
+	{
+		return POInfoLoader.TableRecord.builder()
+				.adTableId(540999)
+				.tableName(I_Test_GeneratedModel.Table_Name)
+				.accessLevel("3")
+				.column(column(1, I_Test_GeneratedModel.COLUMNNAME_Test_GeneratedModel_ID, DisplayType.ID).key(true).build())
+				.column(column(2, I_Test_GeneratedModel.COLUMNNAME_AD_Client_ID, DisplayType.TableDir).build())
+				.column(column(3, I_Test_GeneratedModel.COLUMNNAME_AD_Org_ID, DisplayType.TableDir).updateable(true).build())
+				.column(column(4, I_Test_GeneratedModel.COLUMNNAME_IsActive, DisplayType.YesNo).updateable(true).build())
+				.column(column(5, I_Test_GeneratedModel.COLUMNNAME_Name, DisplayType.String).updateable(true).fieldLength(60).build())
+				.column(column(6, I_Test_GeneratedModel.COLUMNNAME_Qty, DisplayType.Quantity).updateable(true).build())
+				.column(column(7, I_Test_GeneratedModel.COLUMNNAME_C_UOM_ID, DisplayType.TableDir).updateable(true).build())
+				.column(column(8, I_Test_GeneratedModel.COLUMNNAME_DateTrx, DisplayType.DateTime).updateable(true).build())
+				.column(column(9, I_Test_GeneratedModel.COLUMNNAME_Processed, DisplayType.YesNo).updateable(true).build())
+				.build();
+	}
+
+	private static POInfoLoader.ColumnRecord.ColumnRecordBuilder column(final int adColumnId, final String columnName, final int displayType)
+	{
+		return POInfoLoader.ColumnRecord.builder()
+				.adColumnId(adColumnId)
+				.columnName(columnName)
+				.adReferenceId(displayType)
+				.name(columnName);
+	}
+
+	@Test
+	public void generatedClassIsUsed()
+	{
+		assertThat(generated).isInstanceOf(POWrapper_I_Test_GeneratedModel.class);
+		assertThat(Proxy.isProxyClass(proxied.getClass())).isTrue();
+	}
+
+	@Test
+	public void getModel()
+	{
+		final PO generatedPO = POWrapper.getStrictPO(generated);
+		assertThat(generatedPO).isSameAs(po);
+		final PO generatedPO2 = InterfaceWrapperHelper.getPO(generated);
+		assertThat(generatedPO2).isSameAs(po);
+		final PO proxiedPO = POWrapper.getStrictPO(proxied);
+		assertThat(proxiedPO).isSameAs(po);
+
+		assertThat(InterfaceWrapperHelper.create(generated, I_Test_GeneratedModel_Proxied.class)).isEqualTo(proxied);
+		assertThat(generated).isEqualTo(proxied);
+		assertThat(generated.hashCode()).isEqualTo(po.hashCode());
+		assertThat(generated.toString()).isEqualTo(po.toString());
+	}
+
+	@Test
+	public void defaultValues()
+	{
+		assertSameValues();
+
+		assertThat(generated.getTest_GeneratedModel_ID()).isEqualTo(0);
+		assertThat(generated.getName()).isNull();
+		assertThat(generated.getQty()).isEqualByComparingTo(BigDecimal.ZERO);
+		assertThat(generated.isProcessed()).isFalse();
+		assertThat(generated.getNotExisting_ID()).isEqualTo(0);
+		assertThat(proxied.getNotExisting_ID()).isEqualTo(0);
+	}
+
+	@Test
+	public void setViaGenerated_getViaProxy()
+	{
+		generated.setName("name1");
+		generated.setQty(new BigDecimal("12.5"));
+		generated.setC_UOM_ID(100);
+		generated.setDateTrx(DATE_TRX);
+		generated.setIsActive(false);
+		generated.setProcessed(true);
+		generated.setAD_Org_ID(1000001);
+
+		assertThat(proxied.getName()).isEqualTo("name1");
+		assertThat(proxied.getQty()).isEqualByComparingTo("12.5");
+		assertThat(proxied.getC_UOM_ID()).isEqualTo(100);
+		assertThat(proxied.getDateTrx()).isEqualTo(DATE_TRX);
+		assertThat(proxied.isActive()).isFalse();
+		assertThat(proxied.isProcessed()).isTrue();
+		assertThat(proxied.getAD_Org_ID()).isEqualTo(1000001);
+		assertSameValues();
+	}
+
+	@Test
+	public void setViaProxy_getViaGenerated()
+	{
+		proxied.setName("name2");
+		proxied.setQty(new BigDecimal("7"));
+		proxied.setC_UOM_ID(101);
+		proxied.setDateTrx(DATE_TRX);
+		proxied.setProcessed(true);
+
+		assertThat(generated.getName()).isEqualTo("name2");
+		assertThat(generated.getQty()).isEqualByComparingTo("7");
+		assertThat(generated.getC_UOM_ID()).isEqualTo(101);
+		assertThat(generated.getDateTrx()).isEqualTo(DATE_TRX);
+		assertThat(generated.isProcessed()).isTrue();
+		assertSameValues();
+	}
+
+	@Test
+	public void nullsAndZeroIDs()
+	{
+		generated.setC_UOM_ID(100);
+		generated.setName("name1");
+		generated.setQty(BigDecimal.ONE);
+
+		generated.setC_UOM_ID(0);
+		generated.setName(null);
+		generated.setQty(null);
+		assertThat(po.get_Value(I_Test_GeneratedModel.COLUMNNAME_C_UOM_ID)).isNull();
+		assertThat(po.get_Value(I_Test_GeneratedModel.COLUMNNAME_Name)).isNull();
+		assertSameValues();
+
+		proxied.setC_UOM_ID(100);
+		proxied.setC_UOM_ID(0);
+		assertThat(po.get_Value(I_Test_GeneratedModel.COLUMNNAME_C_UOM_ID)).isNull();
+
+		generated.setC_UOM_ID(100);
+		generated.setC_UOM(null);
+		assertThat(po.get_Value(I_Test_GeneratedModel.COLUMNNAME_C_UOM_ID)).isNull();
+		assertThat(generated.getC_UOM()).isNull();
+		assertThat(proxied.getC_UOM()).isNull();
+		assertSameValues();
+	}
+
+	private void assertSameValues()
+	{
+		assertThat(generated.getTest_GeneratedModel_ID()).isEqualTo(proxied.getTest_GeneratedModel_ID());
+		assertThat(generated.getAD_Client_ID()).isEqualTo(proxied.getAD_Client_ID());
+		assertThat(generated.getAD_Org_ID()).isEqualTo(proxied.getAD_Org_ID());
+		assertThat(generated.isActive()).isEqualTo(proxied.isActive());
+		assertThat(generated.getName()).isEqualTo(proxied.getName());
+		assertThat(generated.getQty()).isEqualTo(proxied.getQty());
+		assertThat(generated.getC_UOM_ID()).isEqualTo(proxied.getC_UOM_ID());
+		assertThat(generated.getDateTrx()).isEqualTo(proxied.getDateTrx());
+		assertThat(generated.isProcessed()).isEqualTo(proxied.isProcessed());
+	}
+}
@@ -0,0 +1,143 @@
+package org.compiere.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link org.compiere.model.I_Test_GeneratedModel}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_Test_GeneratedModel extends org.adempiere.model.AbstractPOWrapperModel implements org.compiere.model.I_Test_GeneratedModel
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName("C_UOM_ID");
+	private static final ColumnRef COLUMNREF_DateTrx = ColumnRef.ofColumnName("DateTrx");
+	private static final ColumnRef COLUMNREF_Name = ColumnRef.ofColumnName("Name");
+	private static final ColumnRef COLUMNREF_NotExisting_ID = ColumnRef.ofColumnName("NotExisting_ID");
+	private static final ColumnRef COLUMNREF_Qty = ColumnRef.ofColumnName("Qty");
+	private static final ColumnRef COLUMNREF_Test_GeneratedModel_ID = ColumnRef.ofColumnName("Test_GeneratedModel_ID");
+	private static final ModelRef MODELREF_C_UOM = ModelRef.of(org.compiere.model.I_Test_GeneratedModel.class, "getC_UOM", "C_UOM_ID");
+
+	public POWrapper_I_Test_GeneratedModel(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_UOM getC_UOM()
+	{
+		return getReferencedModel(MODELREF_C_UOM);
+	}
+
+	@Override
+	public int getC_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_UOM_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateTrx()
+	{
+		return getValue(COLUMNREF_DateTrx, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getName()
+	{
+		return getValue(COLUMNREF_Name, java.lang.String.class);
+	}
+
+	@Override
+	public int getNotExisting_ID()
+	{
+		return getValueAsInt(COLUMNREF_NotExisting_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getQty()
+	{
+		return getValue(COLUMNREF_Qty, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public int getTest_GeneratedModel_ID()
+	{
+		return getValueAsInt(COLUMNREF_Test_GeneratedModel_ID);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setC_UOM(final org.compiere.model.I_C_UOM C_UOM)
+	{
+		setValueFromPO("C_UOM_ID", org.compiere.model.I_C_UOM.class, C_UOM);
+	}
+
+	@Override
+	public void setC_UOM_ID(final int C_UOM_ID)
+	{
+		setValue("C_UOM_ID", C_UOM_ID);
+	}
+
+	@Override
+	public void setDateTrx(final java.sql.Timestamp DateTrx)
+	{
+		setValue("DateTrx", DateTrx);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setName(final java.lang.String Name)
+	{
+		setValue("Name", Name);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setQty(final java.math.BigDecimal Qty)
+	{
+		setValue("Qty", Qty);
+	}
+
+	@Override
+	public void setTest_GeneratedModel_ID(final int Test_GeneratedModel_ID)
+	{
+		setValue("Test_GeneratedModel_ID", Test_GeneratedModel_ID);
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * #%L
+ * de.metas.adempiere.adempiere.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package org.compiere.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.adempiere.ad.trx.api.ITrxManager;
+import org.adempiere.ad.trx.api.ITrxSavepoint;
+import org.adempiere.test.AdempiereTestHelper;
+import org.adempiere.util.lang.IAutoCloseable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import de.metas.util.Services;
+
+/**
+ * Tests the batch save scope of {@link Trx}, using a mocked JDBC connection which records the executed batches.
+ */
+public class TrxBatchSaveScopeTest
+{
+	private Connection connection;
+	private Savepoint jdbcSavepoint;
+	private List<List<String>> executedBatches;
+	private Trx trx;
+
+	@BeforeEach
+	public void init() throws SQLException
+	{
+		AdempiereTestHelper.get().init();
+
+		executedBatches = new ArrayList<>();
+		jdbcSavepoint = mock(Savepoint.class);
+
+		connection = mock(Connection.class);
+		when(connection.createStatement()).thenAnswer(invocation -> createStatement());
+		when(connection.setSavepoint()).thenReturn(jdbcSavepoint);
+		when(connection.setSavepoint(anyString())).thenReturn(jdbcSavepoint);
+
+		final ITrxManager trxManager = Services.get(ITrxManager.class);
+		trx = new Trx(trxManager, trxManager.createTrxName("TrxBatchSaveScopeTest"), connection, false);
+		trx.start();
+	}
+
+	private Statement createStatement() throws SQLException
+	{
+		final List<String> batch = new ArrayList<>();
+
+		final Statement statement = mock(Statement.class);
+		doAnswer(invocation -> batch.add(invocation.getArgument(0))).when(statement).addBatch(anyString());
+		when(statement.executeBatch()).thenAnswer(invocation -> {
+			executedBatches.add(ImmutableList.copyOf(batch));
+			final int[] updateCounts = new int[batch.size()];
+			Arrays.fill(updateCounts, 1);
+			batch.clear();
+			return updateCounts;
+		});
+		return statement;
+	}
+
+	@Test
+	public void notInScope()
+	{
+		assertThat(trx.isBatchSaveScope()).isFalse();
+	}
+
+	@Test
+	public void flushOnScopeEnd()
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+			trx.addBatchedInsert("INSERT 2");
+			assertThat(executedBatches).isEmpty();
+		}
+
+		assertThat(trx.isBatchSaveScope()).isFalse();
+		assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1", "INSERT 2"));
+	}
+
+	@Test
+	public void flushOnGetConnection()
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+
+			assertThat(trx.getConnection()).isSameAs(connection);
+			assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1"));
+
+			trx.addBatchedInsert("INSERT 2");
+		}
+
+		assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1"), ImmutableList.of("INSERT 2"));
+	}
+
+	@Test
+	public void flushOnCommit() throws SQLException
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+
+			trx.commit(true);
+
+			assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1"));
+		}
+
+		assertThat(executedBatches).hasSize(1);
+		verify(connection).commit();
+	}
+
+	@Test
+	public void flushOnSavepoint()
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+
+			final ITrxSavepoint savepoint = trx.createTrxSavepoint(null);
+
+			assertThat(savepoint).isNotNull();
+			assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1"));
+		}
+	}
+
+	@Test
+	public void discardOnRollback() throws SQLException
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+
+			trx.rollback(true);
+		}
+
+		assertThat(executedBatches).isEmpty();
+	}
+
+	@Test
+	public void discardOnRollbackToSavepoint() throws SQLException
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+			final ITrxSavepoint savepoint = trx.createTrxSavepoint(null);
+			trx.addBatchedInsert("INSERT 2");
+
+			trx.rollback(savepoint);
+		}
+
+		assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1"));
+		verify(connection).rollback(jdbcSavepoint);
+	}
+
+	@Test
+	public void nestedScopes()
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			trx.addBatchedInsert("INSERT 1");
+
+			try (final IAutoCloseable ignored2 = trx.startBatchSaveScope())
+			{
+				trx.addBatchedInsert("INSERT 2");
+			}
+
+			// the inner scope's end does not flush
+			assertThat(trx.isBatchSaveScope()).isTrue();
+			assertThat(executedBatches).isEmpty();
+
+			trx.addBatchedInsert("INSERT 3");
+		}
+
+		assertThat(trx.isBatchSaveScope()).isFalse();
+		assertThat(executedBatches).containsExactly(ImmutableList.of("INSERT 1", "INSERT 2", "INSERT 3"));
+	}
+
+	@Test
+	public void closingScopeTwiceDoesNotEndTheOuterScope()
+	{
+		try (final IAutoCloseable ignored = trx.startBatchSaveScope())
+		{
+			final IAutoCloseable innerScope = trx.startBatchSaveScope();
+			innerScope.close();
+			innerScope.close();
+
+			assertThat(trx.isBatchSaveScope()).isTrue();
+		}
+
+		assertThat(trx.isBatchSaveScope()).isFalse();
+	}
+}
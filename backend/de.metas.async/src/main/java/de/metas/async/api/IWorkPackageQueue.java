@@ -94,6 +94,16 @@ public interface IWorkPackageQueue
 	 */
 	void unlock(I_C_Queue_WorkPackage workPackage) throws UnlockFailedException;
 
+	/**
+	 * Unlocks the packages which were already locked by this queue but not yet returned by {@link #pollAndLock(long)}.
+	 *
+	 * Any unlock exceptions will be logged but not propagated.
+	 */
+	default void unlockPrefetchedNoFail()
+	{
+		// nothing to do by default, because packages are locked one by one
+	}
+
 	/**
 	 * Unlocks given package.
 	 *
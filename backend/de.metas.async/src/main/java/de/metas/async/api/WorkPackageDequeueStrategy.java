@@ -0,0 +1,73 @@
+package de.metas.async.api;
+
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+import javax.annotation.Nullable;
+
+import de.metas.async.model.I_C_Queue_Processor;
+import de.metas.async.model.I_C_Queue_WorkPackage;
+
+/**
+ * How an {@link IWorkPackageQueue} claims the next {@link I_C_Queue_WorkPackage}s when polling.
+ * <p>
+ * Configured per {@link I_C_Queue_Processor} via AD_SysConfig, see {@link #SYSCONFIG_DequeueStrategy}.
+ */
+public enum WorkPackageDequeueStrategy
+{
+	/**
+	 * Select the next package and lock it; retry if another client locked it in the meantime.
+	 * Polling is serialized within the queue.
+	 */
+	T_Lock,
+
+	/**
+	 * Claim a batch of packages in one SQL statement, using {@code SELECT .. FOR UPDATE SKIP LOCKED}, and hand them out one by one.
+	 * Polling is not serialized and concurrent clients never wait for each other.
+	 */
+	SkipLocked;
+
+	public static final WorkPackageDequeueStrategy DEFAULT = T_Lock;
+
+	/**
+	 * Format of the AD_SysConfig name; the placeholder is the <code>C_Queue_Processor_ID</code>. The value is the strategy's name.
+	 */
+	public static final String SYSCONFIG_DequeueStrategy = "de.metas.async.C_Queue_Processor_ID_%s.DequeueStrategy";
+
+	/**
+	 * Format of the AD_SysConfig name; the placeholder is the <code>C_Queue_Processor_ID</code>.
+	 * The value is the maximum number of packages claimed at once with {@link #SkipLocked}. If not set, the processor's pool size is used.
+	 */
+	public static final String SYSCONFIG_DequeueBatchSize = "de.metas.async.C_Queue_Processor_ID_%s.DequeueBatchSize";
+
+	public static WorkPackageDequeueStrategy ofNameOrDefault(@Nullable final String name)
+	{
+		for (final WorkPackageDequeueStrategy strategy : values())
+		{
+			if (strategy.name().equalsIgnoreCase(name == null ? null : name.trim()))
+			{
+				return strategy;
+			}
+		}
+		return DEFAULT;
+	}
+}
@@ -22,12 +22,14 @@ package de.metas.async.api.impl;
  * #L%
  */
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 import de.metas.common.util.time.SystemTime;
@@ -54,6 +56,7 @@ import de.metas.async.api.IWorkPackageBL;
 import de.metas.async.api.IWorkPackageBlockBuilder;
 import de.metas.async.api.IWorkPackageQueue;
 import de.metas.async.api.IWorkpackageProcessorContextFactory;
+import de.metas.async.api.WorkPackageDequeueStrategy;
 import de.metas.async.model.I_C_Async_Batch;
 import de.metas.async.model.I_C_Queue_Block;
 import de.metas.async.model.I_C_Queue_Element;
@@ -69,6 +72,7 @@ import de.metas.async.processor.impl.SyncQueueProcessorListener;
 import de.metas.async.spi.IWorkpackagePrioStrategy;
 import de.metas.async.spi.NullWorkpackagePrio;
 import de.metas.lock.api.ILockManager;
+import de.metas.lock.api.LockOwner;
 import de.metas.lock.exceptions.UnlockFailedException;
 import de.metas.logging.LogManager;
 import de.metas.logging.TableRecordMDC;
@@ -84,6 +88,10 @@ import lombok.NonNull;
 public class WorkPackageQueue implements IWorkPackageQueue
 {
 	private final static String SYSCONFIG_POLLINTERVAL = "de.metas.async.PollIntervallMillis";
+	/**
+	 * Poll interval used while we are woken up by {@link WorkPackageReadyNotifications}. Polling is then just a safety net.
+	 */
+	private final static String SYSCONFIG_POLLINTERVAL_WhenNotified = "de.metas.async.PollIntervallMillisWhenNotified";
 
 	private static final transient Logger logger = LogManager.getLogger(WorkPackageQueue.class);
 
@@ -116,11 +124,25 @@ public class WorkPackageQueue implements IWorkPackageQueue
 
 	private final ReentrantLock mainLock = new ReentrantLock();
 
+	private final WorkPackageDequeueStrategy dequeueStrategy;
+	private final int dequeueBatchSize;
+
+	/**
+	 * IDs of the work packages which were already locked by {@link WorkPackageDequeueStrategy#SkipLocked} but not yet returned by {@link #pollAndLock(long)}
+	 */
+	private final ArrayDeque<Integer> prefetchedWorkPackageIds = new ArrayDeque<>();
+	private final ReentrantLock prefetchedWorkPackageIdsLock = new ReentrantLock();
+
+	private final WorkPackageReadySignal readySignal = new WorkPackageReadySignal();
+	private final AtomicBoolean readySignalSubscribed = new AtomicBoolean(false);
+
 	private WorkPackageQueue(@NonNull final Properties ctx,
 			@NonNull final List<Integer> packageProcessorIds,
 			final String enquingPackageProcessorInternalName,
 			final String priorityFrom,
-			final boolean forEnqueing)
+			final boolean forEnqueing,
+			@NonNull final WorkPackageDequeueStrategy dequeueStrategy,
+			final int dequeueBatchSize)
 	{
 		Check.assume(!packageProcessorIds.isEmpty(), "packageProcessorIds not empty");
 		// Check.assume(retryTimeoutMillis >= 0, "retryTimeoutMillis={} >= 0", retryTimeoutMillis);
@@ -131,6 +153,8 @@ public class WorkPackageQueue implements IWorkPackageQueue
 		this.packageProcessorIds = Collections.unmodifiableList(new ArrayList<>(packageProcessorIds));
 		this.priorityFrom = priorityFrom;
 		this.skipRetryTimeoutMillis = Async_Constants.DEFAULT_RETRY_TIMEOUT_MILLIS;
+		this.dequeueStrategy = dequeueStrategy;
+		this.dequeueBatchSize = Math.max(dequeueBatchSize, 1);
 
 		if (forEnqueing)
 		{
@@ -152,18 +176,31 @@ public class WorkPackageQueue implements IWorkPackageQueue
 				Collections.singletonList(packageProcessorId),
 				enquingPackageProcessorInternalName,
 				null,
-				true);
+				true,
+				WorkPackageDequeueStrategy.DEFAULT,
+				1);
 	}
 
 	public static WorkPackageQueue createForQueueProcessing(final Properties ctx,
 			final List<Integer> packageProcessorIds,
 			final String priorityFrom)
+	{
+		return createForQueueProcessing(ctx, packageProcessorIds, priorityFrom, WorkPackageDequeueStrategy.DEFAULT, 1);
+	}
+
+	public static WorkPackageQueue createForQueueProcessing(final Properties ctx,
+			final List<Integer> packageProcessorIds,
+			final String priorityFrom,
+			final WorkPackageDequeueStrategy dequeueStrategy,
+			final int dequeueBatchSize)
 	{
 		return new WorkPackageQueue(ctx,
 				packageProcessorIds,
 				null, // enquingPackageProcessorInternalName
 				priorityFrom,
-				false);
+				false,
+				dequeueStrategy,
+				dequeueBatchSize);
 	}
 
 	@Override
@@ -174,6 +211,7 @@ public class WorkPackageQueue implements IWorkPackageQueue
 				+ ", priorityFrom=" + priorityFrom
 				+ ", skipRetryTimeoutMillis=" + skipRetryTimeoutMillis
 				+ ", enquingPackageProcessorId=" + enquingPackageProcessorId
+				+ ", dequeueStrategy=" + dequeueStrategy
 				+ "]";
 	}
 
@@ -198,6 +236,12 @@ public class WorkPackageQueue implements IWorkPackageQueue
 	@Override
 	public I_C_Queue_WorkPackage pollAndLock(final long timeoutMillis)
 	{
+		// SKIP LOCKED claims are safe to run concurrently, so there is no need to serialize them
+		if (dequeueStrategy == WorkPackageDequeueStrategy.SkipLocked)
+		{
+			return pollAndLock0(timeoutMillis);
+		}
+
 		logger.debug("Going to obtain mainLock");
 		mainLock.lock();
 		logger.debug("Obtained mainLock");
@@ -217,7 +261,13 @@ public class WorkPackageQueue implements IWorkPackageQueue
 
 		final IQuery<I_C_Queue_WorkPackage> query = createQuery(workPackageCtx);
 
+		if (timeoutMillis != TIMEOUT_OneTimeOnly)
+		{
+			subscribeToReadyNotifications();
+		}
+
 		final long startTS = de.metas.common.util.time.SystemTime.millis();
+		long readySignalGeneration = readySignal.getGeneration();
 		I_C_Queue_WorkPackage workPackage = retrieveAndLock(query);
 		if (timeoutMillis == TIMEOUT_OneTimeOnly && workPackage == null)
 		{
@@ -228,6 +278,8 @@ public class WorkPackageQueue implements IWorkPackageQueue
 
 		while (workPackage == null)
 		{
+			long waitMillis = getPollIntervalMillis();
+
 			// If we have a timeout specified, make sure we are not waiting more then that timeout
 			if (timeoutMillis != TIMEOUT_Infinite)
 			{
@@ -239,14 +291,14 @@ public class WorkPackageQueue implements IWorkPackageQueue
 					logger.debug("Poll waiting time exceeded. Returning null");
 					return null;
 				}
+				waitMillis = Math.min(waitMillis, timeoutMillis - elapsedMillis);
 			}
 
-			// No workpackages were found. Sleep 1sec and then try again
+			// No workpackages were found. Wait until one of our package processors gets a new workpackage, or until the poll interval elapsed
 			try
 			{
-				// note: we always get the new service, because things might have changed since this method started
-				final int pollIntervalMs = Services.get(ISysConfigBL.class).getIntValue(SYSCONFIG_POLLINTERVAL, 1000);
-				Thread.sleep(pollIntervalMs);
+				final boolean signaled = readySignal.awaitSignalSince(readySignalGeneration, waitMillis);
+				logger.debug("Waited for ready workpackages: signaled={}", signaled);
 			}
 			catch (final InterruptedException e)
 			{
@@ -256,6 +308,7 @@ public class WorkPackageQueue implements IWorkPackageQueue
 
 			// Try fetching the workpackage again
 			logger.debug("Retry retrieving next workpackage");
+			readySignalGeneration = readySignal.getGeneration();
 			workPackage = retrieveAndLock(query);
 		}
 
@@ -276,6 +329,25 @@ public class WorkPackageQueue implements IWorkPackageQueue
 		return workPackage;
 	}
 
+	private void subscribeToReadyNotifications()
+	{
+		if (readySignalSubscribed.compareAndSet(false, true))
+		{
+			WorkPackageReadyNotifications.get().subscribe(packageProcessorIds, readySignal);
+		}
+	}
+
+	private static long getPollIntervalMillis()
+	{
+		// note: we always get the new service, because things might have changed since this method started
+		final ISysConfigBL sysConfigBL = Services.get(ISysConfigBL.class);
+		if (WorkPackageReadyNotifications.get().isListening())
+		{
+			return sysConfigBL.getIntValue(SYSCONFIG_POLLINTERVAL_WhenNotified, 10000);
+		}
+		return sysConfigBL.getIntValue(SYSCONFIG_POLLINTERVAL, 1000);
+	}
+
 	/**
 	 * Update context from work package (AD_Client_ID, AD_Org_ID, AD_User_ID, AD_Role_ID etc).
 	 *
@@ -336,7 +408,9 @@ public class WorkPackageQueue implements IWorkPackageQueue
 
 	private I_C_Queue_WorkPackage retrieveAndLock(final IQuery<I_C_Queue_WorkPackage> query)
 	{
-		I_C_Queue_WorkPackage workPackage = Services.get(ILockManager.class).retrieveAndLock(query, I_C_Queue_WorkPackage.class);
+		I_C_Queue_WorkPackage workPackage = dequeueStrategy == WorkPackageDequeueStrategy.SkipLocked
+				? pollPrefetchedOrRetrieveAndLockBatch(query)
+				: Services.get(ILockManager.class).retrieveAndLock(query, I_C_Queue_WorkPackage.class);
 		if (workPackage != null && !isValid(workPackage))
 		{
 			final I_C_Queue_WorkPackage workpackageToUnlock = workPackage;
@@ -350,6 +424,68 @@ public class WorkPackageQueue implements IWorkPackageQueue
 		return workPackage;
 	}
 
+	/**
+	 * Returns the next already locked work package. If there is none, it claims the next batch of up to {@link #dequeueBatchSize} packages first.
+	 * <p>
+	 * Only the IDs are kept between polls. Each package is (re)loaded with the given query's context, because that context becomes the package's processing context.
+	 */
+	private I_C_Queue_WorkPackage pollPrefetchedOrRetrieveAndLockBatch(final IQuery<I_C_Queue_WorkPackage> query)
+	{
+		final Integer workPackageId;
+		prefetchedWorkPackageIdsLock.lock();
+		try
+		{
+			if (prefetchedWorkPackageIds.isEmpty())
+			{
+				Services.get(ILockManager.class)
+						.retrieveAndLockMultipleRecords(query, I_C_Queue_WorkPackage.class, dequeueBatchSize)
+						.forEach(workPackage -> prefetchedWorkPackageIds.add(workPackage.getC_Queue_WorkPackage_ID()));
+			}
+			workPackageId = prefetchedWorkPackageIds.poll();
+		}
+		finally
+		{
+			prefetchedWorkPackageIdsLock.unlock();
+		}
+
+		if (workPackageId == null)
+		{
+			return null;
+		}
+		return InterfaceWrapperHelper.create(query.getCtx(), workPackageId, I_C_Queue_WorkPackage.class, ITrx.TRXNAME_None);
+	}
+
+	@Override
+	public void unlockPrefetchedNoFail()
+	{
+		final List<Integer> workPackageIdsToUnlock;
+		prefetchedWorkPackageIdsLock.lock();
+		try
+		{
+			workPackageIdsToUnlock = new ArrayList<>(prefetchedWorkPackageIds);
+			prefetchedWorkPackageIds.clear();
+		}
+		finally
+		{
+			prefetchedWorkPackageIdsLock.unlock();
+		}
+
+		for (final Integer workPackageId : workPackageIdsToUnlock)
+		{
+			try
+			{
+				Services.get(ILockManager.class).unlock()
+						.setOwner(LockOwner.ANY)
+						.setRecordByTableRecordId(I_C_Queue_WorkPackage.Table_Name, workPackageId)
+						.release();
+			}
+			catch (final Exception e)
+			{
+				logger.warn("Got exception while unlocking prefetched C_Queue_WorkPackage_ID={}", workPackageId, e);
+			}
+		}
+	}
+
 	@Override
 	public int size()
 	{
@@ -754,6 +890,10 @@ public class WorkPackageQueue implements IWorkPackageQueue
 				workPackage.setIsReadyForProcessing(true);
 				dao.save(workPackage);
 				logger.debug("C_Queue_WorkPackage.IsReadyForProcessing is now set to true");
+
+				// Wake up the local queue processors which are waiting for this package processor, in case the database notification (sent by trigger on commit) can't reach them
+				final int packageProcessorId = enquingPackageProcessorId > 0 ? enquingPackageProcessorId : workPackage.getC_Queue_Block().getC_Queue_PackageProcessor_ID();
+				WorkPackageReadyNotifications.get().notifyReady(packageProcessorId);
 				success = true;
 			}
 			finally
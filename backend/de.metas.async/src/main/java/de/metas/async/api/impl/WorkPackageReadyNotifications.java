@@ -0,0 +1,350 @@
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.async.api.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.util.concurrent.CustomizableThreadFactory;
+import org.compiere.Adempiere;
+import org.compiere.db.CConnection;
+import org.compiere.util.DB;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import de.metas.logging.LogManager;
+import de.metas.util.Services;
+import lombok.NonNull;
+
+/**
+ * Wakes up the {@link WorkPackageQueue}s of this JVM when a workpackage becomes ready for processing, in this or in any other JVM.
+ * <p>
+ * When a workpackage becomes ready, the database trigger {@code C_Queue_WorkPackage_NotifyReady_Trigger} sends a postgres {@code NOTIFY} with its C_Queue_PackageProcessor_ID,
+ * which is delivered only after commit. That also covers the workpackages which are enqueued directly in database (e.g. by {@code "de.metas.async".ExecuteSqlAsync}).
+ * One daemon thread per JVM holds a dedicated (not pooled) connection which {@code LISTEN}s on that channel
+ * and signals only the queues which are subscribed to the notified package processor.
+ * If that connection is lost, the thread reconnects and {@code LISTEN}s again.
+ * <p>
+ * While the listener is not connected (startup, DB restart), queues fall back to plain polling.
+ */
+public final class WorkPackageReadyNotifications
+{
+	private static final WorkPackageReadyNotifications instance = new WorkPackageReadyNotifications(WorkPackageReadyNotifications::listenOnDedicatedConnection, 10000);
+
+	public static WorkPackageReadyNotifications get()
+	{
+		return instance;
+	}
+
+	private static final Logger logger = LogManager.getLogger(WorkPackageReadyNotifications.class);
+
+	@VisibleForTesting
+	static final String CHANNEL = "c_queue_workpackage_ready";
+
+	private static final String SYSCONFIG_Enabled = "de.metas.async.WorkPackageReadyNotifications.Enabled";
+
+	/** How long we block in one poll; also the interval in which the listener connection is validated */
+	private static final int LISTEN_TIMEOUT_MILLIS = 5000;
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+	/**
+	 * Where the notifications come from. The production implementation is {@link #listenOnDedicatedConnection()}.
+	 */
+	@VisibleForTesting
+	interface NotificationsSource extends AutoCloseable
+	{
+		/**
+		 * @return the payloads of the notifications received within given timeout; never null
+		 * @throws SQLException if the connection was lost
+		 */
+		List<String> poll(int timeoutMillis) throws SQLException;
+
+		@Override
+		void close();
+	}
+
+	@FunctionalInterface
+	@VisibleForTesting
+	interface NotificationsSourceFactory
+	{
+		NotificationsSource connect() throws SQLException;
+	}
+
+	private final NotificationsSourceFactory notificationsSourceFactory;
+	private final int reconnectDelayMillis;
+
+	/** C_Queue_PackageProcessor_ID to subscribed signals; weak because we have no hook to unsubscribe queues which are discarded */
+	private final Map<Integer, Set<WorkPackageReadySignal>> subscribers = new HashMap<>();
+	private Thread listenerThread;
+	private volatile boolean listening = false;
+
+	/** Wakes up the queues when the skip timeout of a workpackage elapsed; there is no database change we could be notified about in that case */
+	private final ScheduledExecutorService delayedSignalsExecutor = Executors.newSingleThreadScheduledExecutor(
+			CustomizableThreadFactory.builder()
+					.setThreadNamePrefix(WorkPackageReadyNotifications.class.getSimpleName() + "-Delayed")
+					.setDaemon(true)
+					.build());
+
+	@VisibleForTesting
+	WorkPackageReadyNotifications(
+			@NonNull final NotificationsSourceFactory notificationsSourceFactory,
+			final int reconnectDelayMillis)
+	{
+		this.notificationsSourceFactory = notificationsSourceFactory;
+		this.reconnectDelayMillis = reconnectDelayMillis;
+	}
+
+	synchronized void subscribe(@NonNull final Collection<Integer> packageProcessorIds, @NonNull final WorkPackageReadySignal signal)
+	{
+		for (final Integer packageProcessorId : packageProcessorIds)
+		{
+			subscribers.computeIfAbsent(packageProcessorId, k -> Collections.newSetFromMap(new WeakHashMap<>()))
+					.add(signal);
+		}
+
+		if (!Adempiere.isUnitTestMode() && isEnabled())
+		{
+			startListener();
+		}
+	}
+
+	/**
+	 * @return true if we are currently receiving notifications from database, i.e. queues can rely on being woken up and poll only as a safety net
+	 */
+	public boolean isListening()
+	{
+		return listening;
+	}
+
+	/**
+	 * Announces that a workpackage of given package processor is ready for processing.
+	 * <p>
+	 * The database notification itself is sent by the trigger on C_Queue_WorkPackage, so here we only have to wake up the local queues
+	 * in case we are not listening.
+	 */
+	public void notifyReady(final int packageProcessorId)
+	{
+		if (!listening)
+		{
+			signalSubscribers(packageProcessorId);
+		}
+	}
+
+	/**
+	 * Wakes up the local queues of given package processor after the given delay, e.g. when a skipped workpackage becomes eligible again.
+	 */
+	public void notifyReadyAfterDelay(final int packageProcessorId, final long delayMillis)
+	{
+		delayedSignalsExecutor.schedule(() -> signalSubscribers(packageProcessorId), delayMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private boolean isEnabled()
+	{
+		return Services.get(ISysConfigBL.class).getBooleanValue(SYSCONFIG_Enabled, true);
+	}
+
+	@VisibleForTesting
+	synchronized void startListener()
+	{
+		if (listenerThread != null)
+		{
+			return;
+		}
+
+		listenerThread = new Thread(this::listenLoop, "WorkPackageReadyNotifications-Listener");
+		listenerThread.setDaemon(true);
+		listenerThread.start();
+		logger.info("Started listening for {} notifications", CHANNEL);
+	}
+
+	@VisibleForTesting
+	void stopListener() throws InterruptedException
+	{
+		final Thread listenerThread;
+		synchronized (this)
+		{
+			listenerThread = this.listenerThread;
+			this.listenerThread = null;
+		}
+		if (listenerThread != null)
+		{
+			listenerThread.interrupt();
+			listenerThread.join();
+		}
+	}
+
+	private void listenLoop()
+	{
+		while (!Thread.currentThread().isInterrupted())
+		{
+			try (final NotificationsSource notificationsSource = notificationsSourceFactory.connect())
+			{
+				listening = true;
+				signalAllSubscribers(); // we might have missed notifications while we were not listening
+
+				while (!Thread.currentThread().isInterrupted())
+				{
+					for (final String payload : notificationsSource.poll(LISTEN_TIMEOUT_MILLIS))
+					{
+						onNotification(payload);
+					}
+				}
+			}
+			catch (final SQLException | RuntimeException ex)
+			{
+				logger.warn("Lost the {} listener connection. Falling back to polling and reconnecting in {}ms", CHANNEL, reconnectDelayMillis, ex);
+			}
+			finally
+			{
+				listening = false;
+				signalAllSubscribers(); // let the queues switch to the short poll interval right away
+			}
+
+			try
+			{
+				Thread.sleep(reconnectDelayMillis);
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void onNotification(final String payload)
+	{
+		final int packageProcessorId;
+		try
+		{
+			packageProcessorId = Integer.parseInt(payload);
+		}
+		catch (final NumberFormatException e)
+		{
+			logger.warn("Ignoring {} notification with invalid payload: {}", CHANNEL, payload);
+			return;
+		}
+
+		signalSubscribers(packageProcessorId);
+	}
+
+	/**
+	 * Opens a dedicated connection (not taken from the pool, which would reclaim it after its unreturned connection timeout) and {@code LISTEN}s on it.
+	 */
+	private static NotificationsSource listenOnDedicatedConnection() throws SQLException
+	{
+		final Connection conn = CConnection.get().createDedicatedConnection(WorkPackageReadyNotifications.class.getSimpleName());
+		boolean success = false;
+		try
+		{
+			try (final Statement stmt = conn.createStatement())
+			{
+				stmt.execute("LISTEN " + CHANNEL);
+			}
+			final PGConnection pgConn = conn.unwrap(PGConnection.class);
+			success = true;
+
+			return new NotificationsSource()
+			{
+				@Override
+				public List<String> poll(final int timeoutMillis) throws SQLException
+				{
+					final PGNotification[] notifications = pgConn.getNotifications(timeoutMillis);
+					if (notifications == null || notifications.length == 0)
+					{
+						// nothing received; make sure it's not because the connection is silently gone
+						if (!conn.isValid(VALIDATION_TIMEOUT_SECONDS))
+						{
+							throw new SQLException("Listener connection is no longer valid");
+						}
+						return Collections.emptyList();
+					}
+
+					final List<String> payloads = new ArrayList<>(notifications.length);
+					for (final PGNotification notification : notifications)
+					{
+						payloads.add(notification.getParameter());
+					}
+					return payloads;
+				}
+
+				@Override
+				public void close()
+				{
+					DB.close(conn);
+				}
+			};
+		}
+		finally
+		{
+			if (!success)
+			{
+				DB.close(conn);
+			}
+		}
+	}
+
+	@VisibleForTesting
+	void signalSubscribers(final int packageProcessorId)
+	{
+		final List<WorkPackageReadySignal> signals;
+		synchronized (this)
+		{
+			final Set<WorkPackageReadySignal> subscribedSignals = subscribers.get(packageProcessorId);
+			if (subscribedSignals == null || subscribedSignals.isEmpty())
+			{
+				return;
+			}
+			signals = new ArrayList<>(subscribedSignals);
+		}
+
+		signals.forEach(WorkPackageReadySignal::signal);
+	}
+
+	private void signalAllSubscribers()
+	{
+		final List<WorkPackageReadySignal> signals = new ArrayList<>();
+		synchronized (this)
+		{
+			subscribers.values().forEach(signals::addAll);
+		}
+
+		signals.forEach(WorkPackageReadySignal::signal);
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.async.api.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wakes up a {@link WorkPackageQueue} which is waiting for new workpackages.
+ * <p>
+ * A waiter first takes the current generation, then looks for workpackages and only if none was found it waits for the generation to change.
+ * That way a signal which arrives between the lookup and the wait is not lost.
+ */
+final class WorkPackageReadySignal
+{
+	private long generation = 0;
+
+	public synchronized long getGeneration()
+	{
+		return generation;
+	}
+
+	public synchronized void signal()
+	{
+		generation++;
+		notifyAll();
+	}
+
+	/**
+	 * @return true if the signal was fired since the given generation, false if the timeout elapsed
+	 */
+	public synchronized boolean awaitSignalSince(final long sinceGeneration, final long timeoutMillis) throws InterruptedException
+	{
+		final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		while (generation == sinceGeneration)
+		{
+			final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+			if (remainingMillis <= 0)
+			{
+				return false;
+			}
+			wait(remainingMillis);
+		}
+		return true;
+	}
+}
@@ -72,6 +72,18 @@ public class JMXQueueProcessor implements JMXQueueProcessorMBean
 		return processor.getStatisticsSnapshot().getCountSkipped();
 	}
 
+	@Override
+	public long getQueueWaitTimeAvgMillis()
+	{
+		return processor.getStatisticsSnapshot().getQueueWaitTimeAvgMillis();
+	}
+
+	@Override
+	public long getQueueWaitTimeMaxMillis()
+	{
+		return processor.getStatisticsSnapshot().getQueueWaitTimeMaxMillis();
+	}
+
 	@Override
 	public String getQueueInfo()
 	{
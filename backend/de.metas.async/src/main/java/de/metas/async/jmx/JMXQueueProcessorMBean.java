@@ -37,5 +37,9 @@ public interface JMXQueueProcessorMBean
 
 	long getCountSkipped();
 
+	long getQueueWaitTimeAvgMillis();
+
+	long getQueueWaitTimeMaxMillis();
+
 	String getQueueInfo();
 }
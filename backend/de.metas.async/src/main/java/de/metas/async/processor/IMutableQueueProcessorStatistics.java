@@ -60,4 +60,12 @@ public interface IMutableQueueProcessorStatistics extends IQueueProcessorStatist
 
 	void decrementQueueSize();
 
+	@Override
+	long getQueueWaitTimeAvgMillis();
+
+	@Override
+	long getQueueWaitTimeMaxMillis();
+
+	void recordQueueWaitTime(long queueWaitTimeMillis);
+
 }
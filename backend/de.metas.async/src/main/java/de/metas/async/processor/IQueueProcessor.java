@@ -66,4 +66,11 @@ public interface IQueueProcessor extends Runnable
 	 */
 	void notifyWorkpackageProcessed(I_C_Queue_WorkPackage workPackage, IWorkpackageProcessor workPackageProcessor);
 
+	/**
+	 * Called by API right before a workpackage is processed, mainly to collect statistics.
+	 * 
+	 * NOTE: don't call it directly
+	 */
+	void notifyWorkpackageStarting(I_C_Queue_WorkPackage workPackage, IWorkpackageProcessor workPackageProcessor);
+
 }
@@ -40,4 +40,14 @@ public interface IQueueProcessorStatistics
 	long getQueueSize();
 
 	long getCountSkipped();
+
+	/**
+	 * @return average time (millis) between a workpackage was enqueued and its processing started; only first processing attempts are considered
+	 */
+	long getQueueWaitTimeAvgMillis();
+
+	/**
+	 * @return maximum time (millis) between a workpackage was enqueued and its processing started
+	 */
+	long getQueueWaitTimeMaxMillis();
 }
@@ -220,6 +220,25 @@ public abstract class AbstractQueueProcessor implements IQueueProcessor
 		}
 	}
 
+	@Override
+	public void notifyWorkpackageStarting(
+			@NonNull final I_C_Queue_WorkPackage workPackage,
+			@NonNull final IWorkpackageProcessor workPackageProcessor)
+	{
+		// Enqueue-to-start wait time makes sense only for the first attempt; retries after skip would count the skip timeout too
+		if (workPackage.getLastStartTime() != null)
+		{
+			return;
+		}
+
+		final long queueWaitTimeMillis = Math.max(SystemTime.millis() - workPackage.getCreated().getTime(), 0);
+		synchronized (statistics)
+		{
+			statistics.recordQueueWaitTime(queueWaitTimeMillis);
+			getActualWorkpackageProcessorFactory().getWorkpackageProcessorStatistics(workPackageProcessor).recordQueueWaitTime(queueWaitTimeMillis);
+		}
+	}
+
 	@Override
 	public void notifyWorkpackageProcessed(
 			@NonNull final I_C_Queue_WorkPackage workPackage,
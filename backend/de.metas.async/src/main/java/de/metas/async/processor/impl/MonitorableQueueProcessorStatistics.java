@@ -1,5 +1,12 @@
 package de.metas.async.processor.impl;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
 import de.metas.async.Async_Constants;
 import de.metas.async.processor.IMutableQueueProcessorStatistics;
 import de.metas.monitoring.api.IMeter;
@@ -21,6 +28,11 @@ public class MonitorableQueueProcessorStatistics implements IMutableQueueProcess
 	private static final String METERNAME_Error = "Error";
 	private static final String METERNAME_Skipped = "Skipped";
 
+	/**
+	 * Queue wait times can't be tracked by {@link IMeter}s (which are just counters), so we keep them here, by workpackage processor name
+	 */
+	private static final Map<String, QueueWaitTimes> queueWaitTimesByProcessorName = new ConcurrentHashMap<>();
+
 	private final String workpackageProcessorName;
 
 	public MonitorableQueueProcessorStatistics(@NonNull final String workpackageProcessorName)
@@ -111,4 +123,70 @@ public class MonitorableQueueProcessorStatistics implements IMutableQueueProcess
 	{
 		getMeter(METERNAME_Skipped).plusOne();
 	}
+
+	private QueueWaitTimes getQueueWaitTimes()
+	{
+		return queueWaitTimesByProcessorName.computeIfAbsent(workpackageProcessorName, k -> new QueueWaitTimes());
+	}
+
+	@Override
+	public long getQueueWaitTimeAvgMillis()
+	{
+		return getQueueWaitTimes().getAvgMillis();
+	}
+
+	@Override
+	public long getQueueWaitTimeMaxMillis()
+	{
+		return getQueueWaitTimes().getMaxMillis();
+	}
+
+	@Override
+	public void recordQueueWaitTime(final long queueWaitTimeMillis)
+	{
+		getQueueWaitTimes().record(queueWaitTimeMillis);
+	}
+
+	/**
+	 * @return queue wait times of all workpackage processors which started processing at least one workpackage, as human readable strings
+	 */
+	public static List<String> getQueueWaitTimesInfo()
+	{
+		return queueWaitTimesByProcessorName.entrySet()
+				.stream()
+				.sorted(Map.Entry.comparingByKey())
+				.map(e -> e.getKey() + ": " + e.getValue())
+				.collect(Collectors.toList());
+	}
+
+	private static final class QueueWaitTimes
+	{
+		private final LongAdder count = new LongAdder();
+		private final LongAdder sumMillis = new LongAdder();
+		private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+		public void record(final long queueWaitTimeMillis)
+		{
+			count.increment();
+			sumMillis.add(queueWaitTimeMillis);
+			maxMillis.accumulate(queueWaitTimeMillis);
+		}
+
+		public long getAvgMillis()
+		{
+			final long count = this.count.sum();
+			return count > 0 ? sumMillis.sum() / count : 0;
+		}
+
+		public long getMaxMillis()
+		{
+			return maxMillis.get();
+		}
+
+		@Override
+		public String toString()
+		{
+			return "count=" + count.sum() + ", avg=" + getAvgMillis() + "ms, max=" + getMaxMillis() + "ms";
+		}
+	}
 }
@@ -33,6 +33,9 @@ final class QueueProcessorStatistics implements IMutableQueueProcessorStatistics
 	private long countErrors;
 	private long countSkipped;
 	private long queueSize;
+	private long queueWaitCount;
+	private long queueWaitTimeSumMillis;
+	private long queueWaitTimeMaxMillis;
 
 	public QueueProcessorStatistics()
 	{
@@ -50,6 +53,9 @@ final class QueueProcessorStatistics implements IMutableQueueProcessorStatistics
 		countProcessed = from.countProcessed;
 		countSkipped = from.countSkipped;
 		queueSize = from.queueSize;
+		queueWaitCount = from.queueWaitCount;
+		queueWaitTimeSumMillis = from.queueWaitTimeSumMillis;
+		queueWaitTimeMaxMillis = from.queueWaitTimeMaxMillis;
 	}
 
 	@Override
@@ -124,4 +130,24 @@ final class QueueProcessorStatistics implements IMutableQueueProcessorStatistics
 		countSkipped++;
 	}
 
+	@Override
+	public long getQueueWaitTimeAvgMillis()
+	{
+		return queueWaitCount > 0 ? queueWaitTimeSumMillis / queueWaitCount : 0;
+	}
+
+	@Override
+	public long getQueueWaitTimeMaxMillis()
+	{
+		return queueWaitTimeMaxMillis;
+	}
+
+	@Override
+	public void recordQueueWaitTime(final long queueWaitTimeMillis)
+	{
+		queueWaitCount++;
+		queueWaitTimeSumMillis += queueWaitTimeMillis;
+		queueWaitTimeMaxMillis = Math.max(queueWaitTimeMaxMillis, queueWaitTimeMillis);
+	}
+
 }
@@ -176,6 +176,7 @@ class ThreadPoolQueueProcessor extends AbstractQueueProcessor
 		}
 
 		executor.shutdownNow();
+		getQueue().unlockPrefetchedNoFail();
 		logger.info("Shutdown finished");
 
 		running.set(false);
@@ -28,9 +28,11 @@ import java.util.List;
 import java.util.Properties;
 
 import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.service.ISysConfigBL;
 
 import de.metas.async.api.IQueueDAO;
 import de.metas.async.api.IWorkPackageQueue;
+import de.metas.async.api.WorkPackageDequeueStrategy;
 import de.metas.async.api.impl.WorkPackageQueue;
 import de.metas.async.model.I_C_Queue_PackageProcessor;
 import de.metas.async.model.I_C_Queue_Processor;
@@ -55,7 +57,15 @@ public class WorkPackageQueueFactory implements IWorkPackageQueueFactory
 		final Properties ctx = InterfaceWrapperHelper.getCtx(processor);
 		final String priorityFrom = processor.getPriority();
 
-		return WorkPackageQueue.createForQueueProcessing(ctx, packageProcessorIds, priorityFrom);
+		final ISysConfigBL sysConfigBL = Services.get(ISysConfigBL.class);
+		final int queueProcessorId = processor.getC_Queue_Processor_ID();
+		final WorkPackageDequeueStrategy dequeueStrategy = WorkPackageDequeueStrategy.ofNameOrDefault(
+				sysConfigBL.getValue(String.format(WorkPackageDequeueStrategy.SYSCONFIG_DequeueStrategy, queueProcessorId), null));
+		final int dequeueBatchSize = sysConfigBL.getIntValue(
+				String.format(WorkPackageDequeueStrategy.SYSCONFIG_DequeueBatchSize, queueProcessorId),
+				processor.getPoolSize());
+
+		return WorkPackageQueue.createForQueueProcessing(ctx, packageProcessorIds, priorityFrom, dequeueStrategy, dequeueBatchSize);
 	}
 
 	@Override
@@ -67,4 +67,10 @@ public class WorkpackageProcessorFactoryJMX implements WorkpackageProcessorFacto
 	{
 		factory.getBlackList().clear();
 	}
+
+	@Override
+	public String[] getQueueWaitTimesInfo()
+	{
+		return MonitorableQueueProcessorStatistics.getQueueWaitTimesInfo().toArray(new String[0]);
+	}
 }
@@ -50,4 +50,10 @@ public interface WorkpackageProcessorFactoryJMXMBean
 	 */
 	void clearBlackList();
 
+	/**
+	 * 
+	 * @return enqueue-to-start wait times, per workpackage processor (as string)
+	 */
+	String[] getQueueWaitTimesInfo();
+
 }
@@ -64,6 +64,7 @@ import de.metas.async.api.IQueueDAO;
 import de.metas.async.api.IWorkpackageLogsRepository;
 import de.metas.async.api.IWorkpackageParamDAO;
 import de.metas.async.api.IWorkpackageProcessorContextFactory;
+import de.metas.async.api.impl.WorkPackageReadyNotifications;
 import de.metas.async.exceptions.WorkpackageSkipRequestException;
 import de.metas.async.model.I_C_Queue_Block;
 import de.metas.async.model.I_C_Queue_PackageProcessor;
@@ -437,6 +438,8 @@ class WorkpackageProcessorTask implements Runnable
 	 */
 	private void markStartProcessing(final I_C_Queue_WorkPackage workPackage)
 	{
+		queueProcessor.notifyWorkpackageStarting(workPackage, workPackageProcessorOriginal);
+
 		workPackage.setLastStartTime(SystemTime.asTimestamp());
 		queueDAO.save(workPackage);
 	}
@@ -526,6 +529,9 @@ class WorkpackageProcessorTask implements Runnable
 		{
 			final I_C_Queue_PackageProcessor packageProcessor = queueBlock.getC_Queue_PackageProcessor();
 			processorName = CoalesceUtil.coalesce(packageProcessor.getInternalName(), packageProcessor.getClassname());
+
+			// nothing changes in database when the skip timeout elapsed, so there is no notification; wake up our queues ourselves
+			WorkPackageReadyNotifications.get().notifyReadyAfterDelay(queueBlock.getC_Queue_PackageProcessor_ID(), skipTimeoutMillis);
 		}
 		final String msg = StringUtils.formatMessage("Skipped while processing workpackage by processor {}; workpackage={}", processorName, workPackage);
 
@@ -23,6 +23,8 @@ package de.metas.lock.api;
  */
 
 
+import java.util.List;
+
 import org.adempiere.ad.dao.IQueryBuilder;
 import org.adempiere.ad.dao.IQueryFilter;
 import org.compiere.model.IQuery;
@@ -94,6 +96,14 @@ public interface ILockManager extends ISingletonService
 	 */
 	<T> T retrieveAndLock(IQuery<T> query, Class<T> clazz);
 
+	/**
+	 * Retrieves up to {@code limit} models from query (in the query's order) and locks them (using {@link LockOwner#NONE}).
+	 * Unlike calling {@link #retrieveAndLock(IQuery, Class)} repeatedly, implementations may claim all of them at once.
+	 *
+	 * @return retrieved records (already locked); never null
+	 */
+	<T> List<T> retrieveAndLockMultipleRecords(IQuery<T> query, Class<T> clazz, int limit);
+
 	/**
 	 * Builds a SQL where clause to be used in other queries to filter the results.
 	 *
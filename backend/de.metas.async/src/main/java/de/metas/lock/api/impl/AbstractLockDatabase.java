@@ -22,7 +22,9 @@ package de.metas.lock.api.impl;
  * #L%
  */
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import org.adempiere.ad.dao.IQueryBL;
 import org.adempiere.ad.dao.IQueryBuilder;
@@ -118,6 +120,11 @@ public abstract class AbstractLockDatabase implements ILockDatabase
 		return newLock(lockCommand.getOwner(), lockCommand.isAutoCleanup(), countLocked);
 	}
 
+	protected final ILockCommand newLockCommand()
+	{
+		return new LockCommand(this);
+	}
+
 	protected final ILock newLock(final LockOwner lockOwner, final boolean autoCleanup, final int countLocked)
 	{
 		return new Lock(this, lockOwner, autoCleanup, countLocked);
@@ -269,7 +276,7 @@ public abstract class AbstractLockDatabase implements ILockDatabase
 		final IQuery<T> finalQuery = retrieveNotLockedQuery(query);
 
 		final int maxLockRetries = 50;
-		final ILockCommand lockCommand = new LockCommand(this)
+		final ILockCommand lockCommand = newLockCommand()
 				.setOwner(LockOwner.NONE);
 
 		int retryCounter = 0;
@@ -308,6 +315,25 @@ public abstract class AbstractLockDatabase implements ILockDatabase
 		return null;
 	}
 
+	/**
+	 * Default implementation which retrieves and locks the records one by one, using {@link #retrieveAndLock(IQuery, Class)}.
+	 */
+	@Override
+	public <T> List<T> retrieveAndLockMultipleRecords(final IQuery<T> query, final Class<T> clazz, final int limit)
+	{
+		final List<T> models = new ArrayList<>();
+		while (models.size() < limit)
+		{
+			final T model = retrieveAndLock(query, clazz);
+			if (model == null)
+			{
+				break;
+			}
+			models.add(model);
+		}
+		return models;
+	}
+
 	@Override
 	public final String getLockedWhereClause(final Class<?> modelClass, final String joinColumnNameFQ, final LockOwner lockOwner)
 	{
@@ -23,26 +23,56 @@ package de.metas.lock.api.impl;
  */
 
 
+import java.util.List;
+
 import org.adempiere.ad.dao.IQueryBuilder;
 import org.adempiere.ad.dao.IQueryFilter;
+import org.adempiere.service.ISysConfigBL;
 import org.compiere.model.IQuery;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import de.metas.lock.api.ILock;
 import de.metas.lock.api.ILockCommand;
 import de.metas.lock.api.ILockManager;
 import de.metas.lock.api.IUnlockCommand;
 import de.metas.lock.api.LockOwner;
 import de.metas.lock.spi.ILockDatabase;
+import de.metas.lock.spi.impl.AdvisoryLockDatabase;
 import de.metas.lock.spi.impl.SqlLockDatabase;
 import de.metas.util.Check;
+import de.metas.util.Services;
 
 public class LockManager implements ILockManager
 {
-	private final ILockDatabase lockDatabase = new SqlLockDatabase();
+	/**
+	 * Which {@link ILockDatabase} to use: {@value #LOCKDATABASE_T_Lock} (default) or {@value #LOCKDATABASE_AdvisoryLocks}. Read once, on first use.
+	 * <p>
+	 * Sizing for {@value #LOCKDATABASE_AdvisoryLocks}: each locked record takes one slot of postgres' shared lock table, which has
+	 * {@code max_locks_per_transaction * (max_connections + max_prepared_transactions)} slots for all sessions together (6400 with the defaults).
+	 * Each JVM holds at most {@link AdvisoryLockDatabase#SYSCONFIG_MaxAdvisoryLocks} advisory locks and locks the records above that with {@code T_Lock} records.
+	 * Make sure that limit, times the number of JVMs, leaves enough slots for the regular row and table locks, or raise {@code max_locks_per_transaction}.
+	 */
+	private static final String SYSCONFIG_LockDatabase = "de.metas.lock.LockDatabase";
+	private static final String LOCKDATABASE_T_Lock = "T_Lock";
+	private static final String LOCKDATABASE_AdvisoryLocks = "AdvisoryLocks";
+
+	private final Supplier<ILockDatabase> lockDatabaseSupplier = Suppliers.memoize(LockManager::createLockDatabase);
 
 	public ILockDatabase getLockDatabase()
 	{
-		return lockDatabase;
+		return lockDatabaseSupplier.get();
+	}
+
+	private static ILockDatabase createLockDatabase()
+	{
+		final String lockDatabaseType = Services.get(ISysConfigBL.class).getValue(SYSCONFIG_LockDatabase, LOCKDATABASE_T_Lock);
+		if (LOCKDATABASE_AdvisoryLocks.equalsIgnoreCase(lockDatabaseType))
+		{
+			return new AdvisoryLockDatabase();
+		}
+		return new SqlLockDatabase();
 	}
 
 	@Override
@@ -128,6 +158,12 @@ public class LockManager implements ILockManager
 		return getLockDatabase().retrieveAndLock(query, clazz);
 	}
 
+	@Override
+	public final <T> List<T> retrieveAndLockMultipleRecords(final IQuery<T> query, final Class<T> clazz, final int limit)
+	{
+		return getLockDatabase().retrieveAndLockMultipleRecords(query, clazz, limit);
+	}
+
 	@Override
 	public final String getNotLockedWhereClause(final String tableName, final String joinColumnNameFQ)
 	{
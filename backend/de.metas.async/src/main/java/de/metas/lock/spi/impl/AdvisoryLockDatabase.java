@@ -0,0 +1,1119 @@
+package de.metas.lock.spi.impl;
+
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.ad.dao.IQueryFilter;
+import org.adempiere.ad.dao.ISqlQueryFilter;
+import org.adempiere.ad.dao.impl.TypedSqlQuery;
+import org.adempiere.ad.dao.impl.TypedSqlQueryFilter;
+import org.adempiere.ad.table.api.IADTableDAO;
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.util.concurrent.CloseableReentrantLock;
+import org.adempiere.util.lang.impl.TableRecordReference;
+import org.adempiere.util.concurrent.CustomizableThreadFactory;
+import org.compiere.db.CConnection;
+import org.compiere.model.IQuery;
+import org.compiere.util.DB;
+import org.slf4j.Logger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.metas.lock.api.ILock;
+import de.metas.lock.api.ILockCommand;
+import de.metas.lock.api.IUnlockCommand;
+import de.metas.lock.api.LockOwner;
+import de.metas.lock.exceptions.LockFailedException;
+import de.metas.lock.exceptions.UnlockFailedException;
+import de.metas.logging.LogManager;
+import de.metas.process.PInstanceId;
+import de.metas.util.Check;
+import de.metas.util.Services;
+import lombok.NonNull;
+
+/**
+ * Locks database which locks records with postgres advisory locks instead of {@code T_Lock} records.
+ * <p>
+ * Each locked record is one {@code pg_try_advisory_lock(AD_Table_ID, Record_ID)}, held by one dedicated database session per JVM.
+ * That session runs on its own (non pooled) connection with TCP keepalive, so that no pool can reclaim or recycle it, and it's validated periodically.
+ * If the session is lost nevertheless, all lock owners are dropped from memory and a {@link LockFailedException} is thrown,
+ * because the database already released the locks.
+ * Lock owners are tracked in memory, the same way {@link PlainLockDatabase} does, and the advisory lock is acquired when the first owner locks a record
+ * and released when the last owner unlocks it.
+ * So locking does not write anything, and if the JVM or the session dies, the database releases all its locks.
+ * <p>
+ * Other sessions see the locks in {@code pg_locks}, so the (not) locked where clauses work across JVMs.
+ * What is not known across JVMs is the lock owner, i.e. filtering by a particular owner only considers the locks of this JVM.
+ * <p>
+ * Advisory locks take slots in postgres' shared lock table, which is shared by all sessions and which is small
+ * (about {@code max_locks_per_transaction * (max_connections + max_prepared_transactions)} entries; 6400 with the defaults).
+ * If it's full, every session of the database fails with "out of shared memory".
+ * So this JVM holds at most {@value #SYSCONFIG_MaxAdvisoryLocks} advisory locks,
+ * and locks the records above that the way {@link SqlLockDatabase} does, with {@code T_Lock} records.
+ * A record is never locked in both ways; see {@link #lockInOverflow(ILockCommand, int, String, List)}.
+ */
+public class AdvisoryLockDatabase extends PlainLockDatabase
+{
+	private static final Logger logger = LogManager.getLogger(AdvisoryLockDatabase.class);
+
+	/** Selects the Record_IDs of given table which are locked by any session (including ours) */
+	private static final String SQL_AdvisoryLocks = "SELECT zz.objid::integer AS Record_ID FROM pg_locks zz"
+			+ " WHERE zz.locktype='advisory' AND zz.objsubid=2"
+			+ " AND zz.database=(SELECT oid FROM pg_database WHERE datname=current_database())";
+
+	/**
+	 * How many records this JVM locks with advisory locks at most. Above that, records are locked with {@code T_Lock} records.
+	 */
+	public static final String SYSCONFIG_MaxAdvisoryLocks = "de.metas.lock.AdvisoryLocks.MaxLocks";
+	private static final int DEFAULT_MaxAdvisoryLocks = 1000;
+
+	/** How often the session is validated, so we find out about a lost session (and hence lost locks) even if nobody is locking */
+	private static final long SESSION_VALIDATION_INTERVAL_SECONDS = 30;
+	private static final int SESSION_VALIDATION_TIMEOUT_SECONDS = 5;
+
+	/**
+	 * The database session which holds all advisory locks of this JVM.
+	 */
+	@VisibleForTesting
+	interface AdvisoryLocksSession
+	{
+		boolean tryLock(int adTableId, int recordId) throws SQLException;
+
+		/**
+		 * @return those of given records which are locked by any session, including this one
+		 */
+		Set<Integer> retrieveLockedByAnySession(int adTableId, Collection<Integer> recordIds) throws SQLException;
+
+		/**
+		 * @return the Record_IDs which were not locked by this session
+		 */
+		List<Integer> unlock(int adTableId, List<Integer> recordIds) throws SQLException;
+
+		/**
+		 * @return the session's connection, for the statements which are locking many records at once
+		 */
+		Connection getConnection();
+
+		boolean isValid();
+
+		void close();
+	}
+
+	@FunctionalInterface
+	@VisibleForTesting
+	interface AdvisoryLocksSessionFactory
+	{
+		AdvisoryLocksSession open() throws SQLException;
+	}
+
+	private static final class SessionValidatorHolder
+	{
+		private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+				CustomizableThreadFactory.builder()
+						.setThreadNamePrefix(AdvisoryLockDatabase.class.getSimpleName() + "-SessionValidator")
+						.setDaemon(true)
+						.build());
+	}
+
+	private final AdvisoryLocksSessionFactory sessionFactory;
+
+	/** Locks the records above {@link #SYSCONFIG_MaxAdvisoryLocks} */
+	private final SqlLockDatabase overflowLocks;
+	/** The owners which (might) have {@link #overflowLocks} */
+	private final Set<LockOwner> overflowLockOwners = ConcurrentHashMap.newKeySet();
+
+	/** Guarded by {@link #mainLock} */
+	private AdvisoryLocksSession session;
+	private ScheduledFuture<?> sessionValidation;
+
+	public AdvisoryLockDatabase()
+	{
+		this(DedicatedConnectionSession::open, new SqlLockDatabase());
+	}
+
+	@VisibleForTesting
+	AdvisoryLockDatabase(
+			@NonNull final AdvisoryLocksSessionFactory sessionFactory,
+			@NonNull final SqlLockDatabase overflowLocks)
+	{
+		this.sessionFactory = sessionFactory;
+		this.overflowLocks = overflowLocks;
+	}
+
+	private static int getMaxAdvisoryLocks()
+	{
+		return Services.get(ISysConfigBL.class).getIntValue(SYSCONFIG_MaxAdvisoryLocks, DEFAULT_MaxAdvisoryLocks);
+	}
+
+	//
+	// Session
+	//
+
+	/** Caller must hold {@link #mainLock} */
+	private AdvisoryLocksSession getSession() throws SQLException
+	{
+		if (session == null)
+		{
+			session = sessionFactory.open();
+			startSessionValidation();
+		}
+		return session;
+	}
+
+	private void startSessionValidation()
+	{
+		if (sessionValidation == null)
+		{
+			sessionValidation = SessionValidatorHolder.executor.scheduleWithFixedDelay(
+					this::validateSessionAndLog,
+					SESSION_VALIDATION_INTERVAL_SECONDS,
+					SESSION_VALIDATION_INTERVAL_SECONDS,
+					TimeUnit.SECONDS);
+		}
+	}
+
+	private void validateSessionAndLog()
+	{
+		try
+		{
+			validateSession();
+		}
+		catch (final LockFailedException ex)
+		{
+			// already logged
+		}
+		catch (final RuntimeException ex)
+		{
+			logger.warn("Failed validating the advisory locks session", ex);
+		}
+	}
+
+	/**
+	 * Checks if our session is still alive.
+	 *
+	 * @throws LockFailedException if the session was lost; all in-memory locks are dropped in that case, because the database released them
+	 */
+	@VisibleForTesting
+	void validateSession()
+	{
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			if (session != null && !session.isValid())
+			{
+				throw onSessionLost(null);
+			}
+		}
+	}
+
+	/** Called after an SQL error, to find out if we lost our session and hence all our locks. Caller must hold {@link #mainLock} */
+	private void checkSessionAfterError(final SQLException error)
+	{
+		if (session != null && !session.isValid())
+		{
+			throw onSessionLost(error);
+		}
+	}
+
+	/**
+	 * Drops all in-memory locks, because the database released them together with the session. Caller must hold {@link #mainLock}.
+	 *
+	 * @return the exception to be thrown by the caller
+	 */
+	private LockFailedException onSessionLost(@Nullable final SQLException cause)
+	{
+		final int locksCount = getLocksCount();
+		final LockFailedException ex = new LockFailedException("Lost the advisory locks session."
+				+ " The database released all " + locksCount + " record locks held by this JVM, so their owners no longer hold them.", cause);
+		logger.error(ex.getLocalizedMessage(), ex);
+
+		clearLocksInMemory();
+		if (session != null)
+		{
+			session.close();
+			session = null;
+		}
+		return ex;
+	}
+
+	//
+	// Acquire / release
+	//
+
+	@Override
+	protected boolean acquireRecordLock(@NonNull final LockKey recordKey)
+	{
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			try
+			{
+				final AdvisoryLocksSession session = getSession();
+				if (!session.tryLock(recordKey.getAdTableId(), recordKey.getRecordId()))
+				{
+					return false;
+				}
+
+				// back off if the record was locked with a T_Lock record in the meantime; see lockInOverflow
+				final List<Integer> recordIds = ImmutableList.of(recordKey.getRecordId());
+				final boolean lockedInOverflow;
+				try
+				{
+					lockedInOverflow = !overflowLocks.retrieveLockedRecordIds(recordKey.getAdTableId(), recordIds).isEmpty();
+				}
+				catch (final RuntimeException ex)
+				{
+					session.unlock(recordKey.getAdTableId(), recordIds);
+					throw ex;
+				}
+				if (lockedInOverflow)
+				{
+					session.unlock(recordKey.getAdTableId(), recordIds);
+					return false;
+				}
+				return true;
+			}
+			catch (final SQLException e)
+			{
+				checkSessionAfterError(e);
+				throw new LockFailedException("Failed locking " + recordKey, e);
+			}
+		}
+	}
+
+	@Override
+	protected void releaseRecordLocks(@NonNull final List<LockKey> recordKeys)
+	{
+		final Map<Integer, List<Integer>> recordIdsByTableId = recordKeys.stream()
+				.collect(Collectors.groupingBy(LockKey::getAdTableId, Collectors.mapping(LockKey::getRecordId, Collectors.toList())));
+
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			try
+			{
+				for (final Map.Entry<Integer, List<Integer>> e : recordIdsByTableId.entrySet())
+				{
+					final List<Integer> notHeldRecordIds = getSession().unlock(e.getKey(), e.getValue());
+					if (!notHeldRecordIds.isEmpty())
+					{
+						logger.warn("Advisory locks for AD_Table_ID={}, Record_IDs={} were not held while releasing them. Ignored.", e.getKey(), notHeldRecordIds);
+					}
+				}
+			}
+			catch (final SQLException e)
+			{
+				checkSessionAfterError(e);
+				logger.warn("Failed releasing advisory locks for {}. Ignored.", recordKeys, e);
+			}
+		}
+	}
+
+	/**
+	 * {@link AdvisoryLocksSession} on a dedicated connection.
+	 * The connection is not taken from the pool, because the pool would reclaim it after its unreturned connection timeout, and with it we would lose all our locks.
+	 */
+	private static final class DedicatedConnectionSession implements AdvisoryLocksSession
+	{
+		public static DedicatedConnectionSession open() throws SQLException
+		{
+			return new DedicatedConnectionSession(CConnection.get().createDedicatedConnection(AdvisoryLockDatabase.class.getSimpleName()));
+		}
+
+		private final Connection connection;
+
+		private DedicatedConnectionSession(@NonNull final Connection connection)
+		{
+			this.connection = connection;
+		}
+
+		@Override
+		public boolean tryLock(final int adTableId, final int recordId) throws SQLException
+		{
+			try (final PreparedStatement pstmt = connection.prepareStatement("SELECT pg_try_advisory_lock(?, ?)"))
+			{
+				DB.setParameters(pstmt, adTableId, recordId);
+				try (final ResultSet rs = pstmt.executeQuery())
+				{
+					return rs.next() && rs.getBoolean(1);
+				}
+			}
+		}
+
+		@Override
+		public Set<Integer> retrieveLockedByAnySession(final int adTableId, final Collection<Integer> recordIds) throws SQLException
+		{
+			if (recordIds.isEmpty())
+			{
+				return ImmutableSet.of();
+			}
+
+			final ImmutableSet.Builder<Integer> lockedRecordIds = ImmutableSet.builder();
+			final Array recordIdsArray = connection.createArrayOf("integer", recordIds.toArray());
+			try (final PreparedStatement pstmt = connection.prepareStatement("SELECT l.Record_ID FROM (" + SQL_AdvisoryLocks + " AND zz.classid=?) l"
+					+ " WHERE l.Record_ID = ANY(?)"))
+			{
+				pstmt.setInt(1, adTableId);
+				pstmt.setArray(2, recordIdsArray);
+				try (final ResultSet rs = pstmt.executeQuery())
+				{
+					while (rs.next())
+					{
+						lockedRecordIds.add(rs.getInt(1));
+					}
+				}
+			}
+			return lockedRecordIds.build();
+		}
+
+		@Override
+		public List<Integer> unlock(final int adTableId, final List<Integer> recordIds) throws SQLException
+		{
+			final List<Integer> notHeldRecordIds = new ArrayList<>();
+			final Array recordIdsArray = connection.createArrayOf("integer", recordIds.toArray());
+			try (final PreparedStatement pstmt = connection.prepareStatement("SELECT r, pg_advisory_unlock(?, r) FROM unnest(?) r"))
+			{
+				pstmt.setInt(1, adTableId);
+				pstmt.setArray(2, recordIdsArray);
+				try (final ResultSet rs = pstmt.executeQuery())
+				{
+					while (rs.next())
+					{
+						if (!rs.getBoolean(2))
+						{
+							notHeldRecordIds.add(rs.getInt(1));
+						}
+					}
+				}
+			}
+			return notHeldRecordIds;
+		}
+
+		@Override
+		public Connection getConnection()
+		{
+			return connection;
+		}
+
+		@Override
+		public boolean isValid()
+		{
+			try
+			{
+				return connection.isValid(SESSION_VALIDATION_TIMEOUT_SECONDS);
+			}
+			catch (final SQLException e)
+			{
+				return false;
+			}
+		}
+
+		@Override
+		public void close()
+		{
+			DB.close(connection);
+		}
+	}
+
+	//
+	// Bulk locking
+	//
+
+	@Override
+	protected int lockBySelection(@NonNull final ILockCommand lockCommand)
+	{
+		final int adTableId = lockCommand.getSelectionToLock_AD_Table_ID();
+		Check.assume(adTableId > 0, "adTableId > 0; lockCommand={}", lockCommand);
+
+		final PInstanceId pinstanceId = lockCommand.getSelectionToLock_AD_PInstance_ID();
+		Check.assumeNotNull(pinstanceId, "pinstanceId not null; lockCommand={}", lockCommand);
+
+		final String sqlRecordIds = "SELECT T_Selection_ID FROM T_Selection WHERE AD_PInstance_ID=?";
+		return lockBulk(lockCommand, adTableId, sqlRecordIds, ImmutableList.<Object> of(pinstanceId));
+	}
+
+	@Override
+	protected int lockByFilters(@NonNull final ILockCommand lockCommand)
+	{
+		final IQueryFilter<?> selectionToLockFilters = lockCommand.getSelectionToLock_Filters();
+		Check.errorUnless(selectionToLockFilters instanceof ISqlQueryFilter, "Currently we just support ISqlQueryFilters. This filter is not supported: {}", selectionToLockFilters);
+
+		final int adTableId = lockCommand.getSelectionToLock_AD_Table_ID();
+		final String tableName = Services.get(IADTableDAO.class).retrieveTableName(adTableId);
+		final ISqlQueryFilter sqlFilter = ISqlQueryFilter.cast(selectionToLockFilters);
+
+		final String sqlRecordIds = "SELECT " + tableName + "_ID FROM " + tableName + " WHERE (" + sqlFilter.getSql() + ")";
+		return lockBulk(lockCommand, adTableId, sqlRecordIds, sqlFilter.getSqlParams(null));
+	}
+
+	/**
+	 * Same as {@link PlainLockDatabase#lockRecord(ILockCommand, TableRecordReference)}, but above {@link #SYSCONFIG_MaxAdvisoryLocks} the record is locked with a {@code T_Lock} record.
+	 */
+	@Override
+	protected boolean lockRecord(@NonNull final ILockCommand lockCommand, @NonNull final TableRecordReference record)
+	{
+		final LockKey recordKey = LockKey.of(record.getAD_Table_ID(), record.getRecord_ID());
+
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			if (hasLocksInMemory(recordKey) || getLocksCount() < getMaxAdvisoryLocks())
+			{
+				return super.lockRecord(lockCommand, record);
+			}
+
+			return lockInOverflow(lockCommand, recordKey.getAdTableId(), "SELECT ?", ImmutableList.<Object> of(recordKey.getRecordId())) > 0;
+		}
+	}
+
+	/**
+	 * Tries to lock all records selected by given SQL with one statement.
+	 * If they are more than we can lock with advisory locks (see {@link #SYSCONFIG_MaxAdvisoryLocks}), they are all locked with {@code T_Lock} records.
+	 * <p>
+	 * Like {@link SqlLockDatabase}, if some records are already locked and the command shall fail in that case, nothing is locked.
+	 */
+	private int lockBulk(
+			@NonNull final ILockCommand lockCommand,
+			final int adTableId,
+			@NonNull final String sqlRecordIds,
+			@NonNull final List<Object> sqlRecordIdsParams)
+	{
+		assertValidLockOwner(lockCommand.getOwner());
+
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			final int advisoryLocksAvailable = getMaxAdvisoryLocks() - getLocksCount();
+
+			int countLocked = -1;
+			if (advisoryLocksAvailable > 0)
+			{
+				countLocked = lockBulkWithAdvisoryLocks(lockCommand, adTableId, sqlRecordIds, sqlRecordIdsParams, advisoryLocksAvailable);
+			}
+			if (countLocked < 0)
+			{
+				countLocked = lockInOverflow(lockCommand, adTableId, sqlRecordIds, sqlRecordIdsParams);
+			}
+
+			if (countLocked <= 0 && lockCommand.isFailIfNothingLocked())
+			{
+				throw new LockFailedException("Nothing locked for selection")
+						.setLockCommand(lockCommand);
+			}
+
+			return countLocked;
+		}
+	}
+
+	/**
+	 * Caller must hold {@link #mainLock}.
+	 *
+	 * @return how many records were locked, or {@code -1} if given SQL selects more than {@code advisoryLocksAvailable} records, in which case nothing was locked
+	 */
+	private int lockBulkWithAdvisoryLocks(
+			@NonNull final ILockCommand lockCommand,
+			final int adTableId,
+			@NonNull final String sqlRecordIds,
+			@NonNull final List<Object> sqlRecordIdsParams,
+			final int advisoryLocksAvailable)
+	{
+		final LockOwner lockOwner = lockCommand.getOwner();
+
+		// NOTE: the volatile function is only called for the rows which are fetched, so we never take more than one advisory lock too much
+		final String sql = "SELECT s.Record_ID, pg_try_advisory_lock(?, s.Record_ID) AS IsLocked"
+				+ " FROM (" + sqlRecordIds + ") s (Record_ID)"
+				+ " LIMIT " + (advisoryLocksAvailable + 1);
+		final List<Object> sqlParams = new ArrayList<>();
+		sqlParams.add(adTableId);
+		sqlParams.addAll(sqlRecordIdsParams);
+
+		int countSelected = 0;
+		final List<LockKey> acquired = new ArrayList<>();
+		final List<LockKey> alreadyHeldBySession = new ArrayList<>();
+		final List<LockKey> alreadyLocked = new ArrayList<>();
+		try (final PreparedStatement pstmt = getSession().getConnection().prepareStatement(sql))
+		{
+			DB.setParameters(pstmt, sqlParams);
+			try (final ResultSet rs = pstmt.executeQuery())
+			{
+				while (rs.next())
+				{
+					countSelected++;
+					final LockKey recordKey = LockKey.of(adTableId, rs.getInt(1));
+					if (!rs.getBoolean(2))
+					{
+						alreadyLocked.add(recordKey); // locked by another session
+					}
+					else if (hasLocksInMemory(recordKey))
+					{
+						alreadyHeldBySession.add(recordKey); // advisory locks are reentrant, so we just locked it a second time
+					}
+					else
+					{
+						acquired.add(recordKey);
+					}
+				}
+			}
+		}
+		catch (final SQLException e)
+		{
+			checkSessionAfterError(e);
+			throw new LockFailedException("Failed locking records", e)
+					.setLockCommand(lockCommand)
+					.setSql(sql, sqlParams.toArray());
+		}
+
+		releaseRecordLocks(alreadyHeldBySession);
+		if (countSelected > advisoryLocksAvailable)
+		{
+			releaseRecordLocks(acquired);
+			return -1;
+		}
+
+		//
+		// Back off from the records which were locked with T_Lock records in the meantime; see lockInOverflow
+		final Set<Integer> lockedInOverflow;
+		try
+		{
+			lockedInOverflow = overflowLocks.retrieveLockedRecordIds(adTableId, toRecordIds(acquired));
+		}
+		catch (final RuntimeException ex)
+		{
+			releaseRecordLocks(acquired);
+			throw ex;
+		}
+		if (!lockedInOverflow.isEmpty())
+		{
+			final List<LockKey> lockedInOverflowKeys = acquired.stream()
+					.filter(recordKey -> lockedInOverflow.contains(recordKey.getRecordId()))
+					.collect(ImmutableList.toImmutableList());
+			releaseRecordLocks(lockedInOverflowKeys);
+			acquired.removeAll(lockedInOverflowKeys);
+			alreadyLocked.addAll(lockedInOverflowKeys);
+		}
+
+		//
+		// Register the owner
+		final List<LockKey> locked = new ArrayList<>();
+		try
+		{
+			for (final LockKey recordKey : acquired)
+			{
+				addAcquiredLockInMemory(recordKey, lockCommand);
+				locked.add(recordKey);
+			}
+		}
+		catch (final RuntimeException ex)
+		{
+			// the failed one was already released; release the ones we did not get to and unlock the ones we registered
+			releaseRecordLocks(acquired.subList(locked.size() + 1, acquired.size()));
+			unlockForKeys(lockOwner, locked);
+			throw ex;
+		}
+		for (final LockKey recordKey : alreadyHeldBySession)
+		{
+			if (addLockInMemoryIfAllowed(recordKey, lockCommand))
+			{
+				locked.add(recordKey);
+			}
+			else
+			{
+				alreadyLocked.add(recordKey);
+			}
+		}
+
+		if (!alreadyLocked.isEmpty() && lockCommand.isFailIfAlreadyLocked())
+		{
+			unlockForKeys(lockOwner, locked);
+			throw new LockFailedException("Some of the records were already locked: " + alreadyLocked)
+					.setLockCommand(lockCommand)
+					.setSql(sql, sqlParams.toArray());
+		}
+
+		return locked.size();
+	}
+
+	/**
+	 * Locks the records selected by given SQL with {@code T_Lock} records, like {@link SqlLockDatabase} does.
+	 * Caller must hold {@link #mainLock}.
+	 * <p>
+	 * A record must not be locked both ways, but none of the two can be checked and acquired atomically together with the other one.
+	 * So both ways first lock the record and then check if it's locked the other way too, and back off in that case.
+	 * That's why two sessions which race for the same record never both get it (but they might both fail).
+	 *
+	 * @return how many records were locked
+	 */
+	private int lockInOverflow(
+			@NonNull final ILockCommand lockCommand,
+			final int adTableId,
+			@NonNull final String sqlRecordIds,
+			@NonNull final List<Object> sqlRecordIdsParams)
+	{
+		final LockOwner lockOwner = lockCommand.getOwner();
+		assertValidLockOwner(lockOwner);
+
+		final Map<Integer, Boolean> lockedByRecordId = overflowLocks.lockBySql(lockCommand, adTableId, sqlRecordIds, sqlRecordIdsParams);
+		final List<Integer> lockedRecordIds = new ArrayList<>();
+		final List<LockKey> alreadyLocked = new ArrayList<>();
+		lockedByRecordId.forEach((recordId, locked) -> {
+			if (locked)
+			{
+				lockedRecordIds.add(recordId);
+			}
+			else
+			{
+				alreadyLocked.add(LockKey.of(adTableId, recordId));
+			}
+		});
+		if (!lockedRecordIds.isEmpty())
+		{
+			overflowLockOwners.add(lockOwner);
+		}
+
+		//
+		// Back off from the records which are locked with advisory locks, by another session or by ours
+		final Set<Integer> advisoryLockedRecordIds;
+		try
+		{
+			advisoryLockedRecordIds = getSession().retrieveLockedByAnySession(adTableId, lockedRecordIds);
+		}
+		catch (final SQLException e)
+		{
+			unlockInOverflow(adTableId, lockedRecordIds, lockOwner);
+			checkSessionAfterError(e);
+			throw new LockFailedException("Failed locking records", e)
+					.setLockCommand(lockCommand);
+		}
+		final List<LockKey> lockedInMemory = new ArrayList<>();
+		if (!advisoryLockedRecordIds.isEmpty())
+		{
+			unlockInOverflow(adTableId, ImmutableList.copyOf(advisoryLockedRecordIds), lockOwner);
+			lockedRecordIds.removeAll(advisoryLockedRecordIds);
+
+			for (final Integer recordId : advisoryLockedRecordIds)
+			{
+				// our session already holds the records which other owners of this JVM locked, so we might lock them too
+				final LockKey recordKey = LockKey.of(adTableId, recordId);
+				if (hasLocksInMemory(recordKey) && addLockInMemoryIfAllowed(recordKey, lockCommand))
+				{
+					lockedInMemory.add(recordKey);
+				}
+				else
+				{
+					alreadyLocked.add(recordKey);
+				}
+			}
+		}
+
+		if (!alreadyLocked.isEmpty() && lockCommand.isFailIfAlreadyLocked())
+		{
+			unlockInOverflow(adTableId, lockedRecordIds, lockOwner);
+			unlockForKeys(lockOwner, lockedInMemory);
+			throw new LockFailedException("Some of the records were already locked: " + alreadyLocked)
+					.setLockCommand(lockCommand);
+		}
+
+		return lockedRecordIds.size() + lockedInMemory.size();
+	}
+
+	private void unlockInOverflow(final int adTableId, final List<Integer> recordIds, final LockOwner lockOwner)
+	{
+		if (!recordIds.isEmpty())
+		{
+			overflowLocks.unlockRecordsNoFail(adTableId, recordIds, lockOwner);
+		}
+	}
+
+	private static List<LockKey> toLockKeys(final int adTableId, final Collection<Integer> recordIds)
+	{
+		return recordIds.stream()
+				.map(recordId -> LockKey.of(adTableId, recordId))
+				.collect(ImmutableList.toImmutableList());
+	}
+
+	private static List<Integer> toRecordIds(final Collection<LockKey> recordKeys)
+	{
+		return recordKeys.stream()
+				.map(LockKey::getRecordId)
+				.collect(ImmutableList.toImmutableList());
+	}
+
+	private boolean addLockInMemoryIfAllowed(final LockKey recordKey, final ILockCommand lockCommand)
+	{
+		try
+		{
+			return addLockInMemory(recordKey, lockCommand);
+		}
+		catch (final LockFailedException e)
+		{
+			// another owner has it and does not allow multiple owners
+			return false;
+		}
+	}
+
+	/**
+	 * Claims up to {@code limit} records with one SQL statement: the not locked records are selected in the query's order
+	 * and {@code pg_try_advisory_lock} is called until {@code limit} records were locked.
+	 * <p>
+	 * If that would exceed {@link #SYSCONFIG_MaxAdvisoryLocks}, the records are claimed one by one, and the ones above the maximum are locked with {@code T_Lock} records.
+	 */
+	@Override
+	public <T> List<T> retrieveAndLockMultipleRecords(@NonNull final IQuery<T> query, @NonNull final Class<T> clazz, final int limit)
+	{
+		Check.assume(limit > 0, "limit > 0");
+
+		final TypedSqlQuery<T> notLockedQuery = TypedSqlQuery.cast(retrieveNotLockedQuery(query));
+		if (notLockedQuery.hasLimitOrOffset() // we need to control LIMIT ourselves
+				|| getLocksCount() + limit > getMaxAdvisoryLocks())
+		{
+			return super.retrieveAndLockMultipleRecords(query, clazz, limit);
+		}
+
+		final String tableName = notLockedQuery.getTableName();
+		final String keyColumnNameFQ = tableName + "." + notLockedQuery.getKeyColumnName();
+		final int adTableId = Services.get(IADTableDAO.class).retrieveTableId(tableName);
+		final ILockCommand lockCommand = newLockCommand().setOwner(LockOwner.NONE);
+
+		final List<Object> sqlParams = new ArrayList<>();
+		sqlParams.addAll(notLockedQuery.getParametersEffective());
+		sqlParams.add(adTableId);
+		final String sql = "SELECT claimed.Record_ID FROM ("
+				+ notLockedQuery.buildSQL(
+						"SELECT " + keyColumnNameFQ + " AS Record_ID",
+						null, // fromClause
+						null, // groupByClause
+						true) // useOrderByClause
+				+ ") claimed"
+				// NOTE: the volatile function is not pushed into the subquery, so it's called in the query's order, only until we have enough records
+				+ "\n WHERE pg_try_advisory_lock(?, claimed.Record_ID)"
+				+ "\n LIMIT " + limit;
+
+		final List<Integer> lockedRecordIds = new ArrayList<>();
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			try (final PreparedStatement pstmt = getSession().getConnection().prepareStatement(sql))
+			{
+				DB.setParameters(pstmt, sqlParams);
+				try (final ResultSet rs = pstmt.executeQuery())
+				{
+					while (rs.next())
+					{
+						lockedRecordIds.add(rs.getInt(1));
+					}
+				}
+			}
+			catch (final SQLException e)
+			{
+				checkSessionAfterError(e);
+				throw new LockFailedException("Failed claiming records from " + tableName, e)
+						.setSql(sql, sqlParams.toArray());
+			}
+
+			// back off from the records which were locked with T_Lock records in the meantime; see lockInOverflow
+			final Set<Integer> lockedInOverflow;
+			try
+			{
+				lockedInOverflow = overflowLocks.retrieveLockedRecordIds(adTableId, lockedRecordIds);
+			}
+			catch (final RuntimeException ex)
+			{
+				releaseRecordLocks(toLockKeys(adTableId, lockedRecordIds));
+				throw ex;
+			}
+			if (!lockedInOverflow.isEmpty())
+			{
+				releaseRecordLocks(toLockKeys(adTableId, lockedInOverflow));
+				lockedRecordIds.removeAll(lockedInOverflow);
+			}
+
+			// the where clause excluded the records held by our session, so these are all new
+			final List<LockKey> registered = new ArrayList<>();
+			try
+			{
+				for (final Integer recordId : lockedRecordIds)
+				{
+					final LockKey recordKey = LockKey.of(adTableId, recordId);
+					addAcquiredLockInMemory(recordKey, lockCommand);
+					registered.add(recordKey);
+				}
+			}
+			catch (final RuntimeException ex)
+			{
+				// the failed one was already released; release the ones we did not get to and unlock the ones we registered
+				releaseRecordLocks(toLockKeys(adTableId, lockedRecordIds.subList(registered.size() + 1, lockedRecordIds.size())));
+				unlockForKeys(LockOwner.NONE, registered);
+				throw ex;
+			}
+		}
+
+		if (lockedRecordIds.isEmpty())
+		{
+			return ImmutableList.of();
+		}
+
+		//
+		// Load the claimed records, in the query's order
+		final List<Object> loadSqlParams = new ArrayList<>();
+		final List<T> models = TypedSqlQuery.cast(query)
+				.copy()
+				.addWhereClause(true, DB.buildSqlList(keyColumnNameFQ, lockedRecordIds, loadSqlParams), loadSqlParams)
+				.list(clazz);
+
+		// Release the records which we claimed but which no longer match the query
+		if (models.size() < lockedRecordIds.size())
+		{
+			final Set<Integer> loadedRecordIds = models.stream()
+					.map(InterfaceWrapperHelper::getId)
+					.collect(ImmutableSet.toImmutableSet());
+			final List<LockKey> keysToUnlock = lockedRecordIds.stream()
+					.filter(recordId -> !loadedRecordIds.contains(recordId))
+					.map(recordId -> LockKey.of(adTableId, recordId))
+					.collect(ImmutableList.toImmutableList());
+			unlockForKeys(LockOwner.NONE, keysToUnlock);
+		}
+
+		return models;
+	}
+
+	//
+	// Unlocking
+	//
+
+	@Override
+	protected int unlockBySelection(@NonNull final IUnlockCommand unlockCommand)
+	{
+		final int adTableId = unlockCommand.getSelectionToUnlock_AD_Table_ID();
+		final PInstanceId pinstanceId = unlockCommand.getSelectionToUnlock_AD_PInstance_ID();
+
+		final List<LockKey> recordKeys;
+		try
+		{
+			recordKeys = DB.retrieveRowsOutOfTrx(
+					"SELECT T_Selection_ID FROM T_Selection WHERE AD_PInstance_ID=?",
+					ImmutableList.<Object> of(pinstanceId),
+					rs -> LockKey.of(adTableId, rs.getInt(1)));
+		}
+		catch (final Exception e)
+		{
+			throw new UnlockFailedException("Failed unlocking selection", e)
+					.setUnlockCommand(unlockCommand);
+		}
+
+		final int countUnlocked = unlockForKeys(unlockCommand.getOwner(), recordKeys);
+		if (overflowLockOwners.isEmpty())
+		{
+			return countUnlocked;
+		}
+		return countUnlocked + overflowLocks.unlockBySelection(unlockCommand);
+	}
+
+	@Override
+	protected boolean unlockRecord(@NonNull final IUnlockCommand unlockCommand, @NonNull final TableRecordReference record)
+	{
+		final boolean unlocked = super.unlockRecord(unlockCommand, record);
+		if (overflowLockOwners.isEmpty())
+		{
+			return unlocked;
+		}
+		return overflowLocks.unlockRecord(unlockCommand, record) || unlocked;
+	}
+
+	@Override
+	protected int unlockByOwner(@NonNull final IUnlockCommand unlockCommand)
+	{
+		final int countUnlocked = super.unlockByOwner(unlockCommand);
+		if (!overflowLockOwners.remove(unlockCommand.getOwner()))
+		{
+			return countUnlocked;
+		}
+		return countUnlocked + overflowLocks.unlockByOwner(unlockCommand);
+	}
+
+	@Override
+	protected boolean changeLockRecord(@NonNull final ILockCommand lockCommand, @NonNull final TableRecordReference record)
+	{
+		if (super.changeLockRecord(lockCommand, record))
+		{
+			return true;
+		}
+
+		final ILock parentLock = lockCommand.getParentLock();
+		if (parentLock == null || !overflowLockOwners.contains(parentLock.getOwner()))
+		{
+			return false;
+		}
+
+		overflowLockOwners.add(lockCommand.getOwner());
+		return overflowLocks.changeLockRecord(lockCommand, record);
+	}
+
+	@Override
+	public ILock retrieveLockForOwner(@NonNull final LockOwner lockOwner)
+	{
+		if (!overflowLockOwners.contains(lockOwner))
+		{
+			return super.retrieveLockForOwner(lockOwner);
+		}
+
+		final ILock overflowLock = overflowLocks.retrieveLockForOwner(lockOwner);
+		return newLock(lockOwner, overflowLock.isAutoCleanup(), overflowLock.getCountLocked());
+	}
+
+	@Override
+	public int removeAutoCleanupLocks()
+	{
+		return super.removeAutoCleanupLocks() + overflowLocks.removeAutoCleanupLocks();
+	}
+
+	//
+	// Checking
+	//
+
+	@Override
+	public boolean isLocked(final int adTableId, final int recordId, @Nullable final LockOwner lockOwner)
+	{
+		Check.assume(adTableId > 0, "adTableId > 0");
+		if (recordId <= 0)
+		{
+			return false;
+		}
+
+		if (lockOwner == null || lockOwner.isAnyOwner())
+		{
+			return super.isLocked(adTableId, recordId, LockOwner.ANY)
+					|| isLockedByAnySession(adTableId, recordId)
+					|| overflowLocks.isLocked(adTableId, recordId, LockOwner.ANY);
+		}
+
+		// we know only the lock owners of this JVM
+		return super.isLocked(adTableId, recordId, lockOwner)
+				|| overflowLockOwners.contains(lockOwner) && overflowLocks.isLocked(adTableId, recordId, lockOwner);
+	}
+
+	private static boolean isLockedByAnySession(final int adTableId, final int recordId)
+	{
+		final String sql = "SELECT COUNT(1) FROM (" + SQL_AdvisoryLocks + " AND zz.classid=?) l WHERE l.Record_ID=?";
+		return DB.getSQLValueEx(ITrx.TRXNAME_None, sql, adTableId, recordId) > 0;
+	}
+
+	@Override
+	protected <T> IQuery<T> retrieveNotLockedQuery(final IQuery<T> query)
+	{
+		final TypedSqlQuery<T> sqlQuery = TypedSqlQuery.cast(query);
+
+		final String tableName = sqlQuery.getTableName();
+		final String keyColumnNameFQ = tableName + "." + sqlQuery.getKeyColumnName();
+
+		return sqlQuery.addWhereClause(true, getNotLockedWhereClause(tableName, keyColumnNameFQ));
+	}
+
+	@Override
+	public String getNotLockedWhereClause(final String tableName, final String joinColumnNameFQ)
+	{
+		Check.assumeNotEmpty(tableName, "tableName not empty");
+		final int adTableId = Services.get(IADTableDAO.class).retrieveTableId(tableName);
+		Check.assume(adTableId > 0, "Table {} exists", tableName);
+
+		return "NOT " + getLockedByAnySessionWhereClause(adTableId, joinColumnNameFQ)
+				+ " AND " + overflowLocks.getNotLockedWhereClause(tableName, joinColumnNameFQ);
+	}
+
+	@Override
+	public <T> IQueryFilter<T> getNotLockedFilter(final Class<T> modelClass)
+	{
+		final String tableName = InterfaceWrapperHelper.getTableName(modelClass);
+		final String joinColumnNameFQ = tableName + "." + InterfaceWrapperHelper.getKeyColumnName(tableName);
+		return TypedSqlQueryFilter.of(getNotLockedWhereClause(tableName, joinColumnNameFQ));
+	}
+
+	@Override
+	public <T> IQueryFilter<T> getLockedByFilter(final Class<T> modelClass, final LockOwner lockOwner)
+	{
+		final String tableName = InterfaceWrapperHelper.getTableName(modelClass);
+		final String joinColumnNameFQ = tableName + "." + InterfaceWrapperHelper.getKeyColumnName(tableName);
+		return TypedSqlQueryFilter.of(getLockedWhereClause(modelClass, joinColumnNameFQ, lockOwner));
+	}
+
+	@Override
+	protected String getLockedWhereClauseAllowNullLock(@NonNull final Class<?> modelClass, final String joinColumnNameFQ, @Nullable final LockOwner lockOwner)
+	{
+		final int adTableId = InterfaceWrapperHelper.getTableId(modelClass);
+		Check.assume(adTableId > 0, "Table {} exists", modelClass);
+		Check.assumeNotEmpty(joinColumnNameFQ, "joinColumnNameFQ not empty");
+
+		if (lockOwner == null || lockOwner.isAnyOwner())
+		{
+			return "(" + getLockedByAnySessionWhereClause(adTableId, joinColumnNameFQ)
+					+ " OR " + overflowLocks.getLockedWhereClauseAllowNullLock(modelClass, joinColumnNameFQ, null) + ")";
+		}
+
+		// we know only the lock owners of this JVM
+		final List<Integer> recordIds = getLockedRecordIds(adTableId, lockOwner);
+		final String lockedInMemoryWhereClause = recordIds.isEmpty() ? "1=2" : DB.buildSqlList(joinColumnNameFQ, recordIds);
+		if (!overflowLockOwners.contains(lockOwner))
+		{
+			return lockedInMemoryWhereClause;
+		}
+		return "(" + lockedInMemoryWhereClause
+				+ " OR " + overflowLocks.getLockedWhereClauseAllowNullLock(modelClass, joinColumnNameFQ, lockOwner) + ")";
+	}
+
+	/**
+	 * NOTE: the subquery is not correlated, so postgres reads {@code pg_locks} once per query and probes the (hashed) result for each row,
+	 * instead of reading {@code pg_locks} once per row.
+	 */
+	private static String getLockedByAnySessionWhereClause(final int adTableId, final String joinColumnNameFQ)
+	{
+		Check.assumeNotEmpty(joinColumnNameFQ, "joinColumnNameFQ not empty");
+		return "(" + joinColumnNameFQ + " IN (" + SQL_AdvisoryLocks + " AND zz.classid=" + adTableId + "))";
+	}
+
+	private List<Integer> getLockedRecordIds(final int adTableId, final LockOwner lockOwner)
+	{
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			return getLocks()
+					.stream()
+					.filter(recordKey -> recordKey.getAdTableId() == adTableId)
+					.filter(recordKey -> super.isLocked(adTableId, recordKey.getRecordId(), lockOwner))
+					.map(LockKey::getRecordId)
+					.collect(ImmutableList.toImmutableList());
+		}
+	}
+}
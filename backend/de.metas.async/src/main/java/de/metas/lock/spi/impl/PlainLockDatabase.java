@@ -23,6 +23,7 @@ package de.metas.lock.spi.impl;
  */
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -70,7 +71,7 @@ public class PlainLockDatabase extends AbstractLockDatabase
 {
 	private static final Logger logger = LogManager.getLogger(PlainLockDatabase.class);
 
-	private final CloseableReentrantLock mainLock = new CloseableReentrantLock();
+	protected final CloseableReentrantLock mainLock = new CloseableReentrantLock();
 	private final Map<LockKey, RecordLocks> locks = new LinkedHashMap<>();
 
 	public void dump()
@@ -182,11 +183,90 @@ public class PlainLockDatabase extends AbstractLockDatabase
 
 		try (final CloseableReentrantLock lock = mainLock.open())
 		{
-			final RecordLocks recordLock = locks.computeIfAbsent(recordKey, RecordLocks::new);
-			return recordLock.addLock(new LockInfo(recordKey, lockCommand));
+			if (hasLocksInMemory(recordKey))
+			{
+				return addLockInMemory(recordKey, lockCommand);
+			}
+
+			if (!acquireRecordLock(recordKey))
+			{
+				return false;
+			}
+			return addAcquiredLockInMemory(recordKey, lockCommand);
+		}
+	}
+
+	/**
+	 * Same as {@link #addLockInMemory(LockKey, ILockCommand)}, but for a record which was just acquired by {@link #acquireRecordLock(LockKey)}:
+	 * if the lock can't be added, the acquired record lock is released again. Caller must hold {@link #mainLock}.
+	 */
+	protected final boolean addAcquiredLockInMemory(@NonNull final LockKey recordKey, @NonNull final ILockCommand lockCommand)
+	{
+		try
+		{
+			return addLockInMemory(recordKey, lockCommand);
+		}
+		catch (final RuntimeException ex)
+		{
+			if (!hasLocksInMemory(recordKey))
+			{
+				locks.remove(recordKey);
+				releaseRecordLocks(ImmutableList.of(recordKey));
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Adds a lock for the owner of given command, without calling {@link #acquireRecordLock(LockKey)}. Caller must hold {@link #mainLock}.
+	 *
+	 * @return true if lock was added; false if already exists
+	 */
+	protected final boolean addLockInMemory(@NonNull final LockKey recordKey, @NonNull final ILockCommand lockCommand)
+	{
+		final RecordLocks recordLock = locks.computeIfAbsent(recordKey, RecordLocks::new);
+		return recordLock.addLock(new LockInfo(recordKey, lockCommand));
+	}
+
+	/**
+	 * @return true if any owner holds a lock on given record. Caller must hold {@link #mainLock}.
+	 */
+	protected final boolean hasLocksInMemory(@NonNull final LockKey recordKey)
+	{
+		final RecordLocks recordLock = locks.get(recordKey);
+		return recordLock != null && recordLock.hasLocks();
+	}
+
+	/**
+	 * Forgets all locks, without calling {@link #releaseRecordLocks(List)}.
+	 */
+	protected final void clearLocksInMemory()
+	{
+		try (final CloseableReentrantLock lock = mainLock.open())
+		{
+			locks.clear();
 		}
 	}
 
+	/**
+	 * Called (while holding {@link #mainLock}) before the first owner locks given record.
+	 * Extending classes can acquire a lock in an external system here.
+	 *
+	 * @return false if the record could not be locked
+	 */
+	protected boolean acquireRecordLock(final LockKey recordKey)
+	{
+		return true;
+	}
+
+	/**
+	 * Called (while holding {@link #mainLock}) after the last owner released its lock on given records.
+	 */
+	protected void releaseRecordLocks(final List<LockKey> recordKeys)
+	{
+		// nothing
+	}
+
 	@Override
 	protected boolean changeLockRecord(final ILockCommand lockCommand, final TableRecordReference record)
 	{
@@ -222,29 +302,46 @@ public class PlainLockDatabase extends AbstractLockDatabase
 	{
 		final LockOwner ownerRequired = unlockCommand.getOwner();
 
-		final boolean unlockForRecord = unlockForKey(ownerRequired, createKeyForRecord(record));
+		final int countUnlocked = unlockForKeys(ownerRequired, ImmutableList.of(createKeyForRecord(record)));
 
-		return unlockForRecord;
+		return countUnlocked > 0;
 	}
 
-	private boolean unlockForKey(final LockOwner ownerRequired, final LockKey recordKey)
+	/**
+	 * @return how many of given records were unlocked
+	 */
+	protected final int unlockForKeys(final LockOwner ownerRequired, final Collection<LockKey> recordKeys)
 	{
 		try (final CloseableReentrantLock lock = mainLock.open())
 		{
-			final RecordLocks recordLock = locks.get(recordKey);
-			if (recordLock == null)
+			int countUnlocked = 0;
+			final List<LockKey> releasedKeys = new ArrayList<>();
+			for (final LockKey recordKey : recordKeys)
 			{
-				return false;
-			}
+				final RecordLocks recordLock = locks.get(recordKey);
+				if (recordLock == null)
+				{
+					continue;
+				}
 
-			final boolean removed = recordLock.removeLocks(ownerRequired);
+				if (recordLock.removeLocks(ownerRequired))
+				{
+					countUnlocked++;
+				}
 
-			if (!recordLock.hasLocks())
+				if (!recordLock.hasLocks())
+				{
+					locks.remove(recordLock.getKey());
+					releasedKeys.add(recordLock.getKey());
+				}
+			}
+
+			if (!releasedKeys.isEmpty())
 			{
-				locks.remove(recordLock.getKey());
+				releaseRecordLocks(releasedKeys);
 			}
 
-			return removed;
+			return countUnlocked;
 		}
 	}
 
@@ -263,6 +360,7 @@ public class PlainLockDatabase extends AbstractLockDatabase
 		try (final CloseableReentrantLock lock = mainLock.open())
 		{
 			int countAffected = 0;
+			final List<LockKey> releasedKeys = new ArrayList<>();
 
 			for (final Iterator<RecordLocks> it = locks.values().iterator(); it.hasNext();)
 			{
@@ -273,9 +371,15 @@ public class PlainLockDatabase extends AbstractLockDatabase
 				if (!recordLocks.hasLocks())
 				{
 					it.remove();
+					releasedKeys.add(recordLocks.getKey());
 				}
 			}
 
+			if (!releasedKeys.isEmpty())
+			{
+				releaseRecordLocks(releasedKeys);
+			}
+
 			return countAffected;
 		}
 
@@ -612,7 +716,7 @@ public class PlainLockDatabase extends AbstractLockDatabase
 	}
 
 	@Override
-	public final <T> IQueryFilter<T> getLockedByFilter(final Class<T> modelClass, final LockOwner lockOwner)
+	public <T> IQueryFilter<T> getLockedByFilter(final Class<T> modelClass, final LockOwner lockOwner)
 	{
 		return model -> isLocked(model, lockOwner);
 	}
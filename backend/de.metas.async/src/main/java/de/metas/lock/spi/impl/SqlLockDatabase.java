@@ -5,7 +5,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.adempiere.ad.dao.IQueryFilter;
 import org.adempiere.ad.dao.ISqlQueryFilter;
@@ -15,11 +19,15 @@ import org.adempiere.ad.table.api.IADTableDAO;
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.exceptions.DBUniqueConstraintException;
 import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.util.lang.ImmutablePair;
 import org.adempiere.util.lang.impl.TableRecordReference;
 import org.compiere.model.IQuery;
 import org.compiere.util.DB;
 import org.compiere.util.DisplayType;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
 import de.metas.lock.api.ILock;
 import de.metas.lock.api.ILockCommand;
 import de.metas.lock.api.IUnlockCommand;
@@ -307,6 +315,207 @@ public class SqlLockDatabase extends AbstractLockDatabase
 		}
 	}
 
+	/**
+	 * Claims up to {@code limit} records with one SQL statement, without the select-and-retry loop of {@link #retrieveAndLock(IQuery, Class)}.
+	 * <p>
+	 * The not locked records are selected in the query's order using {@code FOR UPDATE SKIP LOCKED}, so concurrent callers neither wait for each other nor pick the same rows,
+	 * and their {@link I_T_Lock} records are inserted by the same statement.
+	 * The {@link I_T_Lock} records stay the "in progress" marker, so unlocking and lock cleanup work as before.
+	 */
+	@Override
+	public <T> List<T> retrieveAndLockMultipleRecords(@NonNull final IQuery<T> query, @NonNull final Class<T> clazz, final int limit)
+	{
+		Check.assume(limit > 0, "limit > 0");
+
+		final TypedSqlQuery<T> notLockedQuery = TypedSqlQuery.cast(retrieveNotLockedQuery(query));
+		if (notLockedQuery.hasLimitOrOffset())
+		{
+			// we need to control LIMIT ourselves
+			return super.retrieveAndLockMultipleRecords(query, clazz, limit);
+		}
+
+		final String tableName = notLockedQuery.getTableName();
+		final String keyColumnNameFQ = tableName + "." + notLockedQuery.getKeyColumnName();
+		final int adTableId = Services.get(IADTableDAO.class).retrieveTableId(tableName);
+		final LockOwner lockOwner = LockOwner.NONE;
+
+		final List<Object> sqlParams = new ArrayList<>();
+		final String sqlInsert = "INSERT INTO " + I_T_Lock.Table_Name + " ("
+				+ I_T_Lock.COLUMNNAME_AD_Table_ID
+				+ ", " + I_T_Lock.COLUMNNAME_Record_ID
+				+ ", " + I_T_Lock.COLUMNNAME_Owner
+				+ ", " + I_T_Lock.COLUMNNAME_IsAutoCleanup
+				+ ", " + I_T_Lock.COLUMNNAME_IsAllowMultipleOwners
+				+ ")"
+				//
+				+ " SELECT "
+				+ toSqlParam(adTableId, sqlParams) // AD_Table_ID
+				+ ", claimed.Record_ID" // Record_ID
+				+ ", " + toSqlParam(lockOwner.getOwnerName(), sqlParams) // Owner
+				+ ", " + toSqlParam(true, sqlParams) // IsAutoCleanup
+				+ ", " + toSqlParam(false, sqlParams); // IsAllowMultipleOwners
+
+		final String sqlClaim = notLockedQuery.buildSQL(
+				"SELECT " + keyColumnNameFQ + " AS Record_ID",
+				null, // fromClause
+				null, // groupByClause
+				true) // useOrderByClause
+				+ "\n LIMIT " + limit
+				+ "\n FOR UPDATE SKIP LOCKED";
+		sqlParams.addAll(notLockedQuery.getParametersEffective());
+
+		final String sql = sqlInsert
+				+ "\n FROM (" + sqlClaim + ") claimed"
+				// another client could have locked one of our rows between its commit and our snapshot; in that case just don't claim it
+				+ "\n ON CONFLICT (" + I_T_Lock.COLUMNNAME_AD_Table_ID + ", " + I_T_Lock.COLUMNNAME_Record_ID + ") WHERE " + I_T_Lock.COLUMNNAME_IsAllowMultipleOwners + "='N' DO NOTHING"
+				+ "\n RETURNING " + I_T_Lock.COLUMNNAME_Record_ID;
+
+		final List<Integer> lockedRecordIds = new ArrayList<>();
+		PreparedStatement pstmt = null;
+		ResultSet rs = null;
+		try
+		{
+			pstmt = DB.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE, ITrx.TRXNAME_None);
+			DB.setParameters(pstmt, sqlParams);
+			rs = pstmt.executeQuery();
+			while (rs.next())
+			{
+				lockedRecordIds.add(rs.getInt(1));
+			}
+		}
+		catch (final SQLException e)
+		{
+			throw new LockFailedException("Failed claiming records from " + tableName, e)
+					.setSql(sql, sqlParams.toArray());
+		}
+		finally
+		{
+			DB.close(rs, pstmt);
+			rs = null;
+			pstmt = null;
+		}
+
+		if (lockedRecordIds.isEmpty())
+		{
+			return ImmutableList.of();
+		}
+
+		//
+		// Load the claimed records, in the query's order
+		final List<Object> loadSqlParams = new ArrayList<>();
+		final List<T> models = TypedSqlQuery.cast(query)
+				.copy()
+				.addWhereClause(true, DB.buildSqlList(keyColumnNameFQ, lockedRecordIds, loadSqlParams), loadSqlParams)
+				.list(clazz);
+
+		// Release the records which we claimed but which no longer match the query
+		if (models.size() < lockedRecordIds.size())
+		{
+			final Set<Integer> loadedRecordIds = models.stream()
+					.map(InterfaceWrapperHelper::getId)
+					.collect(ImmutableSet.toImmutableSet());
+			final List<Integer> recordIdsToUnlock = lockedRecordIds.stream()
+					.filter(recordId -> !loadedRecordIds.contains(recordId))
+					.collect(ImmutableList.toImmutableList());
+			unlockRecordsNoFail(adTableId, recordIdsToUnlock, lockOwner);
+		}
+
+		return models;
+	}
+
+	void unlockRecordsNoFail(final int adTableId, final List<Integer> recordIds, final LockOwner lockOwner)
+	{
+		final StringBuilder sql = new StringBuilder(SQL_DeleteLock);
+		final List<Object> sqlParams = new ArrayList<>();
+		sql.append(" AND ").append(I_T_Lock.COLUMNNAME_AD_Table_ID).append("=").append(toSqlParam(adTableId, sqlParams));
+		sql.append(" AND ").append(DB.buildSqlList(I_T_Lock.COLUMNNAME_Record_ID, recordIds, sqlParams));
+		appendLockOwnerWhereClause(lockOwner, sql, sqlParams);
+
+		try
+		{
+			DB.executeUpdateEx(sql.toString(), sqlParams.toArray(), ITrx.TRXNAME_None);
+		}
+		catch (final Exception e)
+		{
+			logger.warn("Failed unlocking AD_Table_ID={}, Record_IDs={}. Ignored.", adTableId, recordIds, e);
+		}
+	}
+
+	/**
+	 * Locks the records selected by given SQL for the owner of given command, skipping the ones which are already locked.
+	 * Used by {@link AdvisoryLockDatabase} for the records above its advisory locks cap.
+	 *
+	 * @param sqlRecordIds SQL which selects the Record_IDs to lock, as its first column
+	 * @return for each selected Record_ID, if it was locked by this call
+	 */
+	Map<Integer, Boolean> lockBySql(
+			@NonNull final ILockCommand lockCommand,
+			final int adTableId,
+			@NonNull final String sqlRecordIds,
+			@NonNull final List<Object> sqlRecordIdsParams)
+	{
+		final LockOwner lockOwner = lockCommand.getOwner();
+		assertValidLockOwner(lockOwner);
+
+		final List<Object> sqlParams = new ArrayList<>(sqlRecordIdsParams);
+		final String sql = "WITH selected AS (SELECT DISTINCT s.Record_ID FROM (" + sqlRecordIds + ") s (Record_ID))"
+				+ "\n, locked AS ("
+				+ "INSERT INTO " + I_T_Lock.Table_Name + " ("
+				+ I_T_Lock.COLUMNNAME_AD_Table_ID
+				+ ", " + I_T_Lock.COLUMNNAME_Record_ID
+				+ ", " + I_T_Lock.COLUMNNAME_Owner
+				+ ", " + I_T_Lock.COLUMNNAME_IsAutoCleanup
+				+ ", " + I_T_Lock.COLUMNNAME_IsAllowMultipleOwners
+				+ ")"
+				//
+				+ " SELECT "
+				+ toSqlParam(adTableId, sqlParams) // AD_Table_ID
+				+ ", selected.Record_ID" // Record_ID
+				+ ", " + toSqlParam(lockOwner.getOwnerName(), sqlParams) // Owner
+				+ ", " + toSqlParam(lockCommand.isAutoCleanup(), sqlParams) // IsAutoCleanup
+				+ ", " + toSqlParam(isAllowMultipleOwners(lockCommand.getAllowAdditionalLocks()), sqlParams) // IsAllowMultipleOwners
+				+ " FROM selected"
+				// the records which are already locked are just not locked by us
+				+ " ON CONFLICT DO NOTHING"
+				+ " RETURNING " + I_T_Lock.COLUMNNAME_Record_ID
+				+ ")"
+				+ "\n SELECT selected.Record_ID, locked." + I_T_Lock.COLUMNNAME_Record_ID + " IS NOT NULL AS IsLocked"
+				+ " FROM selected LEFT OUTER JOIN locked ON locked." + I_T_Lock.COLUMNNAME_Record_ID + "=selected.Record_ID";
+
+		try
+		{
+			final Map<Integer, Boolean> lockedByRecordId = new LinkedHashMap<>();
+			DB.retrieveRowsOutOfTrx(sql, sqlParams, rs -> ImmutablePair.of(rs.getInt(1), rs.getBoolean(2)))
+					.forEach(recordIdAndLocked -> lockedByRecordId.put(recordIdAndLocked.getLeft(), recordIdAndLocked.getRight()));
+			return lockedByRecordId;
+		}
+		catch (final Exception e)
+		{
+			throw LockFailedException.wrapIfNeeded(e)
+					.setLockCommand(lockCommand)
+					.setSql(sql, sqlParams.toArray());
+		}
+	}
+
+	/**
+	 * @return those of given records which are locked by any owner
+	 */
+	Set<Integer> retrieveLockedRecordIds(final int adTableId, @NonNull final Collection<Integer> recordIds)
+	{
+		if (recordIds.isEmpty())
+		{
+			return ImmutableSet.of();
+		}
+
+		final List<Object> sqlParams = new ArrayList<>();
+		final String sql = "SELECT DISTINCT " + I_T_Lock.COLUMNNAME_Record_ID
+				+ " FROM " + I_T_Lock.Table_Name
+				+ " WHERE " + I_T_Lock.COLUMNNAME_AD_Table_ID + "=" + toSqlParam(adTableId, sqlParams)
+				+ " AND " + DB.buildSqlList(I_T_Lock.COLUMNNAME_Record_ID, recordIds, sqlParams);
+
+		return ImmutableSet.copyOf(DB.retrieveRowsOutOfTrx(sql, sqlParams, rs -> rs.getInt(1)));
+	}
+
 	@Override
 	protected boolean changeLockRecord(final ILockCommand lockCommand, final TableRecordReference record)
 	{
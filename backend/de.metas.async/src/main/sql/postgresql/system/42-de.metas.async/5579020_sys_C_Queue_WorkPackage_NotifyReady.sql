@@ -0,0 +1,36 @@
+--
+-- Send a NOTIFY on channel c_queue_workpackage_ready (payload: C_Queue_PackageProcessor_ID) whenever a workpackage becomes ready for processing,
+-- no matter if it was enqueued by the application server or directly in database (e.g. by "de.metas.async".ExecuteSqlAsync).
+-- The notification is delivered when the transaction commits; identical notifications of the same transaction are delivered only once.
+-- See de.metas.async.api.impl.WorkPackageReadyNotifications.
+--
+CREATE OR REPLACE FUNCTION "de.metas.async".C_Queue_WorkPackage_NotifyReady_Trigger()
+    RETURNS trigger
+AS
+$BODY$
+BEGIN
+    IF (TG_OP = 'UPDATE'
+        AND OLD.IsReadyForProcessing = 'Y' AND OLD.Processed = 'N' AND OLD.IsError = 'N' AND OLD.IsActive = 'Y') THEN
+        RETURN NULL; -- was already ready before
+    END IF;
+
+    PERFORM pg_notify('c_queue_workpackage_ready', b.C_Queue_PackageProcessor_ID::text)
+    FROM C_Queue_Block b
+    WHERE b.C_Queue_Block_ID = NEW.C_Queue_Block_ID;
+
+    RETURN NULL;
+END;
+$BODY$
+    LANGUAGE plpgsql VOLATILE
+;
+
+DROP TRIGGER IF EXISTS C_Queue_WorkPackage_NotifyReady_Trigger ON C_Queue_WorkPackage
+;
+
+CREATE TRIGGER C_Queue_WorkPackage_NotifyReady_Trigger
+    AFTER INSERT OR UPDATE OF IsReadyForProcessing, Processed, IsError, IsActive
+    ON C_Queue_WorkPackage
+    FOR EACH ROW
+    WHEN (NEW.IsReadyForProcessing = 'Y' AND NEW.Processed = 'N' AND NEW.IsError = 'N' AND NEW.IsActive = 'Y')
+EXECUTE PROCEDURE "de.metas.async".C_Queue_WorkPackage_NotifyReady_Trigger()
+;
@@ -0,0 +1,77 @@
+package de.metas.async.api.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import de.metas.async.QueueProcessorTestBase;
+import de.metas.async.api.IWorkPackageQueue;
+import de.metas.async.api.WorkPackageDequeueStrategy;
+import de.metas.async.model.I_C_Queue_WorkPackage;
+import de.metas.async.processor.IWorkPackageQueueFactory;
+import de.metas.async.processor.impl.StaticMockedWorkpackageProcessor;
+import de.metas.util.Services;
+
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class TestQueue_SkipLockedDequeue extends QueueProcessorTestBase
+{
+	@Test
+	public void pollAndLock_batchOfThree()
+	{
+		final IWorkPackageQueue queueForEnqueuing = Services.get(IWorkPackageQueueFactory.class).getQueueForEnqueuing(ctx, StaticMockedWorkpackageProcessor.class);
+		final List<I_C_Queue_WorkPackage> workpackages = helper.createAndEnqueueWorkpackages(queueForEnqueuing, 4, true);
+
+		final int packageProcessorId = workpackages.get(0).getC_Queue_PackageProcessor_ID();
+		final WorkPackageQueue queue = WorkPackageQueue.createForQueueProcessing(ctx,
+				ImmutableList.of(packageProcessorId),
+				null, // priorityFrom
+				WorkPackageDequeueStrategy.SkipLocked,
+				3); // dequeueBatchSize
+
+		final I_C_Queue_WorkPackage polled1 = queue.pollAndLock(IWorkPackageQueue.TIMEOUT_OneTimeOnly);
+		assertThat(polled1.getC_Queue_WorkPackage_ID()).isEqualTo(workpackages.get(0).getC_Queue_WorkPackage_ID());
+
+		// the whole batch was locked at once
+		assertThat(lockManager.isLocked(workpackages.get(1))).isTrue();
+		assertThat(lockManager.isLocked(workpackages.get(2))).isTrue();
+		assertThat(lockManager.isLocked(workpackages.get(3))).isFalse();
+
+		final I_C_Queue_WorkPackage polled2 = queue.pollAndLock(IWorkPackageQueue.TIMEOUT_OneTimeOnly);
+		assertThat(polled2.getC_Queue_WorkPackage_ID()).isEqualTo(workpackages.get(1).getC_Queue_WorkPackage_ID());
+
+		// the remaining prefetched package is released, the polled ones stay locked
+		queue.unlockPrefetchedNoFail();
+		assertThat(lockManager.isLocked(workpackages.get(0))).isTrue();
+		assertThat(lockManager.isLocked(workpackages.get(1))).isTrue();
+		assertThat(lockManager.isLocked(workpackages.get(2))).isFalse();
+
+		queue.unlock(polled1);
+		queue.unlock(polled2);
+		helper.assertNothingLocked();
+	}
+}
@@ -0,0 +1,200 @@
+package de.metas.async.api.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.adempiere.test.AdempiereTestHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+public class WorkPackageReadyNotificationsTest
+{
+	private WorkPackageReadyNotifications listeningNotifications;
+
+	@Before
+	public void init()
+	{
+		AdempiereTestHelper.get().init();
+	}
+
+	@After
+	public void stopListener() throws InterruptedException
+	{
+		if (listeningNotifications != null)
+		{
+			listeningNotifications.stopListener();
+		}
+	}
+
+	@Test
+	public void notifyReady_wakesOnlySubscribersOfThatPackageProcessor() throws InterruptedException
+	{
+		final WorkPackageReadyNotifications notifications = WorkPackageReadyNotifications.get();
+
+		final WorkPackageReadySignal signal1 = new WorkPackageReadySignal();
+		final WorkPackageReadySignal signal12 = new WorkPackageReadySignal();
+		final WorkPackageReadySignal signal2 = new WorkPackageReadySignal();
+		notifications.subscribe(ImmutableList.of(1001), signal1);
+		notifications.subscribe(ImmutableList.of(1001, 1002), signal12);
+		notifications.subscribe(ImmutableList.of(1002), signal2);
+
+		final long generation1 = signal1.getGeneration();
+		final long generation12 = signal12.getGeneration();
+		final long generation2 = signal2.getGeneration();
+
+		notifications.notifyReady(1001);
+
+		// signaled before we started waiting => no lost wake-up
+		assertThat(signal1.awaitSignalSince(generation1, 1000)).isTrue();
+		assertThat(signal12.awaitSignalSince(generation12, 1000)).isTrue();
+		assertThat(signal2.awaitSignalSince(generation2, 10)).isFalse();
+	}
+
+	@Test
+	public void databaseNotification_wakesOnlySubscribersOfThatPackageProcessor() throws Exception
+	{
+		final BlockingQueue<FakeNotificationsSource> connections = new LinkedBlockingQueue<>();
+		listeningNotifications = new WorkPackageReadyNotifications(() -> offer(connections, new FakeNotificationsSource()), 10);
+
+		final WorkPackageReadySignal signal1 = new WorkPackageReadySignal();
+		final WorkPackageReadySignal signal2 = new WorkPackageReadySignal();
+		listeningNotifications.subscribe(ImmutableList.of(1001), signal1);
+		listeningNotifications.subscribe(ImmutableList.of(1002), signal2);
+		assertThat(listeningNotifications.isListening()).isFalse();
+
+		listeningNotifications.startListener();
+		final FakeNotificationsSource connection = connections.poll(10, TimeUnit.SECONDS);
+		assertThat(connection).isNotNull();
+		awaitConnectedSignal(signal1);
+		awaitConnectedSignal(signal2);
+		assertThat(listeningNotifications.isListening()).isTrue();
+
+		final long generation1 = signal1.getGeneration();
+		final long generation2 = signal2.getGeneration();
+		connection.receive(String.valueOf(1001));
+		connection.receive("not-a-number");
+
+		assertThat(signal1.awaitSignalSince(generation1, 10000)).isTrue();
+		assertThat(signal2.awaitSignalSince(generation2, 100)).isFalse();
+	}
+
+	@Test
+	public void connectionLost_reconnectsAndListensAgain() throws Exception
+	{
+		final BlockingQueue<FakeNotificationsSource> connections = new LinkedBlockingQueue<>();
+		listeningNotifications = new WorkPackageReadyNotifications(() -> offer(connections, new FakeNotificationsSource()), 10);
+
+		final WorkPackageReadySignal signal = new WorkPackageReadySignal();
+		listeningNotifications.subscribe(ImmutableList.of(1001), signal);
+		listeningNotifications.startListener();
+
+		final FakeNotificationsSource connection1 = connections.poll(10, TimeUnit.SECONDS);
+		assertThat(connection1).isNotNull();
+
+		connection1.lose();
+		final FakeNotificationsSource connection2 = connections.poll(10, TimeUnit.SECONDS);
+		assertThat(connection2).isNotNull().isNotSameAs(connection1);
+		assertThat(connection1.closed).isTrue();
+		awaitConnectedSignal(signal);
+
+		final long generation = signal.getGeneration();
+		connection2.receive(String.valueOf(1001));
+		assertThat(signal.awaitSignalSince(generation, 10000)).isTrue();
+	}
+
+	/**
+	 * The listener signals all subscribers after (re)connecting, because notifications might have been missed meanwhile.
+	 */
+	private static void awaitConnectedSignal(final WorkPackageReadySignal signal) throws InterruptedException
+	{
+		assertThat(signal.awaitSignalSince(0, 10000)).as("signaled after connect").isTrue();
+	}
+
+	private static <T> T offer(final BlockingQueue<T> queue, final T item)
+	{
+		queue.add(item);
+		return item;
+	}
+
+	private static final class FakeNotificationsSource implements WorkPackageReadyNotifications.NotificationsSource
+	{
+		private static final Object CONNECTION_LOST = new Object();
+
+		private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+		private volatile boolean closed = false;
+
+		void receive(final String payload)
+		{
+			received.add(payload);
+		}
+
+		void lose()
+		{
+			received.add(CONNECTION_LOST);
+		}
+
+		@Override
+		public List<String> poll(final int timeoutMillis) throws SQLException
+		{
+			final Object item;
+			try
+			{
+				item = received.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return Collections.emptyList();
+			}
+
+			if (item == null)
+			{
+				return Collections.emptyList();
+			}
+			else if (item == CONNECTION_LOST)
+			{
+				throw new SQLException("connection lost");
+			}
+			else
+			{
+				return Collections.singletonList((String)item);
+			}
+		}
+
+		@Override
+		public void close()
+		{
+			closed = true;
+		}
+	}
+}
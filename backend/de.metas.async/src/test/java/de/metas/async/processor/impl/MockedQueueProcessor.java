@@ -108,4 +108,9 @@ public class MockedQueueProcessor implements IQueueProcessor
 	public void notifyWorkpackageProcessed(final I_C_Queue_WorkPackage workPackage, final IWorkpackageProcessor workPackageProcessor)
 	{
 	}
+
+	@Override
+	public void notifyWorkpackageStarting(final I_C_Queue_WorkPackage workPackage, final IWorkpackageProcessor workPackageProcessor)
+	{
+	}
 }
@@ -0,0 +1,479 @@
+package de.metas.lock.spi.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.adempiere.service.ClientId;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.test.AdempiereTestHelper;
+import org.adempiere.util.lang.impl.TableRecordReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import de.metas.lock.api.ILock;
+import de.metas.lock.api.ILockCommand;
+import de.metas.lock.api.ILockCommand.AllowAdditionalLocks;
+import de.metas.lock.api.ILockManager;
+import de.metas.lock.api.IUnlockCommand;
+import de.metas.lock.api.LockOwner;
+import de.metas.lock.api.impl.LockManager;
+import de.metas.lock.exceptions.LockFailedException;
+import de.metas.lock.spi.ILockDatabase;
+import de.metas.lock.spi.impl.PlainLockDatabase.LockKey;
+import de.metas.organization.OrgId;
+import de.metas.util.Services;
+
+/*
+ * #%L
+ * de.metas.async
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+/**
+ * Tests the contract of {@link PlainLockDatabase#acquireRecordLock(LockKey)} and {@link PlainLockDatabase#releaseRecordLocks(List)},
+ * both for a {@link PlainLockDatabase} which implements them and for {@link AdvisoryLockDatabase}, with a fake advisory locks session.
+ * For the latter, also tests the fallback to {@code T_Lock} records, with a fake {@link SqlLockDatabase}.
+ */
+public class PlainLockDatabase_RecordLockHooksTest
+{
+	private static final int AD_Table_ID = 123;
+
+	/**
+	 * Stands for the external locks, e.g. the postgres advisory locks.
+	 */
+	private static class ExternalLocks
+	{
+		private final Set<LockKey> lockedExternally = new HashSet<>();
+		private final Set<LockKey> lockedByOthers = new HashSet<>();
+
+		boolean tryLock(final LockKey recordKey)
+		{
+			if (lockedByOthers.contains(recordKey))
+			{
+				return false;
+			}
+			assertThat(lockedExternally.add(recordKey)).as("acquired only once: %s", recordKey).isTrue();
+			return true;
+		}
+
+		void release(final LockKey recordKey)
+		{
+			assertThat(lockedExternally.remove(recordKey)).as("released only once: %s", recordKey).isTrue();
+		}
+
+		boolean isLocked(final LockKey recordKey)
+		{
+			return lockedExternally.contains(recordKey) || lockedByOthers.contains(recordKey);
+		}
+	}
+
+	/**
+	 * Stands for the {@code T_Lock} records. Takes the SQL parameters as the selected Record_IDs.
+	 */
+	private static class FakeOverflowLocks extends SqlLockDatabase
+	{
+		private final Map<LockKey, LockOwner> ownersByRecordKey = new LinkedHashMap<>();
+
+		@Override
+		Map<Integer, Boolean> lockBySql(final ILockCommand lockCommand, final int adTableId, final String sqlRecordIds, final List<Object> sqlRecordIdsParams)
+		{
+			final Map<Integer, Boolean> lockedByRecordId = new LinkedHashMap<>();
+			for (final Object recordId : sqlRecordIdsParams)
+			{
+				final boolean locked = ownersByRecordKey.putIfAbsent(LockKey.of(adTableId, (Integer)recordId), lockCommand.getOwner()) == null;
+				lockedByRecordId.put((Integer)recordId, locked);
+			}
+			return lockedByRecordId;
+		}
+
+		@Override
+		Set<Integer> retrieveLockedRecordIds(final int adTableId, final Collection<Integer> recordIds)
+		{
+			return recordIds.stream()
+					.filter(recordId -> ownersByRecordKey.containsKey(LockKey.of(adTableId, recordId)))
+					.collect(Collectors.toSet());
+		}
+
+		@Override
+		void unlockRecordsNoFail(final int adTableId, final List<Integer> recordIds, final LockOwner lockOwner)
+		{
+			recordIds.forEach(recordId -> ownersByRecordKey.remove(LockKey.of(adTableId, recordId), lockOwner));
+		}
+
+		@Override
+		public boolean isLocked(final int adTableId, final int recordId, final LockOwner lockOwner)
+		{
+			final LockOwner owner = ownersByRecordKey.get(LockKey.of(adTableId, recordId));
+			return owner != null && (lockOwner.isAnyOwner() || owner.equals(lockOwner));
+		}
+
+		@Override
+		protected boolean unlockRecord(final IUnlockCommand unlockCommand, final TableRecordReference record)
+		{
+			final LockKey recordKey = LockKey.of(record.getAD_Table_ID(), record.getRecord_ID());
+			if (!isLocked(recordKey.getAdTableId(), recordKey.getRecordId(), unlockCommand.getOwner()))
+			{
+				return false;
+			}
+			ownersByRecordKey.remove(recordKey);
+			return true;
+		}
+
+		@Override
+		protected int unlockByOwner(final IUnlockCommand unlockCommand)
+		{
+			final int countBefore = ownersByRecordKey.size();
+			ownersByRecordKey.values().removeIf(unlockCommand.getOwner()::equals);
+			return countBefore - ownersByRecordKey.size();
+		}
+
+		@Override
+		public int removeAutoCleanupLocks()
+		{
+			return 0;
+		}
+	}
+
+	private interface TestLockDatabase
+	{
+		PlainLockDatabase getLockDatabase();
+
+		ILockCommand lockRecord(LockOwner owner, int recordId);
+	}
+
+	private static class ExternallyLockingDatabase extends PlainLockDatabase implements TestLockDatabase
+	{
+		private final ExternalLocks externalLocks;
+
+		private ExternallyLockingDatabase(final ExternalLocks externalLocks)
+		{
+			this.externalLocks = externalLocks;
+		}
+
+		@Override
+		protected boolean acquireRecordLock(final LockKey recordKey)
+		{
+			return externalLocks.tryLock(recordKey);
+		}
+
+		@Override
+		protected void releaseRecordLocks(final List<LockKey> recordKeys)
+		{
+			recordKeys.forEach(externalLocks::release);
+		}
+
+		@Override
+		public PlainLockDatabase getLockDatabase()
+		{
+			return this;
+		}
+
+		@Override
+		public ILockCommand lockRecord(final LockOwner owner, final int recordId)
+		{
+			return newLockCommand()
+					.setOwner(owner)
+					.setAllowAdditionalLocks(AllowAdditionalLocks.FOR_DIFFERENT_OWNERS)
+					.setFailIfAlreadyLocked(false)
+					.setRecordByTableRecordId(AD_Table_ID, recordId);
+		}
+	}
+
+	private static class FakeAdvisoryLocksSession implements AdvisoryLockDatabase.AdvisoryLocksSession
+	{
+		private final ExternalLocks externalLocks;
+		private boolean valid = true;
+		private boolean closed = false;
+
+		private FakeAdvisoryLocksSession(final ExternalLocks externalLocks)
+		{
+			this.externalLocks = externalLocks;
+		}
+
+		@Override
+		public boolean tryLock(final int adTableId, final int recordId)
+		{
+			return externalLocks.tryLock(LockKey.of(adTableId, recordId));
+		}
+
+		@Override
+		public Set<Integer> retrieveLockedByAnySession(final int adTableId, final Collection<Integer> recordIds)
+		{
+			return recordIds.stream()
+					.filter(recordId -> externalLocks.isLocked(LockKey.of(adTableId, recordId)))
+					.collect(Collectors.toSet());
+		}
+
+		@Override
+		public List<Integer> unlock(final int adTableId, final List<Integer> recordIds)
+		{
+			recordIds.forEach(recordId -> externalLocks.release(LockKey.of(adTableId, recordId)));
+			return new ArrayList<>();
+		}
+
+		@Override
+		public Connection getConnection()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isValid()
+		{
+			return valid;
+		}
+
+		@Override
+		public void close()
+		{
+			closed = true;
+		}
+	}
+
+	private static class TestAdvisoryLockDatabase extends AdvisoryLockDatabase implements TestLockDatabase
+	{
+		private final List<FakeAdvisoryLocksSession> sessions;
+		private final FakeOverflowLocks overflowLocks;
+
+		private TestAdvisoryLockDatabase(final ExternalLocks externalLocks)
+		{
+			this(externalLocks, new ArrayList<>(), new FakeOverflowLocks());
+		}
+
+		private TestAdvisoryLockDatabase(final ExternalLocks externalLocks, final List<FakeAdvisoryLocksSession> sessions, final FakeOverflowLocks overflowLocks)
+		{
+			super(
+					() -> {
+						final FakeAdvisoryLocksSession session = new FakeAdvisoryLocksSession(externalLocks);
+						sessions.add(session);
+						return session;
+					},
+					overflowLocks);
+			this.sessions = sessions;
+			this.overflowLocks = overflowLocks;
+		}
+
+		@Override
+		public PlainLockDatabase getLockDatabase()
+		{
+			return this;
+		}
+
+		@Override
+		public ILockCommand lockRecord(final LockOwner owner, final int recordId)
+		{
+			return newLockCommand()
+					.setOwner(owner)
+					.setAllowAdditionalLocks(AllowAdditionalLocks.FOR_DIFFERENT_OWNERS)
+					.setFailIfAlreadyLocked(false)
+					.setRecordByTableRecordId(AD_Table_ID, recordId);
+		}
+	}
+
+	enum Implementation
+	{
+		PlainWithHooks, Advisory
+	}
+
+	private ExternalLocks externalLocks;
+
+	@BeforeEach
+	public void init()
+	{
+		AdempiereTestHelper.get().init();
+		externalLocks = new ExternalLocks();
+	}
+
+	private TestLockDatabase createLockDatabase(final Implementation implementation)
+	{
+		switch (implementation)
+		{
+			case PlainWithHooks:
+				return register(new ExternallyLockingDatabase(externalLocks));
+			case Advisory:
+				return register(new TestAdvisoryLockDatabase(externalLocks));
+			default:
+				throw new IllegalArgumentException("Unknown implementation: " + implementation);
+		}
+	}
+
+	/**
+	 * {@link ILock#close()} unlocks via the {@link ILockManager}, so that one needs to use our lock database.
+	 */
+	private static <T extends TestLockDatabase> T register(final T lockDatabase)
+	{
+		Services.registerService(ILockManager.class, new LockManager()
+		{
+			@Override
+			public ILockDatabase getLockDatabase()
+			{
+				return lockDatabase.getLockDatabase();
+			}
+		});
+		return lockDatabase;
+	}
+
+	private static void setMaxAdvisoryLocks(final int maxAdvisoryLocks)
+	{
+		Services.get(ISysConfigBL.class).setValue(AdvisoryLockDatabase.SYSCONFIG_MaxAdvisoryLocks, maxAdvisoryLocks, ClientId.SYSTEM, OrgId.ANY);
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	public void acquiredByFirstOwner_releasedByLastOwner(final Implementation implementation)
+	{
+		final TestLockDatabase lockDatabase = createLockDatabase(implementation);
+		final LockKey recordKey = LockKey.of(AD_Table_ID, 1);
+
+		final ILock lock1 = lockDatabase.lockRecord(LockOwner.newOwner("owner1"), 1).acquire();
+		final ILock lock2 = lockDatabase.lockRecord(LockOwner.newOwner("owner2"), 1).acquire();
+		assertThat(lock1.getCountLocked()).isEqualTo(1);
+		assertThat(lock2.getCountLocked()).isEqualTo(1);
+		assertThat(externalLocks.lockedExternally).containsExactly(recordKey);
+
+		lock1.close();
+		assertThat(externalLocks.lockedExternally).containsExactly(recordKey);
+
+		lock2.close();
+		assertThat(externalLocks.lockedExternally).isEmpty();
+		assertThat(lockDatabase.getLockDatabase().getLocksCount()).isZero();
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	public void notLockedIfExternalLockFails(final Implementation implementation)
+	{
+		final TestLockDatabase lockDatabase = createLockDatabase(implementation);
+		externalLocks.lockedByOthers.add(LockKey.of(AD_Table_ID, 2));
+
+		final ILock lock = lockDatabase.lockRecord(LockOwner.newOwner("owner"), 2).acquire();
+
+		assertThat(lock.getCountLocked()).isZero();
+		assertThat(lockDatabase.getLockDatabase().getLocksCount()).isZero();
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	public void removeAutoCleanupLocks_releasesExternalLocks(final Implementation implementation)
+	{
+		final TestLockDatabase lockDatabase = createLockDatabase(implementation);
+		lockDatabase.lockRecord(LockOwner.newOwner("owner"), 3).setAutoCleanup(true).acquire();
+		lockDatabase.lockRecord(LockOwner.newOwner("owner"), 4).setAutoCleanup(false).acquire();
+
+		lockDatabase.getLockDatabase().removeAutoCleanupLocks();
+
+		assertThat(externalLocks.lockedExternally).containsExactly(LockKey.of(AD_Table_ID, 4));
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	public void externalLockReleasedIfOwnerCannotBeRegistered(final Implementation implementation)
+	{
+		final TestLockDatabase lockDatabase = createLockDatabase(implementation);
+
+		// the null owner is rejected when registering the lock in memory, i.e. after the external lock was acquired
+		assertThatThrownBy(() -> lockDatabase.lockRecord(null, 5).acquire());
+
+		assertThat(externalLocks.lockedExternally).isEmpty();
+		assertThat(lockDatabase.getLockDatabase().getLocksCount()).isZero();
+	}
+
+	@Test
+	public void advisory_sessionLost_dropsAllLocksAndFails()
+	{
+		final TestAdvisoryLockDatabase lockDatabase = register(new TestAdvisoryLockDatabase(externalLocks));
+		final LockOwner owner = LockOwner.newOwner("owner");
+		lockDatabase.lockRecord(owner, 6).acquire();
+		lockDatabase.lockRecord(owner, 7).acquire();
+		assertThat(lockDatabase.sessions).hasSize(1);
+
+		// the database released our locks together with the session
+		final FakeAdvisoryLocksSession lostSession = lockDatabase.sessions.get(0);
+		lostSession.valid = false;
+		externalLocks.lockedExternally.clear();
+
+		assertThatThrownBy(lockDatabase::validateSession)
+				.isInstanceOf(LockFailedException.class)
+				.hasMessageContaining("2 record locks");
+		assertThat(lostSession.closed).isTrue();
+		assertThat(lockDatabase.getLocksCount()).isZero();
+		assertThat(lockDatabase.isLocked(AD_Table_ID, 6, owner)).isFalse();
+
+		// a new session is opened for the next lock
+		assertThat(lockDatabase.lockRecord(owner, 6).acquire().getCountLocked()).isEqualTo(1);
+		assertThat(lockDatabase.sessions).hasSize(2);
+	}
+
+	@Test
+	public void advisory_aboveMaxAdvisoryLocks_lockedWithTLockRecords()
+	{
+		setMaxAdvisoryLocks(1);
+		final TestAdvisoryLockDatabase lockDatabase = register(new TestAdvisoryLockDatabase(externalLocks));
+		final LockOwner owner = LockOwner.newOwner("owner");
+
+		final ILock lock1 = lockDatabase.lockRecord(owner, 8).acquire();
+		final ILock lock2 = lockDatabase.lockRecord(owner, 9).acquire();
+		assertThat(lock1.getCountLocked()).isEqualTo(1);
+		assertThat(lock2.getCountLocked()).isEqualTo(1);
+		assertThat(externalLocks.lockedExternally).containsExactly(LockKey.of(AD_Table_ID, 8));
+		assertThat(lockDatabase.overflowLocks.ownersByRecordKey).containsOnlyKeys(LockKey.of(AD_Table_ID, 9));
+		assertThat(lockDatabase.isLocked(AD_Table_ID, 9, owner)).isTrue();
+
+		lock1.close();
+		assertThat(externalLocks.lockedExternally).isEmpty();
+		assertThat(lockDatabase.overflowLocks.ownersByRecordKey).isEmpty();
+	}
+
+	@Test
+	public void advisory_aboveMaxAdvisoryLocks_notLockedIfAdvisoryLockedBySomebodyElse()
+	{
+		setMaxAdvisoryLocks(0);
+		final TestAdvisoryLockDatabase lockDatabase = register(new TestAdvisoryLockDatabase(externalLocks));
+		externalLocks.lockedByOthers.add(LockKey.of(AD_Table_ID, 10));
+
+		final ILock lock = lockDatabase.lockRecord(LockOwner.newOwner("owner"), 10).acquire();
+
+		assertThat(lock.getCountLocked()).isZero();
+		assertThat(lockDatabase.overflowLocks.ownersByRecordKey).isEmpty();
+	}
+
+	@Test
+	public void advisory_notLockedIfLockedWithTLockRecord()
+	{
+		final TestAdvisoryLockDatabase lockDatabase = register(new TestAdvisoryLockDatabase(externalLocks));
+		lockDatabase.overflowLocks.ownersByRecordKey.put(LockKey.of(AD_Table_ID, 11), LockOwner.newOwner("otherJVM"));
+
+		final ILock lock = lockDatabase.lockRecord(LockOwner.newOwner("owner"), 11).acquire();
+
+		assertThat(lock.getCountLocked()).isZero();
+		assertThat(externalLocks.lockedExternally).isEmpty();
+		assertThat(lockDatabase.getLocksCount()).isZero();
+	}
+}
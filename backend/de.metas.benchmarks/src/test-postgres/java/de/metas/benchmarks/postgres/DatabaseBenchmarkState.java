@@ -0,0 +1,118 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.postgres;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.adempiere.ad.dao.IQueryBL;
+import org.compiere.Adempiere;
+import org.compiere.Adempiere.RunMode;
+import org.compiere.db.CConnection;
+import org.compiere.db.CConnectionAttributes;
+import org.compiere.model.I_C_UOM;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import de.metas.util.Check;
+import de.metas.util.Services;
+
+/**
+ * Starts metasfresh against a real database.
+ * <p>
+ * If the system property {@value #SYSPROP_DbHost} is set, the database running there is used (port: {@value #SYSPROP_DbPort}, default 5432).
+ * Else the dockerized {@value #DB_IMAGE_NAME} database is started, the same way it's done for the cucumber tests.
+ * <p>
+ * Note that some benchmarks are changing records, so please use a throwaway database.
+ */
+@State(Scope.Benchmark)
+public class DatabaseBenchmarkState
+{
+	private static final String SYSPROP_DbHost = "benchmark.dbHost";
+	private static final String SYSPROP_DbPort = "benchmark.dbPort";
+	private static final String DB_IMAGE_NAME = "metasfresh/metasfresh-db:latest";
+
+	private GenericContainer<?> db;
+
+	/** C_UOM_IDs of all active UOMs from database */
+	int[] uomIds;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final String dbHost;
+		final int dbPort;
+		if (Check.isNotBlank(System.getProperty(SYSPROP_DbHost)))
+		{
+			dbHost = System.getProperty(SYSPROP_DbHost);
+			dbPort = Integer.parseInt(System.getProperty(SYSPROP_DbPort, "5432"));
+		}
+		else
+		{
+			db = new GenericContainer<>(DockerImageName.parse(DB_IMAGE_NAME))
+					.withEnv("POSTGRES_PASSWORD", "password")
+					.withStartupTimeout(Duration.ofMinutes(3)) // the DB needs to be populated
+					.withExposedPorts(5432);
+			db.start();
+
+			dbHost = db.getHost();
+			dbPort = db.getFirstMappedPort();
+		}
+
+		CConnection.createInstance(CConnectionAttributes.builder()
+				.dbHost(dbHost)
+				.dbPort(dbPort)
+				.dbName("metasfresh")
+				.dbUid("metasfresh")
+				.dbPwd("metasfresh")
+				.build());
+		Adempiere.instance.startup(RunMode.BACKEND);
+
+		final List<Integer> uomIdsList = Services.get(IQueryBL.class)
+				.createQueryBuilderOutOfTrx(I_C_UOM.class)
+				.addOnlyActiveRecordsFilter()
+				.create()
+				.listIds();
+		Check.assumeNotEmpty(uomIdsList, "The database shall contain some C_UOM records");
+		uomIds = uomIdsList.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		if (db != null)
+		{
+			db.stop();
+			db = null;
+		}
+	}
+
+	int getUOMId(final int index)
+	{
+		return uomIds[index % uomIds.length];
+	}
+}
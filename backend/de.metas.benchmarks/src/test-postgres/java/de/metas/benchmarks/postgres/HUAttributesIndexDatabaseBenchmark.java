@@ -0,0 +1,176 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.postgres;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.exceptions.DBException;
+import org.compiere.util.DB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+import de.metas.logging.LogManager;
+import de.metas.util.Check;
+
+/**
+ * Compares filtering HUs by two string attributes using the M_HU_Attribute sub queries (as HUQueryBuilder does without the index)
+ * with using one containment check on T_HU_Attribute_Index.
+ * <p>
+ * The query plans of both variants are logged during setup.
+ * The database needs to contain HUs with at least two string attributes and the T_HU_Attribute_Index migration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class HUAttributesIndexDatabaseBenchmark
+{
+	private static final Logger logger = LogManager.getLogger(HUAttributesIndexDatabaseBenchmark.class);
+
+	private static final String SQL_SubQueries = "SELECT COUNT(1) FROM M_HU"
+			+ " WHERE M_HU.M_HU_ID IN (SELECT ha.M_HU_ID FROM M_HU_Attribute ha WHERE ha.IsActive='Y' AND ha.M_Attribute_ID=? AND ha.Value=?)"
+			+ " AND M_HU.M_HU_ID IN (SELECT ha.M_HU_ID FROM M_HU_Attribute ha WHERE ha.IsActive='Y' AND ha.M_Attribute_ID=? AND ha.Value=?)";
+
+	private static final String SQL_Index = "SELECT COUNT(1) FROM M_HU"
+			+ " WHERE M_HU.M_HU_ID IN (SELECT i.M_HU_ID FROM T_HU_Attribute_Index i WHERE i.Attributes @> ?::jsonb)";
+
+	/**
+	 * Attribute values of some existing HUs
+	 */
+	@State(Scope.Benchmark)
+	public static class AttributeValuesState
+	{
+		private final List<Object[]> subQueriesParams = new ArrayList<>();
+		private final List<Object[]> indexParams = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void setup(final DatabaseBenchmarkState databaseState)
+		{
+			Check.assume(DB.getSQLValueEx(ITrx.TRXNAME_None, "SELECT COUNT(1) FROM pg_class WHERE relname=?", "t_hu_attribute_index") > 0,
+					"The database shall contain the T_HU_Attribute_Index table");
+
+			final String sql = "SELECT ha1.M_Attribute_ID, ha1.Value, ha2.M_Attribute_ID, ha2.Value"
+					+ " FROM M_HU_Attribute ha1"
+					+ " INNER JOIN M_HU_Attribute ha2 ON ha2.M_HU_ID=ha1.M_HU_ID AND ha2.M_Attribute_ID>ha1.M_Attribute_ID AND ha2.IsActive='Y' AND ha2.Value IS NOT NULL"
+					+ " WHERE ha1.IsActive='Y' AND ha1.Value IS NOT NULL"
+					+ " ORDER BY ha1.M_HU_ID DESC"
+					+ " LIMIT 100";
+			PreparedStatement pstmt = null;
+			ResultSet rs = null;
+			try
+			{
+				pstmt = DB.prepareStatement(sql, ITrx.TRXNAME_None);
+				rs = pstmt.executeQuery();
+				while (rs.next())
+				{
+					final int attributeId1 = rs.getInt(1);
+					final String value1 = rs.getString(2);
+					final int attributeId2 = rs.getInt(3);
+					final String value2 = rs.getString(4);
+
+					subQueriesParams.add(new Object[] { attributeId1, value1, attributeId2, value2 });
+					indexParams.add(new Object[] { "{\"s" + attributeId1 + "\":" + toJsonString(value1) + ",\"s" + attributeId2 + "\":" + toJsonString(value2) + "}" });
+				}
+			}
+			catch (final SQLException ex)
+			{
+				throw new DBException(ex, sql);
+			}
+			finally
+			{
+				DB.close(rs, pstmt);
+			}
+
+			Check.assumeNotEmpty(subQueriesParams, "The database shall contain HUs with at least two string attributes");
+
+			logQueryPlan(SQL_SubQueries, subQueriesParams.get(0));
+			logQueryPlan(SQL_Index, indexParams.get(0));
+		}
+
+		private static String toJsonString(final String value)
+		{
+			return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		}
+
+		private static void logQueryPlan(final String sql, final Object[] params)
+		{
+			final String explainSql = "EXPLAIN (ANALYZE, BUFFERS) " + sql;
+			PreparedStatement pstmt = null;
+			ResultSet rs = null;
+			try
+			{
+				pstmt = DB.prepareStatement(explainSql, ITrx.TRXNAME_None);
+				DB.setParameters(pstmt, params);
+				rs = pstmt.executeQuery();
+
+				final StringBuilder plan = new StringBuilder(sql).append("\n");
+				while (rs.next())
+				{
+					plan.append(rs.getString(1)).append("\n");
+				}
+				logger.info("Query plan:\n{}", plan);
+			}
+			catch (final SQLException ex)
+			{
+				throw new DBException(ex, explainSql, params);
+			}
+			finally
+			{
+				DB.close(rs, pstmt);
+			}
+		}
+	}
+
+	private int counter = 0;
+
+	@Benchmark
+	public int subQueries(final AttributeValuesState state)
+	{
+		final Object[] params = state.subQueriesParams.get(counter++ % state.subQueriesParams.size());
+		return DB.getSQLValueEx(ITrx.TRXNAME_None, SQL_SubQueries, params);
+	}
+
+	@Benchmark
+	public int attributesIndex(final AttributeValuesState state)
+	{
+		final Object[] params = state.indexParams.get(counter++ % state.indexParams.size());
+		return DB.getSQLValueEx(ITrx.TRXNAME_None, SQL_Index, params);
+	}
+}
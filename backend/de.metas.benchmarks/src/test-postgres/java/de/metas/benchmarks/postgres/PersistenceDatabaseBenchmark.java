@@ -0,0 +1,188 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.postgres;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.adempiere.ad.dao.IQueryBL;
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.ad.trx.api.ITrxManager;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.model.POWrapper;
+import org.compiere.model.I_C_UOM;
+import org.compiere.model.I_M_Product;
+import org.compiere.model.POInfo;
+import org.compiere.util.Env;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.metas.util.Services;
+
+/**
+ * Measures PO load/save/batched inserts, {@link POInfo} lookup, {@link POWrapper} dispatch and TypedSqlQuery list/iterate against a real database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenceDatabaseBenchmark
+{
+	private static final String[] TABLE_NAMES = { I_C_UOM.Table_Name, I_M_Product.Table_Name };
+
+	private int counter = 0;
+
+	@Benchmark
+	public POInfo poInfo()
+	{
+		return POInfo.getPOInfo(TABLE_NAMES[counter++ % TABLE_NAMES.length]);
+	}
+
+	@Benchmark
+	public I_C_UOM loadPO(final DatabaseBenchmarkState state)
+	{
+		return InterfaceWrapperHelper.create(Env.getCtx(), state.getUOMId(counter++), I_C_UOM.class, ITrx.TRXNAME_None);
+	}
+
+	@Benchmark
+	public void poWrapperGetters(final DatabaseBenchmarkState state, final Blackhole blackhole)
+	{
+		final I_C_UOM po = InterfaceWrapperHelper.create(Env.getCtx(), state.getUOMId(counter++), I_C_UOM.class, ITrx.TRXNAME_None);
+
+		// useOldValues=true enforces a POWrapper proxy instead of returning the PO itself
+		final I_C_UOM uom = POWrapper.create(po, I_C_UOM.class, true);
+		blackhole.consume(uom.getName());
+		blackhole.consume(uom.getX12DE355());
+		blackhole.consume(uom.getStdPrecision());
+		blackhole.consume(uom.getUOMSymbol());
+	}
+
+	@Benchmark
+	public void loadAndSave(final DatabaseBenchmarkState state)
+	{
+		final ITrxManager trxManager = Services.get(ITrxManager.class);
+		final String trxName = trxManager.createTrxName(PersistenceDatabaseBenchmark.class.getSimpleName(), true);
+		try
+		{
+			final I_C_UOM uom = InterfaceWrapperHelper.create(Env.getCtx(), state.getUOMId(counter++), I_C_UOM.class, trxName);
+			uom.setDescription("PersistenceDatabaseBenchmark " + counter);
+			InterfaceWrapperHelper.save(uom, trxName);
+		}
+		finally
+		{
+			final ITrx trx = trxManager.get(trxName, false);
+			trx.rollback();
+			trx.close();
+		}
+	}
+
+	@Benchmark
+	public void insert100(final DatabaseBenchmarkState state)
+	{
+		insert100(false);
+	}
+
+	@Benchmark
+	public void insert100InBatchSaveScope(final DatabaseBenchmarkState state)
+	{
+		insert100(true);
+	}
+
+	private void insert100(final boolean batchSaveScope)
+	{
+		final ITrxManager trxManager = Services.get(ITrxManager.class);
+		final String trxName = trxManager.createTrxName(PersistenceDatabaseBenchmark.class.getSimpleName(), true);
+		final String previousTrxName = trxManager.setThreadInheritedTrxName(trxName);
+		try
+		{
+			final Runnable inserts = () -> {
+				for (int i = 0; i < 100; i++)
+				{
+					final String value = "B" + (counter++);
+					final I_C_UOM uom = InterfaceWrapperHelper.newInstance(I_C_UOM.class);
+					uom.setName(value);
+					uom.setUOMSymbol(value);
+					uom.setX12DE355(value);
+					InterfaceWrapperHelper.save(uom);
+				}
+			};
+
+			if (batchSaveScope)
+			{
+				trxManager.runInBatchSaveScope(inserts);
+			}
+			else
+			{
+				inserts.run();
+			}
+		}
+		finally
+		{
+			trxManager.setThreadInheritedTrxName(previousTrxName);
+			final ITrx trx = trxManager.get(trxName, false);
+			trx.rollback();
+			trx.close();
+		}
+	}
+
+	@Benchmark
+	public I_C_UOM queryFirstOnlyById(final DatabaseBenchmarkState state)
+	{
+		return Services.get(IQueryBL.class)
+				.createQueryBuilderOutOfTrx(I_C_UOM.class)
+				.addEqualsFilter(I_C_UOM.COLUMNNAME_C_UOM_ID, state.getUOMId(counter++))
+				.create()
+				.firstOnly(I_C_UOM.class);
+	}
+
+	@Benchmark
+	public List<I_C_UOM> queryList()
+	{
+		return Services.get(IQueryBL.class)
+				.createQueryBuilderOutOfTrx(I_C_UOM.class)
+				.addOnlyActiveRecordsFilter()
+				.orderBy(I_C_UOM.COLUMNNAME_Name)
+				.create()
+				.list(I_C_UOM.class);
+	}
+
+	@Benchmark
+	public long queryIterate()
+	{
+		return Services.get(IQueryBL.class)
+				.createQueryBuilderOutOfTrx(I_C_UOM.class)
+				.addOnlyActiveRecordsFilter()
+				.create()
+				.iterateAndStream()
+				.count();
+	}
+}
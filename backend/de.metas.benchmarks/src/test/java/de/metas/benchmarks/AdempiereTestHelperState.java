@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks;
+
+import org.adempiere.test.AdempiereTestHelper;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Initializes the in-memory test environment once per trial.
+ * <p>
+ * Every benchmark which needs it shall take this state as a parameter of its {@code @Benchmark} or {@code @Setup} method;
+ * that way JMH runs this setup first, and only once, no matter how many other states also depend on it.
+ */
+@State(Scope.Benchmark)
+public class AdempiereTestHelperState
+{
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		AdempiereTestHelper.get().init();
+	}
+}
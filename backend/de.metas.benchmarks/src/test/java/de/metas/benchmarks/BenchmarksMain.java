@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON, so they can be compared across releases.
+ * <p>
+ * Besides the throughput, the {@link GCProfiler} is enabled, so we also get the allocation rate per operation ({@code gc.alloc.rate.norm}).
+ * Warmup, measurement and forks are configured on the benchmark classes themselves.
+ * <p>
+ * Parameters:
+ * <ol>
+ * <li>regular expression of the benchmarks to be included; default: all benchmarks</li>
+ * <li>result file name; default: {@code jmh-result.json}</li>
+ * </ol>
+ */
+public class BenchmarksMain
+{
+	public static void main(final String[] args) throws RunnerException
+	{
+		final String include = args.length > 0 ? args[0] : BenchmarksMain.class.getPackage().getName();
+		final String resultFile = args.length > 1 ? args[1] : "jmh-result.json";
+
+		final Options options = new OptionsBuilder()
+				.include(include)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(resultFile)
+				.shouldFailOnError(true)
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.metas.benchmarks.AdempiereTestHelperState;
+import de.metas.cache.CCache;
+import de.metas.cache.CCache.CacheMapType;
+
+/**
+ * Measures {@link CCache#getOrLoad(Object, java.util.function.Function)} for cache hits and for misses.
+ * <p>
+ * The misses are measured on an LRU cache which is smaller than the key space, so each miss also evicts an entry.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CCacheBenchmark
+{
+	@Param({ "HashMap", "LRU" })
+	public CacheMapType cacheMapType;
+
+	private static final int CACHE_SIZE = 1000;
+
+	private CCache<Integer, String> cache;
+	private CCache<Integer, String> lruCache;
+
+	@Setup(Level.Iteration)
+	public void setup(@SuppressWarnings("unused") final AdempiereTestHelperState testHelper)
+	{
+		cache = CCache.<Integer, String> builder()
+				.cacheName("CCacheBenchmark")
+				.initialCapacity(CACHE_SIZE)
+				.cacheMapType(cacheMapType)
+				.build();
+
+		for (int i = 0; i < CACHE_SIZE; i++)
+		{
+			cache.put(i, String.valueOf(i));
+		}
+
+		lruCache = CCache.newLRUCache("CCacheBenchmark_LRU", CACHE_SIZE, CCache.EXPIREMINUTES_Never);
+	}
+
+	@State(Scope.Thread)
+	public static class Counter
+	{
+		int value;
+	}
+
+	@Benchmark
+	public String getOrLoad_hit(final Counter counter)
+	{
+		return cache.getOrLoad(counter.value++ % CACHE_SIZE, String::valueOf);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String getOrLoad_hit_concurrent(final Counter counter)
+	{
+		return cache.getOrLoad(counter.value++ % CACHE_SIZE, String::valueOf);
+	}
+
+	@Benchmark
+	public String getOrLoad_miss(final Counter counter)
+	{
+		// cycling through 10 x CACHE_SIZE keys, so the least recently used key was always evicted
+		return lruCache.getOrLoad(counter.value++ % (10 * CACHE_SIZE), String::valueOf);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.pojo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.compiere.model.I_C_UOM;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.metas.benchmarks.AdempiereTestHelperState;
+
+/**
+ * Measures {@link InterfaceWrapperHelper} create/load/save and the model interface dispatch on top of the POJO in-memory database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class InterfaceWrapperHelperBenchmark
+{
+	private int counter = 0;
+
+	@Benchmark
+	public I_C_UOM newInstance(@SuppressWarnings("unused") final AdempiereTestHelperState testHelper)
+	{
+		return InterfaceWrapperHelper.newInstance(I_C_UOM.class);
+	}
+
+	@Benchmark
+	public I_C_UOM load(final POJOBenchmarkState state)
+	{
+		return InterfaceWrapperHelper.load(state.getRecordId(counter++), I_C_UOM.class);
+	}
+
+	@Benchmark
+	public void getters(final POJOBenchmarkState state, final Blackhole blackhole)
+	{
+		final I_C_UOM uom = InterfaceWrapperHelper.load(state.getRecordId(counter++), I_C_UOM.class);
+		blackhole.consume(uom.getName());
+		blackhole.consume(uom.getX12DE355());
+		blackhole.consume(uom.getStdPrecision());
+		blackhole.consume(InterfaceWrapperHelper.getValueOrNull(uom, I_C_UOM.COLUMNNAME_UOMSymbol));
+	}
+
+	@Benchmark
+	public void loadAndSave(final POJOBenchmarkState state)
+	{
+		final I_C_UOM uom = InterfaceWrapperHelper.load(state.getRecordId(counter++), I_C_UOM.class);
+		uom.setDescription("description " + counter);
+		InterfaceWrapperHelper.saveRecord(uom);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.pojo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.compiere.model.I_C_UOM;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.metas.benchmarks.AdempiereTestHelperState;
+
+/**
+ * Sets up the POJO in-memory database (the same way our unit tests do) and populates it with {@link #recordsCount} {@link I_C_UOM} records.
+ */
+@State(Scope.Benchmark)
+public class POJOBenchmarkState
+{
+	@Param({ "100", "10000" })
+	public int recordsCount;
+
+	/** IDs of the records created on setup */
+	int[] recordIds;
+
+	@Setup(Level.Trial)
+	public void setup(@SuppressWarnings("unused") final AdempiereTestHelperState testHelper)
+	{
+		final List<I_C_UOM> records = new ArrayList<>(recordsCount);
+		for (int i = 0; i < recordsCount; i++)
+		{
+			records.add(createUOM(i));
+		}
+
+		recordIds = records.stream().mapToInt(I_C_UOM::getC_UOM_ID).toArray();
+	}
+
+	static I_C_UOM createUOM(final int index)
+	{
+		final I_C_UOM uom = InterfaceWrapperHelper.newInstance(I_C_UOM.class);
+		uom.setName("UOM " + index);
+		uom.setX12DE355("U" + index);
+		uom.setUOMSymbol("u" + index);
+		uom.setStdPrecision(index % 4);
+		InterfaceWrapperHelper.saveRecord(uom);
+		return uom;
+	}
+
+	int getRecordId(final int index)
+	{
+		return recordIds[index % recordIds.length];
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * de.metas.benchmarks
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.benchmarks.pojo;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.adempiere.ad.dao.IQueryBL;
+import org.compiere.model.I_C_UOM;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.metas.util.Services;
+
+/**
+ * Measures the {@link IQueryBL} query building and execution overhead on top of the POJO in-memory database.
+ * See {@code PersistenceDatabaseBenchmark} for the same against a real database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryBenchmark
+{
+	private int counter = 0;
+
+	@Benchmark
+	public I_C_UOM firstOnlyById(final POJOBenchmarkState state)
+	{
+		return Services.get(IQueryBL.class)
+				.createQueryBuilder(I_C_UOM.class)
+				.addEqualsFilter(I_C_UOM.COLUMNNAME_C_UOM_ID, state.getRecordId(counter++))
+				.create()
+				.firstOnly(I_C_UOM.class);
+	}
+
+	@Benchmark
+	public List<I_C_UOM> list(@SuppressWarnings("unused") final POJOBenchmarkState state)
+	{
+		return Services.get(IQueryBL.class)
+				.createQueryBuilder(I_C_UOM.class)
+				.addOnlyActiveRecordsFilter()
+				.addEqualsFilter(I_C_UOM.COLUMNNAME_StdPrecision, counter++ % 4)
+				.orderBy(I_C_UOM.COLUMNNAME_Name)
+				.create()
+				.list(I_C_UOM.class);
+	}
+
+	@Benchmark
+	public long iterate(@SuppressWarnings("unused") final POJOBenchmarkState state)
+	{
+		return Services.get(IQueryBL.class)
+				.createQueryBuilder(I_C_UOM.class)
+				.addOnlyActiveRecordsFilter()
+				.create()
+				.iterateAndStream()
+				.count();
+	}
+}
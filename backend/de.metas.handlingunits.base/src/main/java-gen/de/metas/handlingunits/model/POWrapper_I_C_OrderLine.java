@@ -0,0 +1,1809 @@
+package de.metas.handlingunits.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.handlingunits.model.I_C_OrderLine}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_C_OrderLine extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.handlingunits.model.I_C_OrderLine
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_CampaignPrice = ColumnRef.ofBooleanProperty("CampaignPrice");
+	private static final ColumnRef BOOLEANREF_Description = ColumnRef.ofBooleanProperty("Description");
+	private static final ColumnRef BOOLEANREF_DiscountEditable = ColumnRef.ofBooleanProperty("DiscountEditable");
+	private static final ColumnRef BOOLEANREF_Diverse = ColumnRef.ofBooleanProperty("Diverse");
+	private static final ColumnRef BOOLEANREF_EnforcePriceLimit = ColumnRef.ofBooleanProperty("EnforcePriceLimit");
+	private static final ColumnRef BOOLEANREF_GroupCompensationLine = ColumnRef.ofBooleanProperty("GroupCompensationLine");
+	private static final ColumnRef BOOLEANREF_IncludeInTotal = ColumnRef.ofBooleanProperty("IncludeInTotal");
+	private static final ColumnRef BOOLEANREF_IndividualDescription = ColumnRef.ofBooleanProperty("IndividualDescription");
+	private static final ColumnRef BOOLEANREF_ManualDiscount = ColumnRef.ofBooleanProperty("ManualDiscount");
+	private static final ColumnRef BOOLEANREF_ManualPaymentTerm = ColumnRef.ofBooleanProperty("ManualPaymentTerm");
+	private static final ColumnRef BOOLEANREF_ManualPrice = ColumnRef.ofBooleanProperty("ManualPrice");
+	private static final ColumnRef BOOLEANREF_ManualQtyItemCapacity = ColumnRef.ofBooleanProperty("ManualQtyItemCapacity");
+	private static final ColumnRef BOOLEANREF_PackagingMaterial = ColumnRef.ofBooleanProperty("PackagingMaterial");
+	private static final ColumnRef BOOLEANREF_PriceEditable = ColumnRef.ofBooleanProperty("PriceEditable");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef BOOLEANREF_Subscription = ColumnRef.ofBooleanProperty("Subscription");
+	private static final ColumnRef BOOLEANREF_TempPricingConditions = ColumnRef.ofBooleanProperty("TempPricingConditions");
+	private static final ColumnRef BOOLEANREF_UseBPartnerAddress = ColumnRef.ofBooleanProperty("UseBPartnerAddress");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_OrgTrx_ID = ColumnRef.ofColumnName("AD_OrgTrx_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AD_User_ID = ColumnRef.ofColumnName("AD_User_ID");
+	private static final ColumnRef COLUMNREF_BPartnerAddress = ColumnRef.ofColumnName("BPartnerAddress");
+	private static final ColumnRef COLUMNREF_Base_Commission_Points_Per_Price_UOM = ColumnRef.ofColumnName("Base_Commission_Points_Per_Price_UOM");
+	private static final ColumnRef COLUMNREF_Base_PricingSystem_ID = ColumnRef.ofColumnName("Base_PricingSystem_ID");
+	private static final ColumnRef COLUMNREF_C_Activity_ID = ColumnRef.ofColumnName("C_Activity_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Location_ID = ColumnRef.ofColumnName("C_BPartner_Location_ID");
+	private static final ColumnRef COLUMNREF_C_Campaign_ID = ColumnRef.ofColumnName("C_Campaign_ID");
+	private static final ColumnRef COLUMNREF_C_Charge_ID = ColumnRef.ofColumnName("C_Charge_ID");
+	private static final ColumnRef COLUMNREF_C_CompensationGroup_SchemaLine_ID = ColumnRef.ofColumnName("C_CompensationGroup_SchemaLine_ID");
+	private static final ColumnRef COLUMNREF_C_Currency_ID = ColumnRef.ofColumnName("C_Currency_ID");
+	private static final ColumnRef COLUMNREF_C_OrderLine_ID = ColumnRef.ofColumnName("C_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_C_Order_CompensationGroup_ID = ColumnRef.ofColumnName("C_Order_CompensationGroup_ID");
+	private static final ColumnRef COLUMNREF_C_Order_ID = ColumnRef.ofColumnName("C_Order_ID");
+	private static final ColumnRef COLUMNREF_C_PackingMaterial_OrderLine_ID = ColumnRef.ofColumnName("C_PackingMaterial_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_C_PaymentTerm_Override_ID = ColumnRef.ofColumnName("C_PaymentTerm_Override_ID");
+	private static final ColumnRef COLUMNREF_C_ProjectPhase_ID = ColumnRef.ofColumnName("C_ProjectPhase_ID");
+	private static final ColumnRef COLUMNREF_C_ProjectTask_ID = ColumnRef.ofColumnName("C_ProjectTask_ID");
+	private static final ColumnRef COLUMNREF_C_Project_ID = ColumnRef.ofColumnName("C_Project_ID");
+	private static final ColumnRef COLUMNREF_C_TaxCategory_ID = ColumnRef.ofColumnName("C_TaxCategory_ID");
+	private static final ColumnRef COLUMNREF_C_Tax_ID = ColumnRef.ofColumnName("C_Tax_ID");
+	private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName("C_UOM_ID");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_DateDelivered = ColumnRef.ofColumnName("DateDelivered");
+	private static final ColumnRef COLUMNREF_DateInvoiced = ColumnRef.ofColumnName("DateInvoiced");
+	private static final ColumnRef COLUMNREF_DateOrdered = ColumnRef.ofColumnName("DateOrdered");
+	private static final ColumnRef COLUMNREF_DatePromised = ColumnRef.ofColumnName("DatePromised");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_Discount = ColumnRef.ofColumnName("Discount");
+	private static final ColumnRef COLUMNREF_ExplodedFrom_BOMLine_ID = ColumnRef.ofColumnName("ExplodedFrom_BOMLine_ID");
+	private static final ColumnRef COLUMNREF_FreightAmt = ColumnRef.ofColumnName("FreightAmt");
+	private static final ColumnRef COLUMNREF_FrequencyType = ColumnRef.ofColumnName("FrequencyType");
+	private static final ColumnRef COLUMNREF_GroupCompensationAmtType = ColumnRef.ofColumnName("GroupCompensationAmtType");
+	private static final ColumnRef COLUMNREF_GroupCompensationBaseAmt = ColumnRef.ofColumnName("GroupCompensationBaseAmt");
+	private static final ColumnRef COLUMNREF_GroupCompensationPercentage = ColumnRef.ofColumnName("GroupCompensationPercentage");
+	private static final ColumnRef COLUMNREF_GroupCompensationType = ColumnRef.ofColumnName("GroupCompensationType");
+	private static final ColumnRef COLUMNREF_GroupSumTag = ColumnRef.ofColumnName("GroupSumTag");
+	private static final ColumnRef COLUMNREF_HandOver_Location_ID = ColumnRef.ofColumnName("HandOver_Location_ID");
+	private static final ColumnRef COLUMNREF_Handover_BPartner_ID = ColumnRef.ofColumnName("Handover_BPartner_ID");
+	private static final ColumnRef COLUMNREF_InvoicableQtyBasedOn = ColumnRef.ofColumnName("InvoicableQtyBasedOn");
+	private static final ColumnRef COLUMNREF_Line = ColumnRef.ofColumnName("Line");
+	private static final ColumnRef COLUMNREF_LineNetAmt = ColumnRef.ofColumnName("LineNetAmt");
+	private static final ColumnRef COLUMNREF_Link_OrderLine_ID = ColumnRef.ofColumnName("Link_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_M_AttributeSetInstance_ID = ColumnRef.ofColumnName("M_AttributeSetInstance_ID");
+	private static final ColumnRef COLUMNREF_M_DiscountSchemaBreak_ID = ColumnRef.ofColumnName("M_DiscountSchemaBreak_ID");
+	private static final ColumnRef COLUMNREF_M_DiscountSchema_ID = ColumnRef.ofColumnName("M_DiscountSchema_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_ID");
+	private static final ColumnRef COLUMNREF_M_PriceList_Version_ID = ColumnRef.ofColumnName("M_PriceList_Version_ID");
+	private static final ColumnRef COLUMNREF_M_Product_DocumentNote = ColumnRef.ofColumnName("M_Product_DocumentNote");
+	private static final ColumnRef COLUMNREF_M_Product_ID = ColumnRef.ofColumnName("M_Product_ID");
+	private static final ColumnRef COLUMNREF_M_Promotion_ID = ColumnRef.ofColumnName("M_Promotion_ID");
+	private static final ColumnRef COLUMNREF_M_Shipper_ID = ColumnRef.ofColumnName("M_Shipper_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_Dest_ID = ColumnRef.ofColumnName("M_Warehouse_Dest_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_ID = ColumnRef.ofColumnName("M_Warehouse_ID");
+	private static final ColumnRef COLUMNREF_NoPriceConditionsColor_ID = ColumnRef.ofColumnName("NoPriceConditionsColor_ID");
+	private static final ColumnRef COLUMNREF_OrderDiscount = ColumnRef.ofColumnName("OrderDiscount");
+	private static final ColumnRef COLUMNREF_POCallOrderDate = ColumnRef.ofColumnName("POCallOrderDate");
+	private static final ColumnRef COLUMNREF_PP_Cost_Collector_ID = ColumnRef.ofColumnName("PP_Cost_Collector_ID");
+	private static final ColumnRef COLUMNREF_PackDescription = ColumnRef.ofColumnName("PackDescription");
+	private static final ColumnRef COLUMNREF_PaymentDiscount = ColumnRef.ofColumnName("PaymentDiscount");
+	private static final ColumnRef COLUMNREF_PresetDateInvoiced = ColumnRef.ofColumnName("PresetDateInvoiced");
+	private static final ColumnRef COLUMNREF_PresetDateShipped = ColumnRef.ofColumnName("PresetDateShipped");
+	private static final ColumnRef COLUMNREF_PriceActual = ColumnRef.ofColumnName("PriceActual");
+	private static final ColumnRef COLUMNREF_PriceCost = ColumnRef.ofColumnName("PriceCost");
+	private static final ColumnRef COLUMNREF_PriceEntered = ColumnRef.ofColumnName("PriceEntered");
+	private static final ColumnRef COLUMNREF_PriceLimit = ColumnRef.ofColumnName("PriceLimit");
+	private static final ColumnRef COLUMNREF_PriceLimitNote = ColumnRef.ofColumnName("PriceLimitNote");
+	private static final ColumnRef COLUMNREF_PriceList = ColumnRef.ofColumnName("PriceList");
+	private static final ColumnRef COLUMNREF_PriceList_Std = ColumnRef.ofColumnName("PriceList_Std");
+	private static final ColumnRef COLUMNREF_PriceStd = ColumnRef.ofColumnName("PriceStd");
+	private static final ColumnRef COLUMNREF_Price_UOM_ID = ColumnRef.ofColumnName("Price_UOM_ID");
+	private static final ColumnRef COLUMNREF_ProductDescription = ColumnRef.ofColumnName("ProductDescription");
+	private static final ColumnRef COLUMNREF_ProfitPriceActual = ColumnRef.ofColumnName("ProfitPriceActual");
+	private static final ColumnRef COLUMNREF_QtyDelivered = ColumnRef.ofColumnName("QtyDelivered");
+	private static final ColumnRef COLUMNREF_QtyEntered = ColumnRef.ofColumnName("QtyEntered");
+	private static final ColumnRef COLUMNREF_QtyEnteredInPriceUOM = ColumnRef.ofColumnName("QtyEnteredInPriceUOM");
+	private static final ColumnRef COLUMNREF_QtyEnteredTU = ColumnRef.ofColumnName("QtyEnteredTU");
+	private static final ColumnRef COLUMNREF_QtyInvoiced = ColumnRef.ofColumnName("QtyInvoiced");
+	private static final ColumnRef COLUMNREF_QtyItemCapacity = ColumnRef.ofColumnName("QtyItemCapacity");
+	private static final ColumnRef COLUMNREF_QtyLostSales = ColumnRef.ofColumnName("QtyLostSales");
+	private static final ColumnRef COLUMNREF_QtyOrdered = ColumnRef.ofColumnName("QtyOrdered");
+	private static final ColumnRef COLUMNREF_QtyOrderedOverUnder = ColumnRef.ofColumnName("QtyOrderedOverUnder");
+	private static final ColumnRef COLUMNREF_QtyReserved = ColumnRef.ofColumnName("QtyReserved");
+	private static final ColumnRef COLUMNREF_RRAmt = ColumnRef.ofColumnName("RRAmt");
+	private static final ColumnRef COLUMNREF_RRStartDate = ColumnRef.ofColumnName("RRStartDate");
+	private static final ColumnRef COLUMNREF_Ref_OrderLine_ID = ColumnRef.ofColumnName("Ref_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_Ref_ProposalLine_ID = ColumnRef.ofColumnName("Ref_ProposalLine_ID");
+	private static final ColumnRef COLUMNREF_RunsMax = ColumnRef.ofColumnName("RunsMax");
+	private static final ColumnRef COLUMNREF_S_ResourceAssignment_ID = ColumnRef.ofColumnName("S_ResourceAssignment_ID");
+	private static final ColumnRef COLUMNREF_ShipmentAllocation_BestBefore_Policy = ColumnRef.ofColumnName("ShipmentAllocation_BestBefore_Policy");
+	private static final ColumnRef COLUMNREF_SinglePriceTag_ID = ColumnRef.ofColumnName("SinglePriceTag_ID");
+	private static final ColumnRef COLUMNREF_TaxAmtInfo = ColumnRef.ofColumnName("TaxAmtInfo");
+	private static final ColumnRef COLUMNREF_Traded_Commission_Percent = ColumnRef.ofColumnName("Traded_Commission_Percent");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_User1_ID = ColumnRef.ofColumnName("User1_ID");
+	private static final ColumnRef COLUMNREF_User2_ID = ColumnRef.ofColumnName("User2_ID");
+	private static final ModelRef MODELREF_C_Campaign = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_Campaign", "C_Campaign_ID");
+	private static final ModelRef MODELREF_C_CompensationGroup_SchemaLine = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_CompensationGroup_SchemaLine", "C_CompensationGroup_SchemaLine_ID");
+	private static final ModelRef MODELREF_C_Order = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_Order", "C_Order_ID");
+	private static final ModelRef MODELREF_C_Order_CompensationGroup = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_Order_CompensationGroup", "C_Order_CompensationGroup_ID");
+	private static final ModelRef MODELREF_C_PackingMaterial_OrderLine = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_PackingMaterial_OrderLine", "C_PackingMaterial_OrderLine_ID");
+	private static final ModelRef MODELREF_C_ProjectPhase = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_ProjectPhase", "C_ProjectPhase_ID");
+	private static final ModelRef MODELREF_C_ProjectTask = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getC_ProjectTask", "C_ProjectTask_ID");
+	private static final ModelRef MODELREF_ExplodedFrom_BOMLine = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getExplodedFrom_BOMLine", "ExplodedFrom_BOMLine_ID");
+	private static final ModelRef MODELREF_Link_OrderLine = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getLink_OrderLine", "Link_OrderLine_ID");
+	private static final ModelRef MODELREF_M_AttributeSetInstance = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getM_AttributeSetInstance", "M_AttributeSetInstance_ID");
+	private static final ModelRef MODELREF_M_DiscountSchema = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getM_DiscountSchema", "M_DiscountSchema_ID");
+	private static final ModelRef MODELREF_M_DiscountSchemaBreak = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getM_DiscountSchemaBreak", "M_DiscountSchemaBreak_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getM_HU_PI_Item_Product", "M_HU_PI_Item_Product_ID");
+	private static final ModelRef MODELREF_M_Promotion = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getM_Promotion", "M_Promotion_ID");
+	private static final ModelRef MODELREF_M_Shipper = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getM_Shipper", "M_Shipper_ID");
+	private static final ModelRef MODELREF_PP_Cost_Collector = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getPP_Cost_Collector", "PP_Cost_Collector_ID");
+	private static final ModelRef MODELREF_Ref_OrderLine = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getRef_OrderLine", "Ref_OrderLine_ID");
+	private static final ModelRef MODELREF_Ref_ProposalLine = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getRef_ProposalLine", "Ref_ProposalLine_ID");
+	private static final ModelRef MODELREF_SinglePriceTag = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getSinglePriceTag", "SinglePriceTag_ID");
+	private static final ModelRef MODELREF_User1 = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getUser1", "User1_ID");
+	private static final ModelRef MODELREF_User2 = ModelRef.of(de.metas.handlingunits.model.I_C_OrderLine.class, "getUser2", "User2_ID");
+
+	public POWrapper_I_C_OrderLine(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_OrgTrx_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_OrgTrx_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getAD_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_ID);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress()
+	{
+		return getValue(COLUMNREF_BPartnerAddress, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getBase_Commission_Points_Per_Price_UOM()
+	{
+		return getValue(COLUMNREF_Base_Commission_Points_Per_Price_UOM, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public int getBase_PricingSystem_ID()
+	{
+		return getValueAsInt(COLUMNREF_Base_PricingSystem_ID);
+	}
+
+	@Override
+	public int getC_Activity_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Activity_ID);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Location_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Campaign getC_Campaign()
+	{
+		return getReferencedModel(MODELREF_C_Campaign);
+	}
+
+	@Override
+	public int getC_Campaign_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Campaign_ID);
+	}
+
+	@Override
+	public int getC_Charge_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Charge_ID);
+	}
+
+	@Override
+	public de.metas.order.model.I_C_CompensationGroup_SchemaLine getC_CompensationGroup_SchemaLine()
+	{
+		return getReferencedModel(MODELREF_C_CompensationGroup_SchemaLine);
+	}
+
+	@Override
+	public int getC_CompensationGroup_SchemaLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_CompensationGroup_SchemaLine_ID);
+	}
+
+	@Override
+	public int getC_Currency_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Currency_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getC_Order()
+	{
+		return getReferencedModel(MODELREF_C_Order);
+	}
+
+	@Override
+	public int getC_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_OrderLine_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order_CompensationGroup getC_Order_CompensationGroup()
+	{
+		return getReferencedModel(MODELREF_C_Order_CompensationGroup);
+	}
+
+	@Override
+	public int getC_Order_CompensationGroup_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Order_CompensationGroup_ID);
+	}
+
+	@Override
+	public int getC_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Order_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_C_OrderLine getC_PackingMaterial_OrderLine()
+	{
+		return getReferencedModel(MODELREF_C_PackingMaterial_OrderLine);
+	}
+
+	@Override
+	public int getC_PackingMaterial_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_PackingMaterial_OrderLine_ID);
+	}
+
+	@Override
+	public int getC_PaymentTerm_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_PaymentTerm_Override_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ProjectPhase getC_ProjectPhase()
+	{
+		return getReferencedModel(MODELREF_C_ProjectPhase);
+	}
+
+	@Override
+	public int getC_ProjectPhase_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_ProjectPhase_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ProjectTask getC_ProjectTask()
+	{
+		return getReferencedModel(MODELREF_C_ProjectTask);
+	}
+
+	@Override
+	public int getC_ProjectTask_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_ProjectTask_ID);
+	}
+
+	@Override
+	public int getC_Project_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Project_ID);
+	}
+
+	@Override
+	public int getC_TaxCategory_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_TaxCategory_ID);
+	}
+
+	@Override
+	public int getC_Tax_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Tax_ID);
+	}
+
+	@Override
+	public int getC_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_UOM_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateDelivered()
+	{
+		return getValue(COLUMNREF_DateDelivered, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateInvoiced()
+	{
+		return getValue(COLUMNREF_DateInvoiced, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateOrdered()
+	{
+		return getValue(COLUMNREF_DateOrdered, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDatePromised()
+	{
+		return getValue(COLUMNREF_DatePromised, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getDiscount()
+	{
+		return getValue(COLUMNREF_Discount, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public org.eevolution.model.I_PP_Product_BOMLine getExplodedFrom_BOMLine()
+	{
+		return getReferencedModel(MODELREF_ExplodedFrom_BOMLine);
+	}
+
+	@Override
+	public int getExplodedFrom_BOMLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_ExplodedFrom_BOMLine_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getFreightAmt()
+	{
+		return getValue(COLUMNREF_FreightAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getFrequencyType()
+	{
+		return getValue(COLUMNREF_FrequencyType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGroupCompensationAmtType()
+	{
+		return getValue(COLUMNREF_GroupCompensationAmtType, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getGroupCompensationBaseAmt()
+	{
+		return getValue(COLUMNREF_GroupCompensationBaseAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getGroupCompensationPercentage()
+	{
+		return getValue(COLUMNREF_GroupCompensationPercentage, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getGroupCompensationType()
+	{
+		return getValue(COLUMNREF_GroupCompensationType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getGroupSumTag()
+	{
+		return getValue(COLUMNREF_GroupSumTag, java.lang.String.class);
+	}
+
+	@Override
+	public int getHandOver_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_HandOver_Location_ID);
+	}
+
+	@Override
+	public int getHandover_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_Handover_BPartner_ID);
+	}
+
+	@Override
+	public java.lang.String getInvoicableQtyBasedOn()
+	{
+		return getValue(COLUMNREF_InvoicableQtyBasedOn, java.lang.String.class);
+	}
+
+	@Override
+	public int getLine()
+	{
+		return getValueAsInt(COLUMNREF_Line);
+	}
+
+	@Override
+	public java.math.BigDecimal getLineNetAmt()
+	{
+		return getValue(COLUMNREF_LineNetAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_OrderLine getLink_OrderLine()
+	{
+		return getReferencedModel(MODELREF_Link_OrderLine);
+	}
+
+	@Override
+	public int getLink_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_Link_OrderLine_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSetInstance getM_AttributeSetInstance()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSetInstance);
+	}
+
+	@Override
+	public int getM_AttributeSetInstance_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_DiscountSchema getM_DiscountSchema()
+	{
+		return getReferencedModel(MODELREF_M_DiscountSchema);
+	}
+
+	@Override
+	public org.compiere.model.I_M_DiscountSchemaBreak getM_DiscountSchemaBreak()
+	{
+		return getReferencedModel(MODELREF_M_DiscountSchemaBreak);
+	}
+
+	@Override
+	public int getM_DiscountSchemaBreak_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_DiscountSchemaBreak_ID);
+	}
+
+	@Override
+	public int getM_DiscountSchema_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_DiscountSchema_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public int getM_PriceList_Version_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PriceList_Version_ID);
+	}
+
+	@Override
+	public java.lang.String getM_Product_DocumentNote()
+	{
+		return getValue(COLUMNREF_M_Product_DocumentNote, java.lang.String.class);
+	}
+
+	@Override
+	public int getM_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_Promotion getM_Promotion()
+	{
+		return getReferencedModel(MODELREF_M_Promotion);
+	}
+
+	@Override
+	public int getM_Promotion_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Promotion_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_Shipper getM_Shipper()
+	{
+		return getReferencedModel(MODELREF_M_Shipper);
+	}
+
+	@Override
+	public int getM_Shipper_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Shipper_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_Dest_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_Dest_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_ID);
+	}
+
+	@Override
+	public int getNoPriceConditionsColor_ID()
+	{
+		return getValueAsInt(COLUMNREF_NoPriceConditionsColor_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getOrderDiscount()
+	{
+		return getValue(COLUMNREF_OrderDiscount, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getPOCallOrderDate()
+	{
+		return getValue(COLUMNREF_POCallOrderDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public org.eevolution.model.I_PP_Cost_Collector getPP_Cost_Collector()
+	{
+		return getReferencedModel(MODELREF_PP_Cost_Collector);
+	}
+
+	@Override
+	public int getPP_Cost_Collector_ID()
+	{
+		return getValueAsInt(COLUMNREF_PP_Cost_Collector_ID);
+	}
+
+	@Override
+	public java.lang.String getPackDescription()
+	{
+		return getValue(COLUMNREF_PackDescription, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPaymentDiscount()
+	{
+		return getValue(COLUMNREF_PaymentDiscount, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getPresetDateInvoiced()
+	{
+		return getValue(COLUMNREF_PresetDateInvoiced, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getPresetDateShipped()
+	{
+		return getValue(COLUMNREF_PresetDateShipped, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceActual()
+	{
+		return getValue(COLUMNREF_PriceActual, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceCost()
+	{
+		return getValue(COLUMNREF_PriceCost, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceEntered()
+	{
+		return getValue(COLUMNREF_PriceEntered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceLimit()
+	{
+		return getValue(COLUMNREF_PriceLimit, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getPriceLimitNote()
+	{
+		return getValue(COLUMNREF_PriceLimitNote, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceList()
+	{
+		return getValue(COLUMNREF_PriceList, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceList_Std()
+	{
+		return getValue(COLUMNREF_PriceList_Std, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPriceStd()
+	{
+		return getValue(COLUMNREF_PriceStd, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public int getPrice_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_Price_UOM_ID);
+	}
+
+	@Override
+	public java.lang.String getProductDescription()
+	{
+		return getValue(COLUMNREF_ProductDescription, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getProfitPriceActual()
+	{
+		return getValue(COLUMNREF_ProfitPriceActual, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyDelivered()
+	{
+		return getValue(COLUMNREF_QtyDelivered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyEntered()
+	{
+		return getValue(COLUMNREF_QtyEntered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyEnteredInPriceUOM()
+	{
+		return getValue(COLUMNREF_QtyEnteredInPriceUOM, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyEnteredTU()
+	{
+		return getValue(COLUMNREF_QtyEnteredTU, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyInvoiced()
+	{
+		return getValue(COLUMNREF_QtyInvoiced, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyItemCapacity()
+	{
+		return getValue(COLUMNREF_QtyItemCapacity, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyLostSales()
+	{
+		return getValue(COLUMNREF_QtyLostSales, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered()
+	{
+		return getValue(COLUMNREF_QtyOrdered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrderedOverUnder()
+	{
+		return getValue(COLUMNREF_QtyOrderedOverUnder, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyReserved()
+	{
+		return getValue(COLUMNREF_QtyReserved, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getRRAmt()
+	{
+		return getValue(COLUMNREF_RRAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getRRStartDate()
+	{
+		return getValue(COLUMNREF_RRStartDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_OrderLine getRef_OrderLine()
+	{
+		return getReferencedModel(MODELREF_Ref_OrderLine);
+	}
+
+	@Override
+	public int getRef_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_OrderLine_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_OrderLine getRef_ProposalLine()
+	{
+		return getReferencedModel(MODELREF_Ref_ProposalLine);
+	}
+
+	@Override
+	public int getRef_ProposalLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_ProposalLine_ID);
+	}
+
+	@Override
+	public int getRunsMax()
+	{
+		return getValueAsInt(COLUMNREF_RunsMax);
+	}
+
+	@Override
+	public int getS_ResourceAssignment_ID()
+	{
+		return getValueAsInt(COLUMNREF_S_ResourceAssignment_ID);
+	}
+
+	@Override
+	public java.lang.String getShipmentAllocation_BestBefore_Policy()
+	{
+		return getValue(COLUMNREF_ShipmentAllocation_BestBefore_Policy, java.lang.String.class);
+	}
+
+	@Override
+	public de.metas.interfaces.I_C_OrderLine getSinglePriceTag()
+	{
+		return getReferencedModel(MODELREF_SinglePriceTag);
+	}
+
+	@Override
+	public int getSinglePriceTag_ID()
+	{
+		return getValueAsInt(COLUMNREF_SinglePriceTag_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getTaxAmtInfo()
+	{
+		return getValue(COLUMNREF_TaxAmtInfo, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getTraded_Commission_Percent()
+	{
+		return getValue(COLUMNREF_Traded_Commission_Percent, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser1()
+	{
+		return getReferencedModel(MODELREF_User1);
+	}
+
+	@Override
+	public int getUser1_ID()
+	{
+		return getValueAsInt(COLUMNREF_User1_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser2()
+	{
+		return getReferencedModel(MODELREF_User2);
+	}
+
+	@Override
+	public int getUser2_ID()
+	{
+		return getValueAsInt(COLUMNREF_User2_ID);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isCampaignPrice()
+	{
+		return getValueAsBoolean(BOOLEANREF_CampaignPrice);
+	}
+
+	@Override
+	public boolean isDescription()
+	{
+		return getValueAsBoolean(BOOLEANREF_Description);
+	}
+
+	@Override
+	public boolean isDiscountEditable()
+	{
+		return getValueAsBoolean(BOOLEANREF_DiscountEditable);
+	}
+
+	@Override
+	public boolean isDiverse()
+	{
+		return getValueAsBoolean(BOOLEANREF_Diverse);
+	}
+
+	@Override
+	public boolean isEnforcePriceLimit()
+	{
+		return getValueAsBoolean(BOOLEANREF_EnforcePriceLimit);
+	}
+
+	@Override
+	public boolean isGroupCompensationLine()
+	{
+		return getValueAsBoolean(BOOLEANREF_GroupCompensationLine);
+	}
+
+	@Override
+	public java.lang.String isIncludeInTotal()
+	{
+		return getValue(BOOLEANREF_IncludeInTotal, java.lang.String.class);
+	}
+
+	@Override
+	public boolean isIndividualDescription()
+	{
+		return getValueAsBoolean(BOOLEANREF_IndividualDescription);
+	}
+
+	@Override
+	public boolean isManualDiscount()
+	{
+		return getValueAsBoolean(BOOLEANREF_ManualDiscount);
+	}
+
+	@Override
+	public boolean isManualPaymentTerm()
+	{
+		return getValueAsBoolean(BOOLEANREF_ManualPaymentTerm);
+	}
+
+	@Override
+	public boolean isManualPrice()
+	{
+		return getValueAsBoolean(BOOLEANREF_ManualPrice);
+	}
+
+	@Override
+	public boolean isManualQtyItemCapacity()
+	{
+		return getValueAsBoolean(BOOLEANREF_ManualQtyItemCapacity);
+	}
+
+	@Override
+	public boolean isPackagingMaterial()
+	{
+		return getValueAsBoolean(BOOLEANREF_PackagingMaterial);
+	}
+
+	@Override
+	public boolean isPriceEditable()
+	{
+		return getValueAsBoolean(BOOLEANREF_PriceEditable);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public boolean isSubscription()
+	{
+		return getValueAsBoolean(BOOLEANREF_Subscription);
+	}
+
+	@Override
+	public boolean isTempPricingConditions()
+	{
+		return getValueAsBoolean(BOOLEANREF_TempPricingConditions);
+	}
+
+	@Override
+	public boolean isUseBPartnerAddress()
+	{
+		return getValueAsBoolean(BOOLEANREF_UseBPartnerAddress);
+	}
+
+	@Override
+	public void setAD_OrgTrx_ID(final int AD_OrgTrx_ID)
+	{
+		setValue("AD_OrgTrx_ID", AD_OrgTrx_ID);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAD_User_ID(final int AD_User_ID)
+	{
+		setValue("AD_User_ID", AD_User_ID);
+	}
+
+	@Override
+	public void setBPartnerAddress(final java.lang.String BPartnerAddress)
+	{
+		setValue("BPartnerAddress", BPartnerAddress);
+	}
+
+	@Override
+	public void setBase_Commission_Points_Per_Price_UOM(final java.math.BigDecimal Base_Commission_Points_Per_Price_UOM)
+	{
+		setValue("Base_Commission_Points_Per_Price_UOM", Base_Commission_Points_Per_Price_UOM);
+	}
+
+	@Override
+	public void setBase_PricingSystem_ID(final int Base_PricingSystem_ID)
+	{
+		setValue("Base_PricingSystem_ID", Base_PricingSystem_ID);
+	}
+
+	@Override
+	public void setC_Activity_ID(final int C_Activity_ID)
+	{
+		setValue("C_Activity_ID", C_Activity_ID);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Location_ID(final int C_BPartner_Location_ID)
+	{
+		setValue("C_BPartner_Location_ID", C_BPartner_Location_ID);
+	}
+
+	@Override
+	public void setC_Campaign(final org.compiere.model.I_C_Campaign C_Campaign)
+	{
+		setValueFromPO("C_Campaign_ID", org.compiere.model.I_C_Campaign.class, C_Campaign);
+	}
+
+	@Override
+	public void setC_Campaign_ID(final int C_Campaign_ID)
+	{
+		setValue("C_Campaign_ID", C_Campaign_ID);
+	}
+
+	@Override
+	public void setC_Charge_ID(final int C_Charge_ID)
+	{
+		setValue("C_Charge_ID", C_Charge_ID);
+	}
+
+	@Override
+	public void setC_CompensationGroup_SchemaLine(final de.metas.order.model.I_C_CompensationGroup_SchemaLine C_CompensationGroup_SchemaLine)
+	{
+		setValueFromPO("C_CompensationGroup_SchemaLine_ID", de.metas.order.model.I_C_CompensationGroup_SchemaLine.class, C_CompensationGroup_SchemaLine);
+	}
+
+	@Override
+	public void setC_CompensationGroup_SchemaLine_ID(final int C_CompensationGroup_SchemaLine_ID)
+	{
+		setValue("C_CompensationGroup_SchemaLine_ID", C_CompensationGroup_SchemaLine_ID);
+	}
+
+	@Override
+	public void setC_Currency_ID(final int C_Currency_ID)
+	{
+		setValue("C_Currency_ID", C_Currency_ID);
+	}
+
+	@Override
+	public void setC_Order(final org.compiere.model.I_C_Order C_Order)
+	{
+		setValueFromPO("C_Order_ID", org.compiere.model.I_C_Order.class, C_Order);
+	}
+
+	@Override
+	public void setC_OrderLine_ID(final int C_OrderLine_ID)
+	{
+		setValue("C_OrderLine_ID", C_OrderLine_ID);
+	}
+
+	@Override
+	public void setC_Order_CompensationGroup(final org.compiere.model.I_C_Order_CompensationGroup C_Order_CompensationGroup)
+	{
+		setValueFromPO("C_Order_CompensationGroup_ID", org.compiere.model.I_C_Order_CompensationGroup.class, C_Order_CompensationGroup);
+	}
+
+	@Override
+	public void setC_Order_CompensationGroup_ID(final int C_Order_CompensationGroup_ID)
+	{
+		setValue("C_Order_CompensationGroup_ID", C_Order_CompensationGroup_ID);
+	}
+
+	@Override
+	public void setC_Order_ID(final int C_Order_ID)
+	{
+		setValue("C_Order_ID", C_Order_ID);
+	}
+
+	@Override
+	public void setC_PackingMaterial_OrderLine(final de.metas.handlingunits.model.I_C_OrderLine C_PackingMaterial_OrderLine)
+	{
+		setValueFromPO("C_PackingMaterial_OrderLine_ID", de.metas.handlingunits.model.I_C_OrderLine.class, C_PackingMaterial_OrderLine);
+	}
+
+	@Override
+	public void setC_PackingMaterial_OrderLine_ID(final int C_PackingMaterial_OrderLine_ID)
+	{
+		setValue("C_PackingMaterial_OrderLine_ID", C_PackingMaterial_OrderLine_ID);
+	}
+
+	@Override
+	public void setC_PaymentTerm_Override_ID(final int C_PaymentTerm_Override_ID)
+	{
+		setValue("C_PaymentTerm_Override_ID", C_PaymentTerm_Override_ID);
+	}
+
+	@Override
+	public void setC_ProjectPhase(final org.compiere.model.I_C_ProjectPhase C_ProjectPhase)
+	{
+		setValueFromPO("C_ProjectPhase_ID", org.compiere.model.I_C_ProjectPhase.class, C_ProjectPhase);
+	}
+
+	@Override
+	public void setC_ProjectPhase_ID(final int C_ProjectPhase_ID)
+	{
+		setValue("C_ProjectPhase_ID", C_ProjectPhase_ID);
+	}
+
+	@Override
+	public void setC_ProjectTask(final org.compiere.model.I_C_ProjectTask C_ProjectTask)
+	{
+		setValueFromPO("C_ProjectTask_ID", org.compiere.model.I_C_ProjectTask.class, C_ProjectTask);
+	}
+
+	@Override
+	public void setC_ProjectTask_ID(final int C_ProjectTask_ID)
+	{
+		setValue("C_ProjectTask_ID", C_ProjectTask_ID);
+	}
+
+	@Override
+	public void setC_Project_ID(final int C_Project_ID)
+	{
+		setValue("C_Project_ID", C_Project_ID);
+	}
+
+	@Override
+	public void setC_TaxCategory_ID(final int C_TaxCategory_ID)
+	{
+		setValue("C_TaxCategory_ID", C_TaxCategory_ID);
+	}
+
+	@Override
+	public void setC_Tax_ID(final int C_Tax_ID)
+	{
+		setValue("C_Tax_ID", C_Tax_ID);
+	}
+
+	@Override
+	public void setC_UOM_ID(final int C_UOM_ID)
+	{
+		setValue("C_UOM_ID", C_UOM_ID);
+	}
+
+	@Override
+	public void setDateDelivered(final java.sql.Timestamp DateDelivered)
+	{
+		setValue("DateDelivered", DateDelivered);
+	}
+
+	@Override
+	public void setDateInvoiced(final java.sql.Timestamp DateInvoiced)
+	{
+		setValue("DateInvoiced", DateInvoiced);
+	}
+
+	@Override
+	public void setDateOrdered(final java.sql.Timestamp DateOrdered)
+	{
+		setValue("DateOrdered", DateOrdered);
+	}
+
+	@Override
+	public void setDatePromised(final java.sql.Timestamp DatePromised)
+	{
+		setValue("DatePromised", DatePromised);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setDiscount(final java.math.BigDecimal Discount)
+	{
+		setValue("Discount", Discount);
+	}
+
+	@Override
+	public void setEnforcePriceLimit(final boolean EnforcePriceLimit)
+	{
+		setValue("EnforcePriceLimit", EnforcePriceLimit);
+	}
+
+	@Override
+	public void setExplodedFrom_BOMLine(final org.eevolution.model.I_PP_Product_BOMLine ExplodedFrom_BOMLine)
+	{
+		setValueFromPO("ExplodedFrom_BOMLine_ID", org.eevolution.model.I_PP_Product_BOMLine.class, ExplodedFrom_BOMLine);
+	}
+
+	@Override
+	public void setExplodedFrom_BOMLine_ID(final int ExplodedFrom_BOMLine_ID)
+	{
+		setValue("ExplodedFrom_BOMLine_ID", ExplodedFrom_BOMLine_ID);
+	}
+
+	@Override
+	public void setFreightAmt(final java.math.BigDecimal FreightAmt)
+	{
+		setValue("FreightAmt", FreightAmt);
+	}
+
+	@Override
+	public void setFrequencyType(final java.lang.String FrequencyType)
+	{
+		setValue("FrequencyType", FrequencyType);
+	}
+
+	@Override
+	public void setGroupCompensationAmtType(final java.lang.String GroupCompensationAmtType)
+	{
+		setValue("GroupCompensationAmtType", GroupCompensationAmtType);
+	}
+
+	@Override
+	public void setGroupCompensationBaseAmt(final java.math.BigDecimal GroupCompensationBaseAmt)
+	{
+		setValue("GroupCompensationBaseAmt", GroupCompensationBaseAmt);
+	}
+
+	@Override
+	public void setGroupCompensationPercentage(final java.math.BigDecimal GroupCompensationPercentage)
+	{
+		setValue("GroupCompensationPercentage", GroupCompensationPercentage);
+	}
+
+	@Override
+	public void setGroupCompensationType(final java.lang.String GroupCompensationType)
+	{
+		setValue("GroupCompensationType", GroupCompensationType);
+	}
+
+	@Override
+	public void setGroupSumTag(final java.lang.String GroupSumTag)
+	{
+		setValue("GroupSumTag", GroupSumTag);
+	}
+
+	@Override
+	public void setHandOver_Location_ID(final int HandOver_Location_ID)
+	{
+		setValue("HandOver_Location_ID", HandOver_Location_ID);
+	}
+
+	@Override
+	public void setHandover_BPartner_ID(final int Handover_BPartner_ID)
+	{
+		setValue("Handover_BPartner_ID", Handover_BPartner_ID);
+	}
+
+	@Override
+	public void setInvoicableQtyBasedOn(final java.lang.String InvoicableQtyBasedOn)
+	{
+		setValue("InvoicableQtyBasedOn", InvoicableQtyBasedOn);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsCampaignPrice(final boolean IsCampaignPrice)
+	{
+		setValue("IsCampaignPrice", IsCampaignPrice);
+	}
+
+	@Override
+	public void setIsDescription(final boolean IsDescription)
+	{
+		setValue("IsDescription", IsDescription);
+	}
+
+	@Override
+	public void setIsDiscountEditable(final boolean IsDiscountEditable)
+	{
+		setValue("IsDiscountEditable", IsDiscountEditable);
+	}
+
+	@Override
+	public void setIsDiverse(final boolean IsDiverse)
+	{
+		setValue("IsDiverse", IsDiverse);
+	}
+
+	@Override
+	public void setIsGroupCompensationLine(final boolean IsGroupCompensationLine)
+	{
+		setValue("IsGroupCompensationLine", IsGroupCompensationLine);
+	}
+
+	@Override
+	public void setIsIncludeInTotal(final boolean IsIncludeInTotal)
+	{
+		setValue("IsIncludeInTotal", IsIncludeInTotal);
+	}
+
+	@Override
+	public void setIsIndividualDescription(final boolean IsIndividualDescription)
+	{
+		setValue("IsIndividualDescription", IsIndividualDescription);
+	}
+
+	@Override
+	public void setIsManualDiscount(final boolean IsManualDiscount)
+	{
+		setValue("IsManualDiscount", IsManualDiscount);
+	}
+
+	@Override
+	public void setIsManualPaymentTerm(final boolean IsManualPaymentTerm)
+	{
+		setValue("IsManualPaymentTerm", IsManualPaymentTerm);
+	}
+
+	@Override
+	public void setIsManualPrice(final boolean IsManualPrice)
+	{
+		setValue("IsManualPrice", IsManualPrice);
+	}
+
+	@Override
+	public void setIsManualQtyItemCapacity(final boolean IsManualQtyItemCapacity)
+	{
+		setValue("IsManualQtyItemCapacity", IsManualQtyItemCapacity);
+	}
+
+	@Override
+	public void setIsPackagingMaterial(final boolean IsPackagingMaterial)
+	{
+		setValue("IsPackagingMaterial", IsPackagingMaterial);
+	}
+
+	@Override
+	public void setIsPriceEditable(final boolean IsPriceEditable)
+	{
+		setValue("IsPriceEditable", IsPriceEditable);
+	}
+
+	@Override
+	public void setIsSubscription(final boolean IsSubscription)
+	{
+		setValue("IsSubscription", IsSubscription);
+	}
+
+	@Override
+	public void setIsTempPricingConditions(final boolean IsTempPricingConditions)
+	{
+		setValue("IsTempPricingConditions", IsTempPricingConditions);
+	}
+
+	@Override
+	public void setIsUseBPartnerAddress(final boolean IsUseBPartnerAddress)
+	{
+		setValue("IsUseBPartnerAddress", IsUseBPartnerAddress);
+	}
+
+	@Override
+	public void setLine(final int Line)
+	{
+		setValue("Line", Line);
+	}
+
+	@Override
+	public void setLineNetAmt(final java.math.BigDecimal LineNetAmt)
+	{
+		setValue("LineNetAmt", LineNetAmt);
+	}
+
+	@Override
+	public void setLink_OrderLine(final org.compiere.model.I_C_OrderLine Link_OrderLine)
+	{
+		setValueFromPO("Link_OrderLine_ID", org.compiere.model.I_C_OrderLine.class, Link_OrderLine);
+	}
+
+	@Override
+	public void setLink_OrderLine_ID(final int Link_OrderLine_ID)
+	{
+		setValue("Link_OrderLine_ID", Link_OrderLine_ID);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance(final org.compiere.model.I_M_AttributeSetInstance M_AttributeSetInstance)
+	{
+		setValueFromPO("M_AttributeSetInstance_ID", org.compiere.model.I_M_AttributeSetInstance.class, M_AttributeSetInstance);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance_ID(final int M_AttributeSetInstance_ID)
+	{
+		setValue("M_AttributeSetInstance_ID", M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public void setM_DiscountSchema(final org.compiere.model.I_M_DiscountSchema M_DiscountSchema)
+	{
+		setValueFromPO("M_DiscountSchema_ID", org.compiere.model.I_M_DiscountSchema.class, M_DiscountSchema);
+	}
+
+	@Override
+	public void setM_DiscountSchemaBreak(final org.compiere.model.I_M_DiscountSchemaBreak M_DiscountSchemaBreak)
+	{
+		setValueFromPO("M_DiscountSchemaBreak_ID", org.compiere.model.I_M_DiscountSchemaBreak.class, M_DiscountSchemaBreak);
+	}
+
+	@Override
+	public void setM_DiscountSchemaBreak_ID(final int M_DiscountSchemaBreak_ID)
+	{
+		setValue("M_DiscountSchemaBreak_ID", M_DiscountSchemaBreak_ID);
+	}
+
+	@Override
+	public void setM_DiscountSchema_ID(final int M_DiscountSchema_ID)
+	{
+		setValue("M_DiscountSchema_ID", M_DiscountSchema_ID);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_ID(final int M_HU_PI_Item_Product_ID)
+	{
+		setValue("M_HU_PI_Item_Product_ID", M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public void setM_PriceList_Version_ID(final int M_PriceList_Version_ID)
+	{
+		setValue("M_PriceList_Version_ID", M_PriceList_Version_ID);
+	}
+
+	@Override
+	public void setM_Product_DocumentNote(final java.lang.String M_Product_DocumentNote)
+	{
+		setValue("M_Product_DocumentNote", M_Product_DocumentNote);
+	}
+
+	@Override
+	public void setM_Product_ID(final int M_Product_ID)
+	{
+		setValue("M_Product_ID", M_Product_ID);
+	}
+
+	@Override
+	public void setM_Promotion(final org.compiere.model.I_M_Promotion M_Promotion)
+	{
+		setValueFromPO("M_Promotion_ID", org.compiere.model.I_M_Promotion.class, M_Promotion);
+	}
+
+	@Override
+	public void setM_Promotion_ID(final int M_Promotion_ID)
+	{
+		setValue("M_Promotion_ID", M_Promotion_ID);
+	}
+
+	@Override
+	public void setM_Shipper(final org.compiere.model.I_M_Shipper M_Shipper)
+	{
+		setValueFromPO("M_Shipper_ID", org.compiere.model.I_M_Shipper.class, M_Shipper);
+	}
+
+	@Override
+	public void setM_Shipper_ID(final int M_Shipper_ID)
+	{
+		setValue("M_Shipper_ID", M_Shipper_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_Dest_ID(final int M_Warehouse_Dest_ID)
+	{
+		setValue("M_Warehouse_Dest_ID", M_Warehouse_Dest_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_ID(final int M_Warehouse_ID)
+	{
+		setValue("M_Warehouse_ID", M_Warehouse_ID);
+	}
+
+	@Override
+	public void setNoPriceConditionsColor_ID(final int NoPriceConditionsColor_ID)
+	{
+		setValue("NoPriceConditionsColor_ID", NoPriceConditionsColor_ID);
+	}
+
+	@Override
+	public void setOrderDiscount(final java.math.BigDecimal OrderDiscount)
+	{
+		setValue("OrderDiscount", OrderDiscount);
+	}
+
+	@Override
+	public void setPOCallOrderDate(final java.sql.Timestamp POCallOrderDate)
+	{
+		setValue("POCallOrderDate", POCallOrderDate);
+	}
+
+	@Override
+	public void setPP_Cost_Collector(final org.eevolution.model.I_PP_Cost_Collector PP_Cost_Collector)
+	{
+		setValueFromPO("PP_Cost_Collector_ID", org.eevolution.model.I_PP_Cost_Collector.class, PP_Cost_Collector);
+	}
+
+	@Override
+	public void setPP_Cost_Collector_ID(final int PP_Cost_Collector_ID)
+	{
+		setValue("PP_Cost_Collector_ID", PP_Cost_Collector_ID);
+	}
+
+	@Override
+	public void setPackDescription(final java.lang.String PackDescription)
+	{
+		setValue("PackDescription", PackDescription);
+	}
+
+	@Override
+	public void setPaymentDiscount(final java.math.BigDecimal PaymentDiscount)
+	{
+		setValue("PaymentDiscount", PaymentDiscount);
+	}
+
+	@Override
+	public void setPresetDateInvoiced(final java.sql.Timestamp PresetDateInvoiced)
+	{
+		setValue("PresetDateInvoiced", PresetDateInvoiced);
+	}
+
+	@Override
+	public void setPresetDateShipped(final java.sql.Timestamp PresetDateShipped)
+	{
+		setValue("PresetDateShipped", PresetDateShipped);
+	}
+
+	@Override
+	public void setPriceActual(final java.math.BigDecimal PriceActual)
+	{
+		setValue("PriceActual", PriceActual);
+	}
+
+	@Override
+	public void setPriceCost(final java.math.BigDecimal PriceCost)
+	{
+		setValue("PriceCost", PriceCost);
+	}
+
+	@Override
+	public void setPriceEntered(final java.math.BigDecimal PriceEntered)
+	{
+		setValue("PriceEntered", PriceEntered);
+	}
+
+	@Override
+	public void setPriceLimit(final java.math.BigDecimal PriceLimit)
+	{
+		setValue("PriceLimit", PriceLimit);
+	}
+
+	@Override
+	public void setPriceLimitNote(final java.lang.String PriceLimitNote)
+	{
+		setValue("PriceLimitNote", PriceLimitNote);
+	}
+
+	@Override
+	public void setPriceList(final java.math.BigDecimal PriceList)
+	{
+		setValue("PriceList", PriceList);
+	}
+
+	@Override
+	public void setPriceList_Std(final java.math.BigDecimal PriceList_Std)
+	{
+		setValue("PriceList_Std", PriceList_Std);
+	}
+
+	@Override
+	public void setPriceStd(final java.math.BigDecimal PriceStd)
+	{
+		setValue("PriceStd", PriceStd);
+	}
+
+	@Override
+	public void setPrice_UOM_ID(final int Price_UOM_ID)
+	{
+		setValue("Price_UOM_ID", Price_UOM_ID);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setProductDescription(final java.lang.String ProductDescription)
+	{
+		setValue("ProductDescription", ProductDescription);
+	}
+
+	@Override
+	public void setProfitPriceActual(final java.math.BigDecimal ProfitPriceActual)
+	{
+		setValue("ProfitPriceActual", ProfitPriceActual);
+	}
+
+	@Override
+	public void setQtyDelivered(final java.math.BigDecimal QtyDelivered)
+	{
+		setValue("QtyDelivered", QtyDelivered);
+	}
+
+	@Override
+	public void setQtyEntered(final java.math.BigDecimal QtyEntered)
+	{
+		setValue("QtyEntered", QtyEntered);
+	}
+
+	@Override
+	public void setQtyEnteredInPriceUOM(final java.math.BigDecimal QtyEnteredInPriceUOM)
+	{
+		setValue("QtyEnteredInPriceUOM", QtyEnteredInPriceUOM);
+	}
+
+	@Override
+	public void setQtyEnteredTU(final java.math.BigDecimal QtyEnteredTU)
+	{
+		setValue("QtyEnteredTU", QtyEnteredTU);
+	}
+
+	@Override
+	public void setQtyInvoiced(final java.math.BigDecimal QtyInvoiced)
+	{
+		setValue("QtyInvoiced", QtyInvoiced);
+	}
+
+	@Override
+	public void setQtyItemCapacity(final java.math.BigDecimal QtyItemCapacity)
+	{
+		setValue("QtyItemCapacity", QtyItemCapacity);
+	}
+
+	@Override
+	public void setQtyLostSales(final java.math.BigDecimal QtyLostSales)
+	{
+		setValue("QtyLostSales", QtyLostSales);
+	}
+
+	@Override
+	public void setQtyOrdered(final java.math.BigDecimal QtyOrdered)
+	{
+		setValue("QtyOrdered", QtyOrdered);
+	}
+
+	@Override
+	public void setQtyOrderedOverUnder(final java.math.BigDecimal QtyOrderedOverUnder)
+	{
+		setValue("QtyOrderedOverUnder", QtyOrderedOverUnder);
+	}
+
+	@Override
+	public void setQtyReserved(final java.math.BigDecimal QtyReserved)
+	{
+		setValue("QtyReserved", QtyReserved);
+	}
+
+	@Override
+	public void setRRAmt(final java.math.BigDecimal RRAmt)
+	{
+		setValue("RRAmt", RRAmt);
+	}
+
+	@Override
+	public void setRRStartDate(final java.sql.Timestamp RRStartDate)
+	{
+		setValue("RRStartDate", RRStartDate);
+	}
+
+	@Override
+	public void setRef_OrderLine(final org.compiere.model.I_C_OrderLine Ref_OrderLine)
+	{
+		setValueFromPO("Ref_OrderLine_ID", org.compiere.model.I_C_OrderLine.class, Ref_OrderLine);
+	}
+
+	@Override
+	public void setRef_OrderLine_ID(final int Ref_OrderLine_ID)
+	{
+		setValue("Ref_OrderLine_ID", Ref_OrderLine_ID);
+	}
+
+	@Override
+	public void setRef_ProposalLine(final org.compiere.model.I_C_OrderLine Ref_ProposalLine)
+	{
+		setValueFromPO("Ref_ProposalLine_ID", org.compiere.model.I_C_OrderLine.class, Ref_ProposalLine);
+	}
+
+	@Override
+	public void setRef_ProposalLine_ID(final int Ref_ProposalLine_ID)
+	{
+		setValue("Ref_ProposalLine_ID", Ref_ProposalLine_ID);
+	}
+
+	@Override
+	public void setRunsMax(final int RunsMax)
+	{
+		setValue("RunsMax", RunsMax);
+	}
+
+	@Override
+	public void setS_ResourceAssignment_ID(final int S_ResourceAssignment_ID)
+	{
+		setValue("S_ResourceAssignment_ID", S_ResourceAssignment_ID);
+	}
+
+	@Override
+	public void setShipmentAllocation_BestBefore_Policy(final java.lang.String ShipmentAllocation_BestBefore_Policy)
+	{
+		setValue("ShipmentAllocation_BestBefore_Policy", ShipmentAllocation_BestBefore_Policy);
+	}
+
+	@Override
+	public void setSinglePriceTag_ID(final int SinglePriceTag_ID)
+	{
+		setValue("SinglePriceTag_ID", SinglePriceTag_ID);
+	}
+
+	@Override
+	public void setTaxAmtInfo(final java.math.BigDecimal TaxAmtInfo)
+	{
+		setValue("TaxAmtInfo", TaxAmtInfo);
+	}
+
+	@Override
+	public void setTraded_Commission_Percent(final java.math.BigDecimal Traded_Commission_Percent)
+	{
+		setValue("Traded_Commission_Percent", Traded_Commission_Percent);
+	}
+
+	@Override
+	public void setUser1(final org.compiere.model.I_C_ElementValue User1)
+	{
+		setValueFromPO("User1_ID", org.compiere.model.I_C_ElementValue.class, User1);
+	}
+
+	@Override
+	public void setUser1_ID(final int User1_ID)
+	{
+		setValue("User1_ID", User1_ID);
+	}
+
+	@Override
+	public void setUser2(final org.compiere.model.I_C_ElementValue User2)
+	{
+		setValueFromPO("User2_ID", org.compiere.model.I_C_ElementValue.class, User2);
+	}
+
+	@Override
+	public void setUser2_ID(final int User2_ID)
+	{
+		setValue("User2_ID", User2_ID);
+	}
+}
@@ -0,0 +1,971 @@
+package de.metas.handlingunits.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.handlingunits.model.I_M_InOutLine}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_M_InOutLine extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.handlingunits.model.I_M_InOutLine
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_Description = ColumnRef.ofBooleanProperty("Description");
+	private static final ColumnRef BOOLEANREF_InDispute = ColumnRef.ofBooleanProperty("InDispute");
+	private static final ColumnRef BOOLEANREF_IndividualDescription = ColumnRef.ofBooleanProperty("IndividualDescription");
+	private static final ColumnRef BOOLEANREF_InvoiceCandidate = ColumnRef.ofBooleanProperty("InvoiceCandidate");
+	private static final ColumnRef BOOLEANREF_Invoiced = ColumnRef.ofBooleanProperty("Invoiced");
+	private static final ColumnRef BOOLEANREF_ManualPackingMaterial = ColumnRef.ofBooleanProperty("ManualPackingMaterial");
+	private static final ColumnRef BOOLEANREF_PackagingMaterial = ColumnRef.ofBooleanProperty("PackagingMaterial");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_OrgTrx_ID = ColumnRef.ofColumnName("AD_OrgTrx_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_C_Activity_ID = ColumnRef.ofColumnName("C_Activity_ID");
+	private static final ColumnRef COLUMNREF_C_Campaign_ID = ColumnRef.ofColumnName("C_Campaign_ID");
+	private static final ColumnRef COLUMNREF_C_Charge_ID = ColumnRef.ofColumnName("C_Charge_ID");
+	private static final ColumnRef COLUMNREF_C_OrderLine_ID = ColumnRef.ofColumnName("C_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_C_ProjectPhase_ID = ColumnRef.ofColumnName("C_ProjectPhase_ID");
+	private static final ColumnRef COLUMNREF_C_ProjectTask_ID = ColumnRef.ofColumnName("C_ProjectTask_ID");
+	private static final ColumnRef COLUMNREF_C_Project_ID = ColumnRef.ofColumnName("C_Project_ID");
+	private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName("C_UOM_ID");
+	private static final ColumnRef COLUMNREF_Catch_UOM_ID = ColumnRef.ofColumnName("Catch_UOM_ID");
+	private static final ColumnRef COLUMNREF_ConfirmedQty = ColumnRef.ofColumnName("ConfirmedQty");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_Description = ColumnRef.ofColumnName("Description");
+	private static final ColumnRef COLUMNREF_Line = ColumnRef.ofColumnName("Line");
+	private static final ColumnRef COLUMNREF_M_AttributeSetInstance_ID = ColumnRef.ofColumnName("M_AttributeSetInstance_ID");
+	private static final ColumnRef COLUMNREF_M_HU_LUTU_Configuration_ID = ColumnRef.ofColumnName("M_HU_LUTU_Configuration_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_Calculated_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_Calculated_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_Override_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_Override_ID");
+	private static final ColumnRef COLUMNREF_M_InOutLine_ID = ColumnRef.ofColumnName("M_InOutLine_ID");
+	private static final ColumnRef COLUMNREF_M_InOut_ID = ColumnRef.ofColumnName("M_InOut_ID");
+	private static final ColumnRef COLUMNREF_M_Locator_ID = ColumnRef.ofColumnName("M_Locator_ID");
+	private static final ColumnRef COLUMNREF_M_Material_Tracking_ID = ColumnRef.ofColumnName("M_Material_Tracking_ID");
+	private static final ColumnRef COLUMNREF_M_PackingMaterial_InOutLine_ID = ColumnRef.ofColumnName("M_PackingMaterial_InOutLine_ID");
+	private static final ColumnRef COLUMNREF_M_Product_ID = ColumnRef.ofColumnName("M_Product_ID");
+	private static final ColumnRef COLUMNREF_M_RMALine_ID = ColumnRef.ofColumnName("M_RMALine_ID");
+	private static final ColumnRef COLUMNREF_MovementQty = ColumnRef.ofColumnName("MovementQty");
+	private static final ColumnRef COLUMNREF_PickedQty = ColumnRef.ofColumnName("PickedQty");
+	private static final ColumnRef COLUMNREF_ProductDescription = ColumnRef.ofColumnName("ProductDescription");
+	private static final ColumnRef COLUMNREF_QtyCU_Calculated = ColumnRef.ofColumnName("QtyCU_Calculated");
+	private static final ColumnRef COLUMNREF_QtyDeliveredCatch = ColumnRef.ofColumnName("QtyDeliveredCatch");
+	private static final ColumnRef COLUMNREF_QtyEntered = ColumnRef.ofColumnName("QtyEntered");
+	private static final ColumnRef COLUMNREF_QtyEnteredTU = ColumnRef.ofColumnName("QtyEnteredTU");
+	private static final ColumnRef COLUMNREF_QtyTU_Calculated = ColumnRef.ofColumnName("QtyTU_Calculated");
+	private static final ColumnRef COLUMNREF_QtyTU_Override = ColumnRef.ofColumnName("QtyTU_Override");
+	private static final ColumnRef COLUMNREF_QualityDiscountPercent = ColumnRef.ofColumnName("QualityDiscountPercent");
+	private static final ColumnRef COLUMNREF_QualityNote = ColumnRef.ofColumnName("QualityNote");
+	private static final ColumnRef COLUMNREF_Ref_InOutLine_ID = ColumnRef.ofColumnName("Ref_InOutLine_ID");
+	private static final ColumnRef COLUMNREF_Return_Origin_InOutLine_ID = ColumnRef.ofColumnName("Return_Origin_InOutLine_ID");
+	private static final ColumnRef COLUMNREF_ReversalLine_ID = ColumnRef.ofColumnName("ReversalLine_ID");
+	private static final ColumnRef COLUMNREF_ScrappedQty = ColumnRef.ofColumnName("ScrappedQty");
+	private static final ColumnRef COLUMNREF_SubProducer_BPartner_ID = ColumnRef.ofColumnName("SubProducer_BPartner_ID");
+	private static final ColumnRef COLUMNREF_TargetQty = ColumnRef.ofColumnName("TargetQty");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ColumnRef COLUMNREF_User1_ID = ColumnRef.ofColumnName("User1_ID");
+	private static final ColumnRef COLUMNREF_User2_ID = ColumnRef.ofColumnName("User2_ID");
+	private static final ModelRef MODELREF_C_Campaign = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getC_Campaign", "C_Campaign_ID");
+	private static final ModelRef MODELREF_C_OrderLine = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getC_OrderLine", "C_OrderLine_ID");
+	private static final ModelRef MODELREF_C_ProjectPhase = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getC_ProjectPhase", "C_ProjectPhase_ID");
+	private static final ModelRef MODELREF_C_ProjectTask = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getC_ProjectTask", "C_ProjectTask_ID");
+	private static final ModelRef MODELREF_M_AttributeSetInstance = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_AttributeSetInstance", "M_AttributeSetInstance_ID");
+	private static final ModelRef MODELREF_M_HU_LUTU_Configuration = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_HU_LUTU_Configuration", "M_HU_LUTU_Configuration_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_HU_PI_Item_Product", "M_HU_PI_Item_Product_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product_Calculated = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_HU_PI_Item_Product_Calculated", "M_HU_PI_Item_Product_Calculated_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product_Override = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_HU_PI_Item_Product_Override", "M_HU_PI_Item_Product_Override_ID");
+	private static final ModelRef MODELREF_M_InOut = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_InOut", "M_InOut_ID");
+	private static final ModelRef MODELREF_M_Material_Tracking = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_Material_Tracking", "M_Material_Tracking_ID");
+	private static final ModelRef MODELREF_M_PackingMaterial_InOutLine = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_PackingMaterial_InOutLine", "M_PackingMaterial_InOutLine_ID");
+	private static final ModelRef MODELREF_M_RMALine = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getM_RMALine", "M_RMALine_ID");
+	private static final ModelRef MODELREF_Return_Origin_InOutLine = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getReturn_Origin_InOutLine", "Return_Origin_InOutLine_ID");
+	private static final ModelRef MODELREF_ReversalLine = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getReversalLine", "ReversalLine_ID");
+	private static final ModelRef MODELREF_SubProducer_BPartner = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getSubProducer_BPartner", "SubProducer_BPartner_ID");
+	private static final ModelRef MODELREF_User1 = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getUser1", "User1_ID");
+	private static final ModelRef MODELREF_User2 = ModelRef.of(de.metas.handlingunits.model.I_M_InOutLine.class, "getUser2", "User2_ID");
+
+	public POWrapper_I_M_InOutLine(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_OrgTrx_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_OrgTrx_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getC_Activity_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Activity_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Campaign getC_Campaign()
+	{
+		return getReferencedModel(MODELREF_C_Campaign);
+	}
+
+	@Override
+	public int getC_Campaign_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Campaign_ID);
+	}
+
+	@Override
+	public int getC_Charge_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Charge_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_OrderLine getC_OrderLine()
+	{
+		return getReferencedModel(MODELREF_C_OrderLine);
+	}
+
+	@Override
+	public int getC_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_OrderLine_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ProjectPhase getC_ProjectPhase()
+	{
+		return getReferencedModel(MODELREF_C_ProjectPhase);
+	}
+
+	@Override
+	public int getC_ProjectPhase_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_ProjectPhase_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ProjectTask getC_ProjectTask()
+	{
+		return getReferencedModel(MODELREF_C_ProjectTask);
+	}
+
+	@Override
+	public int getC_ProjectTask_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_ProjectTask_ID);
+	}
+
+	@Override
+	public int getC_Project_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Project_ID);
+	}
+
+	@Override
+	public int getC_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_UOM_ID);
+	}
+
+	@Override
+	public int getCatch_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_Catch_UOM_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getConfirmedQty()
+	{
+		return getValue(COLUMNREF_ConfirmedQty, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.lang.String getDescription()
+	{
+		return getValue(COLUMNREF_Description, java.lang.String.class);
+	}
+
+	@Override
+	public int getLine()
+	{
+		return getValueAsInt(COLUMNREF_Line);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSetInstance getM_AttributeSetInstance()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSetInstance);
+	}
+
+	@Override
+	public int getM_AttributeSetInstance_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_LUTU_Configuration getM_HU_LUTU_Configuration()
+	{
+		return getReferencedModel(MODELREF_M_HU_LUTU_Configuration);
+	}
+
+	@Override
+	public int getM_HU_LUTU_Configuration_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_LUTU_Configuration_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product_Calculated()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product_Calculated);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_Calculated_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_Calculated_ID);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product_Override()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product_Override);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_Override_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_InOut getM_InOut()
+	{
+		return getReferencedModel(MODELREF_M_InOut);
+	}
+
+	@Override
+	public int getM_InOutLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_InOutLine_ID);
+	}
+
+	@Override
+	public int getM_InOut_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_InOut_ID);
+	}
+
+	@Override
+	public int getM_Locator_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Locator_ID);
+	}
+
+	@Override
+	public de.metas.materialtracking.model.I_M_Material_Tracking getM_Material_Tracking()
+	{
+		return getReferencedModel(MODELREF_M_Material_Tracking);
+	}
+
+	@Override
+	public int getM_Material_Tracking_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Material_Tracking_ID);
+	}
+
+	@Override
+	public de.metas.inout.model.I_M_InOutLine getM_PackingMaterial_InOutLine()
+	{
+		return getReferencedModel(MODELREF_M_PackingMaterial_InOutLine);
+	}
+
+	@Override
+	public int getM_PackingMaterial_InOutLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_PackingMaterial_InOutLine_ID);
+	}
+
+	@Override
+	public int getM_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_RMALine getM_RMALine()
+	{
+		return getReferencedModel(MODELREF_M_RMALine);
+	}
+
+	@Override
+	public int getM_RMALine_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_RMALine_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getMovementQty()
+	{
+		return getValue(COLUMNREF_MovementQty, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getPickedQty()
+	{
+		return getValue(COLUMNREF_PickedQty, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getProductDescription()
+	{
+		return getValue(COLUMNREF_ProductDescription, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyCU_Calculated()
+	{
+		return getValue(COLUMNREF_QtyCU_Calculated, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyDeliveredCatch()
+	{
+		return getValue(COLUMNREF_QtyDeliveredCatch, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyEntered()
+	{
+		return getValue(COLUMNREF_QtyEntered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyEnteredTU()
+	{
+		return getValue(COLUMNREF_QtyEnteredTU, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyTU_Calculated()
+	{
+		return getValue(COLUMNREF_QtyTU_Calculated, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyTU_Override()
+	{
+		return getValue(COLUMNREF_QtyTU_Override, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQualityDiscountPercent()
+	{
+		return getValue(COLUMNREF_QualityDiscountPercent, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getQualityNote()
+	{
+		return getValue(COLUMNREF_QualityNote, java.lang.String.class);
+	}
+
+	@Override
+	public int getRef_InOutLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_Ref_InOutLine_ID);
+	}
+
+	@Override
+	public de.metas.inout.model.I_M_InOutLine getReturn_Origin_InOutLine()
+	{
+		return getReferencedModel(MODELREF_Return_Origin_InOutLine);
+	}
+
+	@Override
+	public int getReturn_Origin_InOutLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_Return_Origin_InOutLine_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_InOutLine getReversalLine()
+	{
+		return getReferencedModel(MODELREF_ReversalLine);
+	}
+
+	@Override
+	public int getReversalLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_ReversalLine_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getScrappedQty()
+	{
+		return getValue(COLUMNREF_ScrappedQty, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public org.compiere.model.I_C_BPartner getSubProducer_BPartner()
+	{
+		return getReferencedModel(MODELREF_SubProducer_BPartner);
+	}
+
+	@Override
+	public int getSubProducer_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_SubProducer_BPartner_ID);
+	}
+
+	@Override
+	public java.math.BigDecimal getTargetQty()
+	{
+		return getValue(COLUMNREF_TargetQty, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser1()
+	{
+		return getReferencedModel(MODELREF_User1);
+	}
+
+	@Override
+	public int getUser1_ID()
+	{
+		return getValueAsInt(COLUMNREF_User1_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_ElementValue getUser2()
+	{
+		return getReferencedModel(MODELREF_User2);
+	}
+
+	@Override
+	public int getUser2_ID()
+	{
+		return getValueAsInt(COLUMNREF_User2_ID);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isDescription()
+	{
+		return getValueAsBoolean(BOOLEANREF_Description);
+	}
+
+	@Override
+	public boolean isInDispute()
+	{
+		return getValueAsBoolean(BOOLEANREF_InDispute);
+	}
+
+	@Override
+	public boolean isIndividualDescription()
+	{
+		return getValueAsBoolean(BOOLEANREF_IndividualDescription);
+	}
+
+	@Override
+	public boolean isInvoiceCandidate()
+	{
+		return getValueAsBoolean(BOOLEANREF_InvoiceCandidate);
+	}
+
+	@Override
+	public boolean isInvoiced()
+	{
+		return getValueAsBoolean(BOOLEANREF_Invoiced);
+	}
+
+	@Override
+	public boolean isManualPackingMaterial()
+	{
+		return getValueAsBoolean(BOOLEANREF_ManualPackingMaterial);
+	}
+
+	@Override
+	public boolean isPackagingMaterial()
+	{
+		return getValueAsBoolean(BOOLEANREF_PackagingMaterial);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public void setAD_OrgTrx_ID(final int AD_OrgTrx_ID)
+	{
+		setValue("AD_OrgTrx_ID", AD_OrgTrx_ID);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setC_Activity_ID(final int C_Activity_ID)
+	{
+		setValue("C_Activity_ID", C_Activity_ID);
+	}
+
+	@Override
+	public void setC_Campaign(final org.compiere.model.I_C_Campaign C_Campaign)
+	{
+		setValueFromPO("C_Campaign_ID", org.compiere.model.I_C_Campaign.class, C_Campaign);
+	}
+
+	@Override
+	public void setC_Campaign_ID(final int C_Campaign_ID)
+	{
+		setValue("C_Campaign_ID", C_Campaign_ID);
+	}
+
+	@Override
+	public void setC_Charge_ID(final int C_Charge_ID)
+	{
+		setValue("C_Charge_ID", C_Charge_ID);
+	}
+
+	@Override
+	public void setC_OrderLine(final org.compiere.model.I_C_OrderLine C_OrderLine)
+	{
+		setValueFromPO("C_OrderLine_ID", org.compiere.model.I_C_OrderLine.class, C_OrderLine);
+	}
+
+	@Override
+	public void setC_OrderLine_ID(final int C_OrderLine_ID)
+	{
+		setValue("C_OrderLine_ID", C_OrderLine_ID);
+	}
+
+	@Override
+	public void setC_ProjectPhase(final org.compiere.model.I_C_ProjectPhase C_ProjectPhase)
+	{
+		setValueFromPO("C_ProjectPhase_ID", org.compiere.model.I_C_ProjectPhase.class, C_ProjectPhase);
+	}
+
+	@Override
+	public void setC_ProjectPhase_ID(final int C_ProjectPhase_ID)
+	{
+		setValue("C_ProjectPhase_ID", C_ProjectPhase_ID);
+	}
+
+	@Override
+	public void setC_ProjectTask(final org.compiere.model.I_C_ProjectTask C_ProjectTask)
+	{
+		setValueFromPO("C_ProjectTask_ID", org.compiere.model.I_C_ProjectTask.class, C_ProjectTask);
+	}
+
+	@Override
+	public void setC_ProjectTask_ID(final int C_ProjectTask_ID)
+	{
+		setValue("C_ProjectTask_ID", C_ProjectTask_ID);
+	}
+
+	@Override
+	public void setC_Project_ID(final int C_Project_ID)
+	{
+		setValue("C_Project_ID", C_Project_ID);
+	}
+
+	@Override
+	public void setC_UOM_ID(final int C_UOM_ID)
+	{
+		setValue("C_UOM_ID", C_UOM_ID);
+	}
+
+	@Override
+	public void setCatch_UOM_ID(final int Catch_UOM_ID)
+	{
+		setValue("Catch_UOM_ID", Catch_UOM_ID);
+	}
+
+	@Override
+	public void setConfirmedQty(final java.math.BigDecimal ConfirmedQty)
+	{
+		setValue("ConfirmedQty", ConfirmedQty);
+	}
+
+	@Override
+	public void setDescription(final java.lang.String Description)
+	{
+		setValue("Description", Description);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsDescription(final boolean IsDescription)
+	{
+		setValue("IsDescription", IsDescription);
+	}
+
+	@Override
+	public void setIsInDispute(final boolean IsInDispute)
+	{
+		setValue("IsInDispute", IsInDispute);
+	}
+
+	@Override
+	public void setIsIndividualDescription(final boolean IsIndividualDescription)
+	{
+		setValue("IsIndividualDescription", IsIndividualDescription);
+	}
+
+	@Override
+	public void setIsInvoiceCandidate(final boolean IsInvoiceCandidate)
+	{
+		setValue("IsInvoiceCandidate", IsInvoiceCandidate);
+	}
+
+	@Override
+	public void setIsInvoiced(final boolean IsInvoiced)
+	{
+		setValue("IsInvoiced", IsInvoiced);
+	}
+
+	@Override
+	public void setIsManualPackingMaterial(final boolean IsManualPackingMaterial)
+	{
+		setValue("IsManualPackingMaterial", IsManualPackingMaterial);
+	}
+
+	@Override
+	public void setIsPackagingMaterial(final boolean IsPackagingMaterial)
+	{
+		setValue("IsPackagingMaterial", IsPackagingMaterial);
+	}
+
+	@Override
+	public void setLine(final int Line)
+	{
+		setValue("Line", Line);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance(final org.compiere.model.I_M_AttributeSetInstance M_AttributeSetInstance)
+	{
+		setValueFromPO("M_AttributeSetInstance_ID", org.compiere.model.I_M_AttributeSetInstance.class, M_AttributeSetInstance);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance_ID(final int M_AttributeSetInstance_ID)
+	{
+		setValue("M_AttributeSetInstance_ID", M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public void setM_HU_LUTU_Configuration(final de.metas.handlingunits.model.I_M_HU_LUTU_Configuration M_HU_LUTU_Configuration)
+	{
+		setValueFromPO("M_HU_LUTU_Configuration_ID", de.metas.handlingunits.model.I_M_HU_LUTU_Configuration.class, M_HU_LUTU_Configuration);
+	}
+
+	@Override
+	public void setM_HU_LUTU_Configuration_ID(final int M_HU_LUTU_Configuration_ID)
+	{
+		setValue("M_HU_LUTU_Configuration_ID", M_HU_LUTU_Configuration_ID);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_Calculated(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product_Calculated)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_Calculated_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product_Calculated);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_ID(final int M_HU_PI_Item_Product_ID)
+	{
+		setValue("M_HU_PI_Item_Product_ID", M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_Override(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product_Override)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_Override_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product_Override);
+	}
+
+	@Override
+	public void setM_InOut(final org.compiere.model.I_M_InOut M_InOut)
+	{
+		setValueFromPO("M_InOut_ID", org.compiere.model.I_M_InOut.class, M_InOut);
+	}
+
+	@Override
+	public void setM_InOutLine_ID(final int M_InOutLine_ID)
+	{
+		setValue("M_InOutLine_ID", M_InOutLine_ID);
+	}
+
+	@Override
+	public void setM_InOut_ID(final int M_InOut_ID)
+	{
+		setValue("M_InOut_ID", M_InOut_ID);
+	}
+
+	@Override
+	public void setM_Locator_ID(final int M_Locator_ID)
+	{
+		setValue("M_Locator_ID", M_Locator_ID);
+	}
+
+	@Override
+	public void setM_Material_Tracking(final de.metas.materialtracking.model.I_M_Material_Tracking M_Material_Tracking)
+	{
+		setValueFromPO("M_Material_Tracking_ID", de.metas.materialtracking.model.I_M_Material_Tracking.class, M_Material_Tracking);
+	}
+
+	@Override
+	public void setM_Material_Tracking_ID(final int M_Material_Tracking_ID)
+	{
+		setValue("M_Material_Tracking_ID", M_Material_Tracking_ID);
+	}
+
+	@Override
+	public void setM_PackingMaterial_InOutLine(final de.metas.inout.model.I_M_InOutLine M_PackingMaterial_InOutLine)
+	{
+		setValueFromPO("M_PackingMaterial_InOutLine_ID", de.metas.inout.model.I_M_InOutLine.class, M_PackingMaterial_InOutLine);
+	}
+
+	@Override
+	public void setM_PackingMaterial_InOutLine_ID(final int M_PackingMaterial_InOutLine_ID)
+	{
+		setValue("M_PackingMaterial_InOutLine_ID", M_PackingMaterial_InOutLine_ID);
+	}
+
+	@Override
+	public void setM_Product_ID(final int M_Product_ID)
+	{
+		setValue("M_Product_ID", M_Product_ID);
+	}
+
+	@Override
+	public void setM_RMALine(final org.compiere.model.I_M_RMALine M_RMALine)
+	{
+		setValueFromPO("M_RMALine_ID", org.compiere.model.I_M_RMALine.class, M_RMALine);
+	}
+
+	@Override
+	public void setM_RMALine_ID(final int M_RMALine_ID)
+	{
+		setValue("M_RMALine_ID", M_RMALine_ID);
+	}
+
+	@Override
+	public void setMovementQty(final java.math.BigDecimal MovementQty)
+	{
+		setValue("MovementQty", MovementQty);
+	}
+
+	@Override
+	public void setPickedQty(final java.math.BigDecimal PickedQty)
+	{
+		setValue("PickedQty", PickedQty);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setProductDescription(final java.lang.String ProductDescription)
+	{
+		setValue("ProductDescription", ProductDescription);
+	}
+
+	@Override
+	public void setQtyCU_Calculated(final java.math.BigDecimal QtyCU_Calculated)
+	{
+		setValue("QtyCU_Calculated", QtyCU_Calculated);
+	}
+
+	@Override
+	public void setQtyDeliveredCatch(final java.math.BigDecimal QtyDeliveredCatch)
+	{
+		setValue("QtyDeliveredCatch", QtyDeliveredCatch);
+	}
+
+	@Override
+	public void setQtyEntered(final java.math.BigDecimal QtyEntered)
+	{
+		setValue("QtyEntered", QtyEntered);
+	}
+
+	@Override
+	public void setQtyEnteredTU(final java.math.BigDecimal QtyEnteredTU)
+	{
+		setValue("QtyEnteredTU", QtyEnteredTU);
+	}
+
+	@Override
+	public void setQtyTU_Calculated(final java.math.BigDecimal QtyTU_Calculated)
+	{
+		setValue("QtyTU_Calculated", QtyTU_Calculated);
+	}
+
+	@Override
+	public void setQtyTU_Override(final java.math.BigDecimal QtyTU_Override)
+	{
+		setValue("QtyTU_Override", QtyTU_Override);
+	}
+
+	@Override
+	public void setQualityDiscountPercent(final java.math.BigDecimal QualityDiscountPercent)
+	{
+		setValue("QualityDiscountPercent", QualityDiscountPercent);
+	}
+
+	@Override
+	public void setQualityNote(final java.lang.String QualityNote)
+	{
+		setValue("QualityNote", QualityNote);
+	}
+
+	@Override
+	public void setRef_InOutLine_ID(final int Ref_InOutLine_ID)
+	{
+		setValue("Ref_InOutLine_ID", Ref_InOutLine_ID);
+	}
+
+	@Override
+	public void setReturn_Origin_InOutLine(final de.metas.inout.model.I_M_InOutLine Return_Origin_InOutLine)
+	{
+		setValueFromPO("Return_Origin_InOutLine_ID", de.metas.inout.model.I_M_InOutLine.class, Return_Origin_InOutLine);
+	}
+
+	@Override
+	public void setReturn_Origin_InOutLine_ID(final int Return_Origin_InOutLine_ID)
+	{
+		setValue("Return_Origin_InOutLine_ID", Return_Origin_InOutLine_ID);
+	}
+
+	@Override
+	public void setReversalLine(final org.compiere.model.I_M_InOutLine ReversalLine)
+	{
+		setValueFromPO("ReversalLine_ID", org.compiere.model.I_M_InOutLine.class, ReversalLine);
+	}
+
+	@Override
+	public void setReversalLine_ID(final int ReversalLine_ID)
+	{
+		setValue("ReversalLine_ID", ReversalLine_ID);
+	}
+
+	@Override
+	public void setScrappedQty(final java.math.BigDecimal ScrappedQty)
+	{
+		setValue("ScrappedQty", ScrappedQty);
+	}
+
+	@Override
+	public void setSubProducer_BPartner(final org.compiere.model.I_C_BPartner SubProducer_BPartner)
+	{
+		setValueFromPO("SubProducer_BPartner_ID", org.compiere.model.I_C_BPartner.class, SubProducer_BPartner);
+	}
+
+	@Override
+	public void setSubProducer_BPartner_ID(final int SubProducer_BPartner_ID)
+	{
+		setValue("SubProducer_BPartner_ID", SubProducer_BPartner_ID);
+	}
+
+	@Override
+	public void setTargetQty(final java.math.BigDecimal TargetQty)
+	{
+		setValue("TargetQty", TargetQty);
+	}
+
+	@Override
+	public void setUser1(final org.compiere.model.I_C_ElementValue User1)
+	{
+		setValueFromPO("User1_ID", org.compiere.model.I_C_ElementValue.class, User1);
+	}
+
+	@Override
+	public void setUser1_ID(final int User1_ID)
+	{
+		setValue("User1_ID", User1_ID);
+	}
+
+	@Override
+	public void setUser2(final org.compiere.model.I_C_ElementValue User2)
+	{
+		setValueFromPO("User2_ID", org.compiere.model.I_C_ElementValue.class, User2);
+	}
+
+	@Override
+	public void setUser2_ID(final int User2_ID)
+	{
+		setValue("User2_ID", User2_ID);
+	}
+}
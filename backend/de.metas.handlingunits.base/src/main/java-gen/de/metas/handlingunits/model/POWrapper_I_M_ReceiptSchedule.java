@@ -0,0 +1,886 @@
+package de.metas.handlingunits.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.handlingunits.model.I_M_ReceiptSchedule}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_M_ReceiptSchedule extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.handlingunits.model.I_M_ReceiptSchedule
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_BPartnerAddress_Override = ColumnRef.ofBooleanProperty("BPartnerAddress_Override");
+	private static final ColumnRef BOOLEANREF_PackagingMaterial = ColumnRef.ofBooleanProperty("PackagingMaterial");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AD_Table_ID = ColumnRef.ofColumnName("AD_Table_ID");
+	private static final ColumnRef COLUMNREF_AD_User_ID = ColumnRef.ofColumnName("AD_User_ID");
+	private static final ColumnRef COLUMNREF_AD_User_Override_ID = ColumnRef.ofColumnName("AD_User_Override_ID");
+	private static final ColumnRef COLUMNREF_BPartnerAddress = ColumnRef.ofColumnName("BPartnerAddress");
+	private static final ColumnRef COLUMNREF_BPartnerAddress_Override = ColumnRef.ofColumnName("BPartnerAddress_Override");
+	private static final ColumnRef COLUMNREF_C_BP_Location_Override_ID = ColumnRef.ofColumnName("C_BP_Location_Override_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Location_ID = ColumnRef.ofColumnName("C_BPartner_Location_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Override_ID = ColumnRef.ofColumnName("C_BPartner_Override_ID");
+	private static final ColumnRef COLUMNREF_C_DocType_ID = ColumnRef.ofColumnName("C_DocType_ID");
+	private static final ColumnRef COLUMNREF_C_OrderLine_ID = ColumnRef.ofColumnName("C_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_C_Order_ID = ColumnRef.ofColumnName("C_Order_ID");
+	private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName("C_UOM_ID");
+	private static final ColumnRef COLUMNREF_CanBeExportedFrom = ColumnRef.ofColumnName("CanBeExportedFrom");
+	private static final ColumnRef COLUMNREF_Catch_UOM_ID = ColumnRef.ofColumnName("Catch_UOM_ID");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_DateOrdered = ColumnRef.ofColumnName("DateOrdered");
+	private static final ColumnRef COLUMNREF_DeliveryRule = ColumnRef.ofColumnName("DeliveryRule");
+	private static final ColumnRef COLUMNREF_DeliveryRule_Override = ColumnRef.ofColumnName("DeliveryRule_Override");
+	private static final ColumnRef COLUMNREF_DeliveryViaRule = ColumnRef.ofColumnName("DeliveryViaRule");
+	private static final ColumnRef COLUMNREF_DeliveryViaRule_Override = ColumnRef.ofColumnName("DeliveryViaRule_Override");
+	private static final ColumnRef COLUMNREF_ExportStatus = ColumnRef.ofColumnName("ExportStatus");
+	private static final ColumnRef COLUMNREF_ExternalResourceURL = ColumnRef.ofColumnName("ExternalResourceURL");
+	private static final ColumnRef COLUMNREF_FilteredItemsWithSameC_Order_ID = ColumnRef.ofColumnName("FilteredItemsWithSameC_Order_ID");
+	private static final ColumnRef COLUMNREF_HeaderAggregationKey = ColumnRef.ofColumnName("HeaderAggregationKey");
+	private static final ColumnRef COLUMNREF_M_AttributeSetInstance_ID = ColumnRef.ofColumnName("M_AttributeSetInstance_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_ID");
+	private static final ColumnRef COLUMNREF_M_IolCandHandler_ID = ColumnRef.ofColumnName("M_IolCandHandler_ID");
+	private static final ColumnRef COLUMNREF_M_Product_ID = ColumnRef.ofColumnName("M_Product_ID");
+	private static final ColumnRef COLUMNREF_M_ReceiptSchedule_ID = ColumnRef.ofColumnName("M_ReceiptSchedule_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_Dest_ID = ColumnRef.ofColumnName("M_Warehouse_Dest_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_Effective_ID = ColumnRef.ofColumnName("M_Warehouse_Effective_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_ID = ColumnRef.ofColumnName("M_Warehouse_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_Override_ID = ColumnRef.ofColumnName("M_Warehouse_Override_ID");
+	private static final ColumnRef COLUMNREF_MovementDate = ColumnRef.ofColumnName("MovementDate");
+	private static final ColumnRef COLUMNREF_OnMaterialReceiptWithDestWarehouse = ColumnRef.ofColumnName("OnMaterialReceiptWithDestWarehouse");
+	private static final ColumnRef COLUMNREF_PackDescription = ColumnRef.ofColumnName("PackDescription");
+	private static final ColumnRef COLUMNREF_PreparationTime = ColumnRef.ofColumnName("PreparationTime");
+	private static final ColumnRef COLUMNREF_PriorityRule = ColumnRef.ofColumnName("PriorityRule");
+	private static final ColumnRef COLUMNREF_PriorityRule_Override = ColumnRef.ofColumnName("PriorityRule_Override");
+	private static final ColumnRef COLUMNREF_QtyItemCapacity = ColumnRef.ofColumnName("QtyItemCapacity");
+	private static final ColumnRef COLUMNREF_QtyMoved = ColumnRef.ofColumnName("QtyMoved");
+	private static final ColumnRef COLUMNREF_QtyMovedInCatchUOM = ColumnRef.ofColumnName("QtyMovedInCatchUOM");
+	private static final ColumnRef COLUMNREF_QtyMovedTU = ColumnRef.ofColumnName("QtyMovedTU");
+	private static final ColumnRef COLUMNREF_QtyMovedWithIssues = ColumnRef.ofColumnName("QtyMovedWithIssues");
+	private static final ColumnRef COLUMNREF_QtyMovedWithIssuesInCatchUOM = ColumnRef.ofColumnName("QtyMovedWithIssuesInCatchUOM");
+	private static final ColumnRef COLUMNREF_QtyOrdered = ColumnRef.ofColumnName("QtyOrdered");
+	private static final ColumnRef COLUMNREF_QtyOrderedOverUnder = ColumnRef.ofColumnName("QtyOrderedOverUnder");
+	private static final ColumnRef COLUMNREF_QtyOrderedTU = ColumnRef.ofColumnName("QtyOrderedTU");
+	private static final ColumnRef COLUMNREF_QtyToMove = ColumnRef.ofColumnName("QtyToMove");
+	private static final ColumnRef COLUMNREF_QtyToMove_Override = ColumnRef.ofColumnName("QtyToMove_Override");
+	private static final ColumnRef COLUMNREF_QualityDiscountPercent = ColumnRef.ofColumnName("QualityDiscountPercent");
+	private static final ColumnRef COLUMNREF_QualityNote = ColumnRef.ofColumnName("QualityNote");
+	private static final ColumnRef COLUMNREF_Record_ID = ColumnRef.ofColumnName("Record_ID");
+	private static final ColumnRef COLUMNREF_Status = ColumnRef.ofColumnName("Status");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ModelRef MODELREF_C_Order = ModelRef.of(de.metas.handlingunits.model.I_M_ReceiptSchedule.class, "getC_Order", "C_Order_ID");
+	private static final ModelRef MODELREF_C_OrderLine = ModelRef.of(de.metas.handlingunits.model.I_M_ReceiptSchedule.class, "getC_OrderLine", "C_OrderLine_ID");
+	private static final ModelRef MODELREF_M_AttributeSetInstance = ModelRef.of(de.metas.handlingunits.model.I_M_ReceiptSchedule.class, "getM_AttributeSetInstance", "M_AttributeSetInstance_ID");
+	private static final ModelRef MODELREF_M_HU_LUTU_Configuration = ModelRef.of(de.metas.handlingunits.model.I_M_ReceiptSchedule.class, "getM_HU_LUTU_Configuration", "M_HU_LUTU_Configuration_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product = ModelRef.of(de.metas.handlingunits.model.I_M_ReceiptSchedule.class, "getM_HU_PI_Item_Product", "M_HU_PI_Item_Product_ID");
+	private static final ModelRef MODELREF_M_IolCandHandler = ModelRef.of(de.metas.handlingunits.model.I_M_ReceiptSchedule.class, "getM_IolCandHandler", "M_IolCandHandler_ID");
+
+	public POWrapper_I_M_ReceiptSchedule(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getAD_Table_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Table_ID);
+	}
+
+	@Override
+	public int getAD_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_ID);
+	}
+
+	@Override
+	public int getAD_User_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_Override_ID);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress()
+	{
+		return getValue(COLUMNREF_BPartnerAddress, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress_Override()
+	{
+		return getValue(COLUMNREF_BPartnerAddress_Override, java.lang.String.class);
+	}
+
+	@Override
+	public int getC_BP_Location_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BP_Location_Override_ID);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Location_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Override_ID);
+	}
+
+	@Override
+	public int getC_DocType_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DocType_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getC_Order()
+	{
+		return getReferencedModel(MODELREF_C_Order);
+	}
+
+	@Override
+	public org.compiere.model.I_C_OrderLine getC_OrderLine()
+	{
+		return getReferencedModel(MODELREF_C_OrderLine);
+	}
+
+	@Override
+	public int getC_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_OrderLine_ID);
+	}
+
+	@Override
+	public int getC_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Order_ID);
+	}
+
+	@Override
+	public int getC_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_UOM_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getCanBeExportedFrom()
+	{
+		return getValue(COLUMNREF_CanBeExportedFrom, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCatch_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_Catch_UOM_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateOrdered()
+	{
+		return getValue(COLUMNREF_DateOrdered, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryRule()
+	{
+		return getValue(COLUMNREF_DeliveryRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryRule_Override()
+	{
+		return getValue(COLUMNREF_DeliveryRule_Override, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryViaRule()
+	{
+		return getValue(COLUMNREF_DeliveryViaRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryViaRule_Override()
+	{
+		return getValue(COLUMNREF_DeliveryViaRule_Override, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getExportStatus()
+	{
+		return getValue(COLUMNREF_ExportStatus, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getExternalResourceURL()
+	{
+		return getValue(COLUMNREF_ExternalResourceURL, java.lang.String.class);
+	}
+
+	@Override
+	public int getFilteredItemsWithSameC_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_FilteredItemsWithSameC_Order_ID);
+	}
+
+	@Override
+	public java.lang.String getHeaderAggregationKey()
+	{
+		return getValue(COLUMNREF_HeaderAggregationKey, java.lang.String.class);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSetInstance getM_AttributeSetInstance()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSetInstance);
+	}
+
+	@Override
+	public int getM_AttributeSetInstance_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_LUTU_Configuration getM_HU_LUTU_Configuration()
+	{
+		return getReferencedModel(MODELREF_M_HU_LUTU_Configuration);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public de.metas.inoutcandidate.model.I_M_IolCandHandler getM_IolCandHandler()
+	{
+		return getReferencedModel(MODELREF_M_IolCandHandler);
+	}
+
+	@Override
+	public int getM_IolCandHandler_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_IolCandHandler_ID);
+	}
+
+	@Override
+	public int getM_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_ID);
+	}
+
+	@Override
+	public int getM_ReceiptSchedule_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_ReceiptSchedule_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_Dest_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_Dest_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_Effective_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_Effective_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_Override_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getMovementDate()
+	{
+		return getValue(COLUMNREF_MovementDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getOnMaterialReceiptWithDestWarehouse()
+	{
+		return getValue(COLUMNREF_OnMaterialReceiptWithDestWarehouse, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPackDescription()
+	{
+		return getValue(COLUMNREF_PackDescription, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getPreparationTime()
+	{
+		return getValue(COLUMNREF_PreparationTime, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getPriorityRule()
+	{
+		return getValue(COLUMNREF_PriorityRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPriorityRule_Override()
+	{
+		return getValue(COLUMNREF_PriorityRule_Override, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyItemCapacity()
+	{
+		return getValue(COLUMNREF_QtyItemCapacity, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyMoved()
+	{
+		return getValue(COLUMNREF_QtyMoved, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyMovedInCatchUOM()
+	{
+		return getValue(COLUMNREF_QtyMovedInCatchUOM, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyMovedTU()
+	{
+		return getValue(COLUMNREF_QtyMovedTU, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyMovedWithIssues()
+	{
+		return getValue(COLUMNREF_QtyMovedWithIssues, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyMovedWithIssuesInCatchUOM()
+	{
+		return getValue(COLUMNREF_QtyMovedWithIssuesInCatchUOM, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered()
+	{
+		return getValue(COLUMNREF_QtyOrdered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrderedOverUnder()
+	{
+		return getValue(COLUMNREF_QtyOrderedOverUnder, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrderedTU()
+	{
+		return getValue(COLUMNREF_QtyOrderedTU, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyToMove()
+	{
+		return getValue(COLUMNREF_QtyToMove, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyToMove_Override()
+	{
+		return getValue(COLUMNREF_QtyToMove_Override, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQualityDiscountPercent()
+	{
+		return getValue(COLUMNREF_QualityDiscountPercent, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.lang.String getQualityNote()
+	{
+		return getValue(COLUMNREF_QualityNote, java.lang.String.class);
+	}
+
+	@Override
+	public int getRecord_ID()
+	{
+		return getValueAsInt(COLUMNREF_Record_ID);
+	}
+
+	@Override
+	public java.lang.String getStatus()
+	{
+		return getValue(COLUMNREF_Status, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isBPartnerAddress_Override()
+	{
+		return getValueAsBoolean(BOOLEANREF_BPartnerAddress_Override);
+	}
+
+	@Override
+	public boolean isPackagingMaterial()
+	{
+		return getValueAsBoolean(BOOLEANREF_PackagingMaterial);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAD_Table_ID(final int AD_Table_ID)
+	{
+		setValue("AD_Table_ID", AD_Table_ID);
+	}
+
+	@Override
+	public void setAD_User_ID(final int AD_User_ID)
+	{
+		setValue("AD_User_ID", AD_User_ID);
+	}
+
+	@Override
+	public void setAD_User_Override_ID(final int AD_User_Override_ID)
+	{
+		setValue("AD_User_Override_ID", AD_User_Override_ID);
+	}
+
+	@Override
+	public void setBPartnerAddress(final java.lang.String BPartnerAddress)
+	{
+		setValue("BPartnerAddress", BPartnerAddress);
+	}
+
+	@Override
+	public void setBPartnerAddress_Override(final java.lang.String BPartnerAddress_Override)
+	{
+		setValue("BPartnerAddress_Override", BPartnerAddress_Override);
+	}
+
+	@Override
+	public void setC_BP_Location_Override_ID(final int C_BP_Location_Override_ID)
+	{
+		setValue("C_BP_Location_Override_ID", C_BP_Location_Override_ID);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Location_ID(final int C_BPartner_Location_ID)
+	{
+		setValue("C_BPartner_Location_ID", C_BPartner_Location_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Override_ID(final int C_BPartner_Override_ID)
+	{
+		setValue("C_BPartner_Override_ID", C_BPartner_Override_ID);
+	}
+
+	@Override
+	public void setC_DocType_ID(final int C_DocType_ID)
+	{
+		setValue("C_DocType_ID", C_DocType_ID);
+	}
+
+	@Override
+	public void setC_Order(final org.compiere.model.I_C_Order C_Order)
+	{
+		setValueFromPO("C_Order_ID", org.compiere.model.I_C_Order.class, C_Order);
+	}
+
+	@Override
+	public void setC_OrderLine(final org.compiere.model.I_C_OrderLine C_OrderLine)
+	{
+		setValueFromPO("C_OrderLine_ID", org.compiere.model.I_C_OrderLine.class, C_OrderLine);
+	}
+
+	@Override
+	public void setC_OrderLine_ID(final int C_OrderLine_ID)
+	{
+		setValue("C_OrderLine_ID", C_OrderLine_ID);
+	}
+
+	@Override
+	public void setC_Order_ID(final int C_Order_ID)
+	{
+		setValue("C_Order_ID", C_Order_ID);
+	}
+
+	@Override
+	public void setC_UOM_ID(final int C_UOM_ID)
+	{
+		setValue("C_UOM_ID", C_UOM_ID);
+	}
+
+	@Override
+	public void setCanBeExportedFrom(final java.sql.Timestamp CanBeExportedFrom)
+	{
+		setValue("CanBeExportedFrom", CanBeExportedFrom);
+	}
+
+	@Override
+	public void setCatch_UOM_ID(final int Catch_UOM_ID)
+	{
+		setValue("Catch_UOM_ID", Catch_UOM_ID);
+	}
+
+	@Override
+	public void setDateOrdered(final java.sql.Timestamp DateOrdered)
+	{
+		setValue("DateOrdered", DateOrdered);
+	}
+
+	@Override
+	public void setDeliveryRule(final java.lang.String DeliveryRule)
+	{
+		setValue("DeliveryRule", DeliveryRule);
+	}
+
+	@Override
+	public void setDeliveryRule_Override(final java.lang.String DeliveryRule_Override)
+	{
+		setValue("DeliveryRule_Override", DeliveryRule_Override);
+	}
+
+	@Override
+	public void setDeliveryViaRule(final java.lang.String DeliveryViaRule)
+	{
+		setValue("DeliveryViaRule", DeliveryViaRule);
+	}
+
+	@Override
+	public void setDeliveryViaRule_Override(final java.lang.String DeliveryViaRule_Override)
+	{
+		setValue("DeliveryViaRule_Override", DeliveryViaRule_Override);
+	}
+
+	@Override
+	public void setExportStatus(final java.lang.String ExportStatus)
+	{
+		setValue("ExportStatus", ExportStatus);
+	}
+
+	@Override
+	public void setExternalResourceURL(final java.lang.String ExternalResourceURL)
+	{
+		setValue("ExternalResourceURL", ExternalResourceURL);
+	}
+
+	@Override
+	public void setFilteredItemsWithSameC_Order_ID(final int FilteredItemsWithSameC_Order_ID)
+	{
+		setValue("FilteredItemsWithSameC_Order_ID", FilteredItemsWithSameC_Order_ID);
+	}
+
+	@Override
+	public void setHeaderAggregationKey(final java.lang.String HeaderAggregationKey)
+	{
+		setValue("HeaderAggregationKey", HeaderAggregationKey);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsBPartnerAddress_Override(final boolean IsBPartnerAddress_Override)
+	{
+		setValue("IsBPartnerAddress_Override", IsBPartnerAddress_Override);
+	}
+
+	@Override
+	public void setIsPackagingMaterial(final boolean IsPackagingMaterial)
+	{
+		setValue("IsPackagingMaterial", IsPackagingMaterial);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance(final org.compiere.model.I_M_AttributeSetInstance M_AttributeSetInstance)
+	{
+		setValueFromPO("M_AttributeSetInstance_ID", org.compiere.model.I_M_AttributeSetInstance.class, M_AttributeSetInstance);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance_ID(final int M_AttributeSetInstance_ID)
+	{
+		setValue("M_AttributeSetInstance_ID", M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public void setM_HU_LUTU_Configuration(final de.metas.handlingunits.model.I_M_HU_LUTU_Configuration M_HU_LUTU_Configuration)
+	{
+		setValueFromPO("M_HU_LUTU_Configuration_ID", de.metas.handlingunits.model.I_M_HU_LUTU_Configuration.class, M_HU_LUTU_Configuration);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_ID(final int M_HU_PI_Item_Product_ID)
+	{
+		setValue("M_HU_PI_Item_Product_ID", M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public void setM_IolCandHandler(final de.metas.inoutcandidate.model.I_M_IolCandHandler M_IolCandHandler)
+	{
+		setValueFromPO("M_IolCandHandler_ID", de.metas.inoutcandidate.model.I_M_IolCandHandler.class, M_IolCandHandler);
+	}
+
+	@Override
+	public void setM_IolCandHandler_ID(final int M_IolCandHandler_ID)
+	{
+		setValue("M_IolCandHandler_ID", M_IolCandHandler_ID);
+	}
+
+	@Override
+	public void setM_Product_ID(final int M_Product_ID)
+	{
+		setValue("M_Product_ID", M_Product_ID);
+	}
+
+	@Override
+	public void setM_ReceiptSchedule_ID(final int M_ReceiptSchedule_ID)
+	{
+		setValue("M_ReceiptSchedule_ID", M_ReceiptSchedule_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_Dest_ID(final int M_Warehouse_Dest_ID)
+	{
+		setValue("M_Warehouse_Dest_ID", M_Warehouse_Dest_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_Effective_ID(final int M_Warehouse_Effective_ID)
+	{
+		setValue("M_Warehouse_Effective_ID", M_Warehouse_Effective_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_ID(final int M_Warehouse_ID)
+	{
+		setValue("M_Warehouse_ID", M_Warehouse_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_Override_ID(final int M_Warehouse_Override_ID)
+	{
+		setValue("M_Warehouse_Override_ID", M_Warehouse_Override_ID);
+	}
+
+	@Override
+	public void setMovementDate(final java.sql.Timestamp MovementDate)
+	{
+		setValue("MovementDate", MovementDate);
+	}
+
+	@Override
+	public void setOnMaterialReceiptWithDestWarehouse(final java.lang.String OnMaterialReceiptWithDestWarehouse)
+	{
+		setValue("OnMaterialReceiptWithDestWarehouse", OnMaterialReceiptWithDestWarehouse);
+	}
+
+	@Override
+	public void setPackDescription(final java.lang.String PackDescription)
+	{
+		setValue("PackDescription", PackDescription);
+	}
+
+	@Override
+	public void setPreparationTime(final java.sql.Timestamp PreparationTime)
+	{
+		setValue("PreparationTime", PreparationTime);
+	}
+
+	@Override
+	public void setPriorityRule(final java.lang.String PriorityRule)
+	{
+		setValue("PriorityRule", PriorityRule);
+	}
+
+	@Override
+	public void setPriorityRule_Override(final java.lang.String PriorityRule_Override)
+	{
+		setValue("PriorityRule_Override", PriorityRule_Override);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setQtyItemCapacity(final java.math.BigDecimal QtyItemCapacity)
+	{
+		setValue("QtyItemCapacity", QtyItemCapacity);
+	}
+
+	@Override
+	public void setQtyMoved(final java.math.BigDecimal QtyMoved)
+	{
+		setValue("QtyMoved", QtyMoved);
+	}
+
+	@Override
+	public void setQtyMovedInCatchUOM(final java.math.BigDecimal QtyMovedInCatchUOM)
+	{
+		setValue("QtyMovedInCatchUOM", QtyMovedInCatchUOM);
+	}
+
+	@Override
+	public void setQtyMovedWithIssues(final java.math.BigDecimal QtyMovedWithIssues)
+	{
+		setValue("QtyMovedWithIssues", QtyMovedWithIssues);
+	}
+
+	@Override
+	public void setQtyMovedWithIssuesInCatchUOM(final java.math.BigDecimal QtyMovedWithIssuesInCatchUOM)
+	{
+		setValue("QtyMovedWithIssuesInCatchUOM", QtyMovedWithIssuesInCatchUOM);
+	}
+
+	@Override
+	public void setQtyOrdered(final java.math.BigDecimal QtyOrdered)
+	{
+		setValue("QtyOrdered", QtyOrdered);
+	}
+
+	@Override
+	public void setQtyOrderedOverUnder(final java.math.BigDecimal QtyOrderedOverUnder)
+	{
+		setValue("QtyOrderedOverUnder", QtyOrderedOverUnder);
+	}
+
+	@Override
+	public void setQtyOrderedTU(final java.math.BigDecimal QtyOrderedTU)
+	{
+		setValue("QtyOrderedTU", QtyOrderedTU);
+	}
+
+	@Override
+	public void setQtyToMove(final java.math.BigDecimal QtyToMove)
+	{
+		setValue("QtyToMove", QtyToMove);
+	}
+
+	@Override
+	public void setQtyToMove_Override(final java.math.BigDecimal QtyToMove_Override)
+	{
+		setValue("QtyToMove_Override", QtyToMove_Override);
+	}
+
+	@Override
+	public void setQualityDiscountPercent(final java.math.BigDecimal QualityDiscountPercent)
+	{
+		setValue("QualityDiscountPercent", QualityDiscountPercent);
+	}
+
+	@Override
+	public void setQualityNote(final java.lang.String QualityNote)
+	{
+		setValue("QualityNote", QualityNote);
+	}
+
+	@Override
+	public void setRecord_ID(final int Record_ID)
+	{
+		setValue("Record_ID", Record_ID);
+	}
+
+	@Override
+	public void setStatus(final java.lang.String Status)
+	{
+		setValue("Status", Status);
+	}
+}
@@ -0,0 +1,1334 @@
+package de.metas.handlingunits.model;
+
+/** Generated {@link AbstractPOWrapperModel} for {@link de.metas.handlingunits.model.I_M_ShipmentSchedule}. Please don't edit it, but regenerate it. */
+@SuppressWarnings("javadoc")
+public final class POWrapper_I_M_ShipmentSchedule extends org.adempiere.model.AbstractPOWrapperModel implements de.metas.handlingunits.model.I_M_ShipmentSchedule
+{
+	private static final ColumnRef BOOLEANREF_Active = ColumnRef.ofBooleanProperty("Active");
+	private static final ColumnRef BOOLEANREF_AllowConsolidateInOut = ColumnRef.ofBooleanProperty("AllowConsolidateInOut");
+	private static final ColumnRef BOOLEANREF_BPartnerAddress_Override = ColumnRef.ofBooleanProperty("BPartnerAddress_Override");
+	private static final ColumnRef BOOLEANREF_Closed = ColumnRef.ofBooleanProperty("Closed");
+	private static final ColumnRef BOOLEANREF_DeliveryStop = ColumnRef.ofBooleanProperty("DeliveryStop");
+	private static final ColumnRef BOOLEANREF_Displayed = ColumnRef.ofBooleanProperty("Displayed");
+	private static final ColumnRef BOOLEANREF_DropShip = ColumnRef.ofBooleanProperty("DropShip");
+	private static final ColumnRef BOOLEANREF_EdiDesadvRecipient = ColumnRef.ofBooleanProperty("EdiDesadvRecipient");
+	private static final ColumnRef BOOLEANREF_Processed = ColumnRef.ofBooleanProperty("Processed");
+	private static final ColumnRef BOOLEANREF_Processing = ColumnRef.ofBooleanProperty("Processing");
+	private static final ColumnRef BOOLEANREF_ToRecompute = ColumnRef.ofBooleanProperty("ToRecompute");
+	private static final ColumnRef COLUMNREF_AD_Client_ID = ColumnRef.ofColumnName("AD_Client_ID");
+	private static final ColumnRef COLUMNREF_AD_Org_ID = ColumnRef.ofColumnName("AD_Org_ID");
+	private static final ColumnRef COLUMNREF_AD_Table_ID = ColumnRef.ofColumnName("AD_Table_ID");
+	private static final ColumnRef COLUMNREF_AD_User_ID = ColumnRef.ofColumnName("AD_User_ID");
+	private static final ColumnRef COLUMNREF_AD_User_Override_ID = ColumnRef.ofColumnName("AD_User_Override_ID");
+	private static final ColumnRef COLUMNREF_BPartnerAddress = ColumnRef.ofColumnName("BPartnerAddress");
+	private static final ColumnRef COLUMNREF_BPartnerAddress_Override = ColumnRef.ofColumnName("BPartnerAddress_Override");
+	private static final ColumnRef COLUMNREF_Bill_BPartner_ID = ColumnRef.ofColumnName("Bill_BPartner_ID");
+	private static final ColumnRef COLUMNREF_Bill_Location_ID = ColumnRef.ofColumnName("Bill_Location_ID");
+	private static final ColumnRef COLUMNREF_Bill_User_ID = ColumnRef.ofColumnName("Bill_User_ID");
+	private static final ColumnRef COLUMNREF_C_BP_Location_Override_ID = ColumnRef.ofColumnName("C_BP_Location_Override_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_ID = ColumnRef.ofColumnName("C_BPartner_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Location_ID = ColumnRef.ofColumnName("C_BPartner_Location_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Override_ID = ColumnRef.ofColumnName("C_BPartner_Override_ID");
+	private static final ColumnRef COLUMNREF_C_BPartner_Vendor_ID = ColumnRef.ofColumnName("C_BPartner_Vendor_ID");
+	private static final ColumnRef COLUMNREF_C_Currency_ID = ColumnRef.ofColumnName("C_Currency_ID");
+	private static final ColumnRef COLUMNREF_C_DocType_ID = ColumnRef.ofColumnName("C_DocType_ID");
+	private static final ColumnRef COLUMNREF_C_OrderLine_ID = ColumnRef.ofColumnName("C_OrderLine_ID");
+	private static final ColumnRef COLUMNREF_C_Order_ID = ColumnRef.ofColumnName("C_Order_ID");
+	private static final ColumnRef COLUMNREF_C_UOM_ID = ColumnRef.ofColumnName("C_UOM_ID");
+	private static final ColumnRef COLUMNREF_CanBeExportedFrom = ColumnRef.ofColumnName("CanBeExportedFrom");
+	private static final ColumnRef COLUMNREF_Catch_UOM_ID = ColumnRef.ofColumnName("Catch_UOM_ID");
+	private static final ColumnRef COLUMNREF_Created = ColumnRef.ofColumnName("Created");
+	private static final ColumnRef COLUMNREF_CreatedBy = ColumnRef.ofColumnName("CreatedBy");
+	private static final ColumnRef COLUMNREF_DateOrdered = ColumnRef.ofColumnName("DateOrdered");
+	private static final ColumnRef COLUMNREF_DeliveryDate = ColumnRef.ofColumnName("DeliveryDate");
+	private static final ColumnRef COLUMNREF_DeliveryDate_Effective = ColumnRef.ofColumnName("DeliveryDate_Effective");
+	private static final ColumnRef COLUMNREF_DeliveryDate_Override = ColumnRef.ofColumnName("DeliveryDate_Override");
+	private static final ColumnRef COLUMNREF_DeliveryRule = ColumnRef.ofColumnName("DeliveryRule");
+	private static final ColumnRef COLUMNREF_DeliveryRule_Override = ColumnRef.ofColumnName("DeliveryRule_Override");
+	private static final ColumnRef COLUMNREF_DeliveryViaRule = ColumnRef.ofColumnName("DeliveryViaRule");
+	private static final ColumnRef COLUMNREF_DeliveryViaRule_Override = ColumnRef.ofColumnName("DeliveryViaRule_Override");
+	private static final ColumnRef COLUMNREF_DocSubType = ColumnRef.ofColumnName("DocSubType");
+	private static final ColumnRef COLUMNREF_ExportStatus = ColumnRef.ofColumnName("ExportStatus");
+	private static final ColumnRef COLUMNREF_HeaderAggregationKey = ColumnRef.ofColumnName("HeaderAggregationKey");
+	private static final ColumnRef COLUMNREF_LineNetAmt = ColumnRef.ofColumnName("LineNetAmt");
+	private static final ColumnRef COLUMNREF_M_AttributeSetInstance_ID = ColumnRef.ofColumnName("M_AttributeSetInstance_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_Calculated_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_Calculated_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Item_Product_Override_ID = ColumnRef.ofColumnName("M_HU_PI_Item_Product_Override_ID");
+	private static final ColumnRef COLUMNREF_M_HU_PI_Version_ID = ColumnRef.ofColumnName("M_HU_PI_Version_ID");
+	private static final ColumnRef COLUMNREF_M_IolCandHandler_ID = ColumnRef.ofColumnName("M_IolCandHandler_ID");
+	private static final ColumnRef COLUMNREF_M_Product_ID = ColumnRef.ofColumnName("M_Product_ID");
+	private static final ColumnRef COLUMNREF_M_ShipmentSchedule_ID = ColumnRef.ofColumnName("M_ShipmentSchedule_ID");
+	private static final ColumnRef COLUMNREF_M_Shipment_Constraint_ID = ColumnRef.ofColumnName("M_Shipment_Constraint_ID");
+	private static final ColumnRef COLUMNREF_M_Shipper_ID = ColumnRef.ofColumnName("M_Shipper_ID");
+	private static final ColumnRef COLUMNREF_M_Tour_ID = ColumnRef.ofColumnName("M_Tour_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_Dest_ID = ColumnRef.ofColumnName("M_Warehouse_Dest_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_ID = ColumnRef.ofColumnName("M_Warehouse_ID");
+	private static final ColumnRef COLUMNREF_M_Warehouse_Override_ID = ColumnRef.ofColumnName("M_Warehouse_Override_ID");
+	private static final ColumnRef COLUMNREF_NrOfOLCandsWithSamePOReference = ColumnRef.ofColumnName("NrOfOLCandsWithSamePOReference");
+	private static final ColumnRef COLUMNREF_POReference = ColumnRef.ofColumnName("POReference");
+	private static final ColumnRef COLUMNREF_PackDescription = ColumnRef.ofColumnName("PackDescription");
+	private static final ColumnRef COLUMNREF_PickFrom_Order_ID = ColumnRef.ofColumnName("PickFrom_Order_ID");
+	private static final ColumnRef COLUMNREF_PreparationDate = ColumnRef.ofColumnName("PreparationDate");
+	private static final ColumnRef COLUMNREF_PreparationDate_Effective = ColumnRef.ofColumnName("PreparationDate_Effective");
+	private static final ColumnRef COLUMNREF_PreparationDate_Override = ColumnRef.ofColumnName("PreparationDate_Override");
+	private static final ColumnRef COLUMNREF_PriorityRule = ColumnRef.ofColumnName("PriorityRule");
+	private static final ColumnRef COLUMNREF_PriorityRule_Override = ColumnRef.ofColumnName("PriorityRule_Override");
+	private static final ColumnRef COLUMNREF_ProductDescription = ColumnRef.ofColumnName("ProductDescription");
+	private static final ColumnRef COLUMNREF_QtyDelivered = ColumnRef.ofColumnName("QtyDelivered");
+	private static final ColumnRef COLUMNREF_QtyItemCapacity = ColumnRef.ofColumnName("QtyItemCapacity");
+	private static final ColumnRef COLUMNREF_QtyOnHand = ColumnRef.ofColumnName("QtyOnHand");
+	private static final ColumnRef COLUMNREF_QtyOrdered = ColumnRef.ofColumnName("QtyOrdered");
+	private static final ColumnRef COLUMNREF_QtyOrdered_Calculated = ColumnRef.ofColumnName("QtyOrdered_Calculated");
+	private static final ColumnRef COLUMNREF_QtyOrdered_LU = ColumnRef.ofColumnName("QtyOrdered_LU");
+	private static final ColumnRef COLUMNREF_QtyOrdered_Override = ColumnRef.ofColumnName("QtyOrdered_Override");
+	private static final ColumnRef COLUMNREF_QtyOrdered_TU = ColumnRef.ofColumnName("QtyOrdered_TU");
+	private static final ColumnRef COLUMNREF_QtyPickList = ColumnRef.ofColumnName("QtyPickList");
+	private static final ColumnRef COLUMNREF_QtyProvided = ColumnRef.ofColumnName("QtyProvided");
+	private static final ColumnRef COLUMNREF_QtyReserved = ColumnRef.ofColumnName("QtyReserved");
+	private static final ColumnRef COLUMNREF_QtyTU_Calculated = ColumnRef.ofColumnName("QtyTU_Calculated");
+	private static final ColumnRef COLUMNREF_QtyTU_Override = ColumnRef.ofColumnName("QtyTU_Override");
+	private static final ColumnRef COLUMNREF_QtyToDeliver = ColumnRef.ofColumnName("QtyToDeliver");
+	private static final ColumnRef COLUMNREF_QtyToDeliverCatch_Override = ColumnRef.ofColumnName("QtyToDeliverCatch_Override");
+	private static final ColumnRef COLUMNREF_QtyToDeliver_Override = ColumnRef.ofColumnName("QtyToDeliver_Override");
+	private static final ColumnRef COLUMNREF_QtyToDeliver_OverrideFulfilled = ColumnRef.ofColumnName("QtyToDeliver_OverrideFulfilled");
+	private static final ColumnRef COLUMNREF_Record_ID = ColumnRef.ofColumnName("Record_ID");
+	private static final ColumnRef COLUMNREF_ShipmentAllocation_BestBefore_Policy = ColumnRef.ofColumnName("ShipmentAllocation_BestBefore_Policy");
+	private static final ColumnRef COLUMNREF_SinglePriceTag_ID = ColumnRef.ofColumnName("SinglePriceTag_ID");
+	private static final ColumnRef COLUMNREF_Status = ColumnRef.ofColumnName("Status");
+	private static final ColumnRef COLUMNREF_Updated = ColumnRef.ofColumnName("Updated");
+	private static final ColumnRef COLUMNREF_UpdatedBy = ColumnRef.ofColumnName("UpdatedBy");
+	private static final ModelRef MODELREF_C_Order = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getC_Order", "C_Order_ID");
+	private static final ModelRef MODELREF_C_OrderLine = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getC_OrderLine", "C_OrderLine_ID");
+	private static final ModelRef MODELREF_M_AttributeSetInstance = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_AttributeSetInstance", "M_AttributeSetInstance_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product_Calculated = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_HU_PI_Item_Product_Calculated", "M_HU_PI_Item_Product_Calculated_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Item_Product_Override = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_HU_PI_Item_Product_Override", "M_HU_PI_Item_Product_Override_ID");
+	private static final ModelRef MODELREF_M_HU_PI_Version = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_HU_PI_Version", "M_HU_PI_Version_ID");
+	private static final ModelRef MODELREF_M_IolCandHandler = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_IolCandHandler", "M_IolCandHandler_ID");
+	private static final ModelRef MODELREF_M_Shipment_Constraint = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_Shipment_Constraint", "M_Shipment_Constraint_ID");
+	private static final ModelRef MODELREF_M_Shipper = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getM_Shipper", "M_Shipper_ID");
+	private static final ModelRef MODELREF_PickFrom_Order = ModelRef.of(de.metas.handlingunits.model.I_M_ShipmentSchedule.class, "getPickFrom_Order", "PickFrom_Order_ID");
+
+	public POWrapper_I_M_ShipmentSchedule(final org.adempiere.model.POWrapper wrapper)
+	{
+		super(wrapper);
+	}
+
+	@Override
+	public int getAD_Client_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Client_ID);
+	}
+
+	@Override
+	public int getAD_Org_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Org_ID);
+	}
+
+	@Override
+	public int getAD_Table_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_Table_ID);
+	}
+
+	@Override
+	public int getAD_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_ID);
+	}
+
+	@Override
+	public int getAD_User_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_AD_User_Override_ID);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress()
+	{
+		return getValue(COLUMNREF_BPartnerAddress, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getBPartnerAddress_Override()
+	{
+		return getValue(COLUMNREF_BPartnerAddress_Override, java.lang.String.class);
+	}
+
+	@Override
+	public int getBill_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_Bill_BPartner_ID);
+	}
+
+	@Override
+	public int getBill_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_Bill_Location_ID);
+	}
+
+	@Override
+	public int getBill_User_ID()
+	{
+		return getValueAsInt(COLUMNREF_Bill_User_ID);
+	}
+
+	@Override
+	public int getC_BP_Location_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BP_Location_Override_ID);
+	}
+
+	@Override
+	public int getC_BPartner_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Location_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Location_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Override_ID);
+	}
+
+	@Override
+	public int getC_BPartner_Vendor_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_BPartner_Vendor_ID);
+	}
+
+	@Override
+	public int getC_Currency_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Currency_ID);
+	}
+
+	@Override
+	public int getC_DocType_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_DocType_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_C_Order getC_Order()
+	{
+		return getReferencedModel(MODELREF_C_Order);
+	}
+
+	@Override
+	public org.compiere.model.I_C_OrderLine getC_OrderLine()
+	{
+		return getReferencedModel(MODELREF_C_OrderLine);
+	}
+
+	@Override
+	public int getC_OrderLine_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_OrderLine_ID);
+	}
+
+	@Override
+	public int getC_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_Order_ID);
+	}
+
+	@Override
+	public int getC_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_C_UOM_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getCanBeExportedFrom()
+	{
+		return getValue(COLUMNREF_CanBeExportedFrom, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCatch_UOM_ID()
+	{
+		return getValueAsInt(COLUMNREF_Catch_UOM_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getCreated()
+	{
+		return getValue(COLUMNREF_Created, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getCreatedBy()
+	{
+		return getValueAsInt(COLUMNREF_CreatedBy);
+	}
+
+	@Override
+	public java.sql.Timestamp getDateOrdered()
+	{
+		return getValue(COLUMNREF_DateOrdered, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDeliveryDate()
+	{
+		return getValue(COLUMNREF_DeliveryDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDeliveryDate_Effective()
+	{
+		return getValue(COLUMNREF_DeliveryDate_Effective, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getDeliveryDate_Override()
+	{
+		return getValue(COLUMNREF_DeliveryDate_Override, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryRule()
+	{
+		return getValue(COLUMNREF_DeliveryRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryRule_Override()
+	{
+		return getValue(COLUMNREF_DeliveryRule_Override, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryViaRule()
+	{
+		return getValue(COLUMNREF_DeliveryViaRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDeliveryViaRule_Override()
+	{
+		return getValue(COLUMNREF_DeliveryViaRule_Override, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getDocSubType()
+	{
+		return getValue(COLUMNREF_DocSubType, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getExportStatus()
+	{
+		return getValue(COLUMNREF_ExportStatus, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getHeaderAggregationKey()
+	{
+		return getValue(COLUMNREF_HeaderAggregationKey, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getLineNetAmt()
+	{
+		return getValue(COLUMNREF_LineNetAmt, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public org.compiere.model.I_M_AttributeSetInstance getM_AttributeSetInstance()
+	{
+		return getReferencedModel(MODELREF_M_AttributeSetInstance);
+	}
+
+	@Override
+	public int getM_AttributeSetInstance_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product_Calculated()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product_Calculated);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_Calculated_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_Calculated_ID);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Item_Product getM_HU_PI_Item_Product_Override()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Item_Product_Override);
+	}
+
+	@Override
+	public int getM_HU_PI_Item_Product_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Item_Product_Override_ID);
+	}
+
+	@Override
+	public de.metas.handlingunits.model.I_M_HU_PI_Version getM_HU_PI_Version()
+	{
+		return getReferencedModel(MODELREF_M_HU_PI_Version);
+	}
+
+	@Override
+	public int getM_HU_PI_Version_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_HU_PI_Version_ID);
+	}
+
+	@Override
+	public de.metas.inoutcandidate.model.I_M_IolCandHandler getM_IolCandHandler()
+	{
+		return getReferencedModel(MODELREF_M_IolCandHandler);
+	}
+
+	@Override
+	public int getM_IolCandHandler_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_IolCandHandler_ID);
+	}
+
+	@Override
+	public int getM_Product_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Product_ID);
+	}
+
+	@Override
+	public int getM_ShipmentSchedule_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_ShipmentSchedule_ID);
+	}
+
+	@Override
+	public de.metas.inoutcandidate.model.I_M_Shipment_Constraint getM_Shipment_Constraint()
+	{
+		return getReferencedModel(MODELREF_M_Shipment_Constraint);
+	}
+
+	@Override
+	public int getM_Shipment_Constraint_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Shipment_Constraint_ID);
+	}
+
+	@Override
+	public org.compiere.model.I_M_Shipper getM_Shipper()
+	{
+		return getReferencedModel(MODELREF_M_Shipper);
+	}
+
+	@Override
+	public int getM_Shipper_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Shipper_ID);
+	}
+
+	@Override
+	public int getM_Tour_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Tour_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_Dest_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_Dest_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_ID);
+	}
+
+	@Override
+	public int getM_Warehouse_Override_ID()
+	{
+		return getValueAsInt(COLUMNREF_M_Warehouse_Override_ID);
+	}
+
+	@Override
+	public int getNrOfOLCandsWithSamePOReference()
+	{
+		return getValueAsInt(COLUMNREF_NrOfOLCandsWithSamePOReference);
+	}
+
+	@Override
+	public java.lang.String getPOReference()
+	{
+		return getValue(COLUMNREF_POReference, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPackDescription()
+	{
+		return getValue(COLUMNREF_PackDescription, java.lang.String.class);
+	}
+
+	@Override
+	public org.eevolution.model.I_PP_Order getPickFrom_Order()
+	{
+		return getReferencedModel(MODELREF_PickFrom_Order);
+	}
+
+	@Override
+	public int getPickFrom_Order_ID()
+	{
+		return getValueAsInt(COLUMNREF_PickFrom_Order_ID);
+	}
+
+	@Override
+	public java.sql.Timestamp getPreparationDate()
+	{
+		return getValue(COLUMNREF_PreparationDate, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getPreparationDate_Effective()
+	{
+		return getValue(COLUMNREF_PreparationDate_Effective, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getPreparationDate_Override()
+	{
+		return getValue(COLUMNREF_PreparationDate_Override, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public java.lang.String getPriorityRule()
+	{
+		return getValue(COLUMNREF_PriorityRule, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getPriorityRule_Override()
+	{
+		return getValue(COLUMNREF_PriorityRule_Override, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getProductDescription()
+	{
+		return getValue(COLUMNREF_ProductDescription, java.lang.String.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyDelivered()
+	{
+		return getValue(COLUMNREF_QtyDelivered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyItemCapacity()
+	{
+		return getValue(COLUMNREF_QtyItemCapacity, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOnHand()
+	{
+		return getValue(COLUMNREF_QtyOnHand, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered()
+	{
+		return getValue(COLUMNREF_QtyOrdered, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered_Calculated()
+	{
+		return getValue(COLUMNREF_QtyOrdered_Calculated, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered_LU()
+	{
+		return getValue(COLUMNREF_QtyOrdered_LU, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered_Override()
+	{
+		return getValue(COLUMNREF_QtyOrdered_Override, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyOrdered_TU()
+	{
+		return getValue(COLUMNREF_QtyOrdered_TU, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyPickList()
+	{
+		return getValue(COLUMNREF_QtyPickList, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyProvided()
+	{
+		return getValue(COLUMNREF_QtyProvided, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyReserved()
+	{
+		return getValue(COLUMNREF_QtyReserved, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyTU_Calculated()
+	{
+		return getValue(COLUMNREF_QtyTU_Calculated, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyTU_Override()
+	{
+		return getValue(COLUMNREF_QtyTU_Override, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyToDeliver()
+	{
+		return getValue(COLUMNREF_QtyToDeliver, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyToDeliverCatch_Override()
+	{
+		return getValue(COLUMNREF_QtyToDeliverCatch_Override, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyToDeliver_Override()
+	{
+		return getValue(COLUMNREF_QtyToDeliver_Override, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public java.math.BigDecimal getQtyToDeliver_OverrideFulfilled()
+	{
+		return getValue(COLUMNREF_QtyToDeliver_OverrideFulfilled, java.math.BigDecimal.class);
+	}
+
+	@Override
+	public int getRecord_ID()
+	{
+		return getValueAsInt(COLUMNREF_Record_ID);
+	}
+
+	@Override
+	public java.lang.String getShipmentAllocation_BestBefore_Policy()
+	{
+		return getValue(COLUMNREF_ShipmentAllocation_BestBefore_Policy, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getSinglePriceTag_ID()
+	{
+		return getValue(COLUMNREF_SinglePriceTag_ID, java.lang.String.class);
+	}
+
+	@Override
+	public java.lang.String getStatus()
+	{
+		return getValue(COLUMNREF_Status, java.lang.String.class);
+	}
+
+	@Override
+	public java.sql.Timestamp getUpdated()
+	{
+		return getValue(COLUMNREF_Updated, java.sql.Timestamp.class);
+	}
+
+	@Override
+	public int getUpdatedBy()
+	{
+		return getValueAsInt(COLUMNREF_UpdatedBy);
+	}
+
+	@Override
+	public boolean isActive()
+	{
+		return getValueAsBoolean(BOOLEANREF_Active);
+	}
+
+	@Override
+	public boolean isAllowConsolidateInOut()
+	{
+		return getValueAsBoolean(BOOLEANREF_AllowConsolidateInOut);
+	}
+
+	@Override
+	public boolean isBPartnerAddress_Override()
+	{
+		return getValueAsBoolean(BOOLEANREF_BPartnerAddress_Override);
+	}
+
+	@Override
+	public boolean isClosed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Closed);
+	}
+
+	@Override
+	public boolean isDeliveryStop()
+	{
+		return getValueAsBoolean(BOOLEANREF_DeliveryStop);
+	}
+
+	@Override
+	public boolean isDisplayed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Displayed);
+	}
+
+	@Override
+	public boolean isDropShip()
+	{
+		return getValueAsBoolean(BOOLEANREF_DropShip);
+	}
+
+	@Override
+	public boolean isEdiDesadvRecipient()
+	{
+		return getValueAsBoolean(BOOLEANREF_EdiDesadvRecipient);
+	}
+
+	@Override
+	public boolean isProcessed()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processed);
+	}
+
+	@Override
+	public boolean isProcessing()
+	{
+		return getValueAsBoolean(BOOLEANREF_Processing);
+	}
+
+	@Override
+	public boolean isToRecompute()
+	{
+		return getValueAsBoolean(BOOLEANREF_ToRecompute);
+	}
+
+	@Override
+	public void setAD_Org_ID(final int AD_Org_ID)
+	{
+		setValue("AD_Org_ID", AD_Org_ID);
+	}
+
+	@Override
+	public void setAD_Table_ID(final int AD_Table_ID)
+	{
+		setValue("AD_Table_ID", AD_Table_ID);
+	}
+
+	@Override
+	public void setAD_User_ID(final int AD_User_ID)
+	{
+		setValue("AD_User_ID", AD_User_ID);
+	}
+
+	@Override
+	public void setAD_User_Override_ID(final int AD_User_Override_ID)
+	{
+		setValue("AD_User_Override_ID", AD_User_Override_ID);
+	}
+
+	@Override
+	public void setAllowConsolidateInOut(final boolean AllowConsolidateInOut)
+	{
+		setValue("AllowConsolidateInOut", AllowConsolidateInOut);
+	}
+
+	@Override
+	public void setBPartnerAddress(final java.lang.String BPartnerAddress)
+	{
+		setValue("BPartnerAddress", BPartnerAddress);
+	}
+
+	@Override
+	public void setBPartnerAddress_Override(final java.lang.String BPartnerAddress_Override)
+	{
+		setValue("BPartnerAddress_Override", BPartnerAddress_Override);
+	}
+
+	@Override
+	public void setBill_BPartner_ID(final int Bill_BPartner_ID)
+	{
+		setValue("Bill_BPartner_ID", Bill_BPartner_ID);
+	}
+
+	@Override
+	public void setBill_Location_ID(final int Bill_Location_ID)
+	{
+		setValue("Bill_Location_ID", Bill_Location_ID);
+	}
+
+	@Override
+	public void setBill_User_ID(final int Bill_User_ID)
+	{
+		setValue("Bill_User_ID", Bill_User_ID);
+	}
+
+	@Override
+	public void setC_BP_Location_Override_ID(final int C_BP_Location_Override_ID)
+	{
+		setValue("C_BP_Location_Override_ID", C_BP_Location_Override_ID);
+	}
+
+	@Override
+	public void setC_BPartner_ID(final int C_BPartner_ID)
+	{
+		setValue("C_BPartner_ID", C_BPartner_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Location_ID(final int C_BPartner_Location_ID)
+	{
+		setValue("C_BPartner_Location_ID", C_BPartner_Location_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Override_ID(final int C_BPartner_Override_ID)
+	{
+		setValue("C_BPartner_Override_ID", C_BPartner_Override_ID);
+	}
+
+	@Override
+	public void setC_BPartner_Vendor_ID(final int C_BPartner_Vendor_ID)
+	{
+		setValue("C_BPartner_Vendor_ID", C_BPartner_Vendor_ID);
+	}
+
+	@Override
+	public void setC_Currency_ID(final int C_Currency_ID)
+	{
+		setValue("C_Currency_ID", C_Currency_ID);
+	}
+
+	@Override
+	public void setC_DocType_ID(final int C_DocType_ID)
+	{
+		setValue("C_DocType_ID", C_DocType_ID);
+	}
+
+	@Override
+	public void setC_Order(final org.compiere.model.I_C_Order C_Order)
+	{
+		setValueFromPO("C_Order_ID", org.compiere.model.I_C_Order.class, C_Order);
+	}
+
+	@Override
+	public void setC_OrderLine(final org.compiere.model.I_C_OrderLine C_OrderLine)
+	{
+		setValueFromPO("C_OrderLine_ID", org.compiere.model.I_C_OrderLine.class, C_OrderLine);
+	}
+
+	@Override
+	public void setC_OrderLine_ID(final int C_OrderLine_ID)
+	{
+		setValue("C_OrderLine_ID", C_OrderLine_ID);
+	}
+
+	@Override
+	public void setC_Order_ID(final int C_Order_ID)
+	{
+		setValue("C_Order_ID", C_Order_ID);
+	}
+
+	@Override
+	public void setC_UOM_ID(final int C_UOM_ID)
+	{
+		setValue("C_UOM_ID", C_UOM_ID);
+	}
+
+	@Override
+	public void setCanBeExportedFrom(final java.sql.Timestamp CanBeExportedFrom)
+	{
+		setValue("CanBeExportedFrom", CanBeExportedFrom);
+	}
+
+	@Override
+	public void setCatch_UOM_ID(final int Catch_UOM_ID)
+	{
+		setValue("Catch_UOM_ID", Catch_UOM_ID);
+	}
+
+	@Override
+	public void setDateOrdered(final java.sql.Timestamp DateOrdered)
+	{
+		setValue("DateOrdered", DateOrdered);
+	}
+
+	@Override
+	public void setDeliveryDate(final java.sql.Timestamp DeliveryDate)
+	{
+		setValue("DeliveryDate", DeliveryDate);
+	}
+
+	@Override
+	public void setDeliveryDate_Effective(final java.sql.Timestamp DeliveryDate_Effective)
+	{
+		setValue("DeliveryDate_Effective", DeliveryDate_Effective);
+	}
+
+	@Override
+	public void setDeliveryDate_Override(final java.sql.Timestamp DeliveryDate_Override)
+	{
+		setValue("DeliveryDate_Override", DeliveryDate_Override);
+	}
+
+	@Override
+	public void setDeliveryRule(final java.lang.String DeliveryRule)
+	{
+		setValue("DeliveryRule", DeliveryRule);
+	}
+
+	@Override
+	public void setDeliveryRule_Override(final java.lang.String DeliveryRule_Override)
+	{
+		setValue("DeliveryRule_Override", DeliveryRule_Override);
+	}
+
+	@Override
+	public void setDeliveryViaRule(final java.lang.String DeliveryViaRule)
+	{
+		setValue("DeliveryViaRule", DeliveryViaRule);
+	}
+
+	@Override
+	public void setDeliveryViaRule_Override(final java.lang.String DeliveryViaRule_Override)
+	{
+		setValue("DeliveryViaRule_Override", DeliveryViaRule_Override);
+	}
+
+	@Override
+	public void setDocSubType(final java.lang.String DocSubType)
+	{
+		setValue("DocSubType", DocSubType);
+	}
+
+	@Override
+	public void setExportStatus(final java.lang.String ExportStatus)
+	{
+		setValue("ExportStatus", ExportStatus);
+	}
+
+	@Override
+	public void setHeaderAggregationKey(final java.lang.String HeaderAggregationKey)
+	{
+		setValue("HeaderAggregationKey", HeaderAggregationKey);
+	}
+
+	@Override
+	public void setIsActive(final boolean IsActive)
+	{
+		setValue("IsActive", IsActive);
+	}
+
+	@Override
+	public void setIsBPartnerAddress_Override(final boolean IsBPartnerAddress_Override)
+	{
+		setValue("IsBPartnerAddress_Override", IsBPartnerAddress_Override);
+	}
+
+	@Override
+	public void setIsClosed(final boolean IsClosed)
+	{
+		setValue("IsClosed", IsClosed);
+	}
+
+	@Override
+	public void setIsDeliveryStop(final boolean IsDeliveryStop)
+	{
+		setValue("IsDeliveryStop", IsDeliveryStop);
+	}
+
+	@Override
+	public void setIsDisplayed(final boolean IsDisplayed)
+	{
+		setValue("IsDisplayed", IsDisplayed);
+	}
+
+	@Override
+	public void setIsDropShip(final boolean IsDropShip)
+	{
+		setValue("IsDropShip", IsDropShip);
+	}
+
+	@Override
+	public void setIsEdiDesadvRecipient(final boolean IsEdiDesadvRecipient)
+	{
+		setValue("IsEdiDesadvRecipient", IsEdiDesadvRecipient);
+	}
+
+	@Override
+	public void setIsToRecompute(final boolean IsToRecompute)
+	{
+		setValue("IsToRecompute", IsToRecompute);
+	}
+
+	@Override
+	public void setLineNetAmt(final java.math.BigDecimal LineNetAmt)
+	{
+		setValue("LineNetAmt", LineNetAmt);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance(final org.compiere.model.I_M_AttributeSetInstance M_AttributeSetInstance)
+	{
+		setValueFromPO("M_AttributeSetInstance_ID", org.compiere.model.I_M_AttributeSetInstance.class, M_AttributeSetInstance);
+	}
+
+	@Override
+	public void setM_AttributeSetInstance_ID(final int M_AttributeSetInstance_ID)
+	{
+		setValue("M_AttributeSetInstance_ID", M_AttributeSetInstance_ID);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_Calculated(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product_Calculated)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_Calculated_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product_Calculated);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_ID(final int M_HU_PI_Item_Product_ID)
+	{
+		setValue("M_HU_PI_Item_Product_ID", M_HU_PI_Item_Product_ID);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_Override(final de.metas.handlingunits.model.I_M_HU_PI_Item_Product M_HU_PI_Item_Product_Override)
+	{
+		setValueFromPO("M_HU_PI_Item_Product_Override_ID", de.metas.handlingunits.model.I_M_HU_PI_Item_Product.class, M_HU_PI_Item_Product_Override);
+	}
+
+	@Override
+	public void setM_HU_PI_Item_Product_Override_ID(final int M_HU_PI_Item_Product_Override_ID)
+	{
+		setValue("M_HU_PI_Item_Product_Override_ID", M_HU_PI_Item_Product_Override_ID);
+	}
+
+	@Override
+	public void setM_HU_PI_Version(final de.metas.handlingunits.model.I_M_HU_PI_Version M_HU_PI_Version)
+	{
+		setValueFromPO("M_HU_PI_Version_ID", de.metas.handlingunits.model.I_M_HU_PI_Version.class, M_HU_PI_Version);
+	}
+
+	@Override
+	public void setM_HU_PI_Version_ID(final int M_HU_PI_Version_ID)
+	{
+		setValue("M_HU_PI_Version_ID", M_HU_PI_Version_ID);
+	}
+
+	@Override
+	public void setM_IolCandHandler(final de.metas.inoutcandidate.model.I_M_IolCandHandler M_IolCandHandler)
+	{
+		setValueFromPO("M_IolCandHandler_ID", de.metas.inoutcandidate.model.I_M_IolCandHandler.class, M_IolCandHandler);
+	}
+
+	@Override
+	public void setM_IolCandHandler_ID(final int M_IolCandHandler_ID)
+	{
+		setValue("M_IolCandHandler_ID", M_IolCandHandler_ID);
+	}
+
+	@Override
+	public void setM_Product_ID(final int M_Product_ID)
+	{
+		setValue("M_Product_ID", M_Product_ID);
+	}
+
+	@Override
+	public void setM_ShipmentSchedule_ID(final int M_ShipmentSchedule_ID)
+	{
+		setValue("M_ShipmentSchedule_ID", M_ShipmentSchedule_ID);
+	}
+
+	@Override
+	public void setM_Shipment_Constraint(final de.metas.inoutcandidate.model.I_M_Shipment_Constraint M_Shipment_Constraint)
+	{
+		setValueFromPO("M_Shipment_Constraint_ID", de.metas.inoutcandidate.model.I_M_Shipment_Constraint.class, M_Shipment_Constraint);
+	}
+
+	@Override
+	public void setM_Shipment_Constraint_ID(final int M_Shipment_Constraint_ID)
+	{
+		setValue("M_Shipment_Constraint_ID", M_Shipment_Constraint_ID);
+	}
+
+	@Override
+	public void setM_Shipper(final org.compiere.model.I_M_Shipper M_Shipper)
+	{
+		setValueFromPO("M_Shipper_ID", org.compiere.model.I_M_Shipper.class, M_Shipper);
+	}
+
+	@Override
+	public void setM_Shipper_ID(final int M_Shipper_ID)
+	{
+		setValue("M_Shipper_ID", M_Shipper_ID);
+	}
+
+	@Override
+	public void setM_Tour_ID(final int M_Tour_ID)
+	{
+		setValue("M_Tour_ID", M_Tour_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_Dest_ID(final int M_Warehouse_Dest_ID)
+	{
+		setValue("M_Warehouse_Dest_ID", M_Warehouse_Dest_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_ID(final int M_Warehouse_ID)
+	{
+		setValue("M_Warehouse_ID", M_Warehouse_ID);
+	}
+
+	@Override
+	public void setM_Warehouse_Override_ID(final int M_Warehouse_Override_ID)
+	{
+		setValue("M_Warehouse_Override_ID", M_Warehouse_Override_ID);
+	}
+
+	@Override
+	public void setNrOfOLCandsWithSamePOReference(final int NrOfOLCandsWithSamePOReference)
+	{
+		setValue("NrOfOLCandsWithSamePOReference", NrOfOLCandsWithSamePOReference);
+	}
+
+	@Override
+	public void setPOReference(final java.lang.String POReference)
+	{
+		setValue("POReference", POReference);
+	}
+
+	@Override
+	public void setPackDescription(final java.lang.String PackDescription)
+	{
+		setValue("PackDescription", PackDescription);
+	}
+
+	@Override
+	public void setPickFrom_Order(final org.eevolution.model.I_PP_Order PickFrom_Order)
+	{
+		setValueFromPO("PickFrom_Order_ID", org.eevolution.model.I_PP_Order.class, PickFrom_Order);
+	}
+
+	@Override
+	public void setPickFrom_Order_ID(final int PickFrom_Order_ID)
+	{
+		setValue("PickFrom_Order_ID", PickFrom_Order_ID);
+	}
+
+	@Override
+	public void setPreparationDate(final java.sql.Timestamp PreparationDate)
+	{
+		setValue("PreparationDate", PreparationDate);
+	}
+
+	@Override
+	public void setPreparationDate_Effective(final java.sql.Timestamp PreparationDate_Effective)
+	{
+		setValue("PreparationDate_Effective", PreparationDate_Effective);
+	}
+
+	@Override
+	public void setPreparationDate_Override(final java.sql.Timestamp PreparationDate_Override)
+	{
+		setValue("PreparationDate_Override", PreparationDate_Override);
+	}
+
+	@Override
+	public void setPriorityRule(final java.lang.String PriorityRule)
+	{
+		setValue("PriorityRule", PriorityRule);
+	}
+
+	@Override
+	public void setPriorityRule_Override(final java.lang.String PriorityRule_Override)
+	{
+		setValue("PriorityRule_Override", PriorityRule_Override);
+	}
+
+	@Override
+	public void setProcessed(final boolean Processed)
+	{
+		setValue("Processed", Processed);
+	}
+
+	@Override
+	public void setProcessing(final boolean Processing)
+	{
+		setValue("Processing", Processing);
+	}
+
+	@Override
+	public void setProductDescription(final java.lang.String ProductDescription)
+	{
+		setValue("ProductDescription", ProductDescription);
+	}
+
+	@Override
+	public void setQtyDelivered(final java.math.BigDecimal QtyDelivered)
+	{
+		setValue("QtyDelivered", QtyDelivered);
+	}
+
+	@Override
+	public void setQtyItemCapacity(final java.math.BigDecimal QtyItemCapacity)
+	{
+		setValue("QtyItemCapacity", QtyItemCapacity);
+	}
+
+	@Override
+	public void setQtyOnHand(final java.math.BigDecimal QtyOnHand)
+	{
+		setValue("QtyOnHand", QtyOnHand);
+	}
+
+	@Override
+	public void setQtyOrdered(final java.math.BigDecimal QtyOrdered)
+	{
+		setValue("QtyOrdered", QtyOrdered);
+	}
+
+	@Override
+	public void setQtyOrdered_Calculated(final java.math.BigDecimal QtyOrdered_Calculated)
+	{
+		setValue("QtyOrdered_Calculated", QtyOrdered_Calculated);
+	}
+
+	@Override
+	public void setQtyOrdered_LU(final java.math.BigDecimal QtyOrdered_LU)
+	{
+		setValue("QtyOrdered_LU", QtyOrdered_LU);
+	}
+
+	@Override
+	public void setQtyOrdered_Override(final java.math.BigDecimal QtyOrdered_Override)
+	{
+		setValue("QtyOrdered_Override", QtyOrdered_Override);
+	}
+
+	@Override
+	public void setQtyOrdered_TU(final java.math.BigDecimal QtyOrdered_TU)
+	{
+		setValue("QtyOrdered_TU", QtyOrdered_TU);
+	}
+
+	@Override
+	public void setQtyPickList(final java.math.BigDecimal QtyPickList)
+	{
+		setValue("QtyPickList", QtyPickList);
+	}
+
+	@Override
+	public void setQtyProvided(final java.math.BigDecimal QtyProvided)
+	{
+		setValue("QtyProvided", QtyProvided);
+	}
+
+	@Override
+	public void setQtyReserved(final java.math.BigDecimal QtyReserved)
+	{
+		setValue("QtyReserved", QtyReserved);
+	}
+
+	@Override
+	public void setQtyTU_Calculated(final java.math.BigDecimal QtyTU_Calculated)
+	{
+		setValue("QtyTU_Calculated", QtyTU_Calculated);
+	}
+
+	@Override
+	public void setQtyTU_Override(final java.math.BigDecimal QtyTU_Override)
+	{
+		setValue("QtyTU_Override", QtyTU_Override);
+	}
+
+	@Override
+	public void setQtyToDeliver(final java.math.BigDecimal QtyToDeliver)
+	{
+		setValue("QtyToDeliver", QtyToDeliver);
+	}
+
+	@Override
+	public void setQtyToDeliverCatch_Override(final java.math.BigDecimal QtyToDeliverCatch_Override)
+	{
+		setValue("QtyToDeliverCatch_Override", QtyToDeliverCatch_Override);
+	}
+
+	@Override
+	public void setQtyToDeliver_Override(final java.math.BigDecimal QtyToDeliver_Override)
+	{
+		setValue("QtyToDeliver_Override", QtyToDeliver_Override);
+	}
+
+	@Override
+	public void setQtyToDeliver_OverrideFulfilled(final java.math.BigDecimal QtyToDeliver_OverrideFulfilled)
+	{
+		setValue("QtyToDeliver_OverrideFulfilled", QtyToDeliver_OverrideFulfilled);
+	}
+
+	@Override
+	public void setRecord_ID(final int Record_ID)
+	{
+		setValue("Record_ID", Record_ID);
+	}
+
+	@Override
+	public void setShipmentAllocation_BestBefore_Policy(final java.lang.String ShipmentAllocation_BestBefore_Policy)
+	{
+		setValue("ShipmentAllocation_BestBefore_Policy", ShipmentAllocation_BestBefore_Policy);
+	}
+
+	@Override
+	public void setSinglePriceTag_ID(final java.lang.String SinglePriceTag_ID)
+	{
+		setValue("SinglePriceTag_ID", SinglePriceTag_ID);
+	}
+
+	@Override
+	public void setStatus(final java.lang.String Status)
+	{
+		setValue("Status", Status);
+	}
+}
@@ -167,6 +167,17 @@ public interface IHandlingUnitsDAO extends ISingletonService
 
 	List<I_M_HU> retrieveIncludedHUs(@NonNull I_M_HU hu);
 
+	/**
+	 * Loads the given top level HUs together with all their included HUs, items, storages and attributes, using a fixed number of queries.
+	 * <p>
+	 * The loaded records are put into the caches of the HU context's transaction,
+	 * so iterating the HU trees (e.g. using an {@link IHUIterator}) afterwards does not hit the database anymore.
+	 * If the HU context has no transaction, there are no caches to populate and just the top level HUs are loaded.
+	 *
+	 * @return the top level HUs
+	 */
+	List<I_M_HU> retrieveHUTreesAndWarmUpCaches(IHUContext huContext, Collection<HuId> topLevelHuIds);
+
 	// Handling Unit PI Retrieval
 
 	List<I_M_HU_PI_Item> retrievePIItems(final I_M_HU_PI handlingUnitPI, final BPartnerId bpartnerId);
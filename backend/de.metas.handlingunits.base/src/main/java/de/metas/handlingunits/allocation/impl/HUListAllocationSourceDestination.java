@@ -37,6 +37,7 @@ import org.compiere.model.I_C_UOM;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import de.metas.handlingunits.HUIteratorListenerAdapter;
 import de.metas.handlingunits.HuId;
@@ -107,6 +108,7 @@ public class HUListAllocationSourceDestination implements IAllocationSource, IAl
 	private final AllocationStrategyType allocationStrategyType;
 
 	private I_M_HU currentHU = null;
+	private boolean huTreesWarmedUp = false;
 
 	private boolean destroyEmptyHUs = false;
 
@@ -212,6 +214,8 @@ public class HUListAllocationSourceDestination implements IAllocationSource, IAl
 			@NonNull final IAllocationRequest request,
 			@NonNull final AllocationDirection direction)
 	{
+		warmUpHUTreesIfRequired(request.getHUContext());
+
 		if (storeCUQtyBeforeProcessing)
 		{
 			// store the CU qtys in memory, so at the end of the load we can check if they changed.
@@ -293,6 +297,25 @@ public class HUListAllocationSourceDestination implements IAllocationSource, IAl
 		}
 	}
 
+	/**
+	 * Loads the whole trees of our source HUs into the HU context's transaction caches, using a fixed number of queries,
+	 * because iterating the HUs one by one would load their items, included HUs and storages one by one too.
+	 */
+	private void warmUpHUTreesIfRequired(@NonNull final IHUContext huContext)
+	{
+		if (huTreesWarmedUp)
+		{
+			return;
+		}
+		huTreesWarmedUp = true;
+
+		final ImmutableSet<HuId> huIds = sourceHUs.stream()
+				.filter(hu -> hu.getM_HU_ID() > 0)
+				.map(hu -> HuId.ofRepoId(hu.getM_HU_ID()))
+				.collect(ImmutableSet.toImmutableSet());
+		Services.get(IHandlingUnitsDAO.class).retrieveHUTreesAndWarmUpCaches(huContext, huIds);
+	}
+
 	private I_M_HU nextHU()
 	{
 		currentIndex++;
@@ -307,6 +330,7 @@ public class HUListAllocationSourceDestination implements IAllocationSource, IAl
 	public List<IPair<IAllocationRequest, IAllocationResult>> unloadAll(final IHUContext huContext)
 	{
 		createHUSnapshotsIfRequired(huContext);
+		warmUpHUTreesIfRequired(huContext);
 
 		final List<IPair<IAllocationRequest, IAllocationResult>> result = new ArrayList<>();
 
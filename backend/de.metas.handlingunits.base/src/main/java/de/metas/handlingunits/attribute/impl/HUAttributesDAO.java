@@ -77,6 +77,14 @@ public final class HUAttributesDAO implements IHUAttributesDAO
 				.stream()
 				.collect(ImmutableList.toImmutableList());
 
+		return toHUAndPIAttributesOrdered(hu, huAttributes);
+	}
+
+	/**
+	 * Same as {@link #retrieveAttributesOrdered(I_M_HU)}, but for HU attributes which were already loaded.
+	 */
+	/* package */ HUAndPIAttributes toHUAndPIAttributesOrdered(@NonNull final I_M_HU hu, @NonNull final List<I_M_HU_Attribute> huAttributes)
+	{
 		// Optimization: set M_HU link
 		for (final I_M_HU_Attribute huAttribute : huAttributes)
 		{
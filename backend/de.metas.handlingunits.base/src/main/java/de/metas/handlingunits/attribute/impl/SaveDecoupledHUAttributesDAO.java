@@ -14,6 +14,7 @@ import de.metas.handlingunits.model.I_M_HU_Attribute;
 import de.metas.logging.LogManager;
 import de.metas.util.Check;
 import de.metas.util.Services;
+import lombok.NonNull;
 import org.adempiere.ad.service.IDeveloperModeBL;
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.ad.trx.api.ITrxManager;
@@ -247,6 +248,14 @@ public class SaveDecoupledHUAttributesDAO implements IHUAttributesDAO
 		return huAttributes;
 	}
 
+	/**
+	 * Puts the given (already loaded) HU attributes into the cache, unless the HU's attributes are already cached.
+	 */
+	public synchronized void warmUp(@NonNull final I_M_HU hu, @NonNull final List<I_M_HU_Attribute> huAttributes)
+	{
+		getHUAttributesMap(hu, k -> HUAttributesMap.of(HUAttributesDAO.instance.toHUAndPIAttributesOrdered(hu, huAttributes)));
+	}
+
 	private HUAttributesMap getHUAttributesMap(final I_M_HU hu, final Function<I_M_HU, HUAttributesMap> loader)
 	{
 		final HuId huId = HuId.ofRepoId(hu.getM_HU_ID());
@@ -7,6 +7,7 @@ import de.metas.handlingunits.model.I_M_HU;
 import de.metas.handlingunits.model.I_M_HU_Attribute;
 import de.metas.util.Check;
 import de.metas.util.Services;
+import lombok.NonNull;
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.ad.trx.api.ITrxListenerManager.TrxEventTiming;
 import org.adempiere.ad.trx.api.ITrxManager;
@@ -118,6 +119,15 @@ public class SaveOnCommitHUAttributesDAO implements IHUAttributesDAO
 		return delegate.retrieveAttribute(hu, attributeId);
 	}
 
+	/**
+	 * Puts the given (already loaded) HU attributes into the current transaction's cache, unless the HU's attributes are already cached.
+	 */
+	public void warmUp(@NonNull final I_M_HU hu, @NonNull final List<I_M_HU_Attribute> huAttributes)
+	{
+		final SaveDecoupledHUAttributesDAO delegate = getDelegate();
+		delegate.warmUp(hu, huAttributes);
+	}
+
 	@Override
 	public void flush()
 	{
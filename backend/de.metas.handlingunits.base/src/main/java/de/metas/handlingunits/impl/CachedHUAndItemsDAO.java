@@ -24,6 +24,7 @@ package de.metas.handlingunits.impl;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -190,6 +191,48 @@ public class CachedHUAndItemsDAO extends AbstractHUAndItemsDAO
 		return new ArrayList<>(huItems);
 	}
 
+	/**
+	 * Puts the given (already loaded) HU items into the cache, unless the HU's items are already cached.
+	 */
+	/* package */ void warmUpItems(@NonNull final I_M_HU hu, @NonNull final List<I_M_HU_Item> huItems)
+	{
+		final Object huKey = mkHUKey(hu);
+		if (huKey2huItems.containsKey(huKey))
+		{
+			return;
+		}
+
+		final ArrayList<I_M_HU_Item> huItemsSorted = new ArrayList<>(huItems);
+		for (final I_M_HU_Item huItem : huItemsSorted)
+		{
+			huItem.setM_HU(hu);
+		}
+		huItemsSorted.sort(IHandlingUnitsDAO.HU_ITEMS_COMPARATOR);
+
+		huKey2huItems.put(huKey, huItemsSorted);
+	}
+
+	/**
+	 * Puts the given (already loaded) included HUs into the cache, unless the item's included HUs are already cached.
+	 */
+	/* package */ void warmUpIncludedHUs(@NonNull final I_M_HU_Item huItem, @NonNull final List<I_M_HU> includedHUs)
+	{
+		final Object huItemKey = mkHUItemKey(huItem);
+		if (huItemKey2includedHUs.containsKey(huItemKey))
+		{
+			return;
+		}
+
+		final ArrayList<I_M_HU> includedHUsSorted = new ArrayList<>(includedHUs);
+		for (final I_M_HU includedHU : includedHUsSorted)
+		{
+			includedHU.setM_HU_Item_Parent(huItem);
+		}
+		includedHUsSorted.sort(Comparator.comparing(I_M_HU::getM_HU_ID)); // same order as IncludedHUsLocalCache
+
+		huItemKey2includedHUs.put(huItemKey, includedHUsSorted);
+	}
+
 	@Override
 	public I_M_HU retrieveParent(final I_M_HU hu)
 	{
@@ -24,6 +24,8 @@ package de.metas.handlingunits.impl;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.ad.trx.api.ITrxManager;
 import org.adempiere.model.InterfaceWrapperHelper;
@@ -75,6 +77,16 @@ public class CachedIfInTransactionHUAndItemsDAO implements IHUAndItemsDAO
 		return huAndItemsDAO;
 	}
 
+	/**
+	 * @return the HU and items cache which is bound to the context's transaction or {@code null} if the context has no transaction
+	 */
+	@Nullable
+	/* package */ CachedHUAndItemsDAO getCacheOrNull(final Object contextProvider)
+	{
+		final IHUAndItemsDAO delegate = getDelegate(contextProvider);
+		return delegate instanceof CachedHUAndItemsDAO ? (CachedHUAndItemsDAO)delegate : null;
+	}
+
 	private final ITrx extractAndValidateTrx(final Object contextProvider)
 	{
 		final String trxName = trxManager.getThreadInheritedTrxName();
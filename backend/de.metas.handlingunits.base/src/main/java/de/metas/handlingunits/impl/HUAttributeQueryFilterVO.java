@@ -22,11 +22,15 @@ package de.metas.handlingunits.impl;
  * #L%
  */
 
+import java.time.LocalTime;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.adempiere.ad.dao.ICompositeQueryFilter;
 import org.adempiere.ad.dao.IQueryBL;
 import org.adempiere.exceptions.AdempiereException;
@@ -41,11 +45,13 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.compiere.model.IQuery;
 import org.compiere.model.I_M_Attribute;
 import org.compiere.model.X_M_Attribute;
+import org.compiere.util.TimeUtil;
 
 import de.metas.handlingunits.model.I_M_HU;
 import de.metas.handlingunits.model.I_M_HU_Attribute;
 import de.metas.util.Check;
 import de.metas.util.Services;
+import de.metas.util.NumberUtils;
 import de.metas.util.collections.CollectionUtils;
 import lombok.NonNull;
 
@@ -272,6 +278,83 @@ import lombok.NonNull;
 		huFilters.addInSubQueryFilter(I_M_HU.COLUMN_M_HU_ID, I_M_HU_Attribute.COLUMN_M_HU_ID, attributesQuery);
 	}
 
+	/**
+	 * @return the key of this filter's attribute value in {@link HUAttributesIndex}
+	 */
+	public String getIndexKey()
+	{
+		final String valueColumnName = getHUAttributeValueColumn().getColumnName();
+		final String prefix;
+		if (I_M_HU_Attribute.COLUMNNAME_ValueNumber.equals(valueColumnName))
+		{
+			prefix = HUAttributesIndex.KEYPREFIX_ValueNumber;
+		}
+		else if (I_M_HU_Attribute.COLUMNNAME_ValueDate.equals(valueColumnName))
+		{
+			prefix = HUAttributesIndex.KEYPREFIX_ValueDate;
+		}
+		else
+		{
+			prefix = HUAttributesIndex.KEYPREFIX_Value;
+		}
+
+		return prefix + getAttributeId().getRepoId();
+	}
+
+	/**
+	 * @return the values (and substitutes) converted to their {@link HUAttributesIndex} representation
+	 *         or <code>null</code> if this filter cannot be evaluated using the index (i.e. it's not a values list or it also matches null/any value)
+	 */
+	@Nullable
+	public Set<Object> getIndexValuesOrNull()
+	{
+		if (matchingType != AttributeValueMatchingType.ValuesList)
+		{
+			return null;
+		}
+
+		final Set<Object> values = getValuesAndSubstitutes();
+		if (values.isEmpty())
+		{
+			return null; // matches any value
+		}
+
+		final String valueColumnName = getHUAttributeValueColumn().getColumnName();
+		final Set<Object> indexValues = new LinkedHashSet<>(values.size());
+		for (final Object value : values)
+		{
+			final Object indexValue = toIndexValueOrNull(valueColumnName, value);
+			if (indexValue == null)
+			{
+				return null;
+			}
+			indexValues.add(indexValue);
+		}
+
+		return indexValues;
+	}
+
+	@Nullable
+	private static Object toIndexValueOrNull(final String valueColumnName, @Nullable final Object value)
+	{
+		if (value == null)
+		{
+			return null; // null values are not indexed
+		}
+		else if (I_M_HU_Attribute.COLUMNNAME_ValueNumber.equals(valueColumnName))
+		{
+			return value instanceof Number ? NumberUtils.asBigDecimal(value) : null;
+		}
+		else if (I_M_HU_Attribute.COLUMNNAME_ValueDate.equals(valueColumnName))
+		{
+			return TimeUtil.isDateOrTimeObject(value) && !(value instanceof LocalTime) ? HUAttributesIndex.toIndexValue(TimeUtil.asTimestamp(value)) : null;
+		}
+		else
+		{
+			return value instanceof String ? value : null;
+		}
+	}
+
 	/**
 	 * NOTE: keep in sync with {@link #appendQueryFilterTo(Object, ICompositeQueryFilter)}
 	 */
@@ -0,0 +1,163 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.handlingunits.impl;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.service.ISysConfigBL;
+import org.compiere.Adempiere;
+import org.compiere.util.DB;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import de.metas.handlingunits.model.I_M_HU_Attribute;
+import de.metas.util.Services;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Denormalized index of the active {@link de.metas.handlingunits.model.I_M_HU_Attribute}s, one JSONB document per HU (see table {@value #TABLE_NAME}).
+ * <p>
+ * The document contains one key for each attribute which has a value:
+ * <ul>
+ * <li><code>s&lt;M_Attribute_ID&gt;</code> - the M_HU_Attribute.Value
+ * <li><code>n&lt;M_Attribute_ID&gt;</code> - the M_HU_Attribute.ValueNumber
+ * <li><code>d&lt;M_Attribute_ID&gt;</code> - the M_HU_Attribute.ValueDate, as local date-time string (see {@link #toIndexValue(Timestamp)})
+ * </ul>
+ * The index is maintained by statement level database triggers on M_HU_Attribute, which update each changed HU once per statement, and can be rebuilt using {@link #rebuild()}.
+ * Having it, all the "attribute has one of these values" filters of an HU query are evaluated using one GIN index lookup,
+ * instead of one M_HU_Attribute sub query per attribute.
+ */
+@UtilityClass
+public class HUAttributesIndex
+{
+	public static final String TABLE_NAME = "T_HU_Attribute_Index";
+
+	@VisibleForTesting
+	static final String SYSCONFIG_Enabled = "de.metas.handlingunits.HUQueryBuilder.UseAttributesIndex";
+
+	public static final String KEYPREFIX_Value = "s";
+	public static final String KEYPREFIX_ValueNumber = "n";
+	public static final String KEYPREFIX_ValueDate = "d";
+
+	/**
+	 * Same format as <code>to_char(ValueDate, 'YYYY-MM-DD"T"HH24:MI:SS.US')</code> in the <code>T_HU_Attribute_Index_Entries_v</code> view.
+	 * <p>
+	 * ValueDate is a <code>timestamp without time zone</code>, so we compare its local date-time, just like the JDBC driver does when binding a {@link Timestamp} parameter.
+	 */
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+	/**
+	 * @return true if HU queries shall use the attributes index. In unit test mode it's used only if explicitly enabled by sysconfig.
+	 */
+	public static boolean isEnabled()
+	{
+		return Services.get(ISysConfigBL.class).getBooleanValue(SYSCONFIG_Enabled, !Adempiere.isUnitTestMode());
+	}
+
+	/**
+	 * Creates a filter which matches the HUs having, for each index key, one of the given values.
+	 *
+	 * @param valuesByKey index key to accepted values (already converted to their index representation)
+	 */
+	/* package */ static HUAttributesIndexQueryFilter createFilter(@NonNull final Map<String, ? extends Set<Object>> valuesByKey)
+	{
+		return new HUAttributesIndexQueryFilter(valuesByKey);
+	}
+
+	/**
+	 * @return the index representation of the given ValueDate
+	 */
+	public static String toIndexValue(@NonNull final Timestamp valueDate)
+	{
+		return DATE_FORMAT.format(valueDate.toLocalDateTime());
+	}
+
+	/**
+	 * Builds the index document of the given HU attributes, just like the database does from the <code>T_HU_Attribute_Index_Entries_v</code> view.
+	 *
+	 * @param huAttributes the active attributes of one HU
+	 */
+	/* package */ static Map<String, Object> toIndexDocument(@NonNull final List<I_M_HU_Attribute> huAttributes)
+	{
+		final Map<String, Object> document = new LinkedHashMap<>();
+		for (final I_M_HU_Attribute huAttribute : huAttributes)
+		{
+			final int attributeId = huAttribute.getM_Attribute_ID();
+			if (huAttribute.getValue() != null)
+			{
+				document.put(KEYPREFIX_Value + attributeId, huAttribute.getValue());
+			}
+			if (huAttribute.getValueNumber() != null)
+			{
+				document.put(KEYPREFIX_ValueNumber + attributeId, huAttribute.getValueNumber());
+			}
+			if (huAttribute.getValueDate() != null)
+			{
+				document.put(KEYPREFIX_ValueDate + attributeId, toIndexValue(huAttribute.getValueDate()));
+			}
+		}
+		return document;
+	}
+
+	/**
+	 * @return true if the given index values are equal, the same way jsonb compares them (i.e. numbers are compared by value, ignoring their scale)
+	 */
+	/* package */ static boolean isSameIndexValue(@Nullable final Object value1, @Nullable final Object value2)
+	{
+		if (value1 instanceof BigDecimal && value2 instanceof BigDecimal)
+		{
+			return ((BigDecimal)value1).compareTo((BigDecimal)value2) == 0;
+		}
+		return Objects.equals(value1, value2);
+	}
+
+	/**
+	 * Rebuilds the whole index.
+	 *
+	 * @return number of indexed HUs
+	 */
+	public static int rebuild()
+	{
+		return rebuild(null);
+	}
+
+	/**
+	 * Rebuilds the index entry of the given HU, or the whole index if the HU is null.
+	 *
+	 * @return number of indexed HUs
+	 */
+	public static int rebuild(@Nullable final Integer huId)
+	{
+		return DB.getSQLValueEx(ITrx.TRXNAME_ThreadInherited, "SELECT " + TABLE_NAME + "_Rebuild(?)", huId);
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.handlingunits.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.adempiere.ad.dao.IQueryBL;
+import org.adempiere.ad.dao.IQueryFilter;
+import org.adempiere.ad.dao.ISqlQueryFilter;
+import org.adempiere.exceptions.AdempiereException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import de.metas.JsonObjectMapperHolder;
+import de.metas.handlingunits.model.I_M_HU;
+import de.metas.handlingunits.model.I_M_HU_Attribute;
+import de.metas.util.Check;
+import de.metas.util.Services;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Matches the HUs whose {@link HUAttributesIndex} document has, for each key, one of the given values.
+ * <p>
+ * In SQL this is a containment check on the index table.
+ * {@link #accept(I_M_HU)} builds the HU's document from its M_HU_Attribute records instead, so the filter also works without a database.
+ */
+@EqualsAndHashCode(of = "valuesByKey")
+@ToString(of = "valuesByKey")
+/* package */ final class HUAttributesIndexQueryFilter implements IQueryFilter<I_M_HU>, ISqlQueryFilter
+{
+	private final ImmutableMap<String, ImmutableSet<Object>> valuesByKey;
+
+	private String sqlWhereClause = null;
+	private List<Object> sqlParams = null;
+
+	/* package */ HUAttributesIndexQueryFilter(@NonNull final Map<String, ? extends Set<Object>> valuesByKey)
+	{
+		Check.assumeNotEmpty(valuesByKey, "valuesByKey is not empty");
+
+		final ImmutableMap.Builder<String, ImmutableSet<Object>> builder = ImmutableMap.builder();
+		for (final Map.Entry<String, ? extends Set<Object>> e : valuesByKey.entrySet())
+		{
+			Check.assumeNotEmpty(e.getValue(), "values for {} are not empty", e.getKey());
+			builder.put(e.getKey(), ImmutableSet.copyOf(e.getValue()));
+		}
+		this.valuesByKey = builder.build();
+	}
+
+	@Override
+	public String getSql()
+	{
+		buildSql();
+		return sqlWhereClause;
+	}
+
+	@Override
+	public List<Object> getSqlParams(final Properties ctx_NOTUSED)
+	{
+		buildSql();
+		return sqlParams;
+	}
+
+	private void buildSql()
+	{
+		if (sqlWhereClause != null)
+		{
+			return;
+		}
+
+		final StringBuilder sqlWhere = new StringBuilder();
+		final List<Object> sqlParams = new ArrayList<>();
+
+		// All single valued keys are checked using only one containment check
+		final Map<String, Object> singleValues = new LinkedHashMap<>();
+		for (final Map.Entry<String, ImmutableSet<Object>> e : valuesByKey.entrySet())
+		{
+			if (e.getValue().size() == 1)
+			{
+				singleValues.put(e.getKey(), e.getValue().iterator().next());
+			}
+		}
+		if (!singleValues.isEmpty())
+		{
+			sqlWhere.append("i.Attributes @> ?::jsonb");
+			sqlParams.add(toJson(singleValues));
+		}
+
+		for (final Map.Entry<String, ImmutableSet<Object>> e : valuesByKey.entrySet())
+		{
+			final Set<Object> values = e.getValue();
+			if (values.size() <= 1)
+			{
+				continue;
+			}
+
+			if (sqlWhere.length() > 0)
+			{
+				sqlWhere.append(" AND ");
+			}
+
+			sqlWhere.append("(");
+			boolean firstValue = true;
+			for (final Object value : values)
+			{
+				if (!firstValue)
+				{
+					sqlWhere.append(" OR ");
+				}
+				sqlWhere.append("i.Attributes @> ?::jsonb");
+
+				final Map<String, Object> document = new LinkedHashMap<>();
+				document.put(e.getKey(), value);
+				sqlParams.add(toJson(document));
+				firstValue = false;
+			}
+			sqlWhere.append(")");
+		}
+
+		this.sqlParams = ImmutableList.copyOf(sqlParams);
+		this.sqlWhereClause = I_M_HU.Table_Name + "." + I_M_HU.COLUMNNAME_M_HU_ID + " IN (SELECT i.M_HU_ID FROM " + HUAttributesIndex.TABLE_NAME + " i WHERE " + sqlWhere + ")";
+	}
+
+	private static String toJson(final Map<String, Object> document)
+	{
+		final ObjectMapper jsonObjectMapper = JsonObjectMapperHolder.sharedJsonObjectMapper();
+		try
+		{
+			return jsonObjectMapper.writeValueAsString(document);
+		}
+		catch (final JsonProcessingException ex)
+		{
+			throw AdempiereException.wrapIfNeeded(ex)
+					.setParameter("document", document);
+		}
+	}
+
+	@Override
+	public boolean accept(@NonNull final I_M_HU hu)
+	{
+		final List<I_M_HU_Attribute> huAttributes = Services.get(IQueryBL.class)
+				.createQueryBuilder(I_M_HU_Attribute.class, hu)
+				.addOnlyActiveRecordsFilter()
+				.addEqualsFilter(I_M_HU_Attribute.COLUMNNAME_M_HU_ID, hu.getM_HU_ID())
+				.create()
+				.list();
+		final Map<String, Object> document = HUAttributesIndex.toIndexDocument(huAttributes);
+
+		for (final Map.Entry<String, ImmutableSet<Object>> e : valuesByKey.entrySet())
+		{
+			final Object indexedValue = document.get(e.getKey());
+			if (indexedValue == null
+					|| e.getValue().stream().noneMatch(value -> HUAttributesIndex.isSameIndexValue(value, indexedValue)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
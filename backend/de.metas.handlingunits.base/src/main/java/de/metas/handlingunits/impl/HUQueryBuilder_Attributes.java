@@ -3,8 +3,10 @@ package de.metas.handlingunits.impl;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.adempiere.ad.dao.ICompositeQueryFilter;
 import org.adempiere.ad.dao.IQueryBL;
@@ -128,10 +130,26 @@ final class HUQueryBuilder_Attributes
 		final ICompositeQueryFilter<I_M_HU> filters = queryBL.createCompositeQueryFilter(I_M_HU.class);
 
 		// Iterate attribute filters and add a restriction for each of them
-		// because each of them needs to be individually valid
+		// because each of them needs to be individually valid.
+		// The values list filters are collected and evaluated together on the attributes index, if possible.
+		final boolean useAttributesIndex = allowSql && HUAttributesIndex.isEnabled();
+		final Map<String, Set<Object>> indexValuesByKey = new LinkedHashMap<>();
 		for (final HUAttributeQueryFilterVO attributeFilterVO : onlyAttributes.values())
 		{
-			attributeFilterVO.appendQueryFilterTo(filters);
+			final Set<Object> indexValues = useAttributesIndex ? attributeFilterVO.getIndexValuesOrNull() : null;
+			if (indexValues != null)
+			{
+				indexValuesByKey.put(attributeFilterVO.getIndexKey(), indexValues);
+			}
+			else
+			{
+				attributeFilterVO.appendQueryFilterTo(filters);
+			}
+		}
+
+		if (!indexValuesByKey.isEmpty())
+		{
+			filters.addFilter(HUAttributesIndex.createFilter(indexValuesByKey));
 		}
 
 		return filters;
@@ -0,0 +1,283 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.handlingunits.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import de.metas.handlingunits.HuId;
+import de.metas.handlingunits.IHUContext;
+import de.metas.handlingunits.attribute.IHUAttributesDAO;
+import de.metas.handlingunits.attribute.impl.SaveOnCommitHUAttributesDAO;
+import de.metas.handlingunits.model.I_M_HU;
+import de.metas.handlingunits.model.I_M_HU_Attribute;
+import de.metas.handlingunits.model.I_M_HU_Item;
+import de.metas.handlingunits.model.I_M_HU_Item_Storage;
+import de.metas.handlingunits.model.I_M_HU_Storage;
+import de.metas.handlingunits.storage.IHUStorageDAO;
+import de.metas.handlingunits.storage.impl.SaveOnCommitHUStorageDAO;
+import de.metas.logging.LogManager;
+import de.metas.util.Services;
+import lombok.NonNull;
+import org.adempiere.ad.dao.IQueryBL;
+import org.adempiere.ad.dao.IQueryFilter;
+import org.adempiere.ad.dao.impl.InArrayQueryFilter;
+import org.adempiere.ad.dao.impl.TypedSqlQueryFilter;
+import org.compiere.Adempiere;
+import org.compiere.util.DB;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Loads complete HU trees (HUs, items, storages and attributes) with a fixed number of queries
+ * and puts them into the transaction level caches of {@link CachedHUAndItemsDAO}, {@link SaveOnCommitHUStorageDAO} and {@link SaveOnCommitHUAttributesDAO}.
+ * <p>
+ * Entries which are already cached are not touched, because they might contain changes which were not yet saved.
+ */
+/* package */ final class HUTreeLoader
+{
+	private static final Logger logger = LogManager.getLogger(HUTreeLoader.class);
+	private final IQueryBL queryBL = Services.get(IQueryBL.class);
+
+	/**
+	 * Selects the IDs of the given top level HUs and of all their included HUs, on any level.
+	 * <p>
+	 * Included HUs are not filtered by IsActive, same as {@link IncludedHUsLocalCache} does.
+	 */
+	private static final String SQL_HU_TREE_IDS = "WITH RECURSIVE hu_tree(M_HU_ID) AS ("
+			+ "\n   SELECT top_hu.M_HU_ID FROM M_HU top_hu WHERE top_hu.M_HU_ID IN %s"
+			+ "\n   UNION"
+			+ "\n   SELECT included_hu.M_HU_ID"
+			+ "\n   FROM hu_tree"
+			+ "\n   INNER JOIN M_HU_Item parent_item ON parent_item.M_HU_ID = hu_tree.M_HU_ID AND parent_item.IsActive = 'Y'"
+			+ "\n   INNER JOIN M_HU included_hu ON included_hu.M_HU_Item_Parent_ID = parent_item.M_HU_Item_ID"
+			+ "\n)"
+			+ "\nSELECT hu_tree.M_HU_ID FROM hu_tree";
+
+	private final IHUContext huContext;
+	private final CachedHUAndItemsDAO huAndItemsCache;
+
+	/* package */ HUTreeLoader(
+			@NonNull final IHUContext huContext,
+			@NonNull final CachedHUAndItemsDAO huAndItemsCache)
+	{
+		this.huContext = huContext;
+		this.huAndItemsCache = huAndItemsCache;
+	}
+
+	/**
+	 * @return the top level HUs, in the order of the given IDs
+	 */
+	public List<I_M_HU> load(@NonNull final Collection<HuId> topLevelHuIds)
+	{
+		if (topLevelHuIds.isEmpty())
+		{
+			return ImmutableList.of();
+		}
+
+		final List<I_M_HU> hus = retrieveHUTrees(topLevelHuIds);
+		final ImmutableSet<HuId> huIds = hus.stream()
+				.map(hu -> HuId.ofRepoId(hu.getM_HU_ID()))
+				.collect(ImmutableSet.toImmutableSet());
+
+		final List<I_M_HU_Item> huItems = retrieveItems(huIds);
+		final ImmutableSet<Integer> huItemIds = huItems.stream()
+				.map(I_M_HU_Item::getM_HU_Item_ID)
+				.collect(ImmutableSet.toImmutableSet());
+
+		warmUpHUsAndItems(hus, huItems);
+		warmUpStorages(hus, huItems, huIds, huItemIds);
+		warmUpAttributes(hus, huIds);
+
+		logger.debug("Loaded {} HUs and {} HU items for top level HUs {}", hus.size(), huItems.size(), topLevelHuIds);
+
+		final Map<Integer, I_M_HU> husById = Maps.uniqueIndex(hus, I_M_HU::getM_HU_ID);
+		return topLevelHuIds.stream()
+				.distinct()
+				.map(huId -> husById.get(huId.getRepoId()))
+				.filter(Objects::nonNull)
+				.collect(ImmutableList.toImmutableList());
+	}
+
+	/**
+	 * Both the database and the in-memory variant only select the tree's IDs, so the HUs themselves are always loaded by the same query.
+	 */
+	private List<I_M_HU> retrieveHUTrees(@NonNull final Collection<HuId> topLevelHuIds)
+	{
+		return queryBL.createQueryBuilder(I_M_HU.class, huContext)
+				.filter(createHUTreeIdsFilter(topLevelHuIds))
+				.orderBy(I_M_HU.COLUMNNAME_M_HU_ID)
+				.create()
+				.list();
+	}
+
+	private IQueryFilter<I_M_HU> createHUTreeIdsFilter(@NonNull final Collection<HuId> topLevelHuIds)
+	{
+		if (Adempiere.isUnitTestMode())
+		{
+			// the in-memory database cannot run the recursive query
+			return new InArrayQueryFilter<>(I_M_HU.COLUMNNAME_M_HU_ID, retrieveHUTreeIdsLevelByLevel(topLevelHuIds));
+		}
+
+		final List<Object> sqlParams = new ArrayList<>();
+		final String sqlHUTreeIds = String.format(SQL_HU_TREE_IDS, DB.buildSqlList(HuId.toRepoIds(topLevelHuIds), sqlParams));
+		return TypedSqlQueryFilter.of(I_M_HU.COLUMNNAME_M_HU_ID + " IN (" + sqlHUTreeIds + ")", sqlParams);
+	}
+
+	/**
+	 * Same as {@link #SQL_HU_TREE_IDS}, but with one query per HU level.
+	 */
+	private Set<Integer> retrieveHUTreeIdsLevelByLevel(@NonNull final Collection<HuId> topLevelHuIds)
+	{
+		final Set<Integer> huIds = new HashSet<>();
+
+		List<Integer> currentLevelHUIds = queryBL.createQueryBuilder(I_M_HU.class, huContext)
+				.addInArrayFilter(I_M_HU.COLUMNNAME_M_HU_ID, topLevelHuIds)
+				.create()
+				.listIds();
+		while (!currentLevelHUIds.isEmpty())
+		{
+			huIds.addAll(currentLevelHUIds);
+
+			final List<Integer> parentItemIds = queryBL.createQueryBuilder(I_M_HU_Item.class, huContext)
+					.addInArrayFilter(I_M_HU_Item.COLUMNNAME_M_HU_ID, currentLevelHUIds)
+					.addOnlyActiveRecordsFilter()
+					.create()
+					.listIds();
+			if (parentItemIds.isEmpty())
+			{
+				break;
+			}
+
+			currentLevelHUIds = queryBL.createQueryBuilder(I_M_HU.class, huContext)
+					.addInArrayFilter(I_M_HU.COLUMNNAME_M_HU_Item_Parent_ID, parentItemIds)
+					.create()
+					.listIds()
+					.stream()
+					.filter(huId -> !huIds.contains(huId)) // like the UNION of the recursive query
+					.collect(ImmutableList.toImmutableList());
+		}
+
+		return huIds;
+	}
+
+	private List<I_M_HU_Item> retrieveItems(@NonNull final Collection<HuId> huIds)
+	{
+		return queryBL.createQueryBuilder(I_M_HU_Item.class, huContext)
+				.addInArrayFilter(I_M_HU_Item.COLUMNNAME_M_HU_ID, huIds)
+				.addOnlyActiveRecordsFilter()
+				.create()
+				.list();
+	}
+
+	private void warmUpHUsAndItems(
+			@NonNull final List<I_M_HU> hus,
+			@NonNull final List<I_M_HU_Item> huItems)
+	{
+		final ImmutableListMultimap<Integer, I_M_HU_Item> huItemsByHUId = Multimaps.index(huItems, I_M_HU_Item::getM_HU_ID);
+		for (final I_M_HU hu : hus)
+		{
+			huAndItemsCache.warmUpItems(hu, huItemsByHUId.get(hu.getM_HU_ID()));
+		}
+
+		final ImmutableListMultimap<Integer, I_M_HU> includedHUsByParentItemId = hus.stream()
+				.filter(hu -> hu.getM_HU_Item_Parent_ID() > 0)
+				.collect(ImmutableListMultimap.toImmutableListMultimap(I_M_HU::getM_HU_Item_Parent_ID, hu -> hu));
+		for (final I_M_HU_Item huItem : huItems)
+		{
+			huAndItemsCache.warmUpIncludedHUs(huItem, includedHUsByParentItemId.get(huItem.getM_HU_Item_ID()));
+		}
+	}
+
+	private void warmUpStorages(
+			@NonNull final List<I_M_HU> hus,
+			@NonNull final List<I_M_HU_Item> huItems,
+			@NonNull final Collection<HuId> huIds,
+			@NonNull final Collection<Integer> huItemIds)
+	{
+		final IHUStorageDAO huStorageDAO = huContext.getHUStorageFactory().getHUStorageDAO();
+		if (!(huStorageDAO instanceof SaveOnCommitHUStorageDAO))
+		{
+			return; // storages are not cached
+		}
+		final SaveOnCommitHUStorageDAO huStorageCache = (SaveOnCommitHUStorageDAO)huStorageDAO;
+
+		final ImmutableListMultimap<Integer, I_M_HU_Storage> huStoragesByHUId = Multimaps.index(
+				queryBL.createQueryBuilder(I_M_HU_Storage.class, huContext)
+						.addInArrayFilter(I_M_HU_Storage.COLUMNNAME_M_HU_ID, huIds)
+						.addOnlyActiveRecordsFilter()
+						.create()
+						.list(),
+				I_M_HU_Storage::getM_HU_ID);
+		for (final I_M_HU hu : hus)
+		{
+			huStorageCache.warmUpHUStorages(hu, huStoragesByHUId.get(hu.getM_HU_ID()));
+		}
+
+		final ImmutableListMultimap<Integer, I_M_HU_Item_Storage> huItemStoragesByItemId = Multimaps.index(
+				queryBL.createQueryBuilder(I_M_HU_Item_Storage.class, huContext)
+						.addInArrayFilter(I_M_HU_Item_Storage.COLUMNNAME_M_HU_Item_ID, huItemIds)
+						.addOnlyActiveRecordsFilter()
+						.orderBy(I_M_HU_Item_Storage.COLUMNNAME_M_HU_Item_Storage_ID) // same order as HUStorageDAO
+						.create()
+						.list(),
+				I_M_HU_Item_Storage::getM_HU_Item_ID);
+		for (final I_M_HU_Item huItem : huItems)
+		{
+			huStorageCache.warmUpHUItemStorages(huItem, huItemStoragesByItemId.get(huItem.getM_HU_Item_ID()));
+		}
+	}
+
+	private void warmUpAttributes(
+			@NonNull final List<I_M_HU> hus,
+			@NonNull final Collection<HuId> huIds)
+	{
+		final IHUAttributesDAO huAttributesDAO = huContext.getHUAttributeStorageFactory().getHUAttributesDAO();
+		if (!(huAttributesDAO instanceof SaveOnCommitHUAttributesDAO))
+		{
+			return; // attributes are not cached
+		}
+		final SaveOnCommitHUAttributesDAO huAttributesCache = (SaveOnCommitHUAttributesDAO)huAttributesDAO;
+
+		final ImmutableListMultimap<Integer, I_M_HU_Attribute> huAttributesByHUId = Multimaps.index(
+				queryBL.createQueryBuilder(I_M_HU_Attribute.class, huContext)
+						.addInArrayFilter(I_M_HU_Attribute.COLUMNNAME_M_HU_ID, huIds)
+						.addOnlyActiveRecordsFilter()
+						.create()
+						.list(),
+				I_M_HU_Attribute::getM_HU_ID);
+		for (final I_M_HU hu : hus)
+		{
+			huAttributesCache.warmUp(hu, huAttributesByHUId.get(hu.getM_HU_ID()));
+		}
+	}
+}
@@ -108,7 +108,7 @@ public class HandlingUnitsDAO implements IHandlingUnitsDAO
 	private static final transient Logger logger = LogManager.getLogger(HandlingUnitsDAO.class);
 	private final IQueryBL queryBL = Services.get(IQueryBL.class);
 
-	private final IHUAndItemsDAO defaultHUAndItemsDAO;
+	private final CachedIfInTransactionHUAndItemsDAO defaultHUAndItemsDAO;
 
 	public HandlingUnitsDAO()
 	{
@@ -276,6 +276,18 @@ public class HandlingUnitsDAO implements IHandlingUnitsDAO
 		return result;
 	}
 
+	@Override
+	public List<I_M_HU> retrieveHUTreesAndWarmUpCaches(@NonNull final IHUContext huContext, @NonNull final Collection<HuId> topLevelHuIds)
+	{
+		final CachedHUAndItemsDAO huAndItemsCache = defaultHUAndItemsDAO.getCacheOrNull(huContext);
+		if (huAndItemsCache == null)
+		{
+			return loadByRepoIdAwares(ImmutableSet.copyOf(topLevelHuIds), I_M_HU.class);
+		}
+
+		return new HUTreeLoader(huContext, huAndItemsCache).load(topLevelHuIds);
+	}
+
 	@Override
 	public I_M_HU_Item createHUItem(final I_M_HU hu, final I_M_HU_PI_Item piItem)
 	{
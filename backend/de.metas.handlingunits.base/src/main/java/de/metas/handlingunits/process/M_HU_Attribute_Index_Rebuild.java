@@ -0,0 +1,40 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.handlingunits.process;
+
+import de.metas.handlingunits.impl.HUAttributesIndex;
+import de.metas.process.JavaProcess;
+
+/**
+ * Rebuilds the whole {@link HUAttributesIndex}.
+ * <p>
+ * The index is maintained by a database trigger, so this is needed only if the index was disabled or it's suspected to be out of sync.
+ */
+public class M_HU_Attribute_Index_Rebuild extends JavaProcess
+{
+	@Override
+	protected String doIt()
+	{
+		final int countIndexed = HUAttributesIndex.rebuild();
+		return "@Updated@ #" + countIndexed;
+	}
+}
@@ -273,6 +273,50 @@ public class SaveDecoupledHUStorageDAO extends AbstractHUStorageDAO
 		getHUItemStorages(item, retrieveIfNotFound);
 	}
 
+	/**
+	 * Puts the given (already loaded) HU storages into the cache, unless the HU's storages are already cached.
+	 */
+	public void warmUpHUStorages(@NonNull final I_M_HU hu, @NonNull final List<I_M_HU_Storage> huStoragesList)
+	{
+		final Object huKey = mkHUKey(hu);
+		if (_hu2storage.containsKey(huKey))
+		{
+			return;
+		}
+
+		final Map<Object, I_M_HU_Storage> huStorages = new HashMap<>(huStoragesList.size());
+		for (final I_M_HU_Storage huStorage : huStoragesList)
+		{
+			huStorage.setM_HU(hu);
+			huStorages.put(mkHUStorageKey(huStorage), huStorage);
+			setReadonly(huStorage);
+		}
+
+		_hu2storage.put(huKey, huStorages);
+	}
+
+	/**
+	 * Puts the given (already loaded) HU item storages into the cache, unless the item's storages are already cached.
+	 */
+	public void warmUpHUItemStorages(@NonNull final I_M_HU_Item item, @NonNull final List<I_M_HU_Item_Storage> huItemStoragesList)
+	{
+		final Object itemKey = mkHUItemKey(item);
+		if (_item2itemStorage.containsKey(itemKey))
+		{
+			return;
+		}
+
+		final Map<Object, I_M_HU_Item_Storage> huItemStorages = new HashMap<>(huItemStoragesList.size());
+		for (final I_M_HU_Item_Storage huItemStorage : huItemStoragesList)
+		{
+			huItemStorage.setM_HU_Item(item);
+			huItemStorages.put(mkHUItemStorageKey(huItemStorage), huItemStorage);
+			setReadonly(huItemStorage);
+		}
+
+		_item2itemStorage.put(itemKey, huItemStorages);
+	}
+
 	/**
 	 * Save all storages to database
 	 */
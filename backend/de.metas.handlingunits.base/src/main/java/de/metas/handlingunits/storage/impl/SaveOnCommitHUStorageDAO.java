@@ -157,6 +157,24 @@ public class SaveOnCommitHUStorageDAO implements IHUStorageDAO
 		delegate.save(item);
 	}
 
+	/**
+	 * Puts the given (already loaded) HU storages into the current transaction's cache, unless the HU's storages are already cached.
+	 */
+	public void warmUpHUStorages(@NonNull final I_M_HU hu, @NonNull final List<I_M_HU_Storage> huStorages)
+	{
+		final SaveDecoupledHUStorageDAO delegate = getDelegate(hu);
+		delegate.warmUpHUStorages(hu, huStorages);
+	}
+
+	/**
+	 * Puts the given (already loaded) HU item storages into the current transaction's cache, unless the item's storages are already cached.
+	 */
+	public void warmUpHUItemStorages(@NonNull final I_M_HU_Item item, @NonNull final List<I_M_HU_Item_Storage> huItemStorages)
+	{
+		final SaveDecoupledHUStorageDAO delegate = getDelegate(item);
+		delegate.warmUpHUItemStorages(item, huItemStorages);
+	}
+
 	@Override
 	public I_C_UOM getC_UOMOrNull(final I_M_HU hu)
 	{
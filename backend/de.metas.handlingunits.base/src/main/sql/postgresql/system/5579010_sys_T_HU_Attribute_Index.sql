@@ -0,0 +1,169 @@
+-- Denormalized index of the active M_HU_Attribute values, one JSONB document per HU; used by HUQueryBuilder's attribute filters (see de.metas.handlingunits.impl.HUAttributesIndex).
+-- Document keys: 's<M_Attribute_ID>' = Value, 'n<M_Attribute_ID>' = ValueNumber, 'd<M_Attribute_ID>' = ValueDate as local date-time string (YYYY-MM-DD"T"HH24:MI:SS.US); null values are not included.
+-- ValueDate is a timestamp without time zone, so the local date-time is indexed as it is, without converting it from or to any time zone.
+
+CREATE TABLE T_HU_Attribute_Index
+(
+    M_HU_ID    numeric(10, 0) NOT NULL,
+    Attributes jsonb          NOT NULL,
+    CONSTRAINT T_HU_Attribute_Index_pkey PRIMARY KEY (M_HU_ID),
+    CONSTRAINT MHU_THUAttributeIndex FOREIGN KEY (M_HU_ID) REFERENCES M_HU (M_HU_ID) ON DELETE CASCADE
+)
+;
+
+CREATE INDEX T_HU_Attribute_Index_Attributes ON T_HU_Attribute_Index USING gin (Attributes jsonb_path_ops)
+;
+
+
+
+-- One row per indexed attribute value, i.e. per index document key
+CREATE OR REPLACE VIEW T_HU_Attribute_Index_Entries_v AS
+SELECT ha.M_HU_ID, e.key, e.value
+FROM M_HU_Attribute ha,
+     LATERAL (VALUES ('s' || ha.M_Attribute_ID, to_jsonb(ha.Value)),
+                     ('n' || ha.M_Attribute_ID, to_jsonb(ha.ValueNumber)),
+                     ('d' || ha.M_Attribute_ID, to_jsonb(to_char(ha.ValueDate, 'YYYY-MM-DD"T"HH24:MI:SS.US')))) e(key, value)
+WHERE ha.IsActive = 'Y'
+  AND e.value IS NOT NULL
+;
+
+
+
+-- Updates the index entries of the given HUs, in one pass over their M_HU_Attribute records
+CREATE OR REPLACE FUNCTION T_HU_Attribute_Index_Update(p_M_HU_IDs numeric[])
+    RETURNS void
+AS
+$BODY$
+BEGIN
+    IF (p_M_HU_IDs IS NULL OR cardinality(p_M_HU_IDs) = 0) THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO T_HU_Attribute_Index (M_HU_ID, Attributes)
+    SELECT v.M_HU_ID, jsonb_object_agg(v.key, v.value)
+    FROM T_HU_Attribute_Index_Entries_v v
+    WHERE v.M_HU_ID = ANY (p_M_HU_IDs)
+    GROUP BY v.M_HU_ID
+    ON CONFLICT (M_HU_ID) DO UPDATE SET Attributes = EXCLUDED.Attributes;
+
+    DELETE
+    FROM T_HU_Attribute_Index i
+    WHERE i.M_HU_ID = ANY (p_M_HU_IDs)
+      AND NOT EXISTS(SELECT 1 FROM T_HU_Attribute_Index_Entries_v v WHERE v.M_HU_ID = i.M_HU_ID);
+END;
+$BODY$
+    LANGUAGE plpgsql VOLATILE
+;
+
+
+
+-- Rebuilds the index entry of the given HU or, if p_M_HU_ID is null, the whole index. Returns the number of indexed HUs.
+CREATE OR REPLACE FUNCTION T_HU_Attribute_Index_Rebuild(p_M_HU_ID numeric = NULL)
+    RETURNS integer
+AS
+$BODY$
+DECLARE
+    v_Count integer;
+BEGIN
+    IF (p_M_HU_ID IS NOT NULL) THEN
+        PERFORM T_HU_Attribute_Index_Update(ARRAY [p_M_HU_ID]);
+        SELECT COUNT(1) INTO v_Count FROM T_HU_Attribute_Index WHERE M_HU_ID = p_M_HU_ID;
+        RETURN v_Count;
+    END IF;
+
+    DELETE FROM T_HU_Attribute_Index;
+
+    INSERT INTO T_HU_Attribute_Index (M_HU_ID, Attributes)
+    SELECT v.M_HU_ID, jsonb_object_agg(v.key, v.value)
+    FROM T_HU_Attribute_Index_Entries_v v
+    GROUP BY v.M_HU_ID;
+
+    GET DIAGNOSTICS v_Count = ROW_COUNT;
+    RETURN v_Count;
+END;
+$BODY$
+    LANGUAGE plpgsql VOLATILE
+;
+
+
+
+-- Statement level trigger function: updates each HU touched by the statement only once, no matter how many of its attributes were changed.
+-- The transition tables are named old_table/new_table; only those which exist for the current TG_OP are accessed.
+CREATE OR REPLACE FUNCTION M_HU_Attribute_Index_Trigger()
+    RETURNS trigger
+AS
+$BODY$
+BEGIN
+    IF (TG_OP = 'INSERT') THEN
+        PERFORM T_HU_Attribute_Index_Update(ARRAY(SELECT DISTINCT n.M_HU_ID FROM new_table n));
+    ELSIF (TG_OP = 'DELETE') THEN
+        PERFORM T_HU_Attribute_Index_Update(ARRAY(SELECT DISTINCT o.M_HU_ID FROM old_table o));
+    ELSIF (TG_OP = 'UPDATE') THEN
+        -- only the HUs of the records whose indexed columns were changed
+        PERFORM T_HU_Attribute_Index_Update(ARRAY(
+                SELECT hu.M_HU_ID
+                FROM old_table o
+                         INNER JOIN new_table n ON n.M_HU_Attribute_ID = o.M_HU_Attribute_ID,
+                     LATERAL (VALUES (o.M_HU_ID), (n.M_HU_ID)) hu(M_HU_ID)
+                WHERE (n.M_HU_ID, n.M_Attribute_ID, n.Value, n.ValueNumber, n.ValueDate, n.IsActive)
+                          IS DISTINCT FROM (o.M_HU_ID, o.M_Attribute_ID, o.Value, o.ValueNumber, o.ValueDate, o.IsActive)
+                GROUP BY hu.M_HU_ID));
+    END IF;
+
+    RETURN NULL;
+END;
+$BODY$
+    LANGUAGE plpgsql VOLATILE
+;
+
+-- NOTE: triggers with transition tables can't have a column list and can't be fired by more than one event, so we need one trigger per event
+DROP TRIGGER IF EXISTS M_HU_Attribute_Index_Trigger ON M_HU_Attribute
+;
+
+DROP TRIGGER IF EXISTS M_HU_Attribute_Index_Insert_Trigger ON M_HU_Attribute
+;
+
+CREATE TRIGGER M_HU_Attribute_Index_Insert_Trigger
+    AFTER INSERT
+    ON M_HU_Attribute
+    REFERENCING NEW TABLE AS new_table
+    FOR EACH STATEMENT
+EXECUTE PROCEDURE M_HU_Attribute_Index_Trigger()
+;
+
+DROP TRIGGER IF EXISTS M_HU_Attribute_Index_Update_Trigger ON M_HU_Attribute
+;
+
+CREATE TRIGGER M_HU_Attribute_Index_Update_Trigger
+    AFTER UPDATE
+    ON M_HU_Attribute
+    REFERENCING OLD TABLE AS old_table NEW TABLE AS new_table
+    FOR EACH STATEMENT
+EXECUTE PROCEDURE M_HU_Attribute_Index_Trigger()
+;
+
+DROP TRIGGER IF EXISTS M_HU_Attribute_Index_Delete_Trigger ON M_HU_Attribute
+;
+
+CREATE TRIGGER M_HU_Attribute_Index_Delete_Trigger
+    AFTER DELETE
+    ON M_HU_Attribute
+    REFERENCING OLD TABLE AS old_table
+    FOR EACH STATEMENT
+EXECUTE PROCEDURE M_HU_Attribute_Index_Trigger()
+;
+
+
+
+SELECT T_HU_Attribute_Index_Rebuild()
+;
+
+
+
+-- 2021-02-15T10:00:00.000Z
+INSERT INTO AD_Process (AD_Client_ID,IsActive,Created,CreatedBy,Updated,IsReport,IsDirectPrint,Name,Description,AccessLevel,ShowHelp,IsBetaFunctionality,CopyFromProcess,UpdatedBy,AD_Process_ID,AllowProcessReRun,IsUseBPartnerLanguage,IsApplySecuritySettings,RefreshAllAfterExecution,IsOneInstanceOnly,LockWaitTimeout,Type,IsTranslateExcelHeaders,IsNotifyUserAfterExecution,PostgrestResponseFormat,AD_Org_ID,Value,Classname,EntityType) VALUES (0,'Y',TO_TIMESTAMP('2021-02-15 11:00:00','YYYY-MM-DD HH24:MI:SS'),100,TO_TIMESTAMP('2021-02-15 11:00:00','YYYY-MM-DD HH24:MI:SS'),'N','N','Rebuild HU attributes index','Rebuilds the denormalized HU attributes index (T_HU_Attribute_Index) which is used when filtering HUs by attributes','4','N','N','N',100,584800,'Y','N','N','N','Y',0,'Java','Y','N','json',0,'M_HU_Attribute_Index_Rebuild','de.metas.handlingunits.process.M_HU_Attribute_Index_Rebuild','de.metas.handlingunits')
+;
+
+-- 2021-02-15T10:00:00.010Z
+INSERT INTO AD_Process_Trl (AD_Language,AD_Process_ID, Name,Help,Description, IsTranslated,AD_Client_ID,AD_Org_ID,Created,Createdby,Updated,UpdatedBy) SELECT l.AD_Language, t.AD_Process_ID, t.Name,t.Help,t.Description, 'N',t.AD_Client_ID,t.AD_Org_ID,t.Created,t.Createdby,t.Updated,t.UpdatedBy FROM AD_Language l, AD_Process t WHERE l.IsActive='Y'AND (l.IsSystemLanguage='Y') AND t.AD_Process_ID=584800 AND NOT EXISTS (SELECT 1 FROM AD_Process_Trl tt WHERE tt.AD_Language=l.AD_Language AND tt.AD_Process_ID=t.AD_Process_ID)
+;
@@ -0,0 +1,34 @@
+-- Serializes the index updates per HU.
+-- Two transactions which change different attributes of the same HU don't block each other on M_HU_Attribute,
+-- but each of them would recompute the HU's document from its own snapshot and the later one would overwrite the other one's change.
+-- Now each transaction takes a transaction level advisory lock on the HU before recomputing its document.
+-- Because each statement of a plpgsql function gets a new snapshot (read committed), the recomputation then sees what the previous lock holder committed.
+-- The HUs are locked in ascending order, so that two transactions which update the same HUs can't deadlock on them.
+-- NOTE: the single bigint key space is used; it's separate from the (AD_Table_ID, Record_ID) key space of de.metas.lock.spi.impl.AdvisoryLockDatabase.
+CREATE OR REPLACE FUNCTION T_HU_Attribute_Index_Update(p_M_HU_IDs numeric[])
+    RETURNS void
+AS
+$BODY$
+BEGIN
+    IF (p_M_HU_IDs IS NULL OR cardinality(p_M_HU_IDs) = 0) THEN
+        RETURN;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(hu.M_HU_ID::bigint)
+    FROM (SELECT DISTINCT u.M_HU_ID FROM unnest(p_M_HU_IDs) u(M_HU_ID) ORDER BY u.M_HU_ID) hu;
+
+    INSERT INTO T_HU_Attribute_Index (M_HU_ID, Attributes)
+    SELECT v.M_HU_ID, jsonb_object_agg(v.key, v.value)
+    FROM T_HU_Attribute_Index_Entries_v v
+    WHERE v.M_HU_ID = ANY (p_M_HU_IDs)
+    GROUP BY v.M_HU_ID
+    ON CONFLICT (M_HU_ID) DO UPDATE SET Attributes = EXCLUDED.Attributes;
+
+    DELETE
+    FROM T_HU_Attribute_Index i
+    WHERE i.M_HU_ID = ANY (p_M_HU_IDs)
+      AND NOT EXISTS(SELECT 1 FROM T_HU_Attribute_Index_Entries_v v WHERE v.M_HU_ID = i.M_HU_ID);
+END;
+$BODY$
+    LANGUAGE plpgsql VOLATILE
+;
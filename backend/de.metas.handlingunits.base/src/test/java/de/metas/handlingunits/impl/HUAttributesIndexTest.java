@@ -0,0 +1,255 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.handlingunits.impl;
+
+import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
+import static org.adempiere.model.InterfaceWrapperHelper.saveRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.ad.dao.ICompositeQueryFilter;
+import org.adempiere.ad.dao.IQueryBL;
+import org.adempiere.ad.dao.IQueryFilter;
+import org.adempiere.mm.attributes.api.impl.AttributesTestHelper;
+import org.adempiere.service.ClientId;
+import org.adempiere.service.ISysConfigBL;
+import org.adempiere.test.AdempiereTestHelper;
+import org.compiere.model.I_M_Attribute;
+import org.compiere.model.X_M_Attribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.metas.handlingunits.model.I_M_HU;
+import de.metas.handlingunits.model.I_M_HU_Attribute;
+import de.metas.organization.OrgId;
+import de.metas.util.Services;
+
+public class HUAttributesIndexTest
+{
+	@Test
+	public void createFilter_singleValuesAreMergedIntoOneContainmentCheck()
+	{
+		final Map<String, Set<Object>> valuesByKey = new LinkedHashMap<>();
+		valuesByKey.put("s100", ImmutableSet.of("LOT-1"));
+		valuesByKey.put("n200", ImmutableSet.of(new BigDecimal("12.5")));
+		valuesByKey.put("s300", new LinkedHashSet<>(ImmutableSet.of("A", "B")));
+
+		final HUAttributesIndexQueryFilter filter = HUAttributesIndex.createFilter(valuesByKey);
+
+		assertThat(filter.getSql()).isEqualTo("M_HU.M_HU_ID IN (SELECT i.M_HU_ID FROM T_HU_Attribute_Index i WHERE"
+				+ " i.Attributes @> ?::jsonb"
+				+ " AND (i.Attributes @> ?::jsonb OR i.Attributes @> ?::jsonb))");
+		assertThat(filter.getSqlParams(null)).containsExactly(
+				"{\"s100\":\"LOT-1\",\"n200\":12.5}",
+				"{\"s300\":\"A\"}",
+				"{\"s300\":\"B\"}");
+	}
+
+	/**
+	 * The database indexes the <code>timestamp without time zone</code> ValueDate as it is, so the index value shall not depend on the JVM's time zone.
+	 */
+	@Test
+	public void toIndexValue_isTheLocalDateTime()
+	{
+		final TimeZone timeZoneBackup = TimeZone.getDefault();
+		try
+		{
+			TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+			assertThat(HUAttributesIndex.toIndexValue(Timestamp.valueOf("2021-02-15 00:30:00"))).isEqualTo("2021-02-15T00:30:00.000000");
+
+			TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+			assertThat(HUAttributesIndex.toIndexValue(Timestamp.valueOf("2021-02-15 00:30:00"))).isEqualTo("2021-02-15T00:30:00.000000");
+		}
+		finally
+		{
+			TimeZone.setDefault(timeZoneBackup);
+		}
+	}
+
+	/**
+	 * Filters HUs by their M_HU_Attribute records, once using the index and once using the M_HU_Attribute sub queries; both shall match the same HUs.
+	 */
+	@Nested
+	public class filterHUs
+	{
+		private I_M_Attribute lot;
+		private I_M_Attribute weight;
+		private I_M_Attribute bestBefore;
+
+		private I_M_HU hu1;
+		private I_M_HU hu2;
+		private I_M_HU hu3;
+
+		@BeforeEach
+		public void init()
+		{
+			AdempiereTestHelper.get().init();
+
+			final AttributesTestHelper attributesTestHelper = new AttributesTestHelper();
+			lot = attributesTestHelper.createM_Attribute("Lot", X_M_Attribute.ATTRIBUTEVALUETYPE_StringMax40, true);
+			weight = attributesTestHelper.createM_Attribute("Weight", X_M_Attribute.ATTRIBUTEVALUETYPE_Number, true);
+			bestBefore = attributesTestHelper.createM_Attribute("BestBefore", X_M_Attribute.ATTRIBUTEVALUETYPE_Date, true);
+
+			hu1 = createHU();
+			createHUAttribute(hu1, lot, "LOT-1", null, null);
+			createHUAttribute(hu1, weight, null, new BigDecimal("12.50"), null);
+			createHUAttribute(hu1, bestBefore, null, null, Timestamp.valueOf("2021-02-15 00:30:00"));
+
+			hu2 = createHU();
+			createHUAttribute(hu2, lot, "LOT-2", null, null);
+			createHUAttribute(hu2, weight, null, new BigDecimal("12.5"), null);
+			createHUAttribute(hu2, bestBefore, null, null, Timestamp.valueOf("2021-02-16 00:30:00"));
+
+			hu3 = createHU();
+			createHUAttribute(hu3, lot, "LOT-1", null, null);
+			createHUAttribute(hu3, bestBefore, null, null, Timestamp.valueOf("2021-02-15 00:30:00"));
+		}
+
+		private I_M_HU createHU()
+		{
+			final I_M_HU hu = newInstance(I_M_HU.class);
+			saveRecord(hu);
+			return hu;
+		}
+
+		private void createHUAttribute(
+				final I_M_HU hu,
+				final I_M_Attribute attribute,
+				@Nullable final String value,
+				@Nullable final BigDecimal valueNumber,
+				@Nullable final Timestamp valueDate)
+		{
+			final I_M_HU_Attribute huAttribute = newInstance(I_M_HU_Attribute.class);
+			huAttribute.setM_HU_ID(hu.getM_HU_ID());
+			huAttribute.setM_Attribute_ID(attribute.getM_Attribute_ID());
+			huAttribute.setValue(value);
+			huAttribute.setValueNumber(valueNumber);
+			huAttribute.setValueDate(valueDate);
+			saveRecord(huAttribute);
+		}
+
+		private ICompositeQueryFilter<I_M_HU> createQueryFilter(final HUQueryBuilder_Attributes attributesFilter, final boolean useAttributesIndex)
+		{
+			Services.get(ISysConfigBL.class).setValue(HUAttributesIndex.SYSCONFIG_Enabled, useAttributesIndex, ClientId.SYSTEM, OrgId.ANY);
+
+			final ICompositeQueryFilter<I_M_HU> filter = attributesFilter.createQueryFilter();
+			assertThat(containsIndexFilter(filter)).isEqualTo(useAttributesIndex);
+			return filter;
+		}
+
+		private boolean containsIndexFilter(final IQueryFilter<I_M_HU> filter)
+		{
+			if (filter instanceof HUAttributesIndexQueryFilter)
+			{
+				return true;
+			}
+			else if (filter instanceof ICompositeQueryFilter)
+			{
+				return ((ICompositeQueryFilter<I_M_HU>)filter).getFilters().stream().anyMatch(this::containsIndexFilter);
+			}
+			return false;
+		}
+
+		@ParameterizedTest
+		@ValueSource(booleans = { true, false })
+		public void byDate(final boolean useAttributesIndex)
+		{
+			final HUQueryBuilder_Attributes attributesFilter = new HUQueryBuilder_Attributes();
+			attributesFilter.addOnlyWithAttribute(bestBefore, Timestamp.valueOf("2021-02-15 00:30:00"));
+
+			final ICompositeQueryFilter<I_M_HU> filter = createQueryFilter(attributesFilter, useAttributesIndex);
+
+			assertThat(filter.accept(hu1)).isTrue();
+			assertThat(filter.accept(hu2)).isFalse();
+			assertThat(filter.accept(hu3)).isTrue();
+		}
+
+		@ParameterizedTest
+		@ValueSource(booleans = { true, false })
+		public void byStringNumberAndDate(final boolean useAttributesIndex)
+		{
+			final HUQueryBuilder_Attributes attributesFilter = new HUQueryBuilder_Attributes();
+			attributesFilter.addOnlyWithAttribute(lot, "LOT-1");
+			attributesFilter.addOnlyWithAttribute(weight, new BigDecimal("12.5"));
+			attributesFilter.addOnlyWithAttribute(bestBefore, Timestamp.valueOf("2021-02-15 00:30:00"));
+
+			final ICompositeQueryFilter<I_M_HU> filter = createQueryFilter(attributesFilter, useAttributesIndex);
+
+			assertThat(filter.accept(hu1)).isTrue();
+			assertThat(filter.accept(hu2)).isFalse();
+			assertThat(filter.accept(hu3)).as("hu3 has no weight").isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(booleans = { true, false })
+		public void byValuesList(final boolean useAttributesIndex)
+		{
+			final HUQueryBuilder_Attributes attributesFilter = new HUQueryBuilder_Attributes();
+			attributesFilter.addOnlyWithAttributeInList(bestBefore, X_M_Attribute.ATTRIBUTEVALUETYPE_Date, ImmutableList.of(
+					Timestamp.valueOf("2021-02-16 00:30:00"),
+					Timestamp.valueOf("2021-02-17 00:30:00")));
+
+			final ICompositeQueryFilter<I_M_HU> filter = createQueryFilter(attributesFilter, useAttributesIndex);
+
+			assertThat(filter.accept(hu1)).isFalse();
+			assertThat(filter.accept(hu2)).isTrue();
+			assertThat(filter.accept(hu3)).isFalse();
+		}
+
+		@ParameterizedTest
+		@ValueSource(booleans = { true, false })
+		public void inactiveAttributeIsNotMatched(final boolean useAttributesIndex)
+		{
+			final I_M_HU_Attribute hu2Lot = Services.get(IQueryBL.class).createQueryBuilder(I_M_HU_Attribute.class)
+					.addEqualsFilter(I_M_HU_Attribute.COLUMNNAME_M_HU_ID, hu2.getM_HU_ID())
+					.addEqualsFilter(I_M_HU_Attribute.COLUMNNAME_M_Attribute_ID, lot.getM_Attribute_ID())
+					.create()
+					.firstOnlyNotNull(I_M_HU_Attribute.class);
+			hu2Lot.setIsActive(false);
+			saveRecord(hu2Lot);
+
+			final HUQueryBuilder_Attributes attributesFilter = new HUQueryBuilder_Attributes();
+			attributesFilter.addOnlyWithAttributeInList(lot, X_M_Attribute.ATTRIBUTEVALUETYPE_StringMax40, ImmutableList.of("LOT-1", "LOT-2"));
+
+			final ICompositeQueryFilter<I_M_HU> filter = createQueryFilter(attributesFilter, useAttributesIndex);
+
+			assertThat(filter.accept(hu1)).isTrue();
+			assertThat(filter.accept(hu2)).isFalse();
+			assertThat(filter.accept(hu3)).isTrue();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.handlingunits.impl;
+
+import com.google.common.collect.ImmutableList;
+import de.metas.handlingunits.HuId;
+import de.metas.handlingunits.IHUContext;
+import de.metas.handlingunits.IHUContextFactory;
+import de.metas.handlingunits.IHandlingUnitsDAO;
+import de.metas.handlingunits.allocation.transfer.impl.LUTUProducerDestinationTestSupport;
+import de.metas.handlingunits.model.I_M_HU;
+import de.metas.handlingunits.model.I_M_HU_Item;
+import de.metas.util.Services;
+import org.adempiere.ad.trx.api.ITrxManager;
+import org.adempiere.model.PlainContextAware;
+import org.compiere.util.Env;
+import org.compiere.util.TrxRunnable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.adempiere.model.InterfaceWrapperHelper.newInstanceOutOfTrx;
+import static org.adempiere.model.InterfaceWrapperHelper.saveRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HUTreeLoaderTest
+{
+	private LUTUProducerDestinationTestSupport testSupport;
+	private IHandlingUnitsDAO handlingUnitsDAO;
+	private ITrxManager trxManager;
+
+	@BeforeEach
+	public void init()
+	{
+		testSupport = new LUTUProducerDestinationTestSupport();
+		handlingUnitsDAO = Services.get(IHandlingUnitsDAO.class);
+		trxManager = Services.get(ITrxManager.class);
+	}
+
+	/**
+	 * Loads an LU/TU/VHU tree and then adds one more item and one more included HU behind the caches' back.
+	 * Since the tree was loaded into the transaction level caches, the later retrievals shall not see them.
+	 */
+	@Test
+	public void retrieveHUTreesAndWarmUpCaches()
+	{
+		final I_M_HU lu = testSupport.createLU(2, 10);
+		final HuId luId = HuId.ofRepoId(lu.getM_HU_ID());
+
+		final List<I_M_HU_Item> luItems = handlingUnitsDAO.retrieveItemsNoCache(ImmutableList.of(luId));
+		final List<I_M_HU> tus = handlingUnitsDAO.retrieveIncludedHUs(lu);
+		assertThat(tus).hasSize(2); // guard
+		final I_M_HU tu = tus.get(0);
+		final List<I_M_HU> vhus = handlingUnitsDAO.retrieveIncludedHUs(tu);
+		assertThat(vhus).isNotEmpty(); // guard
+
+		trxManager.runInNewTrx((TrxRunnable)localTrxName -> {
+			final IHUContext huContext = Services.get(IHUContextFactory.class).createMutableHUContextForProcessing(PlainContextAware.newWithTrxName(Env.getCtx(), localTrxName));
+
+			final List<I_M_HU> topLevelHUs = handlingUnitsDAO.retrieveHUTreesAndWarmUpCaches(huContext, ImmutableList.of(luId));
+			assertThat(topLevelHUs).extracting(I_M_HU::getM_HU_ID).containsExactly(lu.getM_HU_ID());
+			final I_M_HU luLoaded = topLevelHUs.get(0);
+
+			createItemAndIncludedHUOutOfTrx(luLoaded, luItems.get(0));
+
+			assertThat(handlingUnitsDAO.retrieveItems(luLoaded))
+					.extracting(I_M_HU_Item::getM_HU_Item_ID)
+					.containsExactlyInAnyOrderElementsOf(luItems.stream().map(I_M_HU_Item::getM_HU_Item_ID).collect(ImmutableList.toImmutableList()));
+
+			final List<I_M_HU> tusLoaded = handlingUnitsDAO.retrieveIncludedHUs(luLoaded);
+			assertThat(tusLoaded).extracting(I_M_HU::getM_HU_ID).containsExactlyInAnyOrder(tus.get(0).getM_HU_ID(), tus.get(1).getM_HU_ID());
+
+			assertThat(handlingUnitsDAO.retrieveIncludedHUs(tusLoaded.stream().filter(hu -> hu.getM_HU_ID() == tu.getM_HU_ID()).findFirst().get()))
+					.extracting(I_M_HU::getM_HU_ID)
+					.containsExactlyInAnyOrderElementsOf(vhus.stream().map(I_M_HU::getM_HU_ID).collect(ImmutableList.toImmutableList()));
+		});
+
+		// guard: without the warmed up caches, the records which were added in the meantime are found
+		assertThat(handlingUnitsDAO.retrieveItems(lu)).hasSize(luItems.size() + 1);
+		assertThat(handlingUnitsDAO.retrieveIncludedHUs(lu)).hasSize(tus.size() + 1);
+	}
+
+	private void createItemAndIncludedHUOutOfTrx(final I_M_HU parentHU, final I_M_HU_Item parentItem)
+	{
+		final I_M_HU_Item item = newInstanceOutOfTrx(I_M_HU_Item.class);
+		item.setM_HU_ID(parentHU.getM_HU_ID());
+		item.setItemType(parentItem.getItemType());
+		saveRecord(item);
+
+		final I_M_HU includedHU = newInstanceOutOfTrx(I_M_HU.class);
+		includedHU.setM_HU_Item_Parent_ID(parentItem.getM_HU_Item_ID());
+		includedHU.setM_HU_PI_Version_ID(parentHU.getM_HU_PI_Version_ID());
+		saveRecord(includedHU);
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * de.metas.handlingunits.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.handlingunits.model;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.adempiere.ad.persistence.modelgen.ModelWrapperClassGeneratorTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class POWrapperModelsTest
+{
+	@ParameterizedTest
+	@ValueSource(classes = {
+			I_C_OrderLine.class,
+			I_M_InOutLine.class,
+			I_M_ReceiptSchedule.class,
+			I_M_ShipmentSchedule.class })
+	public void generatedClassIsUpToDate(final Class<?> interfaceClass) throws IOException
+	{
+		ModelWrapperClassGeneratorTest.assertGeneratedClassIsUpToDate(interfaceClass, new File("src/main/java-gen"));
+	}
+}
@@ -4,6 +4,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import de.metas.bpartner.BPartnerId;
 import de.metas.common.util.CoalesceUtil;
+import de.metas.common.util.time.SystemTime;
 import de.metas.document.engine.DocStatus;
 import de.metas.material.dispo.commons.candidate.Candidate;
 import de.metas.material.dispo.commons.candidate.CandidateId;
@@ -35,8 +36,10 @@ import lombok.Builder;
 import lombok.NonNull;
 import lombok.Value;
 import org.adempiere.ad.dao.ICompositeQueryFilter;
+import org.adempiere.ad.dao.ICompositeQueryUpdater;
 import org.adempiere.ad.dao.IQueryBL;
 import org.adempiere.warehouse.WarehouseId;
+import org.compiere.util.Env;
 import org.compiere.util.TimeUtil;
 import org.springframework.stereotype.Service;
 
@@ -125,6 +128,38 @@ public class CandidateRepositoryWriteService
 		return addOrUpdate(query, candidate, false);
 	}
 
+	/**
+	 * Adds the given {@code qtyDelta} to the quantity of all candidates that match the given {@code query}, using one SQL {@code UPDATE} rather than loading and saving them one by one.
+	 * If a {@code groupId} is given, the matched candidates are also assigned to that group.
+	 * <p>
+	 * Note that the model interceptors of {@code MD_Candidate} are not invoked for the updated records.
+	 *
+	 * @return the number of updated candidates
+	 */
+	public int addQtyDeltaToMatchingCandidates(
+			@NonNull final CandidatesQuery query,
+			@NonNull final BigDecimal qtyDelta,
+			@Nullable final MaterialDispoGroupId groupId)
+	{
+		final ICompositeQueryUpdater<I_MD_Candidate> updater = Services.get(IQueryBL.class)
+				.createCompositeQueryUpdater(I_MD_Candidate.class)
+				.addAddValueToColumn(I_MD_Candidate.COLUMNNAME_Qty, qtyDelta)
+				.addSetColumnValue(I_MD_Candidate.COLUMNNAME_Updated, SystemTime.asTimestamp())
+				.addSetColumnValue(I_MD_Candidate.COLUMNNAME_UpdatedBy, Env.getAD_User_ID());
+		if (groupId != null)
+		{
+			updater.addSetColumnValue(I_MD_Candidate.COLUMNNAME_MD_Candidate_GroupId, groupId.toInt());
+		}
+
+		final int updatedCount = RepositoryCommons
+				.mkQueryBuilder(query)
+				.create()
+				.updateDirectly(updater);
+
+		Loggables.addLog("Added qtyDelta={} to {} MD_Candidate records; query={}", qtyDelta, updatedCount, query);
+		return updatedCount;
+	}
+
 	@Value
 	@Builder
 	public static class SaveResult
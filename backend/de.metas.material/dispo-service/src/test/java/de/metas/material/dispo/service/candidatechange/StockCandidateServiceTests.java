@@ -388,6 +388,38 @@ public class StockCandidateServiceTests
 		assertThat(records).allSatisfy(r -> assertThatModel(r).hasNonNullValue(I_MD_Candidate.COLUMN_MD_Candidate_GroupId, groupId));
 	}
 
+	@Test
+	void applyDeltaToMatchingLaterStockCandidates_updates_only_later_candidates()
+	{
+		invokeStockCandidateService(t1, "10"); // (t1 => 10)
+		invokeStockCandidateService(t3, "-3"); // (t1 => 10), (t3 => 7)
+		invokeStockCandidateService(t4, "2");  // (t1 => 10), (t3 => 7), (t4 => 9)
+
+		assertThat(DispoTestUtils.filter(CandidateType.STOCK)).hasSize(3); // guard
+
+		final MaterialDescriptor materialDescriptor = MaterialDescriptor.builder()
+				.productDescriptor(createProductDescriptor())
+				.warehouseId(WAREHOUSE_ID)
+				.quantity(new BigDecimal("5"))
+				.date(t2)
+				.build();
+		final Candidate candidateWithDelta = Candidate.builder()
+				.type(CandidateType.STOCK)
+				.clientAndOrgId(CLIENT_AND_ORG_ID)
+				.materialDescriptor(materialDescriptor)
+				.build();
+
+		// invoke the method under test
+		stockCandidateService
+				.applyDeltaToMatchingLaterStockCandidates(SaveResult.builder().candidate(candidateWithDelta).build());
+
+		// expecting (t1 => 10), (t3 => 12), (t4 => 14)
+		final List<I_MD_Candidate> records = DispoTestUtils.sortByDateProjected(DispoTestUtils.filter(CandidateType.STOCK));
+		assertDateAndQty(records.get(0), t1, "10");
+		assertDateAndQty(records.get(1), t3, "12");
+		assertDateAndQty(records.get(2), t4, "14");
+	}
+
 	@Test
 	void addOrUpdateStock_move_backwards()
 	{
@@ -0,0 +1,79 @@
+package de.metas.material.event.eventbus;
+
+import org.adempiere.util.jmx.IJMXNameAware;
+
+import lombok.NonNull;
+
+/*
+ * #%L
+ * metasfresh-material-event
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+final class JMXMaterialEventLanesDispatcher implements MaterialEventLanesDispatcherMBean, IJMXNameAware
+{
+	private final MaterialEventLanesDispatcher dispatcher;
+
+	JMXMaterialEventLanesDispatcher(@NonNull final MaterialEventLanesDispatcher dispatcher)
+	{
+		this.dispatcher = dispatcher;
+	}
+
+	@Override
+	public String getJMXName()
+	{
+		return MaterialEventLanesDispatcher.class.getName() + ":type=" + MaterialEventLanesDispatcher.class.getSimpleName();
+	}
+
+	@Override
+	public int getLaneCount()
+	{
+		return dispatcher.getLaneCount();
+	}
+
+	@Override
+	public long getCountHandledDirectly()
+	{
+		return dispatcher.getCountHandledDirectly();
+	}
+
+	@Override
+	public long getHandlerDurationAvgMillis()
+	{
+		return dispatcher.getHandlerDurationAvgMillis();
+	}
+
+	@Override
+	public long getHandlerDurationMaxMillis()
+	{
+		return dispatcher.getHandlerDurationMaxMillis();
+	}
+
+	@Override
+	public String[] getLaneInfos()
+	{
+		return dispatcher.getLaneInfos().toArray(new String[0]);
+	}
+
+	@Override
+	public void resetStatistics()
+	{
+		dispatcher.resetStatistics();
+	}
+}
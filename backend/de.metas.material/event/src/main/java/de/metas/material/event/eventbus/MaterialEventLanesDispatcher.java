@@ -0,0 +1,502 @@
+package de.metas.material.event.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.util.jmx.JMXRegistry;
+import org.adempiere.util.jmx.JMXRegistry.OnJMXAlreadyExistsPolicy;
+import org.adempiere.warehouse.WarehouseId;
+import org.compiere.Adempiere;
+import org.compiere.SpringContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.MDC.MDCCloseable;
+
+import com.google.common.collect.ImmutableList;
+
+import de.metas.event.Event;
+import de.metas.event.impl.EventMDC;
+import de.metas.event.log.EventLogEntryCollector;
+import de.metas.event.log.EventLogUserService;
+import de.metas.logging.LogManager;
+import de.metas.material.event.MaterialEvent;
+import de.metas.material.event.attributes.AttributesChangedEvent;
+import de.metas.material.event.commons.MaterialDescriptor;
+import de.metas.material.event.receiptschedule.AbstractReceiptScheduleEvent;
+import de.metas.material.event.shipmentschedule.AbstractShipmentScheduleEvent;
+import de.metas.material.event.stock.StockChangedEvent;
+import de.metas.material.event.supplyrequired.SupplyRequiredEvent;
+import de.metas.material.event.transactions.AbstractTransactionEvent;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/*
+ * #%L
+ * metasfresh-material-event
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+/**
+ * Dispatches material events to a fixed number of ordered lanes, so that events about unrelated products and warehouses can be handled in parallel.
+ * <ul>
+ * <li>Events which are about exactly one product and warehouse are hashed by that key onto one lane. Each lane has its own thread and handles its events in the order they were dispatched.
+ * <li>All other events (e.g. PP_Order or DD_Order events, which are about multiple products) are handled on the calling thread, after all lanes were drained.
+ * That way they are still ordered with respect to any event that was dispatched before or after them.
+ * </ul>
+ * With one lane (or less), all events are handled directly on the calling thread, just like without this dispatcher.
+ * <p>
+ * A lane thread handles each event within the event's own event log context, like the event bus does, and records failures in the event log,
+ * so that failed events can be looked up and reprocessed. Call {@link #shutdown()} to stop the lanes.
+ */
+public final class MaterialEventLanesDispatcher
+{
+	private static final Logger logger = LogManager.getLogger(MaterialEventLanesDispatcher.class);
+
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+	private final Class<?> eventHandlerClass;
+	private final ImmutableList<Lane> lanes;
+	private final ImmutableList<Thread> laneThreads;
+	private volatile boolean shutdown = false;
+
+	private final LongAdder countHandledDirectly = new LongAdder();
+	private final LongAdder handlerDurationMillisSum = new LongAdder();
+	private final LongAdder handlerDurationCount = new LongAdder();
+	private final LongAccumulator handlerDurationMillisMax = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * @param eventHandlerClass the class which is recorded in the event log when handling an event on a lane failed
+	 */
+	public MaterialEventLanesDispatcher(final int laneCount, @NonNull final Class<?> eventHandlerClass)
+	{
+		this.eventHandlerClass = eventHandlerClass;
+
+		final ImmutableList.Builder<Lane> lanes = ImmutableList.builder();
+		for (int laneIndex = 0; laneIndex < laneCount && laneCount > 1; laneIndex++)
+		{
+			lanes.add(new Lane(laneIndex));
+		}
+		this.lanes = lanes.build();
+
+		final ImmutableList.Builder<Thread> laneThreads = ImmutableList.builder();
+		for (final Lane lane : this.lanes)
+		{
+			final Thread thread = new Thread(lane, MaterialEventLanesDispatcher.class.getSimpleName() + "-lane-" + lane.getIndex());
+			thread.setDaemon(true);
+			thread.start();
+			laneThreads.add(thread);
+		}
+		this.laneThreads = laneThreads.build();
+
+		if (!this.lanes.isEmpty())
+		{
+			JMXRegistry.get().registerJMX(new JMXMaterialEventLanesDispatcher(this), OnJMXAlreadyExistsPolicy.Replace);
+		}
+		logger.info("Created {}", this);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MaterialEventLanesDispatcher.class.getSimpleName() + "[laneCount=" + lanes.size() + "]";
+	}
+
+	/**
+	 * @param eventBusEvent      the event bus event from which the given {@code event} was converted; its event log context is carried over to the lane thread
+	 * @param handlerInvocation invokes the handlers for the given event; called either on one of the lane threads or on the current thread.
+	 *                          When called on the current thread, exceptions are propagated to the caller.
+	 */
+	public void dispatch(
+			@NonNull final MaterialEvent event,
+			@NonNull final Event eventBusEvent,
+			@NonNull final Runnable handlerInvocation)
+	{
+		final LaneKey laneKey = !lanes.isEmpty() && !shutdown ? LaneKey.ofEventOrNull(event) : null;
+		if (laneKey == null)
+		{
+			awaitLanesDrained();
+
+			countHandledDirectly.increment();
+			invokeAndRecordDuration(handlerInvocation);
+			return;
+		}
+
+		final Lane lane = lanes.get(Math.floorMod(laneKey.hashCode(), lanes.size()));
+		lane.enqueue(LaneTask.builder()
+				.event(event)
+				.eventBusEvent(eventBusEvent)
+				.handlerInvocation(handlerInvocation)
+				.build());
+	}
+
+	private void awaitLanesDrained()
+	{
+		if (lanes.isEmpty() || shutdown)
+		{
+			return;
+		}
+
+		final CountDownLatch drained = new CountDownLatch(lanes.size());
+		for (final Lane lane : lanes)
+		{
+			lane.enqueue(LaneTask.builder()
+					.handlerInvocation(drained::countDown)
+					.build());
+		}
+
+		try
+		{
+			drained.await();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new AdempiereException("Interrupted while waiting for the material event lanes to drain", e);
+		}
+	}
+
+	private void invokeAndRecordDuration(@NonNull final Runnable handlerInvocation)
+	{
+		final long startNanos = System.nanoTime();
+		try
+		{
+			handlerInvocation.run();
+		}
+		finally
+		{
+			final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+			handlerDurationMillisSum.add(durationMillis);
+			handlerDurationCount.increment();
+			handlerDurationMillisMax.accumulate(durationMillis);
+		}
+	}
+
+	/**
+	 * Lets the lanes handle the events which were already dispatched to them and stops them.
+	 * Events which are dispatched afterwards are handled directly on the calling thread.
+	 */
+	public void shutdown()
+	{
+		if (shutdown)
+		{
+			return;
+		}
+		shutdown = true;
+		lanes.forEach(lane -> lane.enqueue(LaneTask.builder()
+				.handlerInvocation(lane::stop)
+				.build()));
+
+		final long deadlineMillis = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+		for (final Thread laneThread : laneThreads)
+		{
+			try
+			{
+				laneThread.join(Math.max(1, deadlineMillis - System.currentTimeMillis()));
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			if (laneThread.isAlive())
+			{
+				logger.warn("{} did not stop within {}ms; interrupting it", laneThread.getName(), SHUTDOWN_TIMEOUT_MILLIS);
+				laneThread.interrupt();
+			}
+		}
+		logger.info("Stopped {}", this);
+	}
+
+	public int getLaneCount()
+	{
+		return lanes.size();
+	}
+
+	public long getCountHandledDirectly()
+	{
+		return countHandledDirectly.sum();
+	}
+
+	public long getHandlerDurationAvgMillis()
+	{
+		final long count = handlerDurationCount.sum();
+		return count > 0 ? handlerDurationMillisSum.sum() / count : 0;
+	}
+
+	public long getHandlerDurationMaxMillis()
+	{
+		return handlerDurationMillisMax.get();
+	}
+
+	/**
+	 * @return one line per lane with its depth (number of queued events), the age of its oldest queued event and the number of events it handled so far
+	 */
+	public List<String> getLaneInfos()
+	{
+		final long now = System.currentTimeMillis();
+		final List<String> laneInfos = new ArrayList<>(lanes.size());
+		for (final Lane lane : lanes)
+		{
+			laneInfos.add("lane-" + lane.getIndex()
+					+ ": depth=" + lane.getDepth()
+					+ ", backlogAgeMillis=" + lane.getBacklogAgeMillis(now)
+					+ ", handled=" + lane.getCountHandled());
+		}
+		return laneInfos;
+	}
+
+	public void resetStatistics()
+	{
+		countHandledDirectly.reset();
+		handlerDurationMillisSum.reset();
+		handlerDurationCount.reset();
+		handlerDurationMillisMax.reset();
+		lanes.forEach(Lane::resetStatistics);
+	}
+
+	/**
+	 * Events with the same key are handled on the same lane, in the order they were dispatched.
+	 */
+	@Value
+	private static class LaneKey
+	{
+		int productId;
+		WarehouseId warehouseId;
+
+		@Nullable
+		private static LaneKey ofEventOrNull(@NonNull final MaterialEvent event)
+		{
+			if (event instanceof AbstractShipmentScheduleEvent)
+			{
+				return ofMaterialDescriptorOrNull(((AbstractShipmentScheduleEvent)event).getMaterialDescriptor());
+			}
+			else if (event instanceof AbstractReceiptScheduleEvent)
+			{
+				return ofMaterialDescriptorOrNull(((AbstractReceiptScheduleEvent)event).getMaterialDescriptor());
+			}
+			else if (event instanceof AbstractTransactionEvent)
+			{
+				return ofMaterialDescriptorOrNull(((AbstractTransactionEvent)event).getMaterialDescriptor());
+			}
+			else if (event instanceof SupplyRequiredEvent)
+			{
+				return ofMaterialDescriptorOrNull(((SupplyRequiredEvent)event).getSupplyRequiredDescriptor().getMaterialDescriptor());
+			}
+			else if (event instanceof StockChangedEvent)
+			{
+				final StockChangedEvent stockChangedEvent = (StockChangedEvent)event;
+				return stockChangedEvent.getProductDescriptor() != null
+						? ofProductAndWarehouseOrNull(stockChangedEvent.getProductDescriptor().getProductId(), stockChangedEvent.getWarehouseId())
+						: null;
+			}
+			else if (event instanceof AttributesChangedEvent)
+			{
+				final AttributesChangedEvent attributesChangedEvent = (AttributesChangedEvent)event;
+				return ofProductAndWarehouseOrNull(attributesChangedEvent.getProductId(), attributesChangedEvent.getWarehouseId());
+			}
+			else
+			{
+				return null;
+			}
+		}
+
+		@Nullable
+		private static LaneKey ofMaterialDescriptorOrNull(@Nullable final MaterialDescriptor materialDescriptor)
+		{
+			return materialDescriptor != null
+					? ofProductAndWarehouseOrNull(materialDescriptor.getProductId(), materialDescriptor.getWarehouseId())
+					: null;
+		}
+
+		@Nullable
+		private static LaneKey ofProductAndWarehouseOrNull(final int productId, @Nullable final WarehouseId warehouseId)
+		{
+			return productId > 0 && warehouseId != null
+					? new LaneKey(productId, warehouseId)
+					: null;
+		}
+	}
+
+	@Value
+	private static class LaneTask
+	{
+		/** null for internal tasks, like the ones which are used to drain or stop the lanes */
+		@Nullable
+		MaterialEvent event;
+
+		@Nullable
+		Event eventBusEvent;
+
+		Runnable handlerInvocation;
+
+		long enqueuedMillis;
+
+		@Builder
+		private LaneTask(
+				@Nullable final MaterialEvent event,
+				@Nullable final Event eventBusEvent,
+				@NonNull final Runnable handlerInvocation)
+		{
+			this.event = event;
+			this.eventBusEvent = eventBusEvent;
+			this.handlerInvocation = handlerInvocation;
+			this.enqueuedMillis = System.currentTimeMillis();
+		}
+	}
+
+	private final class Lane implements Runnable
+	{
+		private final int index;
+		private final LinkedBlockingQueue<LaneTask> queue = new LinkedBlockingQueue<>();
+		private final LongAdder countHandled = new LongAdder();
+		private volatile boolean stopped = false;
+
+		private Lane(final int index)
+		{
+			this.index = index;
+		}
+
+		public int getIndex()
+		{
+			return index;
+		}
+
+		public void enqueue(@NonNull final LaneTask task)
+		{
+			queue.add(task);
+		}
+
+		public int getDepth()
+		{
+			return queue.size();
+		}
+
+		public long getBacklogAgeMillis(final long now)
+		{
+			final LaneTask oldestTask = queue.peek();
+			return oldestTask != null ? now - oldestTask.getEnqueuedMillis() : 0;
+		}
+
+		public long getCountHandled()
+		{
+			return countHandled.sum();
+		}
+
+		public void resetStatistics()
+		{
+			countHandled.reset();
+		}
+
+		private void stop()
+		{
+			stopped = true;
+		}
+
+		@Override
+		public void run()
+		{
+			while (!stopped)
+			{
+				final LaneTask task;
+				try
+				{
+					task = queue.take();
+				}
+				catch (final InterruptedException e)
+				{
+					logger.info("Lane {} was interrupted; stopping it", index);
+					Thread.currentThread().interrupt();
+					return;
+				}
+
+				if (task.getEvent() == null)
+				{
+					task.getHandlerInvocation().run();
+					continue;
+				}
+
+				try
+				{
+					handle(task);
+				}
+				finally
+				{
+					countHandled.increment();
+				}
+			}
+
+			// tasks which were enqueued while stopping; e.g. drain tasks which some thread is waiting for
+			for (LaneTask task = queue.poll(); task != null; task = queue.poll())
+			{
+				task.getHandlerInvocation().run();
+			}
+			logger.info("Lane {} stopped", index);
+		}
+
+		/**
+		 * Handles the given task within its event's event log context, like the event bus does when it invokes a listener on its own thread.
+		 */
+		private void handle(@NonNull final LaneTask task)
+		{
+			final Event eventBusEvent = task.getEventBusEvent();
+			if (eventBusEvent == null || !eventBusEvent.isWasLogged())
+			{
+				try
+				{
+					invokeAndRecordDuration(task.getHandlerInvocation());
+				}
+				catch (final Exception e)
+				{
+					// don't let one failing event stop the whole lane
+					logger.error("Lane {} failed handling {}", index, task.getEvent(), e);
+				}
+				return;
+			}
+
+			try (final MDCCloseable ignored = EventMDC.putEvent(eventBusEvent);
+					final EventLogEntryCollector ignored1 = EventLogEntryCollector.createThreadLocalForEvent(eventBusEvent))
+			{
+				try
+				{
+					invokeAndRecordDuration(task.getHandlerInvocation());
+				}
+				catch (final RuntimeException e)
+				{
+					// don't let one failing event stop the whole lane;
+					// record the error within the collector, which stores it in the event log when closed
+					logger.error("Lane {} failed handling {}", index, task.getEvent(), e);
+					if (!Adempiere.isUnitTestMode())
+					{
+						SpringContextHolder.instance.getBean(EventLogUserService.class)
+								.newErrorLogEntry(eventHandlerClass, e)
+								.createAndStore();
+					}
+				}
+			}
+		}
+	}
+}
@@ -9,6 +9,7 @@ import de.metas.material.event.MaterialEventHandlerRegistry;
 import de.metas.util.Services;
 import lombok.NonNull;
 import org.adempiere.ad.trx.api.ITrxManager;
+import org.adempiere.service.ISysConfigBL;
 import org.adempiere.util.lang.IAutoCloseable;
 import org.compiere.Adempiere;
 import org.compiere.util.Env;
@@ -18,6 +19,7 @@ import org.slf4j.MDC.MDCCloseable;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.util.Properties;
 
 /*
@@ -48,22 +50,36 @@ public class MetasfreshEventListener
 {
 	private static final Logger logger = LogManager.getLogger(MetasfreshEventListener.class);
 
+	/**
+	 * Number of lanes on which material events are handled in parallel, see {@link MaterialEventLanesDispatcher}.
+	 * With 1 (the default) all events are handled directly on the event bus listener thread.
+	 */
+	private static final String SYSCONFIG_LaneCount = "de.metas.material.event.MaterialEventLanesDispatcher.LaneCount";
+	private static final int DEFAULT_LaneCount = 1;
+
 	private final MaterialEventHandlerRegistry materialEventHandlerRegistry;
 
 	private final MetasfreshEventBusService metasfreshEventBusService;
 
 	private final MaterialEventConverter materialEventConverter;
 
+	private final MaterialEventLanesDispatcher dispatcher;
+
 	private final IEventListener internalListener = new IEventListener()
 	{
 		@Override
 		public void onEvent(@NonNull final IEventBus eventBus, @NonNull final Event event)
 		{
 			final MaterialEvent lightWeightEvent = materialEventConverter.toMaterialEvent(event);
+			logger.info("Received MaterialEvent={}", lightWeightEvent);
+
+			dispatcher.dispatch(lightWeightEvent, event, () -> invokeListener(lightWeightEvent));
+		}
+
+		private void invokeListener(@NonNull final MaterialEvent lightWeightEvent)
+		{
 			try (final MDCCloseable ignored = MDC.putCloseable("MaterialEventClass", lightWeightEvent.getClass().getName()))
 			{
-				logger.info("Received MaterialEvent={}", lightWeightEvent);
-
 				// make sure that every record we create has the correct AD_Client_ID and AD_Org_ID
 				final Properties temporaryCtx = Env.copyCtx(Env.getCtx());
 
@@ -100,6 +116,15 @@ public class MetasfreshEventListener
 		this.materialEventHandlerRegistry = materialEventHandlerRegistry;
 		this.metasfreshEventBusService = metasfreshEventBusService;
 
+		final int laneCount = Services.get(ISysConfigBL.class).getIntValue(SYSCONFIG_LaneCount, DEFAULT_LaneCount);
+		this.dispatcher = new MaterialEventLanesDispatcher(laneCount, internalListener.getClass());
+
 		this.metasfreshEventBusService.subscribe(internalListener);
 	}
+
+	@PreDestroy
+	public void shutdown()
+	{
+		dispatcher.shutdown();
+	}
 }
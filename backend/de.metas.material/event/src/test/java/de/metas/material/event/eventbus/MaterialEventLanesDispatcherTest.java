@@ -0,0 +1,130 @@
+package de.metas.material.event.eventbus;
+
+import static de.metas.material.event.EventTestHelper.CLIENT_AND_ORG_ID;
+import static de.metas.material.event.EventTestHelper.WAREHOUSE_ID;
+import static de.metas.material.event.EventTestHelper.createProductDescriptorWithProductId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+
+import de.metas.event.Event;
+import de.metas.material.event.MaterialEvent;
+import de.metas.material.event.commons.EventDescriptor;
+import de.metas.material.event.stock.StockChangedEvent;
+
+/*
+ * #%L
+ * metasfresh-material-event
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class MaterialEventLanesDispatcherTest
+{
+	private static final Event EVENT_BUS_EVENT = Event.builder().wasLogged().build();
+
+	@Test
+	public void keyedEventsAreOrderedPerKey_and_unkeyedEventsWaitForAllLanes()
+	{
+		final MaterialEventLanesDispatcher dispatcher = new MaterialEventLanesDispatcher(4, MaterialEventLanesDispatcherTest.class);
+
+		final ListMultimap<Integer, Integer> productId2handledSeqNos = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
+		final AtomicInteger countHandled = new AtomicInteger();
+
+		final int eventsCount = 200;
+		for (int seqNo = 0; seqNo < eventsCount; seqNo++)
+		{
+			final int productId = 1 + seqNo % 10;
+			final int seqNoFinal = seqNo;
+			dispatcher.dispatch(createStockChangedEvent(productId), EVENT_BUS_EVENT, () -> {
+				productId2handledSeqNos.put(productId, seqNoFinal);
+				countHandled.incrementAndGet();
+			});
+		}
+
+		// an event without product and warehouse is handled on the current thread, after everything dispatched before it
+		final List<Integer> countHandledBeforeUnkeyedEvent = new ArrayList<>();
+		final MaterialEvent unkeyedEvent = () -> EventDescriptor.ofClientAndOrg(CLIENT_AND_ORG_ID);
+		dispatcher.dispatch(unkeyedEvent, EVENT_BUS_EVENT, () -> countHandledBeforeUnkeyedEvent.add(countHandled.get()));
+
+		assertThat(countHandledBeforeUnkeyedEvent).containsExactly(eventsCount);
+		assertThat(dispatcher.getCountHandledDirectly()).isEqualTo(1);
+		assertThat(productId2handledSeqNos.keySet()).hasSize(10);
+		for (final Integer productId : productId2handledSeqNos.keySet())
+		{
+			assertThat(productId2handledSeqNos.get(productId)).isSorted().hasSize(eventsCount / 10);
+		}
+		assertThat(dispatcher.getLaneInfos()).hasSize(4);
+	}
+
+	@Test
+	public void singleLane_handlesDirectly()
+	{
+		final MaterialEventLanesDispatcher dispatcher = new MaterialEventLanesDispatcher(1, MaterialEventLanesDispatcherTest.class);
+
+		final Thread currentThread = Thread.currentThread();
+		final List<Thread> handlerThreads = new ArrayList<>();
+		dispatcher.dispatch(createStockChangedEvent(1), EVENT_BUS_EVENT, () -> handlerThreads.add(Thread.currentThread()));
+
+		assertThat(handlerThreads).containsExactly(currentThread);
+		assertThat(dispatcher.getLaneCount()).isZero();
+	}
+
+	@Test
+	public void failingEvent_doesNotStopTheLane_and_shutdownDrainsTheLanes()
+	{
+		final MaterialEventLanesDispatcher dispatcher = new MaterialEventLanesDispatcher(2, MaterialEventLanesDispatcherTest.class);
+
+		final List<Integer> handledProductIds = Collections.synchronizedList(new ArrayList<>());
+		dispatcher.dispatch(createStockChangedEvent(1), EVENT_BUS_EVENT, () -> {
+			throw new RuntimeException("test");
+		});
+		dispatcher.dispatch(createStockChangedEvent(1), EVENT_BUS_EVENT, () -> handledProductIds.add(1));
+		dispatcher.dispatch(createStockChangedEvent(2), EVENT_BUS_EVENT, () -> handledProductIds.add(2));
+
+		dispatcher.shutdown();
+		assertThat(handledProductIds).containsExactlyInAnyOrder(1, 2);
+
+		// after the shutdown, events are handled on the current thread
+		final Thread currentThread = Thread.currentThread();
+		final List<Thread> handlerThreads = new ArrayList<>();
+		dispatcher.dispatch(createStockChangedEvent(3), EVENT_BUS_EVENT, () -> handlerThreads.add(Thread.currentThread()));
+		assertThat(handlerThreads).containsExactly(currentThread);
+	}
+
+	private static StockChangedEvent createStockChangedEvent(final int productId)
+	{
+		return StockChangedEvent.builder()
+				.eventDescriptor(EventDescriptor.ofClientAndOrg(CLIENT_AND_ORG_ID))
+				.productDescriptor(createProductDescriptorWithProductId(productId))
+				.warehouseId(WAREHOUSE_ID)
+				.qtyOnHand(BigDecimal.TEN)
+				.qtyOnHandOld(BigDecimal.ONE)
+				.build();
+	}
+}
@@ -0,0 +1,120 @@
+package de.metas.report.jasper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+import de.metas.logging.LogManager;
+import lombok.NonNull;
+import net.sf.jasperreports.engine.DefaultJasperReportsContext;
+import net.sf.jasperreports.engine.JasperReportsContext;
+import net.sf.jasperreports.engine.SimpleJasperReportsContext;
+import net.sf.jasperreports.repo.PersistenceService;
+import net.sf.jasperreports.repo.PersistenceServiceFactory;
+import net.sf.jasperreports.repo.ReportResource;
+import net.sf.jasperreports.repo.RepositoryService;
+import net.sf.jasperreports.repo.Resource;
+import net.sf.jasperreports.repo.SerializedReportPersistenceService;
+import net.sf.jasperreports.repo.StreamRepositoryService;
+
+/*
+ * #%L
+ * metasfresh-report-service
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+/**
+ * Loads the compiled (sub)reports which jasper is fetching from its repository through {@link JasperReportsCache#getSubreport(InputStream)},
+ * so that jasper is not deserializing the same subreports again for each report it's filling.
+ */
+/* package */final class CachingReportPersistenceService implements PersistenceServiceFactory, PersistenceService
+{
+	private static final transient Logger logger = LogManager.getLogger(CachingReportPersistenceService.class);
+
+	/**
+	 * @return jasper context which is using this service in front of jasper's default persistence services
+	 */
+	public static JasperReportsContext newJasperReportsContext()
+	{
+		final List<PersistenceServiceFactory> persistenceServiceFactories = new ArrayList<>();
+		persistenceServiceFactories.add(new CachingReportPersistenceService());
+		persistenceServiceFactories.addAll(DefaultJasperReportsContext.getInstance().getExtensions(PersistenceServiceFactory.class));
+
+		final SimpleJasperReportsContext jasperReportsContext = new SimpleJasperReportsContext();
+		jasperReportsContext.setExtensions(PersistenceServiceFactory.class, persistenceServiceFactories);
+		return jasperReportsContext;
+	}
+
+	private final SerializedReportPersistenceService serializedReportPersistenceService = new SerializedReportPersistenceService();
+
+	private CachingReportPersistenceService()
+	{
+	}
+
+	@Override
+	public <K extends RepositoryService> PersistenceService getPersistenceService(
+			final JasperReportsContext jasperReportsContext,
+			final Class<K> repositoryServiceType,
+			final Class<? extends Resource> resourceType)
+	{
+		if (ReportResource.class.equals(resourceType)
+				&& StreamRepositoryService.class.isAssignableFrom(repositoryServiceType))
+		{
+			return this;
+		}
+		return null;
+	}
+
+	@Override
+	public Resource load(final String uri, @NonNull final RepositoryService repositoryService)
+	{
+		final InputStream in = ((StreamRepositoryService)repositoryService).getInputStream(uri);
+		if (in == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			final ReportResource resource = new ReportResource();
+			resource.setReport(JasperReportsCache.getInstance().getSubreport(in));
+			return resource;
+		}
+		finally
+		{
+			try
+			{
+				in.close();
+			}
+			catch (final IOException ex)
+			{
+				logger.debug("Failed closing the stream of {}. Ignored.", uri, ex);
+			}
+		}
+	}
+
+	@Override
+	public void save(final Resource resource, final String uri, final RepositoryService repositoryService)
+	{
+		serializedReportPersistenceService.save(resource, uri, repositoryService);
+	}
+}
@@ -0,0 +1,141 @@
+package de.metas.report.jasper;
+
+import org.adempiere.util.jmx.IJMXNameAware;
+
+import lombok.NonNull;
+
+/*
+ * #%L
+ * metasfresh-report-service
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+class JMXJasperReportsCache implements JMXJasperReportsCacheMBean, IJMXNameAware
+{
+	private final JasperReportsCache cache;
+	private final String jmxName;
+
+	JMXJasperReportsCache(@NonNull final JasperReportsCache cache)
+	{
+		this.cache = cache;
+		this.jmxName = JasperReportsCache.class.getPackage().getName() + ":type=" + JasperReportsCache.class.getSimpleName();
+	}
+
+	@Override
+	public String getJMXName()
+	{
+		return jmxName;
+	}
+
+	@Override
+	public long getReportsCount()
+	{
+		return cache.getReportsCount();
+	}
+
+	@Override
+	public long getReportsLookups()
+	{
+		return cache.getReportsCounters().getLookups();
+	}
+
+	@Override
+	public long getReportsLoads()
+	{
+		return cache.getReportsCounters().getLoads();
+	}
+
+	@Override
+	public double getReportsHitRatePercent()
+	{
+		return cache.getReportsCounters().getHitRatePercent();
+	}
+
+	@Override
+	public double getReportsAverageLoadTimeMillis()
+	{
+		return cache.getReportsCounters().getAverageLoadTimeMillis();
+	}
+
+	@Override
+	public long getSubreportsCount()
+	{
+		return cache.getSubreportsCount();
+	}
+
+	@Override
+	public long getSubreportsLookups()
+	{
+		return cache.getSubreportsCounters().getLookups();
+	}
+
+	@Override
+	public long getSubreportsLoads()
+	{
+		return cache.getSubreportsCounters().getLoads();
+	}
+
+	@Override
+	public double getSubreportsHitRatePercent()
+	{
+		return cache.getSubreportsCounters().getHitRatePercent();
+	}
+
+	@Override
+	public double getSubreportsAverageLoadTimeMillis()
+	{
+		return cache.getSubreportsCounters().getAverageLoadTimeMillis();
+	}
+
+	@Override
+	public long getResourceBundlesCount()
+	{
+		return cache.getResourceBundlesCount();
+	}
+
+	@Override
+	public long getResourceBundlesLookups()
+	{
+		return cache.getResourceBundlesCounters().getLookups();
+	}
+
+	@Override
+	public long getResourceBundlesLoads()
+	{
+		return cache.getResourceBundlesCounters().getLoads();
+	}
+
+	@Override
+	public double getResourceBundlesHitRatePercent()
+	{
+		return cache.getResourceBundlesCounters().getHitRatePercent();
+	}
+
+	@Override
+	public void reset()
+	{
+		cache.reset();
+	}
+
+	@Override
+	public void resetStatistics()
+	{
+		cache.resetStatistics();
+	}
+}
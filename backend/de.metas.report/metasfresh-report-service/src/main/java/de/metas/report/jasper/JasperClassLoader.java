@@ -116,6 +116,14 @@ public final class JasperClassLoader extends ClassLoader
 				// org.apache.commons.vfs2.FileSystemException: Could not replicate "file:///opt/metasfresh/metasfresh-server.jar!/lib/spring-beans-4.2.5.RELEASE.jar" as it does not exist.
 				return null;
 			}
+
+			// Serve the compiled (sub)reports from cache, because jasper is fetching them again and again for each report.
+			// NOTE: returns null if the report does not exist.
+			if (name.trim().endsWith(".jasper"))
+			{
+				return JasperReportsCache.getInstance().toCachingSubreportURLOrNull(url);
+			}
+
 			return url;
 		}
 		// Task FRESH-517
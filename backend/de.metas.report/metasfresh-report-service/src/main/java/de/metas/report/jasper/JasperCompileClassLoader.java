@@ -72,7 +72,12 @@ public class JasperCompileClassLoader extends ClassLoader
 	private static final String xlsExtension = ".xls";
 
 	private final ImmutableSet<File> additionalResourceDirNames;
-	private final Map<String, Optional<JasperEntry>> jasperEntriesByJrxmlPath = new ConcurrentHashMap<>();
+
+	/**
+	 * Compiled reports, shared between class loader instances, because we create a new class loader for each report request.
+	 * An entry is recompiled when its JRXML file was changed.
+	 */
+	private static final Map<File, JasperEntry> jasperEntriesByJrxmlFile = new ConcurrentHashMap<>();
 
 	@Builder
 	private JasperCompileClassLoader(
@@ -129,7 +134,7 @@ public class JasperCompileClassLoader extends ClassLoader
 			return null;
 		}
 
-		return jasperEntriesByJrxmlPath.computeIfAbsent(jrxmlPath, this::computeJasperEntry)
+		return computeJasperEntry(jrxmlPath)
 				.map(JasperEntry::getJasperUrl)
 				.orElse(null);
 	}
@@ -157,13 +162,16 @@ public class JasperCompileClassLoader extends ClassLoader
 		}
 
 		final File jrxmlFile = toLocalFile(jrxmlUrl);
-		final File jasperFile = compileJrxml(jrxmlFile);
-		logger.trace("Compiled jasper report: {} <- {}", jasperFile, jrxmlFile);
+		final JasperEntry jasperEntry = jasperEntriesByJrxmlFile.compute(jrxmlFile, (file, existingEntry) -> {
+			if (existingEntry != null && existingEntry.isUpToDate())
+			{
+				return existingEntry;
+			}
 
-		return Optional.of(JasperEntry.builder()
-				.jrxmlFile(jrxmlFile)
-				.jasperFile(jasperFile)
-				.build());
+			return compileJrxml(file);
+		});
+
+		return Optional.of(jasperEntry);
 	}
 
 	private URL findMiscResource(final String name)
@@ -240,8 +248,9 @@ public class JasperCompileClassLoader extends ClassLoader
 		return jasperReportJrxmlPath;
 	}
 
-	private static File compileJrxml(final File jrxmlFile)
+	private static JasperEntry compileJrxml(final File jrxmlFile)
 	{
+		final long jrxmlLastModified = jrxmlFile.lastModified();
 		try (InputStream jrxmlStream = new FileInputStream(jrxmlFile))
 		{
 			final File jasperFile = File.createTempFile("JasperReport", jasperExtension);
@@ -251,7 +260,13 @@ public class JasperCompileClassLoader extends ClassLoader
 				JasperCompileManager.compileReportToStream(jrxmlStream, jasperStream);
 			}
 
-			return jasperFile;
+			logger.trace("Compiled jasper report: {} <- {}", jasperFile, jrxmlFile);
+
+			return JasperEntry.builder()
+					.jrxmlFile(jrxmlFile)
+					.jrxmlLastModified(jrxmlLastModified)
+					.jasperFile(jasperFile)
+					.build();
 		}
 		catch (final Exception ex)
 		{
@@ -278,9 +293,16 @@ public class JasperCompileClassLoader extends ClassLoader
 		@NonNull
 		File jrxmlFile;
 
+		long jrxmlLastModified;
+
 		@NonNull
 		File jasperFile;
 
+		public boolean isUpToDate()
+		{
+			return jrxmlFile.lastModified() == jrxmlLastModified && jasperFile.exists();
+		}
+
 		public URL getJasperUrl()
 		{
 			try
@@ -28,6 +28,7 @@ import java.io.IOException;
 
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
+import java.net.URL;
 import java.sql.Connection;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,8 @@ import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.adempiere.exceptions.AdempiereException;
 import org.adempiere.service.ISysConfigBL;
 import org.compiere.SpringContextHolder;
@@ -51,10 +54,12 @@ import com.google.common.collect.ImmutableSet;
 
 import de.metas.i18n.Language;
 import de.metas.logging.LogManager;
+import de.metas.organization.OrgId;
 import de.metas.process.AdProcessId;
 import de.metas.process.IADProcessDAO;
 import de.metas.process.PInstanceId;
 import de.metas.process.ProcessInfoParameter;
+import de.metas.report.jasper.JasperReportsCache.ResourceBundleKey;
 import de.metas.report.server.AbstractReportEngine;
 import de.metas.report.server.OutputType;
 import de.metas.report.server.ReportConstants;
@@ -74,7 +79,6 @@ import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.JasperReport;
 import net.sf.jasperreports.engine.export.JRXlsAbstractExporterParameter;
 import net.sf.jasperreports.engine.query.JsonQLQueryExecuterFactory;
-import net.sf.jasperreports.engine.util.JRLoader;
 import net.sf.jasperreports.export.XlsReportConfiguration;
 
 public class JasperEngine extends AbstractReportEngine
@@ -137,7 +141,7 @@ public class JasperEngine extends AbstractReportEngine
 		final ClassLoader jasperLoader = createReportClassLoader(reportContext);
 
 		final Map<String, Object> jrParameters = createJRParameters(reportContext);
-		final JasperReport jasperReport = createJasperReport(reportContext.getAD_Process_ID(), jrParameters, jasperLoader);
+		final JasperReport jasperReport = createJasperReport(reportContext.getAD_Process_ID(), reportContext.getOrgId(), jrParameters, jasperLoader);
 
 		// JSON Data source
 		if (jsonDSService.isJasperJSONReport(reportContext))
@@ -188,36 +192,36 @@ public class JasperEngine extends AbstractReportEngine
 
 	private final JasperReport createJasperReport(
 			final AdProcessId adProcessId,
+			final OrgId orgId,
 			final Map<String, Object> jrParameters,
 			final ClassLoader jasperLoader) throws JRException
 	{
 		final String reportPath = getReportPath(adProcessId, jrParameters);
-		final InputStream jasperInputStream;
+		final String reportResourceName;
 		if (reportPath.startsWith("resource:"))
 		{
 			// load the jasper file(s) using an ordinary class loader.
-			final String name = reportPath.substring("resource:".length()).trim();
+			reportResourceName = reportPath.substring("resource:".length()).trim();
 			logger.debug("reportPath = {}", reportPath);
-			// logger.debug("getting resource from = {}", jasperLoader.getResource(name));
-
-			jasperInputStream = jasperLoader.getResourceAsStream(name);
 		}
 		else
 		{
-			jasperInputStream = jasperLoader.getResourceAsStream(reportPath);
+			reportResourceName = reportPath;
 			jrParameters.put(JRParameter.REPORT_CLASS_LOADER, jasperLoader);
 		}
 
-		// Make sure the jasper input stream is not null
-		if (jasperInputStream == null)
+		// Make sure the jasper report can be found
+		final URL reportUrl = jasperLoader.getResource(reportResourceName);
+		if (reportUrl == null)
 		{
 			// TODO ->A AD_Message
 			throw new AdempiereException("Berichtsdatei '" + reportPath + "' konnte nicht geöffnet werden");
 		}
 
 		//
-		// Load the jasper report from stream
-		final JasperReport jasperReport = (JasperReport)JRLoader.loadObject(jasperInputStream);
+		// Get the jasper report from cache or load it from stream
+		final JasperReport jasperReport = JasperReportsCache.getInstance()
+				.getReport(reportUrl, url -> loadJasperReport(reportResourceName, reportPath, jasperLoader));
 
 		//
 		// Load report's resource bundles, if any.
@@ -226,14 +230,39 @@ public class JasperEngine extends AbstractReportEngine
 		{
 			final String reportDir = extractReportDir(reportPath);
 			final String resourceBundleName = getResourceBundleName(jasperReport, reportDir);
-			loadJasperReportResourceBundle(resourceBundleName, jrParameters, jasperLoader);
+			loadJasperReportResourceBundle(resourceBundleName, orgId, jrParameters, jasperLoader);
 		}
 
-		jasperReport.setProperty(JRPROPERTY_ReportPath, reportPath);
-
 		return jasperReport;
 	}
 
+	private static JasperReport loadJasperReport(
+			final String reportResourceName,
+			final String reportPath,
+			final ClassLoader jasperLoader)
+	{
+		try (final InputStream jasperInputStream = jasperLoader.getResourceAsStream(reportResourceName))
+		{
+			// Make sure the jasper input stream is not null
+			if (jasperInputStream == null)
+			{
+				// TODO ->A AD_Message
+				throw new AdempiereException("Berichtsdatei '" + reportPath + "' konnte nicht geöffnet werden");
+			}
+
+			final JasperReport jasperReport = JasperReportsCache.loadReport(jasperInputStream);
+
+			// NOTE: the report is shared between report requests, so this is the only place where we shall change it
+			jasperReport.setProperty(JRPROPERTY_ReportPath, reportPath);
+
+			return jasperReport;
+		}
+		catch (final IOException ex)
+		{
+			throw new AdempiereException("Failed loading jasper report " + reportPath, ex);
+		}
+	}
+
 	private final Map<String, Object> createJRParameters(final ReportContext reportContext) throws JRException
 	{
 		final Properties ctx = reportContext.getCtx();
@@ -478,11 +507,16 @@ public class JasperEngine extends AbstractReportEngine
 	 * If the {@link ResourceBundle} was found it will be set as {@link JRParameter#REPORT_RESOURCE_BUNDLE} parameter in <code>jrParameters</code>.
 	 *
 	 * @param resourceBundleName
+	 * @param orgId organization for which the class loader was created
 	 * @param jrParameters
 	 * @param classLoader class loader to be used for loading the resource
 	 * @return true if resource bundle was loaded
 	 */
-	private boolean loadJasperReportResourceBundle(final String resourceBundleName, final Map<String, Object> jrParameters, final ClassLoader classLoader)
+	private boolean loadJasperReportResourceBundle(
+			final String resourceBundleName,
+			final OrgId orgId,
+			final Map<String, Object> jrParameters,
+			final ClassLoader classLoader)
 	{
 		if (Check.isEmpty(resourceBundleName, true))
 		{
@@ -491,18 +525,29 @@ public class JasperEngine extends AbstractReportEngine
 
 		final Locale locale = (Locale)jrParameters.get(PARAM_REPORT_LOCALE);
 
+		final ResourceBundle resourceBundle = JasperReportsCache.getInstance()
+				.getResourceBundle(resourceBundleName, locale, orgId, key -> loadResourceBundleOrNull(key, classLoader));
+		if (resourceBundle == null)
+		{
+			return false; // not loaded
+		}
+
+		jrParameters.put(JRParameter.REPORT_RESOURCE_BUNDLE, resourceBundle);
+		return true;
+	}
+
+	@Nullable
+	private static ResourceBundle loadResourceBundleOrNull(final ResourceBundleKey key, final ClassLoader classLoader)
+	{
 		try
 		{
-			final ResourceBundle resourceBundle = ResourceBundle.getBundle(resourceBundleName, locale, classLoader);
-			jrParameters.put(JRParameter.REPORT_RESOURCE_BUNDLE, resourceBundle);
-			return true;
+			return ResourceBundle.getBundle(key.getResourceBundleName(), key.getLocale(), classLoader);
 		}
 		catch (final Exception e)
 		{
-			logger.warn("Failed loading resource bundle for base name: {}, {}. Skipping", resourceBundleName, locale, e);
+			logger.warn("Failed loading resource bundle for base name: {}, {}. Skipping", key.getResourceBundleName(), key.getLocale(), e);
+			return null;
 		}
-
-		return false; // not loaded
 	}
 
 	private ReportResult createOutput(final JasperPrint jasperPrint, OutputType outputType) throws JRException, IOException
@@ -35,6 +35,7 @@ import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.JasperReportsContext;
 
 /**
  * Helper class used to fill a {@link JasperReport} and produce {@link JasperPrint}.
@@ -50,6 +51,9 @@ import net.sf.jasperreports.engine.JasperReport;
 		return instance;
 	}
 
+	/** jasper context which is loading the subreports from {@link JasperReportsCache} */
+	private final JasperReportsContext jasperReportsContext = CachingReportPersistenceService.newJasperReportsContext();
+
 	private JasperReportFiller()
 	{
 	}
@@ -76,11 +80,11 @@ import net.sf.jasperreports.engine.JasperReport;
 		{
 			if (connection == null)
 			{
-				return JasperFillManager.fillReport(jasperReport, paramsFixed);
+				return JasperFillManager.getInstance(jasperReportsContext).fill(jasperReport, paramsFixed);
 			}
 			else
 			{
-				return JasperFillManager.fillReport(jasperReport, paramsFixed, connection);
+				return JasperFillManager.getInstance(jasperReportsContext).fill(jasperReport, paramsFixed, connection);
 			}
 		}
 		finally
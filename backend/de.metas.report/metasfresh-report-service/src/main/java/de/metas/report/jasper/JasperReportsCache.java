@@ -0,0 +1,481 @@
+package de.metas.report.jasper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.util.jmx.JMXRegistry;
+import org.adempiere.util.jmx.JMXRegistry.OnJMXAlreadyExistsPolicy;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.VFS;
+import org.compiere.model.I_AD_Process;
+import org.slf4j.Logger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import de.metas.cache.CCache;
+import de.metas.cache.CCache.CacheMapType;
+import de.metas.logging.LogManager;
+import de.metas.organization.OrgId;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRLoader;
+
+/*
+ * #%L
+ * metasfresh-report-service
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+/**
+ * Caches the loaded {@link JasperReport}s (reports and subreports) and the report resource bundles,
+ * so we don't have to fetch and deserialize the same templates for each report we print.
+ * <p>
+ * Reports and subreports are cached by their URL and last modified timestamp, i.e. a changed file is picked up automatically, if its timestamp can be determined.
+ * Jasper is loading the subreports from cache via {@link CachingReportPersistenceService}.
+ * All caches are bounded (LRU) and are invalidated when an {@link I_AD_Process} changes.
+ */
+public final class JasperReportsCache
+{
+	private static final JasperReportsCache instance = new JasperReportsCache();
+
+	public static JasperReportsCache getInstance()
+	{
+		return instance;
+	}
+
+	private static final Logger logger = LogManager.getLogger(JasperReportsCache.class);
+
+	private final CCache<ResourceKey, JasperReport> reports = newCache("JasperReportsCache_Reports", 200);
+	private final CacheCounters reportsCounters = new CacheCounters();
+
+	private final CCache<ResourceKey, JasperReport> subreports = newCache("JasperReportsCache_Subreports", 500);
+	private final CacheCounters subreportsCounters = new CacheCounters();
+	/** caching URLs (compared by identity) to the subreport URLs they are wrapping */
+	private final Cache<URL, URL> subreportUrlsByCachingUrl = CacheBuilder.newBuilder().weakKeys().build();
+
+	private final CCache<ResourceBundleKey, Optional<ResourceBundle>> resourceBundles = newCache("JasperReportsCache_ResourceBundles", 500);
+	private final CacheCounters resourceBundlesCounters = new CacheCounters();
+
+	private JasperReportsCache()
+	{
+		JMXRegistry.get().registerJMX(new JMXJasperReportsCache(this), OnJMXAlreadyExistsPolicy.Replace);
+	}
+
+	private static <K, V> CCache<K, V> newCache(@NonNull final String cacheName, final int maxSize)
+	{
+		return CCache.<K, V> builder()
+				.cacheName(cacheName)
+				.tableName(I_AD_Process.Table_Name)
+				.cacheMapType(CacheMapType.LRU)
+				.initialCapacity(maxSize) // NOTE: in case of LRU, initialCapacity is the max size
+				.build();
+	}
+
+	/**
+	 * @param reportUrl URL of the compiled report, as returned by the jasper class loader
+	 * @param loader used to actually load the report if it's not cached yet
+	 */
+	public JasperReport getReport(
+			@NonNull final URL reportUrl,
+			@NonNull final Function<URL, JasperReport> loader)
+	{
+		reportsCounters.lookups.incrementAndGet();
+
+		// NOTE: the main report is cached here, so don't serve it from subreports cache too
+		final URL url = toNotCachingURL(reportUrl);
+
+		final ResourceKey key = ResourceKey.of(url, getLastModified(url));
+		return reports.getOrLoad(key, k -> reportsCounters.measureLoad(() -> loader.apply(url)));
+	}
+
+	public ResourceBundle getResourceBundle(
+			@NonNull final String resourceBundleName,
+			@NonNull final Locale locale,
+			@NonNull final OrgId orgId,
+			@NonNull final Function<ResourceBundleKey, ResourceBundle> loader)
+	{
+		resourceBundlesCounters.lookups.incrementAndGet();
+
+		final ResourceBundleKey key = new ResourceBundleKey(resourceBundleName, locale, orgId);
+		return resourceBundles.getOrLoad(key, k -> resourceBundlesCounters.measureLoad(() -> Optional.ofNullable(loader.apply(k))))
+				.orElse(null);
+	}
+
+	/**
+	 * Wraps the URL of a subreport, so that the subreport is served from this cache when jasper is loading it (see {@link #getSubreport(InputStream)}).
+	 *
+	 * @return caching URL or <code>null</code> if the subreport does not exist
+	 */
+	@Nullable
+	public URL toCachingSubreportURLOrNull(@NonNull final URL subreportUrl)
+	{
+		if (!exists(subreportUrl))
+		{
+			return null;
+		}
+
+		try
+		{
+			final URL cachingUrl = new URL(null, subreportUrl.toString(), new CachingURLStreamHandler(subreportUrl));
+			subreportUrlsByCachingUrl.put(cachingUrl, subreportUrl);
+			return cachingUrl;
+		}
+		catch (final IOException ex)
+		{
+			logger.warn("Failed wrapping {}. Returning it as is.", subreportUrl, ex);
+			return subreportUrl;
+		}
+	}
+
+	/**
+	 * @return the original URL if given URL was created by {@link #toCachingSubreportURLOrNull(URL)}, else the given URL
+	 */
+	private URL toNotCachingURL(@NonNull final URL url)
+	{
+		final URL subreportUrl = subreportUrlsByCachingUrl.getIfPresent(url);
+		return subreportUrl != null ? subreportUrl : url;
+	}
+
+	/**
+	 * Loads a compiled subreport from the given stream.
+	 * If the stream was opened via a URL from {@link #toCachingSubreportURLOrNull(URL)}, the subreport is cached by its URL and last modified timestamp
+	 * and the stream is only read if the subreport is not cached yet.
+	 */
+	JasperReport getSubreport(@NonNull final InputStream in)
+	{
+		if (!(in instanceof SubreportInputStream))
+		{
+			return loadReport(in);
+		}
+		final SubreportInputStream subreportIn = (SubreportInputStream)in;
+
+		subreportsCounters.lookups.incrementAndGet();
+		return subreports.getOrLoad(subreportIn.getKey(), key -> subreportsCounters.measureLoad(() -> loadReport(subreportIn)));
+	}
+
+	private static boolean exists(@NonNull final URL url)
+	{
+		try
+		{
+			if ("file".equals(url.getProtocol()))
+			{
+				return new File(url.toURI()).exists();
+			}
+			else
+			{
+				final FileObject fileObject = VFS.getManager().resolveFile(url.toString());
+				try
+				{
+					return fileObject.exists();
+				}
+				finally
+				{
+					fileObject.close();
+				}
+			}
+		}
+		catch (final URISyntaxException | IOException | RuntimeException ex)
+		{
+			// let jasper find out when it's opening it
+			logger.debug("Cannot determine if {} exists. Assuming it does.", url, ex);
+			return true;
+		}
+	}
+
+	/**
+	 * @return last modified timestamp or zero if it cannot be determined
+	 */
+	private static long getLastModified(@NonNull final URL url)
+	{
+		try
+		{
+			if ("file".equals(url.getProtocol()))
+			{
+				return new File(url.toURI()).lastModified();
+			}
+			else if (JasperClassLoader.isJarInJarURL(url))
+			{
+				return 0; // packaged resources don't change while we are running
+			}
+			else
+			{
+				final FileObject fileObject = VFS.getManager().resolveFile(url.toString());
+				try
+				{
+					return fileObject.getContent().getLastModifiedTime();
+				}
+				finally
+				{
+					fileObject.close();
+				}
+			}
+		}
+		catch (final URISyntaxException | IOException | RuntimeException ex)
+		{
+			logger.debug("Cannot determine last modified timestamp of {}. Returning zero.", url, ex);
+			return 0;
+		}
+	}
+
+	public static JasperReport loadReport(@NonNull final InputStream in)
+	{
+		try
+		{
+			return (JasperReport)JRLoader.loadObject(in);
+		}
+		catch (final JRException ex)
+		{
+			throw AdempiereException.wrapIfNeeded(ex);
+		}
+	}
+
+	public void reset()
+	{
+		reports.reset();
+		subreports.reset();
+		resourceBundles.reset();
+	}
+
+	public void resetStatistics()
+	{
+		reportsCounters.reset();
+		subreportsCounters.reset();
+		resourceBundlesCounters.reset();
+	}
+
+	long getReportsCount()
+	{
+		return reports.size();
+	}
+
+	CacheCounters getReportsCounters()
+	{
+		return reportsCounters;
+	}
+
+	long getSubreportsCount()
+	{
+		return subreports.size();
+	}
+
+	CacheCounters getSubreportsCounters()
+	{
+		return subreportsCounters;
+	}
+
+	long getResourceBundlesCount()
+	{
+		return resourceBundles.size();
+	}
+
+	CacheCounters getResourceBundlesCounters()
+	{
+		return resourceBundlesCounters;
+	}
+
+	@Value(staticConstructor = "of")
+	private static class ResourceKey
+	{
+		@NonNull
+		String url;
+		long lastModified;
+
+		static ResourceKey of(@NonNull final URL url, final long lastModified)
+		{
+			return of(url.toString(), lastModified);
+		}
+	}
+
+	@Value
+	public static class ResourceBundleKey
+	{
+		@NonNull
+		String resourceBundleName;
+		@NonNull
+		Locale locale;
+		@NonNull
+		OrgId orgId;
+	}
+
+	static final class CacheCounters
+	{
+		private final AtomicLong lookups = new AtomicLong();
+		private final AtomicLong loads = new AtomicLong();
+		private final AtomicLong loadTimeNanos = new AtomicLong();
+
+		private <T> T measureLoad(@NonNull final Supplier<T> loader)
+		{
+			final long startNanos = System.nanoTime();
+			try
+			{
+				return loader.get();
+			}
+			finally
+			{
+				recordLoad(System.nanoTime() - startNanos);
+			}
+		}
+
+		private void recordLoad(final long durationNanos)
+		{
+			loads.incrementAndGet();
+			loadTimeNanos.addAndGet(durationNanos);
+		}
+
+		long getLookups()
+		{
+			return lookups.get();
+		}
+
+		long getLoads()
+		{
+			return loads.get();
+		}
+
+		double getHitRatePercent()
+		{
+			final long lookups = getLookups();
+			if (lookups <= 0)
+			{
+				return 0;
+			}
+			return Math.max(lookups - getLoads(), 0) * 100.0 / lookups;
+		}
+
+		double getAverageLoadTimeMillis()
+		{
+			final long loads = getLoads();
+			if (loads <= 0)
+			{
+				return 0;
+			}
+			return loadTimeNanos.get() / 1_000_000.0 / loads;
+		}
+
+		void reset()
+		{
+			lookups.set(0);
+			loads.set(0);
+			loadTimeNanos.set(0);
+		}
+	}
+
+	private static final class CachingURLStreamHandler extends URLStreamHandler
+	{
+		private final URL delegateUrl;
+
+		private CachingURLStreamHandler(@NonNull final URL delegateUrl)
+		{
+			this.delegateUrl = delegateUrl;
+		}
+
+		@Override
+		protected URLConnection openConnection(final URL url)
+		{
+			return new URLConnection(url)
+			{
+				@Override
+				public void connect()
+				{
+					connected = true;
+				}
+
+				@Override
+				public InputStream getInputStream()
+				{
+					connect();
+					return new SubreportInputStream(ResourceKey.of(delegateUrl, getLastModified(delegateUrl)), delegateUrl);
+				}
+			};
+		}
+	}
+
+	/**
+	 * Stream of a subreport which is opened via a caching URL.
+	 * The subreport itself is only opened when the stream is read.
+	 */
+	private static final class SubreportInputStream extends InputStream
+	{
+		@Getter
+		private final ResourceKey key;
+		private final URL url;
+		@Nullable
+		private InputStream delegate;
+
+		private SubreportInputStream(@NonNull final ResourceKey key, @NonNull final URL url)
+		{
+			this.key = key;
+			this.url = url;
+		}
+
+		private InputStream getDelegate() throws IOException
+		{
+			if (delegate == null)
+			{
+				delegate = url.openStream();
+			}
+			return delegate;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			return getDelegate().read();
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException
+		{
+			return getDelegate().read(b, off, len);
+		}
+
+		@Override
+		public int available() throws IOException
+		{
+			return delegate != null ? delegate.available() : 0;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			if (delegate != null)
+			{
+				delegate.close();
+			}
+		}
+	}
+}
@@ -7,6 +7,7 @@ import de.metas.process.IADPInstanceDAO;
 import de.metas.process.PInstanceId;
 import de.metas.process.ProcessInfo;
 import de.metas.report.jasper.JasperEngine;
+import de.metas.report.jasper.JasperReportsCache;
 import de.metas.report.xls.engine.XlsReportEngine;
 import de.metas.util.Check;
 import de.metas.util.Services;
@@ -138,7 +139,9 @@ public class LocalReportServer implements IReportServer
 	@Override
 	public void cacheReset()
 	{
-		// nothing to do. In case of LocalJasperServer, the "server" is running in same JVM as ADempiere application
+		// In case of LocalJasperServer, the "server" is running in same JVM as ADempiere application,
+		// so we only have to reset the compiled reports.
 		// CacheMgt.get().reset();
+		JasperReportsCache.getInstance().reset();
 	}
 }
@@ -0,0 +1,125 @@
+package de.metas.report.jasper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.metas.util.FileUtil;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.design.JasperDesign;
+import net.sf.jasperreports.engine.util.JRSaver;
+
+/*
+ * #%L
+ * metasfresh-report-service
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class JasperReportsCacheTest
+{
+	private final JasperReportsCache cache = JasperReportsCache.getInstance();
+
+	@BeforeEach
+	public void beforeEach()
+	{
+		cache.reset();
+		cache.resetStatistics();
+	}
+
+	@Test
+	public void subreportIsCachedUntilFileChanges(@TempDir final File tempDir) throws Exception
+	{
+		final File subreportFile = new File(tempDir, "subreport.jasper");
+		JRSaver.saveObject(compileReport("v1"), subreportFile);
+		subreportFile.setLastModified(1000000000L);
+
+		final URL url = cache.toCachingSubreportURLOrNull(subreportFile.toURI().toURL());
+		final JasperReport subreport = getSubreport(url);
+		assertEquals("v1", subreport.getName());
+		assertSame(subreport, getSubreport(url));
+		assertEquals(2, cache.getSubreportsCounters().getLookups());
+		assertEquals(1, cache.getSubreportsCounters().getLoads());
+
+		JRSaver.saveObject(compileReport("v2"), subreportFile);
+		subreportFile.setLastModified(2000000000L);
+		assertEquals("v2", getSubreport(url).getName());
+		assertEquals(2, cache.getSubreportsCounters().getLoads());
+	}
+
+	@Test
+	public void missingSubreport(@TempDir final File tempDir) throws IOException
+	{
+		final File subreportFile = new File(tempDir, "missing.jasper");
+		assertNull(cache.toCachingSubreportURLOrNull(subreportFile.toURI().toURL()));
+	}
+
+	@Test
+	public void subreportDeletedAfterLookup(@TempDir final File tempDir) throws IOException
+	{
+		final File subreportFile = new File(tempDir, "subreport.jasper");
+		Files.write(subreportFile.toPath(), "v1".getBytes(StandardCharsets.UTF_8));
+
+		final URL url = cache.toCachingSubreportURLOrNull(subreportFile.toURI().toURL());
+		assertNotNull(url);
+
+		Files.delete(subreportFile.toPath());
+		assertThrows(IOException.class, () -> read(url));
+	}
+
+	private static JasperReport compileReport(final String name) throws JRException
+	{
+		final JasperDesign design = new JasperDesign();
+		design.setName(name);
+		return JasperCompileManager.compileReport(design);
+	}
+
+	private JasperReport getSubreport(final URL url) throws IOException
+	{
+		try (final InputStream in = url.openStream())
+		{
+			return cache.getSubreport(in);
+		}
+	}
+
+	private static String read(final URL url) throws IOException
+	{
+		try (final InputStream in = url.openStream())
+		{
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			FileUtil.copy(in, out);
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+}
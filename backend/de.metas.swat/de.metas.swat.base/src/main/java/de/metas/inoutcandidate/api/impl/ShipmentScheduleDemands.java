@@ -0,0 +1,64 @@
+package de.metas.inoutcandidate.api.impl;
+
+import de.metas.inoutcandidate.ShipmentScheduleId;
+import de.metas.inoutcandidate.api.IShipmentScheduleAllocBL;
+import de.metas.inoutcandidate.api.IShipmentScheduleAllocDAO;
+import de.metas.inoutcandidate.model.I_M_ShipmentSchedule;
+import de.metas.quantity.Quantity;
+import de.metas.util.Services;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * #%L
+ * de.metas.swat.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+/**
+ * The demand side of the shipment schedules of one {@link ShipmentScheduleUpdater} update, i.e. how much was already delivered and picked.
+ * <p>
+ * Each schedule's quantities are loaded once and then reused by both allocation runs and when the schedules are written back.
+ * Nothing the update does is changing them, because it does not create or process any shipment or picking records.
+ */
+final class ShipmentScheduleDemands
+{
+	private final IShipmentScheduleAllocDAO shipmentScheduleAllocDAO = Services.get(IShipmentScheduleAllocDAO.class);
+	private final IShipmentScheduleAllocBL shipmentScheduleAllocBL = Services.get(IShipmentScheduleAllocBL.class);
+
+	private final Map<ShipmentScheduleId, BigDecimal> qtyDeliveredById = new HashMap<>();
+	private final Map<ShipmentScheduleId, Quantity> qtyPickedAndUnconfirmedById = new HashMap<>();
+
+	public BigDecimal getQtyDelivered(@NonNull final I_M_ShipmentSchedule sched)
+	{
+		return qtyDeliveredById.computeIfAbsent(
+				ShipmentScheduleId.ofRepoId(sched.getM_ShipmentSchedule_ID()),
+				id -> shipmentScheduleAllocDAO.retrieveQtyDelivered(sched));
+	}
+
+	public Quantity getQtyPickedAndUnconfirmed(@NonNull final I_M_ShipmentSchedule sched)
+	{
+		return qtyPickedAndUnconfirmedById.computeIfAbsent(
+				ShipmentScheduleId.ofRepoId(sched.getM_ShipmentSchedule_ID()),
+				id -> shipmentScheduleAllocBL.retrieveQtyPickedAndUnconfirmed(sched));
+	}
+}
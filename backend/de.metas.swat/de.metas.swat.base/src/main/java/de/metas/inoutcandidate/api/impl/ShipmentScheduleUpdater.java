@@ -10,8 +10,6 @@ import de.metas.bpartner.service.IBPartnerBL;
 import de.metas.bpartner_product.IBPartnerProductDAO;
 import de.metas.inoutcandidate.ShipmentScheduleId;
 import de.metas.inoutcandidate.api.IShipmentConstraintsBL;
-import de.metas.inoutcandidate.api.IShipmentScheduleAllocBL;
-import de.metas.inoutcandidate.api.IShipmentScheduleAllocDAO;
 import de.metas.inoutcandidate.api.IShipmentScheduleBL;
 import de.metas.inoutcandidate.api.IShipmentScheduleEffectiveBL;
 import de.metas.inoutcandidate.api.IShipmentScheduleHandlerBL;
@@ -131,8 +129,6 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 	private final IShipmentScheduleBL shipmentScheduleBL = Services.get(IShipmentScheduleBL.class);
 	private final IShipmentScheduleDeliveryDayBL shipmentScheduleDeliveryDayBL = Services.get(IShipmentScheduleDeliveryDayBL.class);
 	private final IShipmentScheduleEffectiveBL shipmentScheduleEffectiveBL = Services.get(IShipmentScheduleEffectiveBL.class);
-	private final IShipmentScheduleAllocBL shipmentScheduleAllocBL = Services.get(IShipmentScheduleAllocBL.class);
-	private final IShipmentScheduleAllocDAO shipmentScheduleAllocDAO = Services.get(IShipmentScheduleAllocDAO.class);
 	private final IShipmentConstraintsBL shipmentConstraintsBL = Services.get(IShipmentConstraintsBL.class);
 	private final ShipmentScheduleQtyOnHandStorageFactory shipmentScheduleQtyOnHandStorageFactory;
 	private final ShipmentScheduleReferencedLineFactory shipmentScheduleReferencedLineFactory;
@@ -280,7 +276,15 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 			}
 		}
 
-		final ShipmentSchedulesDuringUpdate firstRun = generate_FirstRun(ctx, olsAndScheds);
+		//
+		// Load the QtyOnHand for our lines only once.
+		// The second run starts over with the same stock, minus the allocations of the first run.
+		final ShipmentScheduleQtyOnHandStorage qtyOnHands = shipmentScheduleQtyOnHandStorageFactory.ofOlAndScheds(olsAndScheds);
+		//
+		// Same for the delivered and picked quantities; they are also needed when finally updating the schedules
+		final ShipmentScheduleDemands demands = new ShipmentScheduleDemands();
+
+		final ShipmentSchedulesDuringUpdate firstRun = generate_FirstRun(ctx, olsAndScheds, qtyOnHands, demands);
 		firstRun.updateCompleteStatusAndSetQtyToZeroWhereNeeded();
 
 		applyCandidateProcessors(ctx, firstRun);
@@ -303,7 +307,7 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 		}
 
 		// make the second run
-		final IShipmentSchedulesDuringUpdate secondRun = generate_SecondRun(ctx, olsAndScheds, firstRun);
+		final IShipmentSchedulesDuringUpdate secondRun = generate_SecondRun(ctx, olsAndScheds, firstRun, qtyOnHands.newAllocationRun(), demands);
 
 		// finally update the shipment schedule entries
 		for (final OlAndSched olAndSched : olsAndScheds)
@@ -322,7 +326,7 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 
 			// task 09358: ol.qtyReserved should be as correct as QtyOrdered and QtyDelivered, but in some cases isn't. this here is a workaround to the problem
 			// task 09869: don't rely on ol anyways
-			final BigDecimal qtyDelivered = shipmentScheduleAllocDAO.retrieveQtyDelivered(schedRecord);
+			final BigDecimal qtyDelivered = demands.getQtyDelivered(schedRecord);
 			schedRecord.setQtyDelivered(qtyDelivered);
 			schedRecord.setQtyReserved(BigDecimal.ZERO.max(olAndSched.getQtyOrdered().subtract(schedRecord.getQtyDelivered())));
 
@@ -417,35 +421,57 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 	ShipmentSchedulesDuringUpdate generate_FirstRun(
 			@NonNull final Properties ctx,
 			@NonNull final List<OlAndSched> lines)
+	{
+		final ShipmentScheduleQtyOnHandStorage qtyOnHands = shipmentScheduleQtyOnHandStorageFactory.ofOlAndScheds(lines);
+		return generate_FirstRun(ctx, lines, qtyOnHands);
+	}
+
+	@VisibleForTesting
+	ShipmentSchedulesDuringUpdate generate_FirstRun(
+			@NonNull final Properties ctx,
+			@NonNull final List<OlAndSched> lines,
+			@NonNull final ShipmentScheduleQtyOnHandStorage qtyOnHands)
+	{
+		return generate_FirstRun(ctx, lines, qtyOnHands, new ShipmentScheduleDemands());
+	}
+
+	private ShipmentSchedulesDuringUpdate generate_FirstRun(
+			@NonNull final Properties ctx,
+			@NonNull final List<OlAndSched> lines,
+			@NonNull final ShipmentScheduleQtyOnHandStorage qtyOnHands,
+			@NonNull final ShipmentScheduleDemands demands)
 	{
 		try (final MDCCloseable mdcClosable = ShipmentSchedulesMDC.putShipmentScheduleUpdateRunNo(1))
 		{
 			final ShipmentSchedulesDuringUpdate firstRun = new ShipmentSchedulesDuringUpdate();
-			return generate(ctx, lines, firstRun);
+			return generate(ctx, lines, firstRun, qtyOnHands, demands);
 		}
 	}
 
-	ShipmentSchedulesDuringUpdate generate_SecondRun(
+	private ShipmentSchedulesDuringUpdate generate_SecondRun(
 			@NonNull final Properties ctx,
 			@NonNull final List<OlAndSched> lines,
-			@NonNull final ShipmentSchedulesDuringUpdate firstRun)
+			@NonNull final ShipmentSchedulesDuringUpdate firstRun,
+			@NonNull final ShipmentScheduleQtyOnHandStorage qtyOnHands,
+			@NonNull final ShipmentScheduleDemands demands)
 	{
 		try (final MDCCloseable mdcClosable = ShipmentSchedulesMDC.putShipmentScheduleUpdateRunNo(2))
 		{
-			return generate(ctx, lines, firstRun);
+			return generate(ctx, lines, firstRun, qtyOnHands, demands);
 		}
 	}
 
+	/**
+	 * @param qtyOnHands the QtyOnHand in scope for our lines; the quantities which are allocated to our lines are subtracted from it
+	 * @param demands    the delivered and picked quantities of our lines
+	 */
 	private ShipmentSchedulesDuringUpdate generate(
 			@NonNull final Properties ctx,
 			@NonNull final List<OlAndSched> lines,
-			@NonNull final ShipmentSchedulesDuringUpdate candidates)
+			@NonNull final ShipmentSchedulesDuringUpdate candidates,
+			@NonNull final ShipmentScheduleQtyOnHandStorage qtyOnHands,
+			@NonNull final ShipmentScheduleDemands demands)
 	{
-		//
-		// Load QtyOnHand in scope for our lines
-		// i.e. iterate all lines to cache the required storage info and to subtract the quantities that can't be allocated from the storage allocation.
-		final ShipmentScheduleQtyOnHandStorage qtyOnHands = shipmentScheduleQtyOnHandStorageFactory.ofOlAndScheds(lines);
-
 		//
 		// Iterate and try to allocate the QtyOnHand
 		for (final OlAndSched olAndSched : lines)
@@ -473,7 +499,7 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 				}
 				else
 				{
-					final BigDecimal qtyDelivered = shipmentScheduleAllocDAO.retrieveQtyDelivered(sched);
+					final BigDecimal qtyDelivered = demands.getQtyDelivered(sched);
 					qtyRequired = olAndSched.getQtyOrdered().subtract(qtyDelivered);
 					logger.debug("QtyOrdered={}; QtyDelivered={}; => qtyRequired={}", olAndSched.getQtyOrdered(), qtyDelivered, qtyRequired);
 				}
@@ -485,7 +511,7 @@ public class ShipmentScheduleUpdater implements IShipmentScheduleUpdater
 				final BigDecimal qtyPickedOrOnDraftShipment;
 				{
 					// task 08123: we also take those numbers into account that are *not* on an M_InOutLine yet, but are nonetheless picked
-					final Quantity qtyPickedAndUnconfirmed = shipmentScheduleAllocBL.retrieveQtyPickedAndUnconfirmed(sched);
+					final Quantity qtyPickedAndUnconfirmed = demands.getQtyPickedAndUnconfirmed(sched);
 					logger.debug("QtyPickedAndUnconfirmed={}", qtyPickedAndUnconfirmed);
 					qtyPickedOrOnDraftShipment = qtyPickedAndUnconfirmed.toBigDecimal();
 
@@ -23,8 +23,10 @@
 package de.metas.invoicecandidate.api.impl;
 
 import ch.qos.logback.classic.Level;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedHashMultimap;
 import de.metas.inout.IInOutDAO;
+import de.metas.invoicecandidate.InvoiceCandidateId;
 import de.metas.invoicecandidate.api.IInvoiceCandBL;
 import de.metas.invoicecandidate.api.IInvoiceCandDAO;
 import de.metas.invoicecandidate.api.IInvoiceCandInvalidUpdater;
@@ -67,6 +69,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static java.math.BigDecimal.ONE;
 import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
@@ -87,6 +90,10 @@ import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
 	private static final String SYSCONFIG_ItemsPerBatch = "de.metas.invoicecandidate.api.impl.InvoiceCandInvalidUpdater.ItemsPerBatch";
 	private static final int DEFAULT_ItemsPerBatch = 100;
 
+	/** Number of partitions which are updated concurrently. 1 (the default) means that all invoice candidates are updated sequentially in the current thread. */
+	private static final String SYSCONFIG_ParallelWorkers = "de.metas.invoicecandidate.api.impl.InvoiceCandInvalidUpdater.ParallelWorkers";
+	private static final int DEFAULT_ParallelWorkers = 1;
+
 	//
 	// Parameters
 	private Properties _ctx;
@@ -164,100 +171,199 @@ import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
 		}
 
 		//
-		// Update invoice candidates in chunks
+		// Update invoice candidates in chunks.
+		// If configured, and if we are managing the transactions ourselves, spread them over multiple partitions which are updated concurrently.
+		final int parallelWorkers = processInBatches ? getParallelWorkers() : 1;
+		if (parallelWorkers > 1 && isOutOfTrx())
+		{
+			updateTaggedInParallel(candidatesToUpdate, itemsPerBatch, parallelWorkers);
+			return;
+		}
+
 		final ICUpdateResult result = new ICUpdateResult();
 		try (final IAutoCloseable updateInProgressCloseable = invoiceCandBL.setUpdateProcessInProgress())
 		{
-			trxItemProcessorExecutorService.<I_C_Invoice_Candidate, ICUpdateResult> createExecutor()
-					.setContext(getCtx(), getTrxName()) // if called from process or wp-processor then getTrxName() is null because *we* want to manage the trx => commit after each chunk
-					.setItemsPerBatch(itemsPerBatch)
+			updateInChunks(getCtx(), candidatesToUpdate, itemsPerBatch, result);
+		}
 
-					// Don't use trx savepoints because they are expensive and we are not going to rollback anyways (OnItemErrorPolicy.ContinueChunkAndCommit)
-					// Note that if our trx is null, then this doesn't matter anyways.
-					.setUseTrxSavepoints(false)
+		//
+		// Log the result
+		Loggables.addLog("Update invalid result: {}", result.getSummary());
+	}
 
-					.setExceptionHandler(new ICTrxItemExceptionHandler(result))
+	/**
+	 * Distributes the given invoice candidates to {@code parallelWorkers} partitions and updates those partitions concurrently, each in its own chunk transactions.
+	 * <p>
+	 * All candidates of the same bill partner (i.e. the ICs which can end up in the same invoice) are updated by the same worker, in the order in which they were retrieved.
+	 */
+	private void updateTaggedInParallel(
+			@NonNull final Iterator<I_C_Invoice_Candidate> candidatesToUpdate,
+			final int itemsPerBatch,
+			final int parallelWorkers)
+	{
+		final List<InvoiceCandRecomputePartition> partitions = InvoiceCandRecomputePartition.newPartitions(parallelWorkers);
+		while (candidatesToUpdate.hasNext())
+		{
+			final I_C_Invoice_Candidate icRecord = candidatesToUpdate.next();
+			final Object partitionKey = InvoiceCandRecomputePartition.extractPartitionKey(icRecord);
+			partitions.get(InvoiceCandRecomputePartition.computePartitionNo(partitionKey, parallelWorkers))
+					.add(InvoiceCandidateId.ofRepoId(icRecord.getC_Invoice_Candidate_ID()));
+		}
+
+		for (final InvoiceCandRecomputePartition partition : partitions)
+		{
+			if (!partition.isEmpty())
+			{
+				Loggables.addLog("Partition {}/{}: scheduled {} invoice candidates", partition.getPartitionNo(), parallelWorkers, partition.size());
+			}
+		}
 
-					// issue #302: ICTrxItemExceptionHandler will deal with problems, so we just continue if they happen.
-					.setOnItemErrorPolicy(OnItemErrorPolicy.ContinueChunkAndCommit)
+		final List<ICUpdateResult> partitionResults = InvoiceCandRecomputePartition.updateInParallel(
+				getCtx(),
+				partitions,
+				(workerCtx, partition) -> updatePartition(workerCtx, partition, itemsPerBatch));
 
-					.setProcessor(new TrxItemChunkProcessorAdapter<I_C_Invoice_Candidate, ICUpdateResult>()
-					{
-						/** the invoice candidates which were updated in current batch/chunk */
-						final List<Integer> chunkInvoiceCandidateIds = new ArrayList<>();
+		final ICUpdateResult result = new ICUpdateResult();
+		for (final ICUpdateResult partitionResult : partitionResults)
+		{
+			result.add(partitionResult);
+			Loggables.addLog("Partition {}/{}: {}", partitionResult.getPartitionNo(), parallelWorkers, partitionResult.getSummary());
+		}
 
-						@Override
-						public void process(final I_C_Invoice_Candidate icRecord)
+		//
+		// Log the result
+		Loggables.addLog("Update invalid result: {}", result.getSummary());
+	}
+
+	/**
+	 * Executed in a worker thread. Loads the partition's invoice candidates chunk by chunk and updates them.
+	 *
+	 * @param workerCtx the worker's own context, already set as the thread's context
+	 */
+	private ICUpdateResult updatePartition(
+			@NonNull final Properties workerCtx,
+			@NonNull final InvoiceCandRecomputePartition partition,
+			final int itemsPerBatch)
+	{
+		final ICUpdateResult result = new ICUpdateResult(partition.getPartitionNo());
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+		try (final IAutoCloseable updateInProgressCloseable = invoiceCandBL.setUpdateProcessInProgress())
+		{
+			updateInChunks(workerCtx, partition.iterateInvoiceCandidates(itemsPerBatch), itemsPerBatch, result);
+		}
+		finally
+		{
+			result.setElapsedMillis(stopwatch.stop().elapsed(TimeUnit.MILLISECONDS));
+		}
+
+		logger.info("Partition {}: {}", partition.getPartitionNo(), result.getSummary());
+		return result;
+	}
+
+	private void updateInChunks(
+			@NonNull final Properties ctx,
+			@NonNull final Iterator<I_C_Invoice_Candidate> candidatesToUpdate,
+			final int itemsPerBatch,
+			@NonNull final ICUpdateResult result)
+	{
+		trxItemProcessorExecutorService.<I_C_Invoice_Candidate, ICUpdateResult> createExecutor()
+				.setContext(ctx, getTrxName()) // if called from process or wp-processor then getTrxName() is null because *we* want to manage the trx => commit after each chunk
+				.setItemsPerBatch(itemsPerBatch)
+
+				// Don't use trx savepoints because they are expensive and we are not going to rollback anyways (OnItemErrorPolicy.ContinueChunkAndCommit)
+				// Note that if our trx is null, then this doesn't matter anyways.
+				.setUseTrxSavepoints(false)
+
+				.setExceptionHandler(new ICTrxItemExceptionHandler(result))
+
+				// issue #302: ICTrxItemExceptionHandler will deal with problems, so we just continue if they happen.
+				.setOnItemErrorPolicy(OnItemErrorPolicy.ContinueChunkAndCommit)
+
+				.setProcessor(new TrxItemChunkProcessorAdapter<I_C_Invoice_Candidate, ICUpdateResult>()
+				{
+					/** the invoice candidates which were updated in current batch/chunk */
+					final List<Integer> chunkInvoiceCandidateIds = new ArrayList<>();
+
+					@Override
+					public void process(final I_C_Invoice_Candidate icRecord)
+					{
+						try (final MDCCloseable ignore = TableRecordMDC.putTableRecordReference(icRecord))
 						{
-							try (final MDCCloseable ignore = TableRecordMDC.putTableRecordReference(icRecord))
-							{
 
 
-								chunkInvoiceCandidateIds.add(icRecord.getC_Invoice_Candidate_ID());
+							chunkInvoiceCandidateIds.add(icRecord.getC_Invoice_Candidate_ID());
 
-								updateInvalid(icRecord);
-								if (!icRecord.isError())
-								{
-									logger.debug("Updated invoice candidate");
-									result.addInvoiceCandidate(icRecord);
-									final ITrx currentTrx = trxManager.getThreadInheritedTrx(OnTrxMissingPolicy.ReturnTrxNone);
-									if (trxManager.isActive(currentTrx))
-									{
-										final InvoiceCandidateValidationCollector collector = currentTrx.getPropertyAndProcessAfterCommit(
-												InvoiceCandidateValidationCollector.class.getName(),
-												InvoiceCandidateValidationCollector::new,
-												InvoiceCandidateValidationCollector::processAsync);
-
-										collector.collect(icRecord);
-									}
-								}
-								else
+							updateInvalid(icRecord);
+							if (!icRecord.isError())
+							{
+								logger.debug("Updated invoice candidate");
+								result.addInvoiceCandidate(icRecord);
+								final ITrx currentTrx = trxManager.getThreadInheritedTrx(OnTrxMissingPolicy.ReturnTrxNone);
+								if (trxManager.isActive(currentTrx))
 								{
-									Loggables.withLogger(logger, Level.DEBUG)
-											.addLog("Error updating invoice candidate; ic.errorMessage={}; icRecord={}", icRecord.getErrorMsg(), icRecord);
-									result.incrementErrorsCount();
+									final InvoiceCandidateValidationCollector collector = currentTrx.getPropertyAndProcessAfterCommit(
+											InvoiceCandidateValidationCollector.class.getName(),
+											InvoiceCandidateValidationCollector::new,
+											InvoiceCandidateValidationCollector::processAsync);
+
+									collector.collect(icRecord);
 								}
 							}
+							else
+							{
+								Loggables.withLogger(logger, Level.DEBUG)
+										.addLog("Error updating invoice candidate; ic.errorMessage={}; icRecord={}", icRecord.getErrorMsg(), icRecord);
+								result.incrementErrorsCount();
+							}
 						}
+					}
 
-						@Override
-						public ICUpdateResult getResult()
-						{
-							return result;
-						}
+					@Override
+					public ICUpdateResult getResult()
+					{
+						return result;
+					}
+
+					/**
+					 * Always return <code>true</code> and let the caller decide when to close the chunk (based on ItemsPerBatch setting).
+					 * We do this because in fact, each IC is independent from each other.
+					 * On the other hand, we don't want the overhead of dealing with each IC independently (trx-commit etc).
+					 */
+					@Override
+					public boolean isSameChunk(final I_C_Invoice_Candidate item)
+					{
+						return true;
+					}
 
-						/**
-						 * Always return <code>true</code> and let the caller decide when to close the chunk (based on ItemsPerBatch setting).
-						 * We do this because in fact, each IC is independent from each other.
-						 * On the other hand, we don't want the overhead of dealing with each IC independently (trx-commit etc).
-						 */
-						@Override
-						public boolean isSameChunk(final I_C_Invoice_Candidate item)
-						{
-							return true;
-						}
+					@Override
+					public void newChunk(final I_C_Invoice_Candidate item)
+					{
+						chunkInvoiceCandidateIds.clear(); // better safe than sorry
+					}
 
-						@Override
-						public void newChunk(final I_C_Invoice_Candidate item)
-						{
-							chunkInvoiceCandidateIds.clear(); // better safe than sorry
-						}
+					/** Delete the items which we just updated from <code>C_Invoice_Candidate_Recompute</code>. */
+					@Override
+					public void completeChunk()
+					{
+						icTagger.deleteTaggedAndInvalidateCache(chunkInvoiceCandidateIds);
+						chunkInvoiceCandidateIds.clear();
+					}
+				})
+				//
+				.process(candidatesToUpdate);
+	}
 
-						/** Delete the items which we just updated from <code>C_Invoice_Candidate_Recompute</code>. */
-						@Override
-						public void completeChunk()
-						{
-							icTagger.deleteTaggedAndInvalidateCache(chunkInvoiceCandidateIds);
-							chunkInvoiceCandidateIds.clear();
-						}
-					})
-					//
-					.process(candidatesToUpdate);
+	/**
+	 * @return true if we were not given a transaction and the current thread does not run in one, i.e. if we can manage the chunk transactions ourselves
+	 */
+	private boolean isOutOfTrx()
+	{
+		if (!trxManager.isNull(_trxName))
+		{
+			return false;
 		}
-
-		//
-		// Log the result
-		Loggables.addLog("Update invalid result: {}", result.getSummary());
+		final ITrx threadInheritedTrx = trxManager.getThreadInheritedTrx(OnTrxMissingPolicy.ReturnTrxNone);
+		return !trxManager.isActive(threadInheritedTrx);
 	}
 
 	private class InvoiceCandidateValidationCollector
@@ -521,6 +627,11 @@ import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
 		return sysConfigBL.getIntValue(SYSCONFIG_ItemsPerBatch, DEFAULT_ItemsPerBatch);
 	}
 
+	private int getParallelWorkers()
+	{
+		return Math.max(sysConfigBL.getIntValue(SYSCONFIG_ParallelWorkers, DEFAULT_ParallelWorkers), 1);
+	}
+
 	/**
 	 * IC update result.
 	 *
@@ -528,8 +639,26 @@ import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
 	 */
 	private static final class ICUpdateResult
 	{
+		/** partition number or -1 if this is an overall result */
+		private final int partitionNo;
 		private int countOk = 0;
 		private int countErrors = 0;
+		private long elapsedMillis = -1;
+
+		public ICUpdateResult()
+		{
+			this(-1);
+		}
+
+		public ICUpdateResult(final int partitionNo)
+		{
+			this.partitionNo = partitionNo;
+		}
+
+		public int getPartitionNo()
+		{
+			return partitionNo;
+		}
 
 		public void addInvoiceCandidate(final I_C_Invoice_Candidate ic)
 		{
@@ -541,6 +670,17 @@ import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
 			countErrors++;
 		}
 
+		public void add(@NonNull final ICUpdateResult partitionResult)
+		{
+			countOk += partitionResult.countOk;
+			countErrors += partitionResult.countErrors;
+		}
+
+		public void setElapsedMillis(final long elapsedMillis)
+		{
+			this.elapsedMillis = elapsedMillis;
+		}
+
 		@Override
 		public String toString()
 		{
@@ -549,7 +689,14 @@ import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
 
 		public String getSummary()
 		{
-			return "Updated " + countOk + " invoice candidates, " + countErrors + " errors";
+			final String summary = "Updated " + countOk + " invoice candidates, " + countErrors + " errors";
+			if (elapsedMillis < 0)
+			{
+				return summary;
+			}
+
+			final long itemsPerSecond = (countOk + countErrors) * 1000L / Math.max(elapsedMillis, 1);
+			return summary + " in " + elapsedMillis + "ms (" + itemsPerSecond + " items/sec)";
 		}
 	}
 
@@ -0,0 +1,153 @@
+/*
+ * #%L
+ * de.metas.swat.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.invoicecandidate.api.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import de.metas.invoicecandidate.InvoiceCandidateId;
+import de.metas.invoicecandidate.model.I_C_Invoice_Candidate;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.model.InterfaceWrapperHelper;
+import org.adempiere.util.concurrent.PartitionedExecutor;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.function.BiFunction;
+
+/**
+ * A partition of the invoice candidates which are recomputed by {@link InvoiceCandInvalidUpdater}.
+ * <p>
+ * Only the IDs are kept in memory; the actual records are loaded chunk by chunk by the worker that updates this partition.
+ */
+@ToString(exclude = "invoiceCandidateIds")
+/* package */ final class InvoiceCandRecomputePartition
+{
+	/**
+	 * Shared by all updaters, so the number of threads which are recomputing invoice candidates is bounded, no matter how many updaters are running.
+	 */
+	private static final PartitionedExecutor workers = PartitionedExecutor.newInstance(InvoiceCandRecomputePartition.class.getSimpleName() + "-Worker");
+
+	/**
+	 * Invoice candidates are distributed to partitions by their {@code Bill_BPartner_ID}.
+	 * It's part of each header aggregation key and, unlike the header aggregation key itself, it's not changed by the update,
+	 * so candidates which will end up in the same invoice are always in the same partition and never updated concurrently.
+	 */
+	public static Object extractPartitionKey(@NonNull final I_C_Invoice_Candidate icRecord)
+	{
+		return icRecord.getBill_BPartner_ID();
+	}
+
+	/**
+	 * Updates the given partitions concurrently, using the shared workers pool (see {@link PartitionedExecutor} about the context and loggable of the workers).
+	 *
+	 * @return the results of the non-empty partitions, in partition order
+	 * @throws AdempiereException if any partition failed, after all partitions are done; the other partitions' exceptions are added as suppressed
+	 */
+	public static <R> List<R> updateInParallel(
+			@NonNull final Properties ctx,
+			@NonNull final List<InvoiceCandRecomputePartition> partitions,
+			@NonNull final BiFunction<Properties, InvoiceCandRecomputePartition, R> partitionUpdater)
+	{
+		final List<InvoiceCandRecomputePartition> nonEmptyPartitions = partitions.stream()
+				.filter(partition -> !partition.isEmpty())
+				.collect(ImmutableList.toImmutableList());
+
+		return workers.processInParallel(ctx, nonEmptyPartitions, partitionUpdater);
+	}
+
+	public static List<InvoiceCandRecomputePartition> newPartitions(final int count)
+	{
+		final ImmutableList.Builder<InvoiceCandRecomputePartition> partitions = ImmutableList.builder();
+		for (int partitionNo = 0; partitionNo < count; partitionNo++)
+		{
+			partitions.add(new InvoiceCandRecomputePartition(partitionNo));
+		}
+		return partitions.build();
+	}
+
+	public static int computePartitionNo(@Nullable final Object partitionKey, final int partitionsCount)
+	{
+		return Math.floorMod(Objects.hashCode(partitionKey), partitionsCount);
+	}
+
+	@Getter
+	private final int partitionNo;
+
+	/** the IDs in the order in which they were retrieved, which is the order in which they need to be updated */
+	private final List<InvoiceCandidateId> invoiceCandidateIds = new ArrayList<>();
+
+	private InvoiceCandRecomputePartition(final int partitionNo)
+	{
+		this.partitionNo = partitionNo;
+	}
+
+	public void add(@NonNull final InvoiceCandidateId invoiceCandidateId)
+	{
+		invoiceCandidateIds.add(invoiceCandidateId);
+	}
+
+	public boolean isEmpty()
+	{
+		return invoiceCandidateIds.isEmpty();
+	}
+
+	public int size()
+	{
+		return invoiceCandidateIds.size();
+	}
+
+	public List<InvoiceCandidateId> getInvoiceCandidateIds()
+	{
+		return ImmutableList.copyOf(invoiceCandidateIds);
+	}
+
+	/**
+	 * @return iterator which loads the invoice candidates (out of transaction) in chunks of {@code chunkSize}, preserving their original order
+	 */
+	public Iterator<I_C_Invoice_Candidate> iterateInvoiceCandidates(final int chunkSize)
+	{
+		final Iterator<List<InvoiceCandidateId>> chunks = Iterators.partition(getInvoiceCandidateIds().iterator(), chunkSize);
+		return Iterators.concat(Iterators.transform(chunks, InvoiceCandRecomputePartition::loadChunk));
+	}
+
+	private static Iterator<I_C_Invoice_Candidate> loadChunk(@NonNull final List<InvoiceCandidateId> ids)
+	{
+		final Map<Integer, I_C_Invoice_Candidate> recordsById = Maps.uniqueIndex(
+				InterfaceWrapperHelper.loadByRepoIdAwaresOutOfTrx(ids, I_C_Invoice_Candidate.class),
+				I_C_Invoice_Candidate::getC_Invoice_Candidate_ID);
+
+		return ids.stream()
+				.map(id -> recordsById.get(id.getRepoId()))
+				.filter(Objects::nonNull) // the IC might have been deleted in the meantime
+				.iterator();
+	}
+}
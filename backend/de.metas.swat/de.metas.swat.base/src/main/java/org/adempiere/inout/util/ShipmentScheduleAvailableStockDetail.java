@@ -61,6 +61,7 @@ public class ShipmentScheduleAvailableStockDetail
 	@Getter(AccessLevel.PACKAGE)
 	private final AttributesKey storageAttributesKey;
 
+	private final BigDecimal initialQtyOnHand;
 	private BigDecimal qtyOnHand;
 
 	private final QtyCalculationsBOM pickingBOM;
@@ -79,6 +80,7 @@ public class ShipmentScheduleAvailableStockDetail
 		this.productId = productId;
 		this.warehouseId = warehouseId;
 		this.storageAttributesKey = storageAttributesKey;
+		this.initialQtyOnHand = qtyOnHand;
 		this.qtyOnHand = qtyOnHand;
 
 		this.pickingBOM = pickingBOM;
@@ -87,6 +89,24 @@ public class ShipmentScheduleAvailableStockDetail
 				: ImmutableListMultimap.of();
 	}
 
+	/**
+	 * @return a new instance with the qtyOnHand this instance was created with, i.e. without the quantities which were subtracted in the meantime
+	 */
+	ShipmentScheduleAvailableStockDetail copyWithInitialQtyOnHand()
+	{
+		return builder()
+				.productId(productId)
+				.warehouseId(warehouseId)
+				.storageAttributesKey(storageAttributesKey)
+				.qtyOnHand(initialQtyOnHand)
+				.pickingBOM(pickingBOM)
+				.componentStockDetails(componentStockDetails.values()
+						.stream()
+						.map(ShipmentScheduleAvailableStockDetail::copyWithInitialQtyOnHand)
+						.collect(ImmutableList.toImmutableList()))
+				.build();
+	}
+
 	public BigDecimal getQtyAvailable()
 	{
 		BigDecimal qtyOnHand = this.qtyOnHand;
@@ -22,8 +22,10 @@ import org.slf4j.MDC.MDCCloseable;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
 
 import de.metas.inoutcandidate.api.IShipmentScheduleEffectiveBL;
 import de.metas.inoutcandidate.model.I_M_ShipmentSchedule;
@@ -44,6 +46,12 @@ import lombok.ToString;
 /**
  * Loads stock details which are relevant to given {@link I_M_ShipmentSchedule}s.
  * Allows to change (in memory!) the qtyOnHand.
+ * <p>
+ * The stock details are indexed by product (i.e. by segment), so matching a shipment schedule only looks at the stock of its own product.
+ * Use {@link #newAllocationRun()} to start over with the initially loaded quantities, without loading them again.
+ * <p>
+ * An instance lives only for one shipment schedule update. The allocation state is not kept across updates and not applied incrementally,
+ * because the schedules are allocated in priority order and a changed schedule or stock can change the allocations of all schedules after it.
  */
 @ToString(of = "stockDetails")
 public class ShipmentScheduleQtyOnHandStorage
@@ -54,20 +62,48 @@ public class ShipmentScheduleQtyOnHandStorage
 	private final IPPOrderBL ppOrdersBL = Services.get(IPPOrderBL.class);
 
 	private final ImmutableList<ShipmentScheduleAvailableStockDetail> stockDetails;
-	private final Map<ArrayKey, StockDataQuery> cachedMaterialQueries = new HashMap<>();
-	private final Map<PPOrderId, Optional<QtyCalculationsBOM>> cachedPickingBOMs = new HashMap<>();
+	private final ImmutableListMultimap<ProductId, ShipmentScheduleAvailableStockDetail> stockDetailsByProductId;
+	private final Map<StockDataQuery, ImmutableList<ShipmentScheduleAvailableStockDetail>> cachedMatchingStockDetails = new HashMap<>();
+	private final Map<ArrayKey, StockDataQuery> cachedMaterialQueries;
+	private final Map<PPOrderId, Optional<QtyCalculationsBOM>> cachedPickingBOMs;
 
 	public ShipmentScheduleQtyOnHandStorage(
 			@NonNull final List<I_M_ShipmentSchedule> shipmentSchedules,
 			@NonNull final StockRepository stockRepository)
 	{
+		this.cachedMaterialQueries = new HashMap<>();
+		this.cachedPickingBOMs = new HashMap<>();
 		this.stockDetails = toStockDetails(shipmentSchedules, stockRepository);
+		this.stockDetailsByProductId = Multimaps.index(stockDetails, ShipmentScheduleAvailableStockDetail::getProductId);
 	}
 
 	@VisibleForTesting
 	ShipmentScheduleQtyOnHandStorage(@NonNull final List<ShipmentScheduleAvailableStockDetail> stockDetails)
 	{
+		this.cachedMaterialQueries = new HashMap<>();
+		this.cachedPickingBOMs = new HashMap<>();
 		this.stockDetails = ImmutableList.copyOf(stockDetails);
+		this.stockDetailsByProductId = Multimaps.index(this.stockDetails, ShipmentScheduleAvailableStockDetail::getProductId);
+	}
+
+	private ShipmentScheduleQtyOnHandStorage(@NonNull final ShipmentScheduleQtyOnHandStorage from)
+	{
+		// the material queries and picking BOMs are not affected by allocations, so we can share them
+		this.cachedMaterialQueries = from.cachedMaterialQueries;
+		this.cachedPickingBOMs = from.cachedPickingBOMs;
+		this.stockDetails = from.stockDetails
+				.stream()
+				.map(ShipmentScheduleAvailableStockDetail::copyWithInitialQtyOnHand)
+				.collect(ImmutableList.toImmutableList());
+		this.stockDetailsByProductId = Multimaps.index(this.stockDetails, ShipmentScheduleAvailableStockDetail::getProductId);
+	}
+
+	/**
+	 * @return a new storage with the same stock details, but with the qtyOnHand they were loaded with, i.e. without any allocations which were done on this storage.
+	 */
+	public ShipmentScheduleQtyOnHandStorage newAllocationRun()
+	{
+		return new ShipmentScheduleQtyOnHandStorage(this);
 	}
 
 	private final ImmutableList<ShipmentScheduleAvailableStockDetail> toStockDetails(
@@ -283,7 +319,13 @@ public class ShipmentScheduleQtyOnHandStorage
 
 	private ImmutableList<ShipmentScheduleAvailableStockDetail> getStockDetailsMatching(@NonNull final StockDataQuery query)
 	{
-		return stockDetails
+		return cachedMatchingStockDetails.computeIfAbsent(query, this::findStockDetailsMatching);
+	}
+
+	private ImmutableList<ShipmentScheduleAvailableStockDetail> findStockDetailsMatching(@NonNull final StockDataQuery query)
+	{
+		return stockDetailsByProductId
+				.get(query.getProductId())
 				.stream()
 				.filter(stockDetail -> matching(query, stockDetail))
 				.collect(ImmutableList.toImmutableList());
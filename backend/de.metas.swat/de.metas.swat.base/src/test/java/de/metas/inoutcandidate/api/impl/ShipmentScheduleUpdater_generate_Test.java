@@ -8,6 +8,8 @@ import java.util.List;
 
 import org.adempiere.inout.util.DeliveryLineCandidate;
 import org.adempiere.inout.util.IShipmentSchedulesDuringUpdate.CompleteStatus;
+import org.adempiere.inout.util.ShipmentScheduleQtyOnHandStorage;
+import org.adempiere.inout.util.ShipmentScheduleQtyOnHandStorageFactory;
 import org.adempiere.inout.util.ShipmentSchedulesDuringUpdate;
 import org.adempiere.test.AdempiereTestHelper;
 import org.adempiere.test.AdempiereTestWatcher;
@@ -36,6 +38,7 @@ import de.metas.inoutcandidate.api.impl.shipmentschedule_test_specs.StockSpec;
 import de.metas.inoutcandidate.api.impl.shipmentschedule_test_specs.TestSetupSpec;
 import de.metas.inoutcandidate.api.impl.shipmentschedule_test_specs.TestSetupSpecHelper;
 import de.metas.inoutcandidate.api.impl.shipmentschedule_test_specs.UomSpec;
+import de.metas.material.cockpit.stock.StockRepository;
 import de.metas.order.DeliveryRule;
 import de.metas.user.UserRepository;
 import de.metas.util.Services;
@@ -395,4 +398,82 @@ public class ShipmentScheduleUpdater_generate_Test
 		}
 
 	}
+
+	/**
+	 * Two schedules of different orders are sharing the stock of prod1, with a prod2 schedule in between.
+	 */
+	@Nested
+	public class sharedStock
+	{
+		private ImmutableList<OlAndSched> olAndScheds;
+
+		@BeforeEach
+		public void setup()
+		{
+			final TestSetupSpec spec = TestSetupSpec.builder()
+					.uom(UomSpec.builder().name("stockUom").build())
+					.product(ProductSpec.builder().value("prod1").uomValue("stockUom").stocked(true).build())
+					.product(ProductSpec.builder().value("prod2").uomValue("stockUom").stocked(true).build())
+					//
+					.stock(StockSpec.builder().product("prod1").qtyStock(new BigDecimal("3")).build())
+					.stock(StockSpec.builder().product("prod2").qtyStock(new BigDecimal("2")).build())
+					.stock(StockSpec.builder().product("prod1").qtyStock(new BigDecimal("12")).build())
+					//
+					.order(OrderSpec.builder().value("order1").build())
+					.order(OrderSpec.builder().value("order2").build())
+					.orderLine(OrderLineSpec.builder().value("ol1").product("prod1").order("order1").qtyOrdered(TEN).build())
+					.orderLine(OrderLineSpec.builder().value("ol2").product("prod2").order("order1").qtyOrdered(new BigDecimal("4")).build())
+					.orderLine(OrderLineSpec.builder().value("ol3").product("prod1").order("order2").qtyOrdered(TEN).build())
+					//
+					.shipmentSchedule(ShipmentScheduleSpec.builder().product("prod1").order("order1").orderLine("ol1").qtyOrdered(TEN)
+							.deliveryRule(DeliveryRule.AVAILABILITY)
+							.build())
+					.shipmentSchedule(ShipmentScheduleSpec.builder().product("prod2").order("order1").orderLine("ol2").qtyOrdered(new BigDecimal("4"))
+							.deliveryRule(DeliveryRule.AVAILABILITY)
+							.build())
+					.shipmentSchedule(ShipmentScheduleSpec.builder().product("prod1").order("order2").orderLine("ol3").qtyOrdered(TEN)
+							.deliveryRule(DeliveryRule.AVAILABILITY)
+							.build())
+					.build();
+
+			olAndScheds = TestSetupSpecHelper.setup(spec);
+		}
+
+		private List<BigDecimal> qtysToDeliver(@NonNull final ShipmentSchedulesDuringUpdate result)
+		{
+			return olAndScheds.stream()
+					.map(olAndSched -> result.getLineCandidateForShipmentScheduleId(olAndSched.getShipmentScheduleId()))
+					.map(line -> line != null ? line.getQtyToDeliver() : BigDecimal.ZERO)
+					.collect(ImmutableList.toImmutableList());
+		}
+
+		@Test
+		public void allocatedInScheduleOrder()
+		{
+			final ShipmentSchedulesDuringUpdate result = shipmentScheduleUpdater.generate_FirstRun(Env.getCtx(), olAndScheds);
+
+			assertThat(qtysToDeliver(result)).usingElementComparator(BigDecimal::compareTo)
+					.containsExactly(new BigDecimal("10"), new BigDecimal("2"), new BigDecimal("5"));
+		}
+
+		/**
+		 * The second run of an update starts from {@link ShipmentScheduleQtyOnHandStorage#newAllocationRun()} instead of loading the stock again;
+		 * make sure it allocates exactly like a storage which was freshly loaded.
+		 */
+		@Test
+		public void newAllocationRun_allocatesLikeFreshlyLoadedStock()
+		{
+			final ShipmentScheduleQtyOnHandStorage qtyOnHands = new ShipmentScheduleQtyOnHandStorageFactory(new StockRepository()).ofOlAndScheds(olAndScheds);
+			final ShipmentSchedulesDuringUpdate firstRun = shipmentScheduleUpdater.generate_FirstRun(Env.getCtx(), olAndScheds, qtyOnHands);
+
+			final ShipmentSchedulesDuringUpdate newAllocationRun = shipmentScheduleUpdater.generate_FirstRun(Env.getCtx(), olAndScheds, qtyOnHands.newAllocationRun());
+			final ShipmentSchedulesDuringUpdate freshlyLoaded = shipmentScheduleUpdater.generate_FirstRun(Env.getCtx(), olAndScheds);
+
+			assertThat(qtysToDeliver(firstRun)).usingElementComparator(BigDecimal::compareTo)
+					.containsExactly(new BigDecimal("10"), new BigDecimal("2"), new BigDecimal("5"));
+			assertThat(qtysToDeliver(newAllocationRun)).usingElementComparator(BigDecimal::compareTo)
+					.containsExactlyElementsOf(qtysToDeliver(freshlyLoaded))
+					.containsExactlyElementsOf(qtysToDeliver(firstRun));
+		}
+	}
 }
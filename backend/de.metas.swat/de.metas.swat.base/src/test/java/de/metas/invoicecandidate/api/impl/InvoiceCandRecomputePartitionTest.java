@@ -0,0 +1,159 @@
+/*
+ * #%L
+ * de.metas.swat.base
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.invoicecandidate.api.impl;
+
+import de.metas.invoicecandidate.InvoiceCandidateId;
+import de.metas.invoicecandidate.model.I_C_Invoice_Candidate;
+import org.adempiere.exceptions.AdempiereException;
+import org.adempiere.test.AdempiereTestHelper;
+import org.compiere.util.Env;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.adempiere.model.InterfaceWrapperHelper.newInstance;
+import static org.adempiere.model.InterfaceWrapperHelper.saveRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InvoiceCandRecomputePartitionTest
+{
+	@BeforeEach
+	public void init()
+	{
+		AdempiereTestHelper.get().init();
+	}
+
+	@Test
+	public void computePartitionNo_sameKeySamePartition()
+	{
+		for (int partitionsCount = 1; partitionsCount <= 8; partitionsCount++)
+		{
+			final int partitionNo = InvoiceCandRecomputePartition.computePartitionNo("headerKey-1", partitionsCount);
+			assertThat(partitionNo).isBetween(0, partitionsCount - 1);
+			assertThat(InvoiceCandRecomputePartition.computePartitionNo("headerKey-1", partitionsCount)).isEqualTo(partitionNo);
+		}
+
+		assertThat(InvoiceCandRecomputePartition.computePartitionNo(null, 4)).isEqualTo(0);
+		assertThat(InvoiceCandRecomputePartition.computePartitionNo(-7, 4)).isBetween(0, 3);
+	}
+
+	@Test
+	public void extractPartitionKey_billPartner()
+	{
+		final I_C_Invoice_Candidate ic = newInstance(I_C_Invoice_Candidate.class);
+		ic.setBill_BPartner_ID(123);
+		ic.setHeaderAggregationKey("key-before-update");
+		final Object partitionKeyBeforeUpdate = InvoiceCandRecomputePartition.extractPartitionKey(ic);
+
+		ic.setHeaderAggregationKey("key-after-update");
+		assertThat(InvoiceCandRecomputePartition.extractPartitionKey(ic)).isEqualTo(partitionKeyBeforeUpdate);
+	}
+
+	@Test
+	public void updateInParallel()
+	{
+		final List<InvoiceCandRecomputePartition> partitions = InvoiceCandRecomputePartition.newPartitions(4);
+		partitions.get(0).add(InvoiceCandidateId.ofRepoId(1));
+		partitions.get(1).add(InvoiceCandidateId.ofRepoId(2));
+		partitions.get(1).add(InvoiceCandidateId.ofRepoId(3));
+		// partitions.get(2) is empty
+		partitions.get(3).add(InvoiceCandidateId.ofRepoId(4));
+
+		final Properties ctx = Env.getCtx();
+		ctx.setProperty("test.partition", "caller");
+		final Set<Properties> workerCtxs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		final List<String> results = InvoiceCandRecomputePartition.updateInParallel(ctx, partitions, (workerCtx, partition) -> {
+			assertThat(workerCtx.getProperty("test.partition")).isEqualTo("caller");
+			workerCtx.setProperty("test.partition", "worker-" + partition.getPartitionNo());
+			synchronized (workerCtxs)
+			{
+				workerCtxs.add(workerCtx);
+			}
+			return partition.getPartitionNo() + ":" + partition.getInvoiceCandidateIds().size() + ":" + Thread.currentThread().getName().startsWith("InvoiceCandRecomputePartition-Worker");
+		});
+
+		assertThat(results).containsExactly("0:1:true", "1:2:true", "3:1:true");
+		assertThat(workerCtxs).hasSize(3).doesNotContain(ctx);
+		assertThat(ctx.getProperty("test.partition")).isEqualTo("caller");
+	}
+
+	@Test
+	public void updateInParallel_failingPartitions()
+	{
+		final List<InvoiceCandRecomputePartition> partitions = InvoiceCandRecomputePartition.newPartitions(3);
+		partitions.get(0).add(InvoiceCandidateId.ofRepoId(1));
+		partitions.get(1).add(InvoiceCandidateId.ofRepoId(2));
+		partitions.get(2).add(InvoiceCandidateId.ofRepoId(3));
+
+		final AtomicInteger updatedCount = new AtomicInteger();
+		assertThatThrownBy(() -> InvoiceCandRecomputePartition.updateInParallel(Env.getCtx(), partitions, (workerCtx, partition) -> {
+			updatedCount.incrementAndGet();
+			if (partition.getPartitionNo() != 1)
+			{
+				throw new AdempiereException("failed partition " + partition.getPartitionNo());
+			}
+			return partition.getPartitionNo();
+		}))
+				.hasMessageContaining("failed partition 0")
+				.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(1));
+
+		// the other partitions were updated anyways
+		assertThat(updatedCount).hasValue(3);
+	}
+
+	@Test
+	public void iterateInvoiceCandidates_preservesOrderAcrossChunks()
+	{
+		final I_C_Invoice_Candidate ic1 = createIC();
+		final I_C_Invoice_Candidate ic2 = createIC();
+		final I_C_Invoice_Candidate ic3 = createIC();
+
+		final InvoiceCandRecomputePartition partition = InvoiceCandRecomputePartition.newPartitions(1).get(0);
+		partition.add(InvoiceCandidateId.ofRepoId(ic3.getC_Invoice_Candidate_ID()));
+		partition.add(InvoiceCandidateId.ofRepoId(ic1.getC_Invoice_Candidate_ID()));
+		partition.add(InvoiceCandidateId.ofRepoId(ic2.getC_Invoice_Candidate_ID()));
+
+		final Iterator<I_C_Invoice_Candidate> it = partition.iterateInvoiceCandidates(2);
+		final List<Integer> ids = new ArrayList<>();
+		it.forEachRemaining(ic -> ids.add(ic.getC_Invoice_Candidate_ID()));
+
+		assertThat(ids).containsExactly(ic3.getC_Invoice_Candidate_ID(), ic1.getC_Invoice_Candidate_ID(), ic2.getC_Invoice_Candidate_ID());
+	}
+
+	private static I_C_Invoice_Candidate createIC()
+	{
+		final I_C_Invoice_Candidate ic = newInstance(I_C_Invoice_Candidate.class);
+		saveRecord(ic);
+		return ic;
+	}
+}
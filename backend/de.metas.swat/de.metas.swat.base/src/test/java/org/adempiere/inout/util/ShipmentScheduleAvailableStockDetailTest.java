@@ -154,5 +154,21 @@ public class ShipmentScheduleAvailableStockDetailTest
 				assertThat(testData.getSocksStockDetail().getQtyAvailable()).isEqualByComparingTo("0");
 			}
 		}
+
+		@Test
+		public void copyWithInitialQtyOnHand_after_subtract_2packs()
+		{
+			final ChristmasPackTestData testData = newTestData()
+					.chocolate_qtyOnHand(12)
+					.socks_qtyOnHand(6)
+					.build();
+
+			testData.getChristmasPackStockDetail().subtractQtyOnHand(new BigDecimal("2"));
+			assertThat(testData.getChristmasPackStockDetail().getQtyAvailable()).isEqualByComparingTo("0");
+
+			final ShipmentScheduleAvailableStockDetail christmasPackCopy = testData.getChristmasPackStockDetail().copyWithInitialQtyOnHand();
+			assertThat(christmasPackCopy.getQtyAvailable()).isEqualByComparingTo("2");
+			assertThat(testData.getChristmasPackStockDetail().getQtyAvailable()).isEqualByComparingTo("0");
+		}
 	}
 }
@@ -285,6 +285,17 @@ public class DebugRestController
 		sqlViewFactory.setDefaultProfileId(WindowId.fromJson(windowIdStr), ViewProfileId.fromJson(profileIdStr));
 	}
 
+	@GetMapping("/cacheStats")
+	public List<JSONCacheStats> getCacheStats()
+	{
+		userSession.assertLoggedIn();
+
+		return CacheMgt.get().getCacheStats()
+				.stream()
+				.map(JSONCacheStats::of)
+				.collect(GuavaCollectors.toImmutableList());
+	}
+
 	@RequestMapping(value = "/lookups/cacheStats", method = RequestMethod.GET)
 	public List<String> getLookupCacheStats()
 	{
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+package de.metas.ui.web.debug;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import de.metas.cache.CCache.CCacheStats;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+@Value
+@Builder
+public class JSONCacheStats
+{
+	public static JSONCacheStats of(@NonNull final CCacheStats stats)
+	{
+		return builder()
+				.cacheId(stats.getCacheId())
+				.name(stats.getName())
+				.type(stats.getCacheMapType().name())
+				.size(stats.getSize())
+				.hitCount(stats.getHitCount())
+				.missCount(stats.getMissCount())
+				.hitRate(stats.getHitRate())
+				.loadCount(stats.getLoadCount())
+				.averageLoadMillis(stats.getAverageLoadMillis())
+				.evictionCount(stats.getEvictionCount())
+				.invalidationCount(stats.getInvalidationCount())
+				.admissionRejectedCount(stats.getAdmissionRejectedCount())
+				.build();
+	}
+
+	@JsonProperty("cacheId")
+	long cacheId;
+	@JsonProperty("name")
+	String name;
+	@JsonProperty("type")
+	String type;
+	@JsonProperty("size")
+	long size;
+
+	@JsonProperty("hitCount")
+	long hitCount;
+	@JsonProperty("missCount")
+	long missCount;
+	@JsonProperty("hitRate")
+	double hitRate;
+
+	@JsonProperty("loadCount")
+	long loadCount;
+	@JsonProperty("averageLoadMillis")
+	double averageLoadMillis;
+
+	@JsonProperty("evictionCount")
+	long evictionCount;
+	@JsonProperty("invalidationCount")
+	long invalidationCount;
+	@JsonProperty("admissionRejectedCount")
+	long admissionRejectedCount;
+}
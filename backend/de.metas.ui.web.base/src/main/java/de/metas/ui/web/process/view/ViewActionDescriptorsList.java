@@ -64,6 +64,11 @@ public final class ViewActionDescriptorsList
 		this.viewActionsByActionId = viewActionsByActionId;
 	}
 
+	public boolean isEmpty()
+	{
+		return viewActionsByActionId.isEmpty();
+	}
+
 	public ViewActionDescriptorsList mergeWith(ViewActionDescriptorsList actionsToAdd)
 	{
 		if (actionsToAdd == null || actionsToAdd.viewActionsByActionId.isEmpty())
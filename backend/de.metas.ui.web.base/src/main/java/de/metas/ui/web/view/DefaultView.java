@@ -157,6 +157,14 @@ public final class DefaultView implements IEditableView
 	//
 	// View refreshing on change events
 	private final boolean refreshViewOnChangeEvents;
+
+	/**
+	 * true if this view can be recreated from a {@link ViewSnapshot}, i.e. it has no sticky filters other than the ones which are derived from the referencing document.
+	 */
+	@Getter
+	private final boolean shareable;
+	@Getter
+	private final boolean applySecurityRestrictions;
 	private final ChangedRowIdsCollector changedRowIdsToCheck = new ChangedRowIdsCollector();
 
 	private DefaultView(final Builder builder)
@@ -179,6 +187,8 @@ public final class DefaultView implements IEditableView
 		stickyFilters = builder.getStickyFilters();
 		filters = builder.getFilters();
 		refreshViewOnChangeEvents = builder.isRefreshViewOnChangeEvents();
+		shareable = builder.isShareable();
+		applySecurityRestrictions = builder.isApplySecurityRestrictions();
 
 		//
 		// Selection
@@ -188,10 +198,11 @@ public final class DefaultView implements IEditableView
 			selectionsRef = ViewRowIdsOrderedSelectionsHolder.builder()
 					.viewDataRepository(viewDataRepository)
 					.viewId(viewId)
-					.applySecurityRestrictions(builder.isApplySecurityRestrictions())
+					.applySecurityRestrictions(applySecurityRestrictions)
 					.stickyFilters(stickyFilters)
 					.filters(filters)
 					.viewEvaluationCtxSupplier(this::getViewEvaluationCtx)
+					.existingDefaultSelection(builder.getExistingDefaultSelection())
 					.build();
 		}
 
@@ -277,6 +288,11 @@ public final class DefaultView implements IEditableView
 		return selectionsRef.getDefaultSelectionBeforeFacetsFiltering();
 	}
 
+	public ViewRowIdsOrderedSelection getDefaultSelection()
+	{
+		return selectionsRef.getDefaultSelection();
+	}
+
 	public DocumentFilterDescriptorsProvider getFilterDescriptors()
 	{
 		return viewDataRepository.getViewFilterDescriptors();
@@ -761,6 +777,8 @@ public final class DefaultView implements IEditableView
 		private IViewInvalidationAdvisor viewInvalidationAdvisor = DefaultViewInvalidationAdvisor.instance;
 
 		private boolean applySecurityRestrictions = true;
+		private boolean shareable = false;
+		private ViewRowIdsOrderedSelection existingDefaultSelection;
 
 		private Builder(@NonNull final SqlViewDataRepository viewDataRepository)
 		{
@@ -978,5 +996,31 @@ public final class DefaultView implements IEditableView
 		{
 			return applySecurityRestrictions;
 		}
+
+		public Builder setShareable(final boolean shareable)
+		{
+			this.shareable = shareable;
+			return this;
+		}
+
+		private boolean isShareable()
+		{
+			return shareable;
+		}
+
+		/**
+		 * Advises the view to use the given selection instead of creating a new one.
+		 * Use it when the view's selection was already created in database (e.g. by another node).
+		 */
+		public Builder setExistingDefaultSelection(@Nullable final ViewRowIdsOrderedSelection existingDefaultSelection)
+		{
+			this.existingDefaultSelection = existingDefaultSelection;
+			return this;
+		}
+
+		private ViewRowIdsOrderedSelection getExistingDefaultSelection()
+		{
+			return existingDefaultSelection;
+		}
 	}
 }
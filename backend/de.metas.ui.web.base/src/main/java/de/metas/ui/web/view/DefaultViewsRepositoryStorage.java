@@ -1,16 +1,20 @@
 package de.metas.ui.web.view;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.adempiere.exceptions.AdempiereException;
 import org.slf4j.Logger;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import de.metas.logging.LogManager;
 import de.metas.ui.web.view.event.ViewChangesCollector;
@@ -73,6 +77,22 @@ public final class DefaultViewsRepositoryStorage implements IViewsIndexStorage
 		return views.getIfPresent(viewId);
 	}
 
+	/**
+	 * Gets the view from this storage or loads it using given loader and adds it to storage.
+	 * Concurrent calls for the same view ID will wait until the first loader finished.
+	 */
+	IView getByIdOrLoad(@NonNull final ViewId viewId, @NonNull final Supplier<IView> loader)
+	{
+		try
+		{
+			return views.get(viewId, loader::get);
+		}
+		catch (final ExecutionException | UncheckedExecutionException ex)
+		{
+			throw AdempiereException.wrapIfNeeded(ex.getCause());
+		}
+	}
+
 	@Override
 	public void closeById(@NonNull final ViewId viewId, @NonNull final ViewCloseAction closeAction)
 	{
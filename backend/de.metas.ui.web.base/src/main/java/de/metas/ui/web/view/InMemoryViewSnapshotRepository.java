@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.ui.web.view;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import de.metas.common.util.time.SystemTime;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * {@link ViewSnapshotRepository} which keeps the snapshots in memory.
+ * Useful for testing and for single node setups which want to exercise the shared storage code path.
+ */
+public final class InMemoryViewSnapshotRepository implements ViewSnapshotRepository
+{
+	private final ConcurrentHashMap<ViewId, SnapshotEntry> snapshots = new ConcurrentHashMap<>();
+
+	@Override
+	public void save(@NonNull final ViewSnapshot snapshot)
+	{
+		final ViewId viewId = ViewId.fromJson(snapshot.getViewId());
+		snapshots.put(viewId, new SnapshotEntry(snapshot, SystemTime.asInstant()));
+	}
+
+	@Nullable
+	@Override
+	public ViewSnapshot getByIdOrNull(@NonNull final ViewId viewId)
+	{
+		final SnapshotEntry entry = snapshots.get(viewId);
+		return entry != null ? entry.getSnapshot() : null;
+	}
+
+	@Override
+	public void deleteById(@NonNull final ViewId viewId)
+	{
+		snapshots.remove(viewId);
+	}
+
+	@Override
+	public void touch(@NonNull final Collection<ViewId> viewIds)
+	{
+		final Instant now = SystemTime.asInstant();
+		viewIds.forEach(viewId -> snapshots.computeIfPresent(viewId, (k, entry) -> new SnapshotEntry(entry.getSnapshot(), now)));
+	}
+
+	@Override
+	public int deleteNotUpdatedSince(@NonNull final Instant timestamp)
+	{
+		final int sizeBefore = snapshots.size();
+		snapshots.values().removeIf(entry -> entry.getUpdated().isBefore(timestamp));
+		return sizeBefore - snapshots.size();
+	}
+
+	public int size()
+	{
+		return snapshots.size();
+	}
+
+	@Value
+	private static class SnapshotEntry
+	{
+		@NonNull
+		ViewSnapshot snapshot;
+		@NonNull
+		Instant updated;
+	}
+}
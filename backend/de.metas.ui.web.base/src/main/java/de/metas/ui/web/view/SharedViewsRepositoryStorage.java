@@ -0,0 +1,227 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.ui.web.view;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+
+import com.google.common.collect.ImmutableSet;
+
+import de.metas.common.util.time.SystemTime;
+import de.metas.logging.LogManager;
+import de.metas.ui.web.window.datatypes.WindowId;
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * Views storage which, next to keeping the views in memory, is also publishing the view definitions (see {@link ViewSnapshot}) to a {@link ViewSnapshotRepository}
+ * which is shared by all nodes.
+ * <p>
+ * If a view is requested which is not known by this node, it will be lazily recreated from its snapshot.
+ * The view's selection, which is already in {@code T_WEBUI_ViewSelection}, will be reused and not recomputed.
+ * <p>
+ * Views which cannot be converted to snapshots (see {@link ViewSnapshotFactory#createSnapshotOrNull(IView)}) are only kept locally, same as {@link DefaultViewsRepositoryStorage} does.
+ * <p>
+ * NOTE: {@link #streamAllViews()} is returning only the views known by this node.
+ */
+// NOTE: don't add it to spring context! i.e. don't annotate it with @Component or similar
+public final class SharedViewsRepositoryStorage implements IViewsIndexStorage
+{
+	private static final Logger logger = LogManager.getLogger(SharedViewsRepositoryStorage.class);
+
+	private final DefaultViewsRepositoryStorage localViews;
+	private final ViewSnapshotRepository snapshotRepository;
+	private final ViewSnapshotFactory snapshotFactory;
+
+	private final Duration viewExpirationTimeout;
+	private final Duration expiredSnapshotsCheckInterval;
+	private final AtomicReference<Instant> nextExpiredSnapshotsCheck;
+
+	@Builder
+	private SharedViewsRepositoryStorage(
+			@NonNull final Duration viewExpirationTimeout,
+			@Nullable final Duration expiredSnapshotsCheckInterval,
+			@NonNull final ViewSnapshotRepository snapshotRepository,
+			@NonNull final ViewSnapshotFactory snapshotFactory)
+	{
+		this.localViews = new DefaultViewsRepositoryStorage(viewExpirationTimeout);
+		this.snapshotRepository = snapshotRepository;
+		this.snapshotFactory = snapshotFactory;
+
+		this.viewExpirationTimeout = viewExpirationTimeout;
+		this.expiredSnapshotsCheckInterval = expiredSnapshotsCheckInterval != null ? expiredSnapshotsCheckInterval : Duration.ofMinutes(5);
+		this.nextExpiredSnapshotsCheck = new AtomicReference<>(SystemTime.asInstant().plus(this.expiredSnapshotsCheckInterval));
+	}
+
+	@Override
+	public WindowId getWindowId()
+	{
+		throw new UnsupportedOperationException("windowId not available");
+	}
+
+	@Override
+	public void put(@NonNull final IView view)
+	{
+		localViews.put(view);
+		saveSnapshotIfPossible(view);
+		deleteExpiredSnapshotsIfDue();
+	}
+
+	private void saveSnapshotIfPossible(@NonNull final IView view)
+	{
+		try
+		{
+			final ViewSnapshot snapshot = snapshotFactory.createSnapshotOrNull(view);
+			if (snapshot == null)
+			{
+				logger.trace("View {} cannot be shared. Keeping it only locally.", view);
+				return;
+			}
+
+			snapshotRepository.save(snapshot);
+		}
+		catch (final Exception ex)
+		{
+			// NOTE: not sharing the view is not a reason to fail, the view is still usable on this node
+			logger.warn("Failed sharing {}. Keeping it only locally.", view, ex);
+		}
+	}
+
+	@Nullable
+	@Override
+	public IView getByIdOrNull(@NonNull final ViewId viewId)
+	{
+		deleteExpiredSnapshotsIfDue();
+
+		final IView view = localViews.getByIdOrNull(viewId);
+		if (view != null)
+		{
+			return view;
+		}
+
+		final ViewSnapshot snapshot = snapshotRepository.getByIdOrNull(viewId);
+		if (snapshot == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			return localViews.getByIdOrLoad(viewId, () -> createViewFromSnapshot(snapshot));
+		}
+		catch (final Exception ex)
+		{
+			logger.warn("Failed creating view {} from {}. Considering it not found.", viewId, snapshot, ex);
+			return null;
+		}
+	}
+
+	private IView createViewFromSnapshot(@NonNull final ViewSnapshot snapshot)
+	{
+		final IView view = snapshotFactory.createViewFromSnapshot(snapshot);
+		logger.debug("Created view {} from snapshot {}", view, snapshot);
+
+		// re-save it in order to refresh the snapshot's timestamp
+		saveSnapshotIfPossible(view);
+
+		return view;
+	}
+
+	@Override
+	public void closeById(@NonNull final ViewId viewId, @NonNull final ViewCloseAction closeAction)
+	{
+		// make sure the view is known locally, so it will be properly closed (i.e. selection deleted)
+		final IView view = getByIdOrNull(viewId);
+		if (view == null)
+		{
+			snapshotRepository.deleteById(viewId);
+			return;
+		}
+
+		// Don't remove the view if not allowed.
+		// Will be removed when it will expire.
+		if (!view.isAllowClosingPerUserRequest())
+		{
+			return;
+		}
+
+		localViews.closeById(viewId, closeAction);
+		snapshotRepository.deleteById(viewId);
+	}
+
+	@Override
+	public Stream<IView> streamAllViews()
+	{
+		return localViews.streamAllViews();
+	}
+
+	@Override
+	public void invalidateView(final ViewId viewId)
+	{
+		localViews.invalidateView(viewId);
+	}
+
+	private void deleteExpiredSnapshotsIfDue()
+	{
+		final Instant now = SystemTime.asInstant();
+		final Instant nextCheck = nextExpiredSnapshotsCheck.get();
+		if (now.isBefore(nextCheck)
+				|| !nextExpiredSnapshotsCheck.compareAndSet(nextCheck, now.plus(expiredSnapshotsCheckInterval)))
+		{
+			return;
+		}
+
+		// Local views are expired by last access, so the ones still here are in use.
+		// Touch their snapshots first, in order to not delete them because they were only saved long time ago.
+		try
+		{
+			final ImmutableSet<ViewId> localViewIds = localViews.streamAllViews()
+					.map(IView::getViewId)
+					.collect(ImmutableSet.toImmutableSet());
+			snapshotRepository.touch(localViewIds);
+		}
+		catch (final Exception ex)
+		{
+			logger.warn("Failed touching the snapshots of local views. Skip deleting expired view snapshots.", ex);
+			return;
+		}
+
+		// NOTE: other nodes are touching their views' snapshots only every expiredSnapshotsCheckInterval,
+		// so give them that extra time.
+		try
+		{
+			final int count = snapshotRepository.deleteNotUpdatedSince(now.minus(viewExpirationTimeout).minus(expiredSnapshotsCheckInterval));
+			logger.debug("Deleted {} expired view snapshots", count);
+		}
+		catch (final Exception ex)
+		{
+			logger.warn("Failed deleting expired view snapshots. Ignored.", ex);
+		}
+	}
+}
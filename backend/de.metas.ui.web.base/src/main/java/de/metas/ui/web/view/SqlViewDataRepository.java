@@ -4,12 +4,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.adempiere.ad.dao.IQueryBL;
 import org.adempiere.ad.trx.api.ITrx;
 import org.adempiere.exceptions.AdempiereException;
@@ -44,12 +48,14 @@ import de.metas.ui.web.view.descriptor.SqlViewSelectData;
 import de.metas.ui.web.window.datatypes.DocumentId;
 import de.metas.ui.web.window.datatypes.DocumentIdsSelection;
 import de.metas.ui.web.window.datatypes.LookupValue;
+import de.metas.ui.web.window.datatypes.LookupValuesList;
 import de.metas.ui.web.window.datatypes.WindowId;
 import de.metas.ui.web.window.datatypes.json.JSONLookupValue;
 import de.metas.ui.web.window.datatypes.json.JSONNullValue;
 import de.metas.ui.web.window.datatypes.json.JSONOptions;
 import de.metas.ui.web.window.descriptor.DocumentFieldWidgetType;
 import de.metas.ui.web.window.model.DocumentQueryOrderByList;
+import de.metas.ui.web.window.model.lookup.LookupDataSource;
 import de.metas.ui.web.window.model.sql.SqlOptions;
 import de.metas.util.Check;
 import de.metas.util.Services;
@@ -92,6 +98,7 @@ class SqlViewDataRepository implements IViewDataRepository
 
 	private final boolean hasIncludedRows;
 	private final ImmutableMap<String, SqlViewRowFieldLoader> rowFieldLoaders;
+	private final ImmutableMap<String, LookupDataSource> lookupDataSourcesByFieldName;
 	private final ViewRowCustomizer rowCustomizer;
 
 	private final SqlDocumentFilterConverter filterConverters;
@@ -111,6 +118,10 @@ class SqlViewDataRepository implements IViewDataRepository
 		this.rowFieldLoaders = sqlBindings.getFields()
 				.stream()
 				.collect(ImmutableMap.toImmutableMap(SqlViewRowFieldBinding::getFieldName, SqlViewRowFieldBinding::getFieldLoader));
+		this.lookupDataSourcesByFieldName = sqlBindings.getFields()
+				.stream()
+				.filter(field -> field.getLookupDataSource() != null)
+				.collect(ImmutableMap.toImmutableMap(SqlViewRowFieldBinding::getFieldName, SqlViewRowFieldBinding::getLookupDataSource));
 		this.rowCustomizer = sqlBindings.getRowCustomizer();
 
 		this.filterConverters = SqlDocumentFilterConverters.createEntityBindingEffectiveConverter(sqlBindings);
@@ -283,6 +294,13 @@ class SqlViewDataRepository implements IViewDataRepository
 			}
 		}
 
+		resolveLookupValues(rowBuilders.values());
+
+		if (rowCustomizer != null)
+		{
+			rowBuilders.values().forEach(rowCustomizer::customizeViewRow);
+		}
+
 		//
 		// Load lines
 		if (hasIncludedRows && !rootRowIds.isEmpty())
@@ -346,12 +364,51 @@ class SqlViewDataRepository implements IViewDataRepository
 			viewRowBuilder.putFieldValue(fieldName, value);
 		}
 
-		if (rowCustomizer != null)
+		return viewRowBuilder;
+	}
+
+	/**
+	 * Resolves the display values of those lookup fields which could not be selected together with the rows,
+	 * using one lookup call per field for all the given rows.
+	 */
+	private void resolveLookupValues(final Collection<ViewRow.Builder> rowBuilders)
+	{
+		if (lookupDataSourcesByFieldName.isEmpty() || rowBuilders.isEmpty())
 		{
-			rowCustomizer.customizeViewRow(viewRowBuilder);
+			return;
 		}
 
-		return viewRowBuilder;
+		for (final Map.Entry<String, LookupDataSource> fieldNameAndLookup : lookupDataSourcesByFieldName.entrySet())
+		{
+			final String fieldName = fieldNameAndLookup.getKey();
+			final ImmutableSet<Object> ids = rowBuilders.stream()
+					.map(rowBuilder -> getFieldValueAsLookupValueOrNull(rowBuilder, fieldName))
+					.filter(Objects::nonNull)
+					.map(LookupValue::getId)
+					.collect(ImmutableSet.toImmutableSet());
+			if (ids.isEmpty())
+			{
+				continue;
+			}
+
+			final LookupValuesList lookupValues = fieldNameAndLookup.getValue().findByIdsOrdered(ids);
+			for (final ViewRow.Builder rowBuilder : rowBuilders)
+			{
+				final LookupValue unresolvedValue = getFieldValueAsLookupValueOrNull(rowBuilder, fieldName);
+				final LookupValue resolvedValue = unresolvedValue != null ? lookupValues.getById(unresolvedValue.getId()) : null;
+				if (resolvedValue != null)
+				{
+					rowBuilder.putFieldValue(fieldName, resolvedValue);
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private static LookupValue getFieldValueAsLookupValueOrNull(final ViewRow.Builder rowBuilder, final String fieldName)
+	{
+		final Object value = rowBuilder.getFieldValue(fieldName);
+		return value instanceof LookupValue ? (LookupValue)value : null;
 	}
 
 	private DocumentId retrieveRowId(final ResultSet rs, final JSONOptions jsonOpts) throws SQLException
@@ -25,6 +25,7 @@ package de.metas.ui.web.view;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -38,6 +39,7 @@ import org.compiere.util.Env;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 
 import de.metas.document.references.ZoomInfoPermissionsFactory;
@@ -49,6 +51,7 @@ import de.metas.ui.web.document.filter.DocumentFilterList;
 import de.metas.ui.web.document.filter.DocumentFilterParam;
 import de.metas.ui.web.document.filter.DocumentFilterParam.Operator;
 import de.metas.ui.web.document.filter.DocumentFilterParamDescriptor;
+import de.metas.ui.web.document.filter.json.JSONDocumentFilter;
 import de.metas.ui.web.document.filter.provider.DocumentFilterDescriptorsProvider;
 import de.metas.ui.web.document.filter.sql.SqlDocumentFilterConverterDecorator;
 import de.metas.ui.web.document.geo_location.GeoLocationDocumentService;
@@ -61,11 +64,14 @@ import de.metas.ui.web.view.descriptor.ViewLayout;
 import de.metas.ui.web.view.descriptor.ViewLayoutFactory;
 import de.metas.ui.web.view.json.JSONFilterViewRequest;
 import de.metas.ui.web.view.json.JSONViewDataType;
+import de.metas.ui.web.window.datatypes.DocumentId;
 import de.metas.ui.web.window.datatypes.DocumentPath;
 import de.metas.ui.web.window.datatypes.WindowId;
+import de.metas.ui.web.window.datatypes.json.JSONOptions;
 import de.metas.ui.web.window.descriptor.DocumentEntityDescriptor;
 import de.metas.ui.web.window.descriptor.DocumentFieldWidgetType;
 import de.metas.ui.web.window.descriptor.factory.DocumentDescriptorFactory;
+import de.metas.util.collections.CollectionUtils;
 import lombok.NonNull;
 
 /**
@@ -75,7 +81,7 @@ import lombok.NonNull;
  * @author metas-dev <dev@metasfresh.com>
  */
 @Service
-public class SqlViewFactory implements IViewFactory
+public class SqlViewFactory implements IViewFactory, ViewSnapshotFactory
 {
 	private static final Logger logger = LogManager.getLogger(SqlViewFactory.class);
 	private final DocumentReferencesService documentReferencesService;
@@ -150,6 +156,14 @@ public class SqlViewFactory implements IViewFactory
 
 	@Override
 	public DefaultView createView(final @NonNull CreateViewRequest request)
+	{
+		final ViewRowIdsOrderedSelection existingDefaultSelection = null;
+		return createView(request, existingDefaultSelection);
+	}
+
+	private DefaultView createView(
+			@NonNull final CreateViewRequest request,
+			@Nullable final ViewRowIdsOrderedSelection existingDefaultSelection)
 	{
 		final WindowId windowId = request.getViewId().getWindowId();
 
@@ -174,7 +188,9 @@ public class SqlViewFactory implements IViewFactory
 						request.getDocumentReferenceId()))
 				.applySecurityRestrictions(request.isApplySecurityRestrictions())
 				.viewInvalidationAdvisor(sqlViewBinding.getViewInvalidationAdvisor())
-				.refreshViewOnChangeEvents(sqlViewBinding.isRefreshViewOnChangeEvents());
+				.refreshViewOnChangeEvents(sqlViewBinding.isRefreshViewOnChangeEvents())
+				.setShareable(isShareable(request))
+				.setExistingDefaultSelection(existingDefaultSelection);
 
 		final DocumentFilterList filters = request.getFiltersUnwrapped(viewDataRepository.getViewFilterDescriptors());
 		viewBuilder.setFilters(filters);
@@ -194,6 +210,89 @@ public class SqlViewFactory implements IViewFactory
 		return viewBuilder.build();
 	}
 
+	/**
+	 * @return true if the view created from given request can be recreated from a {@link ViewSnapshot}.
+	 * That's the case if all its sticky filters can be derived again from the referencing document
+	 * and the request does not carry anything else which is not part of the snapshot (parameters, actions, related processes).
+	 */
+	@VisibleForTesting
+	static boolean isShareable(@NonNull final CreateViewRequest request)
+	{
+		if (!request.getStickyFilters().isEmpty() || !request.getFilterOnlyIds().isEmpty())
+		{
+			return false;
+		}
+
+		if (!request.getParameters().isEmpty()
+				|| !request.getActions().isEmpty()
+				|| !request.getAdditionalRelatedProcessDescriptors().isEmpty())
+		{
+			return false;
+		}
+
+		final Set<DocumentPath> referencingDocumentPaths = request.getReferencingDocumentPaths();
+		return referencingDocumentPaths.isEmpty()
+				|| (referencingDocumentPaths.size() == 1 && referencingDocumentPaths.iterator().next().isRootDocument());
+	}
+
+	@Nullable
+	@Override
+	public ViewSnapshot createSnapshotOrNull(@NonNull final IView view)
+	{
+		if (!(view instanceof DefaultView))
+		{
+			return null;
+		}
+
+		final DefaultView defaultView = (DefaultView)view;
+		if (!defaultView.isShareable())
+		{
+			return null;
+		}
+
+		final ViewProfileId profileId = defaultView.getProfileId();
+		final ViewId parentViewId = defaultView.getParentViewId();
+		final DocumentId parentRowId = defaultView.getParentRowId();
+		final DocumentPath referencingDocumentPath = CollectionUtils.singleElementOrNull(defaultView.getReferencingDocumentPaths());
+		final DocumentReferenceId documentReferenceId = defaultView.getDocumentReferenceId();
+
+		return ViewSnapshot.builder()
+				.viewId(defaultView.getViewId().toJson())
+				.viewType(defaultView.getViewType())
+				.profileId(!ViewProfileId.isNull(profileId) ? profileId.toJson() : null)
+				.parentViewId(parentViewId != null ? parentViewId.toJson() : null)
+				.parentRowId(parentRowId != null ? parentRowId.toJson() : null)
+				.referencingWindowId(referencingDocumentPath != null ? referencingDocumentPath.getWindowId().toJson() : null)
+				.referencingDocumentId(referencingDocumentPath != null ? referencingDocumentPath.getDocumentId().toJson() : null)
+				.documentReferenceId(documentReferenceId != null ? documentReferenceId.toJson() : null)
+				.applySecurityRestrictions(defaultView.isApplySecurityRestrictions())
+				.filters(JSONDocumentFilter.ofList(defaultView.getFilters(), JSONOptions.newInstance()))
+				.defaultSelection(ViewSnapshot.SelectionSnapshot.of(defaultView.getDefaultSelection()))
+				.build();
+	}
+
+	@Override
+	public DefaultView createViewFromSnapshot(@NonNull final ViewSnapshot snapshot)
+	{
+		final CreateViewRequest.Builder request = CreateViewRequest.builder(ViewId.fromJson(snapshot.getViewId()), snapshot.getViewType())
+				.setProfileId(ViewProfileId.fromJson(snapshot.getProfileId()))
+				.setParentViewId(snapshot.getParentViewId() != null ? ViewId.fromJson(snapshot.getParentViewId()) : null)
+				.setParentRowId(snapshot.getParentRowId() != null ? DocumentId.ofString(snapshot.getParentRowId()) : null)
+				.setDocumentReferenceId(snapshot.getDocumentReferenceId() != null ? DocumentReferenceId.ofString(snapshot.getDocumentReferenceId()) : null)
+				.setFiltersFromJSON(snapshot.getFilters())
+				.setUseAutoFilters(false) // auto filters, if any, are already part of the snapshot's filters
+				.applySecurityRestrictions(snapshot.isApplySecurityRestrictions());
+
+		if (snapshot.getReferencingWindowId() != null && snapshot.getReferencingDocumentId() != null)
+		{
+			request.setReferencingDocumentPath(DocumentPath.rootDocumentPath(
+					WindowId.fromJson(snapshot.getReferencingWindowId()),
+					snapshot.getReferencingDocumentId()));
+		}
+
+		return createView(request.build(), snapshot.getDefaultSelection().toSelection());
+	}
+
 	@Nullable
 	private DocumentFilter extractReferencedDocumentFilter(
 			@NonNull final WindowId targetWindowId,
@@ -312,9 +411,16 @@ public class SqlViewFactory implements IViewFactory
 		// }
 		// else
 		{
-			return createView(CreateViewRequest.filterViewBuilder(view)
-					.setFilters(newFilters)
-					.build());
+			final CreateViewRequest.Builder request = CreateViewRequest.filterViewBuilder(view)
+					.setFilters(newFilters);
+			if (view.isShareable())
+			{
+				// the sticky filters of a shareable view are derived from its referencing document,
+				// so let them be derived again in order to keep the filtered view shareable too
+				request.setStickyFilters(DocumentFilterList.EMPTY);
+			}
+
+			return createView(request.build());
 		}
 	}
 
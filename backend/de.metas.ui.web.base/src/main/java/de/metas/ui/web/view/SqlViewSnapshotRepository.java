@@ -0,0 +1,120 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.ui.web.view;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.adempiere.ad.trx.api.ITrx;
+import org.adempiere.exceptions.AdempiereException;
+import org.compiere.util.DB;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+
+import de.metas.JsonObjectMapperHolder;
+import de.metas.util.Check;
+import lombok.NonNull;
+
+/**
+ * {@link ViewSnapshotRepository} which keeps the snapshots in {@value #TABLENAME}, so they are visible to all nodes which are connected to the same database.
+ */
+public final class SqlViewSnapshotRepository implements ViewSnapshotRepository
+{
+	static final String TABLENAME = "T_WEBUI_ViewSnapshot";
+
+	private final ObjectMapper jsonObjectMapper = JsonObjectMapperHolder.sharedJsonObjectMapper();
+
+	@Override
+	public void save(@NonNull final ViewSnapshot snapshot)
+	{
+		final String sql = "INSERT INTO " + TABLENAME + " (ViewId, Snapshot, Updated) VALUES (?, ?, now())"
+				+ " ON CONFLICT (ViewId) DO UPDATE SET Snapshot=EXCLUDED.Snapshot, Updated=EXCLUDED.Updated";
+		final Object[] sqlParams = new Object[] { snapshot.getViewId(), toJson(snapshot) };
+		DB.executeUpdateEx(sql, sqlParams, ITrx.TRXNAME_None);
+	}
+
+	@Nullable
+	@Override
+	public ViewSnapshot getByIdOrNull(@NonNull final ViewId viewId)
+	{
+		final String json = DB.getSQLValueStringEx(ITrx.TRXNAME_None, "SELECT Snapshot FROM " + TABLENAME + " WHERE ViewId=?", viewId.toJson());
+		return !Check.isEmpty(json, true) ? fromJson(json) : null;
+	}
+
+	@Override
+	public void deleteById(@NonNull final ViewId viewId)
+	{
+		DB.executeUpdateEx("DELETE FROM " + TABLENAME + " WHERE ViewId=?", new Object[] { viewId.toJson() }, ITrx.TRXNAME_None);
+	}
+
+	@Override
+	public void touch(@NonNull final Collection<ViewId> viewIds)
+	{
+		if (viewIds.isEmpty())
+		{
+			return;
+		}
+
+		final List<Object> sqlParams = new ArrayList<>();
+		final String sql = "UPDATE " + TABLENAME + " SET Updated=now() WHERE " + DB.buildSqlList("ViewId", viewIds.stream().map(ViewId::toJson).collect(ImmutableList.toImmutableList()), sqlParams);
+		DB.executeUpdateEx(sql, sqlParams.toArray(), ITrx.TRXNAME_None);
+	}
+
+	@Override
+	public int deleteNotUpdatedSince(@NonNull final Instant timestamp)
+	{
+		return DB.executeUpdateEx("DELETE FROM " + TABLENAME + " WHERE Updated < ?", new Object[] { Timestamp.from(timestamp) }, ITrx.TRXNAME_None);
+	}
+
+	private String toJson(final ViewSnapshot snapshot)
+	{
+		try
+		{
+			return jsonObjectMapper.writeValueAsString(snapshot);
+		}
+		catch (final JsonProcessingException ex)
+		{
+			throw new AdempiereException("Failed converting " + snapshot + " to JSON", ex);
+		}
+	}
+
+	private ViewSnapshot fromJson(final String json)
+	{
+		try
+		{
+			return jsonObjectMapper.readValue(json, ViewSnapshot.class);
+		}
+		catch (final IOException ex)
+		{
+			throw new AdempiereException("Failed converting JSON to " + ViewSnapshot.class.getSimpleName() + ": " + json, ex);
+		}
+	}
+}
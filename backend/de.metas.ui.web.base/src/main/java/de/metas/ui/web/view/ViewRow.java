@@ -5,6 +5,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -305,6 +307,12 @@ public final class ViewRow implements IViewRow
 			return values;
 		}
 
+		@Nullable
+		public Object getFieldValue(final String fieldName)
+		{
+			return values.get(fieldName);
+		}
+
 		public LookupValue getFieldValueAsLookupValue(final String fieldName)
 		{
 			return LookupValue.cast(values.get(fieldName));
@@ -62,7 +62,8 @@ final class ViewRowIdsOrderedSelectionsHolder
 			final boolean applySecurityRestrictions,
 			@NonNull final DocumentFilterList stickyFilters,
 			@NonNull final DocumentFilterList filters,
-			@NonNull final Supplier<ViewEvaluationCtx> viewEvaluationCtxSupplier)
+			@NonNull final Supplier<ViewEvaluationCtx> viewEvaluationCtxSupplier,
+			@Nullable final ViewRowIdsOrderedSelection existingDefaultSelection)
 	{
 		this.viewDataRepository = viewDataRepository;
 		this.viewId = viewId;
@@ -88,6 +89,21 @@ final class ViewRowIdsOrderedSelectionsHolder
 
 		filtersExcludingFacets = DocumentFilterList.ofList(filtersExcludingFacetsList);
 		facetFilters = DocumentFilterList.ofList(facetFiltersList);
+
+		//
+		// Reuse the already existing selection (e.g. view was created on another node)
+		if (existingDefaultSelection != null)
+		{
+			if (facetFilters.isEmpty())
+			{
+				currentSelectionsRef.setValue(ViewRowIdsOrderedSelections.ofDefaultSelection(existingDefaultSelection, existingDefaultSelection));
+			}
+			else
+			{
+				// we don't know the selection before facets filtering, so we have to recreate them all
+				selectionDeleteBeforeCreate.set(true);
+			}
+		}
 	}
 
 	public long getSize()
@@ -0,0 +1,126 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.ui.web.view;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import de.metas.ui.web.document.filter.json.JSONDocumentFilter;
+import de.metas.ui.web.view.json.JSONViewDataType;
+import de.metas.ui.web.window.model.DocumentQueryOrderByList;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Serializable definition of a view, which is sufficient to recreate the view on another node.
+ * <p>
+ * NOTE: the view's rows are not part of the snapshot. They are already stored in {@code T_WEBUI_ViewSelection} and we only keep a reference to them.
+ *
+ * @see SharedViewsRepositoryStorage
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonDeserialize(builder = ViewSnapshot.ViewSnapshotBuilder.class)
+public class ViewSnapshot
+{
+	@NonNull
+	String viewId;
+	@NonNull
+	JSONViewDataType viewType;
+	@Nullable
+	String profileId;
+
+	@Nullable
+	String parentViewId;
+	@Nullable
+	String parentRowId;
+
+	@Nullable
+	String referencingWindowId;
+	@Nullable
+	String referencingDocumentId;
+	@Nullable
+	String documentReferenceId;
+
+	boolean applySecurityRestrictions;
+
+	@Singular
+	List<JSONDocumentFilter> filters;
+
+	@NonNull
+	SelectionSnapshot defaultSelection;
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	@JsonPOJOBuilder(withPrefix = "")
+	public static class ViewSnapshotBuilder
+	{
+	}
+
+	@Value
+	@Builder
+	@JsonDeserialize(builder = SelectionSnapshot.SelectionSnapshotBuilder.class)
+	public static class SelectionSnapshot
+	{
+		public static SelectionSnapshot of(@NonNull final ViewRowIdsOrderedSelection selection)
+		{
+			return builder()
+					.viewId(selection.getViewId().toJson())
+					.size(selection.getSize())
+					.orderBys(selection.getOrderBys().toStringSyntax())
+					.queryLimit(selection.getQueryLimit())
+					.build();
+		}
+
+		@NonNull
+		String viewId;
+		long size;
+		@Nullable
+		String orderBys;
+		int queryLimit;
+
+		public ViewRowIdsOrderedSelection toSelection()
+		{
+			return ViewRowIdsOrderedSelection.builder()
+					.viewId(ViewId.fromJson(viewId))
+					.size(size)
+					.orderBys(DocumentQueryOrderByList.parse(orderBys))
+					.queryLimit(queryLimit)
+					.build();
+		}
+
+		@JsonIgnoreProperties(ignoreUnknown = true)
+		@JsonPOJOBuilder(withPrefix = "")
+		public static class SelectionSnapshotBuilder
+		{
+		}
+	}
+}
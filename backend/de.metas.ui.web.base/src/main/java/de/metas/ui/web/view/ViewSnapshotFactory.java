@@ -0,0 +1,41 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.ui.web.view;
+
+import javax.annotation.Nullable;
+
+/**
+ * Converts views to {@link ViewSnapshot}s and back.
+ *
+ * @see SharedViewsRepositoryStorage
+ */
+public interface ViewSnapshotFactory
+{
+	/**
+	 * @return snapshot or <code>null</code> if the given view cannot be recreated from a snapshot
+	 */
+	@Nullable
+	ViewSnapshot createSnapshotOrNull(IView view);
+
+	IView createViewFromSnapshot(ViewSnapshot snapshot);
+}
@@ -0,0 +1,58 @@
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+package de.metas.ui.web.view;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Shared store of {@link ViewSnapshot}s.
+ *
+ * @see SharedViewsRepositoryStorage
+ */
+public interface ViewSnapshotRepository
+{
+	/**
+	 * Saves the given snapshot. If a snapshot for the same view already exists, it will be overridden.
+	 */
+	void save(ViewSnapshot snapshot);
+
+	@Nullable
+	ViewSnapshot getByIdOrNull(ViewId viewId);
+
+	void deleteById(ViewId viewId);
+
+	/**
+	 * Marks the snapshots of given views as recently used, so they won't be considered expired by {@link #deleteNotUpdatedSince(Instant)}.
+	 */
+	void touch(Collection<ViewId> viewIds);
+
+	/**
+	 * Deletes all snapshots which were not saved or touched since given timestamp.
+	 *
+	 * @return how many snapshots were deleted
+	 */
+	int deleteNotUpdatedSince(Instant timestamp);
+}
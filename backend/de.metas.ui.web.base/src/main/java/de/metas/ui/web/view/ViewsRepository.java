@@ -33,6 +33,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Nullable;
 import javax.annotation.PostConstruct;
 import java.time.Duration;
 import java.util.Collection;
@@ -71,6 +72,12 @@ public class ViewsRepository implements IViewsRepository
 {
 	private static final Logger logger = LogManager.getLogger(ViewsRepository.class);
 
+	private static final String SYSCONFIG_ViewExpirationTimeoutInMinutes = "de.metas.ui.web.view.ViewExpirationTimeoutInMinutes";
+	/**
+	 * If enabled, the view definitions are shared between all nodes, so the WebUI nodes can be load-balanced without sticky sessions.
+	 */
+	private static final String SYSCONFIG_SharedViewsStorage = "de.metas.ui.web.view.SharedViewsStorage";
+
 	private final ImmutableMap<ViewFactoryKey, IViewFactory> factories;
 	private final SqlViewFactory defaultFactory;
 	private final MenuTreeRepository menuTreeRepo;
@@ -102,12 +109,31 @@ public class ViewsRepository implements IViewsRepository
 		this.menuTreeRepo = menuTreeRepo;
 		this.websocketActiveSubscriptionsIndex = websocketActiveSubscriptionsIndex;
 
-		final Duration viewExpirationTimeout = Duration.ofMinutes(Services.get(ISysConfigBL.class).getIntValue("de.metas.ui.web.view.ViewExpirationTimeoutInMinutes", 60));
-		defaultViewsIndexStorage = new DefaultViewsRepositoryStorage(viewExpirationTimeout);
+		defaultViewsIndexStorage = createDefaultViewsIndexStorage();
 
 		async = createAsyncExecutor();
 	}
 
+	private IViewsIndexStorage createDefaultViewsIndexStorage()
+	{
+		final ISysConfigBL sysConfigBL = Services.get(ISysConfigBL.class);
+		final Duration viewExpirationTimeout = Duration.ofMinutes(sysConfigBL.getIntValue(SYSCONFIG_ViewExpirationTimeoutInMinutes, 60));
+
+		if (sysConfigBL.getBooleanValue(SYSCONFIG_SharedViewsStorage, false))
+		{
+			logger.info("Using shared views storage (see {})", SYSCONFIG_SharedViewsStorage);
+			return SharedViewsRepositoryStorage.builder()
+					.viewExpirationTimeout(viewExpirationTimeout)
+					.snapshotRepository(new SqlViewSnapshotRepository())
+					.snapshotFactory(new DefaultFactoryViewSnapshotFactory())
+					.build();
+		}
+		else
+		{
+			return new DefaultViewsRepositoryStorage(viewExpirationTimeout);
+		}
+	}
+
 	private static Executor createAsyncExecutor()
 	{
 		final CustomizableThreadFactory asyncThreadFactory = new CustomizableThreadFactory(ViewsRepository.class.getSimpleName());
@@ -118,10 +144,16 @@ public class ViewsRepository implements IViewsRepository
 	@PostConstruct
 	private void truncateTempTablesIfAllowed()
 	{
-		if (truncateSelectionOnStartUp)
+		if (defaultViewsIndexStorage instanceof SharedViewsRepositoryStorage)
+		{
+			// the selections belong to views which other nodes are still serving
+			logger.info("Skip truncating selection tables on startup because the views are shared with other nodes (see {})", SYSCONFIG_SharedViewsStorage);
+		}
+		else if (truncateSelectionOnStartUp)
 		{
 			truncateTable(I_T_WEBUI_ViewSelection.Table_Name);
 			truncateTable(I_T_WEBUI_ViewSelectionLine.Table_Name);
+			truncateTable(SqlViewSnapshotRepository.TABLENAME);
 		}
 		else
 		{
@@ -476,4 +508,26 @@ public class ViewsRepository implements IViewsRepository
 		JSONViewDataType viewType;
 	}
 
+
+	/**
+	 * Shares only the views which were created by the {@link #defaultFactory}, because only those can be recreated from snapshots.
+	 */
+	private class DefaultFactoryViewSnapshotFactory implements ViewSnapshotFactory
+	{
+		@Nullable
+		@Override
+		public ViewSnapshot createSnapshotOrNull(@NonNull final IView view)
+		{
+			final IViewFactory factory = getFactory(view.getViewId().getWindowId(), view.getViewType());
+			return factory == defaultFactory
+					? defaultFactory.createSnapshotOrNull(view)
+					: null;
+		}
+
+		@Override
+		public IView createViewFromSnapshot(@NonNull final ViewSnapshot snapshot)
+		{
+			return defaultFactory.createViewFromSnapshot(snapshot);
+		}
+	}
 }
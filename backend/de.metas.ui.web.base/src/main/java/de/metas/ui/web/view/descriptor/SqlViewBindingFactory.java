@@ -26,12 +26,15 @@ import de.metas.ui.web.view.ViewRowCustomizer;
 import de.metas.ui.web.view.descriptor.SqlViewRowFieldBinding.SqlViewRowFieldLoader;
 import de.metas.ui.web.window.datatypes.WindowId;
 import de.metas.ui.web.window.descriptor.DocumentEntityDescriptor;
+import de.metas.ui.web.window.descriptor.DocumentFieldDescriptor;
 import de.metas.ui.web.window.descriptor.DocumentFieldDescriptor.Characteristic;
 import de.metas.ui.web.window.descriptor.LookupDescriptor;
 import de.metas.ui.web.window.descriptor.factory.DocumentDescriptorFactory;
 import de.metas.ui.web.window.descriptor.sql.DocumentFieldValueLoader;
 import de.metas.ui.web.window.descriptor.sql.SqlDocumentEntityDataBindingDescriptor;
 import de.metas.ui.web.window.descriptor.sql.SqlDocumentFieldDataBindingDescriptor;
+import de.metas.ui.web.window.model.lookup.LookupDataSource;
+import de.metas.ui.web.window.model.lookup.LookupDataSourceFactory;
 import de.metas.util.Check;
 import lombok.Builder;
 import lombok.NonNull;
@@ -137,10 +140,9 @@ public class SqlViewBindingFactory
 		final WindowId windowId = key.getWindowId();
 		final DocumentEntityDescriptor entityDescriptor = documentDescriptorFactory.getDocumentEntityDescriptor(windowId);
 		final Set<String> displayFieldNames = entityDescriptor.getFieldNamesWithCharacteristic(key.getRequiredFieldCharacteristic());
-		final SqlDocumentEntityDataBindingDescriptor entityBinding = SqlDocumentEntityDataBindingDescriptor.cast(entityDescriptor.getDataBinding());
 		final DocumentFilterDescriptorsProvider filterDescriptors = entityDescriptor.getFilterDescriptors();
 
-		final SqlViewBinding.Builder builder = createBuilderForEntityBindingAndFieldNames(entityBinding, displayFieldNames)
+		final SqlViewBinding.Builder builder = createBuilderForEntityAndFieldNames(entityDescriptor, displayFieldNames)
 				.filterDescriptors(filterDescriptors)
 				.refreshViewOnChangeEvents(entityDescriptor.isRefreshViewOnChangeEvents())
 				.viewInvalidationAdvisor(getViewInvalidationAdvisor(windowId));
@@ -162,15 +164,19 @@ public class SqlViewBindingFactory
 		return builder.build();
 	}
 
-	private SqlViewBinding.Builder createBuilderForEntityBindingAndFieldNames(
-			@NonNull final SqlDocumentEntityDataBindingDescriptor entityBinding,
+	private SqlViewBinding.Builder createBuilderForEntityAndFieldNames(
+			@NonNull final DocumentEntityDescriptor entityDescriptor,
 			@NonNull final Set<String> displayFieldNames)
 	{
+		final SqlDocumentEntityDataBindingDescriptor entityBinding = SqlDocumentEntityDataBindingDescriptor.cast(entityDescriptor.getDataBinding());
 		final SqlViewBinding.Builder builder = prepareSqlViewBinding(entityBinding);
 
 		entityBinding.getFields()
 				.stream()
-				.map(documentField -> createViewFieldBinding(documentField, displayFieldNames))
+				.map(documentField -> createViewFieldBinding(
+						documentField,
+						displayFieldNames,
+						getLookupDataSourceIfDisplayed(entityDescriptor, documentField.getFieldName(), displayFieldNames)))
 				.forEach(builder::field);
 		builder.displayFieldNames(displayFieldNames);
 		return builder;
@@ -185,9 +191,42 @@ public class SqlViewBindingFactory
 				.defaultOrderBys(entityBinding.getDefaultOrderBys());
 	}
 
+	@Nullable
+	private static LookupDataSource getLookupDataSourceIfDisplayed(
+			@NonNull final DocumentEntityDescriptor entityDescriptor,
+			@NonNull final String fieldName,
+			@NonNull final Set<String> displayFieldNames)
+	{
+		if (!displayFieldNames.contains(fieldName))
+		{
+			return null;
+		}
+
+		final DocumentFieldDescriptor field = entityDescriptor.getFieldOrNull(fieldName);
+		if (field == null)
+		{
+			return null;
+		}
+
+		return field.getLookupDescriptor()
+				.map(LookupDataSourceFactory.instance::getLookupDataSource)
+				.orElse(null);
+	}
+
 	public static final SqlViewRowFieldBinding createViewFieldBinding(
 			@NonNull final SqlDocumentFieldDataBindingDescriptor documentField,
 			@NonNull final Collection<String> availableDisplayColumnNames)
+	{
+		return createViewFieldBinding(documentField, availableDisplayColumnNames, null);
+	}
+
+	/**
+	 * @param lookupDataSource used to resolve the field's display values in case they cannot be selected together with the row
+	 */
+	private static SqlViewRowFieldBinding createViewFieldBinding(
+			@NonNull final SqlDocumentFieldDataBindingDescriptor documentField,
+			@NonNull final Collection<String> availableDisplayColumnNames,
+			@Nullable final LookupDataSource lookupDataSource)
 	{
 		final String fieldName = documentField.getFieldName();
 		final boolean isDisplayColumnAvailable = documentField.getSqlSelectDisplayValue() != null && availableDisplayColumnNames.contains(fieldName);
@@ -206,6 +245,7 @@ public class SqlViewBindingFactory
 				.sqlOrderBy(documentField.getSqlOrderBy())
 				//
 				.fieldLoader(new DocumentFieldValueLoaderAsSqlViewRowFieldLoader(documentField.getDocumentFieldValueLoader(), isDisplayColumnAvailable))
+				.lookupDataSource(isDisplayColumnAvailable ? null : lookupDataSource)
 				//
 				.build();
 	}
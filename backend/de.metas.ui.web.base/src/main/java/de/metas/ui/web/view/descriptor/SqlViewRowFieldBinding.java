@@ -10,6 +10,7 @@ import de.metas.ui.web.window.descriptor.sql.SqlEntityFieldBinding;
 import de.metas.ui.web.window.descriptor.sql.SqlOrderByValue;
 import de.metas.ui.web.window.descriptor.sql.SqlSelectDisplayValue;
 import de.metas.ui.web.window.descriptor.sql.SqlSelectValue;
+import de.metas.ui.web.window.model.lookup.LookupDataSource;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.Value;
@@ -62,6 +63,13 @@ public class SqlViewRowFieldBinding implements SqlEntityFieldBinding
 
 	private final SqlViewRowFieldLoader fieldLoader;
 
+	/**
+	 * Lookup used to resolve the display values of this field, in case the SQL is not providing them.
+	 * Null if the display values are provided by the SQL or if this is not a displayed lookup field.
+	 */
+	@Nullable
+	private final LookupDataSource lookupDataSource;
+
 	@Builder
 	private SqlViewRowFieldBinding(
 			@NonNull final String fieldName,
@@ -75,7 +83,8 @@ public class SqlViewRowFieldBinding implements SqlEntityFieldBinding
 			@Nullable final SqlSelectDisplayValue sqlSelectDisplayValue,
 			//
 			@Nullable final SqlOrderByValue sqlOrderBy,
-			@NonNull final SqlViewRowFieldLoader fieldLoader)
+			@NonNull final SqlViewRowFieldLoader fieldLoader,
+			@Nullable final LookupDataSource lookupDataSource)
 	{
 		this.fieldName = fieldName;
 		this.columnName = columnName != null ? columnName : this.fieldName;
@@ -91,5 +100,6 @@ public class SqlViewRowFieldBinding implements SqlEntityFieldBinding
 				? sqlOrderBy
 				: SqlOrderByValue.builder().sqlSelectDisplayValue(sqlSelectDisplayValue).sqlSelectValue(sqlSelectValue).columnName(columnName).build();
 		this.fieldLoader = fieldLoader;
+		this.lookupDataSource = lookupDataSource;
 	}
 }
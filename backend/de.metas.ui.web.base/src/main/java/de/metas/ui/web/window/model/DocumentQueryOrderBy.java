@@ -96,6 +96,14 @@ public final class DocumentQueryOrderBy
 		this.nullsLast = nullsLast != null ? nullsLast : getDefaultNullsLastByAscending(this.ascending);
 	}
 
+	/**
+	 * @return order by in the syntax accepted by {@link #parse(String)}, e.g. +C_BPartner_ID
+	 */
+	public String toStringSyntax()
+	{
+		return (ascending ? "+" : "-") + fieldName;
+	}
+
 	public DocumentQueryOrderBy copyOverridingFieldName(final String fieldName)
 	{
 		if (Objects.equals(this.fieldName, fieldName))
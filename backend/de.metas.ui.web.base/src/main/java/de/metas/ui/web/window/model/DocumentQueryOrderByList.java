@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -112,6 +113,16 @@ public class DocumentQueryOrderByList
 		list.forEach(consumer);
 	}
 
+	/**
+	 * @return order bys in the syntax accepted by {@link #parse(String)}, e.g. +C_BPartner_ID,-DateOrdered
+	 */
+	public String toStringSyntax()
+	{
+		return list.stream()
+				.map(DocumentQueryOrderBy::toStringSyntax)
+				.collect(Collectors.joining(","));
+	}
+
 	public <T extends IViewRow> Comparator<T> toComparator(
 			@NonNull final FieldValueExtractor<T> fieldValueExtractor,
 			@NonNull final JSONOptions jsonOpts)
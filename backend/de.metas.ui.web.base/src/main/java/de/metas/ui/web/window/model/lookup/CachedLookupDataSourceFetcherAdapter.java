@@ -1,10 +1,15 @@
 package de.metas.ui.web.window.model.lookup;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import de.metas.cache.CCache;
 import de.metas.cache.CCache.CCacheStats;
@@ -72,8 +77,8 @@ public final class CachedLookupDataSourceFetcherAdapter implements LookupDataSou
 		final int maxSize = 100;
 		final int expireAfterMinutes = 60 * 2;
 		// NOTE: it's very important to have the lookupTableName as cache name prefix because we want the cache invalidation to happen for this table
-		cache_retrieveEntities = CCache.newLRUCache(cachePrefix + "#" + NAME + "#retrieveEntities", maxSize, expireAfterMinutes);
-		cache_retrieveLookupValueById = CCache.newLRUCache(cachePrefix + "#" + NAME + "#retrieveLookupValueById", maxSize, expireAfterMinutes);
+		cache_retrieveEntities = CCache.newLFUCache(cachePrefix + "#" + NAME + "#retrieveEntities", maxSize, expireAfterMinutes);
+		cache_retrieveLookupValueById = CCache.newLFUCache(cachePrefix + "#" + NAME + "#retrieveLookupValueById", maxSize, expireAfterMinutes);
 	}
 
 	@Override
@@ -137,6 +142,73 @@ public final class CachedLookupDataSourceFetcherAdapter implements LookupDataSou
 		return cache_retrieveLookupValueById.getOrLoad(evalCtx, () -> delegate.retrieveLookupValueById(evalCtx));
 	}
 
+	@Override
+	public LookupDataSourceContext.Builder newContextForFetchingByIds(final Collection<?> ids)
+	{
+		return delegate.newContextForFetchingByIds(ids);
+	}
+
+	/**
+	 * Looks up each ID in the same cache as {@link #retrieveLookupValueById(LookupDataSourceContext)} and fetches all the missing ones in one go.
+	 */
+	@Override
+	public LookupValuesList retrieveLookupValuesByIds(final LookupDataSourceContext evalCtx)
+	{
+		final ImmutableSet<Object> ids = evalCtx.getIdsToFilter();
+		if (ids.isEmpty())
+		{
+			return LookupValuesList.EMPTY;
+		}
+
+		final Map<LookupDataSourceContext, Object> idsByCacheKey = new HashMap<>(ids.size());
+		for (final Object id : ids)
+		{
+			idsByCacheKey.put(createCacheKeyForFetchingById(id), id);
+		}
+
+		final Collection<LookupValue> lookupValues = cache_retrieveLookupValueById.getAllOrLoad(
+				idsByCacheKey.keySet(),
+				cacheKeysToLoad -> retrieveLookupValuesByCacheKeys(cacheKeysToLoad, idsByCacheKey));
+
+		return lookupValues.stream()
+				.filter(lookupValue -> lookupValue != LOOKUPVALUE_NULL)
+				.collect(LookupValuesList.collect());
+	}
+
+	/**
+	 * @return the same context which {@link LookupDataSourceAdapter#findById(Object)} is using, so both methods share the cached values
+	 */
+	private LookupDataSourceContext createCacheKeyForFetchingById(final Object id)
+	{
+		return delegate.newContextForFetchingById(id)
+				.putFilterById(id)
+				.putShowInactive(true)
+				.build();
+	}
+
+	private Map<LookupDataSourceContext, LookupValue> retrieveLookupValuesByCacheKeys(
+			final Set<LookupDataSourceContext> cacheKeys,
+			final Map<LookupDataSourceContext, Object> idsByCacheKey)
+	{
+		final ImmutableSet<Object> ids = cacheKeys.stream()
+				.map(idsByCacheKey::get)
+				.collect(ImmutableSet.toImmutableSet());
+
+		final LookupValuesList lookupValuesLoaded = delegate.retrieveLookupValuesByIds(delegate.newContextForFetchingByIds(ids)
+				.putShowInactive(true)
+				.build());
+
+		final Map<LookupDataSourceContext, LookupValue> result = new HashMap<>(cacheKeys.size());
+		for (final LookupDataSourceContext cacheKey : cacheKeys)
+		{
+			final LookupValue lookupValue = lookupValuesLoaded.getById(idsByCacheKey.get(cacheKey));
+
+			// also cache the IDs which were not found, like retrieveLookupValueById does
+			result.put(cacheKey, lookupValue != null ? lookupValue : LOOKUPVALUE_NULL);
+		}
+		return result;
+	}
+
 	@Override
 	public Builder newContextForFetchingList()
 	{
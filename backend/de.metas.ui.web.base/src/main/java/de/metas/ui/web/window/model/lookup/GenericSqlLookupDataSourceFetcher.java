@@ -22,8 +22,11 @@
 
 package de.metas.ui.web.window.model.lookup;
 
+import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import de.metas.adempiere.service.impl.TooltipType;
 import de.metas.cache.CCache.CCacheStats;
 import de.metas.i18n.ITranslatableString;
@@ -48,6 +51,10 @@ import org.adempiere.ad.validationRule.INamePairPredicate;
 import org.compiere.util.DB;
 import org.slf4j.Logger;
 
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +70,10 @@ public class GenericSqlLookupDataSourceFetcher implements LookupDataSourceFetche
 
 	private static final Logger logger = LogManager.getLogger(GenericSqlLookupDataSourceFetcher.class);
 
+	/** Column which holds the IDs in the SQL built by {@link #retrieveLookupValuesByIds(LookupDataSourceContext)} */
+	private static final String SQL_LookupIdsColumnNameFQ = "lookup_ids.id";
+	private static final int MAX_IDS_PER_QUERY = 500;
+
 	private final @NonNull String lookupTableName;
 	private final @NonNull Optional<String> lookupTableNameAsOptional;
 	private final boolean numericKey;
@@ -212,6 +223,60 @@ public class GenericSqlLookupDataSourceFetcher implements LookupDataSourceFetche
 			return LOOKUPVALUE_NULL;
 		}
 
+		return toLookupValue(id, nameAndDescriptionAndActive, evalCtx);
+	}
+
+	@Override
+	public LookupDataSourceContext.Builder newContextForFetchingByIds(@NonNull final Collection<?> ids)
+	{
+		return LookupDataSourceContext.builder(lookupTableName)
+				.putFilterByIdParameterName(SQL_LookupIdsColumnNameFQ)
+				.putFilterByIds(ids)
+				.setRequiredParameters(sqlForFetchingLookupByIdExpression.getParameters());
+	}
+
+	/**
+	 * Fetches all lookup values with one SQL query (per {@value #MAX_IDS_PER_QUERY} IDs),
+	 * by joining the given IDs with the same SQL which is used by {@link #retrieveLookupValueById(LookupDataSourceContext)}.
+	 */
+	@Override
+	public LookupValuesList retrieveLookupValuesByIds(@NonNull final LookupDataSourceContext evalCtx)
+	{
+		final ImmutableSet<Object> ids = evalCtx.getIdsToFilter();
+		if (ids.isEmpty())
+		{
+			return LookupValuesList.EMPTY;
+		}
+
+		final String sqlForFetchingLookupById = sqlForFetchingLookupByIdExpression.evaluate(evalCtx);
+
+		final ArrayList<LookupValue> lookupValues = new ArrayList<>(ids.size());
+		for (final List<Object> idsChunk : Iterables.partition(ids, MAX_IDS_PER_QUERY))
+		{
+			final String sql = "SELECT lookup_ids.id, lookup.*"
+					+ "\n FROM unnest(ARRAY[" + Joiner.on(",").join(Collections.nCopies(idsChunk.size(), "?")) + "]) AS lookup_ids(id)"
+					+ "\n INNER JOIN LATERAL (" + sqlForFetchingLookupById + "\n LIMIT 1) lookup ON TRUE";
+
+			lookupValues.addAll(DB.retrieveRowsOutOfTrx(sql, idsChunk, rs -> {
+				final Object id = numericKey ? (Object)rs.getInt(1) : rs.getString(1);
+				final Array array = rs.getArray(2);
+				final String[] nameAndDescriptionAndActive = array != null ? (String[])array.getArray() : null;
+				if (nameAndDescriptionAndActive == null || nameAndDescriptionAndActive.length == 0)
+				{
+					return null;
+				}
+				return toLookupValue(id, nameAndDescriptionAndActive, evalCtx);
+			}));
+		}
+
+		return LookupValuesList.fromCollection(lookupValues);
+	}
+
+	private LookupValue toLookupValue(
+			@NonNull final Object id,
+			@NonNull final String[] nameAndDescriptionAndActive,
+			@NonNull final LookupDataSourceContext evalCtx)
+	{
 		final String displayName = nameAndDescriptionAndActive[0];
 		final String description = nameAndDescriptionAndActive.length >= 2 ? nameAndDescriptionAndActive[1] : null;
 		final boolean active = nameAndDescriptionAndActive.length < 3 || StringUtils.toBoolean(nameAndDescriptionAndActive[2]);
@@ -73,8 +73,6 @@ public interface LookupDataSource extends LookupValueByIdSupplier
 			return LookupValuesList.EMPTY;
 		}
 
-		// TODO @teo: avoid SQL N+1 problem and also return the data ordered in the input collection order
-
 		return new LinkedHashSet<>(ids)
 				.stream()
 				.map(this::findById)
@@ -1,11 +1,14 @@
 package de.metas.ui.web.window.model.lookup;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.compiere.util.Evaluatee;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
 
 import de.metas.cache.CCache.CCacheStats;
 import de.metas.ui.web.window.datatypes.LookupValue;
@@ -134,6 +137,33 @@ final class LookupDataSourceAdapter implements LookupDataSource
 		return lookupValue;
 	}
 
+	@Override
+	public LookupValuesList findByIdsOrdered(@NonNull final Collection<?> ids)
+	{
+		//
+		// Normalize the IDs to Integer/String, preserving their order
+		final ImmutableSet<Object> idsNormalized = ids.stream()
+				.map(idObj -> LookupValue.normalizeId(idObj, fetcher.isNumericKey()))
+				.filter(Objects::nonNull)
+				.collect(ImmutableSet.toImmutableSet());
+		if (idsNormalized.isEmpty())
+		{
+			return LookupValuesList.EMPTY;
+		}
+
+		//
+		// Get the lookup values, all in one go
+		final LookupDataSourceContext evalCtx = fetcher.newContextForFetchingByIds(idsNormalized)
+				.putShowInactive(true)
+				.build();
+		final LookupValuesList lookupValues = fetcher.retrieveLookupValuesByIds(evalCtx);
+
+		return idsNormalized.stream()
+				.map(lookupValues::getById)
+				.filter(Objects::nonNull)
+				.collect(LookupValuesList.collect());
+	}
+
 	@Override
 	public List<CCacheStats> getCacheStats()
 	{
@@ -27,6 +27,7 @@ import org.compiere.util.TimeUtil;
 import org.slf4j.Logger;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import de.metas.logging.LogManager;
 import de.metas.security.UserRolePermissionsKey;
@@ -101,17 +102,20 @@ public final class LookupDataSourceContext implements Evaluatee2, IValidationCon
 	private final String lookupTableName;
 	private final ImmutableMap<String, Object> parameterValues;
 	private final Object idToFilter;
+	private final ImmutableSet<Object> idsToFilter;
 	private final INamePairPredicate postQueryPredicate;
 
 	private LookupDataSourceContext(
 			final String lookupTableName,
 			final Map<String, Object> values,
 			final Object idToFilter,
+			final ImmutableSet<Object> idsToFilter,
 			final INamePairPredicate postQueryPredicate)
 	{
 		this.lookupTableName = lookupTableName;
 		parameterValues = ImmutableMap.copyOf(values);
 		this.idToFilter = idToFilter;
+		this.idsToFilter = idsToFilter;
 		this.postQueryPredicate = postQueryPredicate;
 	}
 
@@ -330,6 +334,14 @@ public final class LookupDataSourceContext implements Evaluatee2, IValidationCon
 		return idToFilter != null ? idToFilter.toString() : null;
 	}
 
+	/**
+	 * @return IDs to filter when fetching multiple lookup values by ID; empty if not fetching by IDs
+	 */
+	public ImmutableSet<Object> getIdsToFilter()
+	{
+		return idsToFilter;
+	}
+
 	public ViewId getViewId()
 	{
 		final ViewId viewId = get_ValueAsObject(PARAM_ViewId.getName());
@@ -357,6 +369,7 @@ public final class LookupDataSourceContext implements Evaluatee2, IValidationCon
 		private INamePairPredicate postQueryPredicate = INamePairPredicate.NULL;
 		private final Map<String, Object> name2value = new HashMap<>();
 		private Object idToFilter;
+		private ImmutableSet<Object> idsToFilter = ImmutableSet.of();
 		private Collection<CtxName> _requiredParameters;
 		private boolean _requiredParameters_copyOnAdd = false;
 
@@ -397,7 +410,7 @@ public final class LookupDataSourceContext implements Evaluatee2, IValidationCon
 
 			//
 			// Build the effective context
-			return new LookupDataSourceContext(lookupTableName, valuesCollected, idToFilter, postQueryPredicate);
+			return new LookupDataSourceContext(lookupTableName, valuesCollected, idToFilter, idsToFilter, postQueryPredicate);
 		}
 
 		private Collection<CtxName> getRequiredParameters()
@@ -544,6 +557,12 @@ public final class LookupDataSourceContext implements Evaluatee2, IValidationCon
 			return this;
 		}
 
+		public Builder putFilterByIds(@NonNull final Collection<?> ids)
+		{
+			idsToFilter = ImmutableSet.copyOf(ids);
+			return this;
+		}
+
 		public Builder putShowInactive(final boolean showInactive)
 		{
 			final String sqlShowInactive = showInactive ? SqlForFetchingLookupById.SQL_PARAM_VALUE_ShowInactive_Yes : SqlForFetchingLookupById.SQL_PARAM_VALUE_ShowInactive_No;
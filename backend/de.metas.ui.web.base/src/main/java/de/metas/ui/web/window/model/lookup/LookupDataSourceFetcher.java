@@ -9,6 +9,7 @@ import de.metas.ui.web.window.datatypes.WindowId;
 import lombok.NonNull;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +49,31 @@ public interface LookupDataSourceFetcher
 	@Nullable
 	LookupValue retrieveLookupValueById(@NonNull LookupDataSourceContext evalCtx);
 
+	default LookupDataSourceContext.Builder newContextForFetchingByIds(@NonNull final Collection<?> ids)
+	{
+		return LookupDataSourceContext.builderWithoutTableName()
+				.putFilterByIds(ids);
+	}
+
+	/**
+	 * Retrieves the lookup values for {@link LookupDataSourceContext#getIdsToFilter()}.
+	 * <p>
+	 * The default implementation fetches them one by one. Implementors which can fetch them in one go (e.g. one SQL query) shall override it.
+	 *
+	 * @return lookup values which were found, in no particular order
+	 */
+	default LookupValuesList retrieveLookupValuesByIds(@NonNull final LookupDataSourceContext evalCtx)
+	{
+		return evalCtx.getIdsToFilter()
+				.stream()
+				.map(id -> retrieveLookupValueById(newContextForFetchingById(id)
+						.putFilterById(id)
+						.putShowInactive(true)
+						.build()))
+				.filter(lookupValue -> lookupValue != null && lookupValue != LOOKUPVALUE_NULL)
+				.collect(LookupValuesList.collect());
+	}
+
 	LookupDataSourceContext.Builder newContextForFetchingList();
 
 	LookupValuesList retrieveEntities(LookupDataSourceContext evalCtx);
@@ -0,0 +1,13 @@
+-- view definitions which are shared between WebUI nodes (see de.metas.ui.web.view.SharedViewsRepositoryStorage)
+CREATE TABLE T_WEBUI_ViewSnapshot
+(
+  ViewId character varying(120) NOT NULL,
+  Snapshot text NOT NULL,
+  Updated timestamp with time zone NOT NULL DEFAULT now(),
+  CONSTRAINT T_WEBUI_ViewSnapshot_pkey PRIMARY KEY (ViewId)
+);
+
+CREATE INDEX T_WEBUI_ViewSnapshot_Updated
+  ON T_WEBUI_ViewSnapshot
+  USING btree
+  (Updated);
@@ -0,0 +1,171 @@
+package de.metas.ui.web.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.metas.common.util.time.SystemTime;
+import de.metas.ui.web.view.json.JSONViewDataType;
+import de.metas.ui.web.window.datatypes.WindowId;
+import lombok.NonNull;
+
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class SharedViewsRepositoryStorageTest
+{
+	private static final Duration viewExpirationTimeout = Duration.ofHours(1);
+	private static final Duration expiredSnapshotsCheckInterval = Duration.ofMinutes(5);
+
+	private ZonedDateTime now;
+	private InMemoryViewSnapshotRepository snapshotRepository;
+
+	@BeforeEach
+	public void init()
+	{
+		now = ZonedDateTime.parse("2021-03-01T10:00:00+01:00");
+		SystemTime.setFixedTimeSource(now);
+
+		snapshotRepository = new InMemoryViewSnapshotRepository();
+	}
+
+	@AfterEach
+	public void afterEach()
+	{
+		SystemTime.resetTimeSource();
+	}
+
+	private void advanceTime(@NonNull final Duration duration)
+	{
+		now = now.plus(duration);
+		SystemTime.setFixedTimeSource(now);
+	}
+
+	private SharedViewsRepositoryStorage newNodeStorage()
+	{
+		return SharedViewsRepositoryStorage.builder()
+				.viewExpirationTimeout(viewExpirationTimeout)
+				.expiredSnapshotsCheckInterval(expiredSnapshotsCheckInterval)
+				.snapshotRepository(snapshotRepository)
+				.snapshotFactory(new MockedViewSnapshotFactory())
+				.build();
+	}
+
+	private static IView mockView(@NonNull final ViewId viewId)
+	{
+		final IView view = Mockito.mock(IView.class);
+		Mockito.when(view.getViewId()).thenReturn(viewId);
+		return view;
+	}
+
+	private static class MockedViewSnapshotFactory implements ViewSnapshotFactory
+	{
+		@Nullable
+		@Override
+		public ViewSnapshot createSnapshotOrNull(@NonNull final IView view)
+		{
+			final String viewId = view.getViewId().toJson();
+			return ViewSnapshot.builder()
+					.viewId(viewId)
+					.viewType(JSONViewDataType.grid)
+					.defaultSelection(ViewSnapshot.SelectionSnapshot.builder()
+							.viewId(viewId)
+							.size(0)
+							.build())
+					.build();
+		}
+
+		@Override
+		public IView createViewFromSnapshot(@NonNull final ViewSnapshot snapshot)
+		{
+			return mockView(ViewId.fromJson(snapshot.getViewId()));
+		}
+	}
+
+	@Test
+	public void viewCreatedOnOneNode_isRestoredOnAnotherNode()
+	{
+		final SharedViewsRepositoryStorage node1 = newNodeStorage();
+		final SharedViewsRepositoryStorage node2 = newNodeStorage();
+
+		final ViewId viewId = ViewId.random(WindowId.of(123));
+		final IView view = mockView(viewId);
+		node1.put(view);
+
+		assertThat(node1.getByIdOrNull(viewId)).isSameAs(view);
+
+		final IView viewOnNode2 = node2.getByIdOrNull(viewId);
+		assertThat(viewOnNode2).isNotNull();
+		assertThat(viewOnNode2).isNotSameAs(view);
+		assertThat(viewOnNode2.getViewId()).isEqualTo(viewId);
+
+		// the restored view is kept locally on node2
+		assertThat(node2.getByIdOrNull(viewId)).isSameAs(viewOnNode2);
+	}
+
+	@Test
+	public void snapshotOfViewInUse_isNotExpired()
+	{
+		final SharedViewsRepositoryStorage node1 = newNodeStorage();
+		final SharedViewsRepositoryStorage node2 = newNodeStorage();
+
+		final ViewId viewInUseId = ViewId.random(WindowId.of(123));
+		node1.put(mockView(viewInUseId));
+
+		final ViewId viewNotUsedId = ViewId.random(WindowId.of(123));
+		node2.put(mockView(viewNotUsedId));
+
+		// the view in use is accessed regularly on node1, way past the expiration timeout since it was created
+		for (int i = 0; i < 24; i++)
+		{
+			advanceTime(Duration.ofMinutes(10));
+			assertThat(node1.getByIdOrNull(viewInUseId)).isNotNull();
+		}
+
+		assertThat(snapshotRepository.getByIdOrNull(viewInUseId)).isNotNull();
+		assertThat(snapshotRepository.getByIdOrNull(viewNotUsedId)).isNull();
+
+		// ...so it can still be restored on another node
+		final SharedViewsRepositoryStorage node3 = newNodeStorage();
+		assertThat(node3.getByIdOrNull(viewInUseId)).isNotNull();
+	}
+
+	@Test
+	public void requestWithParameters_isNotShareable()
+	{
+		final CreateViewRequest plainRequest = CreateViewRequest.builder(WindowId.of(123), JSONViewDataType.grid).build();
+		assertThat(SqlViewFactory.isShareable(plainRequest)).isTrue();
+
+		final CreateViewRequest requestWithParameters = CreateViewRequest.builder(WindowId.of(123), JSONViewDataType.grid)
+				.setParameter("param1", "value1")
+				.build();
+		assertThat(SqlViewFactory.isShareable(requestWithParameters)).isFalse();
+	}
+}
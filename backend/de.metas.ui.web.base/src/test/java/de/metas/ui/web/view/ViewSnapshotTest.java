@@ -0,0 +1,113 @@
+package de.metas.ui.web.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.metas.JsonObjectMapperHolder;
+import de.metas.ui.web.document.filter.json.JSONDocumentFilter;
+import de.metas.ui.web.view.json.JSONViewDataType;
+import de.metas.ui.web.window.datatypes.WindowId;
+import de.metas.ui.web.window.model.DocumentQueryOrderByList;
+
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class ViewSnapshotTest
+{
+	private ObjectMapper jsonObjectMapper;
+
+	@BeforeEach
+	public void init()
+	{
+		jsonObjectMapper = JsonObjectMapperHolder.newJsonObjectMapper();
+	}
+
+	@Test
+	public void selectionSnapshot_toSelection()
+	{
+		final ViewRowIdsOrderedSelection selection = ViewRowIdsOrderedSelection.builder()
+				.viewId(ViewId.random(WindowId.of(123)))
+				.size(1000)
+				.orderBys(DocumentQueryOrderByList.parse("+DocumentNo,-DateOrdered"))
+				.queryLimit(1000)
+				.build();
+
+		final ViewRowIdsOrderedSelection selectionFromSnapshot = ViewSnapshot.SelectionSnapshot.of(selection).toSelection();
+
+		assertThat(selectionFromSnapshot).isEqualTo(selection);
+		assertThat(selectionFromSnapshot.isQueryLimitHit()).isTrue();
+	}
+
+	@Test
+	public void serializeDeserialize() throws Exception
+	{
+		final JSONDocumentFilter filter = jsonObjectMapper.readValue(
+				"{\"filterId\":\"default\",\"parameters\":[{\"parameterName\":\"DocumentNo\",\"value\":\"123\"}]}",
+				JSONDocumentFilter.class);
+
+		final ViewSnapshot snapshot = ViewSnapshot.builder()
+				.viewId(ViewId.random(WindowId.of(123)).toJson())
+				.viewType(JSONViewDataType.grid)
+				.profileId("profile1")
+				.referencingWindowId("143")
+				.referencingDocumentId("1000000")
+				.applySecurityRestrictions(true)
+				.filter(filter)
+				.defaultSelection(ViewSnapshot.SelectionSnapshot.builder()
+						.viewId(ViewId.random(WindowId.of(123)).toJson())
+						.size(10)
+						.orderBys("+DocumentNo")
+						.queryLimit(0)
+						.build())
+				.build();
+
+		final String json = jsonObjectMapper.writeValueAsString(snapshot);
+		final ViewSnapshot snapshotDeserialized = jsonObjectMapper.readValue(json, ViewSnapshot.class);
+
+		assertThat(snapshotDeserialized).isEqualTo(snapshot);
+	}
+
+	@Test
+	public void inMemoryRepository()
+	{
+		final ViewId viewId = ViewId.random(WindowId.of(123));
+		final ViewSnapshot snapshot = ViewSnapshot.builder()
+				.viewId(viewId.toJson())
+				.viewType(JSONViewDataType.grid)
+				.defaultSelection(ViewSnapshot.SelectionSnapshot.builder()
+						.viewId(viewId.toJson())
+						.size(0)
+						.build())
+				.build();
+
+		final InMemoryViewSnapshotRepository repository = new InMemoryViewSnapshotRepository();
+		repository.save(snapshot);
+		assertThat(repository.getByIdOrNull(viewId)).isEqualTo(snapshot);
+
+		repository.deleteById(viewId);
+		assertThat(repository.getByIdOrNull(viewId)).isNull();
+	}
+}
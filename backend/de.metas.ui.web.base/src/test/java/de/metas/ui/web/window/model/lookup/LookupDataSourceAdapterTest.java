@@ -0,0 +1,157 @@
+package de.metas.ui.web.window.model.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.adempiere.test.AdempiereTestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import de.metas.ui.web.window.datatypes.LookupValue;
+import de.metas.ui.web.window.datatypes.LookupValue.IntegerLookupValue;
+import de.metas.ui.web.window.datatypes.LookupValuesList;
+import de.metas.ui.web.window.datatypes.WindowId;
+
+/*
+ * #%L
+ * metasfresh-webui-api
+ * %%
+ * Copyright (C) 2021 metas GmbH
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 2 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program. If not, see
+ * <http://www.gnu.org/licenses/gpl-2.0.html>.
+ * #L%
+ */
+
+public class LookupDataSourceAdapterTest
+{
+	private MockedFetcher fetcher;
+	private LookupDataSource lookupDataSource;
+
+	@BeforeEach
+	public void init()
+	{
+		AdempiereTestHelper.get().init();
+
+		fetcher = new MockedFetcher(ImmutableSet.of(1, 2, 3, 4));
+		lookupDataSource = LookupDataSourceAdapter.of(CachedLookupDataSourceFetcherAdapter.of(fetcher));
+	}
+
+	@Test
+	public void findByIdsOrdered_fetchesMissingIdsInOneGo()
+	{
+		final LookupValuesList result = lookupDataSource.findByIdsOrdered(ImmutableList.of(3, 1, 99, 2));
+		assertThat(result.getKeysAsInt()).containsExactly(3, 1, 2);
+		assertThat(fetcher.idsBatches).containsExactly(ImmutableSet.of(3, 1, 99, 2));
+
+		// the single ID lookups share the same cache
+		assertThat(lookupDataSource.findById(1).getIdAsInt()).isEqualTo(1);
+		assertThat(lookupDataSource.findById(99)).isNull();
+		assertThat(fetcher.singleIdCallsCount).isZero();
+
+		// only the not cached IDs are fetched
+		assertThat(lookupDataSource.findByIdsOrdered(ImmutableList.of(4, 1)).getKeysAsInt()).containsExactly(4, 1);
+		assertThat(fetcher.idsBatches).containsExactly(ImmutableSet.of(3, 1, 99, 2), ImmutableSet.of(4));
+	}
+
+	private static class MockedFetcher implements LookupDataSourceFetcher
+	{
+		private final ImmutableSet<Integer> existingIds;
+		private final List<ImmutableSet<Object>> idsBatches = new ArrayList<>();
+		private int singleIdCallsCount = 0;
+
+		private MockedFetcher(final ImmutableSet<Integer> existingIds)
+		{
+			this.existingIds = existingIds;
+		}
+
+		@Override
+		public boolean isNumericKey()
+		{
+			return true;
+		}
+
+		@Override
+		public LookupDataSourceContext.Builder newContextForFetchingById(final Object id)
+		{
+			return LookupDataSourceContext.builder("MockedTable").putFilterById(id);
+		}
+
+		@Override
+		public LookupValue retrieveLookupValueById(final LookupDataSourceContext evalCtx)
+		{
+			singleIdCallsCount++;
+			final int id = evalCtx.getIdToFilterAsInt(-1);
+			return existingIds.contains(id) ? IntegerLookupValue.of(id, "name" + id) : LOOKUPVALUE_NULL;
+		}
+
+		@Override
+		public LookupValuesList retrieveLookupValuesByIds(final LookupDataSourceContext evalCtx)
+		{
+			idsBatches.add(evalCtx.getIdsToFilter());
+			return evalCtx.getIdsToFilter()
+					.stream()
+					.filter(existingIds::contains)
+					.map(id -> IntegerLookupValue.of((Integer)id, "name" + id))
+					.collect(LookupValuesList.collect());
+		}
+
+		@Override
+		public LookupDataSourceContext.Builder newContextForFetchingList()
+		{
+			return LookupDataSourceContext.builder("MockedTable");
+		}
+
+		@Override
+		public LookupValuesList retrieveEntities(final LookupDataSourceContext evalCtx)
+		{
+			return LookupValuesList.EMPTY;
+		}
+
+		@Override
+		public boolean isCached()
+		{
+			return false;
+		}
+
+		@Override
+		public String getCachePrefix()
+		{
+			return "MockedTable";
+		}
+
+		@Override
+		public Optional<String> getLookupTableName()
+		{
+			return Optional.of("MockedTable");
+		}
+
+		@Override
+		public Optional<WindowId> getZoomIntoWindowId()
+		{
+			return Optional.empty();
+		}
+
+		@Override
+		public void cacheInvalidate()
+		{
+		}
+	}
+}